@@ -0,0 +1,337 @@
+package project2;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    The AsyncFakebookOracle class is a non-blocking front end to any FakebookOracle: each
+    of the ten query functions returns a CompletableFuture at once and the query runs on
+    an executor owned by this object, so a caller (e.g. a request thread of a web tier)
+    never waits on JDBC and needs no thread of its own per query in flight.
+
+    Queries run over a FakebookConnectionPool: each one borrows a connection for as long
+    as it runs and is answered by the oracle made for that connection by an
+    OracleFactory, on its first use, as FakebookOracleMain does for --parallel. At most
+    as many queries run at a time as the pool has connections, so no two of them share
+    a connection (which the JDBC driver would serialize). The pool and the oracles are
+    left open by close(); the caller owns them. A single oracle can be wrapped instead,
+    with a concurrency of its own; its queries then share whatever connection it has,
+    so that is meant for an oracle that reads no database, such as
+    SnapshotFakebookOracle.
+
+    On JDK 21 and later every query runs on its own virtual thread (found by
+    reflection, so that this class still compiles and runs on older JDKs) and waits
+    for one of the permits; queries waiting for a permit hold no platform thread. On
+    older JDKs queries are queued for a fixed pool of daemon threads, one per permit.
+
+    Every call has a timeout, counted from the moment it is made (-Dfakebook.async.timeout
+    =<ms>, default 30000; 0 waits forever), and a future can be cancelled by the
+    caller. Either way the future completes at once, with a TimeoutException or a
+    CancellationException; a query that has not started is skipped, and one that is
+    running has its statements cancelled through Statement.cancel(), which is possible
+    when its oracle has a statement cache (FakebookOracle.getStatementCache). The
+    oracle still finishes the call (StudentFakebookOracle reports the cancellation
+    error and returns an empty result), but its result is discarded; a
+    CachingFakebookOracle does not keep a result computed while an error was reported.
+
+    An oracle is called from several threads at once only when it is a single wrapped
+    one, which must then allow that.
+*/
+public final class AsyncFakebookOracle implements AutoCloseable {
+    /*
+        The Query interface is one call of an oracle.
+    */
+    public interface Query<T> {
+        T run(FakebookOracle db) throws SQLException;
+    }
+
+    /*
+        The OracleFactory interface makes the oracle that answers the queries run over
+        one connection of the pool.
+    */
+    public interface OracleFactory {
+        FakebookOracle create(Connection connection);
+    }
+
+    // [Constructor]
+    // REQUIRES: <pool> and <oracles> are not NULL
+    public AsyncFakebookOracle(FakebookConnectionPool pool, OracleFactory oracles) {
+        this(pool, oracles, Long.getLong("fakebook.async.timeout", 30000L));
+    }
+
+    // [Constructor]
+    // REQUIRES: <pool> and <oracles> are not NULL and <timeoutMillis> is at least 0
+    public AsyncFakebookOracle(FakebookConnectionPool pool, OracleFactory oracles, long timeoutMillis) {
+        this(null, pool, oracles, pool.size(), timeoutMillis);
+    }
+
+    // [Constructor]
+    // REQUIRES: <delegate> is not NULL
+    public AsyncFakebookOracle(FakebookOracle delegate) {
+        this(delegate, Integer.getInteger("fakebook.async.threads", Runtime.getRuntime().availableProcessors()),
+            Long.getLong("fakebook.async.timeout", 30000L));
+    }
+
+    // [Constructor]
+    // REQUIRES: <delegate> is not NULL, <concurrency> is at least 1 and <timeoutMillis>
+    //   is at least 0
+    public AsyncFakebookOracle(FakebookOracle delegate, int concurrency, long timeoutMillis) {
+        this(delegate, null, null, concurrency, timeoutMillis);
+    }
+
+    // [Constructor]
+    // REQUIRES: exactly one of <delegate> and <pool> is not NULL, and <factory> is not
+    //   NULL if <pool> is not
+    private AsyncFakebookOracle(FakebookOracle delegate, FakebookConnectionPool pool, OracleFactory factory,
+                                int concurrency, long timeoutMillis) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1: " + concurrency);
+        }
+        if (timeoutMillis < 0L) {
+            throw new IllegalArgumentException("timeout must not be negative: " + timeoutMillis);
+        }
+        this.delegate = delegate;
+        this.pool = pool;
+        this.factory = factory;
+        this.timeoutMillis = timeoutMillis;
+        permits = new Semaphore(concurrency);
+        ExecutorService virtual = virtualThreadExecutor();
+        virtualThreads = (virtual != null);
+        executor = virtualThreads ? virtual : Executors.newFixedThreadPool(concurrency, daemonThreads("fakebook-async-"));
+        timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("fakebook-async-timer-"));
+    }
+
+    // [Virtual Threads Accessor]
+    // EFFECTS:  returns true if queries run on virtual threads, false if on a fixed pool
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // Query 0
+    public CompletableFuture<BirthMonthInfo> findMonthOfBirthInfo() {
+        return call(db -> db.findMonthOfBirthInfo(), timeoutMillis);
+    }
+
+    // Query 1
+    public CompletableFuture<FirstNameInfo> findNameInfo() {
+        return call(db -> db.findNameInfo(), timeoutMillis);
+    }
+
+    // Query 2
+    public CompletableFuture<FakebookUserList> lonelyUsers() {
+        return call(db -> db.lonelyUsers(), timeoutMillis);
+    }
+
+    // Query 3
+    public CompletableFuture<FakebookUserList> liveAwayFromHome() {
+        return call(db -> db.liveAwayFromHome(), timeoutMillis);
+    }
+
+    // Query 4
+    public CompletableFuture<FakebookArrayList<TaggedPhotoInfo>> findPhotosWithMostTags(int num) {
+        return call(db -> db.findPhotosWithMostTags(num), timeoutMillis);
+    }
+
+    // Query 5
+    public CompletableFuture<FakebookArrayList<MatchPair>> matchMaker(int num, int yearDiff) {
+        return call(db -> db.matchMaker(num, yearDiff), timeoutMillis);
+    }
+
+    // Query 6
+    public CompletableFuture<FakebookArrayList<UsersPair>> suggestFriends(int num) {
+        return call(db -> db.suggestFriends(num), timeoutMillis);
+    }
+
+    // Query 7
+    public CompletableFuture<EventStateInfo> findEventStates() {
+        return call(db -> db.findEventStates(), timeoutMillis);
+    }
+
+    // Query 8
+    public CompletableFuture<AgeInfo> findAgeInfo(long userID) {
+        return call(db -> db.findAgeInfo(userID), timeoutMillis);
+    }
+
+    // Query 9
+    public CompletableFuture<FakebookArrayList<SiblingInfo>> findPotentialSiblings() {
+        return call(db -> db.findPotentialSiblings(), timeoutMillis);
+    }
+
+    // [Call Function]
+    // REQUIRES: <timeoutMillis> is at least 0
+    // EFFECTS:  runs <query> on the executor, against the wrapped oracle or the oracle of
+    //   a pooled connection, and returns its future result, which fails with a
+    //   TimeoutException if the query has not finished <timeoutMillis> milliseconds
+    //   from now (0 waits forever); failing or cancelling the future cancels the query
+    public <T> CompletableFuture<T> call(Query<T> query, long timeoutMillis) {
+        Call<T> call = new Call<T>(query);
+        call.future.whenComplete((result, error) -> {
+            if (error != null) {
+                call.abort();
+            }
+        });
+        if (timeoutMillis > 0L) {
+            ScheduledFuture<?> alarm = timer.schedule(() -> call.future.completeExceptionally(
+                new TimeoutException("query timed out after " + timeoutMillis + " ms")), timeoutMillis, TimeUnit.MILLISECONDS);
+            call.future.whenComplete((result, error) -> alarm.cancel(false));
+        }
+
+        try {
+            executor.execute(call);
+        }
+        catch (RejectedExecutionException e) {
+            call.future.completeExceptionally(e);
+        }
+        return call.future;
+    }
+
+    @Override
+    // [Close Function]
+    // EFFECTS:  stops accepting queries; queries already made still run to completion
+    //   (or until they time out), but the wrapped oracle, or the pool and the oracles
+    //   made for its connections, are left open
+    public void close() {
+        executor.shutdown();
+        timer.shutdown();
+    }
+
+    // [Oracle Function]
+    // MODIFIES: <oracles>
+    // EFFECTS:  returns the oracle of <connection>, making it on first use
+    private FakebookOracle oracle(Connection connection) {
+        synchronized (oracles) {
+            FakebookOracle db = oracles.get(connection);
+            if (db == null) {
+                db = factory.create(connection);
+                oracles.put(connection, db);
+            }
+            return db;
+        }
+    }
+
+    // [Virtual Thread Executor Function]
+    // EFFECTS:  returns an executor that starts a virtual thread per task, or NULL if
+    //   this JDK has no virtual threads
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return null;                                        // before JDK 21
+        }
+    }
+
+    // [Daemon Threads Function]
+    // EFFECTS:  returns a factory of daemon threads named <prefix>1, <prefix>2, ...
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /*
+        The Call class is one query in flight: it runs the query under a permit (and on a
+        borrowed connection, with a pool) and completes <future> with the result, unless
+        the future has already completed (timed out or cancelled), and remembers the
+        thread running the query and the statement cache of its oracle so that abort()
+        can cancel its statements.
+    */
+    private final class Call<T> implements Runnable {
+        // [Constructor]
+        Call(Query<T> query) {
+            this.query = query;
+            future = new CompletableFuture<T>();
+        }
+
+        @Override
+        // [Run Function]
+        // MODIFIES: <future>
+        public void run() {
+            if (future.isDone()) {                              // timed out or cancelled while queued
+                return;
+            }
+            try {
+                permits.acquire();
+            }
+            catch (InterruptedException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            Connection connection = null;
+            try {
+                FakebookOracle db = delegate;
+                if (pool != null) {
+                    connection = pool.borrow();
+                    db = oracle(connection);
+                }
+                synchronized (this) {
+                    if (future.isDone()) {
+                        return;
+                    }
+                    running = Thread.currentThread();
+                    statements = db.getStatementCache();
+                }
+                try {
+                    future.complete(query.run(db));
+                }
+                finally {
+                    synchronized (this) {
+                        running = null;
+                        statements = null;
+                    }
+                }
+            }
+            catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            finally {
+                if (connection != null) {
+                    pool.release(connection);
+                }
+                permits.release();
+            }
+        }
+
+        // [Abort Function]
+        // EFFECTS:  cancels the statements of the query if it is running; the lock keeps
+        //   the thread from moving on to another query meanwhile
+        synchronized void abort() {
+            if (running != null && statements != null) {
+                statements.cancel(running);
+            }
+        }
+
+        // Member Variables
+        final CompletableFuture<T> future;
+        private final Query<T> query;
+        private Thread running;
+        private FakebookStatementCache statements;
+    }
+
+    // Member Variables
+    private final FakebookOracle delegate;
+    private final FakebookConnectionPool pool;
+    private final OracleFactory factory;
+    private final Map<Connection, FakebookOracle> oracles = new ConcurrentHashMap<Connection, FakebookOracle>();
+    private final long timeoutMillis;
+    private final Semaphore permits;
+    private final boolean virtualThreads;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timer;
+}
@@ -0,0 +1,360 @@
+package project2;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    The CachingFakebookOracle class is a FakebookOracle that remembers the results of
+    another FakebookOracle. Results are keyed by query and arguments (e.g. matchMaker(5, 2)),
+    and a cached result is returned again until one of the following happens:
+
+        * it is older than the time-to-live (-Dfakebook.cache.ttl=<ms>, default 60000)
+        * a table it was read from has changed, as recorded by tableChanged(<table>)
+        * it is the least recently used of more than the maximum number of entries
+          (-Dfakebook.cache.size=<n>, default 256)
+
+    Every query declares the tables it reads below; a result is stamped with the version
+    of each of those tables when the query starts, and is discarded as soon as any of
+    them has moved on. Table versions live in a TableVersions object that can be shared
+    between caches (the default one is shared by every cache in the process), so that a
+    single tableChanged call invalidates the results cached for every connection.
+
+    Cached results are shared between callers and must not be modified. A result is
+    not cached if the delegate reported an error (FakebookOracle.getErrors) while the
+    query ran, since it may be the empty or sentinel result the delegate returns in
+    place of one it could not read, e.g. after a lost connection or a cancelled
+    statement. The check is by count, so an error in another call to the same delegate
+    at the same time also keeps the result out of the cache; that costs a later miss,
+    never a wrong answer.
+*/
+public final class CachingFakebookOracle extends FakebookOracle {
+    // [Constructor]
+    // REQUIRES: <delegate> is not NULL
+    public CachingFakebookOracle(FakebookOracle delegate) {
+        this(delegate, Integer.getInteger("fakebook.cache.size", 256),
+            Long.getLong("fakebook.cache.ttl", 60000L), TableVersions.Shared);
+    }
+
+    // [Constructor]
+    // REQUIRES: <delegate> and <versions> are not NULL, <maxEntries> is at least 1 and
+    //   <ttlMillis> is at least 0
+    public CachingFakebookOracle(FakebookOracle delegate, int maxEntries, long ttlMillis, TableVersions versions) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("cache size must be at least 1: " + maxEntries);
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1000000L;
+        this.versions = versions;
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > CachingFakebookOracle.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // [Delegate Accessor]
+    // EFFECTS:  returns the oracle whose results are cached
+    public FakebookOracle getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    // [Error Count Accessor]
+    // EFFECTS:  returns the number of errors reported by the delegate
+    public long getErrors() {
+        return delegate.getErrors();
+    }
+
+    @Override
+    // [Statement Cache Accessor]
+    // EFFECTS:  returns the cache of prepared statements of the delegate oracle
+    public FakebookStatementCache getStatementCache() {
+        return delegate.getStatementCache();
+    }
+
+    // [Table Versions Accessor]
+    // EFFECTS:  returns the table versions that cached results are checked against
+    public TableVersions getTableVersions() {
+        return versions;
+    }
+
+    // [Table Changed Function]
+    // MODIFIES: <versions>
+    // EFFECTS:  records that <table> (one of the FakebookOracleConstants table names) has
+    //   changed, invalidating every result read from it
+    public void tableChanged(String table) {
+        versions.bump(table);
+    }
+
+    // [Hit Count Function]
+    // EFFECTS:  returns the number of queries answered from the cache
+    public long getHits() {
+        return hits.get();
+    }
+
+    // [Miss Count Function]
+    // EFFECTS:  returns the number of queries passed on to the delegate
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // [Eviction Count Function]
+    // EFFECTS:  returns the number of entries dropped to stay within the maximum size
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    // [Expiration Count Function]
+    // EFFECTS:  returns the number of entries dropped for outliving the time-to-live
+    public long getExpirations() {
+        return expirations.get();
+    }
+
+    // [Invalidation Count Function]
+    // EFFECTS:  returns the number of entries dropped because a table they were read
+    //   from has changed
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    // [Failure Count Function]
+    // EFFECTS:  returns the number of results not cached because the delegate reported
+    //   an error while computing them
+    public long getFailures() {
+        return failures.get();
+    }
+
+    // [Size Function]
+    // EFFECTS:  returns the number of cached results
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // [Clear Function]
+    // MODIFIES: <entries>
+    // EFFECTS:  discards every cached result
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
+        return cached("findMonthOfBirthInfo", Query0Tables, () -> delegate.findMonthOfBirthInfo());
+    }
+
+    @Override
+    public FirstNameInfo findNameInfo() throws SQLException {
+        return cached("findNameInfo", Query1Tables, () -> delegate.findNameInfo());
+    }
+
+    @Override
+    public FakebookUserList lonelyUsers() throws SQLException {
+        return cached("lonelyUsers", Query2Tables, () -> delegate.lonelyUsers());
+    }
+
+    @Override
+    public FakebookUserList liveAwayFromHome() throws SQLException {
+        return cached("liveAwayFromHome", Query3Tables, () -> delegate.liveAwayFromHome());
+    }
+
+    @Override
+    public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
+        return cached("findPhotosWithMostTags(" + num + ")", Query4Tables, () -> delegate.findPhotosWithMostTags(num));
+    }
+
+    @Override
+    public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
+        return cached("matchMaker(" + num + ", " + yearDiff + ")", Query5Tables, () -> delegate.matchMaker(num, yearDiff));
+    }
+
+    @Override
+    public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
+        return cached("suggestFriends(" + num + ")", Query6Tables, () -> delegate.suggestFriends(num));
+    }
+
+    @Override
+    public EventStateInfo findEventStates() throws SQLException {
+        return cached("findEventStates", Query7Tables, () -> delegate.findEventStates());
+    }
+
+    @Override
+    public AgeInfo findAgeInfo(long userID) throws SQLException {
+        return cached("findAgeInfo(" + userID + ")", Query8Tables, () -> delegate.findAgeInfo(userID));
+    }
+
+    @Override
+    public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
+        return cached("findPotentialSiblings", Query9Tables, () -> delegate.findPotentialSiblings());
+    }
+
+    // [Cached Function]
+    // MODIFIES: <entries> and the counters
+    // EFFECTS:  returns the cached result for <key> if it is still fresh; otherwise runs
+    //   <query>, which reads <tables>, and returns its result, caching it unless the
+    //   delegate reported an error meanwhile
+    private <T> T cached(String key, String[] tables, Query<T> query) throws SQLException {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.created > ttlNanos) {
+                    entries.remove(key);
+                    expirations.incrementAndGet();
+                }
+                else if (!Arrays.equals(entry.stamps, versions.stamps(tables))) {
+                    entries.remove(key);
+                    invalidations.incrementAndGet();
+                }
+                else {
+                    hits.incrementAndGet();
+                    @SuppressWarnings("unchecked")
+                    T result = (T)entry.result;
+                    return result;
+                }
+            }
+        }
+
+        misses.incrementAndGet();
+        long[] stamps = versions.stamps(tables);          // taken first: a change while the query runs leaves the entry stale
+        long errors = delegate.getErrors();
+        T result = query.run();
+        if (delegate.getErrors() != errors) {               // possibly a stand-in for a failure
+            failures.incrementAndGet();
+            return result;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(result, now, stamps));
+        }
+        return result;
+    }
+
+    /*
+        The Query interface is one call to the delegate oracle.
+    */
+    private interface Query<T> {
+        T run() throws SQLException;
+    }
+
+    /*
+        The Entry class is one cached result, with the time at which its query started and
+        the versions of the tables it was read from.
+    */
+    private static final class Entry {
+        Entry(Object result, long created, long[] stamps) {
+            this.result = result;
+            this.created = created;
+            this.stamps = stamps;
+        }
+
+        final Object result;
+        final long created;
+        final long[] stamps;
+    }
+
+    /*
+        The TableVersions class keeps a version number for every Fakebook table, starting
+        at 0 and increased by one each time the table is reported to have changed.
+    */
+    public static final class TableVersions {
+        // [Bump Function]
+        // MODIFIES: <versions>
+        // EFFECTS:  increases the version of <table>
+        public void bump(String table) {
+            counter(table).incrementAndGet();
+        }
+
+        // [Bump All Function]
+        // MODIFIES: <versions>
+        // EFFECTS:  increases the version of every table (e.g. after a bulk reload)
+        public void bumpAll() {
+            for (String table : AllTables) {
+                bump(table);
+            }
+        }
+
+        // [Version Function]
+        // EFFECTS:  returns the current version of <table>
+        public long version(String table) {
+            AtomicLong version = versions.get(table);
+            return (version == null) ? 0L : version.get();
+        }
+
+        // [Stamps Function]
+        // EFFECTS:  returns the current versions of <tables>, in order
+        long[] stamps(String[] tables) {
+            long[] stamps = new long[tables.length];
+            for (int idx = 0; idx < tables.length; idx++) {
+                stamps[idx] = version(tables[idx]);
+            }
+            return stamps;
+        }
+
+        // [Counter Function]
+        // EFFECTS:  returns the version counter of <table>, creating it if necessary
+        private AtomicLong counter(String table) {
+            AtomicLong version = versions.get(table);
+            if (version == null) {
+                AtomicLong created = new AtomicLong();
+                version = versions.putIfAbsent(table, created);
+                if (version == null) {
+                    version = created;
+                }
+            }
+            return version;
+        }
+
+        // The versions shared by every cache created without its own TableVersions
+        static final TableVersions Shared = new TableVersions();
+
+        // Member Variables
+        private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<String, AtomicLong>();
+    }
+
+    // Tables Read by Each Query
+    private static final String[] Query0Tables = { FakebookOracleConstants.UsersTable };
+    private static final String[] Query1Tables = { FakebookOracleConstants.UsersTable };
+    private static final String[] Query2Tables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.FriendsTable };
+    private static final String[] Query3Tables = { FakebookOracleConstants.UsersTable,
+        FakebookOracleConstants.CurrentCitiesTable, FakebookOracleConstants.HometownCitiesTable };
+    private static final String[] Query4Tables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.TagsTable,
+        FakebookOracleConstants.PhotosTable, FakebookOracleConstants.AlbumsTable };
+    private static final String[] Query5Tables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.FriendsTable,
+        FakebookOracleConstants.TagsTable, FakebookOracleConstants.PhotosTable, FakebookOracleConstants.AlbumsTable };
+    private static final String[] Query6Tables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.FriendsTable };
+    private static final String[] Query7Tables = { FakebookOracleConstants.EventsTable, FakebookOracleConstants.CitiesTable };
+    private static final String[] Query8Tables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.FriendsTable };
+    private static final String[] Query9Tables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.FriendsTable,
+        FakebookOracleConstants.HometownCitiesTable };
+    private static final String[] AllTables = { FakebookOracleConstants.UsersTable, FakebookOracleConstants.CitiesTable,
+        FakebookOracleConstants.FriendsTable, FakebookOracleConstants.CurrentCitiesTable,
+        FakebookOracleConstants.HometownCitiesTable, FakebookOracleConstants.ProgramsTable,
+        FakebookOracleConstants.EducationTable, FakebookOracleConstants.EventsTable,
+        FakebookOracleConstants.AlbumsTable, FakebookOracleConstants.PhotosTable, FakebookOracleConstants.TagsTable };
+
+    // Member Variables
+    private final FakebookOracle delegate;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final TableVersions versions;
+    private final LinkedHashMap<String, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+}
@@ -0,0 +1,670 @@
+package project2;
+
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/*
+    The FakebookBenchmark class measures the Fakebook queries and the Java code that
+    formats their results, in the manner of a JMH benchmark: every benchmark is run for
+    a number of untimed warmup iterations and then for a number of measured iterations,
+    each of which repeats the benchmark for at least <iterationMillis> milliseconds.
+    For each benchmark it reports the average time per operation (with the standard
+    deviation over the measured iterations), the throughput, and the bytes allocated
+    per operation by the benchmarking thread.
+
+    Usage: java project2.FakebookBenchmark [all|query|java|scaling|hashjoin|events|async|<name>] [options]
+        --oracle=<name>     FakebookOracle implementation to measure, as accepted by
+                            FakebookOracleMain (default student)
+        --users=<n>         first load a synthetic dataset of <n> users through
+                            FakebookDataGenerator (default: use the existing data)
+        --warmup=<n>        warmup iterations per benchmark (default 3)
+        --iterations=<n>    measured iterations per benchmark (default 5)
+        --time=<ms>         minimum length of one iteration (default 1000)
+        --size=<n>          number of users in the Java-side results (default 1000)
+        --threads=<n>       largest parallelism measured by the scaling and events
+                            benchmarks, and the connections shared by the callers of
+                            the async benchmark (default: the number of available
+                            processors)
+        --scales=<n>,...    dataset sizes loaded by the hashjoin benchmark (default
+                            1K,10K,50K)
+        --callers=<n>       concurrent callers of the async benchmark (default 1000)
+    The database is chosen through the settings read by FakebookConnectionFactory.
+
+    The scaling benchmark runs GraphFakebookOracle.suggestFriends with a parallelism of
+    1, 2, 4, ... up to <threads> and reports the speedup of each over one thread.
+
+    The hashjoin benchmark loads a synthetic dataset of each size in <scales> in turn
+    (replacing the current data) and measures liveAwayFromHome and findPotentialSiblings
+    on StudentFakebookOracle (SQL joins) and on HashJoinFakebookOracle (Java hash joins),
+    reporting the speedup of the hash joins at each size.
+
+    The events benchmark needs no database: it ingests batches of events into a
+    FakebookEventStateIndex over synthetic cities from 1, 2, 4, ... up to <threads>
+    threads, and for comparison into a FakebookCountIndex of states behind one lock (as
+    IncrementalFakebookOracle kept them before), and reports the update throughput of
+    each and its speedup over one thread.
+
+    The async benchmark has <callers> callers each ask findAgeInfo for a different
+    user at the same time over a pool of <threads> connections (opened alongside the
+    one used for --users), first blocking, with one platform thread per caller waiting
+    for a connection, and then through an AsyncFakebookOracle over the same pool, where
+    one thread makes every call and waits for all the futures. It reports the calls
+    per second of each and the peak number of live threads.
+*/
+final class FakebookBenchmark {
+    /*
+        The Workload interface is one operation of a benchmark; its result is consumed
+        so that the work cannot be optimized away.
+    */
+    interface Workload {
+        Object run() throws Exception;
+    }
+
+    /*
+        The EventSink interface is one event index measured by the events benchmark.
+    */
+    interface EventSink {
+        void insert(long eventID, long cityID);
+    }
+
+    // [Main Function]
+    public static void main(String[] args) {
+        String selection = (args.length > 0 && !args[0].startsWith("--")) ? args[0] : "all";
+        String oracle = "student";
+        long users = 0L;
+        int warmup = 3;
+        int iterations = 5;
+        long iterationMillis = 1000L;
+        int size = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        String scales = "1K,10K,50K";
+        int callers = 1000;
+        for (String arg : args) {
+            if (arg.startsWith("--oracle=")) {
+                oracle = arg.substring("--oracle=".length());
+            }
+            else if (arg.startsWith("--users=")) {
+                users = FakebookDataGenerator.parseScale(arg.substring("--users=".length()));
+            }
+            else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(arg.substring("--warmup=".length()));
+            }
+            else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(arg.substring("--iterations=".length()));
+            }
+            else if (arg.startsWith("--time=")) {
+                iterationMillis = Long.parseLong(arg.substring("--time=".length()));
+            }
+            else if (arg.startsWith("--size=")) {
+                size = Integer.parseInt(arg.substring("--size=".length()));
+            }
+            else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(arg.substring("--threads=".length()));
+            }
+            else if (arg.startsWith("--scales=")) {
+                scales = arg.substring("--scales=".length());
+            }
+            else if (arg.startsWith("--callers=")) {
+                callers = Integer.parseInt(arg.substring("--callers=".length()));
+            }
+            else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("unrecognized option: " + arg);
+            }
+        }
+
+        FakebookBenchmark benchmark = new FakebookBenchmark(warmup, iterations, iterationMillis);
+        benchmark.printHeader();
+        if (selection.equals("all") || selection.equals("java") || selection.startsWith("java.")) {
+            benchmark.runJava(selection, size);
+        }
+        if (selection.equals("java") || selection.startsWith("java.")) {
+            return;
+        }
+        if (selection.equals("events")) {
+            benchmark.runEvents(threads);
+            return;
+        }
+
+        try (Connection connection = FakebookConnectionFactory.fromSettings(null, null).open()) {
+            if (users > 0) {
+                new FakebookDataGenerator(users, 2019L, 1000).generate(connection);
+            }
+            if (selection.equals("scaling")) {
+                try (GraphFakebookOracle graph = new GraphFakebookOracle(connection)) {
+                    benchmark.runScaling(graph, threads);
+                }
+            }
+            else if (selection.equals("hashjoin")) {
+                benchmark.runHashJoin(connection, scales.split(","));
+            }
+            else if (selection.equals("async")) {
+                benchmark.runAsync(oracle, callers, Math.max(1, threads));
+            }
+            else {
+                FakebookOracle db = FakebookOracleMain.createOracle(oracle, connection);
+                try {
+                    benchmark.runQueries(selection, db);
+                }
+                finally {
+                    FakebookOracleMain.closeOracle(db);
+                }
+            }
+        }
+        catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // [Constructor]
+    // REQUIRES: <iterations> is at least 1
+    public FakebookBenchmark(int warmup, int iterations, long iterationMillis) {
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.iterationMillis = iterationMillis;
+        allocation = allocationBean();
+    }
+
+    // [Run Queries Function]
+    // EFFECTS:  measures every query function of <db> and its streaming printers (which
+    //   write to a discarding Writer) whose benchmark name matches <selection> ("all",
+    //   "query", or a name such as query.suggestFriends)
+    public void runQueries(String selection, FakebookOracle db) {
+        List<String> names = new ArrayList<String>();
+        List<Workload> workloads = new ArrayList<Workload>();
+        names.add("query.findMonthOfBirthInfo");
+        workloads.add(() -> db.findMonthOfBirthInfo());
+        names.add("query.findNameInfo");
+        workloads.add(() -> db.findNameInfo());
+        names.add("query.lonelyUsers");
+        workloads.add(() -> db.lonelyUsers());
+        names.add("query.liveAwayFromHome");
+        workloads.add(() -> db.liveAwayFromHome());
+        names.add("query.findPhotosWithMostTags");
+        workloads.add(() -> db.findPhotosWithMostTags(5));
+        names.add("query.matchMaker");
+        workloads.add(() -> db.matchMaker(5, 2));
+        names.add("query.suggestFriends");
+        workloads.add(() -> db.suggestFriends(5));
+        names.add("query.findEventStates");
+        workloads.add(() -> db.findEventStates());
+        names.add("query.findAgeInfo");
+        workloads.add(() -> db.findAgeInfo(215L));
+        names.add("query.findPotentialSiblings");
+        workloads.add(() -> db.findPotentialSiblings());
+        names.add("query.streamQuery0");
+        workloads.add(() -> { db.streamQuery0(discard); return db; });
+        names.add("query.streamQuery2");
+        workloads.add(() -> { db.streamQuery2(discard); return db; });
+        names.add("query.streamQuery3");
+        workloads.add(() -> { db.streamQuery3(discard); return db; });
+        names.add("query.streamQuery9");
+        workloads.add(() -> { db.streamQuery9(discard); return db; });
+
+        FakebookStatementCache statements = db.getStatementCache();
+        for (int idx = 0; idx < names.size(); idx++) {
+            if (selected(selection, "query", names.get(idx))) {
+                measure(names.get(idx), workloads.get(idx));
+                if (statements != null) {
+                    System.out.println(String.format("    %s issues %d statement(s) per call",
+                        names.get(idx), statementsPerCall(statements, workloads.get(idx))));
+                }
+            }
+        }
+        if (db instanceof CachingFakebookOracle) {
+            CachingFakebookOracle cache = (CachingFakebookOracle)db;
+            System.out.println(String.format("Result cache: %d hit(s), %d miss(es), %d eviction(s), %d expiration(s), %d invalidation(s), %d failure(s)",
+                cache.getHits(), cache.getMisses(), cache.getEvictions(), cache.getExpirations(), cache.getInvalidations(),
+                cache.getFailures()));
+        }
+    }
+
+    // [Run Scaling Function]
+    // MODIFIES: <db>
+    // EFFECTS:  measures suggestFriends on <db> with a parallelism of 1, 2, 4, ... up to
+    //   <threads> and prints the speedup of each over a parallelism of 1
+    public void runScaling(GraphFakebookOracle db, int threads) {
+        List<Integer> levels = new ArrayList<Integer>();
+        for (int level = 1; level < threads; level *= 2) {
+            levels.add(level);
+        }
+        levels.add(Math.max(1, threads));
+
+        double[] means = new double[levels.size()];
+        for (int idx = 0; idx < levels.size(); idx++) {
+            db.setParallelism(levels.get(idx));
+            means[idx] = measure("scaling.suggestFriends.threads=" + levels.get(idx), () -> db.suggestFriends(5));
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-10s %14s %10s", "Threads", "ms/op", "Speedup"));
+        for (int idx = 0; idx < levels.size(); idx++) {
+            System.out.println(String.format("%-10d %14.4f %10.2f",
+                levels.get(idx), means[idx] / 1e6, means[0] / means[idx]));
+        }
+    }
+
+    // [Run Hash Join Function]
+    // MODIFIES: the Fakebook tables reachable through <connection>
+    // EFFECTS:  for each size in <scales>, loads a synthetic dataset of that many users
+    //   and measures Queries 3 and 9 through SQL joins and through Java hash joins, then
+    //   prints the speedup of the hash joins at each size
+    public void runHashJoin(Connection connection, String[] scales) throws SQLException {
+        StudentFakebookOracle sql = new StudentFakebookOracle(connection);
+        HashJoinFakebookOracle hash = new HashJoinFakebookOracle(connection);
+        double[][] means = new double[scales.length][4];
+        for (int idx = 0; idx < scales.length; idx++) {
+            long users = FakebookDataGenerator.parseScale(scales[idx]);
+            new FakebookDataGenerator(users, 2019L, 1000).generate(connection);
+            String suffix = ".users=" + scales[idx].trim();
+            means[idx][0] = measure("hashjoin.sql.liveAwayFromHome" + suffix, () -> sql.liveAwayFromHome());
+            means[idx][1] = measure("hashjoin.hash.liveAwayFromHome" + suffix, () -> hash.liveAwayFromHome());
+            means[idx][2] = measure("hashjoin.sql.findPotentialSiblings" + suffix, () -> sql.findPotentialSiblings());
+            means[idx][3] = measure("hashjoin.hash.findPotentialSiblings" + suffix, () -> hash.findPotentialSiblings());
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-10s %12s %12s %10s %12s %12s %10s",
+            "Users", "Q3 SQL ms", "Q3 hash ms", "Speedup", "Q9 SQL ms", "Q9 hash ms", "Speedup"));
+        for (int idx = 0; idx < scales.length; idx++) {
+            System.out.println(String.format("%-10s %12.4f %12.4f %10.2f %12.4f %12.4f %10.2f",
+                scales[idx].trim(), means[idx][0] / 1e6, means[idx][1] / 1e6, means[idx][0] / means[idx][1],
+                means[idx][2] / 1e6, means[idx][3] / 1e6, means[idx][2] / means[idx][3]));
+        }
+    }
+
+    // [Run Async Function]
+    // EFFECTS:  measures <callers> concurrent findAgeInfo calls on the <oracle>
+    //   implementation over a pool of <threads> connections, made blocking from one
+    //   platform thread per caller (each borrowing a pooled connection for its call)
+    //   and made through an AsyncFakebookOracle over the same pool from a single
+    //   thread, and prints the calls per second and peak live threads of each
+    public void runAsync(String oracle, int callers, int threads) throws SQLException {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        double[] means = new double[2];
+        int[] peaks = new int[2];
+
+        List<FakebookOracle> made = new ArrayList<FakebookOracle>();
+        AsyncFakebookOracle.OracleFactory oracles = connection -> {
+            synchronized (made) {
+                FakebookOracle db = FakebookOracleMain.createOracle(oracle, connection, made.isEmpty() ? null : made.get(0));
+                made.add(db);
+                return db;
+            }
+        };
+        Map<Connection, FakebookOracle> blockingOracles = new HashMap<Connection, FakebookOracle>();
+        try (FakebookConnectionPool pool = new FakebookConnectionPool(threads, FakebookConnectionFactory.fromSettings(null, null))) {
+            ExecutorService blocking = Executors.newFixedThreadPool(callers);
+            try {
+                List<Callable<Object>> calls = new ArrayList<Callable<Object>>();
+                for (int caller = 0; caller < callers; caller++) {
+                    long userID = caller;
+                    calls.add(() -> {
+                        Connection connection = pool.borrow();
+                        try {
+                            FakebookOracle db;
+                            synchronized (blockingOracles) {
+                                db = blockingOracles.get(connection);
+                                if (db == null) {
+                                    db = oracles.create(connection);
+                                    blockingOracles.put(connection, db);
+                                }
+                            }
+                            return db.findAgeInfo(userID);
+                        }
+                        finally {
+                            pool.release(connection);
+                        }
+                    });
+                }
+                bean.resetPeakThreadCount();
+                means[0] = measure("async.blocking.callers=" + callers, () -> {
+                    for (Future<Object> done : blocking.invokeAll(calls)) {
+                        done.get();
+                    }
+                    return calls;
+                });
+                peaks[0] = bean.getPeakThreadCount();
+            }
+            finally {
+                blocking.shutdown();
+            }
+
+            try (AsyncFakebookOracle async = new AsyncFakebookOracle(pool, oracles, 0L)) {
+                bean.resetPeakThreadCount();
+                means[1] = measure("async.future.callers=" + callers, () -> {
+                    List<CompletableFuture<AgeInfo>> futures = new ArrayList<CompletableFuture<AgeInfo>>();
+                    for (int caller = 0; caller < callers; caller++) {
+                        futures.add(async.findAgeInfo(caller));
+                    }
+                    CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+                    return futures;
+                });
+                peaks[1] = bean.getPeakThreadCount();
+                System.out.println();
+                System.out.println(String.format("%-44s %14s %14s", "Callers", "calls/s", "Peak threads"));
+                System.out.println(String.format("%-44s %14.1f %14d",
+                    callers + " blocking", callers / means[0] * 1e9, peaks[0]));
+                System.out.println(String.format("%-44s %14.1f %14d",
+                    callers + " async (" + (async.usesVirtualThreads() ? "virtual threads" : "fixed pool") + ", " + threads + " at a time)",
+                    callers / means[1] * 1e9, peaks[1]));
+            }
+        }
+        finally {
+            synchronized (made) {
+                for (FakebookOracle db : made) {
+                    FakebookOracleMain.closeOracle(db);
+                }
+            }
+        }
+    }
+
+    // [Run Events Function]
+    // EFFECTS:  measures the ingest of <EventBatch> events into a FakebookEventStateIndex
+    //   and into a locked FakebookCountIndex on 1, 2, 4, ... up to <threads> threads and
+    //   prints the update throughput of each and its speedup over one thread
+    public void runEvents(int threads) {
+        Map<Long, String> cityStates = new HashMap<Long, String>();
+        for (long cityID = 0L; cityID < EventCities; cityID++) {
+            cityStates.put(cityID, "State " + (cityID % EventStates));
+        }
+
+        List<Integer> levels = new ArrayList<Integer>();
+        for (int level = 1; level < threads; level *= 2) {
+            levels.add(level);
+        }
+        levels.add(Math.max(1, threads));
+
+        double[][] means = new double[levels.size()][2];
+        for (int idx = 0; idx < levels.size(); idx++) {
+            int level = levels.get(idx);
+            ExecutorService executor = Executors.newFixedThreadPool(level);
+            try {
+                FakebookEventStateIndex index = new FakebookEventStateIndex(cityStates);
+                means[idx][0] = measure("events.index.threads=" + level,
+                    () -> ingest(executor, level, (eventID, cityID) -> index.insert(eventID, cityID)));
+
+                Map<Long, String> eventStates = new HashMap<Long, String>();
+                FakebookCountIndex<String> states = new FakebookCountIndex<String>(Comparator.nullsLast(Comparator.<String>naturalOrder()));
+                means[idx][1] = measure("events.locked.threads=" + level,
+                    () -> ingest(executor, level, (eventID, cityID) -> {
+                        synchronized (states) {
+                            String state = cityStates.get(cityID);
+                            if (eventStates.containsKey(eventID)) {
+                                states.add(eventStates.remove(eventID), -1);
+                            }
+                            eventStates.put(eventID, state);
+                            states.add(state, 1);
+                        }
+                    }));
+            }
+            finally {
+                executor.shutdown();
+            }
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-10s %16s %10s %16s %10s",
+            "Threads", "Index Mops/s", "Speedup", "Locked Mops/s", "Speedup"));
+        for (int idx = 0; idx < levels.size(); idx++) {
+            System.out.println(String.format("%-10d %16.3f %10.2f %16.3f %10.2f",
+                levels.get(idx), EventBatch / means[idx][0] * 1e3, means[0][0] / means[idx][0],
+                EventBatch / means[idx][1] * 1e3, means[0][1] / means[idx][1]));
+        }
+    }
+
+    // [Ingest Function]
+    // EFFECTS:  reports <EventBatch> events to <sink>, split evenly over <level> tasks
+    //   run on <executor>, and waits for all of them; repeated batches replace the same
+    //   events, so the number of events stays at <EventBatch>
+    private static Object ingest(ExecutorService executor, int level, EventSink sink) throws Exception {
+        List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+        for (int task = 0; task < level; task++) {
+            long first = (long)EventBatch * task / level;
+            long last = (long)EventBatch * (task + 1) / level;
+            tasks.add(() -> {
+                for (long eventID = first; eventID < last; eventID++) {
+                    sink.insert(eventID, (eventID * 7919L) % EventCities);
+                }
+                return null;
+            });
+        }
+        for (Future<Object> done : executor.invokeAll(tasks)) {
+            done.get();
+        }
+        return sink;
+    }
+
+    // [Run Java Function]
+    // EFFECTS:  measures building and formatting result objects holding <size> users
+    //   for every Java-side benchmark whose name matches <selection>
+    public void runJava(String selection, int size) {
+        UserInfo[] users = new UserInfo[size];
+        for (int idx = 0; idx < size; idx++) {
+            users[idx] = new UserInfo(100000L + idx, "Galadriel", "WILLIAMS");
+        }
+        FakebookArrayList<UserInfo> list = new FakebookArrayList<UserInfo>(", ");
+        FakebookUserList columns = new FakebookUserList(", ");
+        BirthMonthInfo months = new BirthMonthInfo(2L * size, 9, 6);
+        UsersPair pair = new UsersPair(users[0], users[size - 1]);
+        TaggedPhotoInfo photo = new TaggedPhotoInfo(new PhotoInfo(8L, 0L, "link", "Mountains"));
+        for (UserInfo user : users) {
+            list.add(user);
+            columns.add(user);
+            months.addMostPopularBirthMonthUser(user);
+            months.addLeastPopularBirthMonthUser(user);
+            pair.addSharedFriend(user);
+            photo.addTaggedUser(user);
+        }
+
+        List<String> names = new ArrayList<String>();
+        List<Workload> workloads = new ArrayList<Workload>();
+        names.add("java.UserInfo.new");
+        workloads.add(() -> new UserInfo(215L, "Galadriel", "WILLIAMS"));
+        names.add("java.UserInfo.toString");
+        workloads.add(() -> users[0].toString());
+        names.add("java.FakebookArrayList.add");
+        workloads.add(() -> {
+            FakebookArrayList<UserInfo> built = new FakebookArrayList<UserInfo>(", ");
+            for (UserInfo user : users) {
+                built.add(user);
+            }
+            return built;
+        });
+        names.add("java.FakebookArrayList.toString");
+        workloads.add(() -> list.toString());
+        names.add("java.FakebookUserList.add");
+        workloads.add(() -> {
+            FakebookUserList built = new FakebookUserList(", ");
+            for (int idx = 0; idx < size; idx++) {
+                built.add(100000L + idx, "Galadriel", "WILLIAMS");
+            }
+            return built;
+        });
+        names.add("java.FakebookUserList.toString");
+        workloads.add(() -> columns.toString());
+        names.add("java.BirthMonthInfo.toString");
+        workloads.add(() -> months.toString());
+        names.add("java.UsersPair.toString");
+        workloads.add(() -> pair.toString());
+        names.add("java.TaggedPhotoInfo.toString");
+        workloads.add(() -> photo.toString());
+        names.add("java.FakebookArrayList.writeTo");
+        workloads.add(() -> { list.writeTo(discard); return list; });
+        names.add("java.FakebookUserList.writeTo");
+        workloads.add(() -> { columns.writeTo(discard); return columns; });
+        names.add("java.BirthMonthInfo.writeTo");
+        workloads.add(() -> { months.writeTo(discard); return months; });
+        names.add("java.UsersPair.writeTo");
+        workloads.add(() -> { pair.writeTo(discard); return pair; });
+        names.add("java.TaggedPhotoInfo.writeTo");
+        workloads.add(() -> { photo.writeTo(discard); return photo; });
+
+        for (int idx = 0; idx < names.size(); idx++) {
+            if (selected(selection, "java", names.get(idx))) {
+                measure(names.get(idx), workloads.get(idx));
+            }
+        }
+    }
+
+    // [Statements Per Call Function]
+    // EFFECTS:  runs <workload> once and returns the number of statements it leased from
+    //   <statements>, i.e. the number of SQL statements it executed; -1 if it fails
+    private static long statementsPerCall(FakebookStatementCache statements, Workload workload) {
+        long before = statements.getHits() + statements.getMisses();
+        try {
+            workload.run();
+        }
+        catch (Exception e) {
+            return -1L;
+        }
+        return statements.getHits() + statements.getMisses() - before;
+    }
+
+    // [Measure Function]
+    // EFFECTS:  runs the warmup and measured iterations of <workload>, prints a result
+    //   line for benchmark <name> and returns its average time per operation in
+    //   nanoseconds; a failing workload is reported and yields -1
+    public double measure(String name, Workload workload) {
+        try {
+            for (int iter = 0; iter < warmup; iter++) {
+                iteration(workload);
+            }
+
+            double[] nanosPerOp = new double[iterations];
+            long totalOps = 0L;
+            long totalNanos = 0L;
+            long totalBytes = 0L;
+            for (int iter = 0; iter < iterations; iter++) {
+                long[] sample = iteration(workload);
+                nanosPerOp[iter] = (double)sample[1] / sample[0];
+                totalOps += sample[0];
+                totalNanos += sample[1];
+                totalBytes += sample[2];
+            }
+
+            double mean = (double)totalNanos / totalOps;
+            double variance = 0.0;
+            for (double value : nanosPerOp) {
+                variance += (value - mean) * (value - mean);
+            }
+            double error = (iterations > 1) ? Math.sqrt(variance / (iterations - 1)) : 0.0;
+            String bytes = (allocation != null) ? String.format("%d", totalBytes / totalOps) : "n/a";
+
+            System.out.println(String.format("%-40s %10d %14.4f %12.4f %14.1f %14s",
+                name, totalOps, mean / 1e6, error / 1e6, 1e9 / mean, bytes));
+            return mean;
+        }
+        catch (Exception e) {
+            System.out.println(String.format("%-40s failed: %s", name, e));
+            return -1.0;
+        }
+    }
+
+    // [Print Header Function]
+    // EFFECTS:  prints the column headings of the result lines
+    public void printHeader() {
+        System.out.println(String.format("%-40s %10s %14s %12s %14s %14s",
+            "Benchmark", "Ops", "ms/op", "Error", "ops/s", "B/op"));
+    }
+
+    // [Iteration Function]
+    // EFFECTS:  repeats <workload> for at least <iterationMillis> milliseconds (and at
+    //   least once) and returns the operation count, the elapsed nanoseconds and the
+    //   bytes allocated by this thread
+    private long[] iteration(Workload workload) throws Exception {
+        long deadline = iterationMillis * 1000000L;
+        long ops = 0L;
+        long bytesBefore = allocatedBytes();
+        long beginTime = System.nanoTime();
+        long elapsed;
+        do {
+            consume(workload.run());
+            ops++;
+            elapsed = System.nanoTime() - beginTime;
+        } while (elapsed < deadline);
+        long bytes = allocatedBytes() - bytesBefore;
+        return new long[] {ops, elapsed, bytes};
+    }
+
+    // [Consume Function]
+    // MODIFIES: <sink>
+    // EFFECTS:  folds <result> into <sink> so that computing it cannot be eliminated
+    private void consume(Object result) {
+        sink ^= System.identityHashCode(result);
+    }
+
+    // [Allocated Bytes Function]
+    // EFFECTS:  returns the bytes allocated so far by this thread, or 0 if the JVM does
+    //   not report per-thread allocation
+    private long allocatedBytes() {
+        return (allocation != null) ? allocation.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+    }
+
+    // [Allocation Bean Function]
+    // EFFECTS:  returns the JVM's per-thread allocation counter, or NULL if unsupported
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean counters = (com.sun.management.ThreadMXBean)bean;
+            if (counters.isThreadAllocatedMemorySupported()) {
+                counters.setThreadAllocatedMemoryEnabled(true);
+                return counters;
+            }
+        }
+        return null;
+    }
+
+    // [Selected Function]
+    // EFFECTS:  returns true if benchmark <name> of <group> matches <selection>
+    private static boolean selected(String selection, String group, String name) {
+        return selection.equals("all") || selection.equals(group) || selection.equals(name);
+    }
+
+    // Discards everything written to it, so that writeTo benchmarks measure formatting only
+    private static final Writer discard = new Writer() {
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+        }
+
+        @Override
+        public void write(int c) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    // Events per batch, cities and states of the events benchmark
+    private static final int EventBatch = 100000;
+    private static final int EventCities = 1000;
+    private static final int EventStates = 50;
+
+    // Member Variables
+    private final int warmup;
+    private final int iterations;
+    private final long iterationMillis;
+    private final com.sun.management.ThreadMXBean allocation;
+    private volatile int sink;
+}
@@ -0,0 +1,278 @@
+package project2;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    The FakebookChecks class runs self-checking scenarios that the query output alone
+    cannot show, against the database chosen through the settings read by
+    FakebookConnectionFactory (meant for the embedded profile). Each check prints PASS
+    or FAIL with the reason, and the process exits with status 1 if any check failed.
+
+    Usage: java project2.FakebookChecks [all|<name>]
+
+        async      a query run through AsyncFakebookOracle past its timeout fails with a
+                   TimeoutException and has its statement cancelled, and a query made
+                   at the same time over the same statement cache still succeeds; a
+                   lease that has been closed is never cancelled
+        cached     a query made through an AsyncFakebookOracle over a CachingFakebookOracle
+                   that times out, and so is cancelled and answered with an empty
+                   result by StudentFakebookOracle, leaves nothing in the cache, and
+                   the next call answers as if it had never been made
+        age        findAgeInfo(long) of StudentFakebookOracle executes exactly one
+                   statement, as counted by FakebookInstrumentation, and returns the
+                   oldest and youngest friends found by GraphFakebookOracle
+*/
+final class FakebookChecks {
+    /*
+        The Check interface is one scenario; it throws to report a failure.
+    */
+    interface Check {
+        void run(Connection connection) throws Exception;
+    }
+
+    // [Main Function]
+    public static void main(String[] args) {
+        String selection = (args.length > 0) ? args[0] : "all";
+        String[] names = { "async", "cached", "age" };
+        Check[] checks = { FakebookChecks::checkAsync, FakebookChecks::checkCached, FakebookChecks::checkAge };
+
+        int failures = 0;
+        try (Connection connection = FakebookConnectionFactory.fromSettings(null, null).open()) {
+            for (int idx = 0; idx < names.length; idx++) {
+                if (!selection.equals("all") && !selection.equals(names[idx])) {
+                    continue;
+                }
+                try {
+                    checks[idx].run(connection);
+                    System.out.println("PASS " + names[idx]);
+                }
+                catch (Exception e) {
+                    failures++;
+                    System.out.println("FAIL " + names[idx] + ": " + e);
+                }
+            }
+        }
+        catch (Exception e) {
+            e.printStackTrace();
+            failures++;
+        }
+        System.exit((failures > 0) ? 1 : 0);
+    }
+
+    // [Check Async Function]
+    // EFFECTS:  runs a three-way cross join of Users, which takes minutes, through an
+    //   AsyncFakebookOracle with a timeout of <SlowTimeoutMillis>, together with
+    //   findAgeInfo(215); requires the slow call to fail with a TimeoutException, its
+    //   statement to be cancelled so that findAgeInfo completes well before the cross
+    //   join could have, with the same answer as when called directly
+    private static void checkAsync(Connection connection) throws Exception {
+        StudentFakebookOracle db = new StudentFakebookOracle(connection);
+        FakebookStatementCache statements = db.getStatementCache();
+        String expected = db.findAgeInfo(215L).toString();
+
+        try (AsyncFakebookOracle async = new AsyncFakebookOracle(db, 2, 0L)) {
+            long beginTime = System.currentTimeMillis();
+            CompletableFuture<Long> stuck = async.call(oracle -> {
+                try (FakebookStatementCache.Lease lease = statements.lease("CheckSlow", SlowQuery)) {
+                    ResultSet rst = lease.statement().executeQuery();
+                    rst.next();
+                    long count = rst.getLong(1);
+                    rst.close();
+                    return count;
+                }
+            }, SlowTimeoutMillis);
+            CompletableFuture<AgeInfo> concurrent = async.findAgeInfo(215L);
+
+            try {
+                stuck.get();
+                throw new IllegalStateException("the slow query was not timed out");
+            }
+            catch (ExecutionException e) {
+                check(e.getCause() instanceof TimeoutException, "the slow query failed with " + e.getCause());
+            }
+            AgeInfo age = concurrent.get(CancelledWithinMillis, TimeUnit.MILLISECONDS);
+            long elapsed = System.currentTimeMillis() - beginTime;
+            check(age.toString().equals(expected), "the concurrent findAgeInfo returned " + age);
+            check(elapsed < CancelledWithinMillis, "the concurrent findAgeInfo took " + elapsed + " ms");
+        }
+
+        FakebookStatementCache.Lease lease = statements.lease("CheckClosed", "SELECT 1 FROM DUAL");
+        lease.close();
+        check(statements.cancel(Thread.currentThread()) == 0, "a closed lease was cancelled");
+    }
+
+    // [Check Cached Function]
+    // EFFECTS:  runs Query 2 through an AsyncFakebookOracle over a CachingFakebookOracle
+    //   over a Stalled oracle, with a timeout of <SlowTimeoutMillis>, and requires the
+    //   call to fail with a TimeoutException, the empty result of the cancelled query
+    //   to be kept out of the cache, and the next call to return what
+    //   StudentFakebookOracle returns
+    private static void checkCached(Connection connection) throws Exception {
+        String expected = new StudentFakebookOracle(connection).lonelyUsers().toString();
+        CachingFakebookOracle cached = new CachingFakebookOracle(new Stalled(connection));
+
+        try (AsyncFakebookOracle async = new AsyncFakebookOracle(cached, 1, 0L)) {
+            CompletableFuture<FakebookUserList> stuck = async.call(db -> db.lonelyUsers(), SlowTimeoutMillis);
+            try {
+                stuck.get();
+                throw new IllegalStateException("the slow query was not timed out");
+            }
+            catch (ExecutionException e) {
+                check(e.getCause() instanceof TimeoutException, "the slow query failed with " + e.getCause());
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + CancelledWithinMillis;
+        while (cached.getFailures() == 0L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);                              // the cancelled call still returns to the cache
+        }
+        check(cached.getFailures() == 1L, "the cancelled query was not reported as failed");
+        check(cached.size() == 0, "the cache kept " + cached.size() + " result(s) of the cancelled query");
+        FakebookUserList next = cached.lonelyUsers();
+        check(next.toString().equals(expected), "after the timed-out call Query 2 returned " + next.size() + " user(s)");
+    }
+
+    // [Check Age Function]
+    // EFFECTS:  runs findAgeInfo for User IDs 0 .. <AgeUsers> - 1 over an instrumented
+    //   connection, after one call beforehand so that the statement is already
+    //   prepared, and requires one statement execution per call, with the answer of
+    //   GraphFakebookOracle
+    private static void checkAge(Connection connection) throws Exception {
+        FakebookInstrumentation instrumentation = new FakebookInstrumentation();
+        StudentFakebookOracle db = new StudentFakebookOracle(instrumentation.wrap(connection));
+        GraphFakebookOracle graph = new GraphFakebookOracle(connection);
+        db.findAgeInfo(215L);
+
+        for (long userID = 0L; userID < AgeUsers; userID++) {
+            String label = "Query 8 user " + userID;
+            instrumentation.begin(label);
+            AgeInfo age;
+            try {
+                age = db.findAgeInfo(userID);
+            }
+            finally {
+                instrumentation.end();
+            }
+            check(instrumentation.getStatements(label) == 1L,
+                label + " executed " + instrumentation.getStatements(label) + " statements");
+            check(age.toString().equals(graph.findAgeInfo(userID).toString()), label + " returned " + age);
+        }
+    }
+
+    // [Check Function]
+    // EFFECTS:  throws an IllegalStateException with <message> unless <condition> holds
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException(message);
+        }
+    }
+
+    /*
+        The Stalled class is a StudentFakebookOracle whose first Query 2 runs <SlowQuery>
+        before the real query, as a query held up by a lock or a bad plan would; like
+        StudentFakebookOracle, it reports the error and returns an empty result if that
+        statement fails, e.g. because it was cancelled.
+    */
+    private static final class Stalled extends FakebookOracle {
+        // [Constructor]
+        Stalled(Connection connection) {
+            delegate = new StudentFakebookOracle(connection);
+        }
+
+        @Override
+        public long getErrors() {
+            return super.getErrors() + delegate.getErrors();
+        }
+
+        @Override
+        public FakebookStatementCache getStatementCache() {
+            return delegate.getStatementCache();
+        }
+
+        @Override
+        public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
+            return delegate.findMonthOfBirthInfo();
+        }
+
+        @Override
+        public FirstNameInfo findNameInfo() throws SQLException {
+            return delegate.findNameInfo();
+        }
+
+        @Override
+        public FakebookUserList lonelyUsers() throws SQLException {
+            if (stall.compareAndSet(true, false)) {
+                try (FakebookStatementCache.Lease lease = delegate.getStatementCache().lease("CheckSlow", SlowQuery)) {
+                    ResultSet rst = lease.statement().executeQuery();
+                    rst.close();
+                }
+                catch (SQLException e) {
+                    reportError(e);
+                    return new FakebookUserList(", ");
+                }
+            }
+            return delegate.lonelyUsers();
+        }
+
+        @Override
+        public FakebookUserList liveAwayFromHome() throws SQLException {
+            return delegate.liveAwayFromHome();
+        }
+
+        @Override
+        public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
+            return delegate.findPhotosWithMostTags(num);
+        }
+
+        @Override
+        public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
+            return delegate.matchMaker(num, yearDiff);
+        }
+
+        @Override
+        public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
+            return delegate.suggestFriends(num);
+        }
+
+        @Override
+        public EventStateInfo findEventStates() throws SQLException {
+            return delegate.findEventStates();
+        }
+
+        @Override
+        public AgeInfo findAgeInfo(long userID) throws SQLException {
+            return delegate.findAgeInfo(userID);
+        }
+
+        @Override
+        public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
+            return delegate.findPotentialSiblings();
+        }
+
+        // Member Variables
+        private final StudentFakebookOracle delegate;
+        private final AtomicBoolean stall = new AtomicBoolean(true);
+    }
+
+    // A three-way cross join of Users, which takes minutes
+    private static final String SlowQuery = "SELECT COUNT(*) " +
+        "FROM " + FakebookOracleConstants.UsersTable + " A, " +
+        FakebookOracleConstants.UsersTable + " B, " +
+        FakebookOracleConstants.UsersTable + " C " +
+        "WHERE A.USER_ID + B.USER_ID + C.USER_ID >= 0";
+
+    // Timeout of the slow query of the async check, and the time by which the cancelled
+    // query must have given way to the concurrent one
+    private static final long SlowTimeoutMillis = 500L;
+    private static final long CancelledWithinMillis = 10000L;
+
+    // Users whose Query 8 is checked by the age check
+    private static final long AgeUsers = 300L;
+}
@@ -0,0 +1,228 @@
+package project2;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+/*
+    The FakebookConnectionFactory class opens the JDBC connections used to run the
+    Fakebook queries. Every setting is read first from the system properties
+    (-Dfakebook.jdbc.url=...) and then from the properties file named by
+    -Dfakebook.config (fakebook.properties in the working directory by default):
+
+        fakebook.profile        "oracle" (default) or "embedded"
+        fakebook.jdbc.url       JDBC URL to connect to
+        fakebook.jdbc.driver    JDBC driver class to load
+        fakebook.jdbc.user      database user
+        fakebook.jdbc.password  database password
+        fakebook.table.prefix   prefix of the eleven Fakebook table names
+        fakebook.embedded.data  SQL file loaded by the embedded profile in place of the
+                                bundled dataset
+
+    The embedded profile defaults to an in-memory H2 database (Oracle compatibility
+    mode) whose tables are created and loaded the first time a connection is opened,
+    so that the queries can run and be benchmarked without the course server. The
+    H2 jar must be on the classpath.
+*/
+final class FakebookConnectionFactory implements FakebookConnectionPool.ConnectionSource {
+    // [Constructor]
+    public FakebookConnectionFactory(String url, String driver, String user, String password, boolean embedded) {
+        this.url = url;
+        this.driver = driver;
+        this.user = user;
+        this.password = password;
+        this.embedded = embedded;
+    }
+
+    // [Configured Factory Function]
+    // EFFECTS:  returns a factory built from the configured settings, using <user> and
+    //   <password> for the oracle profile when no credentials are configured
+    public static FakebookConnectionFactory fromSettings(String user, String password) {
+        if (isEmbedded()) {
+            return new FakebookConnectionFactory(
+                setting("fakebook.jdbc.url", EmbeddedURL),
+                setting("fakebook.jdbc.driver", EmbeddedDriver),
+                setting("fakebook.jdbc.user", "sa"),
+                setting("fakebook.jdbc.password", ""),
+                true);
+        }
+        return new FakebookConnectionFactory(
+            setting("fakebook.jdbc.url", OracleURL),
+            setting("fakebook.jdbc.driver", OracleDriver),
+            setting("fakebook.jdbc.user", user),
+            setting("fakebook.jdbc.password", password),
+            false);
+    }
+
+    // [Setting Function]
+    // EFFECTS:  returns the value of setting <name> from the system properties or the
+    //   configuration file, or <fallback> if it is set in neither
+    public static String setting(String name, String fallback) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            value = config().getProperty(name);
+        }
+        return (value == null) ? fallback : value.trim();
+    }
+
+    // [Embedded Profile Function]
+    // EFFECTS:  returns true if the embedded profile is selected
+    public static boolean isEmbedded() {
+        return setting("fakebook.profile", "oracle").equalsIgnoreCase("embedded");
+    }
+
+    // [Table Prefix Function]
+    // EFFECTS:  returns the configured prefix of the Fakebook table names
+    public static String tablePrefix() {
+        return setting("fakebook.table.prefix", isEmbedded() ? EmbeddedPrefix : OraclePrefix);
+    }
+
+    @Override
+    // [Open Function]
+    // EFFECTS:  opens a new connection; for the embedded profile, the Fakebook tables are
+    //   created and loaded the first time a database URL is opened
+    public Connection open() throws SQLException {
+        try {
+            Class.forName(driver);
+        }
+        catch (ClassNotFoundException e) {
+            throw new SQLException("JDBC driver " + driver + " is not on the classpath", e);
+        }
+
+        Connection connection = DriverManager.getConnection(url, user, password);
+        if (embedded) {
+            synchronized (loaded) {
+                if (loaded.add(url)) {
+                    try {
+                        load(connection);
+                    }
+                    catch (SQLException e) {
+                        loaded.remove(url);
+                        connection.close();
+                        throw e;
+                    }
+                }
+            }
+        }
+        return connection;
+    }
+
+    // [Load Function]
+    // MODIFIES: the database behind <connection>
+    // EFFECTS:  creates the Fakebook tables and loads the embedded dataset, unless the
+    //   database (e.g. a file database filled by FakebookDataGenerator) already has them
+    private void load(Connection connection) throws SQLException {
+        if (hasTables(connection)) {
+            return;
+        }
+        try {
+            runScript(connection, openScript(null, "FakebookEmbeddedSchema.sql"));
+            runScript(connection, openScript(setting("fakebook.embedded.data", null), "FakebookEmbeddedData.sql"));
+        }
+        catch (IOException e) {
+            throw new SQLException("cannot load the embedded Fakebook dataset", e);
+        }
+    }
+
+    // [Has Tables Function]
+    // EFFECTS:  returns true if the Fakebook tables already exist behind <connection>
+    private static boolean hasTables(Connection connection) {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.executeQuery("SELECT COUNT(*) FROM " + FakebookOracleConstants.UsersTable).close();
+            return true;
+        }
+        catch (SQLException e) {
+            return false;
+        }
+    }
+
+    // [Open Script Function]
+    // EFFECTS:  opens the SQL file at <path>, or the bundled <resource> if <path> is NULL
+    private static InputStream openScript(String path, String resource) throws IOException {
+        if (path != null) {
+            return new FileInputStream(path);
+        }
+        InputStream in = FakebookConnectionFactory.class.getResourceAsStream(resource);
+        if (in == null) {
+            throw new FileNotFoundException(resource);
+        }
+        return in;
+    }
+
+    // [Run Script Function]
+    // REQUIRES: every statement in <script> ends with a semicolon at the end of a line
+    // MODIFIES: the database behind <connection>
+    // EFFECTS:  executes every statement in <script> in one batch, replacing ${prefix}
+    //   with the configured table prefix; lines starting with "--" are skipped
+    private static void runScript(Connection connection, InputStream script) throws IOException, SQLException {
+        String prefix = tablePrefix();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(script, StandardCharsets.UTF_8));
+             Statement stmt = connection.createStatement()) {
+            StringBuilder sql = new StringBuilder();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                    continue;
+                }
+                if (sql.length() > 0) {
+                    sql.append(' ');
+                }
+                sql.append(trimmed);
+                if (trimmed.endsWith(";")) {
+                    sql.setLength(sql.length() - 1);
+                    stmt.addBatch(sql.toString().replace("${prefix}", prefix));
+                    sql.setLength(0);
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    // [Configuration Function]
+    // EFFECTS:  returns the settings in the configuration file, loading them on first use
+    private static synchronized Properties config() {
+        if (config == null) {
+            config = new Properties();
+            String path = System.getProperty("fakebook.config", "fakebook.properties");
+            try (InputStream in = new FileInputStream(path)) {
+                config.load(in);
+            }
+            catch (FileNotFoundException e) {
+                // no configuration file: system properties and defaults only
+            }
+            catch (IOException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+        return config;
+    }
+
+    // Default Settings
+    private static final String OracleURL = "jdbc:oracle:thin:@forktail.dsc.umich.edu:1521:COURSEDB";
+    private static final String OracleDriver = "oracle.jdbc.driver.OracleDriver";
+    private static final String OraclePrefix = "jiaqni.PUBLIC_";
+    private static final String EmbeddedURL = "jdbc:h2:mem:fakebook;MODE=Oracle;DB_CLOSE_DELAY=-1";
+    private static final String EmbeddedDriver = "org.h2.Driver";
+    private static final String EmbeddedPrefix = "PUBLIC_";
+
+    // Member Variables
+    private static Properties config;
+    private static final Set<String> loaded = new HashSet<String>();
+    private final String url;
+    private final String driver;
+    private final String user;
+    private final String password;
+    private final boolean embedded;
+}
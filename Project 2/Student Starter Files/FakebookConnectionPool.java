@@ -0,0 +1,129 @@
+package project2;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    The FakebookConnectionPool class hands out at most <size> JDBC connections at a time.
+    Connections are opened lazily through the supplied <source> the first time they are
+    needed and are reused by later borrowers; a borrower that finds every connection in
+    use waits until one is released.
+*/
+final class FakebookConnectionPool implements AutoCloseable {
+    /*
+        The ConnectionSource interface opens the connections held by the pool.
+    */
+    interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    // [Constructor]
+    // REQUIRES: <size> is at least 1
+    public FakebookConnectionPool(int size, ConnectionSource source) {
+        if (size < 1) {
+            throw new IllegalArgumentException("pool size must be at least 1: " + size);
+        }
+        this.size = size;
+        this.source = source;
+        idle = new ArrayDeque<Connection>();
+        all = new ArrayList<Connection>();
+    }
+
+    // [Borrow Function]
+    // MODIFIES: <idle>, <all>
+    // EFFECTS:  returns an idle connection, opening a new one if fewer than <size> are
+    //   open; otherwise blocks until another borrower releases a connection; throws if
+    //   the pool is closed, even while the new connection was opening
+    public Connection borrow() throws SQLException, InterruptedException {
+        synchronized (this) {
+            while (idle.isEmpty() && all.size() >= size) {
+                if (closed) {
+                    throw new SQLException("connection pool is closed");
+                }
+                wait();
+            }
+            if (closed) {
+                throw new SQLException("connection pool is closed");
+            }
+            if (!idle.isEmpty()) {
+                return idle.pop();
+            }
+            all.add(null);                       // reserve a slot while the connection opens
+        }
+
+        Connection connection = null;
+        try {
+            connection = source.open();
+        }
+        finally {
+            if (connection == null) {
+                synchronized (this) {
+                    all.remove(null);
+                    notifyAll();
+                }
+            }
+        }
+
+        synchronized (this) {
+            all.remove(null);
+            notifyAll();
+            if (!closed) {
+                all.add(connection);
+                return connection;
+            }
+        }
+        connection.close();                      // the pool was closed while it opened
+        throw new SQLException("connection pool is closed");
+    }
+
+    // [Release Function]
+    // REQUIRES: <connection> was returned by borrow() and has not been released since
+    // MODIFIES: <idle>
+    // EFFECTS:  makes <connection> available to the next borrower
+    public synchronized void release(Connection connection) {
+        idle.push(connection);
+        notifyAll();
+    }
+
+    // [Size Accessor]
+    // EFFECTS:  returns the maximum number of connections this pool will open
+    public int size() {
+        return size;
+    }
+
+    @Override
+    // [Close Function]
+    // MODIFIES: <idle>, <all>
+    // EFFECTS:  closes every connection opened by this pool and wakes any waiting borrower
+    public synchronized void close() throws SQLException {
+        closed = true;
+        SQLException failure = null;
+        for (Connection connection : all) {
+            if (connection == null) {
+                continue;
+            }
+            try {
+                connection.close();
+            }
+            catch (SQLException e) {
+                failure = e;
+            }
+        }
+        idle.clear();
+        all.clear();
+        notifyAll();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Member Variables
+    private final int size;
+    private final ConnectionSource source;
+    private final ArrayDeque<Connection> idle;
+    private final List<Connection> all;
+    private boolean closed;
+}
@@ -0,0 +1,466 @@
+package project2;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/*
+    The FakebookDataGenerator class fills the Fakebook tables with a synthetic dataset
+    of a chosen number of users (1K to 10M), so that the queries can be timed at sizes
+    well beyond the public dataset. The data is skewed the way a real social network
+    is:
+
+        - friend degrees follow a power law, and most friendships are between users
+          with nearby IDs, so friend-of-friend joins meet dense neighbourhoods
+        - users are created in families that share a surname, a hometown and a
+          decade of birth; surnames, first names and hometowns are Zipf-distributed
+        - a small fraction of photos are "hot" and carry hundreds of tags
+
+    Rows are written through JDBC batch inserts and committed one batch at a time. The
+    generator holds no per-user state, so memory use does not grow with the scale.
+    Generation is deterministic for a given scale and seed.
+
+    Usage: java project2.FakebookDataGenerator <users> [--seed=<n>] [--batch=<rows>]
+    where <users> may carry a K or M suffix (e.g. 100K, 2M). The connection is opened
+    through FakebookConnectionFactory; the existing contents of the nine generated
+    tables are deleted first. With the embedded profile, point fakebook.jdbc.url at a
+    file database (e.g. jdbc:h2:./fakebook;MODE=Oracle) so that the data outlives the
+    generator.
+*/
+final class FakebookDataGenerator {
+    // [Constructor]
+    // REQUIRES: <users> and <batchSize> are at least 1
+    public FakebookDataGenerator(long users, long seed, int batchSize) {
+        if (users < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("users and batch size must be at least 1");
+        }
+        this.users = users;
+        this.seed = seed;
+        this.batchSize = batchSize;
+        cities = Math.max(MinCities, (int)(users / UsersPerCity));
+        albums = Math.max(1L, users / UsersPerAlbum);
+        photos = albums * PhotosPerAlbum;
+        events = Math.max(1L, users / UsersPerEvent);
+    }
+
+    // [Main Function]
+    // Expected Command Line Arguments:
+    //  [0] number of users, optionally followed by K (thousands) or M (millions)
+    //  [1...] --seed=<n> (default 2019) and --batch=<rows> (default 1000)
+    public static void main(String[] args) {
+        long users = parseScale(args[0]);
+        long seed = 2019L;
+        int batchSize = 1000;
+        for (int idx = 1; idx < args.length; idx++) {
+            if (args[idx].startsWith("--seed=")) {
+                seed = Long.parseLong(args[idx].substring("--seed=".length()));
+            }
+            else if (args[idx].startsWith("--batch=")) {
+                batchSize = Integer.parseInt(args[idx].substring("--batch=".length()));
+            }
+            else {
+                throw new IllegalArgumentException("unrecognized option: " + args[idx]);
+            }
+        }
+
+        FakebookDataGenerator generator = new FakebookDataGenerator(users, seed, batchSize);
+        try (Connection connection = FakebookConnectionFactory.fromSettings(null, null).open()) {
+            long beginTime = System.currentTimeMillis();
+            long rows = generator.generate(connection);
+            System.out.println(String.format("Loaded %d row(s) for %d user(s) in %.3f s",
+                rows, users, (System.currentTimeMillis() - beginTime) / 1000.0));
+        }
+        catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // [Parse Scale Function]
+    // EFFECTS:  returns the number of users named by <scale>, e.g. 1000, 10K or 10M
+    public static long parseScale(String scale) {
+        String value = scale.trim().toUpperCase();
+        long multiplier = 1L;
+        if (value.endsWith("K")) {
+            multiplier = 1000L;
+            value = value.substring(0, value.length() - 1);
+        }
+        else if (value.endsWith("M")) {
+            multiplier = 1000000L;
+            value = value.substring(0, value.length() - 1);
+        }
+        return Long.parseLong(value) * multiplier;
+    }
+
+    // [Generate Function]
+    // MODIFIES: the Fakebook tables reachable through <connection>
+    // EFFECTS:  deletes the contents of the generated tables, loads a new dataset and
+    //   returns the number of rows inserted
+    public long generate(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            clear(connection);
+            long rows = 0L;
+            rows += loadCities(connection);
+            rows += loadUsers(connection);
+            rows += loadFriends(connection);
+            rows += loadEvents(connection);
+            rows += loadAlbums(connection);
+            rows += loadPhotos(connection);
+            rows += loadTags(connection);
+            return rows;
+        }
+        catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+        finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // [Clear Function]
+    // MODIFIES: the Fakebook tables reachable through <connection>
+    // EFFECTS:  deletes every row of the tables this generator loads
+    private void clear(Connection connection) throws SQLException {
+        String[] tables = {
+            FakebookOracleConstants.TagsTable, FakebookOracleConstants.PhotosTable,
+            FakebookOracleConstants.AlbumsTable, FakebookOracleConstants.EventsTable,
+            FakebookOracleConstants.HometownCitiesTable, FakebookOracleConstants.CurrentCitiesTable,
+            FakebookOracleConstants.FriendsTable, FakebookOracleConstants.UsersTable,
+            FakebookOracleConstants.CitiesTable
+        };
+        try (Statement stmt = connection.createStatement()) {
+            for (String table : tables) {
+                stmt.executeUpdate("DELETE FROM " + table);
+            }
+        }
+        connection.commit();
+    }
+
+    // [Load Cities Function]
+    // EFFECTS:  inserts <cities> cities spread over the states and returns the row count
+    private long loadCities(Connection connection) throws SQLException {
+        String sql = "INSERT INTO " + FakebookOracleConstants.CitiesTable + " VALUES (?, ?, ?, ?)";
+        try (Batch batch = new Batch(connection, sql)) {
+            for (int city = 1; city <= cities; city++) {
+                batch.stmt.setInt(1, city);
+                batch.stmt.setString(2, "City " + city);
+                batch.stmt.setString(3, States[city % States.length]);
+                batch.stmt.setString(4, "Middle-earth");
+                batch.add();
+            }
+            return batch.finish();
+        }
+    }
+
+    // [Load Users Function]
+    // EFFECTS:  inserts every user together with their current and hometown cities and
+    //   returns the row count
+    private long loadUsers(Connection connection) throws SQLException {
+        Random random = new Random(seed);
+        String userSql = "INSERT INTO " + FakebookOracleConstants.UsersTable + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+        String currentSql = "INSERT INTO " + FakebookOracleConstants.CurrentCitiesTable + " VALUES (?, ?)";
+        String hometownSql = "INSERT INTO " + FakebookOracleConstants.HometownCitiesTable + " VALUES (?, ?)";
+        try (Batch userBatch = new Batch(connection, userSql);
+             Batch currentBatch = new Batch(connection, currentSql);
+             Batch hometownBatch = new Batch(connection, hometownSql)) {
+            int familyLeft = 0;
+            String surname = null;
+            int hometown = 0;
+            int familyYear = 0;
+            for (long user = 0; user < users; user++) {
+                if (familyLeft == 0) {              // start a new family
+                    familyLeft = 1 + geometric(random, 0.45);
+                    surname = LastNames[zipf(random, LastNames.length)];
+                    hometown = 1 + zipf(random, cities);
+                    familyYear = 1930 + random.nextInt(75);
+                }
+                familyLeft--;
+
+                userBatch.stmt.setLong(1, user);
+                userBatch.stmt.setString(2, FirstNames[zipf(random, FirstNames.length)]);
+                userBatch.stmt.setString(3, surname);
+                userBatch.stmt.setInt(4, familyYear + random.nextInt(12));
+                userBatch.stmt.setInt(5, 1 + random.nextInt(12));
+                userBatch.stmt.setInt(6, 1 + random.nextInt(28));
+                userBatch.stmt.setString(7, random.nextBoolean() ? "male" : "female");
+                userBatch.add();
+
+                hometownBatch.stmt.setLong(1, user);
+                hometownBatch.stmt.setInt(2, hometown);
+                hometownBatch.add();
+
+                currentBatch.stmt.setLong(1, user);
+                currentBatch.stmt.setInt(2, (random.nextDouble() < 0.3) ? hometown : 1 + zipf(random, cities));
+                currentBatch.add();
+            }
+            return userBatch.finish() + hometownBatch.finish() + currentBatch.finish();
+        }
+    }
+
+    // [Load Friends Function]
+    // EFFECTS:  inserts a power-law friendship graph and returns the row count; every
+    //   user links only to users with larger IDs, so no pair is generated twice
+    private long loadFriends(Connection connection) throws SQLException {
+        Random random = new Random(seed + 1);
+        String sql = "INSERT INTO " + FakebookOracleConstants.FriendsTable + " VALUES (?, ?)";
+        Set<Long> friends = new HashSet<Long>();
+        try (Batch batch = new Batch(connection, sql)) {
+            for (long user = 0; user < users - 1; user++) {
+                long candidates = users - user - 1;
+                int degree = (int)Math.min(Math.min(pareto(random, 1.0, FriendDegreeShape), MaxFriendDegree), candidates);
+
+                friends.clear();
+                while (friends.size() < degree) {
+                    // most friends are close in ID (same family or neighbourhood)
+                    double r = random.nextDouble();
+                    long offset = (long)(candidates * r * r * r * r);
+                    friends.add(user + 1 + Math.min(offset, candidates - 1));
+                }
+                for (long friend : friends) {
+                    batch.stmt.setLong(1, user);
+                    batch.stmt.setLong(2, friend);
+                    batch.add();
+                }
+            }
+            return batch.finish();
+        }
+    }
+
+    // [Load Events Function]
+    // EFFECTS:  inserts <events> events held in Zipf-distributed cities and returns the
+    //   row count
+    private long loadEvents(Connection connection) throws SQLException {
+        Random random = new Random(seed + 2);
+        String sql = "INSERT INTO " + FakebookOracleConstants.EventsTable + " VALUES (?, ?, ?, NULL, NULL, NULL, NULL, NULL, NULL, ?, ?, ?)";
+        try (Batch batch = new Batch(connection, sql)) {
+            for (long event = 0; event < events; event++) {
+                Timestamp start = timestamp(random);
+                batch.stmt.setLong(1, event);
+                batch.stmt.setLong(2, (long)(random.nextDouble() * users));
+                batch.stmt.setString(3, "Event " + event);
+                batch.stmt.setInt(4, 1 + zipf(random, cities));
+                batch.stmt.setTimestamp(5, start);
+                batch.stmt.setTimestamp(6, new Timestamp(start.getTime() + 3600000L * (1 + random.nextInt(48))));
+                batch.add();
+            }
+            return batch.finish();
+        }
+    }
+
+    // [Load Albums Function]
+    // EFFECTS:  inserts <albums> albums whose cover is their first photo and returns the
+    //   row count
+    private long loadAlbums(Connection connection) throws SQLException {
+        Random random = new Random(seed + 3);
+        String sql = "INSERT INTO " + FakebookOracleConstants.AlbumsTable + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Batch batch = new Batch(connection, sql)) {
+            for (long album = 0; album < albums; album++) {
+                Timestamp created = timestamp(random);
+                batch.stmt.setLong(1, album);
+                batch.stmt.setLong(2, albumOwner(album));
+                batch.stmt.setString(3, AlbumNames[zipf(random, AlbumNames.length)]);
+                batch.stmt.setTimestamp(4, created);
+                batch.stmt.setTimestamp(5, created);
+                batch.stmt.setString(6, "link");
+                batch.stmt.setString(7, "EVERYONE");
+                batch.stmt.setLong(8, album * PhotosPerAlbum);
+                batch.add();
+            }
+            return batch.finish();
+        }
+    }
+
+    // [Load Photos Function]
+    // EFFECTS:  inserts <PhotosPerAlbum> photos per album and returns the row count
+    private long loadPhotos(Connection connection) throws SQLException {
+        Random random = new Random(seed + 4);
+        String sql = "INSERT INTO " + FakebookOracleConstants.PhotosTable + " VALUES (?, ?, NULL, ?, NULL, ?)";
+        try (Batch batch = new Batch(connection, sql)) {
+            for (long photo = 0; photo < photos; photo++) {
+                batch.stmt.setLong(1, photo);
+                batch.stmt.setLong(2, photo / PhotosPerAlbum);
+                batch.stmt.setTimestamp(3, timestamp(random));
+                batch.stmt.setString(4, "link");
+                batch.add();
+            }
+            return batch.finish();
+        }
+    }
+
+    // [Load Tags Function]
+    // EFFECTS:  inserts the photo tags and returns the row count; ordinary photos tag a
+    //   few users near the album owner, hot photos tag hundreds of users anywhere
+    private long loadTags(Connection connection) throws SQLException {
+        Random random = new Random(seed + 5);
+        String sql = "INSERT INTO " + FakebookOracleConstants.TagsTable + " VALUES (?, ?, ?, ?, ?)";
+        Set<Long> subjects = new HashSet<Long>();
+        try (Batch batch = new Batch(connection, sql)) {
+            for (long photo = 0; photo < photos; photo++) {
+                boolean hot = random.nextDouble() < HotPhotoRate;
+                int count = hot ? (int)Math.min(pareto(random, 100.0, 1.5), MaxHotPhotoTags) : random.nextInt(5);
+                count = (int)Math.min(count, users);
+                long owner = albumOwner(photo / PhotosPerAlbum);
+
+                subjects.clear();
+                while (subjects.size() < count) {
+                    if (hot) {
+                        subjects.add((long)(random.nextDouble() * users));
+                    }
+                    else {
+                        long subject = owner + random.nextInt(2 * TagNeighbourhood + 1) - TagNeighbourhood;
+                        subjects.add(Math.floorMod(subject, users));
+                    }
+                }
+                Timestamp created = timestamp(random);
+                for (long subject : subjects) {
+                    batch.stmt.setLong(1, photo);
+                    batch.stmt.setLong(2, subject);
+                    batch.stmt.setTimestamp(3, created);
+                    batch.stmt.setInt(4, random.nextInt(100));
+                    batch.stmt.setInt(5, random.nextInt(100));
+                    batch.add();
+                }
+            }
+            return batch.finish();
+        }
+    }
+
+    // [Album Owner Function]
+    // EFFECTS:  returns the owner of <album>; owners are spread evenly over the users
+    private long albumOwner(long album) {
+        return (album * UsersPerAlbum) % users;
+    }
+
+    // [Zipf Function]
+    // EFFECTS:  returns an index in [0, <n>) in which small indices are much more likely
+    private static int zipf(Random random, int n) {
+        double r = random.nextDouble();
+        return Math.min(n - 1, (int)(n * r * r * r));
+    }
+
+    // [Pareto Function]
+    // EFFECTS:  returns a Pareto-distributed value with minimum <scale> and <shape>
+    private static double pareto(Random random, double scale, double shape) {
+        return scale / Math.pow(1.0 - random.nextDouble(), 1.0 / shape);
+    }
+
+    // [Geometric Function]
+    // EFFECTS:  returns the number of failures before the first success of probability <p>
+    private static int geometric(Random random, double p) {
+        int failures = 0;
+        while (random.nextDouble() >= p) {
+            failures++;
+        }
+        return failures;
+    }
+
+    // [Timestamp Function]
+    // EFFECTS:  returns a random timestamp between 2005 and 2019
+    private static Timestamp timestamp(Random random) {
+        return new Timestamp(FirstTimestamp + (long)(random.nextDouble() * TimestampRange));
+    }
+
+    /*
+        The Batch class wraps an INSERT statement whose rows are sent in batches of
+        <batchSize> and committed after each batch.
+    */
+    private final class Batch implements AutoCloseable {
+        // [Constructor]
+        Batch(Connection connection, String sql) throws SQLException {
+            this.connection = connection;
+            stmt = connection.prepareStatement(sql);
+        }
+
+        // [Add Function]
+        // MODIFIES: <pending>, <rows>
+        // EFFECTS:  queues the bound row, sending the batch once it is full
+        void add() throws SQLException {
+            stmt.addBatch();
+            rows++;
+            if (++pending == batchSize) {
+                flush();
+            }
+        }
+
+        // [Finish Function]
+        // EFFECTS:  sends any queued rows and returns the number of rows added
+        long finish() throws SQLException {
+            flush();
+            return rows;
+        }
+
+        @Override
+        // [Close Function]
+        // EFFECTS:  closes the statement without sending queued rows
+        public void close() throws SQLException {
+            stmt.close();
+        }
+
+        // [Flush Function]
+        // MODIFIES: <pending>
+        // EFFECTS:  executes and commits the queued rows
+        private void flush() throws SQLException {
+            if (pending > 0) {
+                stmt.executeBatch();
+                connection.commit();
+                pending = 0;
+            }
+        }
+
+        // Member Variables
+        final PreparedStatement stmt;
+        private final Connection connection;
+        private int pending;
+        private long rows;
+    }
+
+    // Dataset Shape Constants
+    private static final int MinCities = 50;
+    private static final long UsersPerCity = 1000L;
+    private static final long UsersPerAlbum = 4L;
+    private static final long PhotosPerAlbum = 8L;
+    private static final long UsersPerEvent = 10L;
+    private static final double FriendDegreeShape = 0.9;
+    private static final int MaxFriendDegree = 2000;
+    private static final double HotPhotoRate = 0.001;
+    private static final int MaxHotPhotoTags = 2000;
+    private static final int TagNeighbourhood = 200;
+    private static final long FirstTimestamp = Timestamp.valueOf("2005-01-01 00:00:00").getTime();
+    private static final long TimestampRange = 14L * 365 * 24 * 3600 * 1000;
+
+    private static final String[] States = {
+        "Gondor", "Rohan", "Mordor", "Shire", "Eriador", "Rhovanion", "Harad", "Arnor",
+        "Lindon", "Dorwinion", "Enedwaith", "Forodwaith"
+    };
+    private static final String[] FirstNames = {
+        "Boromir", "Gandalf", "Raelag", "Grace", "Pippin", "Frodo", "Aragorn", "Arwen",
+        "Eowyn", "Gimli", "Legolas", "Samwise", "Merry", "Faramir", "Theoden", "Elrond",
+        "Galadriel", "Isabel", "Ornella", "Brianna", "Agrael", "Biara", "Freyda", "Sauron",
+        "Kujin", "Cyrus", "Ella", "Lily", "Bilbo", "Denethor", "Eomer", "Haldir"
+    };
+    private static final String[] LastNames = {
+        "WILLIAMS", "THOMAS", "GARCIA", "MARTIN", "WILSON", "HARRIS", "WHITE", "MILLER",
+        "SMITH", "ANDERSON", "JACKSON", "DAVIS", "MARTINEZ", "JOHNSON", "MOORE", "JONES",
+        "BROWN", "THOMPSON", "TAYLOR", "CLARK", "LEWIS", "WALKER", "YOUNG", "ALLEN"
+    };
+    private static final String[] AlbumNames = {
+        "Friends", "Family", "Mountains", "Creatures", "Travel", "Summer", "Winter",
+        "Graduation", "Pets", "Food", "Random", "Concerts"
+    };
+
+    // Member Variables
+    private final long users;
+    private final long seed;
+    private final int batchSize;
+    private final int cities;
+    private final long albums;
+    private final long photos;
+    private final long events;
+}
@@ -0,0 +1,10905 @@
+-- Fakebook dataset for the embedded profile of FakebookConnectionFactory. Running
+-- the queries against it reproduces PublicSolution.txt.
+
+INSERT INTO ${prefix}Users VALUES (0, 'Isabel', 'MARTINEZ', 792, 12, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (1, 'Galadriel', 'MILLER', 147, 9, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (2, 'Raelag', 'MARTIN', 398, 7, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (3, 'Boromir', 'HARRIS', 385, 2, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (4, 'Boromir', 'MARTINEZ', 381, 2, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (5, 'Gandalf', 'MARTINEZ', 127, 3, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (6, 'Boromir', 'MARTIN', 992, 3, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (7, 'Elrond', 'GARCIA', 928, 1, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (8, 'Faramir', 'MILLER', 706, 7, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (9, 'Ashley', 'JONES', 515, 7, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (10, 'Kujin', 'DAVIS', 990, 12, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (11, 'Freyda', 'MOORE', 14, 5, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (12, 'Galadriel', 'DAVIS', 506, 8, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (13, 'Agrael', 'MOORE', 852, 4, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (14, 'Lily', 'WHITE', 171, 11, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (15, 'Grace', 'DAVIS', 510, 11, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (16, 'Frodo', 'JOHNSON', 975, 11, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (17, 'Saruman', 'JACKSON', 596, 7, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (18, 'Grace', 'SMITH', 166, 4, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (19, 'Theoden', 'GARCIA', 501, 3, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (20, 'Pippin', 'DAVIS', 316, 2, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (21, 'Theoden', 'MARTINEZ', 1000, 2, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (22, 'Aragorn', 'JOHNSON', 901, 11, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (23, 'Isabel', 'MARTINEZ', 328, 7, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (24, 'Kujin', 'GARCIA', 171, 11, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (25, 'Faramir', 'THOMPSON', 929, 4, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (26, 'Elrond', 'SMITH', 119, 3, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (27, 'Eowyn', 'ANDERSON', 654, 11, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (28, 'Wulfstan', 'THOMAS', 316, 2, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (29, 'Boromir', 'WILSON', 772, 3, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (30, 'Grace', 'HARRIS', 396, 7, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (31, 'Brianna', 'MARTIN', 205, 9, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (32, 'Meriadoc', 'MARTINEZ', 216, 5, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (33, 'Gimli', 'THOMPSON', 877, 9, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (34, 'Velaria', 'JONES', 974, 4, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (35, 'Frodo', 'SMITH', 19, 3, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (36, 'Kujin', 'JOHNSON', 285, 12, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (37, 'Gandalf', 'THOMPSON', 32, 9, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (38, 'Gandalf', 'DAVIS', 943, 6, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (39, 'Ylthin', 'SMITH', 793, 12, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (40, 'Gandalf', 'JOHNSON', 437, 12, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (41, 'Faramir', 'BROWN', 199, 8, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (42, 'Gandalf', 'THOMPSON', 45, 2, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (43, 'Lily', 'THOMPSON', 605, 11, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (44, 'Galadriel', 'MARTINEZ', 356, 2, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (45, 'Legolas', 'JACKSON', 105, 9, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (46, 'Grace', 'HARRIS', 463, 12, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (47, 'Agrael', 'THOMPSON', 210, 4, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (48, 'Freyda', 'MILLER', 521, 9, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (49, 'Aragorn', 'JONES', 532, 10, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (50, 'Boromir', 'JONES', 107, 3, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (51, 'Gotai', 'THOMAS', 676, 2, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (52, 'Gimli', 'JOHNSON', 440, 10, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (53, 'Sauron', 'GARCIA', 907, 4, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (54, 'Galadriel', 'WILLIAMS', 564, 8, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (55, 'Eowyn', 'HARRIS', 811, 4, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (56, 'Ylaya', 'SMITH', 65, 1, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (57, 'Shadya', 'JONES', 235, 6, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (58, 'Meriadoc', 'BROWN', 155, 4, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (59, 'Saruman', 'JACKSON', 938, 12, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (60, 'Wulfstan', 'MOORE', 298, 9, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (61, 'Eowyn', 'MARTINEZ', 986, 8, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (62, 'Arwen', 'WILLIAMS', 438, 1, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (63, 'Ylthin', 'MARTIN', 269, 4, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (64, 'Frodo', 'GARCIA', 334, 6, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (65, 'Gotai', 'WILLIAMS', 124, 4, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (66, 'Biara', 'WILLIAMS', 317, 9, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (67, 'Ylthin', 'WILSON', 681, 11, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (68, 'Eowyn', 'JACKSON', 514, 10, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (69, 'Ashley', 'THOMPSON', 616, 2, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (70, 'Sauron', 'HARRIS', 599, 5, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (71, 'Boromir', 'DAVIS', 415, 4, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (72, 'Hangvul', 'JOHNSON', 911, 8, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (73, 'Elrond', 'GARCIA', 321, 10, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (74, 'Arwen', 'WILLIAMS', 480, 2, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (75, 'Ylthin', 'TAYLOR', 541, 8, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (76, 'Sarah', 'JACKSON', 600, 11, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (77, 'Eowyn', 'MOORE', 397, 1, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (78, 'Boromir', 'JACKSON', 762, 4, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (79, 'Raelag', 'MILLER', 5, 4, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (80, 'Ylaya', 'MARTIN', 158, 12, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (81, 'Boromir', 'THOMPSON', 292, 7, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (82, 'Elrond', 'ANDERSON', 794, 8, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (83, 'Shadya', 'WILSON', 267, 11, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (84, 'Isabel', 'JACKSON', 342, 12, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (85, 'Meriadoc', 'MARTIN', 412, 6, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (86, 'Arwen', 'HARRIS', 862, 9, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (87, 'Galadriel', 'ANDERSON', 166, 2, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (88, 'Shadya', 'MILLER', 317, 5, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (89, 'Eowyn', 'ANDERSON', 977, 11, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (90, 'Faramir', 'THOMPSON', 894, 8, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (91, 'Agrael', 'MILLER', 70, 4, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (92, 'Isabel', 'JACKSON', 626, 9, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (93, 'Agrael', 'MARTIN', 555, 1, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (94, 'Cyrus', 'ANDERSON', 150, 4, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (95, 'Gimli', 'JOHNSON', 493, 6, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (96, 'Shadya', 'THOMAS', 276, 2, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (97, 'Elrond', 'GARCIA', 587, 10, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (98, 'Shadya', 'SMITH', 233, 2, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (99, 'Zehir', 'WILSON', 997, 5, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (100, 'Legolas', 'WILSON', 475, 1, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (101, 'Raelag', 'THOMAS', 998, 6, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (102, 'Pippin', 'JOHNSON', 682, 2, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (103, 'Pippin', 'WILSON', 118, 3, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (104, 'Theoden', 'MILLER', 166, 10, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (105, 'Sauron', 'THOMPSON', 654, 10, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (106, 'Freyda', 'THOMPSON', 897, 6, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (107, 'Agrael', 'JACKSON', 342, 10, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (108, 'Legolas', 'GARCIA', 658, 3, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (109, 'Denethor', 'HARRIS', 968, 11, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (110, 'Grace', 'JONES', 113, 5, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (111, 'Agrael', 'JOHNSON', 522, 5, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (112, 'Velaria', 'TAYLOR', 105, 11, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (113, 'Arwen', 'SMITH', 351, 3, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (114, 'Velaria', 'ANDERSON', 635, 11, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (115, 'Cyrus', 'WHITE', 860, 11, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (116, 'Arwen', 'JACKSON', 466, 10, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (117, 'Wulfstan', 'TAYLOR', 4, 3, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (118, 'Freyda', 'TAYLOR', 973, 2, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (119, 'Agrael', 'MARTINEZ', 588, 5, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (120, 'Ylaya', 'THOMPSON', 626, 3, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (121, 'Denethor', 'MILLER', 171, 7, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (122, 'Eowyn', 'MILLER', 343, 5, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (123, 'Zehir', 'HARRIS', 532, 7, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (124, 'Lily', 'MOORE', 637, 10, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (125, 'Denethor', 'THOMAS', 107, 3, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (126, 'Agrael', 'TAYLOR', 816, 3, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (127, 'Gimli', 'JONES', 804, 1, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (128, 'Brianna', 'WILSON', 579, 11, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (129, 'Galadriel', 'WILLIAMS', 488, 12, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (130, 'Pippin', 'WILSON', 282, 12, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (131, 'Eowyn', 'JOHNSON', 773, 8, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (132, 'Kujin', 'WHITE', 694, 7, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (133, 'Galadriel', 'BROWN', 745, 1, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (134, 'Sauron', 'DAVIS', 527, 2, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (135, 'Velaria', 'DAVIS', 397, 12, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (136, 'Raelag', 'THOMAS', 177, 10, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (137, 'Shadya', 'JACKSON', 775, 1, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (138, 'Aragorn', 'GARCIA', 905, 11, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (139, 'Kujin', 'MARTIN', 44, 9, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (140, 'Zehir', 'HARRIS', 454, 11, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (141, 'Isabel', 'SMITH', 115, 6, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (142, 'Elrond', 'TAYLOR', 502, 10, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (143, 'Gimli', 'MOORE', 94, 6, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (144, 'Frodo', 'THOMPSON', 525, 10, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (145, 'Ornella', 'JACKSON', 447, 9, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (146, 'Wulfstan', 'JOHNSON', 510, 4, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (147, 'Theoden', 'MARTIN', 297, 1, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (148, 'Ashley', 'HARRIS', 425, 4, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (149, 'Raelag', 'JACKSON', 398, 7, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (150, 'Gotai', 'THOMAS', 254, 6, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (151, 'Pippin', 'THOMAS', 521, 11, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (152, 'Kujin', 'WHITE', 387, 11, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (153, 'Raelag', 'SMITH', 348, 4, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (154, 'Legolas', 'WILLIAMS', 216, 4, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (155, 'Theoden', 'JACKSON', 539, 6, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (156, 'Wulfstan', 'JACKSON', 282, 2, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (157, 'Ella', 'MARTINEZ', 485, 1, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (158, 'Ylthin', 'WILSON', 172, 7, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (159, 'Ylthin', 'DAVIS', 70, 11, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (160, 'Boromir', 'TAYLOR', 270, 5, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (161, 'Aragorn', 'JONES', 979, 3, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (162, 'Ella', 'TAYLOR', 276, 5, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (163, 'Gandalf', 'WILLIAMS', 653, 12, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (164, 'Galadriel', 'DAVIS', 722, 11, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (165, 'Gimli', 'MOORE', 974, 1, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (166, 'Velaria', 'THOMAS', 916, 12, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (167, 'Shadya', 'WILSON', 867, 3, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (168, 'Gotai', 'BROWN', 49, 10, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (169, 'Cyrus', 'TAYLOR', 608, 11, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (170, 'Pippin', 'GARCIA', 680, 7, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (171, 'Arantir', 'WILSON', 841, 7, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (172, 'Aragorn', 'HARRIS', 164, 6, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (173, 'Aragorn', 'JOHNSON', 198, 9, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (174, 'Ashley', 'THOMPSON', 722, 10, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (175, 'Zehir', 'SMITH', 991, 5, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (176, 'Hangvul', 'WILLIAMS', 798, 2, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (177, 'Agrael', 'WILLIAMS', 446, 11, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (178, 'Wulfstan', 'HARRIS', 316, 4, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (179, 'Saruman', 'JOHNSON', 690, 10, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (180, 'Hangvul', 'WILLIAMS', 215, 5, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (181, 'Frodo', 'BROWN', 3, 11, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (182, 'Eowyn', 'DAVIS', 160, 7, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (183, 'Pippin', 'MARTINEZ', 401, 11, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (184, 'Pippin', 'MOORE', 778, 5, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (185, 'Theoden', 'WILLIAMS', 571, 12, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (186, 'Aragorn', 'MOORE', 399, 9, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (187, 'Pippin', 'WILSON', 344, 1, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (188, 'Hangvul', 'BROWN', 152, 11, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (189, 'Agrael', 'THOMAS', 123, 11, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (190, 'Velaria', 'JONES', 516, 2, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (191, 'Cyrus', 'MOORE', 551, 11, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (192, 'Lily', 'GARCIA', 352, 10, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (193, 'Gotai', 'MILLER', 777, 8, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (194, 'Velaria', 'MARTIN', 661, 10, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (195, 'Brianna', 'JACKSON', 969, 12, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (196, 'Hangvul', 'MOORE', 897, 10, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (197, 'Raelag', 'MILLER', 71, 1, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (198, 'Eowyn', 'WHITE', 261, 1, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (199, 'Biara', 'HARRIS', 662, 11, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (200, 'Sarah', 'JACKSON', 676, 3, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (201, 'Arwen', 'WHITE', 194, 2, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (202, 'Gandalf', 'WILSON', 655, 3, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (203, 'Grace', 'THOMPSON', 764, 5, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (204, 'Saruman', 'WILLIAMS', 109, 8, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (205, 'Pippin', 'MARTINEZ', 964, 5, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (206, 'Meriadoc', 'MARTINEZ', 395, 12, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (207, 'Aragorn', 'MILLER', 149, 10, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (208, 'Gimli', 'MOORE', 487, 12, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (209, 'Legolas', 'ANDERSON', 778, 8, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (210, 'Arantir', 'GARCIA', 106, 8, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (211, 'Sarah', 'BROWN', 394, 11, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (212, 'Sauron', 'MARTINEZ', 771, 11, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (213, 'Biara', 'WHITE', 568, 2, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (214, 'Raelag', 'MOORE', 438, 6, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (215, 'Shadya', 'JOHNSON', 483, 4, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (216, 'Gimli', 'JOHNSON', 308, 2, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (217, 'Gandalf', 'THOMPSON', 403, 7, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (218, 'Theoden', 'GARCIA', 279, 2, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (219, 'Legolas', 'WILLIAMS', 428, 5, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (220, 'Ylaya', 'SMITH', 126, 2, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (221, 'Freyda', 'BROWN', 146, 1, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (222, 'Freyda', 'MILLER', 194, 12, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (223, 'Raelag', 'WILSON', 350, 9, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (224, 'Agrael', 'MILLER', 386, 8, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (225, 'Gimli', 'WHITE', 241, 5, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (226, 'Ornella', 'WILLIAMS', 920, 1, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (227, 'Zehir', 'THOMAS', 397, 2, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (228, 'Raelag', 'GARCIA', 197, 12, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (229, 'Ornella', 'WILLIAMS', 910, 10, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (230, 'Shadya', 'SMITH', 829, 3, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (231, 'Frodo', 'TAYLOR', 611, 12, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (232, 'Gimli', 'DAVIS', 311, 4, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (233, 'Ashley', 'THOMAS', 334, 8, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (234, 'Cyrus', 'WILSON', 529, 1, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (235, 'Gotai', 'SMITH', 24, 6, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (236, 'Aragorn', 'JOHNSON', 98, 7, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (237, 'Arwen', 'MARTIN', 793, 2, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (238, 'Pippin', 'MARTINEZ', 444, 6, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (239, 'Zehir', 'WILSON', 51, 12, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (240, 'Aragorn', 'MOORE', 808, 11, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (241, 'Ylthin', 'THOMAS', 165, 4, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (242, 'Legolas', 'MARTIN', 182, 11, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (243, 'Frodo', 'ANDERSON', 603, 7, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (244, 'Biara', 'MOORE', 981, 6, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (245, 'Biara', 'WILLIAMS', 74, 2, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (246, 'Grace', 'WILLIAMS', 859, 1, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (247, 'Galadriel', 'WILLIAMS', 859, 9, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (248, 'Legolas', 'WHITE', 677, 7, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (249, 'Ylthin', 'MOORE', 268, 3, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (250, 'Boromir', 'MILLER', 716, 8, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (251, 'Denethor', 'TAYLOR', 789, 2, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (252, 'Lily', 'JOHNSON', 319, 5, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (253, 'Biara', 'MARTINEZ', 973, 12, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (254, 'Wulfstan', 'THOMAS', 696, 2, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (255, 'Shadya', 'WHITE', 403, 5, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (256, 'Theoden', 'MILLER', 53, 4, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (257, 'Sarah', 'JOHNSON', 498, 8, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (258, 'Elrond', 'BROWN', 291, 4, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (259, 'Eowyn', 'THOMAS', 829, 10, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (260, 'Kujin', 'MARTIN', 870, 1, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (261, 'Denethor', 'MARTIN', 898, 6, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (262, 'Theoden', 'MARTIN', 767, 8, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (263, 'Faramir', 'JONES', 34, 7, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (264, 'Gotai', 'WILSON', 85, 2, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (265, 'Aragorn', 'WILLIAMS', 488, 11, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (266, 'Arantir', 'WHITE', 669, 6, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (267, 'Boromir', 'MARTIN', 328, 7, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (268, 'Biara', 'MARTINEZ', 837, 6, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (269, 'Aragorn', 'DAVIS', 466, 9, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (270, 'Ylaya', 'JONES', 873, 7, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (271, 'Lily', 'WILLIAMS', 201, 11, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (272, 'Ornella', 'WILSON', 973, 4, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (273, 'Galadriel', 'WHITE', 283, 6, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (274, 'Cyrus', 'WILSON', 547, 8, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (275, 'Elrond', 'SMITH', 843, 9, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (276, 'Velaria', 'MARTINEZ', 230, 5, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (277, 'Elrond', 'BROWN', 724, 8, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (278, 'Raelag', 'TAYLOR', 478, 1, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (279, 'Galadriel', 'THOMPSON', 632, 12, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (280, 'Eowyn', 'GARCIA', 100, 2, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (281, 'Gimli', 'MARTINEZ', 36, 11, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (282, 'Brianna', 'JONES', 688, 1, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (283, 'Grace', 'THOMAS', 23, 1, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (284, 'Meriadoc', 'THOMPSON', 293, 9, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (285, 'Ylthin', 'TAYLOR', 917, 9, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (286, 'Galadriel', 'MARTIN', 699, 7, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (287, 'Gotai', 'JACKSON', 504, 11, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (288, 'Frodo', 'THOMAS', 693, 1, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (289, 'Legolas', 'WILLIAMS', 873, 6, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (290, 'Arantir', 'ANDERSON', 341, 6, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (291, 'Raelag', 'JONES', 403, 5, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (292, 'Sauron', 'THOMAS', 938, 2, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (293, 'Sauron', 'JONES', 67, 8, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (294, 'Lily', 'MARTIN', 426, 3, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (295, 'Shadya', 'ANDERSON', 116, 4, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (296, 'Galadriel', 'JACKSON', 557, 12, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (297, 'Lily', 'WHITE', 618, 3, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (298, 'Biara', 'SMITH', 270, 6, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (299, 'Arwen', 'DAVIS', 208, 5, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (300, 'Boromir', 'JONES', 190, 9, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (301, 'Meriadoc', 'TAYLOR', 464, 3, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (302, 'Boromir', 'JONES', 347, 8, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (303, 'Denethor', 'GARCIA', 536, 7, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (304, 'Eowyn', 'JONES', 460, 10, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (305, 'Freyda', 'GARCIA', 521, 12, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (306, 'Grace', 'WHITE', 296, 5, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (307, 'Aragorn', 'TAYLOR', 491, 1, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (308, 'Faramir', 'DAVIS', 307, 10, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (309, 'Gimli', 'JOHNSON', 269, 9, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (310, 'Hangvul', 'JACKSON', 727, 3, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (311, 'Galadriel', 'GARCIA', 454, 12, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (312, 'Cyrus', 'MOORE', 404, 1, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (313, 'Sarah', 'DAVIS', 511, 9, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (314, 'Sarah', 'SMITH', 498, 10, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (315, 'Shadya', 'JACKSON', 243, 4, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (316, 'Freyda', 'MARTINEZ', 525, 12, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (317, 'Velaria', 'MARTIN', 712, 3, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (318, 'Biara', 'MARTINEZ', 285, 4, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (319, 'Agrael', 'WHITE', 274, 9, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (320, 'Ylthin', 'DAVIS', 276, 6, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (321, 'Freyda', 'GARCIA', 48, 9, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (322, 'Agrael', 'WILSON', 68, 12, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (323, 'Denethor', 'WHITE', 694, 4, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (324, 'Gandalf', 'BROWN', 569, 1, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (325, 'Velaria', 'WILLIAMS', 312, 6, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (326, 'Pippin', 'JONES', 79, 9, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (327, 'Saruman', 'WILSON', 144, 9, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (328, 'Gotai', 'JONES', 75, 3, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (329, 'Gandalf', 'WILSON', 739, 12, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (330, 'Hangvul', 'BROWN', 39, 6, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (331, 'Ylaya', 'MOORE', 178, 12, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (332, 'Grace', 'WILSON', 525, 1, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (333, 'Gandalf', 'HARRIS', 693, 9, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (334, 'Meriadoc', 'WILLIAMS', 438, 12, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (335, 'Ella', 'THOMAS', 986, 3, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (336, 'Faramir', 'MARTIN', 400, 11, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (337, 'Ylthin', 'JACKSON', 100, 5, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (338, 'Gotai', 'JACKSON', 580, 12, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (339, 'Ylthin', 'THOMPSON', 691, 8, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (340, 'Denethor', 'WHITE', 868, 4, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (341, 'Arantir', 'TAYLOR', 968, 9, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (342, 'Freyda', 'JOHNSON', 907, 3, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (343, 'Elrond', 'WILLIAMS', 218, 3, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (344, 'Ylthin', 'THOMPSON', 238, 7, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (345, 'Ashley', 'SMITH', 260, 7, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (346, 'Biara', 'HARRIS', 267, 3, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (347, 'Ella', 'MILLER', 978, 10, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (348, 'Gimli', 'MARTINEZ', 157, 3, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (349, 'Biara', 'MILLER', 34, 1, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (350, 'Zehir', 'GARCIA', 994, 1, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (351, 'Gandalf', 'SMITH', 997, 6, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (352, 'Boromir', 'WHITE', 173, 2, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (353, 'Elrond', 'WILSON', 208, 6, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (354, 'Frodo', 'JOHNSON', 329, 7, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (355, 'Cyrus', 'DAVIS', 639, 3, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (356, 'Ashley', 'WILSON', 88, 8, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (357, 'Gandalf', 'JACKSON', 69, 2, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (358, 'Meriadoc', 'WHITE', 73, 10, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (359, 'Arwen', 'GARCIA', 436, 5, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (360, 'Theoden', 'SMITH', 675, 10, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (361, 'Grace', 'MOORE', 242, 9, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (362, 'Aragorn', 'MARTINEZ', 761, 2, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (363, 'Elrond', 'HARRIS', 268, 10, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (364, 'Wulfstan', 'THOMAS', 591, 12, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (365, 'Ella', 'GARCIA', 953, 6, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (366, 'Frodo', 'SMITH', 817, 4, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (367, 'Boromir', 'THOMAS', 222, 1, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (368, 'Gotai', 'GARCIA', 814, 1, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (369, 'Gimli', 'WILSON', 483, 9, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (370, 'Legolas', 'JOHNSON', 383, 9, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (371, 'Cyrus', 'MOORE', 622, 2, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (372, 'Gandalf', 'WHITE', 535, 8, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (373, 'Isabel', 'WHITE', 24, 6, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (374, 'Sarah', 'HARRIS', 256, 4, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (375, 'Ornella', 'THOMPSON', 729, 9, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (376, 'Denethor', 'ANDERSON', 355, 10, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (377, 'Raelag', 'MARTINEZ', 964, 2, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (378, 'Velaria', 'DAVIS', 521, 5, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (379, 'Biara', 'MOORE', 860, 4, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (380, 'Lily', 'BROWN', 761, 5, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (381, 'Lily', 'HARRIS', 948, 8, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (382, 'Gotai', 'WHITE', 16, 7, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (383, 'Ornella', 'WILSON', 830, 2, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (384, 'Ella', 'JOHNSON', 97, 12, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (385, 'Faramir', 'SMITH', 64, 8, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (386, 'Denethor', 'MARTIN', 413, 4, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (387, 'Pippin', 'SMITH', 478, 4, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (388, 'Brianna', 'MARTIN', 221, 3, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (389, 'Hangvul', 'MOORE', 788, 8, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (390, 'Brianna', 'JONES', 214, 6, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (391, 'Aragorn', 'MARTIN', 587, 12, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (392, 'Raelag', 'THOMPSON', 247, 10, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (393, 'Ylaya', 'JONES', 321, 4, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (394, 'Hangvul', 'WHITE', 851, 12, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (395, 'Velaria', 'MILLER', 554, 1, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (396, 'Gandalf', 'WILLIAMS', 622, 9, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (397, 'Biara', 'MARTINEZ', 537, 7, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (398, 'Velaria', 'WHITE', 619, 11, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (399, 'Raelag', 'THOMAS', 185, 1, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (400, 'Wulfstan', 'MILLER', 685, 9, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (401, 'Meriadoc', 'TAYLOR', 660, 10, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (402, 'Denethor', 'WHITE', 658, 4, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (403, 'Denethor', 'HARRIS', 771, 1, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (404, 'Pippin', 'HARRIS', 211, 3, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (405, 'Zehir', 'BROWN', 922, 11, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (406, 'Ylthin', 'MILLER', 806, 7, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (407, 'Meriadoc', 'MARTINEZ', 760, 3, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (408, 'Zehir', 'HARRIS', 534, 7, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (409, 'Velaria', 'WILLIAMS', 108, 9, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (410, 'Legolas', 'THOMPSON', 34, 6, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (411, 'Ashley', 'TAYLOR', 883, 5, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (412, 'Arwen', 'WHITE', 619, 12, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (413, 'Lily', 'WILLIAMS', 126, 9, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (414, 'Galadriel', 'JACKSON', 283, 8, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (415, 'Meriadoc', 'MOORE', 621, 7, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (416, 'Freyda', 'ANDERSON', 733, 8, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (417, 'Cyrus', 'HARRIS', 98, 7, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (418, 'Cyrus', 'GARCIA', 821, 11, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (419, 'Gotai', 'JOHNSON', 765, 2, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (420, 'Brianna', 'WILSON', 125, 3, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (421, 'Faramir', 'THOMAS', 741, 6, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (422, 'Sauron', 'DAVIS', 568, 11, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (423, 'Ylthin', 'JACKSON', 210, 12, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (424, 'Gimli', 'MARTINEZ', 923, 2, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (425, 'Ashley', 'BROWN', 104, 2, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (426, 'Zehir', 'JOHNSON', 916, 8, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (427, 'Saruman', 'THOMAS', 661, 12, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (428, 'Kujin', 'MARTIN', 173, 5, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (429, 'Elrond', 'BROWN', 139, 5, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (430, 'Zehir', 'MOORE', 857, 7, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (431, 'Legolas', 'GARCIA', 880, 6, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (432, 'Elrond', 'MILLER', 239, 1, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (433, 'Brianna', 'WHITE', 713, 7, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (434, 'Elrond', 'WHITE', 689, 10, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (435, 'Theoden', 'SMITH', 259, 11, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (436, 'Ylthin', 'WILSON', 398, 6, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (437, 'Ella', 'SMITH', 851, 1, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (438, 'Velaria', 'JACKSON', 731, 9, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (439, 'Freyda', 'JACKSON', 333, 7, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (440, 'Isabel', 'BROWN', 630, 3, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (441, 'Saruman', 'JACKSON', 926, 6, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (442, 'Grace', 'TAYLOR', 128, 8, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (443, 'Ornella', 'DAVIS', 162, 11, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (444, 'Theoden', 'GARCIA', 470, 7, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (445, 'Velaria', 'WILSON', 160, 10, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (446, 'Frodo', 'BROWN', 8, 2, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (447, 'Legolas', 'THOMAS', 172, 8, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (448, 'Elrond', 'DAVIS', 964, 12, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (449, 'Sauron', 'ANDERSON', 321, 8, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (450, 'Elrond', 'TAYLOR', 943, 4, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (451, 'Theoden', 'MARTIN', 628, 10, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (452, 'Raelag', 'JONES', 206, 7, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (453, 'Agrael', 'WHITE', 968, 11, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (454, 'Boromir', 'JOHNSON', 274, 6, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (455, 'Aragorn', 'WILLIAMS', 772, 2, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (456, 'Ylaya', 'WILSON', 91, 12, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (457, 'Shadya', 'SMITH', 724, 3, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (458, 'Ylthin', 'ANDERSON', 29, 10, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (459, 'Denethor', 'THOMAS', 699, 4, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (460, 'Hangvul', 'BROWN', 533, 1, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (461, 'Velaria', 'WILSON', 317, 10, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (462, 'Gotai', 'TAYLOR', 281, 2, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (463, 'Boromir', 'SMITH', 484, 7, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (464, 'Sauron', 'WILLIAMS', 211, 5, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (465, 'Meriadoc', 'MILLER', 805, 10, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (466, 'Frodo', 'TAYLOR', 157, 5, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (467, 'Galadriel', 'THOMAS', 390, 5, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (468, 'Freyda', 'DAVIS', 93, 11, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (469, 'Grace', 'TAYLOR', 14, 6, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (470, 'Boromir', 'MARTIN', 917, 11, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (471, 'Sauron', 'THOMAS', 36, 3, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (472, 'Freyda', 'WHITE', 463, 5, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (473, 'Frodo', 'GARCIA', 305, 4, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (474, 'Lily', 'HARRIS', 877, 4, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (475, 'Isabel', 'MILLER', 131, 3, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (476, 'Meriadoc', 'MILLER', 301, 9, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (477, 'Sauron', 'BROWN', 799, 7, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (478, 'Arantir', 'JONES', 469, 10, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (479, 'Hangvul', 'MILLER', 936, 8, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (480, 'Isabel', 'DAVIS', 839, 9, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (481, 'Arwen', 'WILSON', 770, 7, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (482, 'Brianna', 'THOMPSON', 595, 2, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (483, 'Boromir', 'JACKSON', 123, 11, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (484, 'Raelag', 'THOMAS', 600, 10, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (485, 'Ylthin', 'MILLER', 482, 7, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (486, 'Gandalf', 'DAVIS', 514, 12, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (487, 'Velaria', 'ANDERSON', 897, 2, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (488, 'Cyrus', 'HARRIS', 935, 11, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (489, 'Shadya', 'GARCIA', 569, 7, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (490, 'Frodo', 'HARRIS', 659, 8, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (491, 'Ornella', 'JONES', 831, 5, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (492, 'Gotai', 'MARTIN', 495, 2, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (493, 'Arwen', 'ANDERSON', 397, 11, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (494, 'Ornella', 'THOMPSON', 23, 9, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (495, 'Sauron', 'TAYLOR', 411, 8, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (496, 'Ornella', 'THOMAS', 270, 6, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (497, 'Arantir', 'GARCIA', 724, 11, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (498, 'Ella', 'ANDERSON', 81, 9, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (499, 'Arantir', 'BROWN', 485, 5, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (500, 'Brianna', 'MARTIN', 890, 10, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (501, 'Frodo', 'WILLIAMS', 436, 9, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (502, 'Denethor', 'MILLER', 426, 6, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (503, 'Sauron', 'DAVIS', 623, 7, 7, 'male');
+INSERT INTO ${prefix}Users VALUES (504, 'Ella', 'WILSON', 351, 1, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (505, 'Raelag', 'WHITE', 704, 7, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (506, 'Theoden', 'MILLER', 822, 8, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (507, 'Zehir', 'SMITH', 232, 5, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (508, 'Lily', 'DAVIS', 773, 6, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (509, 'Isabel', 'MARTIN', 731, 11, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (510, 'Brianna', 'MARTINEZ', 771, 5, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (511, 'Agrael', 'SMITH', 434, 7, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (512, 'Meriadoc', 'MARTIN', 69, 5, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (513, 'Freyda', 'SMITH', 740, 8, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (514, 'Saruman', 'JONES', 879, 9, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (515, 'Pippin', 'JOHNSON', 965, 3, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (516, 'Faramir', 'DAVIS', 657, 3, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (517, 'Elrond', 'MILLER', 543, 1, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (518, 'Sauron', 'DAVIS', 618, 1, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (519, 'Faramir', 'JONES', 86, 3, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (520, 'Grace', 'HARRIS', 336, 9, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (521, 'Gotai', 'ANDERSON', 687, 9, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (522, 'Gandalf', 'JONES', 787, 6, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (523, 'Elrond', 'JOHNSON', 873, 6, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (524, 'Hangvul', 'MARTIN', 40, 11, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (525, 'Lily', 'THOMAS', 315, 12, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (526, 'Brianna', 'WILLIAMS', 123, 4, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (527, 'Freyda', 'ANDERSON', 542, 7, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (528, 'Biara', 'ANDERSON', 426, 1, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (529, 'Velaria', 'SMITH', 33, 3, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (530, 'Hangvul', 'THOMPSON', 746, 4, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (531, 'Zehir', 'JACKSON', 415, 5, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (532, 'Arantir', 'JOHNSON', 56, 11, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (533, 'Faramir', 'JOHNSON', 430, 9, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (534, 'Denethor', 'THOMAS', 986, 2, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (535, 'Galadriel', 'JOHNSON', 625, 2, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (536, 'Sarah', 'HARRIS', 945, 1, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (537, 'Biara', 'WILLIAMS', 643, 10, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (538, 'Brianna', 'WHITE', 113, 6, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (539, 'Gandalf', 'ANDERSON', 725, 6, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (540, 'Lily', 'WHITE', 172, 10, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (541, 'Denethor', 'JACKSON', 36, 8, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (542, 'Sarah', 'JONES', 763, 5, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (543, 'Freyda', 'THOMPSON', 290, 3, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (544, 'Kujin', 'MARTIN', 678, 4, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (545, 'Gandalf', 'THOMPSON', 381, 9, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (546, 'Elrond', 'GARCIA', 187, 7, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (547, 'Boromir', 'JOHNSON', 437, 5, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (548, 'Freyda', 'DAVIS', 323, 5, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (549, 'Biara', 'BROWN', 734, 1, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (550, 'Grace', 'MARTIN', 689, 4, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (551, 'Saruman', 'MARTINEZ', 573, 7, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (552, 'Denethor', 'BROWN', 386, 3, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (553, 'Sauron', 'DAVIS', 475, 12, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (554, 'Aragorn', 'DAVIS', 422, 8, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (555, 'Zehir', 'THOMPSON', 140, 4, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (556, 'Arantir', 'JOHNSON', 705, 10, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (557, 'Zehir', 'WHITE', 431, 2, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (558, 'Gandalf', 'WILLIAMS', 424, 8, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (559, 'Boromir', 'MILLER', 651, 1, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (560, 'Theoden', 'MILLER', 842, 1, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (561, 'Denethor', 'ANDERSON', 317, 9, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (562, 'Ashley', 'THOMAS', 380, 4, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (563, 'Kujin', 'JACKSON', 774, 12, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (564, 'Gandalf', 'JACKSON', 488, 11, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (565, 'Kujin', 'WILLIAMS', 272, 4, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (566, 'Ylthin', 'WHITE', 92, 10, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (567, 'Boromir', 'MARTIN', 12, 1, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (568, 'Hangvul', 'HARRIS', 400, 7, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (569, 'Aragorn', 'MARTIN', 704, 3, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (570, 'Boromir', 'SMITH', 581, 9, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (571, 'Galadriel', 'ANDERSON', 5, 9, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (572, 'Gandalf', 'JACKSON', 55, 1, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (573, 'Brianna', 'MOORE', 959, 10, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (574, 'Grace', 'HARRIS', 944, 7, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (575, 'Grace', 'SMITH', 56, 3, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (576, 'Ella', 'TAYLOR', 472, 3, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (577, 'Isabel', 'JOHNSON', 765, 7, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (578, 'Shadya', 'DAVIS', 815, 11, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (579, 'Boromir', 'HARRIS', 608, 4, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (580, 'Elrond', 'MARTINEZ', 92, 7, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (581, 'Ylthin', 'MARTINEZ', 755, 10, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (582, 'Agrael', 'TAYLOR', 933, 2, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (583, 'Denethor', 'MARTINEZ', 213, 2, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (584, 'Agrael', 'WILLIAMS', 602, 9, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (585, 'Kujin', 'GARCIA', 515, 1, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (586, 'Brianna', 'GARCIA', 785, 9, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (587, 'Ylaya', 'MILLER', 560, 12, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (588, 'Kujin', 'JACKSON', 221, 8, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (589, 'Kujin', 'MILLER', 176, 3, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (590, 'Grace', 'JONES', 894, 6, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (591, 'Wulfstan', 'SMITH', 315, 10, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (592, 'Sauron', 'WILLIAMS', 917, 5, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (593, 'Brianna', 'THOMAS', 864, 9, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (594, 'Ylthin', 'GARCIA', 282, 8, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (595, 'Lily', 'HARRIS', 369, 1, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (596, 'Velaria', 'WILSON', 432, 9, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (597, 'Agrael', 'JONES', 546, 11, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (598, 'Brianna', 'WILLIAMS', 263, 4, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (599, 'Gandalf', 'MOORE', 247, 9, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (600, 'Arwen', 'WILSON', 523, 8, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (601, 'Elrond', 'MARTIN', 239, 12, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (602, 'Lily', 'SMITH', 228, 3, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (603, 'Arantir', 'WHITE', 868, 10, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (604, 'Frodo', 'WHITE', 169, 8, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (605, 'Ylaya', 'MARTINEZ', 465, 5, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (606, 'Biara', 'WILSON', 30, 7, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (607, 'Pippin', 'MILLER', 147, 12, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (608, 'Kujin', 'HARRIS', 997, 3, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (609, 'Grace', 'MARTINEZ', 203, 8, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (610, 'Shadya', 'WILLIAMS', 507, 8, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (611, 'Grace', 'WILLIAMS', 322, 11, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (612, 'Wulfstan', 'WHITE', 592, 6, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (613, 'Isabel', 'MARTIN', 538, 7, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (614, 'Freyda', 'MARTINEZ', 956, 3, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (615, 'Gandalf', 'MILLER', 788, 8, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (616, 'Velaria', 'MILLER', 801, 1, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (617, 'Brianna', 'HARRIS', 614, 2, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (618, 'Sauron', 'TAYLOR', 628, 1, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (619, 'Meriadoc', 'HARRIS', 812, 10, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (620, 'Sarah', 'HARRIS', 26, 1, 28, 'male');
+INSERT INTO ${prefix}Users VALUES (621, 'Hangvul', 'THOMPSON', 738, 8, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (622, 'Wulfstan', 'MARTIN', 974, 7, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (623, 'Legolas', 'ANDERSON', 105, 8, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (624, 'Denethor', 'MARTIN', 276, 12, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (625, 'Gandalf', 'MOORE', 988, 12, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (626, 'Meriadoc', 'MILLER', 383, 1, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (627, 'Lily', 'THOMPSON', 39, 5, 21, 'female');
+INSERT INTO ${prefix}Users VALUES (628, 'Raelag', 'WILSON', 598, 4, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (629, 'Theoden', 'ANDERSON', 13, 11, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (630, 'Aragorn', 'DAVIS', 768, 11, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (631, 'Galadriel', 'MARTIN', 931, 2, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (632, 'Zehir', 'ANDERSON', 34, 7, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (633, 'Gotai', 'MILLER', 681, 2, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (634, 'Kujin', 'JACKSON', 562, 10, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (635, 'Agrael', 'GARCIA', 738, 4, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (636, 'Galadriel', 'MARTINEZ', 611, 8, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (637, 'Ylthin', 'MILLER', 751, 10, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (638, 'Gandalf', 'MOORE', 208, 11, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (639, 'Ashley', 'THOMAS', 153, 3, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (640, 'Grace', 'THOMPSON', 878, 12, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (641, 'Ylaya', 'ANDERSON', 282, 7, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (642, 'Saruman', 'WHITE', 81, 11, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (643, 'Meriadoc', 'GARCIA', 54, 1, 16, 'male');
+INSERT INTO ${prefix}Users VALUES (644, 'Cyrus', 'ANDERSON', 36, 1, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (645, 'Ashley', 'WILLIAMS', 372, 1, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (646, 'Freyda', 'MILLER', 851, 12, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (647, 'Saruman', 'BROWN', 756, 5, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (648, 'Legolas', 'MARTIN', 299, 3, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (649, 'Isabel', 'GARCIA', 101, 9, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (650, 'Arwen', 'GARCIA', 534, 8, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (651, 'Cyrus', 'HARRIS', 66, 2, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (652, 'Cyrus', 'MARTINEZ', 853, 9, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (653, 'Boromir', 'HARRIS', 681, 3, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (654, 'Wulfstan', 'DAVIS', 548, 3, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (655, 'Brianna', 'BROWN', 945, 12, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (656, 'Gotai', 'JACKSON', 566, 2, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (657, 'Ornella', 'MARTIN', 366, 2, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (658, 'Brianna', 'WHITE', 760, 7, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (659, 'Ylthin', 'WILLIAMS', 686, 11, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (660, 'Cyrus', 'ANDERSON', 412, 5, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (661, 'Boromir', 'BROWN', 643, 4, 1, 'female');
+INSERT INTO ${prefix}Users VALUES (662, 'Ornella', 'HARRIS', 256, 5, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (663, 'Pippin', 'MARTIN', 848, 5, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (664, 'Ylthin', 'JOHNSON', 400, 4, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (665, 'Kujin', 'ANDERSON', 697, 9, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (666, 'Wulfstan', 'MARTINEZ', 600, 1, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (667, 'Shadya', 'HARRIS', 536, 6, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (668, 'Pippin', 'WILSON', 553, 2, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (669, 'Gimli', 'THOMPSON', 331, 8, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (670, 'Boromir', 'BROWN', 581, 9, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (671, 'Theoden', 'JONES', 4, 9, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (672, 'Lily', 'GARCIA', 944, 9, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (673, 'Gimli', 'JONES', 118, 4, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (674, 'Isabel', 'JONES', 532, 7, 5, 'male');
+INSERT INTO ${prefix}Users VALUES (675, 'Elrond', 'THOMAS', 579, 12, 6, 'female');
+INSERT INTO ${prefix}Users VALUES (676, 'Boromir', 'MILLER', 336, 3, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (677, 'Sauron', 'WILSON', 696, 7, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (678, 'Hangvul', 'THOMAS', 449, 9, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (679, 'Pippin', 'MOORE', 928, 1, 2, 'female');
+INSERT INTO ${prefix}Users VALUES (680, 'Lily', 'MARTINEZ', 825, 12, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (681, 'Raelag', 'GARCIA', 815, 7, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (682, 'Velaria', 'JOHNSON', 636, 8, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (683, 'Zehir', 'BROWN', 601, 8, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (684, 'Faramir', 'ANDERSON', 288, 8, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (685, 'Gotai', 'JONES', 2, 5, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (686, 'Isabel', 'ANDERSON', 934, 3, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (687, 'Eowyn', 'WILLIAMS', 563, 5, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (688, 'Sarah', 'WHITE', 769, 12, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (689, 'Theoden', 'WILLIAMS', 25, 7, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (690, 'Agrael', 'THOMAS', 331, 12, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (691, 'Boromir', 'WHITE', 933, 10, 25, 'male');
+INSERT INTO ${prefix}Users VALUES (692, 'Wulfstan', 'WILSON', 206, 9, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (693, 'Grace', 'GARCIA', 376, 7, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (694, 'Pippin', 'MOORE', 636, 12, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (695, 'Faramir', 'TAYLOR', 710, 8, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (696, 'Denethor', 'GARCIA', 975, 9, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (697, 'Hangvul', 'HARRIS', 620, 1, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (698, 'Freyda', 'DAVIS', 237, 9, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (699, 'Eowyn', 'MARTINEZ', 943, 9, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (700, 'Lily', 'JONES', 9, 12, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (701, 'Ylaya', 'GARCIA', 586, 2, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (702, 'Kujin', 'GARCIA', 701, 9, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (703, 'Raelag', 'SMITH', 720, 12, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (704, 'Meriadoc', 'BROWN', 305, 12, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (705, 'Gandalf', 'GARCIA', 736, 2, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (706, 'Pippin', 'BROWN', 517, 1, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (707, 'Sarah', 'JOHNSON', 271, 10, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (708, 'Pippin', 'WILSON', 377, 12, 11, 'female');
+INSERT INTO ${prefix}Users VALUES (709, 'Raelag', 'GARCIA', 663, 4, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (710, 'Arwen', 'DAVIS', 540, 1, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (711, 'Shadya', 'BROWN', 852, 9, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (712, 'Raelag', 'THOMAS', 514, 3, 10, 'male');
+INSERT INTO ${prefix}Users VALUES (713, 'Wulfstan', 'JACKSON', 303, 1, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (714, 'Denethor', 'ANDERSON', 233, 6, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (715, 'Brianna', 'ANDERSON', 52, 9, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (716, 'Pippin', 'BROWN', 170, 10, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (717, 'Arwen', 'MARTIN', 578, 12, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (718, 'Elrond', 'HARRIS', 933, 5, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (719, 'Theoden', 'THOMAS', 282, 4, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (720, 'Ylaya', 'JONES', 96, 4, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (721, 'Isabel', 'SMITH', 326, 9, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (722, 'Kujin', 'THOMAS', 441, 8, 27, 'female');
+INSERT INTO ${prefix}Users VALUES (723, 'Faramir', 'BROWN', 427, 10, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (724, 'Boromir', 'TAYLOR', 523, 8, 3, 'male');
+INSERT INTO ${prefix}Users VALUES (725, 'Pippin', 'WHITE', 99, 9, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (726, 'Grace', 'TAYLOR', 925, 3, 16, 'female');
+INSERT INTO ${prefix}Users VALUES (727, 'Pippin', 'SMITH', 802, 2, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (728, 'Isabel', 'MILLER', 521, 2, 17, 'female');
+INSERT INTO ${prefix}Users VALUES (729, 'Raelag', 'HARRIS', 893, 8, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (730, 'Aragorn', 'MILLER', 442, 5, 5, 'female');
+INSERT INTO ${prefix}Users VALUES (731, 'Sarah', 'WILLIAMS', 120, 2, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (732, 'Isabel', 'MARTINEZ', 477, 12, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (733, 'Frodo', 'HARRIS', 943, 9, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (734, 'Meriadoc', 'WILSON', 820, 5, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (735, 'Brianna', 'THOMAS', 265, 1, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (736, 'Kujin', 'JOHNSON', 31, 4, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (737, 'Ella', 'THOMAS', 777, 4, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (738, 'Aragorn', 'HARRIS', 888, 6, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (739, 'Sauron', 'ANDERSON', 536, 8, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (740, 'Theoden', 'THOMPSON', 803, 5, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (741, 'Wulfstan', 'HARRIS', 575, 10, 11, 'male');
+INSERT INTO ${prefix}Users VALUES (742, 'Ylthin', 'BROWN', 610, 5, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (743, 'Hangvul', 'MILLER', 23, 4, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (744, 'Faramir', 'THOMPSON', 704, 10, 26, 'female');
+INSERT INTO ${prefix}Users VALUES (745, 'Eowyn', 'SMITH', 63, 5, 4, 'female');
+INSERT INTO ${prefix}Users VALUES (746, 'Ylaya', 'THOMAS', 435, 2, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (747, 'Ella', 'HARRIS', 107, 1, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (748, 'Legolas', 'MOORE', 888, 9, 4, 'male');
+INSERT INTO ${prefix}Users VALUES (749, 'Frodo', 'WILLIAMS', 975, 5, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (750, 'Arantir', 'DAVIS', 403, 4, 22, 'male');
+INSERT INTO ${prefix}Users VALUES (751, 'Theoden', 'WILSON', 134, 2, 28, 'female');
+INSERT INTO ${prefix}Users VALUES (752, 'Sarah', 'HARRIS', 119, 9, 18, 'female');
+INSERT INTO ${prefix}Users VALUES (753, 'Galadriel', 'TAYLOR', 117, 6, 17, 'male');
+INSERT INTO ${prefix}Users VALUES (754, 'Sarah', 'WILLIAMS', 169, 5, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (755, 'Velaria', 'DAVIS', 460, 6, 15, 'female');
+INSERT INTO ${prefix}Users VALUES (756, 'Grace', 'ANDERSON', 143, 4, 26, 'male');
+INSERT INTO ${prefix}Users VALUES (757, 'Agrael', 'DAVIS', 459, 5, 14, 'male');
+INSERT INTO ${prefix}Users VALUES (758, 'Raelag', 'MOORE', 835, 3, 10, 'female');
+INSERT INTO ${prefix}Users VALUES (759, 'Legolas', 'ANDERSON', 322, 6, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (760, 'Raelag', 'WILLIAMS', 815, 10, 8, 'female');
+INSERT INTO ${prefix}Users VALUES (761, 'Gimli', 'JACKSON', 207, 10, 9, 'female');
+INSERT INTO ${prefix}Users VALUES (762, 'Cyrus', 'ANDERSON', 537, 11, 12, 'male');
+INSERT INTO ${prefix}Users VALUES (763, 'Faramir', 'THOMAS', 419, 10, 13, 'male');
+INSERT INTO ${prefix}Users VALUES (764, 'Pippin', 'JONES', 921, 3, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (765, 'Grace', 'WHITE', 779, 6, 23, 'male');
+INSERT INTO ${prefix}Users VALUES (766, 'Raelag', 'BROWN', 172, 8, 3, 'female');
+INSERT INTO ${prefix}Users VALUES (767, 'Arantir', 'MOORE', 41, 12, 6, 'male');
+INSERT INTO ${prefix}Users VALUES (768, 'Shadya', 'BROWN', 463, 11, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (769, 'Theoden', 'SMITH', 271, 2, 2, 'male');
+INSERT INTO ${prefix}Users VALUES (770, 'Wulfstan', 'WILSON', 182, 5, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (771, 'Saruman', 'ANDERSON', 393, 9, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (772, 'Wulfstan', 'WILLIAMS', 350, 8, 12, 'female');
+INSERT INTO ${prefix}Users VALUES (773, 'Cyrus', 'MARTIN', 863, 10, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (774, 'Sarah', 'ANDERSON', 615, 3, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (775, 'Freyda', 'WILLIAMS', 794, 1, 8, 'male');
+INSERT INTO ${prefix}Users VALUES (776, 'Sauron', 'ANDERSON', 281, 4, 25, 'female');
+INSERT INTO ${prefix}Users VALUES (777, 'Boromir', 'MOORE', 220, 1, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (778, 'Kujin', 'WILSON', 143, 3, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (779, 'Legolas', 'GARCIA', 270, 10, 24, 'female');
+INSERT INTO ${prefix}Users VALUES (780, 'Biara', 'THOMAS', 979, 6, 1, 'male');
+INSERT INTO ${prefix}Users VALUES (781, 'Grace', 'THOMAS', 915, 4, 9, 'male');
+INSERT INTO ${prefix}Users VALUES (782, 'Sarah', 'WILSON', 661, 9, 19, 'male');
+INSERT INTO ${prefix}Users VALUES (783, 'Sarah', 'THOMAS', 503, 8, 22, 'female');
+INSERT INTO ${prefix}Users VALUES (784, 'Biara', 'WHITE', 627, 3, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (785, 'Shadya', 'MARTIN', 736, 9, 15, 'male');
+INSERT INTO ${prefix}Users VALUES (786, 'Theoden', 'SMITH', 205, 4, 21, 'male');
+INSERT INTO ${prefix}Users VALUES (787, 'Denethor', 'TAYLOR', 515, 5, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (788, 'Shadya', 'SMITH', 732, 5, 27, 'male');
+INSERT INTO ${prefix}Users VALUES (789, 'Cyrus', 'BROWN', 355, 10, 7, 'female');
+INSERT INTO ${prefix}Users VALUES (790, 'Agrael', 'MOORE', 582, 5, 18, 'male');
+INSERT INTO ${prefix}Users VALUES (791, 'Shadya', 'GARCIA', 580, 10, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (792, 'Biara', 'MOORE', 347, 8, 14, 'female');
+INSERT INTO ${prefix}Users VALUES (793, 'Gimli', 'GARCIA', 777, 6, 20, 'female');
+INSERT INTO ${prefix}Users VALUES (794, 'Hangvul', 'MILLER', 86, 7, 13, 'female');
+INSERT INTO ${prefix}Users VALUES (795, 'Wulfstan', 'THOMAS', 845, 7, 24, 'male');
+INSERT INTO ${prefix}Users VALUES (796, 'Brianna', 'MOORE', 640, 9, 20, 'male');
+INSERT INTO ${prefix}Users VALUES (797, 'Legolas', 'TAYLOR', 998, 10, 23, 'female');
+INSERT INTO ${prefix}Users VALUES (798, 'Sarah', 'MARTIN', 924, 3, 19, 'female');
+INSERT INTO ${prefix}Users VALUES (799, 'Biara', 'THOMPSON', 158, 5, 6, 'female');
+INSERT INTO ${prefix}Friends VALUES (0, 124);
+INSERT INTO ${prefix}Friends VALUES (0, 154);
+INSERT INTO ${prefix}Friends VALUES (0, 562);
+INSERT INTO ${prefix}Friends VALUES (0, 750);
+INSERT INTO ${prefix}Friends VALUES (1, 99);
+INSERT INTO ${prefix}Friends VALUES (1, 205);
+INSERT INTO ${prefix}Friends VALUES (1, 251);
+INSERT INTO ${prefix}Friends VALUES (1, 318);
+INSERT INTO ${prefix}Friends VALUES (1, 352);
+INSERT INTO ${prefix}Friends VALUES (1, 566);
+INSERT INTO ${prefix}Friends VALUES (1, 590);
+INSERT INTO ${prefix}Friends VALUES (1, 708);
+INSERT INTO ${prefix}Friends VALUES (1, 724);
+INSERT INTO ${prefix}Friends VALUES (2, 126);
+INSERT INTO ${prefix}Friends VALUES (2, 196);
+INSERT INTO ${prefix}Friends VALUES (2, 274);
+INSERT INTO ${prefix}Friends VALUES (2, 281);
+INSERT INTO ${prefix}Friends VALUES (2, 284);
+INSERT INTO ${prefix}Friends VALUES (2, 320);
+INSERT INTO ${prefix}Friends VALUES (2, 344);
+INSERT INTO ${prefix}Friends VALUES (2, 354);
+INSERT INTO ${prefix}Friends VALUES (2, 436);
+INSERT INTO ${prefix}Friends VALUES (2, 472);
+INSERT INTO ${prefix}Friends VALUES (2, 546);
+INSERT INTO ${prefix}Friends VALUES (2, 548);
+INSERT INTO ${prefix}Friends VALUES (2, 759);
+INSERT INTO ${prefix}Friends VALUES (2, 783);
+INSERT INTO ${prefix}Friends VALUES (3, 21);
+INSERT INTO ${prefix}Friends VALUES (3, 32);
+INSERT INTO ${prefix}Friends VALUES (3, 45);
+INSERT INTO ${prefix}Friends VALUES (3, 60);
+INSERT INTO ${prefix}Friends VALUES (3, 82);
+INSERT INTO ${prefix}Friends VALUES (3, 173);
+INSERT INTO ${prefix}Friends VALUES (3, 244);
+INSERT INTO ${prefix}Friends VALUES (3, 302);
+INSERT INTO ${prefix}Friends VALUES (3, 357);
+INSERT INTO ${prefix}Friends VALUES (3, 386);
+INSERT INTO ${prefix}Friends VALUES (3, 423);
+INSERT INTO ${prefix}Friends VALUES (3, 552);
+INSERT INTO ${prefix}Friends VALUES (3, 586);
+INSERT INTO ${prefix}Friends VALUES (3, 630);
+INSERT INTO ${prefix}Friends VALUES (3, 678);
+INSERT INTO ${prefix}Friends VALUES (3, 740);
+INSERT INTO ${prefix}Friends VALUES (4, 15);
+INSERT INTO ${prefix}Friends VALUES (4, 68);
+INSERT INTO ${prefix}Friends VALUES (4, 158);
+INSERT INTO ${prefix}Friends VALUES (4, 376);
+INSERT INTO ${prefix}Friends VALUES (4, 577);
+INSERT INTO ${prefix}Friends VALUES (4, 728);
+INSERT INTO ${prefix}Friends VALUES (5, 18);
+INSERT INTO ${prefix}Friends VALUES (5, 84);
+INSERT INTO ${prefix}Friends VALUES (5, 90);
+INSERT INTO ${prefix}Friends VALUES (5, 122);
+INSERT INTO ${prefix}Friends VALUES (5, 147);
+INSERT INTO ${prefix}Friends VALUES (5, 148);
+INSERT INTO ${prefix}Friends VALUES (5, 219);
+INSERT INTO ${prefix}Friends VALUES (5, 272);
+INSERT INTO ${prefix}Friends VALUES (5, 279);
+INSERT INTO ${prefix}Friends VALUES (5, 282);
+INSERT INTO ${prefix}Friends VALUES (5, 339);
+INSERT INTO ${prefix}Friends VALUES (5, 487);
+INSERT INTO ${prefix}Friends VALUES (5, 757);
+INSERT INTO ${prefix}Friends VALUES (6, 10);
+INSERT INTO ${prefix}Friends VALUES (6, 26);
+INSERT INTO ${prefix}Friends VALUES (6, 55);
+INSERT INTO ${prefix}Friends VALUES (6, 74);
+INSERT INTO ${prefix}Friends VALUES (6, 90);
+INSERT INTO ${prefix}Friends VALUES (6, 185);
+INSERT INTO ${prefix}Friends VALUES (6, 273);
+INSERT INTO ${prefix}Friends VALUES (6, 278);
+INSERT INTO ${prefix}Friends VALUES (6, 288);
+INSERT INTO ${prefix}Friends VALUES (6, 319);
+INSERT INTO ${prefix}Friends VALUES (6, 355);
+INSERT INTO ${prefix}Friends VALUES (6, 435);
+INSERT INTO ${prefix}Friends VALUES (6, 450);
+INSERT INTO ${prefix}Friends VALUES (6, 508);
+INSERT INTO ${prefix}Friends VALUES (6, 575);
+INSERT INTO ${prefix}Friends VALUES (6, 671);
+INSERT INTO ${prefix}Friends VALUES (6, 694);
+INSERT INTO ${prefix}Friends VALUES (7, 15);
+INSERT INTO ${prefix}Friends VALUES (7, 358);
+INSERT INTO ${prefix}Friends VALUES (7, 403);
+INSERT INTO ${prefix}Friends VALUES (7, 448);
+INSERT INTO ${prefix}Friends VALUES (7, 466);
+INSERT INTO ${prefix}Friends VALUES (7, 539);
+INSERT INTO ${prefix}Friends VALUES (7, 705);
+INSERT INTO ${prefix}Friends VALUES (7, 759);
+INSERT INTO ${prefix}Friends VALUES (8, 34);
+INSERT INTO ${prefix}Friends VALUES (8, 79);
+INSERT INTO ${prefix}Friends VALUES (8, 205);
+INSERT INTO ${prefix}Friends VALUES (8, 216);
+INSERT INTO ${prefix}Friends VALUES (8, 553);
+INSERT INTO ${prefix}Friends VALUES (8, 616);
+INSERT INTO ${prefix}Friends VALUES (8, 654);
+INSERT INTO ${prefix}Friends VALUES (8, 767);
+INSERT INTO ${prefix}Friends VALUES (8, 794);
+INSERT INTO ${prefix}Friends VALUES (9, 297);
+INSERT INTO ${prefix}Friends VALUES (9, 301);
+INSERT INTO ${prefix}Friends VALUES (9, 327);
+INSERT INTO ${prefix}Friends VALUES (9, 369);
+INSERT INTO ${prefix}Friends VALUES (9, 511);
+INSERT INTO ${prefix}Friends VALUES (9, 547);
+INSERT INTO ${prefix}Friends VALUES (9, 575);
+INSERT INTO ${prefix}Friends VALUES (9, 592);
+INSERT INTO ${prefix}Friends VALUES (9, 639);
+INSERT INTO ${prefix}Friends VALUES (9, 649);
+INSERT INTO ${prefix}Friends VALUES (9, 716);
+INSERT INTO ${prefix}Friends VALUES (9, 749);
+INSERT INTO ${prefix}Friends VALUES (10, 29);
+INSERT INTO ${prefix}Friends VALUES (10, 30);
+INSERT INTO ${prefix}Friends VALUES (10, 37);
+INSERT INTO ${prefix}Friends VALUES (10, 66);
+INSERT INTO ${prefix}Friends VALUES (10, 100);
+INSERT INTO ${prefix}Friends VALUES (10, 101);
+INSERT INTO ${prefix}Friends VALUES (10, 109);
+INSERT INTO ${prefix}Friends VALUES (10, 115);
+INSERT INTO ${prefix}Friends VALUES (10, 116);
+INSERT INTO ${prefix}Friends VALUES (10, 120);
+INSERT INTO ${prefix}Friends VALUES (10, 133);
+INSERT INTO ${prefix}Friends VALUES (10, 145);
+INSERT INTO ${prefix}Friends VALUES (10, 157);
+INSERT INTO ${prefix}Friends VALUES (10, 158);
+INSERT INTO ${prefix}Friends VALUES (10, 160);
+INSERT INTO ${prefix}Friends VALUES (10, 166);
+INSERT INTO ${prefix}Friends VALUES (10, 178);
+INSERT INTO ${prefix}Friends VALUES (10, 180);
+INSERT INTO ${prefix}Friends VALUES (10, 186);
+INSERT INTO ${prefix}Friends VALUES (10, 200);
+INSERT INTO ${prefix}Friends VALUES (10, 216);
+INSERT INTO ${prefix}Friends VALUES (10, 225);
+INSERT INTO ${prefix}Friends VALUES (10, 258);
+INSERT INTO ${prefix}Friends VALUES (10, 321);
+INSERT INTO ${prefix}Friends VALUES (10, 327);
+INSERT INTO ${prefix}Friends VALUES (10, 332);
+INSERT INTO ${prefix}Friends VALUES (10, 337);
+INSERT INTO ${prefix}Friends VALUES (10, 355);
+INSERT INTO ${prefix}Friends VALUES (10, 364);
+INSERT INTO ${prefix}Friends VALUES (10, 370);
+INSERT INTO ${prefix}Friends VALUES (10, 371);
+INSERT INTO ${prefix}Friends VALUES (10, 422);
+INSERT INTO ${prefix}Friends VALUES (10, 429);
+INSERT INTO ${prefix}Friends VALUES (10, 432);
+INSERT INTO ${prefix}Friends VALUES (10, 433);
+INSERT INTO ${prefix}Friends VALUES (10, 444);
+INSERT INTO ${prefix}Friends VALUES (10, 456);
+INSERT INTO ${prefix}Friends VALUES (10, 469);
+INSERT INTO ${prefix}Friends VALUES (10, 487);
+INSERT INTO ${prefix}Friends VALUES (10, 499);
+INSERT INTO ${prefix}Friends VALUES (10, 513);
+INSERT INTO ${prefix}Friends VALUES (10, 530);
+INSERT INTO ${prefix}Friends VALUES (10, 582);
+INSERT INTO ${prefix}Friends VALUES (10, 599);
+INSERT INTO ${prefix}Friends VALUES (10, 605);
+INSERT INTO ${prefix}Friends VALUES (10, 614);
+INSERT INTO ${prefix}Friends VALUES (10, 624);
+INSERT INTO ${prefix}Friends VALUES (10, 649);
+INSERT INTO ${prefix}Friends VALUES (10, 657);
+INSERT INTO ${prefix}Friends VALUES (10, 688);
+INSERT INTO ${prefix}Friends VALUES (10, 700);
+INSERT INTO ${prefix}Friends VALUES (10, 724);
+INSERT INTO ${prefix}Friends VALUES (10, 729);
+INSERT INTO ${prefix}Friends VALUES (10, 744);
+INSERT INTO ${prefix}Friends VALUES (10, 754);
+INSERT INTO ${prefix}Friends VALUES (10, 756);
+INSERT INTO ${prefix}Friends VALUES (10, 775);
+INSERT INTO ${prefix}Friends VALUES (10, 776);
+INSERT INTO ${prefix}Friends VALUES (10, 777);
+INSERT INTO ${prefix}Friends VALUES (11, 87);
+INSERT INTO ${prefix}Friends VALUES (11, 125);
+INSERT INTO ${prefix}Friends VALUES (11, 136);
+INSERT INTO ${prefix}Friends VALUES (11, 167);
+INSERT INTO ${prefix}Friends VALUES (11, 198);
+INSERT INTO ${prefix}Friends VALUES (11, 361);
+INSERT INTO ${prefix}Friends VALUES (11, 421);
+INSERT INTO ${prefix}Friends VALUES (11, 423);
+INSERT INTO ${prefix}Friends VALUES (11, 469);
+INSERT INTO ${prefix}Friends VALUES (11, 527);
+INSERT INTO ${prefix}Friends VALUES (11, 644);
+INSERT INTO ${prefix}Friends VALUES (11, 703);
+INSERT INTO ${prefix}Friends VALUES (11, 726);
+INSERT INTO ${prefix}Friends VALUES (12, 63);
+INSERT INTO ${prefix}Friends VALUES (12, 139);
+INSERT INTO ${prefix}Friends VALUES (12, 148);
+INSERT INTO ${prefix}Friends VALUES (12, 162);
+INSERT INTO ${prefix}Friends VALUES (12, 191);
+INSERT INTO ${prefix}Friends VALUES (12, 218);
+INSERT INTO ${prefix}Friends VALUES (12, 260);
+INSERT INTO ${prefix}Friends VALUES (12, 492);
+INSERT INTO ${prefix}Friends VALUES (12, 613);
+INSERT INTO ${prefix}Friends VALUES (12, 687);
+INSERT INTO ${prefix}Friends VALUES (12, 777);
+INSERT INTO ${prefix}Friends VALUES (12, 778);
+INSERT INTO ${prefix}Friends VALUES (13, 111);
+INSERT INTO ${prefix}Friends VALUES (13, 120);
+INSERT INTO ${prefix}Friends VALUES (13, 217);
+INSERT INTO ${prefix}Friends VALUES (13, 341);
+INSERT INTO ${prefix}Friends VALUES (13, 379);
+INSERT INTO ${prefix}Friends VALUES (13, 383);
+INSERT INTO ${prefix}Friends VALUES (13, 445);
+INSERT INTO ${prefix}Friends VALUES (13, 566);
+INSERT INTO ${prefix}Friends VALUES (13, 695);
+INSERT INTO ${prefix}Friends VALUES (13, 724);
+INSERT INTO ${prefix}Friends VALUES (14, 59);
+INSERT INTO ${prefix}Friends VALUES (14, 98);
+INSERT INTO ${prefix}Friends VALUES (14, 120);
+INSERT INTO ${prefix}Friends VALUES (14, 216);
+INSERT INTO ${prefix}Friends VALUES (14, 328);
+INSERT INTO ${prefix}Friends VALUES (14, 340);
+INSERT INTO ${prefix}Friends VALUES (14, 361);
+INSERT INTO ${prefix}Friends VALUES (14, 387);
+INSERT INTO ${prefix}Friends VALUES (14, 393);
+INSERT INTO ${prefix}Friends VALUES (14, 423);
+INSERT INTO ${prefix}Friends VALUES (14, 429);
+INSERT INTO ${prefix}Friends VALUES (14, 507);
+INSERT INTO ${prefix}Friends VALUES (14, 560);
+INSERT INTO ${prefix}Friends VALUES (14, 595);
+INSERT INTO ${prefix}Friends VALUES (14, 764);
+INSERT INTO ${prefix}Friends VALUES (14, 775);
+INSERT INTO ${prefix}Friends VALUES (14, 787);
+INSERT INTO ${prefix}Friends VALUES (14, 797);
+INSERT INTO ${prefix}Friends VALUES (15, 48);
+INSERT INTO ${prefix}Friends VALUES (15, 108);
+INSERT INTO ${prefix}Friends VALUES (15, 212);
+INSERT INTO ${prefix}Friends VALUES (15, 218);
+INSERT INTO ${prefix}Friends VALUES (15, 287);
+INSERT INTO ${prefix}Friends VALUES (15, 313);
+INSERT INTO ${prefix}Friends VALUES (15, 338);
+INSERT INTO ${prefix}Friends VALUES (15, 397);
+INSERT INTO ${prefix}Friends VALUES (15, 416);
+INSERT INTO ${prefix}Friends VALUES (15, 425);
+INSERT INTO ${prefix}Friends VALUES (15, 445);
+INSERT INTO ${prefix}Friends VALUES (15, 479);
+INSERT INTO ${prefix}Friends VALUES (15, 557);
+INSERT INTO ${prefix}Friends VALUES (15, 582);
+INSERT INTO ${prefix}Friends VALUES (15, 593);
+INSERT INTO ${prefix}Friends VALUES (15, 624);
+INSERT INTO ${prefix}Friends VALUES (15, 748);
+INSERT INTO ${prefix}Friends VALUES (15, 799);
+INSERT INTO ${prefix}Friends VALUES (16, 31);
+INSERT INTO ${prefix}Friends VALUES (16, 108);
+INSERT INTO ${prefix}Friends VALUES (16, 123);
+INSERT INTO ${prefix}Friends VALUES (16, 153);
+INSERT INTO ${prefix}Friends VALUES (16, 180);
+INSERT INTO ${prefix}Friends VALUES (16, 215);
+INSERT INTO ${prefix}Friends VALUES (16, 224);
+INSERT INTO ${prefix}Friends VALUES (16, 225);
+INSERT INTO ${prefix}Friends VALUES (16, 250);
+INSERT INTO ${prefix}Friends VALUES (16, 505);
+INSERT INTO ${prefix}Friends VALUES (16, 537);
+INSERT INTO ${prefix}Friends VALUES (16, 539);
+INSERT INTO ${prefix}Friends VALUES (16, 594);
+INSERT INTO ${prefix}Friends VALUES (16, 668);
+INSERT INTO ${prefix}Friends VALUES (16, 710);
+INSERT INTO ${prefix}Friends VALUES (16, 760);
+INSERT INTO ${prefix}Friends VALUES (17, 236);
+INSERT INTO ${prefix}Friends VALUES (17, 301);
+INSERT INTO ${prefix}Friends VALUES (17, 339);
+INSERT INTO ${prefix}Friends VALUES (17, 374);
+INSERT INTO ${prefix}Friends VALUES (17, 573);
+INSERT INTO ${prefix}Friends VALUES (18, 290);
+INSERT INTO ${prefix}Friends VALUES (18, 296);
+INSERT INTO ${prefix}Friends VALUES (18, 356);
+INSERT INTO ${prefix}Friends VALUES (18, 386);
+INSERT INTO ${prefix}Friends VALUES (18, 481);
+INSERT INTO ${prefix}Friends VALUES (18, 500);
+INSERT INTO ${prefix}Friends VALUES (18, 582);
+INSERT INTO ${prefix}Friends VALUES (18, 598);
+INSERT INTO ${prefix}Friends VALUES (18, 675);
+INSERT INTO ${prefix}Friends VALUES (18, 725);
+INSERT INTO ${prefix}Friends VALUES (18, 744);
+INSERT INTO ${prefix}Friends VALUES (18, 778);
+INSERT INTO ${prefix}Friends VALUES (19, 32);
+INSERT INTO ${prefix}Friends VALUES (19, 117);
+INSERT INTO ${prefix}Friends VALUES (19, 154);
+INSERT INTO ${prefix}Friends VALUES (19, 226);
+INSERT INTO ${prefix}Friends VALUES (19, 256);
+INSERT INTO ${prefix}Friends VALUES (19, 312);
+INSERT INTO ${prefix}Friends VALUES (19, 442);
+INSERT INTO ${prefix}Friends VALUES (19, 459);
+INSERT INTO ${prefix}Friends VALUES (19, 539);
+INSERT INTO ${prefix}Friends VALUES (19, 557);
+INSERT INTO ${prefix}Friends VALUES (19, 683);
+INSERT INTO ${prefix}Friends VALUES (19, 690);
+INSERT INTO ${prefix}Friends VALUES (19, 708);
+INSERT INTO ${prefix}Friends VALUES (19, 720);
+INSERT INTO ${prefix}Friends VALUES (19, 765);
+INSERT INTO ${prefix}Friends VALUES (20, 99);
+INSERT INTO ${prefix}Friends VALUES (20, 109);
+INSERT INTO ${prefix}Friends VALUES (20, 242);
+INSERT INTO ${prefix}Friends VALUES (20, 312);
+INSERT INTO ${prefix}Friends VALUES (20, 327);
+INSERT INTO ${prefix}Friends VALUES (20, 580);
+INSERT INTO ${prefix}Friends VALUES (20, 692);
+INSERT INTO ${prefix}Friends VALUES (20, 727);
+INSERT INTO ${prefix}Friends VALUES (21, 151);
+INSERT INTO ${prefix}Friends VALUES (21, 256);
+INSERT INTO ${prefix}Friends VALUES (21, 376);
+INSERT INTO ${prefix}Friends VALUES (21, 403);
+INSERT INTO ${prefix}Friends VALUES (21, 513);
+INSERT INTO ${prefix}Friends VALUES (21, 587);
+INSERT INTO ${prefix}Friends VALUES (21, 701);
+INSERT INTO ${prefix}Friends VALUES (21, 702);
+INSERT INTO ${prefix}Friends VALUES (21, 726);
+INSERT INTO ${prefix}Friends VALUES (22, 98);
+INSERT INTO ${prefix}Friends VALUES (22, 207);
+INSERT INTO ${prefix}Friends VALUES (22, 239);
+INSERT INTO ${prefix}Friends VALUES (22, 262);
+INSERT INTO ${prefix}Friends VALUES (22, 544);
+INSERT INTO ${prefix}Friends VALUES (22, 553);
+INSERT INTO ${prefix}Friends VALUES (22, 560);
+INSERT INTO ${prefix}Friends VALUES (22, 650);
+INSERT INTO ${prefix}Friends VALUES (23, 48);
+INSERT INTO ${prefix}Friends VALUES (23, 54);
+INSERT INTO ${prefix}Friends VALUES (23, 211);
+INSERT INTO ${prefix}Friends VALUES (23, 259);
+INSERT INTO ${prefix}Friends VALUES (23, 314);
+INSERT INTO ${prefix}Friends VALUES (23, 537);
+INSERT INTO ${prefix}Friends VALUES (23, 649);
+INSERT INTO ${prefix}Friends VALUES (23, 664);
+INSERT INTO ${prefix}Friends VALUES (24, 111);
+INSERT INTO ${prefix}Friends VALUES (24, 147);
+INSERT INTO ${prefix}Friends VALUES (24, 162);
+INSERT INTO ${prefix}Friends VALUES (24, 183);
+INSERT INTO ${prefix}Friends VALUES (24, 288);
+INSERT INTO ${prefix}Friends VALUES (24, 380);
+INSERT INTO ${prefix}Friends VALUES (24, 449);
+INSERT INTO ${prefix}Friends VALUES (24, 487);
+INSERT INTO ${prefix}Friends VALUES (24, 496);
+INSERT INTO ${prefix}Friends VALUES (24, 697);
+INSERT INTO ${prefix}Friends VALUES (24, 771);
+INSERT INTO ${prefix}Friends VALUES (25, 35);
+INSERT INTO ${prefix}Friends VALUES (25, 104);
+INSERT INTO ${prefix}Friends VALUES (25, 137);
+INSERT INTO ${prefix}Friends VALUES (25, 144);
+INSERT INTO ${prefix}Friends VALUES (25, 196);
+INSERT INTO ${prefix}Friends VALUES (25, 333);
+INSERT INTO ${prefix}Friends VALUES (25, 353);
+INSERT INTO ${prefix}Friends VALUES (25, 371);
+INSERT INTO ${prefix}Friends VALUES (25, 393);
+INSERT INTO ${prefix}Friends VALUES (25, 449);
+INSERT INTO ${prefix}Friends VALUES (25, 598);
+INSERT INTO ${prefix}Friends VALUES (25, 665);
+INSERT INTO ${prefix}Friends VALUES (25, 684);
+INSERT INTO ${prefix}Friends VALUES (25, 701);
+INSERT INTO ${prefix}Friends VALUES (25, 744);
+INSERT INTO ${prefix}Friends VALUES (25, 746);
+INSERT INTO ${prefix}Friends VALUES (25, 785);
+INSERT INTO ${prefix}Friends VALUES (26, 37);
+INSERT INTO ${prefix}Friends VALUES (26, 55);
+INSERT INTO ${prefix}Friends VALUES (26, 66);
+INSERT INTO ${prefix}Friends VALUES (26, 101);
+INSERT INTO ${prefix}Friends VALUES (26, 109);
+INSERT INTO ${prefix}Friends VALUES (26, 115);
+INSERT INTO ${prefix}Friends VALUES (26, 116);
+INSERT INTO ${prefix}Friends VALUES (26, 139);
+INSERT INTO ${prefix}Friends VALUES (26, 157);
+INSERT INTO ${prefix}Friends VALUES (26, 166);
+INSERT INTO ${prefix}Friends VALUES (26, 178);
+INSERT INTO ${prefix}Friends VALUES (26, 258);
+INSERT INTO ${prefix}Friends VALUES (26, 292);
+INSERT INTO ${prefix}Friends VALUES (26, 321);
+INSERT INTO ${prefix}Friends VALUES (26, 324);
+INSERT INTO ${prefix}Friends VALUES (26, 327);
+INSERT INTO ${prefix}Friends VALUES (26, 328);
+INSERT INTO ${prefix}Friends VALUES (26, 355);
+INSERT INTO ${prefix}Friends VALUES (26, 370);
+INSERT INTO ${prefix}Friends VALUES (26, 429);
+INSERT INTO ${prefix}Friends VALUES (26, 430);
+INSERT INTO ${prefix}Friends VALUES (26, 432);
+INSERT INTO ${prefix}Friends VALUES (26, 433);
+INSERT INTO ${prefix}Friends VALUES (26, 444);
+INSERT INTO ${prefix}Friends VALUES (26, 487);
+INSERT INTO ${prefix}Friends VALUES (26, 499);
+INSERT INTO ${prefix}Friends VALUES (26, 530);
+INSERT INTO ${prefix}Friends VALUES (26, 599);
+INSERT INTO ${prefix}Friends VALUES (26, 604);
+INSERT INTO ${prefix}Friends VALUES (26, 624);
+INSERT INTO ${prefix}Friends VALUES (26, 649);
+INSERT INTO ${prefix}Friends VALUES (26, 657);
+INSERT INTO ${prefix}Friends VALUES (26, 666);
+INSERT INTO ${prefix}Friends VALUES (26, 681);
+INSERT INTO ${prefix}Friends VALUES (26, 724);
+INSERT INTO ${prefix}Friends VALUES (26, 729);
+INSERT INTO ${prefix}Friends VALUES (26, 744);
+INSERT INTO ${prefix}Friends VALUES (26, 756);
+INSERT INTO ${prefix}Friends VALUES (26, 775);
+INSERT INTO ${prefix}Friends VALUES (26, 776);
+INSERT INTO ${prefix}Friends VALUES (26, 777);
+INSERT INTO ${prefix}Friends VALUES (26, 786);
+INSERT INTO ${prefix}Friends VALUES (27, 33);
+INSERT INTO ${prefix}Friends VALUES (27, 46);
+INSERT INTO ${prefix}Friends VALUES (27, 116);
+INSERT INTO ${prefix}Friends VALUES (27, 155);
+INSERT INTO ${prefix}Friends VALUES (27, 191);
+INSERT INTO ${prefix}Friends VALUES (27, 242);
+INSERT INTO ${prefix}Friends VALUES (27, 243);
+INSERT INTO ${prefix}Friends VALUES (27, 245);
+INSERT INTO ${prefix}Friends VALUES (27, 426);
+INSERT INTO ${prefix}Friends VALUES (27, 475);
+INSERT INTO ${prefix}Friends VALUES (27, 480);
+INSERT INTO ${prefix}Friends VALUES (27, 545);
+INSERT INTO ${prefix}Friends VALUES (27, 727);
+INSERT INTO ${prefix}Friends VALUES (27, 774);
+INSERT INTO ${prefix}Friends VALUES (28, 32);
+INSERT INTO ${prefix}Friends VALUES (28, 45);
+INSERT INTO ${prefix}Friends VALUES (28, 211);
+INSERT INTO ${prefix}Friends VALUES (28, 305);
+INSERT INTO ${prefix}Friends VALUES (28, 380);
+INSERT INTO ${prefix}Friends VALUES (28, 594);
+INSERT INTO ${prefix}Friends VALUES (28, 611);
+INSERT INTO ${prefix}Friends VALUES (28, 697);
+INSERT INTO ${prefix}Friends VALUES (28, 753);
+INSERT INTO ${prefix}Friends VALUES (29, 87);
+INSERT INTO ${prefix}Friends VALUES (29, 94);
+INSERT INTO ${prefix}Friends VALUES (29, 162);
+INSERT INTO ${prefix}Friends VALUES (29, 213);
+INSERT INTO ${prefix}Friends VALUES (29, 306);
+INSERT INTO ${prefix}Friends VALUES (29, 337);
+INSERT INTO ${prefix}Friends VALUES (29, 433);
+INSERT INTO ${prefix}Friends VALUES (29, 566);
+INSERT INTO ${prefix}Friends VALUES (29, 702);
+INSERT INTO ${prefix}Friends VALUES (29, 707);
+INSERT INTO ${prefix}Friends VALUES (29, 724);
+INSERT INTO ${prefix}Friends VALUES (29, 740);
+INSERT INTO ${prefix}Friends VALUES (29, 761);
+INSERT INTO ${prefix}Friends VALUES (30, 69);
+INSERT INTO ${prefix}Friends VALUES (30, 258);
+INSERT INTO ${prefix}Friends VALUES (30, 346);
+INSERT INTO ${prefix}Friends VALUES (30, 408);
+INSERT INTO ${prefix}Friends VALUES (30, 566);
+INSERT INTO ${prefix}Friends VALUES (30, 600);
+INSERT INTO ${prefix}Friends VALUES (30, 610);
+INSERT INTO ${prefix}Friends VALUES (30, 619);
+INSERT INTO ${prefix}Friends VALUES (30, 734);
+INSERT INTO ${prefix}Friends VALUES (30, 795);
+INSERT INTO ${prefix}Friends VALUES (31, 203);
+INSERT INTO ${prefix}Friends VALUES (31, 305);
+INSERT INTO ${prefix}Friends VALUES (31, 456);
+INSERT INTO ${prefix}Friends VALUES (31, 567);
+INSERT INTO ${prefix}Friends VALUES (31, 653);
+INSERT INTO ${prefix}Friends VALUES (31, 710);
+INSERT INTO ${prefix}Friends VALUES (31, 723);
+INSERT INTO ${prefix}Friends VALUES (31, 745);
+INSERT INTO ${prefix}Friends VALUES (31, 794);
+INSERT INTO ${prefix}Friends VALUES (32, 63);
+INSERT INTO ${prefix}Friends VALUES (32, 145);
+INSERT INTO ${prefix}Friends VALUES (32, 188);
+INSERT INTO ${prefix}Friends VALUES (32, 504);
+INSERT INTO ${prefix}Friends VALUES (32, 512);
+INSERT INTO ${prefix}Friends VALUES (32, 588);
+INSERT INTO ${prefix}Friends VALUES (32, 589);
+INSERT INTO ${prefix}Friends VALUES (32, 666);
+INSERT INTO ${prefix}Friends VALUES (32, 750);
+INSERT INTO ${prefix}Friends VALUES (32, 783);
+INSERT INTO ${prefix}Friends VALUES (32, 786);
+INSERT INTO ${prefix}Friends VALUES (33, 38);
+INSERT INTO ${prefix}Friends VALUES (33, 50);
+INSERT INTO ${prefix}Friends VALUES (33, 88);
+INSERT INTO ${prefix}Friends VALUES (33, 720);
+INSERT INTO ${prefix}Friends VALUES (33, 731);
+INSERT INTO ${prefix}Friends VALUES (34, 87);
+INSERT INTO ${prefix}Friends VALUES (34, 140);
+INSERT INTO ${prefix}Friends VALUES (34, 191);
+INSERT INTO ${prefix}Friends VALUES (34, 210);
+INSERT INTO ${prefix}Friends VALUES (34, 215);
+INSERT INTO ${prefix}Friends VALUES (34, 223);
+INSERT INTO ${prefix}Friends VALUES (34, 260);
+INSERT INTO ${prefix}Friends VALUES (34, 397);
+INSERT INTO ${prefix}Friends VALUES (34, 507);
+INSERT INTO ${prefix}Friends VALUES (34, 529);
+INSERT INTO ${prefix}Friends VALUES (34, 542);
+INSERT INTO ${prefix}Friends VALUES (34, 570);
+INSERT INTO ${prefix}Friends VALUES (34, 608);
+INSERT INTO ${prefix}Friends VALUES (34, 609);
+INSERT INTO ${prefix}Friends VALUES (35, 53);
+INSERT INTO ${prefix}Friends VALUES (35, 163);
+INSERT INTO ${prefix}Friends VALUES (35, 169);
+INSERT INTO ${prefix}Friends VALUES (35, 385);
+INSERT INTO ${prefix}Friends VALUES (35, 410);
+INSERT INTO ${prefix}Friends VALUES (35, 435);
+INSERT INTO ${prefix}Friends VALUES (35, 520);
+INSERT INTO ${prefix}Friends VALUES (35, 534);
+INSERT INTO ${prefix}Friends VALUES (35, 547);
+INSERT INTO ${prefix}Friends VALUES (35, 627);
+INSERT INTO ${prefix}Friends VALUES (35, 714);
+INSERT INTO ${prefix}Friends VALUES (35, 786);
+INSERT INTO ${prefix}Friends VALUES (36, 181);
+INSERT INTO ${prefix}Friends VALUES (36, 348);
+INSERT INTO ${prefix}Friends VALUES (36, 511);
+INSERT INTO ${prefix}Friends VALUES (36, 554);
+INSERT INTO ${prefix}Friends VALUES (36, 608);
+INSERT INTO ${prefix}Friends VALUES (36, 634);
+INSERT INTO ${prefix}Friends VALUES (36, 724);
+INSERT INTO ${prefix}Friends VALUES (36, 738);
+INSERT INTO ${prefix}Friends VALUES (37, 159);
+INSERT INTO ${prefix}Friends VALUES (37, 256);
+INSERT INTO ${prefix}Friends VALUES (37, 382);
+INSERT INTO ${prefix}Friends VALUES (37, 509);
+INSERT INTO ${prefix}Friends VALUES (37, 545);
+INSERT INTO ${prefix}Friends VALUES (37, 585);
+INSERT INTO ${prefix}Friends VALUES (37, 671);
+INSERT INTO ${prefix}Friends VALUES (37, 692);
+INSERT INTO ${prefix}Friends VALUES (37, 716);
+INSERT INTO ${prefix}Friends VALUES (37, 744);
+INSERT INTO ${prefix}Friends VALUES (38, 48);
+INSERT INTO ${prefix}Friends VALUES (38, 271);
+INSERT INTO ${prefix}Friends VALUES (38, 279);
+INSERT INTO ${prefix}Friends VALUES (38, 290);
+INSERT INTO ${prefix}Friends VALUES (38, 301);
+INSERT INTO ${prefix}Friends VALUES (38, 388);
+INSERT INTO ${prefix}Friends VALUES (38, 571);
+INSERT INTO ${prefix}Friends VALUES (38, 615);
+INSERT INTO ${prefix}Friends VALUES (38, 669);
+INSERT INTO ${prefix}Friends VALUES (38, 729);
+INSERT INTO ${prefix}Friends VALUES (38, 747);
+INSERT INTO ${prefix}Friends VALUES (39, 47);
+INSERT INTO ${prefix}Friends VALUES (39, 315);
+INSERT INTO ${prefix}Friends VALUES (39, 523);
+INSERT INTO ${prefix}Friends VALUES (39, 526);
+INSERT INTO ${prefix}Friends VALUES (39, 539);
+INSERT INTO ${prefix}Friends VALUES (39, 563);
+INSERT INTO ${prefix}Friends VALUES (39, 636);
+INSERT INTO ${prefix}Friends VALUES (40, 349);
+INSERT INTO ${prefix}Friends VALUES (40, 381);
+INSERT INTO ${prefix}Friends VALUES (40, 421);
+INSERT INTO ${prefix}Friends VALUES (40, 544);
+INSERT INTO ${prefix}Friends VALUES (40, 607);
+INSERT INTO ${prefix}Friends VALUES (40, 668);
+INSERT INTO ${prefix}Friends VALUES (40, 719);
+INSERT INTO ${prefix}Friends VALUES (41, 60);
+INSERT INTO ${prefix}Friends VALUES (41, 71);
+INSERT INTO ${prefix}Friends VALUES (41, 130);
+INSERT INTO ${prefix}Friends VALUES (41, 159);
+INSERT INTO ${prefix}Friends VALUES (41, 220);
+INSERT INTO ${prefix}Friends VALUES (41, 449);
+INSERT INTO ${prefix}Friends VALUES (41, 625);
+INSERT INTO ${prefix}Friends VALUES (42, 58);
+INSERT INTO ${prefix}Friends VALUES (42, 186);
+INSERT INTO ${prefix}Friends VALUES (42, 195);
+INSERT INTO ${prefix}Friends VALUES (42, 349);
+INSERT INTO ${prefix}Friends VALUES (42, 363);
+INSERT INTO ${prefix}Friends VALUES (42, 397);
+INSERT INTO ${prefix}Friends VALUES (42, 404);
+INSERT INTO ${prefix}Friends VALUES (42, 580);
+INSERT INTO ${prefix}Friends VALUES (42, 658);
+INSERT INTO ${prefix}Friends VALUES (42, 669);
+INSERT INTO ${prefix}Friends VALUES (42, 679);
+INSERT INTO ${prefix}Friends VALUES (42, 767);
+INSERT INTO ${prefix}Friends VALUES (42, 785);
+INSERT INTO ${prefix}Friends VALUES (43, 75);
+INSERT INTO ${prefix}Friends VALUES (43, 257);
+INSERT INTO ${prefix}Friends VALUES (43, 357);
+INSERT INTO ${prefix}Friends VALUES (43, 378);
+INSERT INTO ${prefix}Friends VALUES (43, 419);
+INSERT INTO ${prefix}Friends VALUES (43, 480);
+INSERT INTO ${prefix}Friends VALUES (43, 595);
+INSERT INTO ${prefix}Friends VALUES (43, 609);
+INSERT INTO ${prefix}Friends VALUES (43, 610);
+INSERT INTO ${prefix}Friends VALUES (44, 51);
+INSERT INTO ${prefix}Friends VALUES (44, 81);
+INSERT INTO ${prefix}Friends VALUES (44, 162);
+INSERT INTO ${prefix}Friends VALUES (44, 181);
+INSERT INTO ${prefix}Friends VALUES (44, 256);
+INSERT INTO ${prefix}Friends VALUES (44, 257);
+INSERT INTO ${prefix}Friends VALUES (44, 335);
+INSERT INTO ${prefix}Friends VALUES (44, 516);
+INSERT INTO ${prefix}Friends VALUES (44, 535);
+INSERT INTO ${prefix}Friends VALUES (44, 566);
+INSERT INTO ${prefix}Friends VALUES (44, 568);
+INSERT INTO ${prefix}Friends VALUES (44, 641);
+INSERT INTO ${prefix}Friends VALUES (44, 724);
+INSERT INTO ${prefix}Friends VALUES (45, 71);
+INSERT INTO ${prefix}Friends VALUES (45, 96);
+INSERT INTO ${prefix}Friends VALUES (45, 130);
+INSERT INTO ${prefix}Friends VALUES (45, 152);
+INSERT INTO ${prefix}Friends VALUES (45, 177);
+INSERT INTO ${prefix}Friends VALUES (45, 183);
+INSERT INTO ${prefix}Friends VALUES (45, 204);
+INSERT INTO ${prefix}Friends VALUES (45, 216);
+INSERT INTO ${prefix}Friends VALUES (45, 257);
+INSERT INTO ${prefix}Friends VALUES (45, 303);
+INSERT INTO ${prefix}Friends VALUES (45, 456);
+INSERT INTO ${prefix}Friends VALUES (45, 495);
+INSERT INTO ${prefix}Friends VALUES (45, 657);
+INSERT INTO ${prefix}Friends VALUES (45, 665);
+INSERT INTO ${prefix}Friends VALUES (45, 689);
+INSERT INTO ${prefix}Friends VALUES (46, 52);
+INSERT INTO ${prefix}Friends VALUES (46, 290);
+INSERT INTO ${prefix}Friends VALUES (46, 409);
+INSERT INTO ${prefix}Friends VALUES (46, 514);
+INSERT INTO ${prefix}Friends VALUES (46, 556);
+INSERT INTO ${prefix}Friends VALUES (46, 557);
+INSERT INTO ${prefix}Friends VALUES (46, 711);
+INSERT INTO ${prefix}Friends VALUES (46, 717);
+INSERT INTO ${prefix}Friends VALUES (46, 752);
+INSERT INTO ${prefix}Friends VALUES (47, 179);
+INSERT INTO ${prefix}Friends VALUES (47, 392);
+INSERT INTO ${prefix}Friends VALUES (48, 292);
+INSERT INTO ${prefix}Friends VALUES (48, 354);
+INSERT INTO ${prefix}Friends VALUES (48, 365);
+INSERT INTO ${prefix}Friends VALUES (48, 500);
+INSERT INTO ${prefix}Friends VALUES (48, 529);
+INSERT INTO ${prefix}Friends VALUES (48, 755);
+INSERT INTO ${prefix}Friends VALUES (49, 228);
+INSERT INTO ${prefix}Friends VALUES (49, 293);
+INSERT INTO ${prefix}Friends VALUES (49, 391);
+INSERT INTO ${prefix}Friends VALUES (49, 572);
+INSERT INTO ${prefix}Friends VALUES (49, 657);
+INSERT INTO ${prefix}Friends VALUES (49, 668);
+INSERT INTO ${prefix}Friends VALUES (49, 692);
+INSERT INTO ${prefix}Friends VALUES (49, 728);
+INSERT INTO ${prefix}Friends VALUES (49, 767);
+INSERT INTO ${prefix}Friends VALUES (50, 51);
+INSERT INTO ${prefix}Friends VALUES (50, 143);
+INSERT INTO ${prefix}Friends VALUES (50, 243);
+INSERT INTO ${prefix}Friends VALUES (50, 469);
+INSERT INTO ${prefix}Friends VALUES (50, 493);
+INSERT INTO ${prefix}Friends VALUES (50, 536);
+INSERT INTO ${prefix}Friends VALUES (50, 702);
+INSERT INTO ${prefix}Friends VALUES (51, 126);
+INSERT INTO ${prefix}Friends VALUES (51, 153);
+INSERT INTO ${prefix}Friends VALUES (51, 159);
+INSERT INTO ${prefix}Friends VALUES (51, 310);
+INSERT INTO ${prefix}Friends VALUES (51, 312);
+INSERT INTO ${prefix}Friends VALUES (51, 387);
+INSERT INTO ${prefix}Friends VALUES (51, 448);
+INSERT INTO ${prefix}Friends VALUES (51, 469);
+INSERT INTO ${prefix}Friends VALUES (51, 525);
+INSERT INTO ${prefix}Friends VALUES (51, 537);
+INSERT INTO ${prefix}Friends VALUES (51, 540);
+INSERT INTO ${prefix}Friends VALUES (51, 547);
+INSERT INTO ${prefix}Friends VALUES (51, 569);
+INSERT INTO ${prefix}Friends VALUES (51, 694);
+INSERT INTO ${prefix}Friends VALUES (51, 702);
+INSERT INTO ${prefix}Friends VALUES (52, 127);
+INSERT INTO ${prefix}Friends VALUES (52, 132);
+INSERT INTO ${prefix}Friends VALUES (52, 167);
+INSERT INTO ${prefix}Friends VALUES (52, 273);
+INSERT INTO ${prefix}Friends VALUES (52, 337);
+INSERT INTO ${prefix}Friends VALUES (52, 464);
+INSERT INTO ${prefix}Friends VALUES (52, 566);
+INSERT INTO ${prefix}Friends VALUES (52, 572);
+INSERT INTO ${prefix}Friends VALUES (52, 603);
+INSERT INTO ${prefix}Friends VALUES (52, 717);
+INSERT INTO ${prefix}Friends VALUES (53, 110);
+INSERT INTO ${prefix}Friends VALUES (53, 156);
+INSERT INTO ${prefix}Friends VALUES (53, 157);
+INSERT INTO ${prefix}Friends VALUES (53, 297);
+INSERT INTO ${prefix}Friends VALUES (53, 304);
+INSERT INTO ${prefix}Friends VALUES (53, 493);
+INSERT INTO ${prefix}Friends VALUES (53, 540);
+INSERT INTO ${prefix}Friends VALUES (53, 648);
+INSERT INTO ${prefix}Friends VALUES (53, 666);
+INSERT INTO ${prefix}Friends VALUES (53, 737);
+INSERT INTO ${prefix}Friends VALUES (53, 765);
+INSERT INTO ${prefix}Friends VALUES (53, 775);
+INSERT INTO ${prefix}Friends VALUES (54, 79);
+INSERT INTO ${prefix}Friends VALUES (54, 111);
+INSERT INTO ${prefix}Friends VALUES (54, 170);
+INSERT INTO ${prefix}Friends VALUES (54, 246);
+INSERT INTO ${prefix}Friends VALUES (54, 294);
+INSERT INTO ${prefix}Friends VALUES (54, 354);
+INSERT INTO ${prefix}Friends VALUES (54, 380);
+INSERT INTO ${prefix}Friends VALUES (54, 491);
+INSERT INTO ${prefix}Friends VALUES (54, 571);
+INSERT INTO ${prefix}Friends VALUES (54, 682);
+INSERT INTO ${prefix}Friends VALUES (55, 79);
+INSERT INTO ${prefix}Friends VALUES (55, 117);
+INSERT INTO ${prefix}Friends VALUES (55, 212);
+INSERT INTO ${prefix}Friends VALUES (55, 222);
+INSERT INTO ${prefix}Friends VALUES (55, 627);
+INSERT INTO ${prefix}Friends VALUES (55, 705);
+INSERT INTO ${prefix}Friends VALUES (55, 714);
+INSERT INTO ${prefix}Friends VALUES (55, 762);
+INSERT INTO ${prefix}Friends VALUES (55, 768);
+INSERT INTO ${prefix}Friends VALUES (56, 140);
+INSERT INTO ${prefix}Friends VALUES (56, 168);
+INSERT INTO ${prefix}Friends VALUES (56, 185);
+INSERT INTO ${prefix}Friends VALUES (56, 337);
+INSERT INTO ${prefix}Friends VALUES (56, 375);
+INSERT INTO ${prefix}Friends VALUES (56, 382);
+INSERT INTO ${prefix}Friends VALUES (56, 399);
+INSERT INTO ${prefix}Friends VALUES (56, 570);
+INSERT INTO ${prefix}Friends VALUES (56, 640);
+INSERT INTO ${prefix}Friends VALUES (56, 715);
+INSERT INTO ${prefix}Friends VALUES (56, 756);
+INSERT INTO ${prefix}Friends VALUES (57, 140);
+INSERT INTO ${prefix}Friends VALUES (57, 160);
+INSERT INTO ${prefix}Friends VALUES (57, 205);
+INSERT INTO ${prefix}Friends VALUES (57, 240);
+INSERT INTO ${prefix}Friends VALUES (57, 276);
+INSERT INTO ${prefix}Friends VALUES (57, 304);
+INSERT INTO ${prefix}Friends VALUES (57, 347);
+INSERT INTO ${prefix}Friends VALUES (57, 422);
+INSERT INTO ${prefix}Friends VALUES (57, 424);
+INSERT INTO ${prefix}Friends VALUES (57, 440);
+INSERT INTO ${prefix}Friends VALUES (57, 528);
+INSERT INTO ${prefix}Friends VALUES (57, 654);
+INSERT INTO ${prefix}Friends VALUES (57, 687);
+INSERT INTO ${prefix}Friends VALUES (57, 701);
+INSERT INTO ${prefix}Friends VALUES (58, 190);
+INSERT INTO ${prefix}Friends VALUES (58, 234);
+INSERT INTO ${prefix}Friends VALUES (58, 298);
+INSERT INTO ${prefix}Friends VALUES (58, 311);
+INSERT INTO ${prefix}Friends VALUES (58, 373);
+INSERT INTO ${prefix}Friends VALUES (58, 470);
+INSERT INTO ${prefix}Friends VALUES (58, 567);
+INSERT INTO ${prefix}Friends VALUES (58, 604);
+INSERT INTO ${prefix}Friends VALUES (58, 624);
+INSERT INTO ${prefix}Friends VALUES (58, 754);
+INSERT INTO ${prefix}Friends VALUES (59, 144);
+INSERT INTO ${prefix}Friends VALUES (59, 328);
+INSERT INTO ${prefix}Friends VALUES (59, 371);
+INSERT INTO ${prefix}Friends VALUES (59, 460);
+INSERT INTO ${prefix}Friends VALUES (59, 535);
+INSERT INTO ${prefix}Friends VALUES (59, 566);
+INSERT INTO ${prefix}Friends VALUES (59, 660);
+INSERT INTO ${prefix}Friends VALUES (59, 724);
+INSERT INTO ${prefix}Friends VALUES (60, 529);
+INSERT INTO ${prefix}Friends VALUES (60, 532);
+INSERT INTO ${prefix}Friends VALUES (60, 597);
+INSERT INTO ${prefix}Friends VALUES (60, 617);
+INSERT INTO ${prefix}Friends VALUES (60, 687);
+INSERT INTO ${prefix}Friends VALUES (60, 690);
+INSERT INTO ${prefix}Friends VALUES (61, 199);
+INSERT INTO ${prefix}Friends VALUES (61, 271);
+INSERT INTO ${prefix}Friends VALUES (61, 441);
+INSERT INTO ${prefix}Friends VALUES (61, 465);
+INSERT INTO ${prefix}Friends VALUES (61, 468);
+INSERT INTO ${prefix}Friends VALUES (61, 490);
+INSERT INTO ${prefix}Friends VALUES (61, 496);
+INSERT INTO ${prefix}Friends VALUES (61, 676);
+INSERT INTO ${prefix}Friends VALUES (61, 759);
+INSERT INTO ${prefix}Friends VALUES (61, 788);
+INSERT INTO ${prefix}Friends VALUES (62, 356);
+INSERT INTO ${prefix}Friends VALUES (62, 505);
+INSERT INTO ${prefix}Friends VALUES (62, 514);
+INSERT INTO ${prefix}Friends VALUES (62, 560);
+INSERT INTO ${prefix}Friends VALUES (62, 769);
+INSERT INTO ${prefix}Friends VALUES (63, 134);
+INSERT INTO ${prefix}Friends VALUES (63, 139);
+INSERT INTO ${prefix}Friends VALUES (63, 159);
+INSERT INTO ${prefix}Friends VALUES (63, 218);
+INSERT INTO ${prefix}Friends VALUES (63, 221);
+INSERT INTO ${prefix}Friends VALUES (63, 415);
+INSERT INTO ${prefix}Friends VALUES (63, 642);
+INSERT INTO ${prefix}Friends VALUES (63, 670);
+INSERT INTO ${prefix}Friends VALUES (63, 758);
+INSERT INTO ${prefix}Friends VALUES (63, 761);
+INSERT INTO ${prefix}Friends VALUES (64, 173);
+INSERT INTO ${prefix}Friends VALUES (64, 229);
+INSERT INTO ${prefix}Friends VALUES (64, 304);
+INSERT INTO ${prefix}Friends VALUES (64, 380);
+INSERT INTO ${prefix}Friends VALUES (64, 490);
+INSERT INTO ${prefix}Friends VALUES (65, 192);
+INSERT INTO ${prefix}Friends VALUES (65, 637);
+INSERT INTO ${prefix}Friends VALUES (65, 644);
+INSERT INTO ${prefix}Friends VALUES (65, 732);
+INSERT INTO ${prefix}Friends VALUES (66, 138);
+INSERT INTO ${prefix}Friends VALUES (66, 246);
+INSERT INTO ${prefix}Friends VALUES (66, 310);
+INSERT INTO ${prefix}Friends VALUES (66, 475);
+INSERT INTO ${prefix}Friends VALUES (66, 507);
+INSERT INTO ${prefix}Friends VALUES (66, 560);
+INSERT INTO ${prefix}Friends VALUES (66, 566);
+INSERT INTO ${prefix}Friends VALUES (67, 137);
+INSERT INTO ${prefix}Friends VALUES (67, 145);
+INSERT INTO ${prefix}Friends VALUES (67, 293);
+INSERT INTO ${prefix}Friends VALUES (67, 313);
+INSERT INTO ${prefix}Friends VALUES (67, 354);
+INSERT INTO ${prefix}Friends VALUES (67, 446);
+INSERT INTO ${prefix}Friends VALUES (67, 503);
+INSERT INTO ${prefix}Friends VALUES (67, 686);
+INSERT INTO ${prefix}Friends VALUES (67, 688);
+INSERT INTO ${prefix}Friends VALUES (67, 721);
+INSERT INTO ${prefix}Friends VALUES (67, 798);
+INSERT INTO ${prefix}Friends VALUES (68, 103);
+INSERT INTO ${prefix}Friends VALUES (68, 106);
+INSERT INTO ${prefix}Friends VALUES (68, 509);
+INSERT INTO ${prefix}Friends VALUES (68, 583);
+INSERT INTO ${prefix}Friends VALUES (68, 658);
+INSERT INTO ${prefix}Friends VALUES (68, 660);
+INSERT INTO ${prefix}Friends VALUES (68, 673);
+INSERT INTO ${prefix}Friends VALUES (69, 84);
+INSERT INTO ${prefix}Friends VALUES (69, 168);
+INSERT INTO ${prefix}Friends VALUES (69, 238);
+INSERT INTO ${prefix}Friends VALUES (69, 258);
+INSERT INTO ${prefix}Friends VALUES (69, 283);
+INSERT INTO ${prefix}Friends VALUES (69, 317);
+INSERT INTO ${prefix}Friends VALUES (69, 360);
+INSERT INTO ${prefix}Friends VALUES (69, 399);
+INSERT INTO ${prefix}Friends VALUES (69, 500);
+INSERT INTO ${prefix}Friends VALUES (69, 640);
+INSERT INTO ${prefix}Friends VALUES (69, 794);
+INSERT INTO ${prefix}Friends VALUES (70, 86);
+INSERT INTO ${prefix}Friends VALUES (70, 171);
+INSERT INTO ${prefix}Friends VALUES (70, 241);
+INSERT INTO ${prefix}Friends VALUES (70, 249);
+INSERT INTO ${prefix}Friends VALUES (70, 268);
+INSERT INTO ${prefix}Friends VALUES (70, 313);
+INSERT INTO ${prefix}Friends VALUES (70, 373);
+INSERT INTO ${prefix}Friends VALUES (70, 396);
+INSERT INTO ${prefix}Friends VALUES (70, 406);
+INSERT INTO ${prefix}Friends VALUES (70, 407);
+INSERT INTO ${prefix}Friends VALUES (70, 423);
+INSERT INTO ${prefix}Friends VALUES (70, 444);
+INSERT INTO ${prefix}Friends VALUES (70, 591);
+INSERT INTO ${prefix}Friends VALUES (70, 691);
+INSERT INTO ${prefix}Friends VALUES (71, 98);
+INSERT INTO ${prefix}Friends VALUES (71, 118);
+INSERT INTO ${prefix}Friends VALUES (71, 259);
+INSERT INTO ${prefix}Friends VALUES (71, 376);
+INSERT INTO ${prefix}Friends VALUES (71, 385);
+INSERT INTO ${prefix}Friends VALUES (71, 406);
+INSERT INTO ${prefix}Friends VALUES (71, 421);
+INSERT INTO ${prefix}Friends VALUES (71, 607);
+INSERT INTO ${prefix}Friends VALUES (71, 676);
+INSERT INTO ${prefix}Friends VALUES (71, 728);
+INSERT INTO ${prefix}Friends VALUES (71, 746);
+INSERT INTO ${prefix}Friends VALUES (71, 752);
+INSERT INTO ${prefix}Friends VALUES (71, 766);
+INSERT INTO ${prefix}Friends VALUES (71, 773);
+INSERT INTO ${prefix}Friends VALUES (72, 131);
+INSERT INTO ${prefix}Friends VALUES (72, 140);
+INSERT INTO ${prefix}Friends VALUES (72, 149);
+INSERT INTO ${prefix}Friends VALUES (72, 154);
+INSERT INTO ${prefix}Friends VALUES (72, 232);
+INSERT INTO ${prefix}Friends VALUES (72, 247);
+INSERT INTO ${prefix}Friends VALUES (72, 385);
+INSERT INTO ${prefix}Friends VALUES (72, 388);
+INSERT INTO ${prefix}Friends VALUES (72, 389);
+INSERT INTO ${prefix}Friends VALUES (72, 406);
+INSERT INTO ${prefix}Friends VALUES (72, 464);
+INSERT INTO ${prefix}Friends VALUES (72, 467);
+INSERT INTO ${prefix}Friends VALUES (72, 470);
+INSERT INTO ${prefix}Friends VALUES (72, 601);
+INSERT INTO ${prefix}Friends VALUES (72, 638);
+INSERT INTO ${prefix}Friends VALUES (72, 660);
+INSERT INTO ${prefix}Friends VALUES (72, 746);
+INSERT INTO ${prefix}Friends VALUES (73, 86);
+INSERT INTO ${prefix}Friends VALUES (73, 237);
+INSERT INTO ${prefix}Friends VALUES (73, 487);
+INSERT INTO ${prefix}Friends VALUES (73, 574);
+INSERT INTO ${prefix}Friends VALUES (73, 780);
+INSERT INTO ${prefix}Friends VALUES (74, 153);
+INSERT INTO ${prefix}Friends VALUES (74, 183);
+INSERT INTO ${prefix}Friends VALUES (74, 211);
+INSERT INTO ${prefix}Friends VALUES (74, 315);
+INSERT INTO ${prefix}Friends VALUES (74, 414);
+INSERT INTO ${prefix}Friends VALUES (74, 566);
+INSERT INTO ${prefix}Friends VALUES (74, 724);
+INSERT INTO ${prefix}Friends VALUES (74, 785);
+INSERT INTO ${prefix}Friends VALUES (75, 147);
+INSERT INTO ${prefix}Friends VALUES (75, 279);
+INSERT INTO ${prefix}Friends VALUES (75, 316);
+INSERT INTO ${prefix}Friends VALUES (75, 342);
+INSERT INTO ${prefix}Friends VALUES (75, 430);
+INSERT INTO ${prefix}Friends VALUES (75, 437);
+INSERT INTO ${prefix}Friends VALUES (75, 452);
+INSERT INTO ${prefix}Friends VALUES (75, 487);
+INSERT INTO ${prefix}Friends VALUES (75, 520);
+INSERT INTO ${prefix}Friends VALUES (75, 608);
+INSERT INTO ${prefix}Friends VALUES (75, 648);
+INSERT INTO ${prefix}Friends VALUES (75, 668);
+INSERT INTO ${prefix}Friends VALUES (75, 712);
+INSERT INTO ${prefix}Friends VALUES (76, 116);
+INSERT INTO ${prefix}Friends VALUES (76, 133);
+INSERT INTO ${prefix}Friends VALUES (76, 185);
+INSERT INTO ${prefix}Friends VALUES (76, 225);
+INSERT INTO ${prefix}Friends VALUES (76, 251);
+INSERT INTO ${prefix}Friends VALUES (76, 263);
+INSERT INTO ${prefix}Friends VALUES (76, 320);
+INSERT INTO ${prefix}Friends VALUES (76, 336);
+INSERT INTO ${prefix}Friends VALUES (76, 367);
+INSERT INTO ${prefix}Friends VALUES (76, 540);
+INSERT INTO ${prefix}Friends VALUES (76, 588);
+INSERT INTO ${prefix}Friends VALUES (76, 599);
+INSERT INTO ${prefix}Friends VALUES (76, 633);
+INSERT INTO ${prefix}Friends VALUES (76, 644);
+INSERT INTO ${prefix}Friends VALUES (77, 82);
+INSERT INTO ${prefix}Friends VALUES (77, 93);
+INSERT INTO ${prefix}Friends VALUES (77, 145);
+INSERT INTO ${prefix}Friends VALUES (77, 147);
+INSERT INTO ${prefix}Friends VALUES (77, 174);
+INSERT INTO ${prefix}Friends VALUES (77, 224);
+INSERT INTO ${prefix}Friends VALUES (77, 253);
+INSERT INTO ${prefix}Friends VALUES (77, 319);
+INSERT INTO ${prefix}Friends VALUES (77, 459);
+INSERT INTO ${prefix}Friends VALUES (77, 497);
+INSERT INTO ${prefix}Friends VALUES (77, 560);
+INSERT INTO ${prefix}Friends VALUES (77, 694);
+INSERT INTO ${prefix}Friends VALUES (77, 733);
+INSERT INTO ${prefix}Friends VALUES (78, 157);
+INSERT INTO ${prefix}Friends VALUES (78, 212);
+INSERT INTO ${prefix}Friends VALUES (78, 463);
+INSERT INTO ${prefix}Friends VALUES (78, 658);
+INSERT INTO ${prefix}Friends VALUES (78, 697);
+INSERT INTO ${prefix}Friends VALUES (78, 711);
+INSERT INTO ${prefix}Friends VALUES (78, 729);
+INSERT INTO ${prefix}Friends VALUES (79, 187);
+INSERT INTO ${prefix}Friends VALUES (79, 237);
+INSERT INTO ${prefix}Friends VALUES (79, 300);
+INSERT INTO ${prefix}Friends VALUES (79, 304);
+INSERT INTO ${prefix}Friends VALUES (79, 405);
+INSERT INTO ${prefix}Friends VALUES (79, 495);
+INSERT INTO ${prefix}Friends VALUES (79, 572);
+INSERT INTO ${prefix}Friends VALUES (79, 602);
+INSERT INTO ${prefix}Friends VALUES (80, 205);
+INSERT INTO ${prefix}Friends VALUES (80, 219);
+INSERT INTO ${prefix}Friends VALUES (80, 239);
+INSERT INTO ${prefix}Friends VALUES (80, 339);
+INSERT INTO ${prefix}Friends VALUES (80, 415);
+INSERT INTO ${prefix}Friends VALUES (80, 423);
+INSERT INTO ${prefix}Friends VALUES (80, 438);
+INSERT INTO ${prefix}Friends VALUES (80, 641);
+INSERT INTO ${prefix}Friends VALUES (80, 657);
+INSERT INTO ${prefix}Friends VALUES (80, 665);
+INSERT INTO ${prefix}Friends VALUES (80, 717);
+INSERT INTO ${prefix}Friends VALUES (80, 724);
+INSERT INTO ${prefix}Friends VALUES (80, 727);
+INSERT INTO ${prefix}Friends VALUES (81, 198);
+INSERT INTO ${prefix}Friends VALUES (81, 337);
+INSERT INTO ${prefix}Friends VALUES (81, 458);
+INSERT INTO ${prefix}Friends VALUES (81, 557);
+INSERT INTO ${prefix}Friends VALUES (81, 603);
+INSERT INTO ${prefix}Friends VALUES (81, 618);
+INSERT INTO ${prefix}Friends VALUES (81, 626);
+INSERT INTO ${prefix}Friends VALUES (82, 137);
+INSERT INTO ${prefix}Friends VALUES (82, 159);
+INSERT INTO ${prefix}Friends VALUES (82, 183);
+INSERT INTO ${prefix}Friends VALUES (82, 250);
+INSERT INTO ${prefix}Friends VALUES (82, 271);
+INSERT INTO ${prefix}Friends VALUES (82, 277);
+INSERT INTO ${prefix}Friends VALUES (82, 302);
+INSERT INTO ${prefix}Friends VALUES (82, 346);
+INSERT INTO ${prefix}Friends VALUES (82, 353);
+INSERT INTO ${prefix}Friends VALUES (82, 416);
+INSERT INTO ${prefix}Friends VALUES (82, 418);
+INSERT INTO ${prefix}Friends VALUES (82, 584);
+INSERT INTO ${prefix}Friends VALUES (82, 658);
+INSERT INTO ${prefix}Friends VALUES (82, 659);
+INSERT INTO ${prefix}Friends VALUES (82, 712);
+INSERT INTO ${prefix}Friends VALUES (82, 736);
+INSERT INTO ${prefix}Friends VALUES (83, 142);
+INSERT INTO ${prefix}Friends VALUES (83, 236);
+INSERT INTO ${prefix}Friends VALUES (83, 339);
+INSERT INTO ${prefix}Friends VALUES (83, 417);
+INSERT INTO ${prefix}Friends VALUES (83, 433);
+INSERT INTO ${prefix}Friends VALUES (83, 553);
+INSERT INTO ${prefix}Friends VALUES (83, 634);
+INSERT INTO ${prefix}Friends VALUES (83, 636);
+INSERT INTO ${prefix}Friends VALUES (84, 131);
+INSERT INTO ${prefix}Friends VALUES (84, 145);
+INSERT INTO ${prefix}Friends VALUES (84, 191);
+INSERT INTO ${prefix}Friends VALUES (84, 264);
+INSERT INTO ${prefix}Friends VALUES (84, 282);
+INSERT INTO ${prefix}Friends VALUES (84, 548);
+INSERT INTO ${prefix}Friends VALUES (84, 619);
+INSERT INTO ${prefix}Friends VALUES (84, 667);
+INSERT INTO ${prefix}Friends VALUES (85, 106);
+INSERT INTO ${prefix}Friends VALUES (85, 149);
+INSERT INTO ${prefix}Friends VALUES (85, 156);
+INSERT INTO ${prefix}Friends VALUES (85, 235);
+INSERT INTO ${prefix}Friends VALUES (85, 239);
+INSERT INTO ${prefix}Friends VALUES (85, 322);
+INSERT INTO ${prefix}Friends VALUES (85, 375);
+INSERT INTO ${prefix}Friends VALUES (85, 430);
+INSERT INTO ${prefix}Friends VALUES (85, 478);
+INSERT INTO ${prefix}Friends VALUES (85, 643);
+INSERT INTO ${prefix}Friends VALUES (85, 713);
+INSERT INTO ${prefix}Friends VALUES (85, 745);
+INSERT INTO ${prefix}Friends VALUES (85, 780);
+INSERT INTO ${prefix}Friends VALUES (86, 161);
+INSERT INTO ${prefix}Friends VALUES (86, 184);
+INSERT INTO ${prefix}Friends VALUES (86, 235);
+INSERT INTO ${prefix}Friends VALUES (86, 289);
+INSERT INTO ${prefix}Friends VALUES (86, 320);
+INSERT INTO ${prefix}Friends VALUES (86, 333);
+INSERT INTO ${prefix}Friends VALUES (86, 427);
+INSERT INTO ${prefix}Friends VALUES (86, 709);
+INSERT INTO ${prefix}Friends VALUES (86, 721);
+INSERT INTO ${prefix}Friends VALUES (86, 764);
+INSERT INTO ${prefix}Friends VALUES (86, 774);
+INSERT INTO ${prefix}Friends VALUES (87, 113);
+INSERT INTO ${prefix}Friends VALUES (87, 130);
+INSERT INTO ${prefix}Friends VALUES (87, 184);
+INSERT INTO ${prefix}Friends VALUES (87, 340);
+INSERT INTO ${prefix}Friends VALUES (87, 406);
+INSERT INTO ${prefix}Friends VALUES (87, 503);
+INSERT INTO ${prefix}Friends VALUES (87, 514);
+INSERT INTO ${prefix}Friends VALUES (87, 537);
+INSERT INTO ${prefix}Friends VALUES (87, 543);
+INSERT INTO ${prefix}Friends VALUES (87, 561);
+INSERT INTO ${prefix}Friends VALUES (87, 570);
+INSERT INTO ${prefix}Friends VALUES (87, 616);
+INSERT INTO ${prefix}Friends VALUES (87, 770);
+INSERT INTO ${prefix}Friends VALUES (87, 775);
+INSERT INTO ${prefix}Friends VALUES (88, 145);
+INSERT INTO ${prefix}Friends VALUES (88, 253);
+INSERT INTO ${prefix}Friends VALUES (88, 284);
+INSERT INTO ${prefix}Friends VALUES (88, 297);
+INSERT INTO ${prefix}Friends VALUES (88, 347);
+INSERT INTO ${prefix}Friends VALUES (88, 391);
+INSERT INTO ${prefix}Friends VALUES (88, 638);
+INSERT INTO ${prefix}Friends VALUES (88, 708);
+INSERT INTO ${prefix}Friends VALUES (88, 739);
+INSERT INTO ${prefix}Friends VALUES (89, 125);
+INSERT INTO ${prefix}Friends VALUES (89, 199);
+INSERT INTO ${prefix}Friends VALUES (89, 248);
+INSERT INTO ${prefix}Friends VALUES (89, 330);
+INSERT INTO ${prefix}Friends VALUES (89, 395);
+INSERT INTO ${prefix}Friends VALUES (89, 471);
+INSERT INTO ${prefix}Friends VALUES (89, 512);
+INSERT INTO ${prefix}Friends VALUES (89, 560);
+INSERT INTO ${prefix}Friends VALUES (89, 566);
+INSERT INTO ${prefix}Friends VALUES (89, 600);
+INSERT INTO ${prefix}Friends VALUES (89, 602);
+INSERT INTO ${prefix}Friends VALUES (89, 610);
+INSERT INTO ${prefix}Friends VALUES (89, 724);
+INSERT INTO ${prefix}Friends VALUES (89, 742);
+INSERT INTO ${prefix}Friends VALUES (90, 313);
+INSERT INTO ${prefix}Friends VALUES (90, 517);
+INSERT INTO ${prefix}Friends VALUES (90, 669);
+INSERT INTO ${prefix}Friends VALUES (90, 723);
+INSERT INTO ${prefix}Friends VALUES (90, 746);
+INSERT INTO ${prefix}Friends VALUES (90, 763);
+INSERT INTO ${prefix}Friends VALUES (90, 780);
+INSERT INTO ${prefix}Friends VALUES (91, 104);
+INSERT INTO ${prefix}Friends VALUES (91, 255);
+INSERT INTO ${prefix}Friends VALUES (91, 493);
+INSERT INTO ${prefix}Friends VALUES (91, 510);
+INSERT INTO ${prefix}Friends VALUES (91, 557);
+INSERT INTO ${prefix}Friends VALUES (91, 563);
+INSERT INTO ${prefix}Friends VALUES (91, 600);
+INSERT INTO ${prefix}Friends VALUES (92, 127);
+INSERT INTO ${prefix}Friends VALUES (92, 147);
+INSERT INTO ${prefix}Friends VALUES (92, 210);
+INSERT INTO ${prefix}Friends VALUES (92, 235);
+INSERT INTO ${prefix}Friends VALUES (92, 246);
+INSERT INTO ${prefix}Friends VALUES (92, 383);
+INSERT INTO ${prefix}Friends VALUES (92, 402);
+INSERT INTO ${prefix}Friends VALUES (92, 525);
+INSERT INTO ${prefix}Friends VALUES (92, 539);
+INSERT INTO ${prefix}Friends VALUES (92, 542);
+INSERT INTO ${prefix}Friends VALUES (92, 581);
+INSERT INTO ${prefix}Friends VALUES (92, 584);
+INSERT INTO ${prefix}Friends VALUES (92, 736);
+INSERT INTO ${prefix}Friends VALUES (93, 213);
+INSERT INTO ${prefix}Friends VALUES (93, 241);
+INSERT INTO ${prefix}Friends VALUES (93, 292);
+INSERT INTO ${prefix}Friends VALUES (93, 337);
+INSERT INTO ${prefix}Friends VALUES (93, 531);
+INSERT INTO ${prefix}Friends VALUES (93, 678);
+INSERT INTO ${prefix}Friends VALUES (94, 104);
+INSERT INTO ${prefix}Friends VALUES (94, 123);
+INSERT INTO ${prefix}Friends VALUES (94, 141);
+INSERT INTO ${prefix}Friends VALUES (94, 220);
+INSERT INTO ${prefix}Friends VALUES (94, 221);
+INSERT INTO ${prefix}Friends VALUES (94, 227);
+INSERT INTO ${prefix}Friends VALUES (94, 297);
+INSERT INTO ${prefix}Friends VALUES (94, 316);
+INSERT INTO ${prefix}Friends VALUES (94, 353);
+INSERT INTO ${prefix}Friends VALUES (94, 474);
+INSERT INTO ${prefix}Friends VALUES (94, 479);
+INSERT INTO ${prefix}Friends VALUES (94, 519);
+INSERT INTO ${prefix}Friends VALUES (94, 565);
+INSERT INTO ${prefix}Friends VALUES (94, 663);
+INSERT INTO ${prefix}Friends VALUES (94, 677);
+INSERT INTO ${prefix}Friends VALUES (94, 683);
+INSERT INTO ${prefix}Friends VALUES (94, 773);
+INSERT INTO ${prefix}Friends VALUES (95, 205);
+INSERT INTO ${prefix}Friends VALUES (95, 222);
+INSERT INTO ${prefix}Friends VALUES (95, 289);
+INSERT INTO ${prefix}Friends VALUES (95, 315);
+INSERT INTO ${prefix}Friends VALUES (95, 422);
+INSERT INTO ${prefix}Friends VALUES (95, 485);
+INSERT INTO ${prefix}Friends VALUES (95, 584);
+INSERT INTO ${prefix}Friends VALUES (95, 611);
+INSERT INTO ${prefix}Friends VALUES (95, 626);
+INSERT INTO ${prefix}Friends VALUES (95, 667);
+INSERT INTO ${prefix}Friends VALUES (95, 681);
+INSERT INTO ${prefix}Friends VALUES (95, 791);
+INSERT INTO ${prefix}Friends VALUES (96, 378);
+INSERT INTO ${prefix}Friends VALUES (96, 518);
+INSERT INTO ${prefix}Friends VALUES (96, 640);
+INSERT INTO ${prefix}Friends VALUES (96, 650);
+INSERT INTO ${prefix}Friends VALUES (97, 170);
+INSERT INTO ${prefix}Friends VALUES (97, 194);
+INSERT INTO ${prefix}Friends VALUES (97, 231);
+INSERT INTO ${prefix}Friends VALUES (97, 277);
+INSERT INTO ${prefix}Friends VALUES (97, 455);
+INSERT INTO ${prefix}Friends VALUES (97, 477);
+INSERT INTO ${prefix}Friends VALUES (97, 723);
+INSERT INTO ${prefix}Friends VALUES (97, 775);
+INSERT INTO ${prefix}Friends VALUES (98, 100);
+INSERT INTO ${prefix}Friends VALUES (98, 156);
+INSERT INTO ${prefix}Friends VALUES (98, 202);
+INSERT INTO ${prefix}Friends VALUES (98, 206);
+INSERT INTO ${prefix}Friends VALUES (98, 235);
+INSERT INTO ${prefix}Friends VALUES (98, 246);
+INSERT INTO ${prefix}Friends VALUES (98, 256);
+INSERT INTO ${prefix}Friends VALUES (98, 260);
+INSERT INTO ${prefix}Friends VALUES (98, 340);
+INSERT INTO ${prefix}Friends VALUES (98, 349);
+INSERT INTO ${prefix}Friends VALUES (98, 351);
+INSERT INTO ${prefix}Friends VALUES (98, 357);
+INSERT INTO ${prefix}Friends VALUES (98, 377);
+INSERT INTO ${prefix}Friends VALUES (98, 396);
+INSERT INTO ${prefix}Friends VALUES (98, 400);
+INSERT INTO ${prefix}Friends VALUES (98, 435);
+INSERT INTO ${prefix}Friends VALUES (98, 451);
+INSERT INTO ${prefix}Friends VALUES (98, 458);
+INSERT INTO ${prefix}Friends VALUES (98, 462);
+INSERT INTO ${prefix}Friends VALUES (98, 499);
+INSERT INTO ${prefix}Friends VALUES (98, 543);
+INSERT INTO ${prefix}Friends VALUES (98, 553);
+INSERT INTO ${prefix}Friends VALUES (98, 561);
+INSERT INTO ${prefix}Friends VALUES (98, 591);
+INSERT INTO ${prefix}Friends VALUES (98, 594);
+INSERT INTO ${prefix}Friends VALUES (98, 639);
+INSERT INTO ${prefix}Friends VALUES (98, 643);
+INSERT INTO ${prefix}Friends VALUES (98, 644);
+INSERT INTO ${prefix}Friends VALUES (98, 672);
+INSERT INTO ${prefix}Friends VALUES (98, 678);
+INSERT INTO ${prefix}Friends VALUES (98, 701);
+INSERT INTO ${prefix}Friends VALUES (98, 710);
+INSERT INTO ${prefix}Friends VALUES (98, 728);
+INSERT INTO ${prefix}Friends VALUES (98, 762);
+INSERT INTO ${prefix}Friends VALUES (98, 793);
+INSERT INTO ${prefix}Friends VALUES (98, 798);
+INSERT INTO ${prefix}Friends VALUES (99, 175);
+INSERT INTO ${prefix}Friends VALUES (99, 249);
+INSERT INTO ${prefix}Friends VALUES (99, 310);
+INSERT INTO ${prefix}Friends VALUES (99, 340);
+INSERT INTO ${prefix}Friends VALUES (99, 382);
+INSERT INTO ${prefix}Friends VALUES (99, 404);
+INSERT INTO ${prefix}Friends VALUES (99, 409);
+INSERT INTO ${prefix}Friends VALUES (99, 487);
+INSERT INTO ${prefix}Friends VALUES (99, 518);
+INSERT INTO ${prefix}Friends VALUES (99, 533);
+INSERT INTO ${prefix}Friends VALUES (99, 534);
+INSERT INTO ${prefix}Friends VALUES (99, 541);
+INSERT INTO ${prefix}Friends VALUES (99, 552);
+INSERT INTO ${prefix}Friends VALUES (99, 597);
+INSERT INTO ${prefix}Friends VALUES (99, 762);
+INSERT INTO ${prefix}Friends VALUES (99, 769);
+INSERT INTO ${prefix}Friends VALUES (99, 786);
+INSERT INTO ${prefix}Friends VALUES (100, 256);
+INSERT INTO ${prefix}Friends VALUES (100, 363);
+INSERT INTO ${prefix}Friends VALUES (100, 373);
+INSERT INTO ${prefix}Friends VALUES (100, 419);
+INSERT INTO ${prefix}Friends VALUES (100, 617);
+INSERT INTO ${prefix}Friends VALUES (101, 175);
+INSERT INTO ${prefix}Friends VALUES (101, 245);
+INSERT INTO ${prefix}Friends VALUES (101, 257);
+INSERT INTO ${prefix}Friends VALUES (101, 366);
+INSERT INTO ${prefix}Friends VALUES (101, 514);
+INSERT INTO ${prefix}Friends VALUES (101, 566);
+INSERT INTO ${prefix}Friends VALUES (101, 609);
+INSERT INTO ${prefix}Friends VALUES (101, 618);
+INSERT INTO ${prefix}Friends VALUES (101, 776);
+INSERT INTO ${prefix}Friends VALUES (102, 147);
+INSERT INTO ${prefix}Friends VALUES (102, 178);
+INSERT INTO ${prefix}Friends VALUES (102, 180);
+INSERT INTO ${prefix}Friends VALUES (102, 215);
+INSERT INTO ${prefix}Friends VALUES (102, 242);
+INSERT INTO ${prefix}Friends VALUES (102, 311);
+INSERT INTO ${prefix}Friends VALUES (102, 320);
+INSERT INTO ${prefix}Friends VALUES (102, 487);
+INSERT INTO ${prefix}Friends VALUES (103, 112);
+INSERT INTO ${prefix}Friends VALUES (103, 127);
+INSERT INTO ${prefix}Friends VALUES (103, 185);
+INSERT INTO ${prefix}Friends VALUES (103, 341);
+INSERT INTO ${prefix}Friends VALUES (103, 512);
+INSERT INTO ${prefix}Friends VALUES (103, 513);
+INSERT INTO ${prefix}Friends VALUES (103, 665);
+INSERT INTO ${prefix}Friends VALUES (103, 671);
+INSERT INTO ${prefix}Friends VALUES (103, 718);
+INSERT INTO ${prefix}Friends VALUES (104, 209);
+INSERT INTO ${prefix}Friends VALUES (104, 237);
+INSERT INTO ${prefix}Friends VALUES (104, 389);
+INSERT INTO ${prefix}Friends VALUES (104, 403);
+INSERT INTO ${prefix}Friends VALUES (104, 494);
+INSERT INTO ${prefix}Friends VALUES (104, 540);
+INSERT INTO ${prefix}Friends VALUES (104, 557);
+INSERT INTO ${prefix}Friends VALUES (105, 151);
+INSERT INTO ${prefix}Friends VALUES (105, 241);
+INSERT INTO ${prefix}Friends VALUES (105, 253);
+INSERT INTO ${prefix}Friends VALUES (105, 486);
+INSERT INTO ${prefix}Friends VALUES (105, 718);
+INSERT INTO ${prefix}Friends VALUES (105, 762);
+INSERT INTO ${prefix}Friends VALUES (106, 160);
+INSERT INTO ${prefix}Friends VALUES (106, 208);
+INSERT INTO ${prefix}Friends VALUES (106, 218);
+INSERT INTO ${prefix}Friends VALUES (106, 315);
+INSERT INTO ${prefix}Friends VALUES (106, 382);
+INSERT INTO ${prefix}Friends VALUES (106, 420);
+INSERT INTO ${prefix}Friends VALUES (106, 422);
+INSERT INTO ${prefix}Friends VALUES (106, 437);
+INSERT INTO ${prefix}Friends VALUES (106, 454);
+INSERT INTO ${prefix}Friends VALUES (106, 549);
+INSERT INTO ${prefix}Friends VALUES (106, 681);
+INSERT INTO ${prefix}Friends VALUES (106, 775);
+INSERT INTO ${prefix}Friends VALUES (107, 132);
+INSERT INTO ${prefix}Friends VALUES (107, 234);
+INSERT INTO ${prefix}Friends VALUES (107, 319);
+INSERT INTO ${prefix}Friends VALUES (107, 410);
+INSERT INTO ${prefix}Friends VALUES (107, 489);
+INSERT INTO ${prefix}Friends VALUES (107, 679);
+INSERT INTO ${prefix}Friends VALUES (107, 753);
+INSERT INTO ${prefix}Friends VALUES (108, 119);
+INSERT INTO ${prefix}Friends VALUES (108, 348);
+INSERT INTO ${prefix}Friends VALUES (108, 452);
+INSERT INTO ${prefix}Friends VALUES (108, 467);
+INSERT INTO ${prefix}Friends VALUES (108, 546);
+INSERT INTO ${prefix}Friends VALUES (108, 558);
+INSERT INTO ${prefix}Friends VALUES (108, 620);
+INSERT INTO ${prefix}Friends VALUES (108, 733);
+INSERT INTO ${prefix}Friends VALUES (108, 772);
+INSERT INTO ${prefix}Friends VALUES (109, 184);
+INSERT INTO ${prefix}Friends VALUES (109, 374);
+INSERT INTO ${prefix}Friends VALUES (109, 455);
+INSERT INTO ${prefix}Friends VALUES (109, 574);
+INSERT INTO ${prefix}Friends VALUES (109, 594);
+INSERT INTO ${prefix}Friends VALUES (109, 601);
+INSERT INTO ${prefix}Friends VALUES (109, 603);
+INSERT INTO ${prefix}Friends VALUES (110, 146);
+INSERT INTO ${prefix}Friends VALUES (110, 166);
+INSERT INTO ${prefix}Friends VALUES (110, 455);
+INSERT INTO ${prefix}Friends VALUES (110, 544);
+INSERT INTO ${prefix}Friends VALUES (110, 551);
+INSERT INTO ${prefix}Friends VALUES (110, 758);
+INSERT INTO ${prefix}Friends VALUES (111, 140);
+INSERT INTO ${prefix}Friends VALUES (111, 227);
+INSERT INTO ${prefix}Friends VALUES (111, 254);
+INSERT INTO ${prefix}Friends VALUES (111, 558);
+INSERT INTO ${prefix}Friends VALUES (111, 603);
+INSERT INTO ${prefix}Friends VALUES (111, 670);
+INSERT INTO ${prefix}Friends VALUES (111, 681);
+INSERT INTO ${prefix}Friends VALUES (111, 709);
+INSERT INTO ${prefix}Friends VALUES (111, 787);
+INSERT INTO ${prefix}Friends VALUES (112, 136);
+INSERT INTO ${prefix}Friends VALUES (112, 166);
+INSERT INTO ${prefix}Friends VALUES (112, 237);
+INSERT INTO ${prefix}Friends VALUES (112, 290);
+INSERT INTO ${prefix}Friends VALUES (112, 498);
+INSERT INTO ${prefix}Friends VALUES (112, 568);
+INSERT INTO ${prefix}Friends VALUES (112, 628);
+INSERT INTO ${prefix}Friends VALUES (112, 638);
+INSERT INTO ${prefix}Friends VALUES (113, 173);
+INSERT INTO ${prefix}Friends VALUES (113, 387);
+INSERT INTO ${prefix}Friends VALUES (113, 464);
+INSERT INTO ${prefix}Friends VALUES (113, 605);
+INSERT INTO ${prefix}Friends VALUES (113, 606);
+INSERT INTO ${prefix}Friends VALUES (113, 607);
+INSERT INTO ${prefix}Friends VALUES (113, 749);
+INSERT INTO ${prefix}Friends VALUES (113, 766);
+INSERT INTO ${prefix}Friends VALUES (113, 790);
+INSERT INTO ${prefix}Friends VALUES (114, 133);
+INSERT INTO ${prefix}Friends VALUES (114, 138);
+INSERT INTO ${prefix}Friends VALUES (114, 157);
+INSERT INTO ${prefix}Friends VALUES (114, 236);
+INSERT INTO ${prefix}Friends VALUES (114, 285);
+INSERT INTO ${prefix}Friends VALUES (114, 312);
+INSERT INTO ${prefix}Friends VALUES (114, 434);
+INSERT INTO ${prefix}Friends VALUES (114, 471);
+INSERT INTO ${prefix}Friends VALUES (114, 476);
+INSERT INTO ${prefix}Friends VALUES (114, 655);
+INSERT INTO ${prefix}Friends VALUES (114, 664);
+INSERT INTO ${prefix}Friends VALUES (115, 239);
+INSERT INTO ${prefix}Friends VALUES (115, 303);
+INSERT INTO ${prefix}Friends VALUES (115, 369);
+INSERT INTO ${prefix}Friends VALUES (115, 440);
+INSERT INTO ${prefix}Friends VALUES (115, 519);
+INSERT INTO ${prefix}Friends VALUES (115, 566);
+INSERT INTO ${prefix}Friends VALUES (115, 592);
+INSERT INTO ${prefix}Friends VALUES (115, 702);
+INSERT INTO ${prefix}Friends VALUES (115, 708);
+INSERT INTO ${prefix}Friends VALUES (115, 717);
+INSERT INTO ${prefix}Friends VALUES (115, 778);
+INSERT INTO ${prefix}Friends VALUES (116, 130);
+INSERT INTO ${prefix}Friends VALUES (116, 180);
+INSERT INTO ${prefix}Friends VALUES (116, 202);
+INSERT INTO ${prefix}Friends VALUES (116, 266);
+INSERT INTO ${prefix}Friends VALUES (116, 285);
+INSERT INTO ${prefix}Friends VALUES (116, 371);
+INSERT INTO ${prefix}Friends VALUES (116, 599);
+INSERT INTO ${prefix}Friends VALUES (116, 684);
+INSERT INTO ${prefix}Friends VALUES (116, 735);
+INSERT INTO ${prefix}Friends VALUES (117, 127);
+INSERT INTO ${prefix}Friends VALUES (117, 152);
+INSERT INTO ${prefix}Friends VALUES (117, 183);
+INSERT INTO ${prefix}Friends VALUES (117, 203);
+INSERT INTO ${prefix}Friends VALUES (117, 217);
+INSERT INTO ${prefix}Friends VALUES (117, 311);
+INSERT INTO ${prefix}Friends VALUES (117, 356);
+INSERT INTO ${prefix}Friends VALUES (117, 360);
+INSERT INTO ${prefix}Friends VALUES (117, 436);
+INSERT INTO ${prefix}Friends VALUES (117, 566);
+INSERT INTO ${prefix}Friends VALUES (117, 574);
+INSERT INTO ${prefix}Friends VALUES (117, 724);
+INSERT INTO ${prefix}Friends VALUES (117, 789);
+INSERT INTO ${prefix}Friends VALUES (118, 200);
+INSERT INTO ${prefix}Friends VALUES (118, 334);
+INSERT INTO ${prefix}Friends VALUES (118, 507);
+INSERT INTO ${prefix}Friends VALUES (118, 596);
+INSERT INTO ${prefix}Friends VALUES (118, 669);
+INSERT INTO ${prefix}Friends VALUES (118, 714);
+INSERT INTO ${prefix}Friends VALUES (119, 358);
+INSERT INTO ${prefix}Friends VALUES (119, 360);
+INSERT INTO ${prefix}Friends VALUES (119, 377);
+INSERT INTO ${prefix}Friends VALUES (119, 408);
+INSERT INTO ${prefix}Friends VALUES (119, 421);
+INSERT INTO ${prefix}Friends VALUES (119, 422);
+INSERT INTO ${prefix}Friends VALUES (119, 544);
+INSERT INTO ${prefix}Friends VALUES (119, 576);
+INSERT INTO ${prefix}Friends VALUES (119, 678);
+INSERT INTO ${prefix}Friends VALUES (120, 363);
+INSERT INTO ${prefix}Friends VALUES (120, 410);
+INSERT INTO ${prefix}Friends VALUES (120, 523);
+INSERT INTO ${prefix}Friends VALUES (120, 566);
+INSERT INTO ${prefix}Friends VALUES (120, 743);
+INSERT INTO ${prefix}Friends VALUES (121, 126);
+INSERT INTO ${prefix}Friends VALUES (121, 199);
+INSERT INTO ${prefix}Friends VALUES (121, 275);
+INSERT INTO ${prefix}Friends VALUES (121, 396);
+INSERT INTO ${prefix}Friends VALUES (121, 420);
+INSERT INTO ${prefix}Friends VALUES (121, 445);
+INSERT INTO ${prefix}Friends VALUES (121, 486);
+INSERT INTO ${prefix}Friends VALUES (121, 510);
+INSERT INTO ${prefix}Friends VALUES (121, 572);
+INSERT INTO ${prefix}Friends VALUES (121, 590);
+INSERT INTO ${prefix}Friends VALUES (121, 672);
+INSERT INTO ${prefix}Friends VALUES (121, 679);
+INSERT INTO ${prefix}Friends VALUES (122, 177);
+INSERT INTO ${prefix}Friends VALUES (122, 264);
+INSERT INTO ${prefix}Friends VALUES (122, 283);
+INSERT INTO ${prefix}Friends VALUES (122, 330);
+INSERT INTO ${prefix}Friends VALUES (122, 374);
+INSERT INTO ${prefix}Friends VALUES (122, 409);
+INSERT INTO ${prefix}Friends VALUES (122, 440);
+INSERT INTO ${prefix}Friends VALUES (122, 575);
+INSERT INTO ${prefix}Friends VALUES (122, 619);
+INSERT INTO ${prefix}Friends VALUES (122, 757);
+INSERT INTO ${prefix}Friends VALUES (122, 765);
+INSERT INTO ${prefix}Friends VALUES (122, 791);
+INSERT INTO ${prefix}Friends VALUES (123, 147);
+INSERT INTO ${prefix}Friends VALUES (123, 269);
+INSERT INTO ${prefix}Friends VALUES (123, 330);
+INSERT INTO ${prefix}Friends VALUES (123, 490);
+INSERT INTO ${prefix}Friends VALUES (123, 526);
+INSERT INTO ${prefix}Friends VALUES (123, 531);
+INSERT INTO ${prefix}Friends VALUES (123, 555);
+INSERT INTO ${prefix}Friends VALUES (123, 600);
+INSERT INTO ${prefix}Friends VALUES (123, 653);
+INSERT INTO ${prefix}Friends VALUES (123, 710);
+INSERT INTO ${prefix}Friends VALUES (124, 149);
+INSERT INTO ${prefix}Friends VALUES (124, 261);
+INSERT INTO ${prefix}Friends VALUES (124, 273);
+INSERT INTO ${prefix}Friends VALUES (124, 362);
+INSERT INTO ${prefix}Friends VALUES (125, 251);
+INSERT INTO ${prefix}Friends VALUES (125, 278);
+INSERT INTO ${prefix}Friends VALUES (125, 338);
+INSERT INTO ${prefix}Friends VALUES (125, 378);
+INSERT INTO ${prefix}Friends VALUES (125, 465);
+INSERT INTO ${prefix}Friends VALUES (125, 488);
+INSERT INTO ${prefix}Friends VALUES (125, 562);
+INSERT INTO ${prefix}Friends VALUES (125, 595);
+INSERT INTO ${prefix}Friends VALUES (125, 659);
+INSERT INTO ${prefix}Friends VALUES (125, 799);
+INSERT INTO ${prefix}Friends VALUES (126, 159);
+INSERT INTO ${prefix}Friends VALUES (126, 183);
+INSERT INTO ${prefix}Friends VALUES (126, 192);
+INSERT INTO ${prefix}Friends VALUES (126, 199);
+INSERT INTO ${prefix}Friends VALUES (126, 246);
+INSERT INTO ${prefix}Friends VALUES (126, 293);
+INSERT INTO ${prefix}Friends VALUES (126, 324);
+INSERT INTO ${prefix}Friends VALUES (126, 337);
+INSERT INTO ${prefix}Friends VALUES (126, 344);
+INSERT INTO ${prefix}Friends VALUES (126, 373);
+INSERT INTO ${prefix}Friends VALUES (126, 650);
+INSERT INTO ${prefix}Friends VALUES (126, 727);
+INSERT INTO ${prefix}Friends VALUES (126, 748);
+INSERT INTO ${prefix}Friends VALUES (127, 152);
+INSERT INTO ${prefix}Friends VALUES (127, 175);
+INSERT INTO ${prefix}Friends VALUES (127, 218);
+INSERT INTO ${prefix}Friends VALUES (127, 355);
+INSERT INTO ${prefix}Friends VALUES (127, 373);
+INSERT INTO ${prefix}Friends VALUES (127, 403);
+INSERT INTO ${prefix}Friends VALUES (127, 509);
+INSERT INTO ${prefix}Friends VALUES (127, 517);
+INSERT INTO ${prefix}Friends VALUES (127, 540);
+INSERT INTO ${prefix}Friends VALUES (127, 585);
+INSERT INTO ${prefix}Friends VALUES (128, 167);
+INSERT INTO ${prefix}Friends VALUES (128, 249);
+INSERT INTO ${prefix}Friends VALUES (128, 430);
+INSERT INTO ${prefix}Friends VALUES (128, 458);
+INSERT INTO ${prefix}Friends VALUES (128, 596);
+INSERT INTO ${prefix}Friends VALUES (128, 699);
+INSERT INTO ${prefix}Friends VALUES (128, 744);
+INSERT INTO ${prefix}Friends VALUES (129, 150);
+INSERT INTO ${prefix}Friends VALUES (129, 519);
+INSERT INTO ${prefix}Friends VALUES (129, 557);
+INSERT INTO ${prefix}Friends VALUES (129, 758);
+INSERT INTO ${prefix}Friends VALUES (130, 155);
+INSERT INTO ${prefix}Friends VALUES (130, 163);
+INSERT INTO ${prefix}Friends VALUES (130, 351);
+INSERT INTO ${prefix}Friends VALUES (130, 389);
+INSERT INTO ${prefix}Friends VALUES (130, 644);
+INSERT INTO ${prefix}Friends VALUES (131, 150);
+INSERT INTO ${prefix}Friends VALUES (131, 228);
+INSERT INTO ${prefix}Friends VALUES (131, 259);
+INSERT INTO ${prefix}Friends VALUES (131, 368);
+INSERT INTO ${prefix}Friends VALUES (131, 378);
+INSERT INTO ${prefix}Friends VALUES (131, 379);
+INSERT INTO ${prefix}Friends VALUES (131, 398);
+INSERT INTO ${prefix}Friends VALUES (131, 574);
+INSERT INTO ${prefix}Friends VALUES (131, 606);
+INSERT INTO ${prefix}Friends VALUES (131, 647);
+INSERT INTO ${prefix}Friends VALUES (131, 650);
+INSERT INTO ${prefix}Friends VALUES (131, 669);
+INSERT INTO ${prefix}Friends VALUES (131, 765);
+INSERT INTO ${prefix}Friends VALUES (132, 157);
+INSERT INTO ${prefix}Friends VALUES (132, 181);
+INSERT INTO ${prefix}Friends VALUES (132, 257);
+INSERT INTO ${prefix}Friends VALUES (132, 258);
+INSERT INTO ${prefix}Friends VALUES (132, 346);
+INSERT INTO ${prefix}Friends VALUES (132, 356);
+INSERT INTO ${prefix}Friends VALUES (132, 524);
+INSERT INTO ${prefix}Friends VALUES (132, 548);
+INSERT INTO ${prefix}Friends VALUES (132, 593);
+INSERT INTO ${prefix}Friends VALUES (132, 661);
+INSERT INTO ${prefix}Friends VALUES (132, 694);
+INSERT INTO ${prefix}Friends VALUES (132, 794);
+INSERT INTO ${prefix}Friends VALUES (133, 135);
+INSERT INTO ${prefix}Friends VALUES (133, 178);
+INSERT INTO ${prefix}Friends VALUES (133, 195);
+INSERT INTO ${prefix}Friends VALUES (133, 313);
+INSERT INTO ${prefix}Friends VALUES (133, 376);
+INSERT INTO ${prefix}Friends VALUES (133, 515);
+INSERT INTO ${prefix}Friends VALUES (133, 566);
+INSERT INTO ${prefix}Friends VALUES (133, 717);
+INSERT INTO ${prefix}Friends VALUES (134, 151);
+INSERT INTO ${prefix}Friends VALUES (134, 182);
+INSERT INTO ${prefix}Friends VALUES (134, 222);
+INSERT INTO ${prefix}Friends VALUES (134, 258);
+INSERT INTO ${prefix}Friends VALUES (134, 631);
+INSERT INTO ${prefix}Friends VALUES (135, 180);
+INSERT INTO ${prefix}Friends VALUES (135, 365);
+INSERT INTO ${prefix}Friends VALUES (135, 534);
+INSERT INTO ${prefix}Friends VALUES (135, 557);
+INSERT INTO ${prefix}Friends VALUES (135, 587);
+INSERT INTO ${prefix}Friends VALUES (135, 660);
+INSERT INTO ${prefix}Friends VALUES (135, 716);
+INSERT INTO ${prefix}Friends VALUES (135, 746);
+INSERT INTO ${prefix}Friends VALUES (136, 279);
+INSERT INTO ${prefix}Friends VALUES (136, 368);
+INSERT INTO ${prefix}Friends VALUES (136, 407);
+INSERT INTO ${prefix}Friends VALUES (136, 573);
+INSERT INTO ${prefix}Friends VALUES (136, 775);
+INSERT INTO ${prefix}Friends VALUES (137, 143);
+INSERT INTO ${prefix}Friends VALUES (137, 173);
+INSERT INTO ${prefix}Friends VALUES (137, 174);
+INSERT INTO ${prefix}Friends VALUES (137, 176);
+INSERT INTO ${prefix}Friends VALUES (137, 188);
+INSERT INTO ${prefix}Friends VALUES (137, 203);
+INSERT INTO ${prefix}Friends VALUES (137, 289);
+INSERT INTO ${prefix}Friends VALUES (137, 516);
+INSERT INTO ${prefix}Friends VALUES (138, 220);
+INSERT INTO ${prefix}Friends VALUES (138, 364);
+INSERT INTO ${prefix}Friends VALUES (138, 400);
+INSERT INTO ${prefix}Friends VALUES (138, 425);
+INSERT INTO ${prefix}Friends VALUES (138, 526);
+INSERT INTO ${prefix}Friends VALUES (138, 545);
+INSERT INTO ${prefix}Friends VALUES (138, 714);
+INSERT INTO ${prefix}Friends VALUES (138, 737);
+INSERT INTO ${prefix}Friends VALUES (139, 186);
+INSERT INTO ${prefix}Friends VALUES (139, 313);
+INSERT INTO ${prefix}Friends VALUES (139, 344);
+INSERT INTO ${prefix}Friends VALUES (139, 363);
+INSERT INTO ${prefix}Friends VALUES (139, 458);
+INSERT INTO ${prefix}Friends VALUES (139, 494);
+INSERT INTO ${prefix}Friends VALUES (139, 518);
+INSERT INTO ${prefix}Friends VALUES (139, 542);
+INSERT INTO ${prefix}Friends VALUES (139, 545);
+INSERT INTO ${prefix}Friends VALUES (139, 583);
+INSERT INTO ${prefix}Friends VALUES (139, 595);
+INSERT INTO ${prefix}Friends VALUES (139, 688);
+INSERT INTO ${prefix}Friends VALUES (139, 749);
+INSERT INTO ${prefix}Friends VALUES (139, 764);
+INSERT INTO ${prefix}Friends VALUES (139, 786);
+INSERT INTO ${prefix}Friends VALUES (140, 209);
+INSERT INTO ${prefix}Friends VALUES (140, 216);
+INSERT INTO ${prefix}Friends VALUES (140, 249);
+INSERT INTO ${prefix}Friends VALUES (140, 254);
+INSERT INTO ${prefix}Friends VALUES (140, 264);
+INSERT INTO ${prefix}Friends VALUES (140, 306);
+INSERT INTO ${prefix}Friends VALUES (140, 366);
+INSERT INTO ${prefix}Friends VALUES (140, 381);
+INSERT INTO ${prefix}Friends VALUES (140, 566);
+INSERT INTO ${prefix}Friends VALUES (140, 635);
+INSERT INTO ${prefix}Friends VALUES (140, 648);
+INSERT INTO ${prefix}Friends VALUES (140, 724);
+INSERT INTO ${prefix}Friends VALUES (140, 740);
+INSERT INTO ${prefix}Friends VALUES (140, 748);
+INSERT INTO ${prefix}Friends VALUES (141, 147);
+INSERT INTO ${prefix}Friends VALUES (141, 347);
+INSERT INTO ${prefix}Friends VALUES (141, 472);
+INSERT INTO ${prefix}Friends VALUES (141, 476);
+INSERT INTO ${prefix}Friends VALUES (141, 487);
+INSERT INTO ${prefix}Friends VALUES (141, 559);
+INSERT INTO ${prefix}Friends VALUES (141, 647);
+INSERT INTO ${prefix}Friends VALUES (142, 270);
+INSERT INTO ${prefix}Friends VALUES (142, 558);
+INSERT INTO ${prefix}Friends VALUES (142, 566);
+INSERT INTO ${prefix}Friends VALUES (142, 675);
+INSERT INTO ${prefix}Friends VALUES (142, 724);
+INSERT INTO ${prefix}Friends VALUES (143, 171);
+INSERT INTO ${prefix}Friends VALUES (143, 180);
+INSERT INTO ${prefix}Friends VALUES (143, 194);
+INSERT INTO ${prefix}Friends VALUES (143, 229);
+INSERT INTO ${prefix}Friends VALUES (143, 278);
+INSERT INTO ${prefix}Friends VALUES (143, 298);
+INSERT INTO ${prefix}Friends VALUES (143, 311);
+INSERT INTO ${prefix}Friends VALUES (143, 384);
+INSERT INTO ${prefix}Friends VALUES (143, 402);
+INSERT INTO ${prefix}Friends VALUES (143, 417);
+INSERT INTO ${prefix}Friends VALUES (143, 456);
+INSERT INTO ${prefix}Friends VALUES (143, 468);
+INSERT INTO ${prefix}Friends VALUES (143, 475);
+INSERT INTO ${prefix}Friends VALUES (143, 594);
+INSERT INTO ${prefix}Friends VALUES (143, 640);
+INSERT INTO ${prefix}Friends VALUES (144, 212);
+INSERT INTO ${prefix}Friends VALUES (144, 229);
+INSERT INTO ${prefix}Friends VALUES (144, 295);
+INSERT INTO ${prefix}Friends VALUES (144, 340);
+INSERT INTO ${prefix}Friends VALUES (144, 443);
+INSERT INTO ${prefix}Friends VALUES (144, 464);
+INSERT INTO ${prefix}Friends VALUES (144, 676);
+INSERT INTO ${prefix}Friends VALUES (144, 678);
+INSERT INTO ${prefix}Friends VALUES (144, 741);
+INSERT INTO ${prefix}Friends VALUES (144, 777);
+INSERT INTO ${prefix}Friends VALUES (145, 159);
+INSERT INTO ${prefix}Friends VALUES (145, 165);
+INSERT INTO ${prefix}Friends VALUES (145, 264);
+INSERT INTO ${prefix}Friends VALUES (145, 309);
+INSERT INTO ${prefix}Friends VALUES (145, 420);
+INSERT INTO ${prefix}Friends VALUES (145, 440);
+INSERT INTO ${prefix}Friends VALUES (145, 454);
+INSERT INTO ${prefix}Friends VALUES (145, 491);
+INSERT INTO ${prefix}Friends VALUES (145, 501);
+INSERT INTO ${prefix}Friends VALUES (145, 505);
+INSERT INTO ${prefix}Friends VALUES (145, 511);
+INSERT INTO ${prefix}Friends VALUES (145, 556);
+INSERT INTO ${prefix}Friends VALUES (145, 607);
+INSERT INTO ${prefix}Friends VALUES (145, 664);
+INSERT INTO ${prefix}Friends VALUES (146, 257);
+INSERT INTO ${prefix}Friends VALUES (146, 538);
+INSERT INTO ${prefix}Friends VALUES (146, 691);
+INSERT INTO ${prefix}Friends VALUES (147, 155);
+INSERT INTO ${prefix}Friends VALUES (147, 157);
+INSERT INTO ${prefix}Friends VALUES (147, 172);
+INSERT INTO ${prefix}Friends VALUES (147, 185);
+INSERT INTO ${prefix}Friends VALUES (147, 266);
+INSERT INTO ${prefix}Friends VALUES (147, 297);
+INSERT INTO ${prefix}Friends VALUES (147, 353);
+INSERT INTO ${prefix}Friends VALUES (147, 423);
+INSERT INTO ${prefix}Friends VALUES (147, 446);
+INSERT INTO ${prefix}Friends VALUES (147, 453);
+INSERT INTO ${prefix}Friends VALUES (147, 467);
+INSERT INTO ${prefix}Friends VALUES (147, 480);
+INSERT INTO ${prefix}Friends VALUES (147, 508);
+INSERT INTO ${prefix}Friends VALUES (147, 521);
+INSERT INTO ${prefix}Friends VALUES (147, 546);
+INSERT INTO ${prefix}Friends VALUES (147, 566);
+INSERT INTO ${prefix}Friends VALUES (147, 570);
+INSERT INTO ${prefix}Friends VALUES (147, 573);
+INSERT INTO ${prefix}Friends VALUES (147, 606);
+INSERT INTO ${prefix}Friends VALUES (147, 612);
+INSERT INTO ${prefix}Friends VALUES (147, 613);
+INSERT INTO ${prefix}Friends VALUES (147, 634);
+INSERT INTO ${prefix}Friends VALUES (147, 649);
+INSERT INTO ${prefix}Friends VALUES (147, 656);
+INSERT INTO ${prefix}Friends VALUES (147, 677);
+INSERT INTO ${prefix}Friends VALUES (147, 685);
+INSERT INTO ${prefix}Friends VALUES (147, 686);
+INSERT INTO ${prefix}Friends VALUES (147, 702);
+INSERT INTO ${prefix}Friends VALUES (147, 724);
+INSERT INTO ${prefix}Friends VALUES (147, 726);
+INSERT INTO ${prefix}Friends VALUES (147, 767);
+INSERT INTO ${prefix}Friends VALUES (147, 775);
+INSERT INTO ${prefix}Friends VALUES (148, 270);
+INSERT INTO ${prefix}Friends VALUES (148, 389);
+INSERT INTO ${prefix}Friends VALUES (148, 462);
+INSERT INTO ${prefix}Friends VALUES (148, 525);
+INSERT INTO ${prefix}Friends VALUES (149, 176);
+INSERT INTO ${prefix}Friends VALUES (149, 221);
+INSERT INTO ${prefix}Friends VALUES (149, 296);
+INSERT INTO ${prefix}Friends VALUES (149, 418);
+INSERT INTO ${prefix}Friends VALUES (149, 424);
+INSERT INTO ${prefix}Friends VALUES (149, 425);
+INSERT INTO ${prefix}Friends VALUES (149, 544);
+INSERT INTO ${prefix}Friends VALUES (149, 572);
+INSERT INTO ${prefix}Friends VALUES (149, 684);
+INSERT INTO ${prefix}Friends VALUES (149, 750);
+INSERT INTO ${prefix}Friends VALUES (150, 236);
+INSERT INTO ${prefix}Friends VALUES (150, 252);
+INSERT INTO ${prefix}Friends VALUES (150, 455);
+INSERT INTO ${prefix}Friends VALUES (150, 468);
+INSERT INTO ${prefix}Friends VALUES (150, 498);
+INSERT INTO ${prefix}Friends VALUES (150, 541);
+INSERT INTO ${prefix}Friends VALUES (150, 670);
+INSERT INTO ${prefix}Friends VALUES (150, 702);
+INSERT INTO ${prefix}Friends VALUES (150, 769);
+INSERT INTO ${prefix}Friends VALUES (150, 770);
+INSERT INTO ${prefix}Friends VALUES (150, 786);
+INSERT INTO ${prefix}Friends VALUES (151, 162);
+INSERT INTO ${prefix}Friends VALUES (151, 248);
+INSERT INTO ${prefix}Friends VALUES (151, 439);
+INSERT INTO ${prefix}Friends VALUES (151, 475);
+INSERT INTO ${prefix}Friends VALUES (151, 501);
+INSERT INTO ${prefix}Friends VALUES (151, 565);
+INSERT INTO ${prefix}Friends VALUES (152, 184);
+INSERT INTO ${prefix}Friends VALUES (152, 209);
+INSERT INTO ${prefix}Friends VALUES (152, 211);
+INSERT INTO ${prefix}Friends VALUES (152, 243);
+INSERT INTO ${prefix}Friends VALUES (152, 274);
+INSERT INTO ${prefix}Friends VALUES (152, 429);
+INSERT INTO ${prefix}Friends VALUES (152, 550);
+INSERT INTO ${prefix}Friends VALUES (152, 552);
+INSERT INTO ${prefix}Friends VALUES (152, 633);
+INSERT INTO ${prefix}Friends VALUES (152, 717);
+INSERT INTO ${prefix}Friends VALUES (152, 751);
+INSERT INTO ${prefix}Friends VALUES (152, 759);
+INSERT INTO ${prefix}Friends VALUES (153, 207);
+INSERT INTO ${prefix}Friends VALUES (153, 219);
+INSERT INTO ${prefix}Friends VALUES (153, 331);
+INSERT INTO ${prefix}Friends VALUES (153, 343);
+INSERT INTO ${prefix}Friends VALUES (153, 423);
+INSERT INTO ${prefix}Friends VALUES (153, 522);
+INSERT INTO ${prefix}Friends VALUES (153, 554);
+INSERT INTO ${prefix}Friends VALUES (153, 635);
+INSERT INTO ${prefix}Friends VALUES (153, 727);
+INSERT INTO ${prefix}Friends VALUES (154, 218);
+INSERT INTO ${prefix}Friends VALUES (154, 254);
+INSERT INTO ${prefix}Friends VALUES (154, 272);
+INSERT INTO ${prefix}Friends VALUES (154, 287);
+INSERT INTO ${prefix}Friends VALUES (154, 349);
+INSERT INTO ${prefix}Friends VALUES (154, 385);
+INSERT INTO ${prefix}Friends VALUES (154, 397);
+INSERT INTO ${prefix}Friends VALUES (154, 408);
+INSERT INTO ${prefix}Friends VALUES (154, 420);
+INSERT INTO ${prefix}Friends VALUES (154, 508);
+INSERT INTO ${prefix}Friends VALUES (154, 522);
+INSERT INTO ${prefix}Friends VALUES (154, 535);
+INSERT INTO ${prefix}Friends VALUES (154, 725);
+INSERT INTO ${prefix}Friends VALUES (154, 763);
+INSERT INTO ${prefix}Friends VALUES (155, 157);
+INSERT INTO ${prefix}Friends VALUES (155, 197);
+INSERT INTO ${prefix}Friends VALUES (155, 263);
+INSERT INTO ${prefix}Friends VALUES (155, 301);
+INSERT INTO ${prefix}Friends VALUES (155, 400);
+INSERT INTO ${prefix}Friends VALUES (155, 403);
+INSERT INTO ${prefix}Friends VALUES (155, 472);
+INSERT INTO ${prefix}Friends VALUES (155, 487);
+INSERT INTO ${prefix}Friends VALUES (155, 509);
+INSERT INTO ${prefix}Friends VALUES (155, 528);
+INSERT INTO ${prefix}Friends VALUES (155, 624);
+INSERT INTO ${prefix}Friends VALUES (155, 755);
+INSERT INTO ${prefix}Friends VALUES (156, 361);
+INSERT INTO ${prefix}Friends VALUES (156, 364);
+INSERT INTO ${prefix}Friends VALUES (156, 674);
+INSERT INTO ${prefix}Friends VALUES (157, 167);
+INSERT INTO ${prefix}Friends VALUES (157, 244);
+INSERT INTO ${prefix}Friends VALUES (157, 342);
+INSERT INTO ${prefix}Friends VALUES (157, 459);
+INSERT INTO ${prefix}Friends VALUES (157, 487);
+INSERT INTO ${prefix}Friends VALUES (157, 490);
+INSERT INTO ${prefix}Friends VALUES (157, 565);
+INSERT INTO ${prefix}Friends VALUES (157, 588);
+INSERT INTO ${prefix}Friends VALUES (157, 592);
+INSERT INTO ${prefix}Friends VALUES (157, 735);
+INSERT INTO ${prefix}Friends VALUES (158, 247);
+INSERT INTO ${prefix}Friends VALUES (158, 315);
+INSERT INTO ${prefix}Friends VALUES (158, 353);
+INSERT INTO ${prefix}Friends VALUES (158, 566);
+INSERT INTO ${prefix}Friends VALUES (158, 580);
+INSERT INTO ${prefix}Friends VALUES (158, 587);
+INSERT INTO ${prefix}Friends VALUES (158, 740);
+INSERT INTO ${prefix}Friends VALUES (159, 219);
+INSERT INTO ${prefix}Friends VALUES (159, 334);
+INSERT INTO ${prefix}Friends VALUES (159, 361);
+INSERT INTO ${prefix}Friends VALUES (159, 529);
+INSERT INTO ${prefix}Friends VALUES (159, 558);
+INSERT INTO ${prefix}Friends VALUES (159, 646);
+INSERT INTO ${prefix}Friends VALUES (159, 712);
+INSERT INTO ${prefix}Friends VALUES (160, 294);
+INSERT INTO ${prefix}Friends VALUES (160, 306);
+INSERT INTO ${prefix}Friends VALUES (160, 378);
+INSERT INTO ${prefix}Friends VALUES (160, 547);
+INSERT INTO ${prefix}Friends VALUES (160, 566);
+INSERT INTO ${prefix}Friends VALUES (160, 682);
+INSERT INTO ${prefix}Friends VALUES (161, 196);
+INSERT INTO ${prefix}Friends VALUES (161, 274);
+INSERT INTO ${prefix}Friends VALUES (161, 350);
+INSERT INTO ${prefix}Friends VALUES (161, 453);
+INSERT INTO ${prefix}Friends VALUES (161, 509);
+INSERT INTO ${prefix}Friends VALUES (161, 511);
+INSERT INTO ${prefix}Friends VALUES (161, 646);
+INSERT INTO ${prefix}Friends VALUES (161, 672);
+INSERT INTO ${prefix}Friends VALUES (161, 679);
+INSERT INTO ${prefix}Friends VALUES (161, 707);
+INSERT INTO ${prefix}Friends VALUES (161, 729);
+INSERT INTO ${prefix}Friends VALUES (161, 734);
+INSERT INTO ${prefix}Friends VALUES (161, 748);
+INSERT INTO ${prefix}Friends VALUES (162, 327);
+INSERT INTO ${prefix}Friends VALUES (162, 472);
+INSERT INTO ${prefix}Friends VALUES (162, 504);
+INSERT INTO ${prefix}Friends VALUES (162, 535);
+INSERT INTO ${prefix}Friends VALUES (162, 560);
+INSERT INTO ${prefix}Friends VALUES (162, 618);
+INSERT INTO ${prefix}Friends VALUES (162, 626);
+INSERT INTO ${prefix}Friends VALUES (162, 729);
+INSERT INTO ${prefix}Friends VALUES (162, 763);
+INSERT INTO ${prefix}Friends VALUES (162, 788);
+INSERT INTO ${prefix}Friends VALUES (163, 338);
+INSERT INTO ${prefix}Friends VALUES (163, 353);
+INSERT INTO ${prefix}Friends VALUES (163, 368);
+INSERT INTO ${prefix}Friends VALUES (163, 408);
+INSERT INTO ${prefix}Friends VALUES (163, 421);
+INSERT INTO ${prefix}Friends VALUES (163, 476);
+INSERT INTO ${prefix}Friends VALUES (163, 556);
+INSERT INTO ${prefix}Friends VALUES (163, 761);
+INSERT INTO ${prefix}Friends VALUES (163, 790);
+INSERT INTO ${prefix}Friends VALUES (164, 367);
+INSERT INTO ${prefix}Friends VALUES (164, 399);
+INSERT INTO ${prefix}Friends VALUES (164, 709);
+INSERT INTO ${prefix}Friends VALUES (165, 218);
+INSERT INTO ${prefix}Friends VALUES (165, 265);
+INSERT INTO ${prefix}Friends VALUES (165, 289);
+INSERT INTO ${prefix}Friends VALUES (165, 298);
+INSERT INTO ${prefix}Friends VALUES (165, 473);
+INSERT INTO ${prefix}Friends VALUES (165, 515);
+INSERT INTO ${prefix}Friends VALUES (165, 592);
+INSERT INTO ${prefix}Friends VALUES (165, 654);
+INSERT INTO ${prefix}Friends VALUES (165, 733);
+INSERT INTO ${prefix}Friends VALUES (166, 177);
+INSERT INTO ${prefix}Friends VALUES (166, 205);
+INSERT INTO ${prefix}Friends VALUES (166, 287);
+INSERT INTO ${prefix}Friends VALUES (166, 318);
+INSERT INTO ${prefix}Friends VALUES (166, 332);
+INSERT INTO ${prefix}Friends VALUES (166, 473);
+INSERT INTO ${prefix}Friends VALUES (166, 498);
+INSERT INTO ${prefix}Friends VALUES (166, 566);
+INSERT INTO ${prefix}Friends VALUES (166, 685);
+INSERT INTO ${prefix}Friends VALUES (166, 760);
+INSERT INTO ${prefix}Friends VALUES (166, 764);
+INSERT INTO ${prefix}Friends VALUES (167, 224);
+INSERT INTO ${prefix}Friends VALUES (167, 248);
+INSERT INTO ${prefix}Friends VALUES (167, 318);
+INSERT INTO ${prefix}Friends VALUES (167, 496);
+INSERT INTO ${prefix}Friends VALUES (167, 526);
+INSERT INTO ${prefix}Friends VALUES (167, 542);
+INSERT INTO ${prefix}Friends VALUES (167, 553);
+INSERT INTO ${prefix}Friends VALUES (167, 561);
+INSERT INTO ${prefix}Friends VALUES (167, 592);
+INSERT INTO ${prefix}Friends VALUES (167, 600);
+INSERT INTO ${prefix}Friends VALUES (167, 665);
+INSERT INTO ${prefix}Friends VALUES (167, 704);
+INSERT INTO ${prefix}Friends VALUES (168, 331);
+INSERT INTO ${prefix}Friends VALUES (168, 402);
+INSERT INTO ${prefix}Friends VALUES (168, 404);
+INSERT INTO ${prefix}Friends VALUES (168, 416);
+INSERT INTO ${prefix}Friends VALUES (168, 464);
+INSERT INTO ${prefix}Friends VALUES (168, 483);
+INSERT INTO ${prefix}Friends VALUES (168, 594);
+INSERT INTO ${prefix}Friends VALUES (168, 619);
+INSERT INTO ${prefix}Friends VALUES (168, 681);
+INSERT INTO ${prefix}Friends VALUES (169, 173);
+INSERT INTO ${prefix}Friends VALUES (169, 211);
+INSERT INTO ${prefix}Friends VALUES (169, 230);
+INSERT INTO ${prefix}Friends VALUES (169, 289);
+INSERT INTO ${prefix}Friends VALUES (169, 330);
+INSERT INTO ${prefix}Friends VALUES (169, 341);
+INSERT INTO ${prefix}Friends VALUES (169, 354);
+INSERT INTO ${prefix}Friends VALUES (169, 379);
+INSERT INTO ${prefix}Friends VALUES (169, 535);
+INSERT INTO ${prefix}Friends VALUES (169, 579);
+INSERT INTO ${prefix}Friends VALUES (169, 639);
+INSERT INTO ${prefix}Friends VALUES (169, 661);
+INSERT INTO ${prefix}Friends VALUES (169, 692);
+INSERT INTO ${prefix}Friends VALUES (170, 177);
+INSERT INTO ${prefix}Friends VALUES (170, 205);
+INSERT INTO ${prefix}Friends VALUES (170, 222);
+INSERT INTO ${prefix}Friends VALUES (170, 326);
+INSERT INTO ${prefix}Friends VALUES (170, 354);
+INSERT INTO ${prefix}Friends VALUES (170, 472);
+INSERT INTO ${prefix}Friends VALUES (170, 483);
+INSERT INTO ${prefix}Friends VALUES (170, 598);
+INSERT INTO ${prefix}Friends VALUES (170, 747);
+INSERT INTO ${prefix}Friends VALUES (171, 200);
+INSERT INTO ${prefix}Friends VALUES (171, 221);
+INSERT INTO ${prefix}Friends VALUES (171, 329);
+INSERT INTO ${prefix}Friends VALUES (171, 399);
+INSERT INTO ${prefix}Friends VALUES (171, 460);
+INSERT INTO ${prefix}Friends VALUES (171, 536);
+INSERT INTO ${prefix}Friends VALUES (172, 201);
+INSERT INTO ${prefix}Friends VALUES (172, 206);
+INSERT INTO ${prefix}Friends VALUES (172, 297);
+INSERT INTO ${prefix}Friends VALUES (172, 376);
+INSERT INTO ${prefix}Friends VALUES (172, 385);
+INSERT INTO ${prefix}Friends VALUES (172, 398);
+INSERT INTO ${prefix}Friends VALUES (172, 426);
+INSERT INTO ${prefix}Friends VALUES (172, 481);
+INSERT INTO ${prefix}Friends VALUES (172, 487);
+INSERT INTO ${prefix}Friends VALUES (172, 564);
+INSERT INTO ${prefix}Friends VALUES (172, 622);
+INSERT INTO ${prefix}Friends VALUES (172, 664);
+INSERT INTO ${prefix}Friends VALUES (172, 694);
+INSERT INTO ${prefix}Friends VALUES (172, 751);
+INSERT INTO ${prefix}Friends VALUES (172, 783);
+INSERT INTO ${prefix}Friends VALUES (172, 788);
+INSERT INTO ${prefix}Friends VALUES (173, 305);
+INSERT INTO ${prefix}Friends VALUES (173, 312);
+INSERT INTO ${prefix}Friends VALUES (173, 321);
+INSERT INTO ${prefix}Friends VALUES (173, 389);
+INSERT INTO ${prefix}Friends VALUES (173, 512);
+INSERT INTO ${prefix}Friends VALUES (173, 634);
+INSERT INTO ${prefix}Friends VALUES (173, 680);
+INSERT INTO ${prefix}Friends VALUES (173, 756);
+INSERT INTO ${prefix}Friends VALUES (173, 786);
+INSERT INTO ${prefix}Friends VALUES (174, 328);
+INSERT INTO ${prefix}Friends VALUES (174, 385);
+INSERT INTO ${prefix}Friends VALUES (174, 405);
+INSERT INTO ${prefix}Friends VALUES (174, 569);
+INSERT INTO ${prefix}Friends VALUES (175, 196);
+INSERT INTO ${prefix}Friends VALUES (175, 197);
+INSERT INTO ${prefix}Friends VALUES (175, 201);
+INSERT INTO ${prefix}Friends VALUES (175, 234);
+INSERT INTO ${prefix}Friends VALUES (175, 325);
+INSERT INTO ${prefix}Friends VALUES (175, 385);
+INSERT INTO ${prefix}Friends VALUES (175, 688);
+INSERT INTO ${prefix}Friends VALUES (175, 700);
+INSERT INTO ${prefix}Friends VALUES (175, 790);
+INSERT INTO ${prefix}Friends VALUES (176, 262);
+INSERT INTO ${prefix}Friends VALUES (176, 321);
+INSERT INTO ${prefix}Friends VALUES (176, 404);
+INSERT INTO ${prefix}Friends VALUES (176, 485);
+INSERT INTO ${prefix}Friends VALUES (176, 604);
+INSERT INTO ${prefix}Friends VALUES (176, 610);
+INSERT INTO ${prefix}Friends VALUES (176, 666);
+INSERT INTO ${prefix}Friends VALUES (176, 683);
+INSERT INTO ${prefix}Friends VALUES (177, 195);
+INSERT INTO ${prefix}Friends VALUES (177, 309);
+INSERT INTO ${prefix}Friends VALUES (177, 599);
+INSERT INTO ${prefix}Friends VALUES (177, 662);
+INSERT INTO ${prefix}Friends VALUES (177, 688);
+INSERT INTO ${prefix}Friends VALUES (178, 221);
+INSERT INTO ${prefix}Friends VALUES (178, 236);
+INSERT INTO ${prefix}Friends VALUES (178, 382);
+INSERT INTO ${prefix}Friends VALUES (178, 424);
+INSERT INTO ${prefix}Friends VALUES (178, 503);
+INSERT INTO ${prefix}Friends VALUES (178, 508);
+INSERT INTO ${prefix}Friends VALUES (178, 509);
+INSERT INTO ${prefix}Friends VALUES (178, 568);
+INSERT INTO ${prefix}Friends VALUES (178, 591);
+INSERT INTO ${prefix}Friends VALUES (178, 624);
+INSERT INTO ${prefix}Friends VALUES (179, 208);
+INSERT INTO ${prefix}Friends VALUES (179, 267);
+INSERT INTO ${prefix}Friends VALUES (179, 318);
+INSERT INTO ${prefix}Friends VALUES (179, 330);
+INSERT INTO ${prefix}Friends VALUES (179, 356);
+INSERT INTO ${prefix}Friends VALUES (179, 397);
+INSERT INTO ${prefix}Friends VALUES (179, 467);
+INSERT INTO ${prefix}Friends VALUES (179, 571);
+INSERT INTO ${prefix}Friends VALUES (179, 672);
+INSERT INTO ${prefix}Friends VALUES (179, 733);
+INSERT INTO ${prefix}Friends VALUES (179, 755);
+INSERT INTO ${prefix}Friends VALUES (180, 559);
+INSERT INTO ${prefix}Friends VALUES (180, 566);
+INSERT INTO ${prefix}Friends VALUES (180, 681);
+INSERT INTO ${prefix}Friends VALUES (180, 699);
+INSERT INTO ${prefix}Friends VALUES (180, 743);
+INSERT INTO ${prefix}Friends VALUES (181, 232);
+INSERT INTO ${prefix}Friends VALUES (181, 282);
+INSERT INTO ${prefix}Friends VALUES (181, 327);
+INSERT INTO ${prefix}Friends VALUES (181, 335);
+INSERT INTO ${prefix}Friends VALUES (181, 387);
+INSERT INTO ${prefix}Friends VALUES (181, 422);
+INSERT INTO ${prefix}Friends VALUES (181, 449);
+INSERT INTO ${prefix}Friends VALUES (181, 460);
+INSERT INTO ${prefix}Friends VALUES (181, 483);
+INSERT INTO ${prefix}Friends VALUES (181, 560);
+INSERT INTO ${prefix}Friends VALUES (181, 569);
+INSERT INTO ${prefix}Friends VALUES (181, 660);
+INSERT INTO ${prefix}Friends VALUES (181, 791);
+INSERT INTO ${prefix}Friends VALUES (182, 344);
+INSERT INTO ${prefix}Friends VALUES (182, 345);
+INSERT INTO ${prefix}Friends VALUES (182, 357);
+INSERT INTO ${prefix}Friends VALUES (182, 391);
+INSERT INTO ${prefix}Friends VALUES (182, 530);
+INSERT INTO ${prefix}Friends VALUES (182, 559);
+INSERT INTO ${prefix}Friends VALUES (182, 586);
+INSERT INTO ${prefix}Friends VALUES (182, 610);
+INSERT INTO ${prefix}Friends VALUES (182, 637);
+INSERT INTO ${prefix}Friends VALUES (182, 642);
+INSERT INTO ${prefix}Friends VALUES (182, 691);
+INSERT INTO ${prefix}Friends VALUES (183, 231);
+INSERT INTO ${prefix}Friends VALUES (183, 239);
+INSERT INTO ${prefix}Friends VALUES (183, 256);
+INSERT INTO ${prefix}Friends VALUES (183, 297);
+INSERT INTO ${prefix}Friends VALUES (183, 438);
+INSERT INTO ${prefix}Friends VALUES (183, 453);
+INSERT INTO ${prefix}Friends VALUES (183, 472);
+INSERT INTO ${prefix}Friends VALUES (183, 480);
+INSERT INTO ${prefix}Friends VALUES (183, 526);
+INSERT INTO ${prefix}Friends VALUES (183, 630);
+INSERT INTO ${prefix}Friends VALUES (183, 780);
+INSERT INTO ${prefix}Friends VALUES (184, 251);
+INSERT INTO ${prefix}Friends VALUES (184, 312);
+INSERT INTO ${prefix}Friends VALUES (184, 373);
+INSERT INTO ${prefix}Friends VALUES (184, 441);
+INSERT INTO ${prefix}Friends VALUES (184, 461);
+INSERT INTO ${prefix}Friends VALUES (184, 513);
+INSERT INTO ${prefix}Friends VALUES (184, 735);
+INSERT INTO ${prefix}Friends VALUES (184, 774);
+INSERT INTO ${prefix}Friends VALUES (184, 779);
+INSERT INTO ${prefix}Friends VALUES (185, 286);
+INSERT INTO ${prefix}Friends VALUES (185, 487);
+INSERT INTO ${prefix}Friends VALUES (185, 568);
+INSERT INTO ${prefix}Friends VALUES (185, 588);
+INSERT INTO ${prefix}Friends VALUES (185, 629);
+INSERT INTO ${prefix}Friends VALUES (185, 739);
+INSERT INTO ${prefix}Friends VALUES (185, 752);
+INSERT INTO ${prefix}Friends VALUES (186, 316);
+INSERT INTO ${prefix}Friends VALUES (186, 357);
+INSERT INTO ${prefix}Friends VALUES (186, 364);
+INSERT INTO ${prefix}Friends VALUES (186, 616);
+INSERT INTO ${prefix}Friends VALUES (186, 667);
+INSERT INTO ${prefix}Friends VALUES (186, 717);
+INSERT INTO ${prefix}Friends VALUES (186, 724);
+INSERT INTO ${prefix}Friends VALUES (186, 731);
+INSERT INTO ${prefix}Friends VALUES (186, 776);
+INSERT INTO ${prefix}Friends VALUES (187, 231);
+INSERT INTO ${prefix}Friends VALUES (187, 384);
+INSERT INTO ${prefix}Friends VALUES (187, 427);
+INSERT INTO ${prefix}Friends VALUES (187, 532);
+INSERT INTO ${prefix}Friends VALUES (187, 543);
+INSERT INTO ${prefix}Friends VALUES (187, 566);
+INSERT INTO ${prefix}Friends VALUES (187, 568);
+INSERT INTO ${prefix}Friends VALUES (187, 571);
+INSERT INTO ${prefix}Friends VALUES (187, 608);
+INSERT INTO ${prefix}Friends VALUES (187, 641);
+INSERT INTO ${prefix}Friends VALUES (187, 648);
+INSERT INTO ${prefix}Friends VALUES (187, 650);
+INSERT INTO ${prefix}Friends VALUES (187, 677);
+INSERT INTO ${prefix}Friends VALUES (187, 746);
+INSERT INTO ${prefix}Friends VALUES (188, 300);
+INSERT INTO ${prefix}Friends VALUES (188, 309);
+INSERT INTO ${prefix}Friends VALUES (188, 548);
+INSERT INTO ${prefix}Friends VALUES (189, 399);
+INSERT INTO ${prefix}Friends VALUES (189, 428);
+INSERT INTO ${prefix}Friends VALUES (189, 464);
+INSERT INTO ${prefix}Friends VALUES (189, 520);
+INSERT INTO ${prefix}Friends VALUES (189, 541);
+INSERT INTO ${prefix}Friends VALUES (190, 208);
+INSERT INTO ${prefix}Friends VALUES (190, 502);
+INSERT INTO ${prefix}Friends VALUES (190, 536);
+INSERT INTO ${prefix}Friends VALUES (191, 242);
+INSERT INTO ${prefix}Friends VALUES (191, 293);
+INSERT INTO ${prefix}Friends VALUES (191, 517);
+INSERT INTO ${prefix}Friends VALUES (191, 571);
+INSERT INTO ${prefix}Friends VALUES (191, 710);
+INSERT INTO ${prefix}Friends VALUES (191, 776);
+INSERT INTO ${prefix}Friends VALUES (192, 449);
+INSERT INTO ${prefix}Friends VALUES (192, 481);
+INSERT INTO ${prefix}Friends VALUES (192, 492);
+INSERT INTO ${prefix}Friends VALUES (192, 521);
+INSERT INTO ${prefix}Friends VALUES (192, 522);
+INSERT INTO ${prefix}Friends VALUES (192, 561);
+INSERT INTO ${prefix}Friends VALUES (192, 601);
+INSERT INTO ${prefix}Friends VALUES (192, 694);
+INSERT INTO ${prefix}Friends VALUES (192, 755);
+INSERT INTO ${prefix}Friends VALUES (193, 229);
+INSERT INTO ${prefix}Friends VALUES (193, 271);
+INSERT INTO ${prefix}Friends VALUES (193, 427);
+INSERT INTO ${prefix}Friends VALUES (193, 626);
+INSERT INTO ${prefix}Friends VALUES (193, 686);
+INSERT INTO ${prefix}Friends VALUES (194, 237);
+INSERT INTO ${prefix}Friends VALUES (194, 321);
+INSERT INTO ${prefix}Friends VALUES (194, 395);
+INSERT INTO ${prefix}Friends VALUES (194, 597);
+INSERT INTO ${prefix}Friends VALUES (194, 627);
+INSERT INTO ${prefix}Friends VALUES (194, 643);
+INSERT INTO ${prefix}Friends VALUES (194, 699);
+INSERT INTO ${prefix}Friends VALUES (194, 759);
+INSERT INTO ${prefix}Friends VALUES (195, 225);
+INSERT INTO ${prefix}Friends VALUES (195, 269);
+INSERT INTO ${prefix}Friends VALUES (195, 322);
+INSERT INTO ${prefix}Friends VALUES (195, 366);
+INSERT INTO ${prefix}Friends VALUES (195, 589);
+INSERT INTO ${prefix}Friends VALUES (195, 666);
+INSERT INTO ${prefix}Friends VALUES (195, 672);
+INSERT INTO ${prefix}Friends VALUES (195, 681);
+INSERT INTO ${prefix}Friends VALUES (195, 764);
+INSERT INTO ${prefix}Friends VALUES (195, 775);
+INSERT INTO ${prefix}Friends VALUES (196, 200);
+INSERT INTO ${prefix}Friends VALUES (196, 221);
+INSERT INTO ${prefix}Friends VALUES (196, 341);
+INSERT INTO ${prefix}Friends VALUES (196, 441);
+INSERT INTO ${prefix}Friends VALUES (196, 466);
+INSERT INTO ${prefix}Friends VALUES (196, 502);
+INSERT INTO ${prefix}Friends VALUES (196, 611);
+INSERT INTO ${prefix}Friends VALUES (196, 710);
+INSERT INTO ${prefix}Friends VALUES (196, 723);
+INSERT INTO ${prefix}Friends VALUES (197, 209);
+INSERT INTO ${prefix}Friends VALUES (197, 266);
+INSERT INTO ${prefix}Friends VALUES (197, 405);
+INSERT INTO ${prefix}Friends VALUES (197, 469);
+INSERT INTO ${prefix}Friends VALUES (197, 480);
+INSERT INTO ${prefix}Friends VALUES (197, 516);
+INSERT INTO ${prefix}Friends VALUES (197, 691);
+INSERT INTO ${prefix}Friends VALUES (198, 228);
+INSERT INTO ${prefix}Friends VALUES (198, 231);
+INSERT INTO ${prefix}Friends VALUES (198, 254);
+INSERT INTO ${prefix}Friends VALUES (198, 256);
+INSERT INTO ${prefix}Friends VALUES (198, 276);
+INSERT INTO ${prefix}Friends VALUES (198, 339);
+INSERT INTO ${prefix}Friends VALUES (198, 408);
+INSERT INTO ${prefix}Friends VALUES (198, 492);
+INSERT INTO ${prefix}Friends VALUES (198, 520);
+INSERT INTO ${prefix}Friends VALUES (198, 631);
+INSERT INTO ${prefix}Friends VALUES (198, 768);
+INSERT INTO ${prefix}Friends VALUES (198, 775);
+INSERT INTO ${prefix}Friends VALUES (199, 303);
+INSERT INTO ${prefix}Friends VALUES (199, 332);
+INSERT INTO ${prefix}Friends VALUES (199, 352);
+INSERT INTO ${prefix}Friends VALUES (199, 489);
+INSERT INTO ${prefix}Friends VALUES (199, 512);
+INSERT INTO ${prefix}Friends VALUES (199, 539);
+INSERT INTO ${prefix}Friends VALUES (199, 545);
+INSERT INTO ${prefix}Friends VALUES (199, 590);
+INSERT INTO ${prefix}Friends VALUES (199, 708);
+INSERT INTO ${prefix}Friends VALUES (199, 716);
+INSERT INTO ${prefix}Friends VALUES (199, 780);
+INSERT INTO ${prefix}Friends VALUES (199, 781);
+INSERT INTO ${prefix}Friends VALUES (200, 349);
+INSERT INTO ${prefix}Friends VALUES (200, 453);
+INSERT INTO ${prefix}Friends VALUES (200, 472);
+INSERT INTO ${prefix}Friends VALUES (200, 500);
+INSERT INTO ${prefix}Friends VALUES (200, 566);
+INSERT INTO ${prefix}Friends VALUES (200, 680);
+INSERT INTO ${prefix}Friends VALUES (200, 762);
+INSERT INTO ${prefix}Friends VALUES (201, 354);
+INSERT INTO ${prefix}Friends VALUES (201, 449);
+INSERT INTO ${prefix}Friends VALUES (201, 540);
+INSERT INTO ${prefix}Friends VALUES (201, 634);
+INSERT INTO ${prefix}Friends VALUES (201, 650);
+INSERT INTO ${prefix}Friends VALUES (201, 693);
+INSERT INTO ${prefix}Friends VALUES (202, 342);
+INSERT INTO ${prefix}Friends VALUES (202, 355);
+INSERT INTO ${prefix}Friends VALUES (202, 471);
+INSERT INTO ${prefix}Friends VALUES (202, 494);
+INSERT INTO ${prefix}Friends VALUES (202, 508);
+INSERT INTO ${prefix}Friends VALUES (202, 543);
+INSERT INTO ${prefix}Friends VALUES (202, 560);
+INSERT INTO ${prefix}Friends VALUES (202, 571);
+INSERT INTO ${prefix}Friends VALUES (202, 674);
+INSERT INTO ${prefix}Friends VALUES (202, 691);
+INSERT INTO ${prefix}Friends VALUES (202, 768);
+INSERT INTO ${prefix}Friends VALUES (203, 216);
+INSERT INTO ${prefix}Friends VALUES (203, 276);
+INSERT INTO ${prefix}Friends VALUES (203, 294);
+INSERT INTO ${prefix}Friends VALUES (203, 390);
+INSERT INTO ${prefix}Friends VALUES (203, 405);
+INSERT INTO ${prefix}Friends VALUES (203, 439);
+INSERT INTO ${prefix}Friends VALUES (203, 566);
+INSERT INTO ${prefix}Friends VALUES (203, 636);
+INSERT INTO ${prefix}Friends VALUES (203, 653);
+INSERT INTO ${prefix}Friends VALUES (203, 764);
+INSERT INTO ${prefix}Friends VALUES (204, 246);
+INSERT INTO ${prefix}Friends VALUES (204, 410);
+INSERT INTO ${prefix}Friends VALUES (204, 493);
+INSERT INTO ${prefix}Friends VALUES (204, 763);
+INSERT INTO ${prefix}Friends VALUES (205, 458);
+INSERT INTO ${prefix}Friends VALUES (205, 529);
+INSERT INTO ${prefix}Friends VALUES (205, 571);
+INSERT INTO ${prefix}Friends VALUES (205, 671);
+INSERT INTO ${prefix}Friends VALUES (205, 702);
+INSERT INTO ${prefix}Friends VALUES (205, 725);
+INSERT INTO ${prefix}Friends VALUES (205, 775);
+INSERT INTO ${prefix}Friends VALUES (206, 220);
+INSERT INTO ${prefix}Friends VALUES (206, 301);
+INSERT INTO ${prefix}Friends VALUES (206, 335);
+INSERT INTO ${prefix}Friends VALUES (206, 399);
+INSERT INTO ${prefix}Friends VALUES (206, 480);
+INSERT INTO ${prefix}Friends VALUES (206, 528);
+INSERT INTO ${prefix}Friends VALUES (206, 560);
+INSERT INTO ${prefix}Friends VALUES (207, 302);
+INSERT INTO ${prefix}Friends VALUES (207, 313);
+INSERT INTO ${prefix}Friends VALUES (207, 350);
+INSERT INTO ${prefix}Friends VALUES (207, 425);
+INSERT INTO ${prefix}Friends VALUES (207, 470);
+INSERT INTO ${prefix}Friends VALUES (207, 486);
+INSERT INTO ${prefix}Friends VALUES (207, 501);
+INSERT INTO ${prefix}Friends VALUES (207, 502);
+INSERT INTO ${prefix}Friends VALUES (207, 607);
+INSERT INTO ${prefix}Friends VALUES (207, 640);
+INSERT INTO ${prefix}Friends VALUES (207, 648);
+INSERT INTO ${prefix}Friends VALUES (207, 743);
+INSERT INTO ${prefix}Friends VALUES (207, 787);
+INSERT INTO ${prefix}Friends VALUES (208, 288);
+INSERT INTO ${prefix}Friends VALUES (208, 318);
+INSERT INTO ${prefix}Friends VALUES (208, 338);
+INSERT INTO ${prefix}Friends VALUES (208, 378);
+INSERT INTO ${prefix}Friends VALUES (208, 400);
+INSERT INTO ${prefix}Friends VALUES (208, 734);
+INSERT INTO ${prefix}Friends VALUES (209, 217);
+INSERT INTO ${prefix}Friends VALUES (209, 338);
+INSERT INTO ${prefix}Friends VALUES (209, 532);
+INSERT INTO ${prefix}Friends VALUES (209, 597);
+INSERT INTO ${prefix}Friends VALUES (210, 473);
+INSERT INTO ${prefix}Friends VALUES (210, 591);
+INSERT INTO ${prefix}Friends VALUES (211, 238);
+INSERT INTO ${prefix}Friends VALUES (211, 367);
+INSERT INTO ${prefix}Friends VALUES (211, 572);
+INSERT INTO ${prefix}Friends VALUES (211, 616);
+INSERT INTO ${prefix}Friends VALUES (211, 639);
+INSERT INTO ${prefix}Friends VALUES (211, 755);
+INSERT INTO ${prefix}Friends VALUES (211, 774);
+INSERT INTO ${prefix}Friends VALUES (212, 218);
+INSERT INTO ${prefix}Friends VALUES (212, 287);
+INSERT INTO ${prefix}Friends VALUES (212, 290);
+INSERT INTO ${prefix}Friends VALUES (212, 316);
+INSERT INTO ${prefix}Friends VALUES (212, 358);
+INSERT INTO ${prefix}Friends VALUES (212, 360);
+INSERT INTO ${prefix}Friends VALUES (212, 393);
+INSERT INTO ${prefix}Friends VALUES (212, 456);
+INSERT INTO ${prefix}Friends VALUES (212, 658);
+INSERT INTO ${prefix}Friends VALUES (212, 719);
+INSERT INTO ${prefix}Friends VALUES (213, 487);
+INSERT INTO ${prefix}Friends VALUES (213, 531);
+INSERT INTO ${prefix}Friends VALUES (213, 617);
+INSERT INTO ${prefix}Friends VALUES (213, 663);
+INSERT INTO ${prefix}Friends VALUES (213, 715);
+INSERT INTO ${prefix}Friends VALUES (213, 767);
+INSERT INTO ${prefix}Friends VALUES (214, 217);
+INSERT INTO ${prefix}Friends VALUES (214, 222);
+INSERT INTO ${prefix}Friends VALUES (214, 330);
+INSERT INTO ${prefix}Friends VALUES (214, 427);
+INSERT INTO ${prefix}Friends VALUES (214, 512);
+INSERT INTO ${prefix}Friends VALUES (214, 559);
+INSERT INTO ${prefix}Friends VALUES (214, 581);
+INSERT INTO ${prefix}Friends VALUES (214, 604);
+INSERT INTO ${prefix}Friends VALUES (214, 674);
+INSERT INTO ${prefix}Friends VALUES (214, 688);
+INSERT INTO ${prefix}Friends VALUES (214, 729);
+INSERT INTO ${prefix}Friends VALUES (214, 790);
+INSERT INTO ${prefix}Friends VALUES (215, 241);
+INSERT INTO ${prefix}Friends VALUES (215, 379);
+INSERT INTO ${prefix}Friends VALUES (215, 385);
+INSERT INTO ${prefix}Friends VALUES (215, 445);
+INSERT INTO ${prefix}Friends VALUES (215, 569);
+INSERT INTO ${prefix}Friends VALUES (215, 577);
+INSERT INTO ${prefix}Friends VALUES (215, 710);
+INSERT INTO ${prefix}Friends VALUES (215, 745);
+INSERT INTO ${prefix}Friends VALUES (215, 753);
+INSERT INTO ${prefix}Friends VALUES (215, 779);
+INSERT INTO ${prefix}Friends VALUES (216, 250);
+INSERT INTO ${prefix}Friends VALUES (216, 263);
+INSERT INTO ${prefix}Friends VALUES (216, 298);
+INSERT INTO ${prefix}Friends VALUES (216, 342);
+INSERT INTO ${prefix}Friends VALUES (216, 367);
+INSERT INTO ${prefix}Friends VALUES (216, 390);
+INSERT INTO ${prefix}Friends VALUES (216, 468);
+INSERT INTO ${prefix}Friends VALUES (216, 566);
+INSERT INTO ${prefix}Friends VALUES (216, 602);
+INSERT INTO ${prefix}Friends VALUES (216, 638);
+INSERT INTO ${prefix}Friends VALUES (216, 700);
+INSERT INTO ${prefix}Friends VALUES (216, 768);
+INSERT INTO ${prefix}Friends VALUES (217, 450);
+INSERT INTO ${prefix}Friends VALUES (217, 490);
+INSERT INTO ${prefix}Friends VALUES (217, 513);
+INSERT INTO ${prefix}Friends VALUES (217, 627);
+INSERT INTO ${prefix}Friends VALUES (217, 728);
+INSERT INTO ${prefix}Friends VALUES (218, 225);
+INSERT INTO ${prefix}Friends VALUES (218, 449);
+INSERT INTO ${prefix}Friends VALUES (218, 596);
+INSERT INTO ${prefix}Friends VALUES (218, 610);
+INSERT INTO ${prefix}Friends VALUES (218, 616);
+INSERT INTO ${prefix}Friends VALUES (218, 667);
+INSERT INTO ${prefix}Friends VALUES (218, 668);
+INSERT INTO ${prefix}Friends VALUES (218, 702);
+INSERT INTO ${prefix}Friends VALUES (218, 775);
+INSERT INTO ${prefix}Friends VALUES (218, 788);
+INSERT INTO ${prefix}Friends VALUES (219, 235);
+INSERT INTO ${prefix}Friends VALUES (219, 272);
+INSERT INTO ${prefix}Friends VALUES (219, 336);
+INSERT INTO ${prefix}Friends VALUES (219, 394);
+INSERT INTO ${prefix}Friends VALUES (219, 536);
+INSERT INTO ${prefix}Friends VALUES (219, 606);
+INSERT INTO ${prefix}Friends VALUES (219, 659);
+INSERT INTO ${prefix}Friends VALUES (219, 782);
+INSERT INTO ${prefix}Friends VALUES (219, 787);
+INSERT INTO ${prefix}Friends VALUES (220, 350);
+INSERT INTO ${prefix}Friends VALUES (220, 352);
+INSERT INTO ${prefix}Friends VALUES (220, 524);
+INSERT INTO ${prefix}Friends VALUES (220, 723);
+INSERT INTO ${prefix}Friends VALUES (220, 782);
+INSERT INTO ${prefix}Friends VALUES (221, 232);
+INSERT INTO ${prefix}Friends VALUES (221, 290);
+INSERT INTO ${prefix}Friends VALUES (221, 608);
+INSERT INTO ${prefix}Friends VALUES (221, 639);
+INSERT INTO ${prefix}Friends VALUES (221, 672);
+INSERT INTO ${prefix}Friends VALUES (222, 455);
+INSERT INTO ${prefix}Friends VALUES (222, 605);
+INSERT INTO ${prefix}Friends VALUES (222, 674);
+INSERT INTO ${prefix}Friends VALUES (223, 448);
+INSERT INTO ${prefix}Friends VALUES (223, 456);
+INSERT INTO ${prefix}Friends VALUES (223, 514);
+INSERT INTO ${prefix}Friends VALUES (223, 525);
+INSERT INTO ${prefix}Friends VALUES (223, 763);
+INSERT INTO ${prefix}Friends VALUES (224, 263);
+INSERT INTO ${prefix}Friends VALUES (224, 289);
+INSERT INTO ${prefix}Friends VALUES (224, 609);
+INSERT INTO ${prefix}Friends VALUES (224, 731);
+INSERT INTO ${prefix}Friends VALUES (224, 778);
+INSERT INTO ${prefix}Friends VALUES (225, 230);
+INSERT INTO ${prefix}Friends VALUES (225, 273);
+INSERT INTO ${prefix}Friends VALUES (225, 348);
+INSERT INTO ${prefix}Friends VALUES (225, 349);
+INSERT INTO ${prefix}Friends VALUES (225, 419);
+INSERT INTO ${prefix}Friends VALUES (225, 472);
+INSERT INTO ${prefix}Friends VALUES (225, 566);
+INSERT INTO ${prefix}Friends VALUES (225, 637);
+INSERT INTO ${prefix}Friends VALUES (225, 659);
+INSERT INTO ${prefix}Friends VALUES (225, 664);
+INSERT INTO ${prefix}Friends VALUES (225, 724);
+INSERT INTO ${prefix}Friends VALUES (225, 773);
+INSERT INTO ${prefix}Friends VALUES (226, 441);
+INSERT INTO ${prefix}Friends VALUES (226, 505);
+INSERT INTO ${prefix}Friends VALUES (226, 593);
+INSERT INTO ${prefix}Friends VALUES (227, 488);
+INSERT INTO ${prefix}Friends VALUES (227, 586);
+INSERT INTO ${prefix}Friends VALUES (227, 618);
+INSERT INTO ${prefix}Friends VALUES (227, 655);
+INSERT INTO ${prefix}Friends VALUES (227, 690);
+INSERT INTO ${prefix}Friends VALUES (227, 711);
+INSERT INTO ${prefix}Friends VALUES (227, 713);
+INSERT INTO ${prefix}Friends VALUES (228, 536);
+INSERT INTO ${prefix}Friends VALUES (228, 559);
+INSERT INTO ${prefix}Friends VALUES (228, 629);
+INSERT INTO ${prefix}Friends VALUES (228, 779);
+INSERT INTO ${prefix}Friends VALUES (229, 335);
+INSERT INTO ${prefix}Friends VALUES (229, 449);
+INSERT INTO ${prefix}Friends VALUES (229, 502);
+INSERT INTO ${prefix}Friends VALUES (229, 642);
+INSERT INTO ${prefix}Friends VALUES (229, 646);
+INSERT INTO ${prefix}Friends VALUES (230, 380);
+INSERT INTO ${prefix}Friends VALUES (230, 451);
+INSERT INTO ${prefix}Friends VALUES (230, 477);
+INSERT INTO ${prefix}Friends VALUES (230, 650);
+INSERT INTO ${prefix}Friends VALUES (231, 377);
+INSERT INTO ${prefix}Friends VALUES (231, 627);
+INSERT INTO ${prefix}Friends VALUES (231, 645);
+INSERT INTO ${prefix}Friends VALUES (231, 685);
+INSERT INTO ${prefix}Friends VALUES (231, 770);
+INSERT INTO ${prefix}Friends VALUES (231, 783);
+INSERT INTO ${prefix}Friends VALUES (232, 320);
+INSERT INTO ${prefix}Friends VALUES (232, 378);
+INSERT INTO ${prefix}Friends VALUES (232, 711);
+INSERT INTO ${prefix}Friends VALUES (232, 765);
+INSERT INTO ${prefix}Friends VALUES (233, 253);
+INSERT INTO ${prefix}Friends VALUES (233, 292);
+INSERT INTO ${prefix}Friends VALUES (233, 350);
+INSERT INTO ${prefix}Friends VALUES (233, 356);
+INSERT INTO ${prefix}Friends VALUES (233, 431);
+INSERT INTO ${prefix}Friends VALUES (233, 449);
+INSERT INTO ${prefix}Friends VALUES (233, 564);
+INSERT INTO ${prefix}Friends VALUES (233, 566);
+INSERT INTO ${prefix}Friends VALUES (233, 589);
+INSERT INTO ${prefix}Friends VALUES (233, 597);
+INSERT INTO ${prefix}Friends VALUES (234, 274);
+INSERT INTO ${prefix}Friends VALUES (234, 323);
+INSERT INTO ${prefix}Friends VALUES (234, 337);
+INSERT INTO ${prefix}Friends VALUES (234, 522);
+INSERT INTO ${prefix}Friends VALUES (234, 635);
+INSERT INTO ${prefix}Friends VALUES (234, 687);
+INSERT INTO ${prefix}Friends VALUES (234, 799);
+INSERT INTO ${prefix}Friends VALUES (235, 273);
+INSERT INTO ${prefix}Friends VALUES (235, 312);
+INSERT INTO ${prefix}Friends VALUES (235, 323);
+INSERT INTO ${prefix}Friends VALUES (235, 397);
+INSERT INTO ${prefix}Friends VALUES (235, 501);
+INSERT INTO ${prefix}Friends VALUES (235, 528);
+INSERT INTO ${prefix}Friends VALUES (235, 560);
+INSERT INTO ${prefix}Friends VALUES (235, 570);
+INSERT INTO ${prefix}Friends VALUES (235, 684);
+INSERT INTO ${prefix}Friends VALUES (235, 692);
+INSERT INTO ${prefix}Friends VALUES (236, 388);
+INSERT INTO ${prefix}Friends VALUES (236, 455);
+INSERT INTO ${prefix}Friends VALUES (236, 479);
+INSERT INTO ${prefix}Friends VALUES (236, 552);
+INSERT INTO ${prefix}Friends VALUES (236, 657);
+INSERT INTO ${prefix}Friends VALUES (236, 714);
+INSERT INTO ${prefix}Friends VALUES (236, 770);
+INSERT INTO ${prefix}Friends VALUES (237, 365);
+INSERT INTO ${prefix}Friends VALUES (237, 402);
+INSERT INTO ${prefix}Friends VALUES (237, 430);
+INSERT INTO ${prefix}Friends VALUES (237, 511);
+INSERT INTO ${prefix}Friends VALUES (237, 522);
+INSERT INTO ${prefix}Friends VALUES (237, 578);
+INSERT INTO ${prefix}Friends VALUES (237, 747);
+INSERT INTO ${prefix}Friends VALUES (238, 370);
+INSERT INTO ${prefix}Friends VALUES (238, 400);
+INSERT INTO ${prefix}Friends VALUES (238, 544);
+INSERT INTO ${prefix}Friends VALUES (238, 637);
+INSERT INTO ${prefix}Friends VALUES (238, 638);
+INSERT INTO ${prefix}Friends VALUES (238, 760);
+INSERT INTO ${prefix}Friends VALUES (239, 273);
+INSERT INTO ${prefix}Friends VALUES (239, 419);
+INSERT INTO ${prefix}Friends VALUES (239, 431);
+INSERT INTO ${prefix}Friends VALUES (239, 521);
+INSERT INTO ${prefix}Friends VALUES (239, 605);
+INSERT INTO ${prefix}Friends VALUES (239, 728);
+INSERT INTO ${prefix}Friends VALUES (240, 301);
+INSERT INTO ${prefix}Friends VALUES (240, 345);
+INSERT INTO ${prefix}Friends VALUES (240, 374);
+INSERT INTO ${prefix}Friends VALUES (240, 476);
+INSERT INTO ${prefix}Friends VALUES (240, 493);
+INSERT INTO ${prefix}Friends VALUES (240, 502);
+INSERT INTO ${prefix}Friends VALUES (240, 611);
+INSERT INTO ${prefix}Friends VALUES (240, 662);
+INSERT INTO ${prefix}Friends VALUES (240, 708);
+INSERT INTO ${prefix}Friends VALUES (240, 719);
+INSERT INTO ${prefix}Friends VALUES (240, 753);
+INSERT INTO ${prefix}Friends VALUES (240, 783);
+INSERT INTO ${prefix}Friends VALUES (240, 786);
+INSERT INTO ${prefix}Friends VALUES (241, 295);
+INSERT INTO ${prefix}Friends VALUES (241, 407);
+INSERT INTO ${prefix}Friends VALUES (241, 589);
+INSERT INTO ${prefix}Friends VALUES (241, 651);
+INSERT INTO ${prefix}Friends VALUES (241, 654);
+INSERT INTO ${prefix}Friends VALUES (242, 356);
+INSERT INTO ${prefix}Friends VALUES (242, 371);
+INSERT INTO ${prefix}Friends VALUES (242, 393);
+INSERT INTO ${prefix}Friends VALUES (242, 401);
+INSERT INTO ${prefix}Friends VALUES (242, 464);
+INSERT INTO ${prefix}Friends VALUES (242, 631);
+INSERT INTO ${prefix}Friends VALUES (242, 704);
+INSERT INTO ${prefix}Friends VALUES (242, 761);
+INSERT INTO ${prefix}Friends VALUES (242, 773);
+INSERT INTO ${prefix}Friends VALUES (243, 399);
+INSERT INTO ${prefix}Friends VALUES (243, 462);
+INSERT INTO ${prefix}Friends VALUES (243, 633);
+INSERT INTO ${prefix}Friends VALUES (244, 249);
+INSERT INTO ${prefix}Friends VALUES (244, 276);
+INSERT INTO ${prefix}Friends VALUES (244, 356);
+INSERT INTO ${prefix}Friends VALUES (244, 512);
+INSERT INTO ${prefix}Friends VALUES (244, 531);
+INSERT INTO ${prefix}Friends VALUES (244, 551);
+INSERT INTO ${prefix}Friends VALUES (244, 597);
+INSERT INTO ${prefix}Friends VALUES (244, 647);
+INSERT INTO ${prefix}Friends VALUES (244, 748);
+INSERT INTO ${prefix}Friends VALUES (244, 772);
+INSERT INTO ${prefix}Friends VALUES (245, 249);
+INSERT INTO ${prefix}Friends VALUES (245, 299);
+INSERT INTO ${prefix}Friends VALUES (245, 337);
+INSERT INTO ${prefix}Friends VALUES (245, 375);
+INSERT INTO ${prefix}Friends VALUES (245, 696);
+INSERT INTO ${prefix}Friends VALUES (245, 792);
+INSERT INTO ${prefix}Friends VALUES (246, 342);
+INSERT INTO ${prefix}Friends VALUES (246, 408);
+INSERT INTO ${prefix}Friends VALUES (246, 560);
+INSERT INTO ${prefix}Friends VALUES (246, 736);
+INSERT INTO ${prefix}Friends VALUES (247, 334);
+INSERT INTO ${prefix}Friends VALUES (247, 480);
+INSERT INTO ${prefix}Friends VALUES (247, 667);
+INSERT INTO ${prefix}Friends VALUES (247, 702);
+INSERT INTO ${prefix}Friends VALUES (248, 264);
+INSERT INTO ${prefix}Friends VALUES (248, 281);
+INSERT INTO ${prefix}Friends VALUES (248, 295);
+INSERT INTO ${prefix}Friends VALUES (248, 335);
+INSERT INTO ${prefix}Friends VALUES (248, 475);
+INSERT INTO ${prefix}Friends VALUES (248, 595);
+INSERT INTO ${prefix}Friends VALUES (248, 601);
+INSERT INTO ${prefix}Friends VALUES (248, 679);
+INSERT INTO ${prefix}Friends VALUES (249, 306);
+INSERT INTO ${prefix}Friends VALUES (249, 380);
+INSERT INTO ${prefix}Friends VALUES (249, 519);
+INSERT INTO ${prefix}Friends VALUES (249, 722);
+INSERT INTO ${prefix}Friends VALUES (250, 263);
+INSERT INTO ${prefix}Friends VALUES (250, 278);
+INSERT INTO ${prefix}Friends VALUES (250, 387);
+INSERT INTO ${prefix}Friends VALUES (250, 600);
+INSERT INTO ${prefix}Friends VALUES (250, 744);
+INSERT INTO ${prefix}Friends VALUES (250, 761);
+INSERT INTO ${prefix}Friends VALUES (251, 301);
+INSERT INTO ${prefix}Friends VALUES (251, 326);
+INSERT INTO ${prefix}Friends VALUES (251, 334);
+INSERT INTO ${prefix}Friends VALUES (251, 479);
+INSERT INTO ${prefix}Friends VALUES (251, 495);
+INSERT INTO ${prefix}Friends VALUES (251, 514);
+INSERT INTO ${prefix}Friends VALUES (251, 626);
+INSERT INTO ${prefix}Friends VALUES (251, 670);
+INSERT INTO ${prefix}Friends VALUES (251, 738);
+INSERT INTO ${prefix}Friends VALUES (252, 258);
+INSERT INTO ${prefix}Friends VALUES (252, 454);
+INSERT INTO ${prefix}Friends VALUES (252, 603);
+INSERT INTO ${prefix}Friends VALUES (253, 290);
+INSERT INTO ${prefix}Friends VALUES (253, 340);
+INSERT INTO ${prefix}Friends VALUES (253, 341);
+INSERT INTO ${prefix}Friends VALUES (253, 479);
+INSERT INTO ${prefix}Friends VALUES (253, 498);
+INSERT INTO ${prefix}Friends VALUES (253, 503);
+INSERT INTO ${prefix}Friends VALUES (253, 655);
+INSERT INTO ${prefix}Friends VALUES (253, 702);
+INSERT INTO ${prefix}Friends VALUES (254, 336);
+INSERT INTO ${prefix}Friends VALUES (254, 401);
+INSERT INTO ${prefix}Friends VALUES (254, 675);
+INSERT INTO ${prefix}Friends VALUES (254, 690);
+INSERT INTO ${prefix}Friends VALUES (254, 758);
+INSERT INTO ${prefix}Friends VALUES (254, 774);
+INSERT INTO ${prefix}Friends VALUES (255, 287);
+INSERT INTO ${prefix}Friends VALUES (255, 357);
+INSERT INTO ${prefix}Friends VALUES (255, 398);
+INSERT INTO ${prefix}Friends VALUES (255, 577);
+INSERT INTO ${prefix}Friends VALUES (255, 630);
+INSERT INTO ${prefix}Friends VALUES (255, 652);
+INSERT INTO ${prefix}Friends VALUES (255, 677);
+INSERT INTO ${prefix}Friends VALUES (256, 453);
+INSERT INTO ${prefix}Friends VALUES (256, 560);
+INSERT INTO ${prefix}Friends VALUES (256, 619);
+INSERT INTO ${prefix}Friends VALUES (256, 689);
+INSERT INTO ${prefix}Friends VALUES (256, 707);
+INSERT INTO ${prefix}Friends VALUES (257, 298);
+INSERT INTO ${prefix}Friends VALUES (257, 412);
+INSERT INTO ${prefix}Friends VALUES (257, 563);
+INSERT INTO ${prefix}Friends VALUES (257, 656);
+INSERT INTO ${prefix}Friends VALUES (257, 697);
+INSERT INTO ${prefix}Friends VALUES (257, 736);
+INSERT INTO ${prefix}Friends VALUES (257, 767);
+INSERT INTO ${prefix}Friends VALUES (258, 373);
+INSERT INTO ${prefix}Friends VALUES (258, 477);
+INSERT INTO ${prefix}Friends VALUES (258, 519);
+INSERT INTO ${prefix}Friends VALUES (258, 556);
+INSERT INTO ${prefix}Friends VALUES (258, 566);
+INSERT INTO ${prefix}Friends VALUES (258, 737);
+INSERT INTO ${prefix}Friends VALUES (258, 743);
+INSERT INTO ${prefix}Friends VALUES (258, 799);
+INSERT INTO ${prefix}Friends VALUES (259, 456);
+INSERT INTO ${prefix}Friends VALUES (259, 481);
+INSERT INTO ${prefix}Friends VALUES (259, 520);
+INSERT INTO ${prefix}Friends VALUES (260, 282);
+INSERT INTO ${prefix}Friends VALUES (260, 328);
+INSERT INTO ${prefix}Friends VALUES (260, 449);
+INSERT INTO ${prefix}Friends VALUES (260, 560);
+INSERT INTO ${prefix}Friends VALUES (260, 581);
+INSERT INTO ${prefix}Friends VALUES (260, 599);
+INSERT INTO ${prefix}Friends VALUES (260, 692);
+INSERT INTO ${prefix}Friends VALUES (260, 759);
+INSERT INTO ${prefix}Friends VALUES (261, 528);
+INSERT INTO ${prefix}Friends VALUES (261, 533);
+INSERT INTO ${prefix}Friends VALUES (261, 687);
+INSERT INTO ${prefix}Friends VALUES (261, 750);
+INSERT INTO ${prefix}Friends VALUES (262, 277);
+INSERT INTO ${prefix}Friends VALUES (262, 301);
+INSERT INTO ${prefix}Friends VALUES (262, 357);
+INSERT INTO ${prefix}Friends VALUES (262, 507);
+INSERT INTO ${prefix}Friends VALUES (262, 581);
+INSERT INTO ${prefix}Friends VALUES (262, 713);
+INSERT INTO ${prefix}Friends VALUES (262, 714);
+INSERT INTO ${prefix}Friends VALUES (263, 305);
+INSERT INTO ${prefix}Friends VALUES (263, 408);
+INSERT INTO ${prefix}Friends VALUES (263, 447);
+INSERT INTO ${prefix}Friends VALUES (263, 453);
+INSERT INTO ${prefix}Friends VALUES (263, 560);
+INSERT INTO ${prefix}Friends VALUES (263, 575);
+INSERT INTO ${prefix}Friends VALUES (263, 583);
+INSERT INTO ${prefix}Friends VALUES (263, 658);
+INSERT INTO ${prefix}Friends VALUES (263, 696);
+INSERT INTO ${prefix}Friends VALUES (263, 726);
+INSERT INTO ${prefix}Friends VALUES (264, 280);
+INSERT INTO ${prefix}Friends VALUES (264, 316);
+INSERT INTO ${prefix}Friends VALUES (264, 369);
+INSERT INTO ${prefix}Friends VALUES (264, 397);
+INSERT INTO ${prefix}Friends VALUES (264, 475);
+INSERT INTO ${prefix}Friends VALUES (264, 650);
+INSERT INTO ${prefix}Friends VALUES (264, 651);
+INSERT INTO ${prefix}Friends VALUES (264, 685);
+INSERT INTO ${prefix}Friends VALUES (264, 687);
+INSERT INTO ${prefix}Friends VALUES (265, 404);
+INSERT INTO ${prefix}Friends VALUES (265, 432);
+INSERT INTO ${prefix}Friends VALUES (265, 468);
+INSERT INTO ${prefix}Friends VALUES (265, 529);
+INSERT INTO ${prefix}Friends VALUES (265, 569);
+INSERT INTO ${prefix}Friends VALUES (265, 573);
+INSERT INTO ${prefix}Friends VALUES (265, 641);
+INSERT INTO ${prefix}Friends VALUES (265, 725);
+INSERT INTO ${prefix}Friends VALUES (266, 381);
+INSERT INTO ${prefix}Friends VALUES (266, 382);
+INSERT INTO ${prefix}Friends VALUES (266, 474);
+INSERT INTO ${prefix}Friends VALUES (266, 487);
+INSERT INTO ${prefix}Friends VALUES (266, 508);
+INSERT INTO ${prefix}Friends VALUES (266, 643);
+INSERT INTO ${prefix}Friends VALUES (266, 656);
+INSERT INTO ${prefix}Friends VALUES (266, 657);
+INSERT INTO ${prefix}Friends VALUES (266, 686);
+INSERT INTO ${prefix}Friends VALUES (266, 754);
+INSERT INTO ${prefix}Friends VALUES (266, 774);
+INSERT INTO ${prefix}Friends VALUES (267, 314);
+INSERT INTO ${prefix}Friends VALUES (267, 566);
+INSERT INTO ${prefix}Friends VALUES (267, 623);
+INSERT INTO ${prefix}Friends VALUES (267, 637);
+INSERT INTO ${prefix}Friends VALUES (267, 724);
+INSERT INTO ${prefix}Friends VALUES (268, 348);
+INSERT INTO ${prefix}Friends VALUES (268, 585);
+INSERT INTO ${prefix}Friends VALUES (268, 684);
+INSERT INTO ${prefix}Friends VALUES (268, 710);
+INSERT INTO ${prefix}Friends VALUES (269, 314);
+INSERT INTO ${prefix}Friends VALUES (269, 419);
+INSERT INTO ${prefix}Friends VALUES (269, 548);
+INSERT INTO ${prefix}Friends VALUES (269, 553);
+INSERT INTO ${prefix}Friends VALUES (269, 591);
+INSERT INTO ${prefix}Friends VALUES (269, 700);
+INSERT INTO ${prefix}Friends VALUES (270, 372);
+INSERT INTO ${prefix}Friends VALUES (270, 404);
+INSERT INTO ${prefix}Friends VALUES (270, 436);
+INSERT INTO ${prefix}Friends VALUES (270, 606);
+INSERT INTO ${prefix}Friends VALUES (270, 612);
+INSERT INTO ${prefix}Friends VALUES (270, 666);
+INSERT INTO ${prefix}Friends VALUES (270, 667);
+INSERT INTO ${prefix}Friends VALUES (271, 310);
+INSERT INTO ${prefix}Friends VALUES (271, 389);
+INSERT INTO ${prefix}Friends VALUES (271, 397);
+INSERT INTO ${prefix}Friends VALUES (271, 493);
+INSERT INTO ${prefix}Friends VALUES (271, 495);
+INSERT INTO ${prefix}Friends VALUES (271, 525);
+INSERT INTO ${prefix}Friends VALUES (271, 724);
+INSERT INTO ${prefix}Friends VALUES (271, 727);
+INSERT INTO ${prefix}Friends VALUES (271, 743);
+INSERT INTO ${prefix}Friends VALUES (272, 303);
+INSERT INTO ${prefix}Friends VALUES (272, 454);
+INSERT INTO ${prefix}Friends VALUES (272, 638);
+INSERT INTO ${prefix}Friends VALUES (273, 317);
+INSERT INTO ${prefix}Friends VALUES (273, 354);
+INSERT INTO ${prefix}Friends VALUES (273, 448);
+INSERT INTO ${prefix}Friends VALUES (273, 468);
+INSERT INTO ${prefix}Friends VALUES (273, 582);
+INSERT INTO ${prefix}Friends VALUES (273, 598);
+INSERT INTO ${prefix}Friends VALUES (273, 628);
+INSERT INTO ${prefix}Friends VALUES (273, 679);
+INSERT INTO ${prefix}Friends VALUES (274, 321);
+INSERT INTO ${prefix}Friends VALUES (274, 338);
+INSERT INTO ${prefix}Friends VALUES (274, 410);
+INSERT INTO ${prefix}Friends VALUES (274, 512);
+INSERT INTO ${prefix}Friends VALUES (274, 702);
+INSERT INTO ${prefix}Friends VALUES (274, 790);
+INSERT INTO ${prefix}Friends VALUES (275, 313);
+INSERT INTO ${prefix}Friends VALUES (275, 357);
+INSERT INTO ${prefix}Friends VALUES (275, 375);
+INSERT INTO ${prefix}Friends VALUES (275, 685);
+INSERT INTO ${prefix}Friends VALUES (275, 691);
+INSERT INTO ${prefix}Friends VALUES (275, 716);
+INSERT INTO ${prefix}Friends VALUES (275, 732);
+INSERT INTO ${prefix}Friends VALUES (276, 315);
+INSERT INTO ${prefix}Friends VALUES (276, 408);
+INSERT INTO ${prefix}Friends VALUES (276, 536);
+INSERT INTO ${prefix}Friends VALUES (276, 660);
+INSERT INTO ${prefix}Friends VALUES (277, 298);
+INSERT INTO ${prefix}Friends VALUES (277, 527);
+INSERT INTO ${prefix}Friends VALUES (277, 566);
+INSERT INTO ${prefix}Friends VALUES (277, 600);
+INSERT INTO ${prefix}Friends VALUES (277, 642);
+INSERT INTO ${prefix}Friends VALUES (277, 680);
+INSERT INTO ${prefix}Friends VALUES (277, 724);
+INSERT INTO ${prefix}Friends VALUES (278, 326);
+INSERT INTO ${prefix}Friends VALUES (278, 343);
+INSERT INTO ${prefix}Friends VALUES (278, 346);
+INSERT INTO ${prefix}Friends VALUES (278, 378);
+INSERT INTO ${prefix}Friends VALUES (278, 443);
+INSERT INTO ${prefix}Friends VALUES (278, 598);
+INSERT INTO ${prefix}Friends VALUES (278, 723);
+INSERT INTO ${prefix}Friends VALUES (279, 288);
+INSERT INTO ${prefix}Friends VALUES (279, 298);
+INSERT INTO ${prefix}Friends VALUES (279, 344);
+INSERT INTO ${prefix}Friends VALUES (279, 411);
+INSERT INTO ${prefix}Friends VALUES (279, 418);
+INSERT INTO ${prefix}Friends VALUES (279, 561);
+INSERT INTO ${prefix}Friends VALUES (280, 388);
+INSERT INTO ${prefix}Friends VALUES (280, 400);
+INSERT INTO ${prefix}Friends VALUES (280, 479);
+INSERT INTO ${prefix}Friends VALUES (280, 630);
+INSERT INTO ${prefix}Friends VALUES (280, 759);
+INSERT INTO ${prefix}Friends VALUES (281, 314);
+INSERT INTO ${prefix}Friends VALUES (281, 321);
+INSERT INTO ${prefix}Friends VALUES (281, 373);
+INSERT INTO ${prefix}Friends VALUES (281, 381);
+INSERT INTO ${prefix}Friends VALUES (281, 390);
+INSERT INTO ${prefix}Friends VALUES (281, 416);
+INSERT INTO ${prefix}Friends VALUES (281, 417);
+INSERT INTO ${prefix}Friends VALUES (281, 470);
+INSERT INTO ${prefix}Friends VALUES (281, 486);
+INSERT INTO ${prefix}Friends VALUES (281, 595);
+INSERT INTO ${prefix}Friends VALUES (281, 611);
+INSERT INTO ${prefix}Friends VALUES (281, 736);
+INSERT INTO ${prefix}Friends VALUES (281, 787);
+INSERT INTO ${prefix}Friends VALUES (282, 286);
+INSERT INTO ${prefix}Friends VALUES (282, 395);
+INSERT INTO ${prefix}Friends VALUES (282, 587);
+INSERT INTO ${prefix}Friends VALUES (282, 649);
+INSERT INTO ${prefix}Friends VALUES (282, 725);
+INSERT INTO ${prefix}Friends VALUES (282, 733);
+INSERT INTO ${prefix}Friends VALUES (283, 571);
+INSERT INTO ${prefix}Friends VALUES (283, 622);
+INSERT INTO ${prefix}Friends VALUES (283, 729);
+INSERT INTO ${prefix}Friends VALUES (284, 330);
+INSERT INTO ${prefix}Friends VALUES (284, 381);
+INSERT INTO ${prefix}Friends VALUES (284, 412);
+INSERT INTO ${prefix}Friends VALUES (284, 424);
+INSERT INTO ${prefix}Friends VALUES (284, 433);
+INSERT INTO ${prefix}Friends VALUES (284, 451);
+INSERT INTO ${prefix}Friends VALUES (284, 578);
+INSERT INTO ${prefix}Friends VALUES (284, 679);
+INSERT INTO ${prefix}Friends VALUES (284, 752);
+INSERT INTO ${prefix}Friends VALUES (285, 295);
+INSERT INTO ${prefix}Friends VALUES (285, 418);
+INSERT INTO ${prefix}Friends VALUES (285, 520);
+INSERT INTO ${prefix}Friends VALUES (285, 686);
+INSERT INTO ${prefix}Friends VALUES (285, 713);
+INSERT INTO ${prefix}Friends VALUES (285, 796);
+INSERT INTO ${prefix}Friends VALUES (286, 343);
+INSERT INTO ${prefix}Friends VALUES (286, 436);
+INSERT INTO ${prefix}Friends VALUES (286, 468);
+INSERT INTO ${prefix}Friends VALUES (286, 554);
+INSERT INTO ${prefix}Friends VALUES (286, 700);
+INSERT INTO ${prefix}Friends VALUES (286, 731);
+INSERT INTO ${prefix}Friends VALUES (286, 745);
+INSERT INTO ${prefix}Friends VALUES (287, 379);
+INSERT INTO ${prefix}Friends VALUES (287, 446);
+INSERT INTO ${prefix}Friends VALUES (287, 452);
+INSERT INTO ${prefix}Friends VALUES (287, 469);
+INSERT INTO ${prefix}Friends VALUES (287, 515);
+INSERT INTO ${prefix}Friends VALUES (287, 657);
+INSERT INTO ${prefix}Friends VALUES (287, 665);
+INSERT INTO ${prefix}Friends VALUES (287, 731);
+INSERT INTO ${prefix}Friends VALUES (288, 352);
+INSERT INTO ${prefix}Friends VALUES (288, 474);
+INSERT INTO ${prefix}Friends VALUES (288, 570);
+INSERT INTO ${prefix}Friends VALUES (288, 601);
+INSERT INTO ${prefix}Friends VALUES (288, 720);
+INSERT INTO ${prefix}Friends VALUES (289, 341);
+INSERT INTO ${prefix}Friends VALUES (289, 394);
+INSERT INTO ${prefix}Friends VALUES (289, 400);
+INSERT INTO ${prefix}Friends VALUES (289, 487);
+INSERT INTO ${prefix}Friends VALUES (289, 543);
+INSERT INTO ${prefix}Friends VALUES (289, 707);
+INSERT INTO ${prefix}Friends VALUES (289, 784);
+INSERT INTO ${prefix}Friends VALUES (289, 794);
+INSERT INTO ${prefix}Friends VALUES (290, 375);
+INSERT INTO ${prefix}Friends VALUES (290, 432);
+INSERT INTO ${prefix}Friends VALUES (290, 438);
+INSERT INTO ${prefix}Friends VALUES (290, 492);
+INSERT INTO ${prefix}Friends VALUES (290, 508);
+INSERT INTO ${prefix}Friends VALUES (290, 520);
+INSERT INTO ${prefix}Friends VALUES (290, 559);
+INSERT INTO ${prefix}Friends VALUES (291, 429);
+INSERT INTO ${prefix}Friends VALUES (291, 463);
+INSERT INTO ${prefix}Friends VALUES (291, 564);
+INSERT INTO ${prefix}Friends VALUES (291, 626);
+INSERT INTO ${prefix}Friends VALUES (291, 630);
+INSERT INTO ${prefix}Friends VALUES (291, 657);
+INSERT INTO ${prefix}Friends VALUES (291, 747);
+INSERT INTO ${prefix}Friends VALUES (292, 371);
+INSERT INTO ${prefix}Friends VALUES (292, 495);
+INSERT INTO ${prefix}Friends VALUES (292, 517);
+INSERT INTO ${prefix}Friends VALUES (292, 535);
+INSERT INTO ${prefix}Friends VALUES (292, 557);
+INSERT INTO ${prefix}Friends VALUES (292, 632);
+INSERT INTO ${prefix}Friends VALUES (292, 680);
+INSERT INTO ${prefix}Friends VALUES (292, 706);
+INSERT INTO ${prefix}Friends VALUES (292, 742);
+INSERT INTO ${prefix}Friends VALUES (292, 787);
+INSERT INTO ${prefix}Friends VALUES (293, 370);
+INSERT INTO ${prefix}Friends VALUES (293, 457);
+INSERT INTO ${prefix}Friends VALUES (293, 461);
+INSERT INTO ${prefix}Friends VALUES (293, 587);
+INSERT INTO ${prefix}Friends VALUES (293, 608);
+INSERT INTO ${prefix}Friends VALUES (293, 671);
+INSERT INTO ${prefix}Friends VALUES (293, 692);
+INSERT INTO ${prefix}Friends VALUES (293, 708);
+INSERT INTO ${prefix}Friends VALUES (293, 725);
+INSERT INTO ${prefix}Friends VALUES (294, 316);
+INSERT INTO ${prefix}Friends VALUES (294, 445);
+INSERT INTO ${prefix}Friends VALUES (294, 593);
+INSERT INTO ${prefix}Friends VALUES (294, 601);
+INSERT INTO ${prefix}Friends VALUES (294, 646);
+INSERT INTO ${prefix}Friends VALUES (294, 686);
+INSERT INTO ${prefix}Friends VALUES (294, 689);
+INSERT INTO ${prefix}Friends VALUES (295, 355);
+INSERT INTO ${prefix}Friends VALUES (295, 403);
+INSERT INTO ${prefix}Friends VALUES (295, 541);
+INSERT INTO ${prefix}Friends VALUES (295, 558);
+INSERT INTO ${prefix}Friends VALUES (295, 799);
+INSERT INTO ${prefix}Friends VALUES (296, 320);
+INSERT INTO ${prefix}Friends VALUES (296, 363);
+INSERT INTO ${prefix}Friends VALUES (296, 401);
+INSERT INTO ${prefix}Friends VALUES (296, 420);
+INSERT INTO ${prefix}Friends VALUES (296, 468);
+INSERT INTO ${prefix}Friends VALUES (296, 668);
+INSERT INTO ${prefix}Friends VALUES (296, 685);
+INSERT INTO ${prefix}Friends VALUES (296, 712);
+INSERT INTO ${prefix}Friends VALUES (296, 720);
+INSERT INTO ${prefix}Friends VALUES (297, 359);
+INSERT INTO ${prefix}Friends VALUES (297, 409);
+INSERT INTO ${prefix}Friends VALUES (297, 487);
+INSERT INTO ${prefix}Friends VALUES (297, 559);
+INSERT INTO ${prefix}Friends VALUES (297, 682);
+INSERT INTO ${prefix}Friends VALUES (297, 686);
+INSERT INTO ${prefix}Friends VALUES (298, 622);
+INSERT INTO ${prefix}Friends VALUES (298, 682);
+INSERT INTO ${prefix}Friends VALUES (298, 767);
+INSERT INTO ${prefix}Friends VALUES (299, 312);
+INSERT INTO ${prefix}Friends VALUES (299, 355);
+INSERT INTO ${prefix}Friends VALUES (300, 389);
+INSERT INTO ${prefix}Friends VALUES (300, 516);
+INSERT INTO ${prefix}Friends VALUES (300, 526);
+INSERT INTO ${prefix}Friends VALUES (300, 538);
+INSERT INTO ${prefix}Friends VALUES (300, 683);
+INSERT INTO ${prefix}Friends VALUES (300, 704);
+INSERT INTO ${prefix}Friends VALUES (301, 536);
+INSERT INTO ${prefix}Friends VALUES (301, 560);
+INSERT INTO ${prefix}Friends VALUES (301, 569);
+INSERT INTO ${prefix}Friends VALUES (301, 606);
+INSERT INTO ${prefix}Friends VALUES (301, 631);
+INSERT INTO ${prefix}Friends VALUES (301, 782);
+INSERT INTO ${prefix}Friends VALUES (302, 306);
+INSERT INTO ${prefix}Friends VALUES (302, 324);
+INSERT INTO ${prefix}Friends VALUES (302, 528);
+INSERT INTO ${prefix}Friends VALUES (302, 607);
+INSERT INTO ${prefix}Friends VALUES (302, 613);
+INSERT INTO ${prefix}Friends VALUES (302, 755);
+INSERT INTO ${prefix}Friends VALUES (302, 757);
+INSERT INTO ${prefix}Friends VALUES (303, 312);
+INSERT INTO ${prefix}Friends VALUES (303, 339);
+INSERT INTO ${prefix}Friends VALUES (303, 380);
+INSERT INTO ${prefix}Friends VALUES (303, 642);
+INSERT INTO ${prefix}Friends VALUES (303, 694);
+INSERT INTO ${prefix}Friends VALUES (303, 741);
+INSERT INTO ${prefix}Friends VALUES (304, 342);
+INSERT INTO ${prefix}Friends VALUES (304, 415);
+INSERT INTO ${prefix}Friends VALUES (304, 439);
+INSERT INTO ${prefix}Friends VALUES (304, 448);
+INSERT INTO ${prefix}Friends VALUES (304, 486);
+INSERT INTO ${prefix}Friends VALUES (304, 490);
+INSERT INTO ${prefix}Friends VALUES (304, 609);
+INSERT INTO ${prefix}Friends VALUES (304, 627);
+INSERT INTO ${prefix}Friends VALUES (304, 712);
+INSERT INTO ${prefix}Friends VALUES (305, 409);
+INSERT INTO ${prefix}Friends VALUES (305, 570);
+INSERT INTO ${prefix}Friends VALUES (305, 608);
+INSERT INTO ${prefix}Friends VALUES (305, 681);
+INSERT INTO ${prefix}Friends VALUES (305, 697);
+INSERT INTO ${prefix}Friends VALUES (305, 703);
+INSERT INTO ${prefix}Friends VALUES (306, 410);
+INSERT INTO ${prefix}Friends VALUES (306, 527);
+INSERT INTO ${prefix}Friends VALUES (306, 682);
+INSERT INTO ${prefix}Friends VALUES (306, 705);
+INSERT INTO ${prefix}Friends VALUES (306, 767);
+INSERT INTO ${prefix}Friends VALUES (307, 471);
+INSERT INTO ${prefix}Friends VALUES (307, 609);
+INSERT INTO ${prefix}Friends VALUES (308, 360);
+INSERT INTO ${prefix}Friends VALUES (308, 407);
+INSERT INTO ${prefix}Friends VALUES (308, 498);
+INSERT INTO ${prefix}Friends VALUES (308, 724);
+INSERT INTO ${prefix}Friends VALUES (308, 783);
+INSERT INTO ${prefix}Friends VALUES (309, 400);
+INSERT INTO ${prefix}Friends VALUES (309, 405);
+INSERT INTO ${prefix}Friends VALUES (309, 454);
+INSERT INTO ${prefix}Friends VALUES (309, 502);
+INSERT INTO ${prefix}Friends VALUES (309, 569);
+INSERT INTO ${prefix}Friends VALUES (309, 689);
+INSERT INTO ${prefix}Friends VALUES (310, 353);
+INSERT INTO ${prefix}Friends VALUES (310, 355);
+INSERT INTO ${prefix}Friends VALUES (310, 399);
+INSERT INTO ${prefix}Friends VALUES (310, 466);
+INSERT INTO ${prefix}Friends VALUES (310, 557);
+INSERT INTO ${prefix}Friends VALUES (310, 628);
+INSERT INTO ${prefix}Friends VALUES (310, 676);
+INSERT INTO ${prefix}Friends VALUES (310, 681);
+INSERT INTO ${prefix}Friends VALUES (310, 773);
+INSERT INTO ${prefix}Friends VALUES (310, 779);
+INSERT INTO ${prefix}Friends VALUES (310, 793);
+INSERT INTO ${prefix}Friends VALUES (311, 399);
+INSERT INTO ${prefix}Friends VALUES (311, 610);
+INSERT INTO ${prefix}Friends VALUES (311, 631);
+INSERT INTO ${prefix}Friends VALUES (311, 699);
+INSERT INTO ${prefix}Friends VALUES (311, 733);
+INSERT INTO ${prefix}Friends VALUES (312, 360);
+INSERT INTO ${prefix}Friends VALUES (312, 445);
+INSERT INTO ${prefix}Friends VALUES (312, 605);
+INSERT INTO ${prefix}Friends VALUES (312, 673);
+INSERT INTO ${prefix}Friends VALUES (312, 791);
+INSERT INTO ${prefix}Friends VALUES (313, 314);
+INSERT INTO ${prefix}Friends VALUES (313, 335);
+INSERT INTO ${prefix}Friends VALUES (313, 630);
+INSERT INTO ${prefix}Friends VALUES (313, 684);
+INSERT INTO ${prefix}Friends VALUES (313, 738);
+INSERT INTO ${prefix}Friends VALUES (314, 428);
+INSERT INTO ${prefix}Friends VALUES (314, 512);
+INSERT INTO ${prefix}Friends VALUES (314, 530);
+INSERT INTO ${prefix}Friends VALUES (314, 545);
+INSERT INTO ${prefix}Friends VALUES (314, 583);
+INSERT INTO ${prefix}Friends VALUES (314, 641);
+INSERT INTO ${prefix}Friends VALUES (314, 690);
+INSERT INTO ${prefix}Friends VALUES (314, 727);
+INSERT INTO ${prefix}Friends VALUES (315, 385);
+INSERT INTO ${prefix}Friends VALUES (315, 393);
+INSERT INTO ${prefix}Friends VALUES (315, 417);
+INSERT INTO ${prefix}Friends VALUES (315, 437);
+INSERT INTO ${prefix}Friends VALUES (315, 522);
+INSERT INTO ${prefix}Friends VALUES (315, 614);
+INSERT INTO ${prefix}Friends VALUES (316, 388);
+INSERT INTO ${prefix}Friends VALUES (316, 455);
+INSERT INTO ${prefix}Friends VALUES (316, 523);
+INSERT INTO ${prefix}Friends VALUES (316, 528);
+INSERT INTO ${prefix}Friends VALUES (316, 651);
+INSERT INTO ${prefix}Friends VALUES (316, 680);
+INSERT INTO ${prefix}Friends VALUES (316, 732);
+INSERT INTO ${prefix}Friends VALUES (317, 330);
+INSERT INTO ${prefix}Friends VALUES (317, 347);
+INSERT INTO ${prefix}Friends VALUES (317, 527);
+INSERT INTO ${prefix}Friends VALUES (317, 599);
+INSERT INTO ${prefix}Friends VALUES (317, 682);
+INSERT INTO ${prefix}Friends VALUES (317, 701);
+INSERT INTO ${prefix}Friends VALUES (317, 706);
+INSERT INTO ${prefix}Friends VALUES (317, 738);
+INSERT INTO ${prefix}Friends VALUES (318, 334);
+INSERT INTO ${prefix}Friends VALUES (318, 391);
+INSERT INTO ${prefix}Friends VALUES (318, 596);
+INSERT INTO ${prefix}Friends VALUES (318, 749);
+INSERT INTO ${prefix}Friends VALUES (319, 324);
+INSERT INTO ${prefix}Friends VALUES (319, 327);
+INSERT INTO ${prefix}Friends VALUES (319, 328);
+INSERT INTO ${prefix}Friends VALUES (319, 381);
+INSERT INTO ${prefix}Friends VALUES (319, 421);
+INSERT INTO ${prefix}Friends VALUES (319, 431);
+INSERT INTO ${prefix}Friends VALUES (319, 443);
+INSERT INTO ${prefix}Friends VALUES (319, 452);
+INSERT INTO ${prefix}Friends VALUES (319, 594);
+INSERT INTO ${prefix}Friends VALUES (319, 711);
+INSERT INTO ${prefix}Friends VALUES (319, 714);
+INSERT INTO ${prefix}Friends VALUES (320, 358);
+INSERT INTO ${prefix}Friends VALUES (320, 537);
+INSERT INTO ${prefix}Friends VALUES (320, 595);
+INSERT INTO ${prefix}Friends VALUES (320, 624);
+INSERT INTO ${prefix}Friends VALUES (321, 386);
+INSERT INTO ${prefix}Friends VALUES (321, 455);
+INSERT INTO ${prefix}Friends VALUES (321, 466);
+INSERT INTO ${prefix}Friends VALUES (321, 468);
+INSERT INTO ${prefix}Friends VALUES (321, 479);
+INSERT INTO ${prefix}Friends VALUES (321, 603);
+INSERT INTO ${prefix}Friends VALUES (321, 720);
+INSERT INTO ${prefix}Friends VALUES (321, 738);
+INSERT INTO ${prefix}Friends VALUES (321, 746);
+INSERT INTO ${prefix}Friends VALUES (321, 783);
+INSERT INTO ${prefix}Friends VALUES (322, 440);
+INSERT INTO ${prefix}Friends VALUES (322, 477);
+INSERT INTO ${prefix}Friends VALUES (322, 743);
+INSERT INTO ${prefix}Friends VALUES (322, 769);
+INSERT INTO ${prefix}Friends VALUES (323, 335);
+INSERT INTO ${prefix}Friends VALUES (323, 408);
+INSERT INTO ${prefix}Friends VALUES (323, 758);
+INSERT INTO ${prefix}Friends VALUES (323, 785);
+INSERT INTO ${prefix}Friends VALUES (324, 476);
+INSERT INTO ${prefix}Friends VALUES (324, 621);
+INSERT INTO ${prefix}Friends VALUES (324, 745);
+INSERT INTO ${prefix}Friends VALUES (325, 481);
+INSERT INTO ${prefix}Friends VALUES (325, 494);
+INSERT INTO ${prefix}Friends VALUES (325, 497);
+INSERT INTO ${prefix}Friends VALUES (325, 555);
+INSERT INTO ${prefix}Friends VALUES (325, 565);
+INSERT INTO ${prefix}Friends VALUES (325, 666);
+INSERT INTO ${prefix}Friends VALUES (325, 704);
+INSERT INTO ${prefix}Friends VALUES (325, 764);
+INSERT INTO ${prefix}Friends VALUES (326, 370);
+INSERT INTO ${prefix}Friends VALUES (326, 401);
+INSERT INTO ${prefix}Friends VALUES (326, 432);
+INSERT INTO ${prefix}Friends VALUES (326, 505);
+INSERT INTO ${prefix}Friends VALUES (327, 388);
+INSERT INTO ${prefix}Friends VALUES (327, 566);
+INSERT INTO ${prefix}Friends VALUES (327, 568);
+INSERT INTO ${prefix}Friends VALUES (327, 600);
+INSERT INTO ${prefix}Friends VALUES (327, 704);
+INSERT INTO ${prefix}Friends VALUES (328, 493);
+INSERT INTO ${prefix}Friends VALUES (328, 590);
+INSERT INTO ${prefix}Friends VALUES (328, 670);
+INSERT INTO ${prefix}Friends VALUES (329, 378);
+INSERT INTO ${prefix}Friends VALUES (329, 589);
+INSERT INTO ${prefix}Friends VALUES (329, 683);
+INSERT INTO ${prefix}Friends VALUES (329, 689);
+INSERT INTO ${prefix}Friends VALUES (329, 705);
+INSERT INTO ${prefix}Friends VALUES (329, 755);
+INSERT INTO ${prefix}Friends VALUES (329, 795);
+INSERT INTO ${prefix}Friends VALUES (330, 567);
+INSERT INTO ${prefix}Friends VALUES (330, 600);
+INSERT INTO ${prefix}Friends VALUES (330, 682);
+INSERT INTO ${prefix}Friends VALUES (330, 741);
+INSERT INTO ${prefix}Friends VALUES (331, 358);
+INSERT INTO ${prefix}Friends VALUES (331, 443);
+INSERT INTO ${prefix}Friends VALUES (331, 481);
+INSERT INTO ${prefix}Friends VALUES (331, 488);
+INSERT INTO ${prefix}Friends VALUES (331, 723);
+INSERT INTO ${prefix}Friends VALUES (331, 751);
+INSERT INTO ${prefix}Friends VALUES (332, 427);
+INSERT INTO ${prefix}Friends VALUES (332, 441);
+INSERT INTO ${prefix}Friends VALUES (332, 461);
+INSERT INTO ${prefix}Friends VALUES (332, 469);
+INSERT INTO ${prefix}Friends VALUES (332, 566);
+INSERT INTO ${prefix}Friends VALUES (332, 614);
+INSERT INTO ${prefix}Friends VALUES (332, 629);
+INSERT INTO ${prefix}Friends VALUES (332, 699);
+INSERT INTO ${prefix}Friends VALUES (333, 339);
+INSERT INTO ${prefix}Friends VALUES (333, 353);
+INSERT INTO ${prefix}Friends VALUES (333, 360);
+INSERT INTO ${prefix}Friends VALUES (333, 397);
+INSERT INTO ${prefix}Friends VALUES (333, 616);
+INSERT INTO ${prefix}Friends VALUES (333, 636);
+INSERT INTO ${prefix}Friends VALUES (333, 671);
+INSERT INTO ${prefix}Friends VALUES (333, 762);
+INSERT INTO ${prefix}Friends VALUES (334, 372);
+INSERT INTO ${prefix}Friends VALUES (334, 390);
+INSERT INTO ${prefix}Friends VALUES (334, 399);
+INSERT INTO ${prefix}Friends VALUES (334, 404);
+INSERT INTO ${prefix}Friends VALUES (334, 476);
+INSERT INTO ${prefix}Friends VALUES (334, 706);
+INSERT INTO ${prefix}Friends VALUES (335, 377);
+INSERT INTO ${prefix}Friends VALUES (335, 412);
+INSERT INTO ${prefix}Friends VALUES (335, 555);
+INSERT INTO ${prefix}Friends VALUES (335, 690);
+INSERT INTO ${prefix}Friends VALUES (335, 691);
+INSERT INTO ${prefix}Friends VALUES (336, 404);
+INSERT INTO ${prefix}Friends VALUES (336, 410);
+INSERT INTO ${prefix}Friends VALUES (336, 548);
+INSERT INTO ${prefix}Friends VALUES (336, 558);
+INSERT INTO ${prefix}Friends VALUES (336, 718);
+INSERT INTO ${prefix}Friends VALUES (336, 762);
+INSERT INTO ${prefix}Friends VALUES (337, 362);
+INSERT INTO ${prefix}Friends VALUES (337, 566);
+INSERT INTO ${prefix}Friends VALUES (337, 578);
+INSERT INTO ${prefix}Friends VALUES (337, 616);
+INSERT INTO ${prefix}Friends VALUES (337, 676);
+INSERT INTO ${prefix}Friends VALUES (337, 756);
+INSERT INTO ${prefix}Friends VALUES (338, 350);
+INSERT INTO ${prefix}Friends VALUES (338, 355);
+INSERT INTO ${prefix}Friends VALUES (338, 369);
+INSERT INTO ${prefix}Friends VALUES (338, 580);
+INSERT INTO ${prefix}Friends VALUES (338, 590);
+INSERT INTO ${prefix}Friends VALUES (338, 611);
+INSERT INTO ${prefix}Friends VALUES (338, 647);
+INSERT INTO ${prefix}Friends VALUES (338, 759);
+INSERT INTO ${prefix}Friends VALUES (338, 799);
+INSERT INTO ${prefix}Friends VALUES (339, 430);
+INSERT INTO ${prefix}Friends VALUES (339, 539);
+INSERT INTO ${prefix}Friends VALUES (339, 650);
+INSERT INTO ${prefix}Friends VALUES (339, 651);
+INSERT INTO ${prefix}Friends VALUES (339, 739);
+INSERT INTO ${prefix}Friends VALUES (340, 383);
+INSERT INTO ${prefix}Friends VALUES (340, 407);
+INSERT INTO ${prefix}Friends VALUES (340, 487);
+INSERT INTO ${prefix}Friends VALUES (340, 519);
+INSERT INTO ${prefix}Friends VALUES (340, 560);
+INSERT INTO ${prefix}Friends VALUES (340, 576);
+INSERT INTO ${prefix}Friends VALUES (340, 661);
+INSERT INTO ${prefix}Friends VALUES (340, 691);
+INSERT INTO ${prefix}Friends VALUES (340, 756);
+INSERT INTO ${prefix}Friends VALUES (340, 761);
+INSERT INTO ${prefix}Friends VALUES (340, 788);
+INSERT INTO ${prefix}Friends VALUES (341, 410);
+INSERT INTO ${prefix}Friends VALUES (341, 509);
+INSERT INTO ${prefix}Friends VALUES (341, 581);
+INSERT INTO ${prefix}Friends VALUES (341, 588);
+INSERT INTO ${prefix}Friends VALUES (341, 597);
+INSERT INTO ${prefix}Friends VALUES (341, 633);
+INSERT INTO ${prefix}Friends VALUES (341, 697);
+INSERT INTO ${prefix}Friends VALUES (341, 738);
+INSERT INTO ${prefix}Friends VALUES (341, 761);
+INSERT INTO ${prefix}Friends VALUES (341, 776);
+INSERT INTO ${prefix}Friends VALUES (341, 787);
+INSERT INTO ${prefix}Friends VALUES (342, 442);
+INSERT INTO ${prefix}Friends VALUES (342, 511);
+INSERT INTO ${prefix}Friends VALUES (342, 541);
+INSERT INTO ${prefix}Friends VALUES (342, 545);
+INSERT INTO ${prefix}Friends VALUES (342, 626);
+INSERT INTO ${prefix}Friends VALUES (342, 649);
+INSERT INTO ${prefix}Friends VALUES (342, 679);
+INSERT INTO ${prefix}Friends VALUES (342, 718);
+INSERT INTO ${prefix}Friends VALUES (342, 786);
+INSERT INTO ${prefix}Friends VALUES (343, 365);
+INSERT INTO ${prefix}Friends VALUES (343, 387);
+INSERT INTO ${prefix}Friends VALUES (343, 681);
+INSERT INTO ${prefix}Friends VALUES (343, 727);
+INSERT INTO ${prefix}Friends VALUES (343, 771);
+INSERT INTO ${prefix}Friends VALUES (343, 787);
+INSERT INTO ${prefix}Friends VALUES (344, 378);
+INSERT INTO ${prefix}Friends VALUES (344, 393);
+INSERT INTO ${prefix}Friends VALUES (344, 622);
+INSERT INTO ${prefix}Friends VALUES (345, 492);
+INSERT INTO ${prefix}Friends VALUES (345, 687);
+INSERT INTO ${prefix}Friends VALUES (345, 740);
+INSERT INTO ${prefix}Friends VALUES (345, 745);
+INSERT INTO ${prefix}Friends VALUES (345, 787);
+INSERT INTO ${prefix}Friends VALUES (346, 396);
+INSERT INTO ${prefix}Friends VALUES (346, 450);
+INSERT INTO ${prefix}Friends VALUES (346, 454);
+INSERT INTO ${prefix}Friends VALUES (346, 455);
+INSERT INTO ${prefix}Friends VALUES (346, 540);
+INSERT INTO ${prefix}Friends VALUES (347, 352);
+INSERT INTO ${prefix}Friends VALUES (347, 408);
+INSERT INTO ${prefix}Friends VALUES (347, 446);
+INSERT INTO ${prefix}Friends VALUES (347, 525);
+INSERT INTO ${prefix}Friends VALUES (347, 600);
+INSERT INTO ${prefix}Friends VALUES (347, 612);
+INSERT INTO ${prefix}Friends VALUES (347, 619);
+INSERT INTO ${prefix}Friends VALUES (347, 625);
+INSERT INTO ${prefix}Friends VALUES (347, 632);
+INSERT INTO ${prefix}Friends VALUES (347, 639);
+INSERT INTO ${prefix}Friends VALUES (347, 646);
+INSERT INTO ${prefix}Friends VALUES (347, 649);
+INSERT INTO ${prefix}Friends VALUES (347, 731);
+INSERT INTO ${prefix}Friends VALUES (348, 432);
+INSERT INTO ${prefix}Friends VALUES (348, 444);
+INSERT INTO ${prefix}Friends VALUES (348, 458);
+INSERT INTO ${prefix}Friends VALUES (348, 475);
+INSERT INTO ${prefix}Friends VALUES (348, 540);
+INSERT INTO ${prefix}Friends VALUES (348, 543);
+INSERT INTO ${prefix}Friends VALUES (348, 544);
+INSERT INTO ${prefix}Friends VALUES (348, 554);
+INSERT INTO ${prefix}Friends VALUES (348, 569);
+INSERT INTO ${prefix}Friends VALUES (348, 599);
+INSERT INTO ${prefix}Friends VALUES (348, 633);
+INSERT INTO ${prefix}Friends VALUES (348, 701);
+INSERT INTO ${prefix}Friends VALUES (348, 705);
+INSERT INTO ${prefix}Friends VALUES (348, 711);
+INSERT INTO ${prefix}Friends VALUES (348, 755);
+INSERT INTO ${prefix}Friends VALUES (348, 759);
+INSERT INTO ${prefix}Friends VALUES (348, 763);
+INSERT INTO ${prefix}Friends VALUES (348, 772);
+INSERT INTO ${prefix}Friends VALUES (349, 417);
+INSERT INTO ${prefix}Friends VALUES (349, 457);
+INSERT INTO ${prefix}Friends VALUES (349, 460);
+INSERT INTO ${prefix}Friends VALUES (349, 472);
+INSERT INTO ${prefix}Friends VALUES (349, 498);
+INSERT INTO ${prefix}Friends VALUES (349, 503);
+INSERT INTO ${prefix}Friends VALUES (349, 560);
+INSERT INTO ${prefix}Friends VALUES (349, 703);
+INSERT INTO ${prefix}Friends VALUES (349, 749);
+INSERT INTO ${prefix}Friends VALUES (349, 754);
+INSERT INTO ${prefix}Friends VALUES (350, 469);
+INSERT INTO ${prefix}Friends VALUES (350, 697);
+INSERT INTO ${prefix}Friends VALUES (350, 699);
+INSERT INTO ${prefix}Friends VALUES (350, 783);
+INSERT INTO ${prefix}Friends VALUES (351, 415);
+INSERT INTO ${prefix}Friends VALUES (351, 560);
+INSERT INTO ${prefix}Friends VALUES (351, 595);
+INSERT INTO ${prefix}Friends VALUES (351, 705);
+INSERT INTO ${prefix}Friends VALUES (352, 357);
+INSERT INTO ${prefix}Friends VALUES (352, 495);
+INSERT INTO ${prefix}Friends VALUES (352, 520);
+INSERT INTO ${prefix}Friends VALUES (352, 589);
+INSERT INTO ${prefix}Friends VALUES (352, 659);
+INSERT INTO ${prefix}Friends VALUES (352, 661);
+INSERT INTO ${prefix}Friends VALUES (353, 487);
+INSERT INTO ${prefix}Friends VALUES (353, 517);
+INSERT INTO ${prefix}Friends VALUES (353, 580);
+INSERT INTO ${prefix}Friends VALUES (353, 599);
+INSERT INTO ${prefix}Friends VALUES (353, 733);
+INSERT INTO ${prefix}Friends VALUES (354, 568);
+INSERT INTO ${prefix}Friends VALUES (354, 600);
+INSERT INTO ${prefix}Friends VALUES (355, 388);
+INSERT INTO ${prefix}Friends VALUES (355, 424);
+INSERT INTO ${prefix}Friends VALUES (355, 628);
+INSERT INTO ${prefix}Friends VALUES (355, 662);
+INSERT INTO ${prefix}Friends VALUES (356, 502);
+INSERT INTO ${prefix}Friends VALUES (356, 699);
+INSERT INTO ${prefix}Friends VALUES (356, 709);
+INSERT INTO ${prefix}Friends VALUES (356, 728);
+INSERT INTO ${prefix}Friends VALUES (356, 732);
+INSERT INTO ${prefix}Friends VALUES (356, 755);
+INSERT INTO ${prefix}Friends VALUES (356, 771);
+INSERT INTO ${prefix}Friends VALUES (357, 434);
+INSERT INTO ${prefix}Friends VALUES (357, 454);
+INSERT INTO ${prefix}Friends VALUES (357, 457);
+INSERT INTO ${prefix}Friends VALUES (357, 636);
+INSERT INTO ${prefix}Friends VALUES (358, 513);
+INSERT INTO ${prefix}Friends VALUES (358, 517);
+INSERT INTO ${prefix}Friends VALUES (358, 532);
+INSERT INTO ${prefix}Friends VALUES (358, 548);
+INSERT INTO ${prefix}Friends VALUES (358, 585);
+INSERT INTO ${prefix}Friends VALUES (359, 377);
+INSERT INTO ${prefix}Friends VALUES (359, 424);
+INSERT INTO ${prefix}Friends VALUES (359, 543);
+INSERT INTO ${prefix}Friends VALUES (359, 603);
+INSERT INTO ${prefix}Friends VALUES (359, 670);
+INSERT INTO ${prefix}Friends VALUES (359, 708);
+INSERT INTO ${prefix}Friends VALUES (359, 720);
+INSERT INTO ${prefix}Friends VALUES (359, 796);
+INSERT INTO ${prefix}Friends VALUES (360, 381);
+INSERT INTO ${prefix}Friends VALUES (360, 396);
+INSERT INTO ${prefix}Friends VALUES (360, 429);
+INSERT INTO ${prefix}Friends VALUES (360, 508);
+INSERT INTO ${prefix}Friends VALUES (360, 535);
+INSERT INTO ${prefix}Friends VALUES (360, 693);
+INSERT INTO ${prefix}Friends VALUES (360, 704);
+INSERT INTO ${prefix}Friends VALUES (360, 713);
+INSERT INTO ${prefix}Friends VALUES (361, 539);
+INSERT INTO ${prefix}Friends VALUES (361, 683);
+INSERT INTO ${prefix}Friends VALUES (361, 697);
+INSERT INTO ${prefix}Friends VALUES (361, 717);
+INSERT INTO ${prefix}Friends VALUES (361, 727);
+INSERT INTO ${prefix}Friends VALUES (362, 396);
+INSERT INTO ${prefix}Friends VALUES (362, 398);
+INSERT INTO ${prefix}Friends VALUES (362, 404);
+INSERT INTO ${prefix}Friends VALUES (362, 438);
+INSERT INTO ${prefix}Friends VALUES (362, 521);
+INSERT INTO ${prefix}Friends VALUES (363, 451);
+INSERT INTO ${prefix}Friends VALUES (363, 521);
+INSERT INTO ${prefix}Friends VALUES (363, 566);
+INSERT INTO ${prefix}Friends VALUES (363, 627);
+INSERT INTO ${prefix}Friends VALUES (363, 724);
+INSERT INTO ${prefix}Friends VALUES (363, 766);
+INSERT INTO ${prefix}Friends VALUES (364, 566);
+INSERT INTO ${prefix}Friends VALUES (364, 627);
+INSERT INTO ${prefix}Friends VALUES (364, 717);
+INSERT INTO ${prefix}Friends VALUES (364, 741);
+INSERT INTO ${prefix}Friends VALUES (365, 467);
+INSERT INTO ${prefix}Friends VALUES (365, 493);
+INSERT INTO ${prefix}Friends VALUES (366, 376);
+INSERT INTO ${prefix}Friends VALUES (366, 562);
+INSERT INTO ${prefix}Friends VALUES (366, 585);
+INSERT INTO ${prefix}Friends VALUES (366, 626);
+INSERT INTO ${prefix}Friends VALUES (366, 648);
+INSERT INTO ${prefix}Friends VALUES (366, 738);
+INSERT INTO ${prefix}Friends VALUES (367, 371);
+INSERT INTO ${prefix}Friends VALUES (367, 392);
+INSERT INTO ${prefix}Friends VALUES (367, 404);
+INSERT INTO ${prefix}Friends VALUES (367, 479);
+INSERT INTO ${prefix}Friends VALUES (367, 490);
+INSERT INTO ${prefix}Friends VALUES (367, 608);
+INSERT INTO ${prefix}Friends VALUES (367, 644);
+INSERT INTO ${prefix}Friends VALUES (367, 653);
+INSERT INTO ${prefix}Friends VALUES (367, 667);
+INSERT INTO ${prefix}Friends VALUES (368, 399);
+INSERT INTO ${prefix}Friends VALUES (368, 453);
+INSERT INTO ${prefix}Friends VALUES (368, 716);
+INSERT INTO ${prefix}Friends VALUES (368, 731);
+INSERT INTO ${prefix}Friends VALUES (369, 499);
+INSERT INTO ${prefix}Friends VALUES (369, 506);
+INSERT INTO ${prefix}Friends VALUES (369, 565);
+INSERT INTO ${prefix}Friends VALUES (369, 566);
+INSERT INTO ${prefix}Friends VALUES (369, 767);
+INSERT INTO ${prefix}Friends VALUES (370, 494);
+INSERT INTO ${prefix}Friends VALUES (370, 526);
+INSERT INTO ${prefix}Friends VALUES (370, 539);
+INSERT INTO ${prefix}Friends VALUES (370, 599);
+INSERT INTO ${prefix}Friends VALUES (370, 776);
+INSERT INTO ${prefix}Friends VALUES (370, 799);
+INSERT INTO ${prefix}Friends VALUES (371, 542);
+INSERT INTO ${prefix}Friends VALUES (371, 566);
+INSERT INTO ${prefix}Friends VALUES (371, 645);
+INSERT INTO ${prefix}Friends VALUES (371, 668);
+INSERT INTO ${prefix}Friends VALUES (372, 538);
+INSERT INTO ${prefix}Friends VALUES (373, 399);
+INSERT INTO ${prefix}Friends VALUES (373, 412);
+INSERT INTO ${prefix}Friends VALUES (373, 769);
+INSERT INTO ${prefix}Friends VALUES (373, 777);
+INSERT INTO ${prefix}Friends VALUES (373, 788);
+INSERT INTO ${prefix}Friends VALUES (374, 397);
+INSERT INTO ${prefix}Friends VALUES (374, 417);
+INSERT INTO ${prefix}Friends VALUES (374, 512);
+INSERT INTO ${prefix}Friends VALUES (374, 687);
+INSERT INTO ${prefix}Friends VALUES (374, 778);
+INSERT INTO ${prefix}Friends VALUES (374, 794);
+INSERT INTO ${prefix}Friends VALUES (375, 513);
+INSERT INTO ${prefix}Friends VALUES (375, 790);
+INSERT INTO ${prefix}Friends VALUES (376, 414);
+INSERT INTO ${prefix}Friends VALUES (376, 493);
+INSERT INTO ${prefix}Friends VALUES (376, 507);
+INSERT INTO ${prefix}Friends VALUES (376, 550);
+INSERT INTO ${prefix}Friends VALUES (376, 551);
+INSERT INTO ${prefix}Friends VALUES (376, 621);
+INSERT INTO ${prefix}Friends VALUES (376, 651);
+INSERT INTO ${prefix}Friends VALUES (376, 664);
+INSERT INTO ${prefix}Friends VALUES (376, 703);
+INSERT INTO ${prefix}Friends VALUES (377, 428);
+INSERT INTO ${prefix}Friends VALUES (377, 470);
+INSERT INTO ${prefix}Friends VALUES (377, 503);
+INSERT INTO ${prefix}Friends VALUES (377, 510);
+INSERT INTO ${prefix}Friends VALUES (377, 560);
+INSERT INTO ${prefix}Friends VALUES (377, 694);
+INSERT INTO ${prefix}Friends VALUES (378, 410);
+INSERT INTO ${prefix}Friends VALUES (378, 620);
+INSERT INTO ${prefix}Friends VALUES (378, 686);
+INSERT INTO ${prefix}Friends VALUES (378, 771);
+INSERT INTO ${prefix}Friends VALUES (379, 478);
+INSERT INTO ${prefix}Friends VALUES (379, 540);
+INSERT INTO ${prefix}Friends VALUES (379, 557);
+INSERT INTO ${prefix}Friends VALUES (379, 563);
+INSERT INTO ${prefix}Friends VALUES (379, 745);
+INSERT INTO ${prefix}Friends VALUES (379, 771);
+INSERT INTO ${prefix}Friends VALUES (380, 523);
+INSERT INTO ${prefix}Friends VALUES (380, 545);
+INSERT INTO ${prefix}Friends VALUES (380, 741);
+INSERT INTO ${prefix}Friends VALUES (380, 783);
+INSERT INTO ${prefix}Friends VALUES (381, 565);
+INSERT INTO ${prefix}Friends VALUES (381, 576);
+INSERT INTO ${prefix}Friends VALUES (381, 609);
+INSERT INTO ${prefix}Friends VALUES (381, 792);
+INSERT INTO ${prefix}Friends VALUES (382, 492);
+INSERT INTO ${prefix}Friends VALUES (382, 502);
+INSERT INTO ${prefix}Friends VALUES (382, 567);
+INSERT INTO ${prefix}Friends VALUES (382, 769);
+INSERT INTO ${prefix}Friends VALUES (383, 514);
+INSERT INTO ${prefix}Friends VALUES (383, 593);
+INSERT INTO ${prefix}Friends VALUES (383, 609);
+INSERT INTO ${prefix}Friends VALUES (383, 647);
+INSERT INTO ${prefix}Friends VALUES (383, 742);
+INSERT INTO ${prefix}Friends VALUES (383, 747);
+INSERT INTO ${prefix}Friends VALUES (383, 749);
+INSERT INTO ${prefix}Friends VALUES (384, 427);
+INSERT INTO ${prefix}Friends VALUES (384, 436);
+INSERT INTO ${prefix}Friends VALUES (384, 566);
+INSERT INTO ${prefix}Friends VALUES (384, 680);
+INSERT INTO ${prefix}Friends VALUES (385, 388);
+INSERT INTO ${prefix}Friends VALUES (385, 400);
+INSERT INTO ${prefix}Friends VALUES (385, 412);
+INSERT INTO ${prefix}Friends VALUES (385, 471);
+INSERT INTO ${prefix}Friends VALUES (385, 516);
+INSERT INTO ${prefix}Friends VALUES (385, 566);
+INSERT INTO ${prefix}Friends VALUES (385, 586);
+INSERT INTO ${prefix}Friends VALUES (385, 588);
+INSERT INTO ${prefix}Friends VALUES (385, 723);
+INSERT INTO ${prefix}Friends VALUES (385, 724);
+INSERT INTO ${prefix}Friends VALUES (386, 414);
+INSERT INTO ${prefix}Friends VALUES (386, 557);
+INSERT INTO ${prefix}Friends VALUES (386, 665);
+INSERT INTO ${prefix}Friends VALUES (386, 679);
+INSERT INTO ${prefix}Friends VALUES (387, 412);
+INSERT INTO ${prefix}Friends VALUES (387, 420);
+INSERT INTO ${prefix}Friends VALUES (387, 556);
+INSERT INTO ${prefix}Friends VALUES (388, 424);
+INSERT INTO ${prefix}Friends VALUES (388, 552);
+INSERT INTO ${prefix}Friends VALUES (388, 575);
+INSERT INTO ${prefix}Friends VALUES (388, 589);
+INSERT INTO ${prefix}Friends VALUES (388, 709);
+INSERT INTO ${prefix}Friends VALUES (388, 736);
+INSERT INTO ${prefix}Friends VALUES (389, 479);
+INSERT INTO ${prefix}Friends VALUES (389, 640);
+INSERT INTO ${prefix}Friends VALUES (390, 439);
+INSERT INTO ${prefix}Friends VALUES (390, 478);
+INSERT INTO ${prefix}Friends VALUES (390, 538);
+INSERT INTO ${prefix}Friends VALUES (390, 614);
+INSERT INTO ${prefix}Friends VALUES (391, 393);
+INSERT INTO ${prefix}Friends VALUES (391, 556);
+INSERT INTO ${prefix}Friends VALUES (391, 662);
+INSERT INTO ${prefix}Friends VALUES (391, 694);
+INSERT INTO ${prefix}Friends VALUES (391, 758);
+INSERT INTO ${prefix}Friends VALUES (392, 396);
+INSERT INTO ${prefix}Friends VALUES (392, 746);
+INSERT INTO ${prefix}Friends VALUES (392, 774);
+INSERT INTO ${prefix}Friends VALUES (393, 430);
+INSERT INTO ${prefix}Friends VALUES (394, 501);
+INSERT INTO ${prefix}Friends VALUES (394, 506);
+INSERT INTO ${prefix}Friends VALUES (394, 580);
+INSERT INTO ${prefix}Friends VALUES (394, 791);
+INSERT INTO ${prefix}Friends VALUES (394, 799);
+INSERT INTO ${prefix}Friends VALUES (395, 453);
+INSERT INTO ${prefix}Friends VALUES (395, 468);
+INSERT INTO ${prefix}Friends VALUES (395, 650);
+INSERT INTO ${prefix}Friends VALUES (395, 658);
+INSERT INTO ${prefix}Friends VALUES (395, 714);
+INSERT INTO ${prefix}Friends VALUES (395, 720);
+INSERT INTO ${prefix}Friends VALUES (395, 721);
+INSERT INTO ${prefix}Friends VALUES (395, 731);
+INSERT INTO ${prefix}Friends VALUES (395, 737);
+INSERT INTO ${prefix}Friends VALUES (395, 748);
+INSERT INTO ${prefix}Friends VALUES (396, 416);
+INSERT INTO ${prefix}Friends VALUES (396, 448);
+INSERT INTO ${prefix}Friends VALUES (396, 485);
+INSERT INTO ${prefix}Friends VALUES (396, 549);
+INSERT INTO ${prefix}Friends VALUES (397, 466);
+INSERT INTO ${prefix}Friends VALUES (397, 683);
+INSERT INTO ${prefix}Friends VALUES (398, 405);
+INSERT INTO ${prefix}Friends VALUES (398, 452);
+INSERT INTO ${prefix}Friends VALUES (398, 543);
+INSERT INTO ${prefix}Friends VALUES (398, 648);
+INSERT INTO ${prefix}Friends VALUES (398, 704);
+INSERT INTO ${prefix}Friends VALUES (399, 456);
+INSERT INTO ${prefix}Friends VALUES (399, 566);
+INSERT INTO ${prefix}Friends VALUES (399, 604);
+INSERT INTO ${prefix}Friends VALUES (400, 537);
+INSERT INTO ${prefix}Friends VALUES (400, 552);
+INSERT INTO ${prefix}Friends VALUES (400, 554);
+INSERT INTO ${prefix}Friends VALUES (400, 593);
+INSERT INTO ${prefix}Friends VALUES (400, 598);
+INSERT INTO ${prefix}Friends VALUES (400, 642);
+INSERT INTO ${prefix}Friends VALUES (400, 663);
+INSERT INTO ${prefix}Friends VALUES (401, 445);
+INSERT INTO ${prefix}Friends VALUES (401, 495);
+INSERT INTO ${prefix}Friends VALUES (401, 569);
+INSERT INTO ${prefix}Friends VALUES (401, 746);
+INSERT INTO ${prefix}Friends VALUES (402, 440);
+INSERT INTO ${prefix}Friends VALUES (402, 464);
+INSERT INTO ${prefix}Friends VALUES (402, 550);
+INSERT INTO ${prefix}Friends VALUES (402, 562);
+INSERT INTO ${prefix}Friends VALUES (402, 692);
+INSERT INTO ${prefix}Friends VALUES (403, 411);
+INSERT INTO ${prefix}Friends VALUES (403, 424);
+INSERT INTO ${prefix}Friends VALUES (403, 433);
+INSERT INTO ${prefix}Friends VALUES (403, 434);
+INSERT INTO ${prefix}Friends VALUES (403, 649);
+INSERT INTO ${prefix}Friends VALUES (403, 712);
+INSERT INTO ${prefix}Friends VALUES (403, 783);
+INSERT INTO ${prefix}Friends VALUES (403, 787);
+INSERT INTO ${prefix}Friends VALUES (404, 405);
+INSERT INTO ${prefix}Friends VALUES (404, 508);
+INSERT INTO ${prefix}Friends VALUES (404, 672);
+INSERT INTO ${prefix}Friends VALUES (404, 703);
+INSERT INTO ${prefix}Friends VALUES (404, 738);
+INSERT INTO ${prefix}Friends VALUES (404, 764);
+INSERT INTO ${prefix}Friends VALUES (404, 773);
+INSERT INTO ${prefix}Friends VALUES (405, 545);
+INSERT INTO ${prefix}Friends VALUES (405, 573);
+INSERT INTO ${prefix}Friends VALUES (405, 590);
+INSERT INTO ${prefix}Friends VALUES (405, 707);
+INSERT INTO ${prefix}Friends VALUES (405, 708);
+INSERT INTO ${prefix}Friends VALUES (405, 790);
+INSERT INTO ${prefix}Friends VALUES (406, 619);
+INSERT INTO ${prefix}Friends VALUES (406, 624);
+INSERT INTO ${prefix}Friends VALUES (406, 675);
+INSERT INTO ${prefix}Friends VALUES (406, 728);
+INSERT INTO ${prefix}Friends VALUES (407, 409);
+INSERT INTO ${prefix}Friends VALUES (407, 486);
+INSERT INTO ${prefix}Friends VALUES (407, 565);
+INSERT INTO ${prefix}Friends VALUES (407, 571);
+INSERT INTO ${prefix}Friends VALUES (407, 681);
+INSERT INTO ${prefix}Friends VALUES (407, 751);
+INSERT INTO ${prefix}Friends VALUES (408, 653);
+INSERT INTO ${prefix}Friends VALUES (408, 738);
+INSERT INTO ${prefix}Friends VALUES (408, 768);
+INSERT INTO ${prefix}Friends VALUES (408, 789);
+INSERT INTO ${prefix}Friends VALUES (408, 795);
+INSERT INTO ${prefix}Friends VALUES (409, 419);
+INSERT INTO ${prefix}Friends VALUES (409, 454);
+INSERT INTO ${prefix}Friends VALUES (409, 578);
+INSERT INTO ${prefix}Friends VALUES (409, 650);
+INSERT INTO ${prefix}Friends VALUES (409, 671);
+INSERT INTO ${prefix}Friends VALUES (409, 686);
+INSERT INTO ${prefix}Friends VALUES (409, 714);
+INSERT INTO ${prefix}Friends VALUES (409, 728);
+INSERT INTO ${prefix}Friends VALUES (410, 415);
+INSERT INTO ${prefix}Friends VALUES (410, 473);
+INSERT INTO ${prefix}Friends VALUES (410, 554);
+INSERT INTO ${prefix}Friends VALUES (410, 617);
+INSERT INTO ${prefix}Friends VALUES (411, 471);
+INSERT INTO ${prefix}Friends VALUES (411, 540);
+INSERT INTO ${prefix}Friends VALUES (411, 648);
+INSERT INTO ${prefix}Friends VALUES (411, 660);
+INSERT INTO ${prefix}Friends VALUES (411, 667);
+INSERT INTO ${prefix}Friends VALUES (412, 448);
+INSERT INTO ${prefix}Friends VALUES (412, 631);
+INSERT INTO ${prefix}Friends VALUES (412, 650);
+INSERT INTO ${prefix}Friends VALUES (412, 755);
+INSERT INTO ${prefix}Friends VALUES (413, 530);
+INSERT INTO ${prefix}Friends VALUES (413, 703);
+INSERT INTO ${prefix}Friends VALUES (413, 799);
+INSERT INTO ${prefix}Friends VALUES (414, 440);
+INSERT INTO ${prefix}Friends VALUES (414, 507);
+INSERT INTO ${prefix}Friends VALUES (414, 570);
+INSERT INTO ${prefix}Friends VALUES (414, 612);
+INSERT INTO ${prefix}Friends VALUES (414, 653);
+INSERT INTO ${prefix}Friends VALUES (414, 656);
+INSERT INTO ${prefix}Friends VALUES (414, 780);
+INSERT INTO ${prefix}Friends VALUES (415, 552);
+INSERT INTO ${prefix}Friends VALUES (415, 683);
+INSERT INTO ${prefix}Friends VALUES (415, 775);
+INSERT INTO ${prefix}Friends VALUES (416, 469);
+INSERT INTO ${prefix}Friends VALUES (416, 680);
+INSERT INTO ${prefix}Friends VALUES (417, 418);
+INSERT INTO ${prefix}Friends VALUES (417, 515);
+INSERT INTO ${prefix}Friends VALUES (417, 610);
+INSERT INTO ${prefix}Friends VALUES (417, 744);
+INSERT INTO ${prefix}Friends VALUES (418, 554);
+INSERT INTO ${prefix}Friends VALUES (418, 560);
+INSERT INTO ${prefix}Friends VALUES (418, 686);
+INSERT INTO ${prefix}Friends VALUES (418, 743);
+INSERT INTO ${prefix}Friends VALUES (419, 438);
+INSERT INTO ${prefix}Friends VALUES (419, 445);
+INSERT INTO ${prefix}Friends VALUES (419, 483);
+INSERT INTO ${prefix}Friends VALUES (419, 523);
+INSERT INTO ${prefix}Friends VALUES (419, 555);
+INSERT INTO ${prefix}Friends VALUES (419, 627);
+INSERT INTO ${prefix}Friends VALUES (419, 720);
+INSERT INTO ${prefix}Friends VALUES (419, 729);
+INSERT INTO ${prefix}Friends VALUES (420, 433);
+INSERT INTO ${prefix}Friends VALUES (420, 451);
+INSERT INTO ${prefix}Friends VALUES (420, 551);
+INSERT INTO ${prefix}Friends VALUES (420, 566);
+INSERT INTO ${prefix}Friends VALUES (420, 613);
+INSERT INTO ${prefix}Friends VALUES (420, 618);
+INSERT INTO ${prefix}Friends VALUES (420, 648);
+INSERT INTO ${prefix}Friends VALUES (420, 675);
+INSERT INTO ${prefix}Friends VALUES (420, 704);
+INSERT INTO ${prefix}Friends VALUES (420, 724);
+INSERT INTO ${prefix}Friends VALUES (421, 472);
+INSERT INTO ${prefix}Friends VALUES (421, 684);
+INSERT INTO ${prefix}Friends VALUES (421, 731);
+INSERT INTO ${prefix}Friends VALUES (422, 496);
+INSERT INTO ${prefix}Friends VALUES (422, 560);
+INSERT INTO ${prefix}Friends VALUES (422, 566);
+INSERT INTO ${prefix}Friends VALUES (422, 652);
+INSERT INTO ${prefix}Friends VALUES (422, 655);
+INSERT INTO ${prefix}Friends VALUES (422, 672);
+INSERT INTO ${prefix}Friends VALUES (422, 681);
+INSERT INTO ${prefix}Friends VALUES (423, 486);
+INSERT INTO ${prefix}Friends VALUES (423, 551);
+INSERT INTO ${prefix}Friends VALUES (423, 591);
+INSERT INTO ${prefix}Friends VALUES (423, 610);
+INSERT INTO ${prefix}Friends VALUES (423, 684);
+INSERT INTO ${prefix}Friends VALUES (423, 784);
+INSERT INTO ${prefix}Friends VALUES (424, 571);
+INSERT INTO ${prefix}Friends VALUES (424, 599);
+INSERT INTO ${prefix}Friends VALUES (424, 613);
+INSERT INTO ${prefix}Friends VALUES (424, 646);
+INSERT INTO ${prefix}Friends VALUES (424, 724);
+INSERT INTO ${prefix}Friends VALUES (424, 768);
+INSERT INTO ${prefix}Friends VALUES (425, 549);
+INSERT INTO ${prefix}Friends VALUES (426, 439);
+INSERT INTO ${prefix}Friends VALUES (426, 565);
+INSERT INTO ${prefix}Friends VALUES (426, 640);
+INSERT INTO ${prefix}Friends VALUES (426, 652);
+INSERT INTO ${prefix}Friends VALUES (426, 743);
+INSERT INTO ${prefix}Friends VALUES (427, 490);
+INSERT INTO ${prefix}Friends VALUES (427, 516);
+INSERT INTO ${prefix}Friends VALUES (427, 567);
+INSERT INTO ${prefix}Friends VALUES (427, 568);
+INSERT INTO ${prefix}Friends VALUES (427, 657);
+INSERT INTO ${prefix}Friends VALUES (427, 723);
+INSERT INTO ${prefix}Friends VALUES (427, 769);
+INSERT INTO ${prefix}Friends VALUES (428, 439);
+INSERT INTO ${prefix}Friends VALUES (428, 450);
+INSERT INTO ${prefix}Friends VALUES (428, 454);
+INSERT INTO ${prefix}Friends VALUES (428, 667);
+INSERT INTO ${prefix}Friends VALUES (429, 485);
+INSERT INTO ${prefix}Friends VALUES (429, 676);
+INSERT INTO ${prefix}Friends VALUES (429, 771);
+INSERT INTO ${prefix}Friends VALUES (430, 453);
+INSERT INTO ${prefix}Friends VALUES (430, 457);
+INSERT INTO ${prefix}Friends VALUES (430, 461);
+INSERT INTO ${prefix}Friends VALUES (430, 694);
+INSERT INTO ${prefix}Friends VALUES (430, 728);
+INSERT INTO ${prefix}Friends VALUES (431, 443);
+INSERT INTO ${prefix}Friends VALUES (431, 478);
+INSERT INTO ${prefix}Friends VALUES (431, 522);
+INSERT INTO ${prefix}Friends VALUES (431, 730);
+INSERT INTO ${prefix}Friends VALUES (431, 746);
+INSERT INTO ${prefix}Friends VALUES (431, 765);
+INSERT INTO ${prefix}Friends VALUES (432, 566);
+INSERT INTO ${prefix}Friends VALUES (432, 664);
+INSERT INTO ${prefix}Friends VALUES (432, 705);
+INSERT INTO ${prefix}Friends VALUES (433, 601);
+INSERT INTO ${prefix}Friends VALUES (433, 749);
+INSERT INTO ${prefix}Friends VALUES (433, 768);
+INSERT INTO ${prefix}Friends VALUES (434, 574);
+INSERT INTO ${prefix}Friends VALUES (434, 641);
+INSERT INTO ${prefix}Friends VALUES (434, 698);
+INSERT INTO ${prefix}Friends VALUES (434, 736);
+INSERT INTO ${prefix}Friends VALUES (435, 560);
+INSERT INTO ${prefix}Friends VALUES (435, 673);
+INSERT INTO ${prefix}Friends VALUES (435, 682);
+INSERT INTO ${prefix}Friends VALUES (436, 456);
+INSERT INTO ${prefix}Friends VALUES (437, 623);
+INSERT INTO ${prefix}Friends VALUES (437, 692);
+INSERT INTO ${prefix}Friends VALUES (437, 700);
+INSERT INTO ${prefix}Friends VALUES (437, 710);
+INSERT INTO ${prefix}Friends VALUES (437, 738);
+INSERT INTO ${prefix}Friends VALUES (437, 778);
+INSERT INTO ${prefix}Friends VALUES (437, 797);
+INSERT INTO ${prefix}Friends VALUES (438, 473);
+INSERT INTO ${prefix}Friends VALUES (438, 566);
+INSERT INTO ${prefix}Friends VALUES (438, 698);
+INSERT INTO ${prefix}Friends VALUES (438, 724);
+INSERT INTO ${prefix}Friends VALUES (438, 780);
+INSERT INTO ${prefix}Friends VALUES (439, 450);
+INSERT INTO ${prefix}Friends VALUES (439, 639);
+INSERT INTO ${prefix}Friends VALUES (439, 694);
+INSERT INTO ${prefix}Friends VALUES (439, 734);
+INSERT INTO ${prefix}Friends VALUES (439, 757);
+INSERT INTO ${prefix}Friends VALUES (440, 510);
+INSERT INTO ${prefix}Friends VALUES (440, 519);
+INSERT INTO ${prefix}Friends VALUES (440, 532);
+INSERT INTO ${prefix}Friends VALUES (440, 586);
+INSERT INTO ${prefix}Friends VALUES (440, 710);
+INSERT INTO ${prefix}Friends VALUES (440, 721);
+INSERT INTO ${prefix}Friends VALUES (440, 741);
+INSERT INTO ${prefix}Friends VALUES (441, 517);
+INSERT INTO ${prefix}Friends VALUES (441, 675);
+INSERT INTO ${prefix}Friends VALUES (441, 754);
+INSERT INTO ${prefix}Friends VALUES (442, 512);
+INSERT INTO ${prefix}Friends VALUES (442, 552);
+INSERT INTO ${prefix}Friends VALUES (442, 629);
+INSERT INTO ${prefix}Friends VALUES (442, 642);
+INSERT INTO ${prefix}Friends VALUES (442, 699);
+INSERT INTO ${prefix}Friends VALUES (442, 748);
+INSERT INTO ${prefix}Friends VALUES (443, 455);
+INSERT INTO ${prefix}Friends VALUES (443, 525);
+INSERT INTO ${prefix}Friends VALUES (443, 646);
+INSERT INTO ${prefix}Friends VALUES (443, 733);
+INSERT INTO ${prefix}Friends VALUES (443, 784);
+INSERT INTO ${prefix}Friends VALUES (444, 487);
+INSERT INTO ${prefix}Friends VALUES (444, 566);
+INSERT INTO ${prefix}Friends VALUES (444, 746);
+INSERT INTO ${prefix}Friends VALUES (445, 525);
+INSERT INTO ${prefix}Friends VALUES (445, 574);
+INSERT INTO ${prefix}Friends VALUES (445, 710);
+INSERT INTO ${prefix}Friends VALUES (445, 716);
+INSERT INTO ${prefix}Friends VALUES (445, 790);
+INSERT INTO ${prefix}Friends VALUES (446, 487);
+INSERT INTO ${prefix}Friends VALUES (446, 499);
+INSERT INTO ${prefix}Friends VALUES (446, 527);
+INSERT INTO ${prefix}Friends VALUES (446, 681);
+INSERT INTO ${prefix}Friends VALUES (446, 733);
+INSERT INTO ${prefix}Friends VALUES (447, 472);
+INSERT INTO ${prefix}Friends VALUES (447, 551);
+INSERT INTO ${prefix}Friends VALUES (447, 598);
+INSERT INTO ${prefix}Friends VALUES (447, 774);
+INSERT INTO ${prefix}Friends VALUES (447, 779);
+INSERT INTO ${prefix}Friends VALUES (447, 793);
+INSERT INTO ${prefix}Friends VALUES (448, 452);
+INSERT INTO ${prefix}Friends VALUES (448, 459);
+INSERT INTO ${prefix}Friends VALUES (448, 483);
+INSERT INTO ${prefix}Friends VALUES (448, 526);
+INSERT INTO ${prefix}Friends VALUES (448, 656);
+INSERT INTO ${prefix}Friends VALUES (448, 679);
+INSERT INTO ${prefix}Friends VALUES (448, 704);
+INSERT INTO ${prefix}Friends VALUES (448, 710);
+INSERT INTO ${prefix}Friends VALUES (448, 766);
+INSERT INTO ${prefix}Friends VALUES (449, 516);
+INSERT INTO ${prefix}Friends VALUES (449, 649);
+INSERT INTO ${prefix}Friends VALUES (449, 761);
+INSERT INTO ${prefix}Friends VALUES (450, 790);
+INSERT INTO ${prefix}Friends VALUES (451, 540);
+INSERT INTO ${prefix}Friends VALUES (451, 560);
+INSERT INTO ${prefix}Friends VALUES (451, 630);
+INSERT INTO ${prefix}Friends VALUES (451, 667);
+INSERT INTO ${prefix}Friends VALUES (451, 751);
+INSERT INTO ${prefix}Friends VALUES (452, 469);
+INSERT INTO ${prefix}Friends VALUES (452, 483);
+INSERT INTO ${prefix}Friends VALUES (452, 534);
+INSERT INTO ${prefix}Friends VALUES (452, 597);
+INSERT INTO ${prefix}Friends VALUES (452, 601);
+INSERT INTO ${prefix}Friends VALUES (452, 664);
+INSERT INTO ${prefix}Friends VALUES (452, 686);
+INSERT INTO ${prefix}Friends VALUES (453, 471);
+INSERT INTO ${prefix}Friends VALUES (453, 487);
+INSERT INTO ${prefix}Friends VALUES (453, 506);
+INSERT INTO ${prefix}Friends VALUES (453, 526);
+INSERT INTO ${prefix}Friends VALUES (453, 749);
+INSERT INTO ${prefix}Friends VALUES (454, 474);
+INSERT INTO ${prefix}Friends VALUES (454, 546);
+INSERT INTO ${prefix}Friends VALUES (454, 567);
+INSERT INTO ${prefix}Friends VALUES (454, 612);
+INSERT INTO ${prefix}Friends VALUES (454, 757);
+INSERT INTO ${prefix}Friends VALUES (454, 767);
+INSERT INTO ${prefix}Friends VALUES (454, 788);
+INSERT INTO ${prefix}Friends VALUES (455, 602);
+INSERT INTO ${prefix}Friends VALUES (455, 666);
+INSERT INTO ${prefix}Friends VALUES (455, 749);
+INSERT INTO ${prefix}Friends VALUES (455, 768);
+INSERT INTO ${prefix}Friends VALUES (456, 557);
+INSERT INTO ${prefix}Friends VALUES (456, 566);
+INSERT INTO ${prefix}Friends VALUES (456, 665);
+INSERT INTO ${prefix}Friends VALUES (456, 695);
+INSERT INTO ${prefix}Friends VALUES (456, 716);
+INSERT INTO ${prefix}Friends VALUES (456, 758);
+INSERT INTO ${prefix}Friends VALUES (457, 522);
+INSERT INTO ${prefix}Friends VALUES (457, 641);
+INSERT INTO ${prefix}Friends VALUES (457, 744);
+INSERT INTO ${prefix}Friends VALUES (458, 560);
+INSERT INTO ${prefix}Friends VALUES (458, 587);
+INSERT INTO ${prefix}Friends VALUES (458, 640);
+INSERT INTO ${prefix}Friends VALUES (458, 735);
+INSERT INTO ${prefix}Friends VALUES (458, 751);
+INSERT INTO ${prefix}Friends VALUES (458, 759);
+INSERT INTO ${prefix}Friends VALUES (459, 554);
+INSERT INTO ${prefix}Friends VALUES (459, 629);
+INSERT INTO ${prefix}Friends VALUES (459, 780);
+INSERT INTO ${prefix}Friends VALUES (460, 597);
+INSERT INTO ${prefix}Friends VALUES (460, 742);
+INSERT INTO ${prefix}Friends VALUES (460, 774);
+INSERT INTO ${prefix}Friends VALUES (460, 776);
+INSERT INTO ${prefix}Friends VALUES (461, 555);
+INSERT INTO ${prefix}Friends VALUES (461, 596);
+INSERT INTO ${prefix}Friends VALUES (461, 628);
+INSERT INTO ${prefix}Friends VALUES (461, 786);
+INSERT INTO ${prefix}Friends VALUES (462, 560);
+INSERT INTO ${prefix}Friends VALUES (462, 658);
+INSERT INTO ${prefix}Friends VALUES (462, 730);
+INSERT INTO ${prefix}Friends VALUES (463, 543);
+INSERT INTO ${prefix}Friends VALUES (463, 585);
+INSERT INTO ${prefix}Friends VALUES (463, 586);
+INSERT INTO ${prefix}Friends VALUES (463, 704);
+INSERT INTO ${prefix}Friends VALUES (463, 717);
+INSERT INTO ${prefix}Friends VALUES (463, 752);
+INSERT INTO ${prefix}Friends VALUES (463, 764);
+INSERT INTO ${prefix}Friends VALUES (463, 771);
+INSERT INTO ${prefix}Friends VALUES (463, 793);
+INSERT INTO ${prefix}Friends VALUES (464, 505);
+INSERT INTO ${prefix}Friends VALUES (464, 607);
+INSERT INTO ${prefix}Friends VALUES (464, 736);
+INSERT INTO ${prefix}Friends VALUES (465, 522);
+INSERT INTO ${prefix}Friends VALUES (465, 717);
+INSERT INTO ${prefix}Friends VALUES (465, 732);
+INSERT INTO ${prefix}Friends VALUES (466, 696);
+INSERT INTO ${prefix}Friends VALUES (466, 749);
+INSERT INTO ${prefix}Friends VALUES (466, 751);
+INSERT INTO ${prefix}Friends VALUES (466, 783);
+INSERT INTO ${prefix}Friends VALUES (467, 487);
+INSERT INTO ${prefix}Friends VALUES (467, 690);
+INSERT INTO ${prefix}Friends VALUES (467, 700);
+INSERT INTO ${prefix}Friends VALUES (467, 712);
+INSERT INTO ${prefix}Friends VALUES (467, 725);
+INSERT INTO ${prefix}Friends VALUES (467, 749);
+INSERT INTO ${prefix}Friends VALUES (468, 578);
+INSERT INTO ${prefix}Friends VALUES (468, 710);
+INSERT INTO ${prefix}Friends VALUES (469, 475);
+INSERT INTO ${prefix}Friends VALUES (469, 507);
+INSERT INTO ${prefix}Friends VALUES (469, 565);
+INSERT INTO ${prefix}Friends VALUES (469, 566);
+INSERT INTO ${prefix}Friends VALUES (469, 632);
+INSERT INTO ${prefix}Friends VALUES (469, 678);
+INSERT INTO ${prefix}Friends VALUES (469, 728);
+INSERT INTO ${prefix}Friends VALUES (470, 475);
+INSERT INTO ${prefix}Friends VALUES (470, 562);
+INSERT INTO ${prefix}Friends VALUES (470, 646);
+INSERT INTO ${prefix}Friends VALUES (470, 740);
+INSERT INTO ${prefix}Friends VALUES (471, 565);
+INSERT INTO ${prefix}Friends VALUES (471, 566);
+INSERT INTO ${prefix}Friends VALUES (471, 633);
+INSERT INTO ${prefix}Friends VALUES (471, 668);
+INSERT INTO ${prefix}Friends VALUES (471, 684);
+INSERT INTO ${prefix}Friends VALUES (471, 692);
+INSERT INTO ${prefix}Friends VALUES (471, 693);
+INSERT INTO ${prefix}Friends VALUES (471, 724);
+INSERT INTO ${prefix}Friends VALUES (471, 767);
+INSERT INTO ${prefix}Friends VALUES (472, 480);
+INSERT INTO ${prefix}Friends VALUES (472, 490);
+INSERT INTO ${prefix}Friends VALUES (472, 573);
+INSERT INTO ${prefix}Friends VALUES (472, 582);
+INSERT INTO ${prefix}Friends VALUES (472, 588);
+INSERT INTO ${prefix}Friends VALUES (472, 745);
+INSERT INTO ${prefix}Friends VALUES (472, 750);
+INSERT INTO ${prefix}Friends VALUES (472, 788);
+INSERT INTO ${prefix}Friends VALUES (473, 481);
+INSERT INTO ${prefix}Friends VALUES (473, 641);
+INSERT INTO ${prefix}Friends VALUES (474, 702);
+INSERT INTO ${prefix}Friends VALUES (474, 710);
+INSERT INTO ${prefix}Friends VALUES (475, 631);
+INSERT INTO ${prefix}Friends VALUES (475, 736);
+INSERT INTO ${prefix}Friends VALUES (476, 543);
+INSERT INTO ${prefix}Friends VALUES (476, 720);
+INSERT INTO ${prefix}Friends VALUES (477, 641);
+INSERT INTO ${prefix}Friends VALUES (477, 655);
+INSERT INTO ${prefix}Friends VALUES (478, 525);
+INSERT INTO ${prefix}Friends VALUES (478, 539);
+INSERT INTO ${prefix}Friends VALUES (479, 590);
+INSERT INTO ${prefix}Friends VALUES (480, 487);
+INSERT INTO ${prefix}Friends VALUES (480, 526);
+INSERT INTO ${prefix}Friends VALUES (480, 547);
+INSERT INTO ${prefix}Friends VALUES (480, 562);
+INSERT INTO ${prefix}Friends VALUES (480, 572);
+INSERT INTO ${prefix}Friends VALUES (480, 786);
+INSERT INTO ${prefix}Friends VALUES (481, 526);
+INSERT INTO ${prefix}Friends VALUES (481, 596);
+INSERT INTO ${prefix}Friends VALUES (481, 682);
+INSERT INTO ${prefix}Friends VALUES (481, 713);
+INSERT INTO ${prefix}Friends VALUES (481, 783);
+INSERT INTO ${prefix}Friends VALUES (483, 792);
+INSERT INTO ${prefix}Friends VALUES (485, 506);
+INSERT INTO ${prefix}Friends VALUES (485, 529);
+INSERT INTO ${prefix}Friends VALUES (485, 597);
+INSERT INTO ${prefix}Friends VALUES (485, 628);
+INSERT INTO ${prefix}Friends VALUES (486, 550);
+INSERT INTO ${prefix}Friends VALUES (486, 566);
+INSERT INTO ${prefix}Friends VALUES (486, 715);
+INSERT INTO ${prefix}Friends VALUES (486, 724);
+INSERT INTO ${prefix}Friends VALUES (486, 738);
+INSERT INTO ${prefix}Friends VALUES (486, 786);
+INSERT INTO ${prefix}Friends VALUES (487, 508);
+INSERT INTO ${prefix}Friends VALUES (487, 521);
+INSERT INTO ${prefix}Friends VALUES (487, 532);
+INSERT INTO ${prefix}Friends VALUES (487, 537);
+INSERT INTO ${prefix}Friends VALUES (487, 566);
+INSERT INTO ${prefix}Friends VALUES (487, 570);
+INSERT INTO ${prefix}Friends VALUES (487, 573);
+INSERT INTO ${prefix}Friends VALUES (487, 606);
+INSERT INTO ${prefix}Friends VALUES (487, 612);
+INSERT INTO ${prefix}Friends VALUES (487, 649);
+INSERT INTO ${prefix}Friends VALUES (487, 666);
+INSERT INTO ${prefix}Friends VALUES (487, 677);
+INSERT INTO ${prefix}Friends VALUES (487, 685);
+INSERT INTO ${prefix}Friends VALUES (487, 686);
+INSERT INTO ${prefix}Friends VALUES (487, 702);
+INSERT INTO ${prefix}Friends VALUES (487, 726);
+INSERT INTO ${prefix}Friends VALUES (487, 767);
+INSERT INTO ${prefix}Friends VALUES (487, 775);
+INSERT INTO ${prefix}Friends VALUES (488, 552);
+INSERT INTO ${prefix}Friends VALUES (488, 612);
+INSERT INTO ${prefix}Friends VALUES (488, 786);
+INSERT INTO ${prefix}Friends VALUES (488, 796);
+INSERT INTO ${prefix}Friends VALUES (489, 504);
+INSERT INTO ${prefix}Friends VALUES (489, 548);
+INSERT INTO ${prefix}Friends VALUES (490, 521);
+INSERT INTO ${prefix}Friends VALUES (490, 581);
+INSERT INTO ${prefix}Friends VALUES (490, 744);
+INSERT INTO ${prefix}Friends VALUES (490, 755);
+INSERT INTO ${prefix}Friends VALUES (490, 794);
+INSERT INTO ${prefix}Friends VALUES (491, 544);
+INSERT INTO ${prefix}Friends VALUES (491, 640);
+INSERT INTO ${prefix}Friends VALUES (492, 569);
+INSERT INTO ${prefix}Friends VALUES (492, 634);
+INSERT INTO ${prefix}Friends VALUES (493, 510);
+INSERT INTO ${prefix}Friends VALUES (493, 515);
+INSERT INTO ${prefix}Friends VALUES (493, 593);
+INSERT INTO ${prefix}Friends VALUES (493, 597);
+INSERT INTO ${prefix}Friends VALUES (493, 780);
+INSERT INTO ${prefix}Friends VALUES (494, 566);
+INSERT INTO ${prefix}Friends VALUES (494, 698);
+INSERT INTO ${prefix}Friends VALUES (494, 724);
+INSERT INTO ${prefix}Friends VALUES (494, 736);
+INSERT INTO ${prefix}Friends VALUES (494, 757);
+INSERT INTO ${prefix}Friends VALUES (494, 793);
+INSERT INTO ${prefix}Friends VALUES (495, 560);
+INSERT INTO ${prefix}Friends VALUES (495, 683);
+INSERT INTO ${prefix}Friends VALUES (495, 705);
+INSERT INTO ${prefix}Friends VALUES (495, 798);
+INSERT INTO ${prefix}Friends VALUES (496, 519);
+INSERT INTO ${prefix}Friends VALUES (496, 606);
+INSERT INTO ${prefix}Friends VALUES (496, 719);
+INSERT INTO ${prefix}Friends VALUES (496, 720);
+INSERT INTO ${prefix}Friends VALUES (497, 498);
+INSERT INTO ${prefix}Friends VALUES (497, 523);
+INSERT INTO ${prefix}Friends VALUES (497, 664);
+INSERT INTO ${prefix}Friends VALUES (497, 756);
+INSERT INTO ${prefix}Friends VALUES (498, 525);
+INSERT INTO ${prefix}Friends VALUES (498, 564);
+INSERT INTO ${prefix}Friends VALUES (498, 717);
+INSERT INTO ${prefix}Friends VALUES (498, 725);
+INSERT INTO ${prefix}Friends VALUES (499, 560);
+INSERT INTO ${prefix}Friends VALUES (499, 771);
+INSERT INTO ${prefix}Friends VALUES (500, 548);
+INSERT INTO ${prefix}Friends VALUES (500, 554);
+INSERT INTO ${prefix}Friends VALUES (500, 614);
+INSERT INTO ${prefix}Friends VALUES (500, 641);
+INSERT INTO ${prefix}Friends VALUES (500, 652);
+INSERT INTO ${prefix}Friends VALUES (500, 722);
+INSERT INTO ${prefix}Friends VALUES (500, 730);
+INSERT INTO ${prefix}Friends VALUES (500, 753);
+INSERT INTO ${prefix}Friends VALUES (500, 766);
+INSERT INTO ${prefix}Friends VALUES (501, 518);
+INSERT INTO ${prefix}Friends VALUES (501, 590);
+INSERT INTO ${prefix}Friends VALUES (501, 604);
+INSERT INTO ${prefix}Friends VALUES (501, 623);
+INSERT INTO ${prefix}Friends VALUES (501, 672);
+INSERT INTO ${prefix}Friends VALUES (501, 687);
+INSERT INTO ${prefix}Friends VALUES (501, 688);
+INSERT INTO ${prefix}Friends VALUES (501, 718);
+INSERT INTO ${prefix}Friends VALUES (501, 722);
+INSERT INTO ${prefix}Friends VALUES (501, 762);
+INSERT INTO ${prefix}Friends VALUES (502, 503);
+INSERT INTO ${prefix}Friends VALUES (502, 510);
+INSERT INTO ${prefix}Friends VALUES (502, 547);
+INSERT INTO ${prefix}Friends VALUES (502, 650);
+INSERT INTO ${prefix}Friends VALUES (502, 720);
+INSERT INTO ${prefix}Friends VALUES (502, 785);
+INSERT INTO ${prefix}Friends VALUES (504, 571);
+INSERT INTO ${prefix}Friends VALUES (504, 621);
+INSERT INTO ${prefix}Friends VALUES (504, 685);
+INSERT INTO ${prefix}Friends VALUES (504, 693);
+INSERT INTO ${prefix}Friends VALUES (504, 793);
+INSERT INTO ${prefix}Friends VALUES (505, 544);
+INSERT INTO ${prefix}Friends VALUES (505, 620);
+INSERT INTO ${prefix}Friends VALUES (505, 687);
+INSERT INTO ${prefix}Friends VALUES (505, 761);
+INSERT INTO ${prefix}Friends VALUES (506, 648);
+INSERT INTO ${prefix}Friends VALUES (506, 677);
+INSERT INTO ${prefix}Friends VALUES (506, 700);
+INSERT INTO ${prefix}Friends VALUES (507, 538);
+INSERT INTO ${prefix}Friends VALUES (507, 616);
+INSERT INTO ${prefix}Friends VALUES (507, 695);
+INSERT INTO ${prefix}Friends VALUES (507, 774);
+INSERT INTO ${prefix}Friends VALUES (507, 795);
+INSERT INTO ${prefix}Friends VALUES (508, 673);
+INSERT INTO ${prefix}Friends VALUES (510, 588);
+INSERT INTO ${prefix}Friends VALUES (510, 681);
+INSERT INTO ${prefix}Friends VALUES (510, 690);
+INSERT INTO ${prefix}Friends VALUES (510, 693);
+INSERT INTO ${prefix}Friends VALUES (510, 708);
+INSERT INTO ${prefix}Friends VALUES (511, 528);
+INSERT INTO ${prefix}Friends VALUES (511, 605);
+INSERT INTO ${prefix}Friends VALUES (511, 747);
+INSERT INTO ${prefix}Friends VALUES (511, 767);
+INSERT INTO ${prefix}Friends VALUES (512, 608);
+INSERT INTO ${prefix}Friends VALUES (512, 671);
+INSERT INTO ${prefix}Friends VALUES (512, 695);
+INSERT INTO ${prefix}Friends VALUES (513, 538);
+INSERT INTO ${prefix}Friends VALUES (513, 566);
+INSERT INTO ${prefix}Friends VALUES (513, 579);
+INSERT INTO ${prefix}Friends VALUES (513, 715);
+INSERT INTO ${prefix}Friends VALUES (513, 774);
+INSERT INTO ${prefix}Friends VALUES (514, 515);
+INSERT INTO ${prefix}Friends VALUES (514, 575);
+INSERT INTO ${prefix}Friends VALUES (514, 659);
+INSERT INTO ${prefix}Friends VALUES (514, 703);
+INSERT INTO ${prefix}Friends VALUES (515, 684);
+INSERT INTO ${prefix}Friends VALUES (515, 737);
+INSERT INTO ${prefix}Friends VALUES (515, 754);
+INSERT INTO ${prefix}Friends VALUES (515, 777);
+INSERT INTO ${prefix}Friends VALUES (516, 767);
+INSERT INTO ${prefix}Friends VALUES (517, 574);
+INSERT INTO ${prefix}Friends VALUES (518, 528);
+INSERT INTO ${prefix}Friends VALUES (518, 674);
+INSERT INTO ${prefix}Friends VALUES (519, 549);
+INSERT INTO ${prefix}Friends VALUES (519, 592);
+INSERT INTO ${prefix}Friends VALUES (519, 721);
+INSERT INTO ${prefix}Friends VALUES (520, 625);
+INSERT INTO ${prefix}Friends VALUES (520, 641);
+INSERT INTO ${prefix}Friends VALUES (520, 706);
+INSERT INTO ${prefix}Friends VALUES (520, 716);
+INSERT INTO ${prefix}Friends VALUES (520, 785);
+INSERT INTO ${prefix}Friends VALUES (521, 537);
+INSERT INTO ${prefix}Friends VALUES (521, 676);
+INSERT INTO ${prefix}Friends VALUES (522, 595);
+INSERT INTO ${prefix}Friends VALUES (522, 615);
+INSERT INTO ${prefix}Friends VALUES (522, 629);
+INSERT INTO ${prefix}Friends VALUES (522, 673);
+INSERT INTO ${prefix}Friends VALUES (522, 798);
+INSERT INTO ${prefix}Friends VALUES (523, 527);
+INSERT INTO ${prefix}Friends VALUES (523, 744);
+INSERT INTO ${prefix}Friends VALUES (523, 765);
+INSERT INTO ${prefix}Friends VALUES (523, 768);
+INSERT INTO ${prefix}Friends VALUES (524, 626);
+INSERT INTO ${prefix}Friends VALUES (524, 634);
+INSERT INTO ${prefix}Friends VALUES (524, 644);
+INSERT INTO ${prefix}Friends VALUES (524, 758);
+INSERT INTO ${prefix}Friends VALUES (525, 574);
+INSERT INTO ${prefix}Friends VALUES (525, 611);
+INSERT INTO ${prefix}Friends VALUES (525, 623);
+INSERT INTO ${prefix}Friends VALUES (526, 746);
+INSERT INTO ${prefix}Friends VALUES (526, 759);
+INSERT INTO ${prefix}Friends VALUES (527, 658);
+INSERT INTO ${prefix}Friends VALUES (527, 739);
+INSERT INTO ${prefix}Friends VALUES (528, 537);
+INSERT INTO ${prefix}Friends VALUES (529, 541);
+INSERT INTO ${prefix}Friends VALUES (529, 550);
+INSERT INTO ${prefix}Friends VALUES (529, 602);
+INSERT INTO ${prefix}Friends VALUES (529, 660);
+INSERT INTO ${prefix}Friends VALUES (529, 664);
+INSERT INTO ${prefix}Friends VALUES (529, 697);
+INSERT INTO ${prefix}Friends VALUES (529, 734);
+INSERT INTO ${prefix}Friends VALUES (529, 779);
+INSERT INTO ${prefix}Friends VALUES (530, 555);
+INSERT INTO ${prefix}Friends VALUES (530, 636);
+INSERT INTO ${prefix}Friends VALUES (530, 748);
+INSERT INTO ${prefix}Friends VALUES (531, 653);
+INSERT INTO ${prefix}Friends VALUES (531, 669);
+INSERT INTO ${prefix}Friends VALUES (532, 596);
+INSERT INTO ${prefix}Friends VALUES (532, 719);
+INSERT INTO ${prefix}Friends VALUES (532, 776);
+INSERT INTO ${prefix}Friends VALUES (533, 687);
+INSERT INTO ${prefix}Friends VALUES (533, 726);
+INSERT INTO ${prefix}Friends VALUES (533, 750);
+INSERT INTO ${prefix}Friends VALUES (534, 614);
+INSERT INTO ${prefix}Friends VALUES (534, 698);
+INSERT INTO ${prefix}Friends VALUES (535, 689);
+INSERT INTO ${prefix}Friends VALUES (536, 546);
+INSERT INTO ${prefix}Friends VALUES (536, 640);
+INSERT INTO ${prefix}Friends VALUES (536, 657);
+INSERT INTO ${prefix}Friends VALUES (536, 724);
+INSERT INTO ${prefix}Friends VALUES (536, 771);
+INSERT INTO ${prefix}Friends VALUES (537, 556);
+INSERT INTO ${prefix}Friends VALUES (537, 600);
+INSERT INTO ${prefix}Friends VALUES (537, 609);
+INSERT INTO ${prefix}Friends VALUES (537, 725);
+INSERT INTO ${prefix}Friends VALUES (537, 742);
+INSERT INTO ${prefix}Friends VALUES (537, 780);
+INSERT INTO ${prefix}Friends VALUES (538, 667);
+INSERT INTO ${prefix}Friends VALUES (538, 705);
+INSERT INTO ${prefix}Friends VALUES (538, 729);
+INSERT INTO ${prefix}Friends VALUES (538, 759);
+INSERT INTO ${prefix}Friends VALUES (539, 556);
+INSERT INTO ${prefix}Friends VALUES (540, 577);
+INSERT INTO ${prefix}Friends VALUES (540, 711);
+INSERT INTO ${prefix}Friends VALUES (540, 728);
+INSERT INTO ${prefix}Friends VALUES (540, 738);
+INSERT INTO ${prefix}Friends VALUES (541, 638);
+INSERT INTO ${prefix}Friends VALUES (541, 737);
+INSERT INTO ${prefix}Friends VALUES (541, 740);
+INSERT INTO ${prefix}Friends VALUES (543, 560);
+INSERT INTO ${prefix}Friends VALUES (543, 604);
+INSERT INTO ${prefix}Friends VALUES (543, 626);
+INSERT INTO ${prefix}Friends VALUES (543, 706);
+INSERT INTO ${prefix}Friends VALUES (543, 713);
+INSERT INTO ${prefix}Friends VALUES (543, 747);
+INSERT INTO ${prefix}Friends VALUES (544, 552);
+INSERT INTO ${prefix}Friends VALUES (544, 789);
+INSERT INTO ${prefix}Friends VALUES (545, 614);
+INSERT INTO ${prefix}Friends VALUES (545, 785);
+INSERT INTO ${prefix}Friends VALUES (546, 572);
+INSERT INTO ${prefix}Friends VALUES (546, 573);
+INSERT INTO ${prefix}Friends VALUES (546, 599);
+INSERT INTO ${prefix}Friends VALUES (546, 638);
+INSERT INTO ${prefix}Friends VALUES (546, 643);
+INSERT INTO ${prefix}Friends VALUES (546, 664);
+INSERT INTO ${prefix}Friends VALUES (546, 680);
+INSERT INTO ${prefix}Friends VALUES (547, 572);
+INSERT INTO ${prefix}Friends VALUES (547, 581);
+INSERT INTO ${prefix}Friends VALUES (547, 778);
+INSERT INTO ${prefix}Friends VALUES (547, 787);
+INSERT INTO ${prefix}Friends VALUES (548, 619);
+INSERT INTO ${prefix}Friends VALUES (548, 738);
+INSERT INTO ${prefix}Friends VALUES (549, 583);
+INSERT INTO ${prefix}Friends VALUES (549, 621);
+INSERT INTO ${prefix}Friends VALUES (549, 666);
+INSERT INTO ${prefix}Friends VALUES (550, 567);
+INSERT INTO ${prefix}Friends VALUES (550, 609);
+INSERT INTO ${prefix}Friends VALUES (550, 621);
+INSERT INTO ${prefix}Friends VALUES (550, 764);
+INSERT INTO ${prefix}Friends VALUES (550, 767);
+INSERT INTO ${prefix}Friends VALUES (550, 776);
+INSERT INTO ${prefix}Friends VALUES (551, 559);
+INSERT INTO ${prefix}Friends VALUES (551, 647);
+INSERT INTO ${prefix}Friends VALUES (552, 561);
+INSERT INTO ${prefix}Friends VALUES (552, 566);
+INSERT INTO ${prefix}Friends VALUES (552, 598);
+INSERT INTO ${prefix}Friends VALUES (552, 660);
+INSERT INTO ${prefix}Friends VALUES (552, 671);
+INSERT INTO ${prefix}Friends VALUES (552, 724);
+INSERT INTO ${prefix}Friends VALUES (553, 560);
+INSERT INTO ${prefix}Friends VALUES (553, 649);
+INSERT INTO ${prefix}Friends VALUES (553, 661);
+INSERT INTO ${prefix}Friends VALUES (553, 682);
+INSERT INTO ${prefix}Friends VALUES (553, 707);
+INSERT INTO ${prefix}Friends VALUES (553, 787);
+INSERT INTO ${prefix}Friends VALUES (554, 660);
+INSERT INTO ${prefix}Friends VALUES (554, 719);
+INSERT INTO ${prefix}Friends VALUES (554, 722);
+INSERT INTO ${prefix}Friends VALUES (554, 730);
+INSERT INTO ${prefix}Friends VALUES (554, 796);
+INSERT INTO ${prefix}Friends VALUES (555, 583);
+INSERT INTO ${prefix}Friends VALUES (555, 645);
+INSERT INTO ${prefix}Friends VALUES (555, 725);
+INSERT INTO ${prefix}Friends VALUES (555, 770);
+INSERT INTO ${prefix}Friends VALUES (556, 675);
+INSERT INTO ${prefix}Friends VALUES (557, 601);
+INSERT INTO ${prefix}Friends VALUES (557, 639);
+INSERT INTO ${prefix}Friends VALUES (557, 784);
+INSERT INTO ${prefix}Friends VALUES (557, 793);
+INSERT INTO ${prefix}Friends VALUES (558, 680);
+INSERT INTO ${prefix}Friends VALUES (558, 688);
+INSERT INTO ${prefix}Friends VALUES (558, 733);
+INSERT INTO ${prefix}Friends VALUES (558, 796);
+INSERT INTO ${prefix}Friends VALUES (559, 571);
+INSERT INTO ${prefix}Friends VALUES (559, 580);
+INSERT INTO ${prefix}Friends VALUES (560, 561);
+INSERT INTO ${prefix}Friends VALUES (560, 563);
+INSERT INTO ${prefix}Friends VALUES (560, 586);
+INSERT INTO ${prefix}Friends VALUES (560, 591);
+INSERT INTO ${prefix}Friends VALUES (560, 638);
+INSERT INTO ${prefix}Friends VALUES (560, 639);
+INSERT INTO ${prefix}Friends VALUES (560, 643);
+INSERT INTO ${prefix}Friends VALUES (560, 644);
+INSERT INTO ${prefix}Friends VALUES (560, 672);
+INSERT INTO ${prefix}Friends VALUES (560, 678);
+INSERT INTO ${prefix}Friends VALUES (560, 679);
+INSERT INTO ${prefix}Friends VALUES (560, 701);
+INSERT INTO ${prefix}Friends VALUES (560, 708);
+INSERT INTO ${prefix}Friends VALUES (560, 710);
+INSERT INTO ${prefix}Friends VALUES (560, 728);
+INSERT INTO ${prefix}Friends VALUES (560, 762);
+INSERT INTO ${prefix}Friends VALUES (560, 798);
+INSERT INTO ${prefix}Friends VALUES (561, 591);
+INSERT INTO ${prefix}Friends VALUES (561, 609);
+INSERT INTO ${prefix}Friends VALUES (561, 744);
+INSERT INTO ${prefix}Friends VALUES (561, 766);
+INSERT INTO ${prefix}Friends VALUES (562, 593);
+INSERT INTO ${prefix}Friends VALUES (562, 600);
+INSERT INTO ${prefix}Friends VALUES (562, 602);
+INSERT INTO ${prefix}Friends VALUES (562, 605);
+INSERT INTO ${prefix}Friends VALUES (562, 609);
+INSERT INTO ${prefix}Friends VALUES (562, 614);
+INSERT INTO ${prefix}Friends VALUES (562, 621);
+INSERT INTO ${prefix}Friends VALUES (562, 677);
+INSERT INTO ${prefix}Friends VALUES (563, 605);
+INSERT INTO ${prefix}Friends VALUES (563, 607);
+INSERT INTO ${prefix}Friends VALUES (563, 667);
+INSERT INTO ${prefix}Friends VALUES (564, 589);
+INSERT INTO ${prefix}Friends VALUES (564, 619);
+INSERT INTO ${prefix}Friends VALUES (564, 699);
+INSERT INTO ${prefix}Friends VALUES (565, 602);
+INSERT INTO ${prefix}Friends VALUES (565, 605);
+INSERT INTO ${prefix}Friends VALUES (565, 665);
+INSERT INTO ${prefix}Friends VALUES (566, 575);
+INSERT INTO ${prefix}Friends VALUES (566, 577);
+INSERT INTO ${prefix}Friends VALUES (566, 582);
+INSERT INTO ${prefix}Friends VALUES (566, 605);
+INSERT INTO ${prefix}Friends VALUES (566, 624);
+INSERT INTO ${prefix}Friends VALUES (566, 627);
+INSERT INTO ${prefix}Friends VALUES (566, 629);
+INSERT INTO ${prefix}Friends VALUES (566, 649);
+INSERT INTO ${prefix}Friends VALUES (566, 687);
+INSERT INTO ${prefix}Friends VALUES (566, 688);
+INSERT INTO ${prefix}Friends VALUES (566, 700);
+INSERT INTO ${prefix}Friends VALUES (566, 701);
+INSERT INTO ${prefix}Friends VALUES (566, 702);
+INSERT INTO ${prefix}Friends VALUES (566, 711);
+INSERT INTO ${prefix}Friends VALUES (566, 712);
+INSERT INTO ${prefix}Friends VALUES (566, 729);
+INSERT INTO ${prefix}Friends VALUES (566, 760);
+INSERT INTO ${prefix}Friends VALUES (566, 772);
+INSERT INTO ${prefix}Friends VALUES (566, 789);
+INSERT INTO ${prefix}Friends VALUES (566, 799);
+INSERT INTO ${prefix}Friends VALUES (568, 585);
+INSERT INTO ${prefix}Friends VALUES (568, 623);
+INSERT INTO ${prefix}Friends VALUES (568, 631);
+INSERT INTO ${prefix}Friends VALUES (568, 633);
+INSERT INTO ${prefix}Friends VALUES (569, 785);
+INSERT INTO ${prefix}Friends VALUES (570, 614);
+INSERT INTO ${prefix}Friends VALUES (570, 632);
+INSERT INTO ${prefix}Friends VALUES (570, 686);
+INSERT INTO ${prefix}Friends VALUES (570, 729);
+INSERT INTO ${prefix}Friends VALUES (571, 574);
+INSERT INTO ${prefix}Friends VALUES (571, 577);
+INSERT INTO ${prefix}Friends VALUES (571, 610);
+INSERT INTO ${prefix}Friends VALUES (571, 739);
+INSERT INTO ${prefix}Friends VALUES (572, 684);
+INSERT INTO ${prefix}Friends VALUES (572, 715);
+INSERT INTO ${prefix}Friends VALUES (572, 750);
+INSERT INTO ${prefix}Friends VALUES (573, 575);
+INSERT INTO ${prefix}Friends VALUES (573, 595);
+INSERT INTO ${prefix}Friends VALUES (573, 671);
+INSERT INTO ${prefix}Friends VALUES (573, 679);
+INSERT INTO ${prefix}Friends VALUES (573, 695);
+INSERT INTO ${prefix}Friends VALUES (573, 705);
+INSERT INTO ${prefix}Friends VALUES (573, 776);
+INSERT INTO ${prefix}Friends VALUES (574, 577);
+INSERT INTO ${prefix}Friends VALUES (574, 738);
+INSERT INTO ${prefix}Friends VALUES (575, 660);
+INSERT INTO ${prefix}Friends VALUES (575, 696);
+INSERT INTO ${prefix}Friends VALUES (575, 701);
+INSERT INTO ${prefix}Friends VALUES (575, 724);
+INSERT INTO ${prefix}Friends VALUES (575, 725);
+INSERT INTO ${prefix}Friends VALUES (575, 736);
+INSERT INTO ${prefix}Friends VALUES (576, 585);
+INSERT INTO ${prefix}Friends VALUES (576, 631);
+INSERT INTO ${prefix}Friends VALUES (576, 697);
+INSERT INTO ${prefix}Friends VALUES (576, 787);
+INSERT INTO ${prefix}Friends VALUES (577, 586);
+INSERT INTO ${prefix}Friends VALUES (577, 596);
+INSERT INTO ${prefix}Friends VALUES (577, 694);
+INSERT INTO ${prefix}Friends VALUES (577, 697);
+INSERT INTO ${prefix}Friends VALUES (577, 724);
+INSERT INTO ${prefix}Friends VALUES (577, 732);
+INSERT INTO ${prefix}Friends VALUES (578, 606);
+INSERT INTO ${prefix}Friends VALUES (578, 729);
+INSERT INTO ${prefix}Friends VALUES (579, 582);
+INSERT INTO ${prefix}Friends VALUES (579, 640);
+INSERT INTO ${prefix}Friends VALUES (579, 665);
+INSERT INTO ${prefix}Friends VALUES (579, 793);
+INSERT INTO ${prefix}Friends VALUES (580, 693);
+INSERT INTO ${prefix}Friends VALUES (580, 756);
+INSERT INTO ${prefix}Friends VALUES (580, 772);
+INSERT INTO ${prefix}Friends VALUES (581, 624);
+INSERT INTO ${prefix}Friends VALUES (581, 647);
+INSERT INTO ${prefix}Friends VALUES (583, 694);
+INSERT INTO ${prefix}Friends VALUES (583, 754);
+INSERT INTO ${prefix}Friends VALUES (584, 600);
+INSERT INTO ${prefix}Friends VALUES (584, 617);
+INSERT INTO ${prefix}Friends VALUES (584, 668);
+INSERT INTO ${prefix}Friends VALUES (584, 794);
+INSERT INTO ${prefix}Friends VALUES (585, 678);
+INSERT INTO ${prefix}Friends VALUES (585, 687);
+INSERT INTO ${prefix}Friends VALUES (586, 616);
+INSERT INTO ${prefix}Friends VALUES (586, 641);
+INSERT INTO ${prefix}Friends VALUES (587, 682);
+INSERT INTO ${prefix}Friends VALUES (587, 691);
+INSERT INTO ${prefix}Friends VALUES (587, 720);
+INSERT INTO ${prefix}Friends VALUES (587, 749);
+INSERT INTO ${prefix}Friends VALUES (587, 754);
+INSERT INTO ${prefix}Friends VALUES (587, 762);
+INSERT INTO ${prefix}Friends VALUES (588, 745);
+INSERT INTO ${prefix}Friends VALUES (588, 777);
+INSERT INTO ${prefix}Friends VALUES (589, 600);
+INSERT INTO ${prefix}Friends VALUES (589, 602);
+INSERT INTO ${prefix}Friends VALUES (589, 629);
+INSERT INTO ${prefix}Friends VALUES (589, 669);
+INSERT INTO ${prefix}Friends VALUES (589, 798);
+INSERT INTO ${prefix}Friends VALUES (590, 613);
+INSERT INTO ${prefix}Friends VALUES (590, 744);
+INSERT INTO ${prefix}Friends VALUES (591, 634);
+INSERT INTO ${prefix}Friends VALUES (592, 693);
+INSERT INTO ${prefix}Friends VALUES (592, 723);
+INSERT INTO ${prefix}Friends VALUES (592, 798);
+INSERT INTO ${prefix}Friends VALUES (593, 619);
+INSERT INTO ${prefix}Friends VALUES (593, 709);
+INSERT INTO ${prefix}Friends VALUES (593, 714);
+INSERT INTO ${prefix}Friends VALUES (593, 721);
+INSERT INTO ${prefix}Friends VALUES (593, 740);
+INSERT INTO ${prefix}Friends VALUES (593, 758);
+INSERT INTO ${prefix}Friends VALUES (593, 789);
+INSERT INTO ${prefix}Friends VALUES (594, 762);
+INSERT INTO ${prefix}Friends VALUES (594, 781);
+INSERT INTO ${prefix}Friends VALUES (594, 782);
+INSERT INTO ${prefix}Friends VALUES (595, 599);
+INSERT INTO ${prefix}Friends VALUES (595, 637);
+INSERT INTO ${prefix}Friends VALUES (595, 731);
+INSERT INTO ${prefix}Friends VALUES (595, 754);
+INSERT INTO ${prefix}Friends VALUES (596, 623);
+INSERT INTO ${prefix}Friends VALUES (596, 625);
+INSERT INTO ${prefix}Friends VALUES (596, 664);
+INSERT INTO ${prefix}Friends VALUES (596, 669);
+INSERT INTO ${prefix}Friends VALUES (597, 745);
+INSERT INTO ${prefix}Friends VALUES (597, 751);
+INSERT INTO ${prefix}Friends VALUES (598, 608);
+INSERT INTO ${prefix}Friends VALUES (598, 624);
+INSERT INTO ${prefix}Friends VALUES (599, 672);
+INSERT INTO ${prefix}Friends VALUES (600, 621);
+INSERT INTO ${prefix}Friends VALUES (601, 704);
+INSERT INTO ${prefix}Friends VALUES (602, 620);
+INSERT INTO ${prefix}Friends VALUES (602, 699);
+INSERT INTO ${prefix}Friends VALUES (602, 784);
+INSERT INTO ${prefix}Friends VALUES (603, 615);
+INSERT INTO ${prefix}Friends VALUES (603, 643);
+INSERT INTO ${prefix}Friends VALUES (603, 775);
+INSERT INTO ${prefix}Friends VALUES (604, 703);
+INSERT INTO ${prefix}Friends VALUES (604, 705);
+INSERT INTO ${prefix}Friends VALUES (604, 751);
+INSERT INTO ${prefix}Friends VALUES (605, 653);
+INSERT INTO ${prefix}Friends VALUES (606, 774);
+INSERT INTO ${prefix}Friends VALUES (606, 786);
+INSERT INTO ${prefix}Friends VALUES (607, 621);
+INSERT INTO ${prefix}Friends VALUES (607, 667);
+INSERT INTO ${prefix}Friends VALUES (607, 746);
+INSERT INTO ${prefix}Friends VALUES (607, 750);
+INSERT INTO ${prefix}Friends VALUES (608, 655);
+INSERT INTO ${prefix}Friends VALUES (608, 676);
+INSERT INTO ${prefix}Friends VALUES (608, 724);
+INSERT INTO ${prefix}Friends VALUES (608, 766);
+INSERT INTO ${prefix}Friends VALUES (608, 787);
+INSERT INTO ${prefix}Friends VALUES (609, 697);
+INSERT INTO ${prefix}Friends VALUES (609, 746);
+INSERT INTO ${prefix}Friends VALUES (609, 794);
+INSERT INTO ${prefix}Friends VALUES (610, 618);
+INSERT INTO ${prefix}Friends VALUES (610, 753);
+INSERT INTO ${prefix}Friends VALUES (611, 613);
+INSERT INTO ${prefix}Friends VALUES (611, 694);
+INSERT INTO ${prefix}Friends VALUES (611, 714);
+INSERT INTO ${prefix}Friends VALUES (611, 733);
+INSERT INTO ${prefix}Friends VALUES (612, 651);
+INSERT INTO ${prefix}Friends VALUES (612, 697);
+INSERT INTO ${prefix}Friends VALUES (612, 781);
+INSERT INTO ${prefix}Friends VALUES (613, 704);
+INSERT INTO ${prefix}Friends VALUES (613, 708);
+INSERT INTO ${prefix}Friends VALUES (613, 727);
+INSERT INTO ${prefix}Friends VALUES (613, 747);
+INSERT INTO ${prefix}Friends VALUES (613, 786);
+INSERT INTO ${prefix}Friends VALUES (613, 796);
+INSERT INTO ${prefix}Friends VALUES (614, 630);
+INSERT INTO ${prefix}Friends VALUES (614, 730);
+INSERT INTO ${prefix}Friends VALUES (614, 781);
+INSERT INTO ${prefix}Friends VALUES (615, 699);
+INSERT INTO ${prefix}Friends VALUES (615, 713);
+INSERT INTO ${prefix}Friends VALUES (616, 696);
+INSERT INTO ${prefix}Friends VALUES (616, 723);
+INSERT INTO ${prefix}Friends VALUES (617, 713);
+INSERT INTO ${prefix}Friends VALUES (617, 744);
+INSERT INTO ${prefix}Friends VALUES (618, 731);
+INSERT INTO ${prefix}Friends VALUES (618, 754);
+INSERT INTO ${prefix}Friends VALUES (618, 776);
+INSERT INTO ${prefix}Friends VALUES (619, 632);
+INSERT INTO ${prefix}Friends VALUES (619, 635);
+INSERT INTO ${prefix}Friends VALUES (619, 711);
+INSERT INTO ${prefix}Friends VALUES (619, 732);
+INSERT INTO ${prefix}Friends VALUES (619, 757);
+INSERT INTO ${prefix}Friends VALUES (619, 768);
+INSERT INTO ${prefix}Friends VALUES (620, 703);
+INSERT INTO ${prefix}Friends VALUES (620, 717);
+INSERT INTO ${prefix}Friends VALUES (620, 723);
+INSERT INTO ${prefix}Friends VALUES (620, 728);
+INSERT INTO ${prefix}Friends VALUES (621, 672);
+INSERT INTO ${prefix}Friends VALUES (621, 686);
+INSERT INTO ${prefix}Friends VALUES (621, 694);
+INSERT INTO ${prefix}Friends VALUES (621, 708);
+INSERT INTO ${prefix}Friends VALUES (621, 716);
+INSERT INTO ${prefix}Friends VALUES (621, 788);
+INSERT INTO ${prefix}Friends VALUES (622, 664);
+INSERT INTO ${prefix}Friends VALUES (622, 705);
+INSERT INTO ${prefix}Friends VALUES (622, 738);
+INSERT INTO ${prefix}Friends VALUES (622, 747);
+INSERT INTO ${prefix}Friends VALUES (623, 686);
+INSERT INTO ${prefix}Friends VALUES (623, 728);
+INSERT INTO ${prefix}Friends VALUES (623, 750);
+INSERT INTO ${prefix}Friends VALUES (624, 646);
+INSERT INTO ${prefix}Friends VALUES (624, 647);
+INSERT INTO ${prefix}Friends VALUES (624, 650);
+INSERT INTO ${prefix}Friends VALUES (624, 682);
+INSERT INTO ${prefix}Friends VALUES (624, 691);
+INSERT INTO ${prefix}Friends VALUES (624, 709);
+INSERT INTO ${prefix}Friends VALUES (624, 759);
+INSERT INTO ${prefix}Friends VALUES (625, 714);
+INSERT INTO ${prefix}Friends VALUES (626, 638);
+INSERT INTO ${prefix}Friends VALUES (626, 724);
+INSERT INTO ${prefix}Friends VALUES (626, 776);
+INSERT INTO ${prefix}Friends VALUES (627, 724);
+INSERT INTO ${prefix}Friends VALUES (627, 770);
+INSERT INTO ${prefix}Friends VALUES (629, 652);
+INSERT INTO ${prefix}Friends VALUES (629, 689);
+INSERT INTO ${prefix}Friends VALUES (629, 718);
+INSERT INTO ${prefix}Friends VALUES (629, 755);
+INSERT INTO ${prefix}Friends VALUES (630, 668);
+INSERT INTO ${prefix}Friends VALUES (630, 769);
+INSERT INTO ${prefix}Friends VALUES (631, 643);
+INSERT INTO ${prefix}Friends VALUES (631, 769);
+INSERT INTO ${prefix}Friends VALUES (631, 777);
+INSERT INTO ${prefix}Friends VALUES (632, 794);
+INSERT INTO ${prefix}Friends VALUES (633, 714);
+INSERT INTO ${prefix}Friends VALUES (633, 777);
+INSERT INTO ${prefix}Friends VALUES (634, 725);
+INSERT INTO ${prefix}Friends VALUES (635, 637);
+INSERT INTO ${prefix}Friends VALUES (635, 791);
+INSERT INTO ${prefix}Friends VALUES (636, 774);
+INSERT INTO ${prefix}Friends VALUES (636, 775);
+INSERT INTO ${prefix}Friends VALUES (637, 671);
+INSERT INTO ${prefix}Friends VALUES (637, 729);
+INSERT INTO ${prefix}Friends VALUES (638, 660);
+INSERT INTO ${prefix}Friends VALUES (638, 763);
+INSERT INTO ${prefix}Friends VALUES (638, 786);
+INSERT INTO ${prefix}Friends VALUES (639, 756);
+INSERT INTO ${prefix}Friends VALUES (639, 762);
+INSERT INTO ${prefix}Friends VALUES (640, 797);
+INSERT INTO ${prefix}Friends VALUES (641, 673);
+INSERT INTO ${prefix}Friends VALUES (641, 692);
+INSERT INTO ${prefix}Friends VALUES (642, 717);
+INSERT INTO ${prefix}Friends VALUES (643, 765);
+INSERT INTO ${prefix}Friends VALUES (644, 696);
+INSERT INTO ${prefix}Friends VALUES (644, 758);
+INSERT INTO ${prefix}Friends VALUES (645, 660);
+INSERT INTO ${prefix}Friends VALUES (645, 698);
+INSERT INTO ${prefix}Friends VALUES (645, 758);
+INSERT INTO ${prefix}Friends VALUES (646, 649);
+INSERT INTO ${prefix}Friends VALUES (647, 726);
+INSERT INTO ${prefix}Friends VALUES (649, 682);
+INSERT INTO ${prefix}Friends VALUES (649, 743);
+INSERT INTO ${prefix}Friends VALUES (649, 793);
+INSERT INTO ${prefix}Friends VALUES (650, 690);
+INSERT INTO ${prefix}Friends VALUES (650, 693);
+INSERT INTO ${prefix}Friends VALUES (651, 672);
+INSERT INTO ${prefix}Friends VALUES (652, 748);
+INSERT INTO ${prefix}Friends VALUES (653, 672);
+INSERT INTO ${prefix}Friends VALUES (653, 745);
+INSERT INTO ${prefix}Friends VALUES (653, 748);
+INSERT INTO ${prefix}Friends VALUES (654, 701);
+INSERT INTO ${prefix}Friends VALUES (654, 765);
+INSERT INTO ${prefix}Friends VALUES (655, 680);
+INSERT INTO ${prefix}Friends VALUES (655, 762);
+INSERT INTO ${prefix}Friends VALUES (656, 749);
+INSERT INTO ${prefix}Friends VALUES (657, 682);
+INSERT INTO ${prefix}Friends VALUES (657, 690);
+INSERT INTO ${prefix}Friends VALUES (657, 715);
+INSERT INTO ${prefix}Friends VALUES (658, 750);
+INSERT INTO ${prefix}Friends VALUES (659, 706);
+INSERT INTO ${prefix}Friends VALUES (659, 779);
+INSERT INTO ${prefix}Friends VALUES (660, 705);
+INSERT INTO ${prefix}Friends VALUES (660, 746);
+INSERT INTO ${prefix}Friends VALUES (660, 787);
+INSERT INTO ${prefix}Friends VALUES (661, 677);
+INSERT INTO ${prefix}Friends VALUES (661, 692);
+INSERT INTO ${prefix}Friends VALUES (663, 723);
+INSERT INTO ${prefix}Friends VALUES (663, 726);
+INSERT INTO ${prefix}Friends VALUES (664, 769);
+INSERT INTO ${prefix}Friends VALUES (665, 740);
+INSERT INTO ${prefix}Friends VALUES (665, 769);
+INSERT INTO ${prefix}Friends VALUES (665, 790);
+INSERT INTO ${prefix}Friends VALUES (666, 689);
+INSERT INTO ${prefix}Friends VALUES (666, 704);
+INSERT INTO ${prefix}Friends VALUES (666, 705);
+INSERT INTO ${prefix}Friends VALUES (667, 723);
+INSERT INTO ${prefix}Friends VALUES (667, 748);
+INSERT INTO ${prefix}Friends VALUES (667, 787);
+INSERT INTO ${prefix}Friends VALUES (668, 748);
+INSERT INTO ${prefix}Friends VALUES (668, 793);
+INSERT INTO ${prefix}Friends VALUES (670, 713);
+INSERT INTO ${prefix}Friends VALUES (671, 677);
+INSERT INTO ${prefix}Friends VALUES (671, 755);
+INSERT INTO ${prefix}Friends VALUES (671, 775);
+INSERT INTO ${prefix}Friends VALUES (672, 714);
+INSERT INTO ${prefix}Friends VALUES (673, 691);
+INSERT INTO ${prefix}Friends VALUES (673, 784);
+INSERT INTO ${prefix}Friends VALUES (674, 758);
+INSERT INTO ${prefix}Friends VALUES (674, 798);
+INSERT INTO ${prefix}Friends VALUES (675, 683);
+INSERT INTO ${prefix}Friends VALUES (675, 706);
+INSERT INTO ${prefix}Friends VALUES (675, 736);
+INSERT INTO ${prefix}Friends VALUES (675, 738);
+INSERT INTO ${prefix}Friends VALUES (676, 686);
+INSERT INTO ${prefix}Friends VALUES (676, 706);
+INSERT INTO ${prefix}Friends VALUES (678, 771);
+INSERT INTO ${prefix}Friends VALUES (679, 755);
+INSERT INTO ${prefix}Friends VALUES (680, 767);
+INSERT INTO ${prefix}Friends VALUES (682, 744);
+INSERT INTO ${prefix}Friends VALUES (682, 788);
+INSERT INTO ${prefix}Friends VALUES (683, 727);
+INSERT INTO ${prefix}Friends VALUES (684, 706);
+INSERT INTO ${prefix}Friends VALUES (685, 738);
+INSERT INTO ${prefix}Friends VALUES (686, 694);
+INSERT INTO ${prefix}Friends VALUES (686, 733);
+INSERT INTO ${prefix}Friends VALUES (686, 776);
+INSERT INTO ${prefix}Friends VALUES (687, 724);
+INSERT INTO ${prefix}Friends VALUES (689, 774);
+INSERT INTO ${prefix}Friends VALUES (690, 715);
+INSERT INTO ${prefix}Friends VALUES (690, 721);
+INSERT INTO ${prefix}Friends VALUES (691, 729);
+INSERT INTO ${prefix}Friends VALUES (691, 746);
+INSERT INTO ${prefix}Friends VALUES (692, 703);
+INSERT INTO ${prefix}Friends VALUES (693, 699);
+INSERT INTO ${prefix}Friends VALUES (693, 722);
+INSERT INTO ${prefix}Friends VALUES (696, 733);
+INSERT INTO ${prefix}Friends VALUES (697, 722);
+INSERT INTO ${prefix}Friends VALUES (700, 751);
+INSERT INTO ${prefix}Friends VALUES (701, 755);
+INSERT INTO ${prefix}Friends VALUES (701, 772);
+INSERT INTO ${prefix}Friends VALUES (702, 724);
+INSERT INTO ${prefix}Friends VALUES (703, 794);
+INSERT INTO ${prefix}Friends VALUES (705, 730);
+INSERT INTO ${prefix}Friends VALUES (705, 741);
+INSERT INTO ${prefix}Friends VALUES (706, 722);
+INSERT INTO ${prefix}Friends VALUES (706, 780);
+INSERT INTO ${prefix}Friends VALUES (707, 740);
+INSERT INTO ${prefix}Friends VALUES (707, 749);
+INSERT INTO ${prefix}Friends VALUES (707, 754);
+INSERT INTO ${prefix}Friends VALUES (707, 757);
+INSERT INTO ${prefix}Friends VALUES (708, 709);
+INSERT INTO ${prefix}Friends VALUES (708, 717);
+INSERT INTO ${prefix}Friends VALUES (708, 770);
+INSERT INTO ${prefix}Friends VALUES (710, 758);
+INSERT INTO ${prefix}Friends VALUES (710, 760);
+INSERT INTO ${prefix}Friends VALUES (710, 790);
+INSERT INTO ${prefix}Friends VALUES (711, 724);
+INSERT INTO ${prefix}Friends VALUES (711, 786);
+INSERT INTO ${prefix}Friends VALUES (712, 724);
+INSERT INTO ${prefix}Friends VALUES (713, 730);
+INSERT INTO ${prefix}Friends VALUES (713, 745);
+INSERT INTO ${prefix}Friends VALUES (714, 773);
+INSERT INTO ${prefix}Friends VALUES (714, 797);
+INSERT INTO ${prefix}Friends VALUES (716, 734);
+INSERT INTO ${prefix}Friends VALUES (716, 742);
+INSERT INTO ${prefix}Friends VALUES (717, 792);
+INSERT INTO ${prefix}Friends VALUES (718, 794);
+INSERT INTO ${prefix}Friends VALUES (720, 736);
+INSERT INTO ${prefix}Friends VALUES (720, 781);
+INSERT INTO ${prefix}Friends VALUES (720, 786);
+INSERT INTO ${prefix}Friends VALUES (721, 736);
+INSERT INTO ${prefix}Friends VALUES (721, 759);
+INSERT INTO ${prefix}Friends VALUES (722, 728);
+INSERT INTO ${prefix}Friends VALUES (722, 760);
+INSERT INTO ${prefix}Friends VALUES (722, 782);
+INSERT INTO ${prefix}Friends VALUES (722, 793);
+INSERT INTO ${prefix}Friends VALUES (723, 768);
+INSERT INTO ${prefix}Friends VALUES (724, 772);
+INSERT INTO ${prefix}Friends VALUES (724, 789);
+INSERT INTO ${prefix}Friends VALUES (724, 799);
+INSERT INTO ${prefix}Friends VALUES (727, 744);
+INSERT INTO ${prefix}Friends VALUES (728, 755);
+INSERT INTO ${prefix}Friends VALUES (729, 742);
+INSERT INTO ${prefix}Friends VALUES (729, 749);
+INSERT INTO ${prefix}Friends VALUES (729, 783);
+INSERT INTO ${prefix}Friends VALUES (730, 732);
+INSERT INTO ${prefix}Friends VALUES (730, 781);
+INSERT INTO ${prefix}Friends VALUES (731, 732);
+INSERT INTO ${prefix}Friends VALUES (731, 776);
+INSERT INTO ${prefix}Friends VALUES (731, 785);
+INSERT INTO ${prefix}Friends VALUES (731, 799);
+INSERT INTO ${prefix}Friends VALUES (733, 735);
+INSERT INTO ${prefix}Friends VALUES (733, 785);
+INSERT INTO ${prefix}Friends VALUES (735, 770);
+INSERT INTO ${prefix}Friends VALUES (736, 766);
+INSERT INTO ${prefix}Friends VALUES (736, 793);
+INSERT INTO ${prefix}Friends VALUES (737, 775);
+INSERT INTO ${prefix}Friends VALUES (740, 791);
+INSERT INTO ${prefix}Friends VALUES (742, 745);
+INSERT INTO ${prefix}Friends VALUES (743, 767);
+INSERT INTO ${prefix}Friends VALUES (746, 760);
+INSERT INTO ${prefix}Friends VALUES (750, 768);
+INSERT INTO ${prefix}Friends VALUES (752, 758);
+INSERT INTO ${prefix}Friends VALUES (752, 769);
+INSERT INTO ${prefix}Friends VALUES (757, 782);
+INSERT INTO ${prefix}Friends VALUES (758, 784);
+INSERT INTO ${prefix}Friends VALUES (758, 785);
+INSERT INTO ${prefix}Friends VALUES (760, 769);
+INSERT INTO ${prefix}Friends VALUES (760, 785);
+INSERT INTO ${prefix}Friends VALUES (761, 790);
+INSERT INTO ${prefix}Friends VALUES (765, 766);
+INSERT INTO ${prefix}Friends VALUES (769, 780);
+INSERT INTO ${prefix}Friends VALUES (769, 788);
+INSERT INTO ${prefix}Friends VALUES (771, 775);
+INSERT INTO ${prefix}Friends VALUES (776, 782);
+INSERT INTO ${prefix}Friends VALUES (783, 784);
+INSERT INTO ${prefix}Cities VALUES (1, 'Minas Tirith', 'Gondor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (2, 'Osgiliath', 'Gondor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (3, 'Dol Amroth', 'Gondor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (4, 'Pelargir', 'Gondor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (5, 'Edoras', 'Rohan', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (6, 'Helms Deep', 'Rohan', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (7, 'Aldburg', 'Rohan', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (8, 'Barad-dur', 'Mordor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (9, 'Minas Morgul', 'Mordor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (10, 'Udun', 'Mordor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (11, 'Hobbiton', 'Shire', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (12, 'Bywater', 'Shire', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (13, 'Michel Delving', 'Shire', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (14, 'Bree', 'Eriador', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (15, 'Rivendell', 'Eriador', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (16, 'Tharbad', 'Eriador', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (17, 'Dale', 'Rhovanion', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (18, 'Esgaroth', 'Rhovanion', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (19, 'Erebor', 'Rhovanion', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (20, 'Umbar', 'Harad', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (21, 'Harnen', 'Harad', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (22, 'Fornost', 'Arnor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (23, 'Annuminas', 'Arnor', 'Middle-earth');
+INSERT INTO ${prefix}Cities VALUES (24, 'Weathertop', 'Arnor', 'Middle-earth');
+INSERT INTO ${prefix}User_Current_City VALUES (0, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (1, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (2, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (3, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (4, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (5, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (6, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (7, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (8, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (9, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (10, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (11, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (12, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (13, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (14, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (15, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (16, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (17, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (18, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (19, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (20, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (21, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (22, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (23, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (24, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (25, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (26, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (27, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (28, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (29, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (30, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (31, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (32, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (33, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (34, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (35, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (36, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (37, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (38, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (39, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (40, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (41, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (42, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (43, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (44, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (45, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (46, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (47, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (48, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (49, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (50, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (51, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (52, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (53, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (54, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (55, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (56, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (57, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (58, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (59, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (60, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (61, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (62, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (63, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (64, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (65, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (66, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (67, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (68, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (69, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (70, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (71, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (72, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (73, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (74, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (75, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (76, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (77, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (78, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (79, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (80, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (81, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (82, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (83, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (84, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (85, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (86, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (87, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (88, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (89, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (90, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (91, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (92, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (93, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (94, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (95, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (96, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (97, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (98, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (99, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (100, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (101, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (102, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (103, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (104, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (105, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (106, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (107, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (108, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (109, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (110, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (111, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (112, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (113, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (114, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (115, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (116, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (117, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (118, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (119, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (120, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (121, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (122, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (123, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (124, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (125, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (126, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (127, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (128, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (129, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (130, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (131, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (132, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (133, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (134, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (135, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (136, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (137, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (138, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (139, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (140, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (141, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (142, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (143, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (144, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (145, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (146, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (147, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (148, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (149, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (150, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (151, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (152, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (153, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (154, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (155, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (156, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (157, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (158, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (159, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (160, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (161, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (162, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (163, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (164, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (165, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (166, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (167, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (168, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (169, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (170, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (171, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (172, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (173, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (174, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (175, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (176, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (177, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (178, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (179, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (180, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (181, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (182, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (183, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (184, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (185, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (186, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (187, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (188, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (189, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (190, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (191, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (192, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (193, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (194, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (195, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (196, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (197, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (198, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (199, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (200, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (201, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (202, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (203, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (204, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (205, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (206, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (207, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (208, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (209, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (210, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (211, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (212, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (213, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (214, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (215, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (216, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (217, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (218, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (219, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (220, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (221, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (222, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (223, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (224, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (225, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (226, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (227, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (228, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (229, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (230, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (231, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (232, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (233, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (234, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (235, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (236, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (237, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (238, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (239, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (240, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (241, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (242, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (243, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (244, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (245, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (246, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (247, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (248, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (249, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (250, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (251, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (252, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (253, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (254, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (255, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (256, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (257, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (258, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (259, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (260, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (261, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (262, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (263, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (264, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (265, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (266, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (267, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (268, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (269, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (270, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (271, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (272, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (273, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (274, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (275, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (276, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (277, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (278, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (279, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (280, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (281, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (282, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (283, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (284, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (285, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (286, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (287, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (288, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (289, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (290, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (291, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (292, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (293, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (294, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (295, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (296, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (297, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (298, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (299, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (300, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (301, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (302, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (303, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (304, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (305, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (306, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (307, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (308, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (309, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (310, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (311, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (312, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (313, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (314, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (315, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (316, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (317, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (318, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (319, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (320, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (321, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (322, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (323, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (324, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (325, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (326, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (327, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (328, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (329, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (330, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (331, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (332, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (333, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (334, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (335, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (336, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (337, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (338, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (339, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (340, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (341, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (342, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (343, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (344, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (345, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (346, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (347, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (348, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (349, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (350, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (351, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (352, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (353, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (354, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (355, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (356, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (357, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (358, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (359, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (360, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (361, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (362, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (363, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (364, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (365, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (366, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (367, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (368, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (369, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (370, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (371, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (372, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (373, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (374, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (375, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (376, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (377, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (378, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (379, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (380, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (381, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (382, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (383, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (384, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (385, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (386, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (387, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (388, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (389, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (390, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (391, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (392, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (393, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (394, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (395, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (396, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (397, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (398, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (399, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (400, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (401, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (402, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (403, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (404, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (405, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (406, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (407, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (408, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (409, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (410, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (411, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (412, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (413, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (414, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (415, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (416, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (417, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (418, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (419, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (420, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (421, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (422, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (423, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (424, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (425, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (426, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (427, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (428, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (429, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (430, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (431, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (432, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (433, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (434, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (435, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (436, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (437, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (438, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (439, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (440, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (441, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (442, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (443, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (444, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (445, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (446, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (447, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (448, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (449, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (450, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (451, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (452, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (453, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (454, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (455, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (456, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (457, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (458, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (459, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (460, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (461, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (462, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (463, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (464, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (465, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (466, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (467, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (468, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (469, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (470, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (471, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (472, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (473, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (474, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (475, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (476, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (477, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (478, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (479, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (480, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (481, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (482, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (483, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (484, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (485, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (486, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (487, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (488, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (489, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (490, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (491, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (492, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (493, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (494, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (495, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (496, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (497, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (498, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (499, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (500, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (501, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (502, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (503, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (504, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (505, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (506, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (507, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (508, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (509, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (510, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (511, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (512, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (513, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (514, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (515, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (516, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (517, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (518, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (519, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (520, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (521, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (522, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (523, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (524, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (525, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (526, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (527, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (528, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (529, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (530, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (531, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (532, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (533, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (534, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (535, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (536, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (537, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (538, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (539, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (540, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (541, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (542, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (543, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (544, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (545, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (546, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (547, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (548, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (549, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (550, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (551, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (552, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (553, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (554, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (555, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (556, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (557, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (558, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (559, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (560, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (561, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (562, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (563, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (564, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (565, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (566, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (567, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (568, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (569, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (570, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (571, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (572, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (573, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (574, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (575, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (576, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (577, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (578, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (579, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (580, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (581, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (582, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (583, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (584, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (585, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (586, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (587, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (588, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (589, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (590, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (591, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (592, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (593, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (594, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (595, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (596, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (597, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (598, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (599, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (600, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (601, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (602, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (603, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (604, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (605, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (606, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (607, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (608, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (609, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (610, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (611, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (612, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (613, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (614, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (615, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (616, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (617, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (618, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (619, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (620, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (621, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (622, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (623, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (624, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (625, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (626, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (627, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (628, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (629, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (630, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (631, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (632, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (633, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (634, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (635, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (636, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (637, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (638, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (639, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (640, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (641, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (642, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (643, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (644, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (645, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (646, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (647, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (648, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (649, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (650, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (651, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (652, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (653, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (654, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (655, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (656, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (657, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (658, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (659, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (660, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (661, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (662, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (663, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (664, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (665, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (666, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (667, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (668, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (669, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (670, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (671, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (672, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (673, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (674, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (675, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (676, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (677, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (678, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (679, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (680, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (681, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (682, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (683, 20);
+INSERT INTO ${prefix}User_Current_City VALUES (684, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (685, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (686, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (687, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (688, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (689, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (690, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (691, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (692, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (693, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (694, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (695, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (696, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (697, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (698, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (699, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (700, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (701, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (702, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (703, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (704, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (705, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (706, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (707, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (708, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (709, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (710, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (711, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (712, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (713, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (714, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (715, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (716, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (717, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (718, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (719, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (720, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (721, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (722, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (723, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (724, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (725, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (726, 4);
+INSERT INTO ${prefix}User_Current_City VALUES (727, 24);
+INSERT INTO ${prefix}User_Current_City VALUES (728, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (729, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (730, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (731, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (732, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (733, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (734, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (735, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (736, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (737, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (738, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (739, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (740, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (741, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (742, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (743, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (744, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (745, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (746, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (747, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (748, 12);
+INSERT INTO ${prefix}User_Current_City VALUES (749, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (750, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (751, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (752, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (753, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (754, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (755, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (756, 22);
+INSERT INTO ${prefix}User_Current_City VALUES (757, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (758, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (759, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (760, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (761, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (762, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (763, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (764, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (765, 10);
+INSERT INTO ${prefix}User_Current_City VALUES (766, 23);
+INSERT INTO ${prefix}User_Current_City VALUES (767, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (768, 18);
+INSERT INTO ${prefix}User_Current_City VALUES (769, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (770, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (771, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (772, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (773, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (774, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (775, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (776, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (777, 6);
+INSERT INTO ${prefix}User_Current_City VALUES (778, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (779, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (780, 1);
+INSERT INTO ${prefix}User_Current_City VALUES (781, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (782, 9);
+INSERT INTO ${prefix}User_Current_City VALUES (783, 13);
+INSERT INTO ${prefix}User_Current_City VALUES (784, 8);
+INSERT INTO ${prefix}User_Current_City VALUES (785, 7);
+INSERT INTO ${prefix}User_Current_City VALUES (786, 14);
+INSERT INTO ${prefix}User_Current_City VALUES (787, 16);
+INSERT INTO ${prefix}User_Current_City VALUES (788, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (789, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (790, 17);
+INSERT INTO ${prefix}User_Current_City VALUES (791, 3);
+INSERT INTO ${prefix}User_Current_City VALUES (792, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (793, 11);
+INSERT INTO ${prefix}User_Current_City VALUES (794, 5);
+INSERT INTO ${prefix}User_Current_City VALUES (795, 2);
+INSERT INTO ${prefix}User_Current_City VALUES (796, 19);
+INSERT INTO ${prefix}User_Current_City VALUES (797, 21);
+INSERT INTO ${prefix}User_Current_City VALUES (798, 15);
+INSERT INTO ${prefix}User_Current_City VALUES (799, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (0, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (1, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (2, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (3, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (4, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (5, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (6, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (7, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (8, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (9, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (10, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (11, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (12, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (13, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (14, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (15, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (16, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (17, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (18, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (19, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (20, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (21, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (22, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (23, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (24, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (25, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (26, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (27, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (28, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (29, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (30, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (31, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (32, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (33, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (34, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (35, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (36, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (37, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (38, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (39, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (40, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (41, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (42, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (43, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (44, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (45, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (46, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (47, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (48, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (49, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (50, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (51, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (52, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (53, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (54, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (55, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (56, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (57, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (58, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (59, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (60, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (61, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (62, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (63, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (64, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (65, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (66, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (67, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (68, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (69, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (70, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (71, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (72, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (73, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (74, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (75, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (76, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (77, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (78, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (79, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (80, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (81, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (82, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (83, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (84, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (85, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (86, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (87, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (88, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (89, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (90, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (91, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (92, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (93, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (94, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (95, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (96, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (97, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (98, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (99, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (100, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (101, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (102, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (103, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (104, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (105, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (106, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (107, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (108, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (109, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (110, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (111, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (112, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (113, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (114, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (115, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (116, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (117, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (118, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (119, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (120, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (121, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (122, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (123, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (124, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (125, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (126, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (127, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (128, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (129, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (130, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (131, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (132, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (133, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (134, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (135, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (136, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (137, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (138, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (139, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (140, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (141, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (142, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (143, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (144, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (145, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (146, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (147, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (148, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (149, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (150, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (151, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (152, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (153, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (154, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (155, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (156, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (157, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (158, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (159, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (160, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (161, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (162, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (163, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (164, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (165, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (166, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (167, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (168, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (169, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (170, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (171, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (172, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (173, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (174, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (175, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (176, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (177, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (178, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (179, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (180, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (181, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (182, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (183, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (184, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (185, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (186, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (187, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (188, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (189, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (190, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (191, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (192, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (193, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (194, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (195, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (196, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (197, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (198, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (199, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (200, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (201, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (202, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (203, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (204, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (205, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (206, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (207, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (208, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (209, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (210, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (211, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (212, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (213, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (214, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (215, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (216, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (217, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (218, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (219, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (220, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (221, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (222, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (223, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (224, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (225, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (226, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (227, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (228, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (229, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (230, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (231, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (232, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (233, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (234, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (235, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (236, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (237, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (238, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (239, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (240, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (241, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (242, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (243, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (244, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (245, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (246, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (247, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (248, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (249, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (250, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (251, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (252, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (253, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (254, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (255, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (256, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (257, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (258, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (259, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (260, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (261, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (262, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (263, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (264, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (265, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (266, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (267, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (268, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (269, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (270, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (271, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (272, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (273, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (274, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (275, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (276, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (277, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (278, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (279, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (280, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (281, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (282, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (283, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (284, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (285, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (286, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (287, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (288, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (289, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (290, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (291, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (292, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (293, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (294, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (295, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (296, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (297, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (298, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (299, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (300, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (301, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (302, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (303, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (304, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (305, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (306, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (307, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (308, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (309, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (310, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (311, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (312, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (313, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (314, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (315, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (316, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (317, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (318, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (319, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (320, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (321, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (322, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (323, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (324, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (325, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (326, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (327, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (328, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (329, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (330, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (331, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (332, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (333, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (334, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (335, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (336, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (337, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (338, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (339, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (340, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (341, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (342, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (343, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (344, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (345, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (346, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (347, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (348, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (349, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (350, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (351, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (352, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (353, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (354, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (355, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (356, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (357, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (358, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (359, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (360, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (361, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (362, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (363, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (364, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (365, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (366, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (367, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (368, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (369, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (370, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (371, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (372, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (373, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (374, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (375, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (376, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (377, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (378, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (379, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (380, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (381, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (382, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (383, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (384, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (385, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (386, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (387, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (388, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (389, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (390, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (391, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (392, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (393, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (394, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (395, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (396, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (397, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (398, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (399, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (400, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (401, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (402, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (403, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (404, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (405, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (406, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (407, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (408, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (409, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (410, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (411, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (412, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (413, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (414, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (415, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (416, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (417, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (418, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (419, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (420, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (421, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (422, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (423, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (424, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (425, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (426, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (427, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (428, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (429, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (430, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (431, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (432, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (433, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (434, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (435, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (436, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (437, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (438, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (439, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (440, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (441, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (442, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (443, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (444, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (445, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (446, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (447, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (448, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (449, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (450, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (451, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (452, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (453, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (454, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (455, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (456, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (457, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (458, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (459, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (460, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (461, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (462, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (463, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (464, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (465, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (466, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (467, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (468, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (469, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (470, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (471, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (472, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (473, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (474, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (475, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (476, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (477, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (478, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (479, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (480, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (481, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (482, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (483, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (484, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (485, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (486, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (487, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (488, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (489, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (490, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (491, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (492, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (493, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (494, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (495, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (496, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (497, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (498, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (499, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (500, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (501, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (502, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (503, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (504, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (505, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (506, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (507, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (508, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (509, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (510, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (511, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (512, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (513, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (514, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (515, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (516, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (517, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (518, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (519, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (520, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (521, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (522, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (523, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (524, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (525, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (526, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (527, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (528, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (529, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (530, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (531, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (532, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (533, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (534, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (535, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (536, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (537, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (538, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (539, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (540, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (541, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (542, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (543, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (544, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (545, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (546, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (547, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (548, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (549, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (550, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (551, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (552, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (553, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (554, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (555, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (556, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (557, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (558, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (559, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (560, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (561, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (562, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (563, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (564, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (565, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (566, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (567, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (568, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (569, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (570, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (571, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (572, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (573, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (574, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (575, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (576, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (577, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (578, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (579, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (580, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (581, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (582, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (583, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (584, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (585, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (586, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (587, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (588, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (589, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (590, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (591, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (592, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (593, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (594, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (595, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (596, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (597, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (598, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (599, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (600, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (601, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (602, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (603, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (604, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (605, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (606, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (607, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (608, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (609, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (610, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (611, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (612, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (613, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (614, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (615, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (616, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (617, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (618, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (619, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (620, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (621, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (622, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (623, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (624, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (625, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (626, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (627, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (628, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (629, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (630, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (631, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (632, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (633, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (634, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (635, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (636, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (637, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (638, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (639, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (640, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (641, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (642, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (643, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (644, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (645, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (646, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (647, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (648, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (649, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (650, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (651, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (652, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (653, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (654, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (655, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (656, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (657, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (658, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (659, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (660, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (661, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (662, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (663, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (664, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (665, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (666, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (667, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (668, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (669, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (670, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (671, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (672, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (673, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (674, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (675, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (676, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (677, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (678, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (679, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (680, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (681, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (682, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (683, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (684, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (685, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (686, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (687, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (688, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (689, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (690, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (691, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (692, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (693, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (694, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (695, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (696, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (697, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (698, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (699, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (700, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (701, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (702, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (703, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (704, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (705, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (706, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (707, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (708, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (709, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (710, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (711, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (712, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (713, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (714, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (715, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (716, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (717, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (718, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (719, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (720, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (721, 6);
+INSERT INTO ${prefix}User_Hometown_City VALUES (722, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (723, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (724, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (725, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (726, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (727, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (728, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (729, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (730, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (731, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (732, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (733, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (734, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (735, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (736, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (737, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (738, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (739, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (740, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (741, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (742, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (743, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (744, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (745, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (746, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (747, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (748, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (749, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (750, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (751, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (752, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (753, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (754, 23);
+INSERT INTO ${prefix}User_Hometown_City VALUES (755, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (756, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (757, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (758, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (759, 21);
+INSERT INTO ${prefix}User_Hometown_City VALUES (760, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (761, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (762, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (763, 10);
+INSERT INTO ${prefix}User_Hometown_City VALUES (764, 19);
+INSERT INTO ${prefix}User_Hometown_City VALUES (765, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (766, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (767, 12);
+INSERT INTO ${prefix}User_Hometown_City VALUES (768, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (769, 16);
+INSERT INTO ${prefix}User_Hometown_City VALUES (770, 24);
+INSERT INTO ${prefix}User_Hometown_City VALUES (771, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (772, 13);
+INSERT INTO ${prefix}User_Hometown_City VALUES (773, 7);
+INSERT INTO ${prefix}User_Hometown_City VALUES (774, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (775, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (776, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (777, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (778, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (779, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (780, 17);
+INSERT INTO ${prefix}User_Hometown_City VALUES (781, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (782, 9);
+INSERT INTO ${prefix}User_Hometown_City VALUES (783, 1);
+INSERT INTO ${prefix}User_Hometown_City VALUES (784, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (785, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (786, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (787, 20);
+INSERT INTO ${prefix}User_Hometown_City VALUES (788, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (789, 15);
+INSERT INTO ${prefix}User_Hometown_City VALUES (790, 3);
+INSERT INTO ${prefix}User_Hometown_City VALUES (791, 8);
+INSERT INTO ${prefix}User_Hometown_City VALUES (792, 22);
+INSERT INTO ${prefix}User_Hometown_City VALUES (793, 18);
+INSERT INTO ${prefix}User_Hometown_City VALUES (794, 14);
+INSERT INTO ${prefix}User_Hometown_City VALUES (795, 4);
+INSERT INTO ${prefix}User_Hometown_City VALUES (796, 5);
+INSERT INTO ${prefix}User_Hometown_City VALUES (797, 11);
+INSERT INTO ${prefix}User_Hometown_City VALUES (798, 2);
+INSERT INTO ${prefix}User_Hometown_City VALUES (799, 14);
+INSERT INTO ${prefix}Programs VALUES (1, 'University of Rivendell', 'Lore', 'BA');
+INSERT INTO ${prefix}Programs VALUES (2, 'University of Rivendell', 'Lore', 'MS');
+INSERT INTO ${prefix}Programs VALUES (3, 'University of Rivendell', 'Healing', 'BA');
+INSERT INTO ${prefix}Programs VALUES (4, 'University of Rivendell', 'Healing', 'MS');
+INSERT INTO ${prefix}Programs VALUES (5, 'University of Rivendell', 'Smithing', 'BA');
+INSERT INTO ${prefix}Programs VALUES (6, 'University of Rivendell', 'Smithing', 'MS');
+INSERT INTO ${prefix}Programs VALUES (7, 'Minas Tirith College', 'Lore', 'BA');
+INSERT INTO ${prefix}Programs VALUES (8, 'Minas Tirith College', 'Lore', 'MS');
+INSERT INTO ${prefix}Programs VALUES (9, 'Minas Tirith College', 'Healing', 'BA');
+INSERT INTO ${prefix}Programs VALUES (10, 'Minas Tirith College', 'Healing', 'MS');
+INSERT INTO ${prefix}Programs VALUES (11, 'Minas Tirith College', 'Smithing', 'BA');
+INSERT INTO ${prefix}Programs VALUES (12, 'Minas Tirith College', 'Smithing', 'MS');
+INSERT INTO ${prefix}Programs VALUES (13, 'Bree Institute', 'Lore', 'BA');
+INSERT INTO ${prefix}Programs VALUES (14, 'Bree Institute', 'Lore', 'MS');
+INSERT INTO ${prefix}Programs VALUES (15, 'Bree Institute', 'Healing', 'BA');
+INSERT INTO ${prefix}Programs VALUES (16, 'Bree Institute', 'Healing', 'MS');
+INSERT INTO ${prefix}Programs VALUES (17, 'Bree Institute', 'Smithing', 'BA');
+INSERT INTO ${prefix}Programs VALUES (18, 'Bree Institute', 'Smithing', 'MS');
+INSERT INTO ${prefix}Education VALUES (0, 16, 1001);
+INSERT INTO ${prefix}Education VALUES (2, 13, 1080);
+INSERT INTO ${prefix}Education VALUES (2, 14, 1063);
+INSERT INTO ${prefix}Education VALUES (3, 7, 1041);
+INSERT INTO ${prefix}Education VALUES (3, 13, 1095);
+INSERT INTO ${prefix}Education VALUES (4, 5, 1064);
+INSERT INTO ${prefix}Education VALUES (5, 8, 1007);
+INSERT INTO ${prefix}Education VALUES (8, 15, 1066);
+INSERT INTO ${prefix}Education VALUES (9, 9, 1055);
+INSERT INTO ${prefix}Education VALUES (9, 16, 1040);
+INSERT INTO ${prefix}Education VALUES (10, 3, 1030);
+INSERT INTO ${prefix}Education VALUES (11, 6, 1038);
+INSERT INTO ${prefix}Education VALUES (12, 4, 1005);
+INSERT INTO ${prefix}Education VALUES (14, 9, 1073);
+INSERT INTO ${prefix}Education VALUES (16, 18, 1046);
+INSERT INTO ${prefix}Education VALUES (17, 2, 1048);
+INSERT INTO ${prefix}Education VALUES (17, 18, 1080);
+INSERT INTO ${prefix}Education VALUES (20, 6, 1097);
+INSERT INTO ${prefix}Education VALUES (20, 13, 1031);
+INSERT INTO ${prefix}Education VALUES (21, 9, 1040);
+INSERT INTO ${prefix}Education VALUES (21, 10, 1000);
+INSERT INTO ${prefix}Education VALUES (22, 5, 1056);
+INSERT INTO ${prefix}Education VALUES (23, 5, 1000);
+INSERT INTO ${prefix}Education VALUES (26, 8, 1005);
+INSERT INTO ${prefix}Education VALUES (26, 13, 1094);
+INSERT INTO ${prefix}Education VALUES (27, 2, 1043);
+INSERT INTO ${prefix}Education VALUES (29, 9, 1094);
+INSERT INTO ${prefix}Education VALUES (29, 14, 1075);
+INSERT INTO ${prefix}Education VALUES (30, 16, 1041);
+INSERT INTO ${prefix}Education VALUES (31, 12, 1060);
+INSERT INTO ${prefix}Education VALUES (32, 13, 1100);
+INSERT INTO ${prefix}Education VALUES (33, 2, 1077);
+INSERT INTO ${prefix}Education VALUES (34, 12, 1087);
+INSERT INTO ${prefix}Education VALUES (34, 15, 1074);
+INSERT INTO ${prefix}Education VALUES (35, 3, 1039);
+INSERT INTO ${prefix}Education VALUES (36, 2, 1084);
+INSERT INTO ${prefix}Education VALUES (37, 3, 1038);
+INSERT INTO ${prefix}Education VALUES (37, 15, 1093);
+INSERT INTO ${prefix}Education VALUES (38, 14, 1093);
+INSERT INTO ${prefix}Education VALUES (41, 13, 1041);
+INSERT INTO ${prefix}Education VALUES (43, 3, 1018);
+INSERT INTO ${prefix}Education VALUES (43, 15, 1075);
+INSERT INTO ${prefix}Education VALUES (44, 7, 1099);
+INSERT INTO ${prefix}Education VALUES (45, 2, 1097);
+INSERT INTO ${prefix}Education VALUES (45, 14, 1054);
+INSERT INTO ${prefix}Education VALUES (47, 9, 1080);
+INSERT INTO ${prefix}Education VALUES (52, 15, 1056);
+INSERT INTO ${prefix}Education VALUES (52, 18, 1016);
+INSERT INTO ${prefix}Education VALUES (54, 16, 1047);
+INSERT INTO ${prefix}Education VALUES (56, 16, 1094);
+INSERT INTO ${prefix}Education VALUES (59, 9, 1052);
+INSERT INTO ${prefix}Education VALUES (59, 11, 1053);
+INSERT INTO ${prefix}Education VALUES (60, 15, 1020);
+INSERT INTO ${prefix}Education VALUES (60, 17, 1092);
+INSERT INTO ${prefix}Education VALUES (61, 2, 1005);
+INSERT INTO ${prefix}Education VALUES (61, 4, 1080);
+INSERT INTO ${prefix}Education VALUES (62, 1, 1054);
+INSERT INTO ${prefix}Education VALUES (62, 18, 1040);
+INSERT INTO ${prefix}Education VALUES (63, 3, 1012);
+INSERT INTO ${prefix}Education VALUES (65, 17, 1097);
+INSERT INTO ${prefix}Education VALUES (66, 9, 1022);
+INSERT INTO ${prefix}Education VALUES (67, 4, 1025);
+INSERT INTO ${prefix}Education VALUES (69, 11, 1004);
+INSERT INTO ${prefix}Education VALUES (69, 17, 1024);
+INSERT INTO ${prefix}Education VALUES (70, 4, 1035);
+INSERT INTO ${prefix}Education VALUES (71, 9, 1065);
+INSERT INTO ${prefix}Education VALUES (72, 3, 1090);
+INSERT INTO ${prefix}Education VALUES (73, 3, 1022);
+INSERT INTO ${prefix}Education VALUES (76, 11, 1021);
+INSERT INTO ${prefix}Education VALUES (76, 15, 1033);
+INSERT INTO ${prefix}Education VALUES (78, 3, 1095);
+INSERT INTO ${prefix}Education VALUES (78, 5, 1077);
+INSERT INTO ${prefix}Education VALUES (79, 2, 1059);
+INSERT INTO ${prefix}Education VALUES (79, 4, 1081);
+INSERT INTO ${prefix}Education VALUES (82, 4, 1031);
+INSERT INTO ${prefix}Education VALUES (83, 16, 1076);
+INSERT INTO ${prefix}Education VALUES (84, 10, 1028);
+INSERT INTO ${prefix}Education VALUES (84, 12, 1006);
+INSERT INTO ${prefix}Education VALUES (85, 3, 1034);
+INSERT INTO ${prefix}Education VALUES (90, 5, 1080);
+INSERT INTO ${prefix}Education VALUES (90, 8, 1061);
+INSERT INTO ${prefix}Education VALUES (92, 3, 1056);
+INSERT INTO ${prefix}Education VALUES (93, 16, 1055);
+INSERT INTO ${prefix}Education VALUES (94, 17, 1020);
+INSERT INTO ${prefix}Education VALUES (95, 10, 1065);
+INSERT INTO ${prefix}Education VALUES (95, 14, 1048);
+INSERT INTO ${prefix}Education VALUES (97, 6, 1081);
+INSERT INTO ${prefix}Education VALUES (99, 9, 1097);
+INSERT INTO ${prefix}Education VALUES (99, 11, 1084);
+INSERT INTO ${prefix}Education VALUES (100, 12, 1066);
+INSERT INTO ${prefix}Education VALUES (100, 18, 1048);
+INSERT INTO ${prefix}Education VALUES (102, 7, 1044);
+INSERT INTO ${prefix}Education VALUES (102, 16, 1040);
+INSERT INTO ${prefix}Education VALUES (104, 16, 1084);
+INSERT INTO ${prefix}Education VALUES (105, 9, 1050);
+INSERT INTO ${prefix}Education VALUES (109, 13, 1041);
+INSERT INTO ${prefix}Education VALUES (109, 14, 1100);
+INSERT INTO ${prefix}Education VALUES (110, 2, 1019);
+INSERT INTO ${prefix}Education VALUES (110, 12, 1069);
+INSERT INTO ${prefix}Education VALUES (112, 9, 1030);
+INSERT INTO ${prefix}Education VALUES (113, 6, 1019);
+INSERT INTO ${prefix}Education VALUES (114, 2, 1093);
+INSERT INTO ${prefix}Education VALUES (114, 3, 1099);
+INSERT INTO ${prefix}Education VALUES (115, 18, 1010);
+INSERT INTO ${prefix}Education VALUES (116, 10, 1063);
+INSERT INTO ${prefix}Education VALUES (117, 15, 1019);
+INSERT INTO ${prefix}Education VALUES (117, 17, 1085);
+INSERT INTO ${prefix}Education VALUES (119, 9, 1038);
+INSERT INTO ${prefix}Education VALUES (119, 15, 1089);
+INSERT INTO ${prefix}Education VALUES (120, 2, 1002);
+INSERT INTO ${prefix}Education VALUES (120, 16, 1066);
+INSERT INTO ${prefix}Education VALUES (121, 17, 1012);
+INSERT INTO ${prefix}Education VALUES (122, 4, 1085);
+INSERT INTO ${prefix}Education VALUES (122, 11, 1089);
+INSERT INTO ${prefix}Education VALUES (123, 2, 1005);
+INSERT INTO ${prefix}Education VALUES (123, 11, 1084);
+INSERT INTO ${prefix}Education VALUES (126, 2, 1082);
+INSERT INTO ${prefix}Education VALUES (127, 11, 1062);
+INSERT INTO ${prefix}Education VALUES (129, 5, 1057);
+INSERT INTO ${prefix}Education VALUES (130, 10, 1086);
+INSERT INTO ${prefix}Education VALUES (130, 12, 1056);
+INSERT INTO ${prefix}Education VALUES (131, 5, 1058);
+INSERT INTO ${prefix}Education VALUES (132, 5, 1014);
+INSERT INTO ${prefix}Education VALUES (132, 18, 1067);
+INSERT INTO ${prefix}Education VALUES (133, 5, 1006);
+INSERT INTO ${prefix}Education VALUES (133, 18, 1096);
+INSERT INTO ${prefix}Education VALUES (134, 2, 1048);
+INSERT INTO ${prefix}Education VALUES (134, 13, 1062);
+INSERT INTO ${prefix}Education VALUES (135, 5, 1037);
+INSERT INTO ${prefix}Education VALUES (136, 12, 1018);
+INSERT INTO ${prefix}Education VALUES (136, 13, 1062);
+INSERT INTO ${prefix}Education VALUES (137, 8, 1043);
+INSERT INTO ${prefix}Education VALUES (137, 9, 1069);
+INSERT INTO ${prefix}Education VALUES (139, 10, 1048);
+INSERT INTO ${prefix}Education VALUES (143, 15, 1049);
+INSERT INTO ${prefix}Education VALUES (145, 4, 1003);
+INSERT INTO ${prefix}Education VALUES (145, 7, 1093);
+INSERT INTO ${prefix}Education VALUES (146, 5, 1004);
+INSERT INTO ${prefix}Education VALUES (146, 16, 1096);
+INSERT INTO ${prefix}Education VALUES (149, 5, 1027);
+INSERT INTO ${prefix}Education VALUES (150, 11, 1002);
+INSERT INTO ${prefix}Education VALUES (151, 14, 1017);
+INSERT INTO ${prefix}Education VALUES (152, 3, 1029);
+INSERT INTO ${prefix}Education VALUES (152, 12, 1021);
+INSERT INTO ${prefix}Education VALUES (154, 2, 1089);
+INSERT INTO ${prefix}Education VALUES (156, 4, 1012);
+INSERT INTO ${prefix}Education VALUES (156, 5, 1016);
+INSERT INTO ${prefix}Education VALUES (157, 3, 1018);
+INSERT INTO ${prefix}Education VALUES (157, 10, 1001);
+INSERT INTO ${prefix}Education VALUES (159, 3, 1066);
+INSERT INTO ${prefix}Education VALUES (160, 15, 1087);
+INSERT INTO ${prefix}Education VALUES (161, 2, 1023);
+INSERT INTO ${prefix}Education VALUES (161, 10, 1013);
+INSERT INTO ${prefix}Education VALUES (162, 1, 1062);
+INSERT INTO ${prefix}Education VALUES (164, 3, 1093);
+INSERT INTO ${prefix}Education VALUES (164, 16, 1003);
+INSERT INTO ${prefix}Education VALUES (165, 17, 1075);
+INSERT INTO ${prefix}Education VALUES (166, 15, 1071);
+INSERT INTO ${prefix}Education VALUES (166, 17, 1010);
+INSERT INTO ${prefix}Education VALUES (170, 10, 1013);
+INSERT INTO ${prefix}Education VALUES (170, 14, 1070);
+INSERT INTO ${prefix}Education VALUES (172, 2, 1002);
+INSERT INTO ${prefix}Education VALUES (172, 15, 1058);
+INSERT INTO ${prefix}Education VALUES (173, 5, 1007);
+INSERT INTO ${prefix}Education VALUES (173, 16, 1004);
+INSERT INTO ${prefix}Education VALUES (174, 8, 1076);
+INSERT INTO ${prefix}Education VALUES (175, 2, 1014);
+INSERT INTO ${prefix}Education VALUES (175, 17, 1100);
+INSERT INTO ${prefix}Education VALUES (176, 16, 1030);
+INSERT INTO ${prefix}Education VALUES (178, 2, 1078);
+INSERT INTO ${prefix}Education VALUES (178, 13, 1039);
+INSERT INTO ${prefix}Education VALUES (180, 10, 1063);
+INSERT INTO ${prefix}Education VALUES (181, 12, 1018);
+INSERT INTO ${prefix}Education VALUES (181, 14, 1066);
+INSERT INTO ${prefix}Education VALUES (183, 11, 1054);
+INSERT INTO ${prefix}Education VALUES (185, 11, 1025);
+INSERT INTO ${prefix}Education VALUES (185, 15, 1001);
+INSERT INTO ${prefix}Education VALUES (186, 6, 1063);
+INSERT INTO ${prefix}Education VALUES (186, 14, 1026);
+INSERT INTO ${prefix}Education VALUES (188, 2, 1079);
+INSERT INTO ${prefix}Education VALUES (188, 17, 1082);
+INSERT INTO ${prefix}Education VALUES (189, 5, 1058);
+INSERT INTO ${prefix}Education VALUES (189, 17, 1051);
+INSERT INTO ${prefix}Education VALUES (192, 3, 1057);
+INSERT INTO ${prefix}Education VALUES (194, 1, 1046);
+INSERT INTO ${prefix}Education VALUES (195, 3, 1080);
+INSERT INTO ${prefix}Education VALUES (195, 13, 1064);
+INSERT INTO ${prefix}Education VALUES (198, 16, 1075);
+INSERT INTO ${prefix}Education VALUES (200, 9, 1011);
+INSERT INTO ${prefix}Education VALUES (201, 5, 1044);
+INSERT INTO ${prefix}Education VALUES (202, 4, 1022);
+INSERT INTO ${prefix}Education VALUES (202, 6, 1039);
+INSERT INTO ${prefix}Education VALUES (203, 4, 1008);
+INSERT INTO ${prefix}Education VALUES (205, 5, 1099);
+INSERT INTO ${prefix}Education VALUES (206, 17, 1010);
+INSERT INTO ${prefix}Education VALUES (207, 10, 1081);
+INSERT INTO ${prefix}Education VALUES (210, 2, 1018);
+INSERT INTO ${prefix}Education VALUES (210, 16, 1094);
+INSERT INTO ${prefix}Education VALUES (211, 4, 1059);
+INSERT INTO ${prefix}Education VALUES (211, 11, 1004);
+INSERT INTO ${prefix}Education VALUES (213, 13, 1091);
+INSERT INTO ${prefix}Education VALUES (214, 7, 1038);
+INSERT INTO ${prefix}Education VALUES (215, 4, 1081);
+INSERT INTO ${prefix}Education VALUES (216, 17, 1032);
+INSERT INTO ${prefix}Education VALUES (217, 5, 1057);
+INSERT INTO ${prefix}Education VALUES (217, 10, 1028);
+INSERT INTO ${prefix}Education VALUES (219, 10, 1060);
+INSERT INTO ${prefix}Education VALUES (220, 6, 1093);
+INSERT INTO ${prefix}Education VALUES (220, 7, 1064);
+INSERT INTO ${prefix}Education VALUES (221, 14, 1057);
+INSERT INTO ${prefix}Education VALUES (221, 15, 1099);
+INSERT INTO ${prefix}Education VALUES (223, 2, 1035);
+INSERT INTO ${prefix}Education VALUES (223, 12, 1024);
+INSERT INTO ${prefix}Education VALUES (225, 10, 1030);
+INSERT INTO ${prefix}Education VALUES (225, 12, 1081);
+INSERT INTO ${prefix}Education VALUES (226, 15, 1017);
+INSERT INTO ${prefix}Education VALUES (227, 7, 1068);
+INSERT INTO ${prefix}Education VALUES (229, 9, 1066);
+INSERT INTO ${prefix}Education VALUES (231, 7, 1038);
+INSERT INTO ${prefix}Education VALUES (232, 9, 1052);
+INSERT INTO ${prefix}Education VALUES (233, 2, 1075);
+INSERT INTO ${prefix}Education VALUES (234, 6, 1028);
+INSERT INTO ${prefix}Education VALUES (235, 4, 1023);
+INSERT INTO ${prefix}Education VALUES (235, 14, 1060);
+INSERT INTO ${prefix}Education VALUES (236, 2, 1075);
+INSERT INTO ${prefix}Education VALUES (236, 13, 1028);
+INSERT INTO ${prefix}Education VALUES (237, 9, 1031);
+INSERT INTO ${prefix}Education VALUES (237, 12, 1015);
+INSERT INTO ${prefix}Education VALUES (238, 4, 1064);
+INSERT INTO ${prefix}Education VALUES (239, 5, 1079);
+INSERT INTO ${prefix}Education VALUES (243, 1, 1079);
+INSERT INTO ${prefix}Education VALUES (246, 1, 1085);
+INSERT INTO ${prefix}Education VALUES (246, 9, 1023);
+INSERT INTO ${prefix}Education VALUES (249, 5, 1067);
+INSERT INTO ${prefix}Education VALUES (249, 8, 1066);
+INSERT INTO ${prefix}Education VALUES (250, 4, 1084);
+INSERT INTO ${prefix}Education VALUES (253, 18, 1015);
+INSERT INTO ${prefix}Education VALUES (254, 11, 1064);
+INSERT INTO ${prefix}Education VALUES (254, 14, 1019);
+INSERT INTO ${prefix}Education VALUES (255, 12, 1064);
+INSERT INTO ${prefix}Education VALUES (256, 13, 1021);
+INSERT INTO ${prefix}Education VALUES (256, 16, 1033);
+INSERT INTO ${prefix}Education VALUES (259, 5, 1050);
+INSERT INTO ${prefix}Education VALUES (260, 4, 1050);
+INSERT INTO ${prefix}Education VALUES (260, 12, 1065);
+INSERT INTO ${prefix}Education VALUES (261, 9, 1009);
+INSERT INTO ${prefix}Education VALUES (261, 17, 1085);
+INSERT INTO ${prefix}Education VALUES (262, 10, 1029);
+INSERT INTO ${prefix}Education VALUES (263, 1, 1071);
+INSERT INTO ${prefix}Education VALUES (263, 15, 1069);
+INSERT INTO ${prefix}Education VALUES (264, 10, 1027);
+INSERT INTO ${prefix}Education VALUES (264, 16, 1088);
+INSERT INTO ${prefix}Education VALUES (265, 4, 1031);
+INSERT INTO ${prefix}Education VALUES (265, 11, 1047);
+INSERT INTO ${prefix}Education VALUES (266, 16, 1082);
+INSERT INTO ${prefix}Education VALUES (267, 12, 1036);
+INSERT INTO ${prefix}Education VALUES (267, 14, 1055);
+INSERT INTO ${prefix}Education VALUES (270, 10, 1015);
+INSERT INTO ${prefix}Education VALUES (270, 12, 1081);
+INSERT INTO ${prefix}Education VALUES (271, 6, 1066);
+INSERT INTO ${prefix}Education VALUES (272, 14, 1044);
+INSERT INTO ${prefix}Education VALUES (276, 6, 1089);
+INSERT INTO ${prefix}Education VALUES (276, 7, 1005);
+INSERT INTO ${prefix}Education VALUES (277, 14, 1010);
+INSERT INTO ${prefix}Education VALUES (279, 13, 1037);
+INSERT INTO ${prefix}Education VALUES (279, 16, 1021);
+INSERT INTO ${prefix}Education VALUES (280, 2, 1098);
+INSERT INTO ${prefix}Education VALUES (280, 8, 1019);
+INSERT INTO ${prefix}Education VALUES (282, 15, 1100);
+INSERT INTO ${prefix}Education VALUES (283, 13, 1012);
+INSERT INTO ${prefix}Education VALUES (283, 16, 1093);
+INSERT INTO ${prefix}Education VALUES (284, 3, 1041);
+INSERT INTO ${prefix}Education VALUES (284, 7, 1084);
+INSERT INTO ${prefix}Education VALUES (286, 9, 1092);
+INSERT INTO ${prefix}Education VALUES (287, 3, 1078);
+INSERT INTO ${prefix}Education VALUES (287, 11, 1066);
+INSERT INTO ${prefix}Education VALUES (295, 11, 1069);
+INSERT INTO ${prefix}Education VALUES (296, 14, 1059);
+INSERT INTO ${prefix}Education VALUES (297, 16, 1044);
+INSERT INTO ${prefix}Education VALUES (298, 15, 1084);
+INSERT INTO ${prefix}Education VALUES (299, 2, 1073);
+INSERT INTO ${prefix}Education VALUES (299, 9, 1035);
+INSERT INTO ${prefix}Education VALUES (301, 6, 1083);
+INSERT INTO ${prefix}Education VALUES (301, 12, 1032);
+INSERT INTO ${prefix}Education VALUES (303, 3, 1023);
+INSERT INTO ${prefix}Education VALUES (303, 9, 1032);
+INSERT INTO ${prefix}Education VALUES (305, 7, 1099);
+INSERT INTO ${prefix}Education VALUES (305, 16, 1083);
+INSERT INTO ${prefix}Education VALUES (307, 8, 1094);
+INSERT INTO ${prefix}Education VALUES (307, 9, 1098);
+INSERT INTO ${prefix}Education VALUES (308, 9, 1009);
+INSERT INTO ${prefix}Education VALUES (308, 14, 1018);
+INSERT INTO ${prefix}Education VALUES (309, 3, 1029);
+INSERT INTO ${prefix}Education VALUES (313, 14, 1009);
+INSERT INTO ${prefix}Education VALUES (314, 5, 1082);
+INSERT INTO ${prefix}Education VALUES (316, 8, 1073);
+INSERT INTO ${prefix}Education VALUES (316, 9, 1052);
+INSERT INTO ${prefix}Education VALUES (318, 2, 1080);
+INSERT INTO ${prefix}Education VALUES (318, 6, 1000);
+INSERT INTO ${prefix}Education VALUES (320, 3, 1011);
+INSERT INTO ${prefix}Education VALUES (320, 9, 1070);
+INSERT INTO ${prefix}Education VALUES (325, 7, 1002);
+INSERT INTO ${prefix}Education VALUES (325, 9, 1056);
+INSERT INTO ${prefix}Education VALUES (326, 15, 1011);
+INSERT INTO ${prefix}Education VALUES (327, 3, 1089);
+INSERT INTO ${prefix}Education VALUES (327, 12, 1005);
+INSERT INTO ${prefix}Education VALUES (329, 4, 1017);
+INSERT INTO ${prefix}Education VALUES (329, 13, 1036);
+INSERT INTO ${prefix}Education VALUES (330, 6, 1092);
+INSERT INTO ${prefix}Education VALUES (331, 15, 1007);
+INSERT INTO ${prefix}Education VALUES (334, 3, 1065);
+INSERT INTO ${prefix}Education VALUES (334, 7, 1001);
+INSERT INTO ${prefix}Education VALUES (335, 5, 1001);
+INSERT INTO ${prefix}Education VALUES (337, 2, 1007);
+INSERT INTO ${prefix}Education VALUES (338, 3, 1024);
+INSERT INTO ${prefix}Education VALUES (338, 7, 1051);
+INSERT INTO ${prefix}Education VALUES (341, 11, 1019);
+INSERT INTO ${prefix}Education VALUES (342, 1, 1051);
+INSERT INTO ${prefix}Education VALUES (343, 5, 1067);
+INSERT INTO ${prefix}Education VALUES (345, 3, 1032);
+INSERT INTO ${prefix}Education VALUES (345, 16, 1082);
+INSERT INTO ${prefix}Education VALUES (346, 17, 1053);
+INSERT INTO ${prefix}Education VALUES (346, 18, 1060);
+INSERT INTO ${prefix}Education VALUES (348, 9, 1040);
+INSERT INTO ${prefix}Education VALUES (348, 15, 1071);
+INSERT INTO ${prefix}Education VALUES (349, 9, 1034);
+INSERT INTO ${prefix}Education VALUES (349, 17, 1039);
+INSERT INTO ${prefix}Education VALUES (351, 3, 1004);
+INSERT INTO ${prefix}Education VALUES (351, 18, 1086);
+INSERT INTO ${prefix}Education VALUES (352, 11, 1033);
+INSERT INTO ${prefix}Education VALUES (352, 16, 1085);
+INSERT INTO ${prefix}Education VALUES (353, 11, 1084);
+INSERT INTO ${prefix}Education VALUES (354, 6, 1041);
+INSERT INTO ${prefix}Education VALUES (355, 7, 1097);
+INSERT INTO ${prefix}Education VALUES (356, 13, 1048);
+INSERT INTO ${prefix}Education VALUES (357, 14, 1010);
+INSERT INTO ${prefix}Education VALUES (359, 11, 1004);
+INSERT INTO ${prefix}Education VALUES (359, 16, 1033);
+INSERT INTO ${prefix}Education VALUES (360, 18, 1055);
+INSERT INTO ${prefix}Education VALUES (361, 4, 1099);
+INSERT INTO ${prefix}Education VALUES (362, 3, 1020);
+INSERT INTO ${prefix}Education VALUES (362, 18, 1049);
+INSERT INTO ${prefix}Education VALUES (363, 2, 1047);
+INSERT INTO ${prefix}Education VALUES (363, 11, 1086);
+INSERT INTO ${prefix}Education VALUES (364, 2, 1100);
+INSERT INTO ${prefix}Education VALUES (365, 12, 1003);
+INSERT INTO ${prefix}Education VALUES (368, 7, 1004);
+INSERT INTO ${prefix}Education VALUES (369, 3, 1057);
+INSERT INTO ${prefix}Education VALUES (369, 10, 1071);
+INSERT INTO ${prefix}Education VALUES (370, 4, 1047);
+INSERT INTO ${prefix}Education VALUES (370, 12, 1023);
+INSERT INTO ${prefix}Education VALUES (371, 3, 1071);
+INSERT INTO ${prefix}Education VALUES (373, 3, 1057);
+INSERT INTO ${prefix}Education VALUES (373, 5, 1094);
+INSERT INTO ${prefix}Education VALUES (374, 2, 1069);
+INSERT INTO ${prefix}Education VALUES (375, 4, 1064);
+INSERT INTO ${prefix}Education VALUES (375, 17, 1081);
+INSERT INTO ${prefix}Education VALUES (377, 15, 1070);
+INSERT INTO ${prefix}Education VALUES (377, 17, 1075);
+INSERT INTO ${prefix}Education VALUES (378, 4, 1023);
+INSERT INTO ${prefix}Education VALUES (379, 4, 1097);
+INSERT INTO ${prefix}Education VALUES (379, 17, 1073);
+INSERT INTO ${prefix}Education VALUES (380, 10, 1013);
+INSERT INTO ${prefix}Education VALUES (380, 15, 1019);
+INSERT INTO ${prefix}Education VALUES (381, 10, 1047);
+INSERT INTO ${prefix}Education VALUES (384, 14, 1023);
+INSERT INTO ${prefix}Education VALUES (385, 7, 1085);
+INSERT INTO ${prefix}Education VALUES (385, 9, 1045);
+INSERT INTO ${prefix}Education VALUES (387, 6, 1044);
+INSERT INTO ${prefix}Education VALUES (387, 18, 1021);
+INSERT INTO ${prefix}Education VALUES (388, 5, 1072);
+INSERT INTO ${prefix}Education VALUES (388, 14, 1015);
+INSERT INTO ${prefix}Education VALUES (389, 1, 1090);
+INSERT INTO ${prefix}Education VALUES (389, 18, 1027);
+INSERT INTO ${prefix}Education VALUES (390, 13, 1077);
+INSERT INTO ${prefix}Education VALUES (390, 14, 1003);
+INSERT INTO ${prefix}Education VALUES (392, 5, 1071);
+INSERT INTO ${prefix}Education VALUES (392, 17, 1100);
+INSERT INTO ${prefix}Education VALUES (393, 13, 1016);
+INSERT INTO ${prefix}Education VALUES (393, 14, 1083);
+INSERT INTO ${prefix}Education VALUES (397, 2, 1028);
+INSERT INTO ${prefix}Education VALUES (399, 7, 1048);
+INSERT INTO ${prefix}Education VALUES (400, 10, 1096);
+INSERT INTO ${prefix}Education VALUES (401, 3, 1058);
+INSERT INTO ${prefix}Education VALUES (402, 7, 1015);
+INSERT INTO ${prefix}Education VALUES (403, 7, 1030);
+INSERT INTO ${prefix}Education VALUES (406, 16, 1064);
+INSERT INTO ${prefix}Education VALUES (406, 17, 1051);
+INSERT INTO ${prefix}Education VALUES (410, 1, 1039);
+INSERT INTO ${prefix}Education VALUES (411, 10, 1008);
+INSERT INTO ${prefix}Education VALUES (411, 15, 1074);
+INSERT INTO ${prefix}Education VALUES (412, 6, 1047);
+INSERT INTO ${prefix}Education VALUES (412, 12, 1023);
+INSERT INTO ${prefix}Education VALUES (413, 6, 1094);
+INSERT INTO ${prefix}Education VALUES (413, 14, 1025);
+INSERT INTO ${prefix}Education VALUES (415, 6, 1047);
+INSERT INTO ${prefix}Education VALUES (415, 10, 1041);
+INSERT INTO ${prefix}Education VALUES (416, 3, 1023);
+INSERT INTO ${prefix}Education VALUES (416, 12, 1089);
+INSERT INTO ${prefix}Education VALUES (417, 4, 1046);
+INSERT INTO ${prefix}Education VALUES (417, 9, 1097);
+INSERT INTO ${prefix}Education VALUES (419, 7, 1046);
+INSERT INTO ${prefix}Education VALUES (421, 18, 1002);
+INSERT INTO ${prefix}Education VALUES (424, 12, 1011);
+INSERT INTO ${prefix}Education VALUES (425, 4, 1001);
+INSERT INTO ${prefix}Education VALUES (425, 9, 1046);
+INSERT INTO ${prefix}Education VALUES (427, 17, 1061);
+INSERT INTO ${prefix}Education VALUES (428, 6, 1032);
+INSERT INTO ${prefix}Education VALUES (429, 12, 1044);
+INSERT INTO ${prefix}Education VALUES (429, 18, 1076);
+INSERT INTO ${prefix}Education VALUES (430, 3, 1055);
+INSERT INTO ${prefix}Education VALUES (430, 13, 1071);
+INSERT INTO ${prefix}Education VALUES (431, 14, 1049);
+INSERT INTO ${prefix}Education VALUES (433, 3, 1042);
+INSERT INTO ${prefix}Education VALUES (436, 16, 1012);
+INSERT INTO ${prefix}Education VALUES (439, 4, 1092);
+INSERT INTO ${prefix}Education VALUES (439, 12, 1024);
+INSERT INTO ${prefix}Education VALUES (440, 18, 1058);
+INSERT INTO ${prefix}Education VALUES (441, 7, 1062);
+INSERT INTO ${prefix}Education VALUES (442, 13, 1059);
+INSERT INTO ${prefix}Education VALUES (443, 6, 1043);
+INSERT INTO ${prefix}Education VALUES (444, 3, 1014);
+INSERT INTO ${prefix}Education VALUES (445, 13, 1083);
+INSERT INTO ${prefix}Education VALUES (446, 1, 1030);
+INSERT INTO ${prefix}Education VALUES (446, 16, 1066);
+INSERT INTO ${prefix}Education VALUES (447, 6, 1034);
+INSERT INTO ${prefix}Education VALUES (447, 14, 1064);
+INSERT INTO ${prefix}Education VALUES (448, 4, 1043);
+INSERT INTO ${prefix}Education VALUES (448, 9, 1059);
+INSERT INTO ${prefix}Education VALUES (449, 11, 1087);
+INSERT INTO ${prefix}Education VALUES (449, 15, 1054);
+INSERT INTO ${prefix}Education VALUES (450, 14, 1044);
+INSERT INTO ${prefix}Education VALUES (451, 4, 1064);
+INSERT INTO ${prefix}Education VALUES (452, 12, 1097);
+INSERT INTO ${prefix}Education VALUES (454, 8, 1013);
+INSERT INTO ${prefix}Education VALUES (455, 14, 1041);
+INSERT INTO ${prefix}Education VALUES (457, 2, 1021);
+INSERT INTO ${prefix}Education VALUES (458, 10, 1033);
+INSERT INTO ${prefix}Education VALUES (458, 14, 1023);
+INSERT INTO ${prefix}Education VALUES (461, 11, 1095);
+INSERT INTO ${prefix}Education VALUES (461, 17, 1073);
+INSERT INTO ${prefix}Education VALUES (462, 10, 1010);
+INSERT INTO ${prefix}Education VALUES (463, 1, 1081);
+INSERT INTO ${prefix}Education VALUES (465, 3, 1034);
+INSERT INTO ${prefix}Education VALUES (465, 7, 1079);
+INSERT INTO ${prefix}Education VALUES (466, 2, 1028);
+INSERT INTO ${prefix}Education VALUES (470, 5, 1036);
+INSERT INTO ${prefix}Education VALUES (470, 15, 1060);
+INSERT INTO ${prefix}Education VALUES (471, 12, 1096);
+INSERT INTO ${prefix}Education VALUES (472, 11, 1031);
+INSERT INTO ${prefix}Education VALUES (472, 17, 1045);
+INSERT INTO ${prefix}Education VALUES (473, 17, 1011);
+INSERT INTO ${prefix}Education VALUES (474, 3, 1016);
+INSERT INTO ${prefix}Education VALUES (476, 11, 1001);
+INSERT INTO ${prefix}Education VALUES (478, 2, 1070);
+INSERT INTO ${prefix}Education VALUES (478, 12, 1049);
+INSERT INTO ${prefix}Education VALUES (479, 10, 1049);
+INSERT INTO ${prefix}Education VALUES (479, 14, 1076);
+INSERT INTO ${prefix}Education VALUES (480, 11, 1098);
+INSERT INTO ${prefix}Education VALUES (483, 8, 1064);
+INSERT INTO ${prefix}Education VALUES (484, 17, 1093);
+INSERT INTO ${prefix}Education VALUES (485, 9, 1022);
+INSERT INTO ${prefix}Education VALUES (486, 15, 1027);
+INSERT INTO ${prefix}Education VALUES (488, 6, 1090);
+INSERT INTO ${prefix}Education VALUES (488, 15, 1071);
+INSERT INTO ${prefix}Education VALUES (492, 2, 1072);
+INSERT INTO ${prefix}Education VALUES (492, 4, 1015);
+INSERT INTO ${prefix}Education VALUES (493, 16, 1013);
+INSERT INTO ${prefix}Education VALUES (493, 18, 1022);
+INSERT INTO ${prefix}Education VALUES (494, 12, 1051);
+INSERT INTO ${prefix}Education VALUES (494, 16, 1085);
+INSERT INTO ${prefix}Education VALUES (496, 11, 1068);
+INSERT INTO ${prefix}Education VALUES (496, 18, 1037);
+INSERT INTO ${prefix}Education VALUES (497, 1, 1094);
+INSERT INTO ${prefix}Education VALUES (497, 13, 1093);
+INSERT INTO ${prefix}Education VALUES (501, 6, 1002);
+INSERT INTO ${prefix}Education VALUES (501, 13, 1034);
+INSERT INTO ${prefix}Education VALUES (502, 7, 1065);
+INSERT INTO ${prefix}Education VALUES (502, 9, 1050);
+INSERT INTO ${prefix}Education VALUES (503, 8, 1078);
+INSERT INTO ${prefix}Education VALUES (503, 11, 1009);
+INSERT INTO ${prefix}Education VALUES (505, 12, 1047);
+INSERT INTO ${prefix}Education VALUES (505, 17, 1027);
+INSERT INTO ${prefix}Education VALUES (507, 4, 1058);
+INSERT INTO ${prefix}Education VALUES (507, 13, 1095);
+INSERT INTO ${prefix}Education VALUES (508, 11, 1005);
+INSERT INTO ${prefix}Education VALUES (508, 14, 1059);
+INSERT INTO ${prefix}Education VALUES (510, 12, 1000);
+INSERT INTO ${prefix}Education VALUES (513, 13, 1054);
+INSERT INTO ${prefix}Education VALUES (514, 3, 1061);
+INSERT INTO ${prefix}Education VALUES (516, 8, 1054);
+INSERT INTO ${prefix}Education VALUES (517, 3, 1043);
+INSERT INTO ${prefix}Education VALUES (517, 8, 1011);
+INSERT INTO ${prefix}Education VALUES (521, 10, 1099);
+INSERT INTO ${prefix}Education VALUES (522, 18, 1099);
+INSERT INTO ${prefix}Education VALUES (524, 18, 1020);
+INSERT INTO ${prefix}Education VALUES (525, 2, 1026);
+INSERT INTO ${prefix}Education VALUES (525, 4, 1071);
+INSERT INTO ${prefix}Education VALUES (526, 17, 1064);
+INSERT INTO ${prefix}Education VALUES (528, 17, 1093);
+INSERT INTO ${prefix}Education VALUES (530, 5, 1084);
+INSERT INTO ${prefix}Education VALUES (530, 14, 1071);
+INSERT INTO ${prefix}Education VALUES (531, 4, 1044);
+INSERT INTO ${prefix}Education VALUES (531, 13, 1084);
+INSERT INTO ${prefix}Education VALUES (532, 1, 1076);
+INSERT INTO ${prefix}Education VALUES (533, 6, 1069);
+INSERT INTO ${prefix}Education VALUES (533, 11, 1055);
+INSERT INTO ${prefix}Education VALUES (534, 2, 1034);
+INSERT INTO ${prefix}Education VALUES (535, 5, 1036);
+INSERT INTO ${prefix}Education VALUES (535, 7, 1043);
+INSERT INTO ${prefix}Education VALUES (538, 1, 1034);
+INSERT INTO ${prefix}Education VALUES (538, 6, 1036);
+INSERT INTO ${prefix}Education VALUES (539, 11, 1053);
+INSERT INTO ${prefix}Education VALUES (540, 3, 1074);
+INSERT INTO ${prefix}Education VALUES (541, 6, 1022);
+INSERT INTO ${prefix}Education VALUES (541, 9, 1054);
+INSERT INTO ${prefix}Education VALUES (544, 14, 1070);
+INSERT INTO ${prefix}Education VALUES (546, 13, 1005);
+INSERT INTO ${prefix}Education VALUES (546, 17, 1086);
+INSERT INTO ${prefix}Education VALUES (548, 11, 1080);
+INSERT INTO ${prefix}Education VALUES (549, 2, 1023);
+INSERT INTO ${prefix}Education VALUES (552, 10, 1021);
+INSERT INTO ${prefix}Education VALUES (552, 13, 1013);
+INSERT INTO ${prefix}Education VALUES (553, 17, 1099);
+INSERT INTO ${prefix}Education VALUES (554, 9, 1016);
+INSERT INTO ${prefix}Education VALUES (555, 12, 1002);
+INSERT INTO ${prefix}Education VALUES (561, 13, 1032);
+INSERT INTO ${prefix}Education VALUES (561, 15, 1012);
+INSERT INTO ${prefix}Education VALUES (563, 6, 1045);
+INSERT INTO ${prefix}Education VALUES (563, 12, 1053);
+INSERT INTO ${prefix}Education VALUES (565, 7, 1073);
+INSERT INTO ${prefix}Education VALUES (565, 11, 1031);
+INSERT INTO ${prefix}Education VALUES (566, 7, 1078);
+INSERT INTO ${prefix}Education VALUES (566, 12, 1079);
+INSERT INTO ${prefix}Education VALUES (569, 12, 1043);
+INSERT INTO ${prefix}Education VALUES (569, 17, 1005);
+INSERT INTO ${prefix}Education VALUES (570, 17, 1027);
+INSERT INTO ${prefix}Education VALUES (571, 9, 1079);
+INSERT INTO ${prefix}Education VALUES (573, 2, 1092);
+INSERT INTO ${prefix}Education VALUES (573, 18, 1071);
+INSERT INTO ${prefix}Education VALUES (574, 2, 1001);
+INSERT INTO ${prefix}Education VALUES (580, 10, 1053);
+INSERT INTO ${prefix}Education VALUES (581, 6, 1013);
+INSERT INTO ${prefix}Education VALUES (581, 8, 1027);
+INSERT INTO ${prefix}Education VALUES (582, 7, 1066);
+INSERT INTO ${prefix}Education VALUES (582, 8, 1072);
+INSERT INTO ${prefix}Education VALUES (583, 15, 1063);
+INSERT INTO ${prefix}Education VALUES (584, 5, 1088);
+INSERT INTO ${prefix}Education VALUES (584, 16, 1065);
+INSERT INTO ${prefix}Education VALUES (586, 1, 1031);
+INSERT INTO ${prefix}Education VALUES (586, 6, 1079);
+INSERT INTO ${prefix}Education VALUES (587, 11, 1086);
+INSERT INTO ${prefix}Education VALUES (587, 18, 1089);
+INSERT INTO ${prefix}Education VALUES (588, 7, 1008);
+INSERT INTO ${prefix}Education VALUES (588, 9, 1072);
+INSERT INTO ${prefix}Education VALUES (589, 6, 1100);
+INSERT INTO ${prefix}Education VALUES (589, 9, 1045);
+INSERT INTO ${prefix}Education VALUES (590, 1, 1075);
+INSERT INTO ${prefix}Education VALUES (590, 14, 1074);
+INSERT INTO ${prefix}Education VALUES (591, 18, 1094);
+INSERT INTO ${prefix}Education VALUES (593, 11, 1016);
+INSERT INTO ${prefix}Education VALUES (593, 12, 1024);
+INSERT INTO ${prefix}Education VALUES (595, 7, 1070);
+INSERT INTO ${prefix}Education VALUES (595, 12, 1010);
+INSERT INTO ${prefix}Education VALUES (596, 8, 1071);
+INSERT INTO ${prefix}Education VALUES (596, 17, 1091);
+INSERT INTO ${prefix}Education VALUES (597, 5, 1092);
+INSERT INTO ${prefix}Education VALUES (597, 10, 1029);
+INSERT INTO ${prefix}Education VALUES (598, 6, 1040);
+INSERT INTO ${prefix}Education VALUES (598, 10, 1041);
+INSERT INTO ${prefix}Education VALUES (599, 5, 1047);
+INSERT INTO ${prefix}Education VALUES (599, 9, 1088);
+INSERT INTO ${prefix}Education VALUES (600, 6, 1100);
+INSERT INTO ${prefix}Education VALUES (602, 7, 1042);
+INSERT INTO ${prefix}Education VALUES (603, 11, 1061);
+INSERT INTO ${prefix}Education VALUES (604, 16, 1014);
+INSERT INTO ${prefix}Education VALUES (605, 3, 1091);
+INSERT INTO ${prefix}Education VALUES (605, 13, 1009);
+INSERT INTO ${prefix}Education VALUES (606, 17, 1073);
+INSERT INTO ${prefix}Education VALUES (606, 18, 1043);
+INSERT INTO ${prefix}Education VALUES (609, 18, 1045);
+INSERT INTO ${prefix}Education VALUES (610, 10, 1068);
+INSERT INTO ${prefix}Education VALUES (610, 18, 1066);
+INSERT INTO ${prefix}Education VALUES (611, 11, 1032);
+INSERT INTO ${prefix}Education VALUES (612, 1, 1070);
+INSERT INTO ${prefix}Education VALUES (612, 10, 1016);
+INSERT INTO ${prefix}Education VALUES (614, 11, 1041);
+INSERT INTO ${prefix}Education VALUES (617, 10, 1040);
+INSERT INTO ${prefix}Education VALUES (619, 7, 1080);
+INSERT INTO ${prefix}Education VALUES (619, 9, 1059);
+INSERT INTO ${prefix}Education VALUES (620, 16, 1049);
+INSERT INTO ${prefix}Education VALUES (620, 18, 1066);
+INSERT INTO ${prefix}Education VALUES (621, 17, 1021);
+INSERT INTO ${prefix}Education VALUES (621, 18, 1023);
+INSERT INTO ${prefix}Education VALUES (622, 12, 1058);
+INSERT INTO ${prefix}Education VALUES (622, 16, 1001);
+INSERT INTO ${prefix}Education VALUES (623, 12, 1010);
+INSERT INTO ${prefix}Education VALUES (626, 4, 1082);
+INSERT INTO ${prefix}Education VALUES (626, 13, 1009);
+INSERT INTO ${prefix}Education VALUES (628, 9, 1056);
+INSERT INTO ${prefix}Education VALUES (631, 2, 1088);
+INSERT INTO ${prefix}Education VALUES (631, 12, 1037);
+INSERT INTO ${prefix}Education VALUES (632, 8, 1013);
+INSERT INTO ${prefix}Education VALUES (633, 6, 1059);
+INSERT INTO ${prefix}Education VALUES (633, 8, 1074);
+INSERT INTO ${prefix}Education VALUES (634, 5, 1070);
+INSERT INTO ${prefix}Education VALUES (636, 2, 1022);
+INSERT INTO ${prefix}Education VALUES (636, 13, 1002);
+INSERT INTO ${prefix}Education VALUES (637, 1, 1009);
+INSERT INTO ${prefix}Education VALUES (638, 4, 1012);
+INSERT INTO ${prefix}Education VALUES (639, 15, 1044);
+INSERT INTO ${prefix}Education VALUES (639, 16, 1084);
+INSERT INTO ${prefix}Education VALUES (640, 5, 1001);
+INSERT INTO ${prefix}Education VALUES (642, 11, 1045);
+INSERT INTO ${prefix}Education VALUES (643, 8, 1082);
+INSERT INTO ${prefix}Education VALUES (644, 5, 1087);
+INSERT INTO ${prefix}Education VALUES (645, 10, 1046);
+INSERT INTO ${prefix}Education VALUES (645, 11, 1091);
+INSERT INTO ${prefix}Education VALUES (646, 7, 1064);
+INSERT INTO ${prefix}Education VALUES (646, 10, 1047);
+INSERT INTO ${prefix}Education VALUES (648, 9, 1082);
+INSERT INTO ${prefix}Education VALUES (648, 15, 1026);
+INSERT INTO ${prefix}Education VALUES (649, 6, 1060);
+INSERT INTO ${prefix}Education VALUES (649, 9, 1069);
+INSERT INTO ${prefix}Education VALUES (650, 4, 1065);
+INSERT INTO ${prefix}Education VALUES (650, 12, 1078);
+INSERT INTO ${prefix}Education VALUES (651, 3, 1099);
+INSERT INTO ${prefix}Education VALUES (651, 9, 1056);
+INSERT INTO ${prefix}Education VALUES (653, 9, 1011);
+INSERT INTO ${prefix}Education VALUES (653, 10, 1028);
+INSERT INTO ${prefix}Education VALUES (654, 6, 1096);
+INSERT INTO ${prefix}Education VALUES (655, 7, 1010);
+INSERT INTO ${prefix}Education VALUES (655, 17, 1093);
+INSERT INTO ${prefix}Education VALUES (656, 16, 1035);
+INSERT INTO ${prefix}Education VALUES (660, 4, 1009);
+INSERT INTO ${prefix}Education VALUES (660, 17, 1074);
+INSERT INTO ${prefix}Education VALUES (661, 7, 1099);
+INSERT INTO ${prefix}Education VALUES (661, 18, 1008);
+INSERT INTO ${prefix}Education VALUES (663, 3, 1078);
+INSERT INTO ${prefix}Education VALUES (665, 3, 1039);
+INSERT INTO ${prefix}Education VALUES (666, 1, 1022);
+INSERT INTO ${prefix}Education VALUES (666, 16, 1024);
+INSERT INTO ${prefix}Education VALUES (667, 18, 1088);
+INSERT INTO ${prefix}Education VALUES (668, 1, 1090);
+INSERT INTO ${prefix}Education VALUES (669, 18, 1019);
+INSERT INTO ${prefix}Education VALUES (670, 12, 1001);
+INSERT INTO ${prefix}Education VALUES (670, 16, 1071);
+INSERT INTO ${prefix}Education VALUES (671, 1, 1063);
+INSERT INTO ${prefix}Education VALUES (671, 15, 1002);
+INSERT INTO ${prefix}Education VALUES (674, 17, 1085);
+INSERT INTO ${prefix}Education VALUES (676, 4, 1037);
+INSERT INTO ${prefix}Education VALUES (677, 18, 1072);
+INSERT INTO ${prefix}Education VALUES (678, 6, 1098);
+INSERT INTO ${prefix}Education VALUES (678, 10, 1031);
+INSERT INTO ${prefix}Education VALUES (679, 3, 1097);
+INSERT INTO ${prefix}Education VALUES (679, 9, 1029);
+INSERT INTO ${prefix}Education VALUES (680, 3, 1039);
+INSERT INTO ${prefix}Education VALUES (680, 14, 1053);
+INSERT INTO ${prefix}Education VALUES (681, 12, 1044);
+INSERT INTO ${prefix}Education VALUES (682, 9, 1007);
+INSERT INTO ${prefix}Education VALUES (682, 10, 1062);
+INSERT INTO ${prefix}Education VALUES (683, 17, 1093);
+INSERT INTO ${prefix}Education VALUES (683, 18, 1038);
+INSERT INTO ${prefix}Education VALUES (685, 13, 1080);
+INSERT INTO ${prefix}Education VALUES (685, 15, 1021);
+INSERT INTO ${prefix}Education VALUES (688, 18, 1075);
+INSERT INTO ${prefix}Education VALUES (690, 10, 1080);
+INSERT INTO ${prefix}Education VALUES (691, 6, 1014);
+INSERT INTO ${prefix}Education VALUES (691, 12, 1066);
+INSERT INTO ${prefix}Education VALUES (692, 7, 1038);
+INSERT INTO ${prefix}Education VALUES (694, 4, 1023);
+INSERT INTO ${prefix}Education VALUES (694, 16, 1073);
+INSERT INTO ${prefix}Education VALUES (695, 11, 1033);
+INSERT INTO ${prefix}Education VALUES (696, 3, 1090);
+INSERT INTO ${prefix}Education VALUES (698, 14, 1088);
+INSERT INTO ${prefix}Education VALUES (699, 6, 1060);
+INSERT INTO ${prefix}Education VALUES (699, 8, 1051);
+INSERT INTO ${prefix}Education VALUES (701, 6, 1032);
+INSERT INTO ${prefix}Education VALUES (702, 7, 1089);
+INSERT INTO ${prefix}Education VALUES (702, 18, 1065);
+INSERT INTO ${prefix}Education VALUES (703, 1, 1038);
+INSERT INTO ${prefix}Education VALUES (704, 18, 1040);
+INSERT INTO ${prefix}Education VALUES (705, 14, 1016);
+INSERT INTO ${prefix}Education VALUES (706, 4, 1086);
+INSERT INTO ${prefix}Education VALUES (706, 14, 1004);
+INSERT INTO ${prefix}Education VALUES (707, 17, 1096);
+INSERT INTO ${prefix}Education VALUES (708, 5, 1033);
+INSERT INTO ${prefix}Education VALUES (708, 10, 1036);
+INSERT INTO ${prefix}Education VALUES (710, 5, 1032);
+INSERT INTO ${prefix}Education VALUES (711, 1, 1096);
+INSERT INTO ${prefix}Education VALUES (711, 8, 1006);
+INSERT INTO ${prefix}Education VALUES (712, 3, 1062);
+INSERT INTO ${prefix}Education VALUES (712, 18, 1070);
+INSERT INTO ${prefix}Education VALUES (713, 3, 1060);
+INSERT INTO ${prefix}Education VALUES (713, 12, 1049);
+INSERT INTO ${prefix}Education VALUES (714, 18, 1075);
+INSERT INTO ${prefix}Education VALUES (715, 10, 1054);
+INSERT INTO ${prefix}Education VALUES (715, 16, 1027);
+INSERT INTO ${prefix}Education VALUES (717, 11, 1017);
+INSERT INTO ${prefix}Education VALUES (720, 13, 1001);
+INSERT INTO ${prefix}Education VALUES (721, 1, 1022);
+INSERT INTO ${prefix}Education VALUES (722, 11, 1075);
+INSERT INTO ${prefix}Education VALUES (723, 13, 1043);
+INSERT INTO ${prefix}Education VALUES (725, 4, 1027);
+INSERT INTO ${prefix}Education VALUES (725, 10, 1074);
+INSERT INTO ${prefix}Education VALUES (726, 14, 1004);
+INSERT INTO ${prefix}Education VALUES (727, 5, 1052);
+INSERT INTO ${prefix}Education VALUES (727, 9, 1045);
+INSERT INTO ${prefix}Education VALUES (728, 9, 1093);
+INSERT INTO ${prefix}Education VALUES (730, 6, 1006);
+INSERT INTO ${prefix}Education VALUES (730, 15, 1061);
+INSERT INTO ${prefix}Education VALUES (731, 4, 1024);
+INSERT INTO ${prefix}Education VALUES (733, 7, 1003);
+INSERT INTO ${prefix}Education VALUES (733, 13, 1090);
+INSERT INTO ${prefix}Education VALUES (735, 5, 1044);
+INSERT INTO ${prefix}Education VALUES (735, 8, 1048);
+INSERT INTO ${prefix}Education VALUES (736, 7, 1085);
+INSERT INTO ${prefix}Education VALUES (736, 14, 1088);
+INSERT INTO ${prefix}Education VALUES (737, 7, 1038);
+INSERT INTO ${prefix}Education VALUES (737, 8, 1052);
+INSERT INTO ${prefix}Education VALUES (738, 2, 1048);
+INSERT INTO ${prefix}Education VALUES (738, 9, 1050);
+INSERT INTO ${prefix}Education VALUES (741, 13, 1077);
+INSERT INTO ${prefix}Education VALUES (741, 18, 1045);
+INSERT INTO ${prefix}Education VALUES (742, 11, 1018);
+INSERT INTO ${prefix}Education VALUES (742, 16, 1100);
+INSERT INTO ${prefix}Education VALUES (744, 3, 1048);
+INSERT INTO ${prefix}Education VALUES (745, 3, 1083);
+INSERT INTO ${prefix}Education VALUES (745, 11, 1096);
+INSERT INTO ${prefix}Education VALUES (747, 2, 1097);
+INSERT INTO ${prefix}Education VALUES (747, 6, 1020);
+INSERT INTO ${prefix}Education VALUES (748, 12, 1040);
+INSERT INTO ${prefix}Education VALUES (750, 5, 1012);
+INSERT INTO ${prefix}Education VALUES (751, 5, 1100);
+INSERT INTO ${prefix}Education VALUES (751, 12, 1014);
+INSERT INTO ${prefix}Education VALUES (752, 11, 1004);
+INSERT INTO ${prefix}Education VALUES (752, 18, 1080);
+INSERT INTO ${prefix}Education VALUES (753, 9, 1078);
+INSERT INTO ${prefix}Education VALUES (754, 2, 1098);
+INSERT INTO ${prefix}Education VALUES (755, 8, 1032);
+INSERT INTO ${prefix}Education VALUES (755, 15, 1096);
+INSERT INTO ${prefix}Education VALUES (756, 15, 1023);
+INSERT INTO ${prefix}Education VALUES (757, 16, 1021);
+INSERT INTO ${prefix}Education VALUES (757, 17, 1035);
+INSERT INTO ${prefix}Education VALUES (758, 1, 1078);
+INSERT INTO ${prefix}Education VALUES (758, 6, 1020);
+INSERT INTO ${prefix}Education VALUES (767, 15, 1018);
+INSERT INTO ${prefix}Education VALUES (768, 4, 1006);
+INSERT INTO ${prefix}Education VALUES (769, 12, 1049);
+INSERT INTO ${prefix}Education VALUES (771, 12, 1077);
+INSERT INTO ${prefix}Education VALUES (771, 17, 1048);
+INSERT INTO ${prefix}Education VALUES (772, 8, 1077);
+INSERT INTO ${prefix}Education VALUES (774, 16, 1087);
+INSERT INTO ${prefix}Education VALUES (776, 2, 1033);
+INSERT INTO ${prefix}Education VALUES (776, 4, 1053);
+INSERT INTO ${prefix}Education VALUES (777, 4, 1090);
+INSERT INTO ${prefix}Education VALUES (777, 7, 1073);
+INSERT INTO ${prefix}Education VALUES (778, 15, 1037);
+INSERT INTO ${prefix}Education VALUES (778, 18, 1061);
+INSERT INTO ${prefix}Education VALUES (780, 4, 1035);
+INSERT INTO ${prefix}Education VALUES (782, 11, 1045);
+INSERT INTO ${prefix}Education VALUES (783, 2, 1032);
+INSERT INTO ${prefix}Education VALUES (783, 9, 1064);
+INSERT INTO ${prefix}Education VALUES (785, 18, 1072);
+INSERT INTO ${prefix}Education VALUES (786, 3, 1041);
+INSERT INTO ${prefix}Education VALUES (786, 9, 1035);
+INSERT INTO ${prefix}Education VALUES (787, 1, 1033);
+INSERT INTO ${prefix}Education VALUES (788, 13, 1079);
+INSERT INTO ${prefix}Education VALUES (789, 3, 1015);
+INSERT INTO ${prefix}Education VALUES (789, 18, 1067);
+INSERT INTO ${prefix}Education VALUES (793, 2, 1042);
+INSERT INTO ${prefix}Education VALUES (794, 1, 1004);
+INSERT INTO ${prefix}Education VALUES (794, 2, 1035);
+INSERT INTO ${prefix}Education VALUES (796, 1, 1036);
+INSERT INTO ${prefix}Education VALUES (796, 11, 1065);
+INSERT INTO ${prefix}Education VALUES (797, 4, 1003);
+INSERT INTO ${prefix}Education VALUES (797, 17, 1049);
+INSERT INTO ${prefix}Education VALUES (799, 8, 1000);
+INSERT INTO ${prefix}User_Events VALUES (0, 191, 'Event 0', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2014-04-26 12:12:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (1, 684, 'Event 1', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2016-05-11 07:43:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (2, 576, 'Event 2', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2017-04-05 03:11:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (3, 9, 'Event 3', NULL, NULL, NULL, NULL, NULL, NULL, 10, TIMESTAMP '2016-08-15 04:49:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (4, 738, 'Event 4', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2016-05-16 17:03:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (5, 367, 'Event 5', NULL, NULL, NULL, NULL, NULL, NULL, 2, TIMESTAMP '2012-12-18 21:49:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (6, 291, 'Event 6', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2016-03-20 15:37:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (7, 60, 'Event 7', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2011-09-13 12:26:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (8, 645, 'Event 8', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2016-01-21 20:43:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (9, 611, 'Event 9', NULL, NULL, NULL, NULL, NULL, NULL, 24, TIMESTAMP '2013-06-01 16:17:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (10, 770, 'Event 10', NULL, NULL, NULL, NULL, NULL, NULL, 13, TIMESTAMP '2018-04-16 11:27:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (11, 2, 'Event 11', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2018-12-10 14:15:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (12, 175, 'Event 12', NULL, NULL, NULL, NULL, NULL, NULL, 4, TIMESTAMP '2015-08-04 22:32:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (13, 317, 'Event 13', NULL, NULL, NULL, NULL, NULL, NULL, 9, TIMESTAMP '2015-12-04 13:25:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (14, 343, 'Event 14', NULL, NULL, NULL, NULL, NULL, NULL, 4, TIMESTAMP '2012-10-16 10:37:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (15, 368, 'Event 15', NULL, NULL, NULL, NULL, NULL, NULL, 3, TIMESTAMP '2010-06-14 13:16:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (16, 95, 'Event 16', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2015-03-24 03:26:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (17, 278, 'Event 17', NULL, NULL, NULL, NULL, NULL, NULL, 24, TIMESTAMP '2015-10-07 08:00:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (18, 229, 'Event 18', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2017-10-08 15:36:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (19, 416, 'Event 19', NULL, NULL, NULL, NULL, NULL, NULL, 5, TIMESTAMP '2017-09-23 02:28:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (20, 357, 'Event 20', NULL, NULL, NULL, NULL, NULL, NULL, 20, TIMESTAMP '2016-11-02 03:07:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (21, 112, 'Event 21', NULL, NULL, NULL, NULL, NULL, NULL, 6, TIMESTAMP '2012-02-14 19:02:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (22, 127, 'Event 22', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2016-12-10 11:59:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (23, 661, 'Event 23', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2014-09-20 15:47:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (24, 718, 'Event 24', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2014-03-16 09:30:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (25, 685, 'Event 25', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2018-02-07 06:28:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (26, 118, 'Event 26', NULL, NULL, NULL, NULL, NULL, NULL, 2, TIMESTAMP '2011-04-04 09:20:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (27, 782, 'Event 27', NULL, NULL, NULL, NULL, NULL, NULL, 4, TIMESTAMP '2012-03-04 19:47:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (28, 317, 'Event 28', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2012-11-21 15:34:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (29, 257, 'Event 29', NULL, NULL, NULL, NULL, NULL, NULL, 20, TIMESTAMP '2010-11-24 13:22:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (30, 172, 'Event 30', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2016-10-28 04:24:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (31, 698, 'Event 31', NULL, NULL, NULL, NULL, NULL, NULL, 6, TIMESTAMP '2018-06-04 13:42:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (32, 475, 'Event 32', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2013-10-15 07:26:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (33, 354, 'Event 33', NULL, NULL, NULL, NULL, NULL, NULL, 5, TIMESTAMP '2010-08-06 06:16:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (34, 385, 'Event 34', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2012-03-07 14:51:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (35, 650, 'Event 35', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2011-05-21 10:30:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (36, 664, 'Event 36', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2016-08-15 05:59:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (37, 263, 'Event 37', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2015-03-24 19:54:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (38, 529, 'Event 38', NULL, NULL, NULL, NULL, NULL, NULL, 17, TIMESTAMP '2018-06-12 22:45:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (39, 594, 'Event 39', NULL, NULL, NULL, NULL, NULL, NULL, 18, TIMESTAMP '2014-08-10 10:37:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (40, 384, 'Event 40', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2018-12-17 20:27:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (41, 13, 'Event 41', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2010-09-26 08:45:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (42, 790, 'Event 42', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2017-07-11 07:05:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (43, 270, 'Event 43', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2017-02-24 11:44:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (44, 3, 'Event 44', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2010-03-27 08:24:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (45, 67, 'Event 45', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2011-05-27 21:35:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (46, 163, 'Event 46', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2016-02-14 02:19:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (47, 479, 'Event 47', NULL, NULL, NULL, NULL, NULL, NULL, 9, TIMESTAMP '2014-09-27 14:52:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (48, 174, 'Event 48', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2014-03-07 19:05:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (49, 92, 'Event 49', NULL, NULL, NULL, NULL, NULL, NULL, 4, TIMESTAMP '2013-12-24 01:41:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (50, 108, 'Event 50', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2010-04-13 17:39:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (51, 221, 'Event 51', NULL, NULL, NULL, NULL, NULL, NULL, 24, TIMESTAMP '2017-05-28 01:58:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (52, 567, 'Event 52', NULL, NULL, NULL, NULL, NULL, NULL, 2, TIMESTAMP '2011-04-07 18:28:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (53, 382, 'Event 53', NULL, NULL, NULL, NULL, NULL, NULL, 3, TIMESTAMP '2013-06-09 13:03:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (54, 414, 'Event 54', NULL, NULL, NULL, NULL, NULL, NULL, 15, TIMESTAMP '2017-11-17 21:22:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (55, 126, 'Event 55', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2010-08-07 20:57:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (56, 284, 'Event 56', NULL, NULL, NULL, NULL, NULL, NULL, 10, TIMESTAMP '2012-09-19 12:21:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (57, 215, 'Event 57', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2014-06-06 14:54:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (58, 189, 'Event 58', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2017-05-25 16:48:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (59, 736, 'Event 59', NULL, NULL, NULL, NULL, NULL, NULL, 17, TIMESTAMP '2018-11-24 04:28:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (60, 397, 'Event 60', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2018-01-21 23:40:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (61, 295, 'Event 61', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2017-08-01 23:52:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (62, 40, 'Event 62', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2016-02-19 19:05:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (63, 183, 'Event 63', NULL, NULL, NULL, NULL, NULL, NULL, 23, TIMESTAMP '2012-02-25 18:36:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (64, 165, 'Event 64', NULL, NULL, NULL, NULL, NULL, NULL, 17, TIMESTAMP '2016-04-14 07:45:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (65, 207, 'Event 65', NULL, NULL, NULL, NULL, NULL, NULL, 19, TIMESTAMP '2012-03-19 05:17:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (66, 372, 'Event 66', NULL, NULL, NULL, NULL, NULL, NULL, 6, TIMESTAMP '2010-01-06 10:58:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (67, 302, 'Event 67', NULL, NULL, NULL, NULL, NULL, NULL, 2, TIMESTAMP '2013-04-17 04:06:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (68, 785, 'Event 68', NULL, NULL, NULL, NULL, NULL, NULL, 15, TIMESTAMP '2011-05-24 19:34:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (69, 241, 'Event 69', NULL, NULL, NULL, NULL, NULL, NULL, 16, TIMESTAMP '2016-04-05 13:51:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (70, 129, 'Event 70', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2011-05-08 15:11:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (71, 702, 'Event 71', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2016-05-15 10:44:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (72, 533, 'Event 72', NULL, NULL, NULL, NULL, NULL, NULL, 9, TIMESTAMP '2015-08-28 07:35:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (73, 446, 'Event 73', NULL, NULL, NULL, NULL, NULL, NULL, 17, TIMESTAMP '2015-06-08 10:29:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (74, 150, 'Event 74', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2016-04-24 14:06:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (75, 442, 'Event 75', NULL, NULL, NULL, NULL, NULL, NULL, 15, TIMESTAMP '2015-05-10 20:04:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (76, 236, 'Event 76', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2018-02-23 15:45:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (77, 481, 'Event 77', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2018-08-03 10:11:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (78, 215, 'Event 78', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2018-03-25 04:43:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (79, 653, 'Event 79', NULL, NULL, NULL, NULL, NULL, NULL, 13, TIMESTAMP '2016-04-07 21:38:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (80, 680, 'Event 80', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2015-12-01 13:10:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (81, 456, 'Event 81', NULL, NULL, NULL, NULL, NULL, NULL, 20, TIMESTAMP '2016-06-21 10:49:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (82, 674, 'Event 82', NULL, NULL, NULL, NULL, NULL, NULL, 10, TIMESTAMP '2018-09-14 02:35:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (83, 77, 'Event 83', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2017-01-04 21:41:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (84, 763, 'Event 84', NULL, NULL, NULL, NULL, NULL, NULL, 16, TIMESTAMP '2010-06-22 03:23:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (85, 239, 'Event 85', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2015-12-17 05:59:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (86, 22, 'Event 86', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2012-10-09 04:31:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (87, 4, 'Event 87', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2013-09-02 04:02:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (88, 736, 'Event 88', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2016-04-03 10:09:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (89, 485, 'Event 89', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2016-10-01 17:04:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (90, 347, 'Event 90', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2013-05-26 22:29:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (91, 587, 'Event 91', NULL, NULL, NULL, NULL, NULL, NULL, 15, TIMESTAMP '2010-12-28 12:59:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (92, 414, 'Event 92', NULL, NULL, NULL, NULL, NULL, NULL, 5, TIMESTAMP '2017-09-01 12:28:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (93, 647, 'Event 93', NULL, NULL, NULL, NULL, NULL, NULL, 16, TIMESTAMP '2014-04-25 16:48:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (94, 440, 'Event 94', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2016-11-22 05:00:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (95, 562, 'Event 95', NULL, NULL, NULL, NULL, NULL, NULL, 6, TIMESTAMP '2017-02-26 21:25:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (96, 345, 'Event 96', NULL, NULL, NULL, NULL, NULL, NULL, 17, TIMESTAMP '2013-04-12 02:05:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (97, 366, 'Event 97', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2012-10-06 10:08:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (98, 309, 'Event 98', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2011-10-09 05:18:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (99, 46, 'Event 99', NULL, NULL, NULL, NULL, NULL, NULL, 10, TIMESTAMP '2013-01-12 09:05:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (100, 578, 'Event 100', NULL, NULL, NULL, NULL, NULL, NULL, 18, TIMESTAMP '2013-01-21 16:22:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (101, 354, 'Event 101', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2011-11-01 07:00:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (102, 670, 'Event 102', NULL, NULL, NULL, NULL, NULL, NULL, 10, TIMESTAMP '2010-07-10 18:27:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (103, 444, 'Event 103', NULL, NULL, NULL, NULL, NULL, NULL, 1, TIMESTAMP '2015-05-11 23:02:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (104, 781, 'Event 104', NULL, NULL, NULL, NULL, NULL, NULL, 11, TIMESTAMP '2011-11-26 01:57:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (105, 49, 'Event 105', NULL, NULL, NULL, NULL, NULL, NULL, 7, TIMESTAMP '2011-06-21 15:25:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (106, 178, 'Event 106', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2012-02-13 02:48:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (107, 655, 'Event 107', NULL, NULL, NULL, NULL, NULL, NULL, 23, TIMESTAMP '2010-11-03 06:56:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (108, 261, 'Event 108', NULL, NULL, NULL, NULL, NULL, NULL, 18, TIMESTAMP '2014-04-27 03:41:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (109, 118, 'Event 109', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2016-09-08 01:29:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (110, 241, 'Event 110', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2012-06-25 14:20:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (111, 496, 'Event 111', NULL, NULL, NULL, NULL, NULL, NULL, 8, TIMESTAMP '2011-12-28 22:19:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (112, 231, 'Event 112', NULL, NULL, NULL, NULL, NULL, NULL, 6, TIMESTAMP '2012-12-25 06:12:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (113, 640, 'Event 113', NULL, NULL, NULL, NULL, NULL, NULL, 5, TIMESTAMP '2010-10-15 17:22:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (114, 454, 'Event 114', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2014-06-05 05:00:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (115, 505, 'Event 115', NULL, NULL, NULL, NULL, NULL, NULL, 22, TIMESTAMP '2012-02-27 23:32:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (116, 166, 'Event 116', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2014-07-22 00:42:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (117, 393, 'Event 117', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2013-08-07 06:38:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (118, 104, 'Event 118', NULL, NULL, NULL, NULL, NULL, NULL, 16, TIMESTAMP '2014-12-19 18:26:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (119, 482, 'Event 119', NULL, NULL, NULL, NULL, NULL, NULL, 13, TIMESTAMP '2013-12-20 04:30:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (120, 730, 'Event 120', NULL, NULL, NULL, NULL, NULL, NULL, 15, TIMESTAMP '2014-12-18 04:49:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (121, 473, 'Event 121', NULL, NULL, NULL, NULL, NULL, NULL, 24, TIMESTAMP '2014-02-16 19:14:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (122, 139, 'Event 122', NULL, NULL, NULL, NULL, NULL, NULL, 14, TIMESTAMP '2012-02-21 15:13:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (123, 621, 'Event 123', NULL, NULL, NULL, NULL, NULL, NULL, 21, TIMESTAMP '2015-01-27 19:12:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (124, 654, 'Event 124', NULL, NULL, NULL, NULL, NULL, NULL, 2, TIMESTAMP '2010-02-16 05:33:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (125, 507, 'Event 125', NULL, NULL, NULL, NULL, NULL, NULL, 10, TIMESTAMP '2014-02-11 23:42:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (126, 224, 'Event 126', NULL, NULL, NULL, NULL, NULL, NULL, 3, TIMESTAMP '2011-11-14 23:27:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (127, 201, 'Event 127', NULL, NULL, NULL, NULL, NULL, NULL, 3, TIMESTAMP '2015-08-28 07:22:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (128, 726, 'Event 128', NULL, NULL, NULL, NULL, NULL, NULL, 12, TIMESTAMP '2011-03-07 01:38:00', NULL);
+INSERT INTO ${prefix}User_Events VALUES (129, 487, 'Event 129', NULL, NULL, NULL, NULL, NULL, NULL, 18, TIMESTAMP '2018-12-25 03:23:00', NULL);
+INSERT INTO ${prefix}Albums VALUES (0, 362, 'Mountains', TIMESTAMP '2012-03-01 20:04:00', NULL, 'link', 'EVERYONE', 8);
+INSERT INTO ${prefix}Albums VALUES (1, 614, 'Friends', TIMESTAMP '2012-10-20 01:49:00', NULL, 'link', 'EVERYONE', 28);
+INSERT INTO ${prefix}Albums VALUES (2, 535, 'Food', TIMESTAMP '2012-03-23 02:04:00', NULL, 'link', 'EVERYONE', 82);
+INSERT INTO ${prefix}Albums VALUES (3, 183, 'Travel', TIMESTAMP '2017-08-04 09:12:00', NULL, 'link', 'EVERYONE', 78);
+INSERT INTO ${prefix}Albums VALUES (4, 345, 'Random', TIMESTAMP '2014-11-04 02:25:00', NULL, 'link', 'EVERYONE', 5);
+INSERT INTO ${prefix}Albums VALUES (5, 185, 'Summer', TIMESTAMP '2014-02-11 02:35:00', NULL, 'link', 'EVERYONE', 13);
+INSERT INTO ${prefix}Albums VALUES (6, 651, 'Creatures', TIMESTAMP '2015-03-16 07:27:00', NULL, 'link', 'EVERYONE', 58);
+INSERT INTO ${prefix}Albums VALUES (7, 140, 'Summer', TIMESTAMP '2012-10-27 08:57:00', NULL, 'link', 'EVERYONE', 9);
+INSERT INTO ${prefix}Albums VALUES (8, 157, 'Random', TIMESTAMP '2015-11-20 02:02:00', NULL, 'link', 'EVERYONE', 23);
+INSERT INTO ${prefix}Albums VALUES (9, 624, 'Concerts', TIMESTAMP '2012-10-28 14:49:00', NULL, 'link', 'EVERYONE', 48);
+INSERT INTO ${prefix}Albums VALUES (10, 571, 'Friends', TIMESTAMP '2014-05-09 18:48:00', NULL, 'link', 'EVERYONE', 14);
+INSERT INTO ${prefix}Albums VALUES (11, 439, 'Pets', TIMESTAMP '2017-05-16 04:53:00', NULL, 'link', 'EVERYONE', 52);
+INSERT INTO ${prefix}Albums VALUES (12, 696, 'Creatures', TIMESTAMP '2011-12-01 03:01:00', NULL, 'link', 'EVERYONE', 25);
+INSERT INTO ${prefix}Albums VALUES (13, 122, 'Family', TIMESTAMP '2015-04-20 20:02:00', NULL, 'link', 'EVERYONE', 15);
+INSERT INTO ${prefix}Albums VALUES (14, 260, 'Friends', TIMESTAMP '2014-08-07 22:19:00', NULL, 'link', 'EVERYONE', 16);
+INSERT INTO ${prefix}Albums VALUES (15, 685, 'Creatures', TIMESTAMP '2011-10-22 14:06:00', NULL, 'link', 'EVERYONE', 101);
+INSERT INTO ${prefix}Albums VALUES (16, 479, 'Food', TIMESTAMP '2012-07-18 03:05:00', NULL, 'link', 'EVERYONE', 132);
+INSERT INTO ${prefix}Albums VALUES (17, 722, 'Creatures', TIMESTAMP '2018-03-02 10:03:00', NULL, 'link', 'EVERYONE', 76);
+INSERT INTO ${prefix}Albums VALUES (18, 10, 'Summer', TIMESTAMP '2015-11-25 20:36:00', NULL, 'link', 'EVERYONE', 68);
+INSERT INTO ${prefix}Albums VALUES (19, 426, 'Friends', TIMESTAMP '2016-06-07 17:24:00', NULL, 'link', 'EVERYONE', 63);
+INSERT INTO ${prefix}Albums VALUES (20, 147, 'Creatures', TIMESTAMP '2010-10-02 14:29:00', NULL, 'link', 'EVERYONE', 79);
+INSERT INTO ${prefix}Albums VALUES (21, 148, 'Graduation', TIMESTAMP '2013-09-15 06:30:00', NULL, 'link', 'EVERYONE', 53);
+INSERT INTO ${prefix}Albums VALUES (22, 154, 'Friends', TIMESTAMP '2010-05-07 00:25:00', NULL, 'link', 'EVERYONE', 41);
+INSERT INTO ${prefix}Albums VALUES (23, 309, 'Pets', TIMESTAMP '2010-04-13 07:55:00', NULL, 'link', 'EVERYONE', 64);
+INSERT INTO ${prefix}Albums VALUES (24, 660, 'Winter', TIMESTAMP '2014-04-03 21:10:00', NULL, 'link', 'EVERYONE', 29);
+INSERT INTO ${prefix}Albums VALUES (25, 792, 'Random', TIMESTAMP '2013-07-04 08:07:00', NULL, 'link', 'EVERYONE', 0);
+INSERT INTO ${prefix}Albums VALUES (26, 287, 'Food', TIMESTAMP '2013-07-20 11:58:00', NULL, 'link', 'EVERYONE', 162);
+INSERT INTO ${prefix}Albums VALUES (27, 735, 'Travel', TIMESTAMP '2011-08-10 23:15:00', NULL, 'link', 'EVERYONE', 40);
+INSERT INTO ${prefix}Albums VALUES (28, 30, 'Family', TIMESTAMP '2012-08-27 13:52:00', NULL, 'link', 'EVERYONE', 114);
+INSERT INTO ${prefix}Albums VALUES (29, 796, 'Creatures', TIMESTAMP '2010-09-18 11:28:00', NULL, 'link', 'EVERYONE', 81);
+INSERT INTO ${prefix}Albums VALUES (30, 623, 'Summer', TIMESTAMP '2018-06-27 18:30:00', NULL, 'link', 'EVERYONE', 151);
+INSERT INTO ${prefix}Albums VALUES (31, 642, 'Food', TIMESTAMP '2013-05-20 00:54:00', NULL, 'link', 'EVERYONE', 45);
+INSERT INTO ${prefix}Albums VALUES (32, 779, 'Pets', TIMESTAMP '2014-05-17 21:33:00', NULL, 'link', 'EVERYONE', 182);
+INSERT INTO ${prefix}Albums VALUES (33, 241, 'Family', TIMESTAMP '2018-05-25 23:19:00', NULL, 'link', 'EVERYONE', 21);
+INSERT INTO ${prefix}Albums VALUES (34, 312, 'Concerts', TIMESTAMP '2011-06-19 13:22:00', NULL, 'link', 'EVERYONE', 39);
+INSERT INTO ${prefix}Albums VALUES (35, 626, 'Pets', TIMESTAMP '2014-09-13 15:55:00', NULL, 'link', 'EVERYONE', 35);
+INSERT INTO ${prefix}Albums VALUES (36, 776, 'Travel', TIMESTAMP '2016-11-06 15:20:00', NULL, 'link', 'EVERYONE', 56);
+INSERT INTO ${prefix}Albums VALUES (37, 570, 'Mountains', TIMESTAMP '2017-12-12 13:06:00', NULL, 'link', 'EVERYONE', 20);
+INSERT INTO ${prefix}Albums VALUES (38, 14, 'Pets', TIMESTAMP '2012-12-10 16:45:00', NULL, 'link', 'EVERYONE', 3);
+INSERT INTO ${prefix}Albums VALUES (39, 786, 'Travel', TIMESTAMP '2016-02-16 13:33:00', NULL, 'link', 'EVERYONE', 4);
+INSERT INTO ${prefix}Albums VALUES (40, 530, 'Graduation', TIMESTAMP '2017-04-09 22:42:00', NULL, 'link', 'EVERYONE', 121);
+INSERT INTO ${prefix}Albums VALUES (41, 262, 'Travel', TIMESTAMP '2013-07-11 01:16:00', NULL, 'link', 'EVERYONE', 83);
+INSERT INTO ${prefix}Albums VALUES (42, 628, 'Food', TIMESTAMP '2013-09-27 22:23:00', NULL, 'link', 'EVERYONE', 73);
+INSERT INTO ${prefix}Albums VALUES (43, 432, 'Creatures', TIMESTAMP '2014-06-15 06:58:00', NULL, 'link', 'EVERYONE', 17);
+INSERT INTO ${prefix}Albums VALUES (44, 309, 'Graduation', TIMESTAMP '2018-03-01 05:04:00', NULL, 'link', 'EVERYONE', 66);
+INSERT INTO ${prefix}Albums VALUES (45, 769, 'Random', TIMESTAMP '2017-10-21 12:35:00', NULL, 'link', 'EVERYONE', 11);
+INSERT INTO ${prefix}Albums VALUES (46, 571, 'Concerts', TIMESTAMP '2012-11-20 11:03:00', NULL, 'link', 'EVERYONE', 94);
+INSERT INTO ${prefix}Albums VALUES (47, 751, 'Winter', TIMESTAMP '2016-04-01 02:30:00', NULL, 'link', 'EVERYONE', 12);
+INSERT INTO ${prefix}Albums VALUES (48, 233, 'Concerts', TIMESTAMP '2012-11-28 02:07:00', NULL, 'link', 'EVERYONE', 65);
+INSERT INTO ${prefix}Albums VALUES (49, 602, 'Creatures', TIMESTAMP '2018-02-05 17:09:00', NULL, 'link', 'EVERYONE', 235);
+INSERT INTO ${prefix}Albums VALUES (50, 459, 'Creatures', TIMESTAMP '2011-03-06 15:12:00', NULL, 'link', 'EVERYONE', 27);
+INSERT INTO ${prefix}Albums VALUES (51, 613, 'Winter', TIMESTAMP '2013-06-26 13:02:00', NULL, 'link', 'EVERYONE', 110);
+INSERT INTO ${prefix}Albums VALUES (52, 127, 'Travel', TIMESTAMP '2011-12-28 14:36:00', NULL, 'link', 'EVERYONE', 43);
+INSERT INTO ${prefix}Albums VALUES (53, 403, 'Graduation', TIMESTAMP '2015-11-15 13:29:00', NULL, 'link', 'EVERYONE', 7);
+INSERT INTO ${prefix}Albums VALUES (54, 470, 'Food', TIMESTAMP '2017-08-01 05:52:00', NULL, 'link', 'EVERYONE', 6);
+INSERT INTO ${prefix}Albums VALUES (55, 176, 'Concerts', TIMESTAMP '2015-05-15 03:32:00', NULL, 'link', 'EVERYONE', 123);
+INSERT INTO ${prefix}Albums VALUES (56, 56, 'Mountains', TIMESTAMP '2018-05-14 19:53:00', NULL, 'link', 'EVERYONE', 55);
+INSERT INTO ${prefix}Albums VALUES (57, 601, 'Winter', TIMESTAMP '2013-04-23 20:35:00', NULL, 'link', 'EVERYONE', 24);
+INSERT INTO ${prefix}Albums VALUES (58, 12, 'Random', TIMESTAMP '2015-07-13 16:04:00', NULL, 'link', 'EVERYONE', 180);
+INSERT INTO ${prefix}Albums VALUES (59, 568, 'Friends', TIMESTAMP '2011-12-26 04:00:00', NULL, 'link', 'EVERYONE', 1);
+INSERT INTO ${prefix}Photos VALUES (0, 25, NULL, TIMESTAMP '2018-09-14 15:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (1, 59, NULL, TIMESTAMP '2018-06-10 05:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (2, 59, NULL, TIMESTAMP '2018-06-27 08:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (3, 38, NULL, TIMESTAMP '2012-09-10 18:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (4, 39, NULL, TIMESTAMP '2010-06-20 17:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (5, 4, NULL, TIMESTAMP '2013-03-27 03:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (6, 54, NULL, TIMESTAMP '2017-12-28 12:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (7, 53, NULL, TIMESTAMP '2010-07-08 23:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (8, 0, NULL, TIMESTAMP '2016-06-16 14:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (9, 7, NULL, TIMESTAMP '2017-06-21 22:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (10, 25, NULL, TIMESTAMP '2010-06-07 11:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (11, 45, NULL, TIMESTAMP '2015-04-22 17:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (12, 47, NULL, TIMESTAMP '2015-02-27 07:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (13, 5, NULL, TIMESTAMP '2010-10-26 09:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (14, 10, NULL, TIMESTAMP '2016-02-05 02:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (15, 13, NULL, TIMESTAMP '2010-06-11 19:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (16, 14, NULL, TIMESTAMP '2014-11-04 14:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (17, 43, NULL, TIMESTAMP '2017-12-19 08:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (18, 59, NULL, TIMESTAMP '2018-08-09 04:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (19, 39, NULL, TIMESTAMP '2015-07-18 07:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (20, 37, NULL, TIMESTAMP '2013-01-26 16:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (21, 33, NULL, TIMESTAMP '2014-06-12 12:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (22, 14, NULL, TIMESTAMP '2017-05-06 00:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (23, 8, NULL, TIMESTAMP '2018-03-07 10:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (24, 57, NULL, TIMESTAMP '2016-01-25 09:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (25, 12, NULL, TIMESTAMP '2013-08-19 08:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (26, 33, NULL, TIMESTAMP '2016-03-04 02:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (27, 50, NULL, TIMESTAMP '2010-02-24 08:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (28, 1, NULL, TIMESTAMP '2013-03-21 20:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (29, 24, NULL, TIMESTAMP '2014-01-28 14:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (30, 39, NULL, TIMESTAMP '2011-02-26 16:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (31, 7, NULL, TIMESTAMP '2018-03-03 10:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (32, 8, NULL, TIMESTAMP '2014-02-02 16:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (33, 59, NULL, TIMESTAMP '2013-11-24 22:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (34, 25, NULL, TIMESTAMP '2013-11-12 01:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (35, 35, NULL, TIMESTAMP '2011-02-25 02:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (36, 1, NULL, TIMESTAMP '2015-01-24 07:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (37, 1, NULL, TIMESTAMP '2018-04-19 02:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (38, 57, NULL, TIMESTAMP '2015-03-02 21:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (39, 34, NULL, TIMESTAMP '2017-09-28 16:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (40, 27, NULL, TIMESTAMP '2015-01-16 18:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (41, 22, NULL, TIMESTAMP '2014-02-22 04:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (42, 8, NULL, TIMESTAMP '2016-02-22 10:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (43, 52, NULL, TIMESTAMP '2015-10-21 20:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (44, 34, NULL, TIMESTAMP '2011-03-07 16:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (45, 31, NULL, TIMESTAMP '2010-05-01 13:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (46, 25, NULL, TIMESTAMP '2010-06-17 06:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (47, 1, NULL, TIMESTAMP '2014-07-22 11:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (48, 9, NULL, TIMESTAMP '2017-12-01 13:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (49, 52, NULL, TIMESTAMP '2015-07-03 03:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (50, 13, NULL, TIMESTAMP '2017-09-03 18:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (51, 7, NULL, TIMESTAMP '2012-08-11 04:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (52, 11, NULL, TIMESTAMP '2017-09-25 00:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (53, 21, NULL, TIMESTAMP '2013-08-23 16:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (54, 47, NULL, TIMESTAMP '2018-09-02 16:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (55, 56, NULL, TIMESTAMP '2012-04-23 15:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (56, 36, NULL, TIMESTAMP '2011-06-05 04:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (57, 8, NULL, TIMESTAMP '2018-09-24 23:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (58, 6, NULL, TIMESTAMP '2013-10-04 09:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (59, 45, NULL, TIMESTAMP '2010-12-20 19:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (60, 52, NULL, TIMESTAMP '2014-08-06 13:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (61, 14, NULL, TIMESTAMP '2018-04-24 05:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (62, 54, NULL, TIMESTAMP '2011-11-27 18:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (63, 19, NULL, TIMESTAMP '2015-01-26 06:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (64, 23, NULL, TIMESTAMP '2010-10-08 18:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (65, 48, NULL, TIMESTAMP '2018-05-15 00:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (66, 44, NULL, TIMESTAMP '2011-11-11 21:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (67, 44, NULL, TIMESTAMP '2018-11-03 09:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (68, 18, NULL, TIMESTAMP '2017-07-17 21:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (69, 10, NULL, TIMESTAMP '2016-01-25 04:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (70, 18, NULL, TIMESTAMP '2011-07-20 11:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (71, 38, NULL, TIMESTAMP '2012-08-24 13:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (72, 13, NULL, TIMESTAMP '2010-03-13 18:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (73, 42, NULL, TIMESTAMP '2011-04-16 02:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (74, 39, NULL, TIMESTAMP '2016-11-25 09:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (75, 43, NULL, TIMESTAMP '2017-03-09 23:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (76, 17, NULL, TIMESTAMP '2015-10-11 03:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (77, 13, NULL, TIMESTAMP '2013-09-28 03:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (78, 3, NULL, TIMESTAMP '2018-08-07 07:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (79, 20, NULL, TIMESTAMP '2014-02-06 12:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (80, 12, NULL, TIMESTAMP '2012-04-25 17:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (81, 29, NULL, TIMESTAMP '2012-01-20 12:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (82, 2, NULL, TIMESTAMP '2010-06-25 19:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (83, 41, NULL, TIMESTAMP '2018-07-20 03:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (84, 35, NULL, TIMESTAMP '2014-06-07 06:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (85, 12, NULL, TIMESTAMP '2014-09-25 18:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (86, 21, NULL, TIMESTAMP '2016-05-06 15:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (87, 20, NULL, TIMESTAMP '2016-11-24 22:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (88, 38, NULL, TIMESTAMP '2011-03-10 14:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (89, 20, NULL, TIMESTAMP '2013-01-16 18:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (90, 20, NULL, TIMESTAMP '2011-02-28 16:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (91, 9, NULL, TIMESTAMP '2018-07-13 17:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (92, 20, NULL, TIMESTAMP '2014-11-14 12:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (93, 50, NULL, TIMESTAMP '2011-07-19 20:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (94, 46, NULL, TIMESTAMP '2013-01-24 23:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (95, 56, NULL, TIMESTAMP '2011-12-24 21:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (96, 46, NULL, TIMESTAMP '2018-12-23 18:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (97, 18, NULL, TIMESTAMP '2012-10-25 19:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (98, 14, NULL, TIMESTAMP '2018-02-23 12:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (99, 14, NULL, TIMESTAMP '2014-11-22 01:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (100, 41, NULL, TIMESTAMP '2016-09-25 02:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (101, 15, NULL, TIMESTAMP '2015-12-07 18:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (102, 54, NULL, TIMESTAMP '2013-11-04 02:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (103, 36, NULL, TIMESTAMP '2010-04-20 16:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (104, 44, NULL, TIMESTAMP '2012-06-04 17:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (105, 20, NULL, TIMESTAMP '2018-10-17 11:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (106, 14, NULL, TIMESTAMP '2012-06-01 03:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (107, 25, NULL, TIMESTAMP '2012-01-01 16:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (108, 6, NULL, TIMESTAMP '2013-04-05 01:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (109, 18, NULL, TIMESTAMP '2013-10-12 05:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (110, 51, NULL, TIMESTAMP '2017-02-16 16:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (111, 42, NULL, TIMESTAMP '2016-02-24 14:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (112, 19, NULL, TIMESTAMP '2012-04-15 07:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (113, 57, NULL, TIMESTAMP '2016-06-14 18:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (114, 28, NULL, TIMESTAMP '2018-05-17 21:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (115, 57, NULL, TIMESTAMP '2014-02-22 09:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (116, 59, NULL, TIMESTAMP '2010-08-12 11:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (117, 44, NULL, TIMESTAMP '2010-12-11 21:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (118, 5, NULL, TIMESTAMP '2011-09-16 04:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (119, 41, NULL, TIMESTAMP '2016-11-08 21:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (120, 21, NULL, TIMESTAMP '2016-05-03 18:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (121, 40, NULL, TIMESTAMP '2017-12-20 18:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (122, 31, NULL, TIMESTAMP '2012-12-25 04:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (123, 55, NULL, TIMESTAMP '2015-03-12 07:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (124, 42, NULL, TIMESTAMP '2012-04-19 10:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (125, 14, NULL, TIMESTAMP '2016-04-20 01:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (126, 7, NULL, TIMESTAMP '2018-04-09 22:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (127, 52, NULL, TIMESTAMP '2017-07-10 15:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (128, 23, NULL, TIMESTAMP '2012-01-22 07:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (129, 45, NULL, TIMESTAMP '2010-08-03 03:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (130, 54, NULL, TIMESTAMP '2016-09-20 20:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (131, 57, NULL, TIMESTAMP '2011-05-06 14:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (132, 16, NULL, TIMESTAMP '2017-05-12 16:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (133, 9, NULL, TIMESTAMP '2011-03-09 00:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (134, 8, NULL, TIMESTAMP '2012-11-25 19:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (135, 28, NULL, TIMESTAMP '2011-12-02 15:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (136, 35, NULL, TIMESTAMP '2016-01-09 02:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (137, 56, NULL, TIMESTAMP '2012-09-21 14:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (138, 17, NULL, TIMESTAMP '2012-05-07 04:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (139, 25, NULL, TIMESTAMP '2010-10-21 00:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (140, 17, NULL, TIMESTAMP '2016-01-26 01:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (141, 47, NULL, TIMESTAMP '2012-07-16 22:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (142, 53, NULL, TIMESTAMP '2015-03-07 17:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (143, 59, NULL, TIMESTAMP '2015-03-26 03:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (144, 34, NULL, TIMESTAMP '2016-10-10 07:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (145, 4, NULL, TIMESTAMP '2013-04-19 08:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (146, 7, NULL, TIMESTAMP '2016-01-24 11:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (147, 52, NULL, TIMESTAMP '2014-05-12 14:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (148, 4, NULL, TIMESTAMP '2017-04-01 07:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (149, 57, NULL, TIMESTAMP '2018-09-24 09:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (150, 25, NULL, TIMESTAMP '2011-07-02 16:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (151, 30, NULL, TIMESTAMP '2014-11-10 14:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (152, 29, NULL, TIMESTAMP '2017-04-05 04:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (153, 52, NULL, TIMESTAMP '2011-05-27 18:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (154, 41, NULL, TIMESTAMP '2012-12-01 11:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (155, 5, NULL, TIMESTAMP '2016-06-24 23:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (156, 13, NULL, TIMESTAMP '2011-04-18 00:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (157, 51, NULL, TIMESTAMP '2014-01-14 04:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (158, 21, NULL, TIMESTAMP '2015-10-14 14:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (159, 15, NULL, TIMESTAMP '2012-01-14 00:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (160, 9, NULL, TIMESTAMP '2018-10-09 07:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (161, 53, NULL, TIMESTAMP '2012-05-12 05:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (162, 26, NULL, TIMESTAMP '2016-11-14 12:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (163, 52, NULL, TIMESTAMP '2011-07-18 22:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (164, 14, NULL, TIMESTAMP '2017-03-12 07:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (165, 17, NULL, TIMESTAMP '2017-05-10 16:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (166, 47, NULL, TIMESTAMP '2015-09-02 23:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (167, 39, NULL, TIMESTAMP '2010-08-02 03:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (168, 51, NULL, TIMESTAMP '2010-11-06 12:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (169, 47, NULL, TIMESTAMP '2011-05-28 08:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (170, 2, NULL, TIMESTAMP '2018-10-19 00:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (171, 53, NULL, TIMESTAMP '2014-09-24 04:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (172, 2, NULL, TIMESTAMP '2013-12-08 06:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (173, 47, NULL, TIMESTAMP '2010-05-06 22:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (174, 39, NULL, TIMESTAMP '2018-02-19 21:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (175, 18, NULL, TIMESTAMP '2013-01-13 02:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (176, 15, NULL, TIMESTAMP '2016-03-05 02:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (177, 38, NULL, TIMESTAMP '2015-08-07 21:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (178, 56, NULL, TIMESTAMP '2018-12-22 02:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (179, 43, NULL, TIMESTAMP '2015-10-02 01:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (180, 58, NULL, TIMESTAMP '2017-09-09 12:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (181, 3, NULL, TIMESTAMP '2014-04-20 10:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (182, 32, NULL, TIMESTAMP '2010-05-05 03:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (183, 17, NULL, TIMESTAMP '2016-01-15 12:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (184, 57, NULL, TIMESTAMP '2011-07-02 04:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (185, 51, NULL, TIMESTAMP '2015-04-16 22:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (186, 55, NULL, TIMESTAMP '2017-11-03 05:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (187, 17, NULL, TIMESTAMP '2010-03-06 08:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (188, 29, NULL, TIMESTAMP '2011-12-07 15:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (189, 5, NULL, TIMESTAMP '2018-12-12 07:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (190, 25, NULL, TIMESTAMP '2013-11-25 18:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (191, 37, NULL, TIMESTAMP '2014-11-13 18:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (192, 47, NULL, TIMESTAMP '2011-06-25 08:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (193, 37, NULL, TIMESTAMP '2012-05-17 01:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (194, 23, NULL, TIMESTAMP '2011-01-04 00:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (195, 8, NULL, TIMESTAMP '2016-04-01 06:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (196, 43, NULL, TIMESTAMP '2014-05-11 08:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (197, 10, NULL, TIMESTAMP '2018-07-12 12:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (198, 2, NULL, TIMESTAMP '2016-12-19 20:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (199, 29, NULL, TIMESTAMP '2015-01-04 04:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (200, 41, NULL, TIMESTAMP '2011-10-07 06:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (201, 17, NULL, TIMESTAMP '2011-06-27 14:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (202, 58, NULL, TIMESTAMP '2010-05-18 20:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (203, 26, NULL, TIMESTAMP '2012-09-12 09:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (204, 28, NULL, TIMESTAMP '2016-08-01 15:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (205, 8, NULL, TIMESTAMP '2013-08-11 21:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (206, 59, NULL, TIMESTAMP '2013-02-10 12:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (207, 59, NULL, TIMESTAMP '2012-03-03 12:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (208, 10, NULL, TIMESTAMP '2011-06-21 10:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (209, 56, NULL, TIMESTAMP '2017-07-04 23:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (210, 6, NULL, TIMESTAMP '2014-07-17 20:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (211, 42, NULL, TIMESTAMP '2011-11-10 00:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (212, 41, NULL, TIMESTAMP '2012-01-13 10:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (213, 50, NULL, TIMESTAMP '2014-03-06 23:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (214, 51, NULL, TIMESTAMP '2015-11-11 17:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (215, 20, NULL, TIMESTAMP '2018-03-04 12:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (216, 34, NULL, TIMESTAMP '2017-03-07 09:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (217, 45, NULL, TIMESTAMP '2010-07-21 14:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (218, 29, NULL, TIMESTAMP '2018-06-09 23:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (219, 40, NULL, TIMESTAMP '2016-08-25 14:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (220, 58, NULL, TIMESTAMP '2017-05-28 04:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (221, 10, NULL, TIMESTAMP '2012-11-14 18:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (222, 22, NULL, TIMESTAMP '2010-04-26 12:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (223, 3, NULL, TIMESTAMP '2016-08-21 19:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (224, 14, NULL, TIMESTAMP '2013-10-25 10:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (225, 39, NULL, TIMESTAMP '2017-03-10 00:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (226, 12, NULL, TIMESTAMP '2011-01-23 08:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (227, 7, NULL, TIMESTAMP '2014-07-22 08:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (228, 44, NULL, TIMESTAMP '2014-02-05 16:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (229, 44, NULL, TIMESTAMP '2010-05-23 17:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (230, 58, NULL, TIMESTAMP '2013-04-06 18:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (231, 21, NULL, TIMESTAMP '2018-06-10 03:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (232, 10, NULL, TIMESTAMP '2010-06-22 20:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (233, 53, NULL, TIMESTAMP '2018-09-20 18:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (234, 46, NULL, TIMESTAMP '2013-02-18 13:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (235, 49, NULL, TIMESTAMP '2012-02-16 11:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (236, 14, NULL, TIMESTAMP '2016-04-25 04:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (237, 28, NULL, TIMESTAMP '2016-07-28 15:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (238, 42, NULL, TIMESTAMP '2017-08-02 22:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (239, 48, NULL, TIMESTAMP '2018-03-01 06:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (240, 24, NULL, TIMESTAMP '2015-07-11 15:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (241, 44, NULL, TIMESTAMP '2013-03-22 17:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (242, 11, NULL, TIMESTAMP '2017-03-21 21:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (243, 43, NULL, TIMESTAMP '2014-06-16 16:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (244, 55, NULL, TIMESTAMP '2015-08-06 17:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (245, 30, NULL, TIMESTAMP '2011-07-17 12:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (246, 21, NULL, TIMESTAMP '2015-07-27 01:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (247, 52, NULL, TIMESTAMP '2016-09-05 03:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (248, 21, NULL, TIMESTAMP '2011-01-15 03:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (249, 50, NULL, TIMESTAMP '2010-05-23 04:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (250, 58, NULL, TIMESTAMP '2014-01-23 14:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (251, 10, NULL, TIMESTAMP '2015-11-21 07:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (252, 29, NULL, TIMESTAMP '2011-11-14 01:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (253, 19, NULL, TIMESTAMP '2018-03-17 11:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (254, 27, NULL, TIMESTAMP '2011-10-11 15:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (255, 9, NULL, TIMESTAMP '2013-06-04 01:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (256, 25, NULL, TIMESTAMP '2010-05-28 11:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (257, 31, NULL, TIMESTAMP '2012-09-12 00:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (258, 40, NULL, TIMESTAMP '2018-09-27 01:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (259, 11, NULL, TIMESTAMP '2014-01-26 01:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (260, 33, NULL, TIMESTAMP '2014-01-28 05:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (261, 38, NULL, TIMESTAMP '2013-08-15 10:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (262, 7, NULL, TIMESTAMP '2013-06-14 22:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (263, 34, NULL, TIMESTAMP '2015-12-26 15:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (264, 39, NULL, TIMESTAMP '2016-04-03 07:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (265, 9, NULL, TIMESTAMP '2016-05-10 18:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (266, 12, NULL, TIMESTAMP '2010-01-21 17:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (267, 42, NULL, TIMESTAMP '2016-01-24 22:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (268, 38, NULL, TIMESTAMP '2011-07-12 06:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (269, 42, NULL, TIMESTAMP '2014-02-26 23:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (270, 45, NULL, TIMESTAMP '2018-12-10 01:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (271, 49, NULL, TIMESTAMP '2011-06-23 00:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (272, 17, NULL, TIMESTAMP '2012-04-14 19:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (273, 3, NULL, TIMESTAMP '2012-07-27 15:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (274, 27, NULL, TIMESTAMP '2015-01-21 10:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (275, 13, NULL, TIMESTAMP '2012-01-06 09:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (276, 57, NULL, TIMESTAMP '2016-06-08 14:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (277, 17, NULL, TIMESTAMP '2018-03-22 02:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (278, 11, NULL, TIMESTAMP '2012-07-22 15:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (279, 50, NULL, TIMESTAMP '2012-02-06 13:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (280, 12, NULL, TIMESTAMP '2016-04-14 22:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (281, 17, NULL, TIMESTAMP '2014-07-19 01:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (282, 55, NULL, TIMESTAMP '2016-06-26 12:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (283, 15, NULL, TIMESTAMP '2011-08-15 15:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (284, 24, NULL, TIMESTAMP '2017-09-10 17:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (285, 22, NULL, TIMESTAMP '2012-10-17 07:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (286, 12, NULL, TIMESTAMP '2013-08-17 15:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (287, 23, NULL, TIMESTAMP '2014-08-25 22:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (288, 25, NULL, TIMESTAMP '2016-09-02 10:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (289, 58, NULL, TIMESTAMP '2015-03-09 22:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (290, 47, NULL, TIMESTAMP '2015-10-23 16:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (291, 34, NULL, TIMESTAMP '2012-09-19 13:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (292, 3, NULL, TIMESTAMP '2014-10-10 00:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (293, 54, NULL, TIMESTAMP '2018-08-02 21:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (294, 6, NULL, TIMESTAMP '2018-04-03 00:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (295, 31, NULL, TIMESTAMP '2015-09-15 17:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (296, 50, NULL, TIMESTAMP '2012-01-14 20:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (297, 48, NULL, TIMESTAMP '2017-03-06 16:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (298, 40, NULL, TIMESTAMP '2015-05-10 22:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (299, 21, NULL, TIMESTAMP '2013-01-17 18:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (300, 5, NULL, TIMESTAMP '2012-03-05 13:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (301, 32, NULL, TIMESTAMP '2017-11-10 23:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (302, 44, NULL, TIMESTAMP '2013-12-24 19:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (303, 42, NULL, TIMESTAMP '2016-01-08 08:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (304, 2, NULL, TIMESTAMP '2018-03-04 14:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (305, 31, NULL, TIMESTAMP '2018-10-11 21:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (306, 35, NULL, TIMESTAMP '2018-02-24 16:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (307, 58, NULL, TIMESTAMP '2018-06-23 04:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (308, 7, NULL, TIMESTAMP '2011-09-27 13:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (309, 22, NULL, TIMESTAMP '2012-02-23 03:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (310, 41, NULL, TIMESTAMP '2015-01-18 14:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (311, 22, NULL, TIMESTAMP '2016-05-08 02:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (312, 26, NULL, TIMESTAMP '2013-03-24 00:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (313, 9, NULL, TIMESTAMP '2011-09-02 00:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (314, 35, NULL, TIMESTAMP '2012-02-06 18:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (315, 53, NULL, TIMESTAMP '2013-09-22 06:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (316, 36, NULL, TIMESTAMP '2016-01-18 02:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (317, 51, NULL, TIMESTAMP '2010-05-22 18:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (318, 24, NULL, TIMESTAMP '2011-06-19 20:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (319, 58, NULL, TIMESTAMP '2017-12-14 08:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (320, 37, NULL, TIMESTAMP '2013-11-09 14:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (321, 36, NULL, TIMESTAMP '2010-10-11 12:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (322, 25, NULL, TIMESTAMP '2017-02-18 22:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (323, 52, NULL, TIMESTAMP '2012-01-25 18:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (324, 59, NULL, TIMESTAMP '2011-02-08 01:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (325, 51, NULL, TIMESTAMP '2017-06-11 09:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (326, 32, NULL, TIMESTAMP '2014-12-14 09:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (327, 15, NULL, TIMESTAMP '2014-12-19 01:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (328, 22, NULL, TIMESTAMP '2017-04-05 19:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (329, 22, NULL, TIMESTAMP '2011-07-07 01:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (330, 56, NULL, TIMESTAMP '2014-04-17 18:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (331, 44, NULL, TIMESTAMP '2016-06-03 02:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (332, 26, NULL, TIMESTAMP '2015-02-15 23:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (333, 12, NULL, TIMESTAMP '2015-10-20 16:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (334, 22, NULL, TIMESTAMP '2016-04-03 23:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (335, 29, NULL, TIMESTAMP '2011-02-07 08:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (336, 52, NULL, TIMESTAMP '2016-06-16 07:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (337, 14, NULL, TIMESTAMP '2014-10-26 23:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (338, 36, NULL, TIMESTAMP '2012-09-19 07:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (339, 18, NULL, TIMESTAMP '2014-03-11 10:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (340, 43, NULL, TIMESTAMP '2017-06-03 06:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (341, 6, NULL, TIMESTAMP '2014-01-20 17:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (342, 53, NULL, TIMESTAMP '2010-05-09 10:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (343, 36, NULL, TIMESTAMP '2012-11-23 20:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (344, 49, NULL, TIMESTAMP '2018-12-13 11:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (345, 41, NULL, TIMESTAMP '2014-05-05 14:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (346, 6, NULL, TIMESTAMP '2017-03-10 02:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (347, 49, NULL, TIMESTAMP '2012-03-06 04:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (348, 12, NULL, TIMESTAMP '2017-07-05 01:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (349, 6, NULL, TIMESTAMP '2018-03-21 12:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (350, 31, NULL, TIMESTAMP '2012-04-14 03:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (351, 47, NULL, TIMESTAMP '2014-04-23 14:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (352, 15, NULL, TIMESTAMP '2017-06-20 22:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (353, 26, NULL, TIMESTAMP '2011-11-03 17:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (354, 26, NULL, TIMESTAMP '2010-03-28 05:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (355, 24, NULL, TIMESTAMP '2014-02-13 20:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (356, 51, NULL, TIMESTAMP '2012-01-22 23:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (357, 8, NULL, TIMESTAMP '2018-11-20 07:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (358, 11, NULL, TIMESTAMP '2014-09-22 03:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (359, 46, NULL, TIMESTAMP '2012-12-05 22:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (360, 3, NULL, TIMESTAMP '2011-02-03 14:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (361, 2, NULL, TIMESTAMP '2016-07-18 03:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (362, 55, NULL, TIMESTAMP '2015-03-06 13:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (363, 17, NULL, TIMESTAMP '2014-10-04 07:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (364, 38, NULL, TIMESTAMP '2010-09-16 01:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (365, 20, NULL, TIMESTAMP '2013-05-05 14:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (366, 51, NULL, TIMESTAMP '2018-06-17 19:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (367, 25, NULL, TIMESTAMP '2015-08-23 05:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (368, 23, NULL, TIMESTAMP '2018-07-04 01:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (369, 53, NULL, TIMESTAMP '2016-04-14 18:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (370, 28, NULL, TIMESTAMP '2017-11-17 21:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (371, 35, NULL, TIMESTAMP '2010-10-12 18:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (372, 37, NULL, TIMESTAMP '2018-10-26 15:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (373, 50, NULL, TIMESTAMP '2015-04-16 15:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (374, 50, NULL, TIMESTAMP '2010-10-06 18:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (375, 6, NULL, TIMESTAMP '2016-11-01 19:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (376, 43, NULL, TIMESTAMP '2011-02-20 11:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (377, 55, NULL, TIMESTAMP '2016-02-19 06:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (378, 58, NULL, TIMESTAMP '2018-03-05 23:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (379, 20, NULL, TIMESTAMP '2016-03-27 17:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (380, 59, NULL, TIMESTAMP '2011-01-27 07:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (381, 54, NULL, TIMESTAMP '2015-06-28 01:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (382, 46, NULL, TIMESTAMP '2014-02-10 21:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (383, 23, NULL, TIMESTAMP '2011-10-12 10:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (384, 12, NULL, TIMESTAMP '2012-04-28 21:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (385, 39, NULL, TIMESTAMP '2017-02-22 15:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (386, 27, NULL, TIMESTAMP '2017-02-21 08:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (387, 7, NULL, TIMESTAMP '2016-08-26 06:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (388, 52, NULL, TIMESTAMP '2018-12-14 16:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (389, 42, NULL, TIMESTAMP '2015-12-11 14:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (390, 50, NULL, TIMESTAMP '2011-11-13 00:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (391, 38, NULL, TIMESTAMP '2010-05-04 14:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (392, 16, NULL, TIMESTAMP '2015-02-07 14:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (393, 29, NULL, TIMESTAMP '2010-05-01 10:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (394, 17, NULL, TIMESTAMP '2013-09-14 19:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (395, 4, NULL, TIMESTAMP '2012-04-23 04:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (396, 17, NULL, TIMESTAMP '2017-11-24 01:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (397, 58, NULL, TIMESTAMP '2013-02-07 00:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (398, 39, NULL, TIMESTAMP '2016-01-05 22:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (399, 31, NULL, TIMESTAMP '2017-07-04 00:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (400, 50, NULL, TIMESTAMP '2011-09-26 03:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (401, 47, NULL, TIMESTAMP '2015-07-26 04:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (402, 52, NULL, TIMESTAMP '2018-03-11 20:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (403, 32, NULL, TIMESTAMP '2015-04-21 22:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (404, 14, NULL, TIMESTAMP '2012-07-17 17:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (405, 59, NULL, TIMESTAMP '2014-01-17 15:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (406, 58, NULL, TIMESTAMP '2018-03-11 14:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (407, 14, NULL, TIMESTAMP '2014-08-21 20:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (408, 16, NULL, TIMESTAMP '2018-08-21 19:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (409, 38, NULL, TIMESTAMP '2011-05-13 21:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (410, 17, NULL, TIMESTAMP '2013-11-20 23:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (411, 19, NULL, TIMESTAMP '2010-11-16 05:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (412, 14, NULL, TIMESTAMP '2012-07-27 00:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (413, 4, NULL, TIMESTAMP '2018-05-10 10:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (414, 3, NULL, TIMESTAMP '2016-02-15 05:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (415, 26, NULL, TIMESTAMP '2016-02-09 02:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (416, 20, NULL, TIMESTAMP '2013-12-02 00:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (417, 4, NULL, TIMESTAMP '2015-04-10 12:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (418, 24, NULL, TIMESTAMP '2011-07-28 14:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (419, 52, NULL, TIMESTAMP '2012-07-28 23:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (420, 9, NULL, TIMESTAMP '2011-08-14 09:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (421, 29, NULL, TIMESTAMP '2013-04-19 17:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (422, 4, NULL, TIMESTAMP '2015-10-27 02:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (423, 26, NULL, TIMESTAMP '2012-05-06 06:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (424, 23, NULL, TIMESTAMP '2011-06-10 19:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (425, 22, NULL, TIMESTAMP '2011-10-13 16:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (426, 40, NULL, TIMESTAMP '2010-10-24 15:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (427, 46, NULL, TIMESTAMP '2016-08-17 06:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (428, 34, NULL, TIMESTAMP '2013-06-01 01:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (429, 54, NULL, TIMESTAMP '2013-09-18 07:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (430, 50, NULL, TIMESTAMP '2016-09-27 09:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (431, 36, NULL, TIMESTAMP '2018-01-04 04:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (432, 9, NULL, TIMESTAMP '2010-10-06 00:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (433, 18, NULL, TIMESTAMP '2012-03-10 03:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (434, 35, NULL, TIMESTAMP '2018-01-25 06:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (435, 4, NULL, TIMESTAMP '2012-11-28 09:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (436, 5, NULL, TIMESTAMP '2017-01-17 20:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (437, 26, NULL, TIMESTAMP '2012-11-19 18:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (438, 10, NULL, TIMESTAMP '2011-04-06 23:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (439, 17, NULL, TIMESTAMP '2015-02-24 12:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (440, 32, NULL, TIMESTAMP '2016-05-02 18:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (441, 17, NULL, TIMESTAMP '2010-09-28 02:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (442, 14, NULL, TIMESTAMP '2017-01-09 07:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (443, 10, NULL, TIMESTAMP '2018-11-04 05:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (444, 7, NULL, TIMESTAMP '2015-07-03 09:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (445, 59, NULL, TIMESTAMP '2010-12-07 03:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (446, 46, NULL, TIMESTAMP '2010-12-19 12:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (447, 23, NULL, TIMESTAMP '2013-12-23 19:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (448, 55, NULL, TIMESTAMP '2018-09-16 03:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (449, 48, NULL, TIMESTAMP '2014-04-09 17:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (450, 4, NULL, TIMESTAMP '2015-07-17 22:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (451, 14, NULL, TIMESTAMP '2014-11-21 20:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (452, 24, NULL, TIMESTAMP '2014-01-02 03:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (453, 38, NULL, TIMESTAMP '2015-07-15 07:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (454, 36, NULL, TIMESTAMP '2017-03-14 03:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (455, 31, NULL, TIMESTAMP '2015-06-10 15:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (456, 42, NULL, TIMESTAMP '2012-10-14 11:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (457, 49, NULL, TIMESTAMP '2017-09-10 14:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (458, 59, NULL, TIMESTAMP '2012-07-09 02:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (459, 18, NULL, TIMESTAMP '2014-06-01 19:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (460, 15, NULL, TIMESTAMP '2016-12-03 19:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (461, 12, NULL, TIMESTAMP '2017-08-07 02:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (462, 34, NULL, TIMESTAMP '2012-02-10 23:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (463, 15, NULL, TIMESTAMP '2016-11-25 05:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (464, 22, NULL, TIMESTAMP '2017-02-08 18:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (465, 25, NULL, TIMESTAMP '2018-02-28 22:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (466, 42, NULL, TIMESTAMP '2016-07-07 21:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (467, 41, NULL, TIMESTAMP '2013-07-28 18:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (468, 36, NULL, TIMESTAMP '2015-04-14 15:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (469, 45, NULL, TIMESTAMP '2017-03-20 09:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (470, 51, NULL, TIMESTAMP '2013-01-12 20:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (471, 23, NULL, TIMESTAMP '2010-03-05 18:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (472, 47, NULL, TIMESTAMP '2012-07-21 12:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (473, 59, NULL, TIMESTAMP '2014-06-04 21:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (474, 47, NULL, TIMESTAMP '2016-08-09 17:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (475, 39, NULL, TIMESTAMP '2012-04-22 03:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (476, 9, NULL, TIMESTAMP '2014-01-24 21:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (477, 6, NULL, TIMESTAMP '2018-09-23 11:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (478, 59, NULL, TIMESTAMP '2012-11-13 07:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (479, 6, NULL, TIMESTAMP '2018-11-20 08:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (480, 2, NULL, TIMESTAMP '2011-01-10 21:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (481, 5, NULL, TIMESTAMP '2010-06-10 06:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (482, 27, NULL, TIMESTAMP '2018-03-27 08:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (483, 39, NULL, TIMESTAMP '2013-10-17 04:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (484, 23, NULL, TIMESTAMP '2017-03-01 18:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (485, 31, NULL, TIMESTAMP '2013-09-09 17:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (486, 21, NULL, TIMESTAMP '2018-02-24 12:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (487, 37, NULL, TIMESTAMP '2018-11-28 17:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (488, 48, NULL, TIMESTAMP '2010-11-18 09:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (489, 45, NULL, TIMESTAMP '2014-11-17 18:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (490, 23, NULL, TIMESTAMP '2013-11-10 17:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (491, 59, NULL, TIMESTAMP '2016-09-11 13:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (492, 18, NULL, TIMESTAMP '2012-01-19 08:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (493, 9, NULL, TIMESTAMP '2015-01-23 07:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (494, 51, NULL, TIMESTAMP '2014-07-04 04:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (495, 29, NULL, TIMESTAMP '2011-02-20 02:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (496, 25, NULL, TIMESTAMP '2014-08-17 08:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (497, 42, NULL, TIMESTAMP '2017-04-19 08:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (498, 54, NULL, TIMESTAMP '2015-07-20 09:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (499, 6, NULL, TIMESTAMP '2013-07-23 01:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (500, 40, NULL, TIMESTAMP '2012-04-16 06:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (501, 42, NULL, TIMESTAMP '2016-12-07 11:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (502, 3, NULL, TIMESTAMP '2012-11-11 18:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (503, 39, NULL, TIMESTAMP '2011-03-18 18:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (504, 59, NULL, TIMESTAMP '2016-08-07 16:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (505, 17, NULL, TIMESTAMP '2013-04-20 01:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (506, 40, NULL, TIMESTAMP '2016-06-28 11:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (507, 58, NULL, TIMESTAMP '2013-07-21 20:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (508, 46, NULL, TIMESTAMP '2016-01-17 03:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (509, 48, NULL, TIMESTAMP '2012-03-01 04:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (510, 25, NULL, TIMESTAMP '2013-11-02 04:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (511, 16, NULL, TIMESTAMP '2014-11-14 12:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (512, 50, NULL, TIMESTAMP '2015-09-06 08:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (513, 11, NULL, TIMESTAMP '2014-07-25 04:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (514, 31, NULL, TIMESTAMP '2011-07-13 15:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (515, 32, NULL, TIMESTAMP '2014-07-08 08:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (516, 49, NULL, TIMESTAMP '2014-10-14 18:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (517, 3, NULL, TIMESTAMP '2013-07-26 05:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (518, 29, NULL, TIMESTAMP '2018-12-01 12:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (519, 26, NULL, TIMESTAMP '2013-08-13 20:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (520, 3, NULL, TIMESTAMP '2011-03-01 17:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (521, 53, NULL, TIMESTAMP '2015-02-18 13:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (522, 14, NULL, TIMESTAMP '2010-03-05 23:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (523, 8, NULL, TIMESTAMP '2014-06-23 01:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (524, 52, NULL, TIMESTAMP '2010-09-26 08:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (525, 22, NULL, TIMESTAMP '2010-11-17 04:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (526, 33, NULL, TIMESTAMP '2017-09-06 11:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (527, 8, NULL, TIMESTAMP '2014-05-02 05:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (528, 52, NULL, TIMESTAMP '2012-02-09 11:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (529, 4, NULL, TIMESTAMP '2011-12-22 05:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (530, 47, NULL, TIMESTAMP '2011-11-15 23:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (531, 51, NULL, TIMESTAMP '2013-06-12 11:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (532, 12, NULL, TIMESTAMP '2016-12-25 15:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (533, 43, NULL, TIMESTAMP '2017-09-24 07:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (534, 37, NULL, TIMESTAMP '2018-05-05 14:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (535, 57, NULL, TIMESTAMP '2014-02-14 04:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (536, 39, NULL, TIMESTAMP '2017-05-15 13:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (537, 45, NULL, TIMESTAMP '2011-02-23 21:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (538, 8, NULL, TIMESTAMP '2017-03-10 14:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (539, 48, NULL, TIMESTAMP '2018-09-24 00:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (540, 44, NULL, TIMESTAMP '2010-06-22 09:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (541, 8, NULL, TIMESTAMP '2017-07-07 03:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (542, 56, NULL, TIMESTAMP '2010-11-14 21:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (543, 26, NULL, TIMESTAMP '2013-09-25 11:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (544, 50, NULL, TIMESTAMP '2017-02-15 01:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (545, 33, NULL, TIMESTAMP '2018-04-12 07:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (546, 35, NULL, TIMESTAMP '2013-06-07 05:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (547, 22, NULL, TIMESTAMP '2017-12-19 20:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (548, 52, NULL, TIMESTAMP '2018-06-23 13:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (549, 9, NULL, TIMESTAMP '2010-12-13 08:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (550, 33, NULL, TIMESTAMP '2012-01-07 00:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (551, 5, NULL, TIMESTAMP '2010-04-20 01:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (552, 32, NULL, TIMESTAMP '2014-06-12 00:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (553, 16, NULL, TIMESTAMP '2011-07-02 01:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (554, 56, NULL, TIMESTAMP '2014-02-16 09:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (555, 13, NULL, TIMESTAMP '2010-09-04 18:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (556, 21, NULL, TIMESTAMP '2012-08-15 22:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (557, 2, NULL, TIMESTAMP '2012-11-01 20:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (558, 58, NULL, TIMESTAMP '2012-09-19 04:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (559, 45, NULL, TIMESTAMP '2010-07-14 01:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (560, 52, NULL, TIMESTAMP '2016-03-12 00:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (561, 45, NULL, TIMESTAMP '2011-07-19 20:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (562, 51, NULL, TIMESTAMP '2015-10-16 13:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (563, 52, NULL, TIMESTAMP '2017-02-09 07:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (564, 15, NULL, TIMESTAMP '2013-07-15 18:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (565, 20, NULL, TIMESTAMP '2010-05-25 22:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (566, 17, NULL, TIMESTAMP '2011-11-20 19:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (567, 44, NULL, TIMESTAMP '2015-11-03 05:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (568, 2, NULL, TIMESTAMP '2015-07-08 20:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (569, 14, NULL, TIMESTAMP '2015-04-04 01:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (570, 55, NULL, TIMESTAMP '2015-11-27 15:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (571, 48, NULL, TIMESTAMP '2011-08-16 08:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (572, 6, NULL, TIMESTAMP '2011-09-06 11:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (573, 29, NULL, TIMESTAMP '2014-11-21 14:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (574, 23, NULL, TIMESTAMP '2017-11-13 03:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (575, 31, NULL, TIMESTAMP '2012-02-15 19:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (576, 59, NULL, TIMESTAMP '2018-10-11 16:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (577, 6, NULL, TIMESTAMP '2010-11-11 05:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (578, 12, NULL, TIMESTAMP '2014-12-19 16:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (579, 54, NULL, TIMESTAMP '2014-04-10 09:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (580, 25, NULL, TIMESTAMP '2014-09-25 09:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (581, 40, NULL, TIMESTAMP '2013-08-21 21:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (582, 38, NULL, TIMESTAMP '2013-10-12 01:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (583, 9, NULL, TIMESTAMP '2014-01-03 23:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (584, 3, NULL, TIMESTAMP '2017-05-17 05:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (585, 13, NULL, TIMESTAMP '2012-07-18 21:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (586, 56, NULL, TIMESTAMP '2014-02-22 00:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (587, 23, NULL, TIMESTAMP '2012-11-15 22:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (588, 14, NULL, TIMESTAMP '2013-07-20 23:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (589, 55, NULL, TIMESTAMP '2017-05-13 08:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (590, 2, NULL, TIMESTAMP '2012-01-06 06:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (591, 28, NULL, TIMESTAMP '2018-06-16 14:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (592, 30, NULL, TIMESTAMP '2018-02-07 11:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (593, 12, NULL, TIMESTAMP '2015-02-07 22:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (594, 48, NULL, TIMESTAMP '2016-02-08 21:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (595, 13, NULL, TIMESTAMP '2010-01-11 17:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (596, 51, NULL, TIMESTAMP '2012-03-09 11:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (597, 42, NULL, TIMESTAMP '2011-11-24 07:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (598, 36, NULL, TIMESTAMP '2015-01-20 02:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (599, 15, NULL, TIMESTAMP '2017-09-03 06:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (600, 11, NULL, TIMESTAMP '2010-09-05 00:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (601, 4, NULL, TIMESTAMP '2013-11-26 06:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (602, 37, NULL, TIMESTAMP '2011-02-16 07:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (603, 25, NULL, TIMESTAMP '2010-12-26 12:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (604, 44, NULL, TIMESTAMP '2016-12-03 22:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (605, 7, NULL, TIMESTAMP '2015-10-16 16:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (606, 39, NULL, TIMESTAMP '2018-12-19 18:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (607, 29, NULL, TIMESTAMP '2013-11-15 14:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (608, 4, NULL, TIMESTAMP '2018-02-17 17:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (609, 30, NULL, TIMESTAMP '2012-05-21 02:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (610, 6, NULL, TIMESTAMP '2016-08-01 10:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (611, 56, NULL, TIMESTAMP '2014-08-24 08:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (612, 26, NULL, TIMESTAMP '2014-04-21 18:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (613, 14, NULL, TIMESTAMP '2012-12-16 18:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (614, 6, NULL, TIMESTAMP '2014-08-18 13:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (615, 43, NULL, TIMESTAMP '2010-04-25 19:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (616, 22, NULL, TIMESTAMP '2012-04-15 18:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (617, 23, NULL, TIMESTAMP '2012-12-27 06:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (618, 43, NULL, TIMESTAMP '2014-06-06 10:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (619, 5, NULL, TIMESTAMP '2010-06-06 00:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (620, 55, NULL, TIMESTAMP '2014-12-06 12:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (621, 38, NULL, TIMESTAMP '2015-01-02 07:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (622, 57, NULL, TIMESTAMP '2015-01-25 19:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (623, 21, NULL, TIMESTAMP '2013-04-04 07:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (624, 23, NULL, TIMESTAMP '2010-05-22 14:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (625, 2, NULL, TIMESTAMP '2014-11-26 01:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (626, 42, NULL, TIMESTAMP '2010-01-06 16:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (627, 4, NULL, TIMESTAMP '2010-02-15 07:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (628, 4, NULL, TIMESTAMP '2011-08-25 09:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (629, 20, NULL, TIMESTAMP '2010-01-20 20:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (630, 19, NULL, TIMESTAMP '2010-02-28 05:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (631, 32, NULL, TIMESTAMP '2015-05-11 02:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (632, 26, NULL, TIMESTAMP '2016-03-15 04:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (633, 22, NULL, TIMESTAMP '2014-05-11 13:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (634, 42, NULL, TIMESTAMP '2011-04-14 21:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (635, 43, NULL, TIMESTAMP '2012-05-14 01:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (636, 29, NULL, TIMESTAMP '2012-02-20 07:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (637, 12, NULL, TIMESTAMP '2011-05-18 21:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (638, 53, NULL, TIMESTAMP '2014-08-21 22:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (639, 29, NULL, TIMESTAMP '2013-02-17 19:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (640, 6, NULL, TIMESTAMP '2014-08-16 13:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (641, 18, NULL, TIMESTAMP '2013-04-23 17:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (642, 38, NULL, TIMESTAMP '2016-09-01 17:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (643, 5, NULL, TIMESTAMP '2015-05-28 22:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (644, 2, NULL, TIMESTAMP '2016-05-03 04:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (645, 58, NULL, TIMESTAMP '2018-04-09 18:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (646, 12, NULL, TIMESTAMP '2018-09-11 23:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (647, 19, NULL, TIMESTAMP '2018-06-10 00:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (648, 4, NULL, TIMESTAMP '2016-06-28 17:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (649, 40, NULL, TIMESTAMP '2011-07-09 15:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (650, 22, NULL, TIMESTAMP '2015-12-20 06:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (651, 43, NULL, TIMESTAMP '2012-02-07 08:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (652, 31, NULL, TIMESTAMP '2012-05-03 23:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (653, 20, NULL, TIMESTAMP '2014-02-04 06:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (654, 38, NULL, TIMESTAMP '2014-01-03 03:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (655, 55, NULL, TIMESTAMP '2010-01-02 05:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (656, 14, NULL, TIMESTAMP '2017-07-24 15:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (657, 37, NULL, TIMESTAMP '2010-02-11 23:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (658, 17, NULL, TIMESTAMP '2013-07-23 12:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (659, 53, NULL, TIMESTAMP '2011-09-08 23:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (660, 4, NULL, TIMESTAMP '2018-08-08 23:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (661, 50, NULL, TIMESTAMP '2010-08-16 05:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (662, 39, NULL, TIMESTAMP '2015-10-24 22:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (663, 41, NULL, TIMESTAMP '2015-09-07 20:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (664, 58, NULL, TIMESTAMP '2015-02-17 05:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (665, 42, NULL, TIMESTAMP '2011-08-24 00:40:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (666, 38, NULL, TIMESTAMP '2012-12-17 06:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (667, 26, NULL, TIMESTAMP '2017-10-04 15:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (668, 16, NULL, TIMESTAMP '2015-08-23 01:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (669, 45, NULL, TIMESTAMP '2014-04-06 09:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (670, 28, NULL, TIMESTAMP '2016-09-11 19:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (671, 38, NULL, TIMESTAMP '2014-03-04 10:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (672, 45, NULL, TIMESTAMP '2012-10-24 17:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (673, 41, NULL, TIMESTAMP '2018-03-25 01:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (674, 2, NULL, TIMESTAMP '2016-03-24 14:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (675, 12, NULL, TIMESTAMP '2018-05-11 00:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (676, 23, NULL, TIMESTAMP '2011-08-28 07:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (677, 55, NULL, TIMESTAMP '2011-07-23 09:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (678, 9, NULL, TIMESTAMP '2013-03-17 04:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (679, 20, NULL, TIMESTAMP '2016-03-13 02:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (680, 3, NULL, TIMESTAMP '2010-07-24 16:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (681, 16, NULL, TIMESTAMP '2015-01-24 01:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (682, 59, NULL, TIMESTAMP '2016-10-27 11:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (683, 3, NULL, TIMESTAMP '2010-01-10 02:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (684, 48, NULL, TIMESTAMP '2012-08-26 22:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (685, 2, NULL, TIMESTAMP '2016-09-16 15:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (686, 30, NULL, TIMESTAMP '2013-08-02 03:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (687, 31, NULL, TIMESTAMP '2013-10-28 12:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (688, 57, NULL, TIMESTAMP '2015-06-22 16:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (689, 27, NULL, TIMESTAMP '2013-02-14 13:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (690, 5, NULL, TIMESTAMP '2011-06-16 23:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (691, 54, NULL, TIMESTAMP '2014-07-02 00:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (692, 16, NULL, TIMESTAMP '2017-12-06 17:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (693, 21, NULL, TIMESTAMP '2015-02-11 02:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (694, 23, NULL, TIMESTAMP '2014-03-22 05:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (695, 49, NULL, TIMESTAMP '2014-01-18 06:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (696, 9, NULL, TIMESTAMP '2015-03-10 16:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (697, 32, NULL, TIMESTAMP '2012-05-06 09:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (698, 39, NULL, TIMESTAMP '2014-02-18 13:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (699, 59, NULL, TIMESTAMP '2011-03-21 00:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (700, 29, NULL, TIMESTAMP '2014-11-01 06:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (701, 51, NULL, TIMESTAMP '2017-02-07 09:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (702, 19, NULL, TIMESTAMP '2016-05-23 12:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (703, 24, NULL, TIMESTAMP '2012-07-08 04:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (704, 2, NULL, TIMESTAMP '2017-03-06 22:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (705, 49, NULL, TIMESTAMP '2017-03-19 02:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (706, 40, NULL, TIMESTAMP '2016-08-02 07:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (707, 54, NULL, TIMESTAMP '2016-02-16 01:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (708, 31, NULL, TIMESTAMP '2011-07-18 08:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (709, 28, NULL, TIMESTAMP '2014-07-09 02:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (710, 15, NULL, TIMESTAMP '2011-06-22 12:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (711, 25, NULL, TIMESTAMP '2014-05-25 10:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (712, 39, NULL, TIMESTAMP '2013-05-27 09:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (713, 10, NULL, TIMESTAMP '2018-08-21 16:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (714, 48, NULL, TIMESTAMP '2012-01-07 16:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (715, 2, NULL, TIMESTAMP '2014-08-10 07:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (716, 4, NULL, TIMESTAMP '2010-11-17 09:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (717, 58, NULL, TIMESTAMP '2014-06-28 14:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (718, 9, NULL, TIMESTAMP '2013-01-03 17:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (719, 37, NULL, TIMESTAMP '2013-01-03 19:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (720, 33, NULL, TIMESTAMP '2018-05-08 17:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (721, 16, NULL, TIMESTAMP '2015-10-16 15:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (722, 26, NULL, TIMESTAMP '2012-07-24 16:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (723, 36, NULL, TIMESTAMP '2012-07-01 08:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (724, 38, NULL, TIMESTAMP '2013-12-20 06:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (725, 51, NULL, TIMESTAMP '2014-11-20 15:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (726, 13, NULL, TIMESTAMP '2016-09-14 07:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (727, 46, NULL, TIMESTAMP '2018-10-19 20:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (728, 52, NULL, TIMESTAMP '2014-07-19 07:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (729, 11, NULL, TIMESTAMP '2010-08-03 09:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (730, 14, NULL, TIMESTAMP '2014-01-13 05:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (731, 38, NULL, TIMESTAMP '2017-03-26 08:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (732, 28, NULL, TIMESTAMP '2013-11-10 02:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (733, 22, NULL, TIMESTAMP '2015-07-13 11:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (734, 29, NULL, TIMESTAMP '2018-05-11 04:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (735, 54, NULL, TIMESTAMP '2015-05-19 12:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (736, 26, NULL, TIMESTAMP '2013-09-04 10:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (737, 33, NULL, TIMESTAMP '2018-02-01 20:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (738, 6, NULL, TIMESTAMP '2010-03-06 07:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (739, 48, NULL, TIMESTAMP '2017-07-16 06:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (740, 17, NULL, TIMESTAMP '2017-10-11 23:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (741, 55, NULL, TIMESTAMP '2010-11-03 06:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (742, 52, NULL, TIMESTAMP '2012-06-08 03:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (743, 54, NULL, TIMESTAMP '2014-08-06 12:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (744, 28, NULL, TIMESTAMP '2015-07-09 07:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (745, 37, NULL, TIMESTAMP '2011-12-04 20:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (746, 35, NULL, TIMESTAMP '2016-05-07 23:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (747, 37, NULL, TIMESTAMP '2012-08-02 12:56:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (748, 25, NULL, TIMESTAMP '2016-09-14 22:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (749, 2, NULL, TIMESTAMP '2011-05-08 07:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (750, 39, NULL, TIMESTAMP '2014-09-20 23:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (751, 40, NULL, TIMESTAMP '2011-01-01 03:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (752, 54, NULL, TIMESTAMP '2012-07-22 10:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (753, 50, NULL, TIMESTAMP '2011-09-28 22:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (754, 50, NULL, TIMESTAMP '2011-12-05 13:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (755, 28, NULL, TIMESTAMP '2012-11-09 21:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (756, 32, NULL, TIMESTAMP '2010-10-24 21:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (757, 38, NULL, TIMESTAMP '2016-11-24 07:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (758, 58, NULL, TIMESTAMP '2013-11-08 16:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (759, 2, NULL, TIMESTAMP '2010-10-26 23:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (760, 32, NULL, TIMESTAMP '2012-05-09 21:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (761, 41, NULL, TIMESTAMP '2018-08-07 21:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (762, 53, NULL, TIMESTAMP '2011-06-14 19:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (763, 28, NULL, TIMESTAMP '2018-10-08 05:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (764, 25, NULL, TIMESTAMP '2018-07-07 16:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (765, 11, NULL, TIMESTAMP '2015-05-03 10:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (766, 24, NULL, TIMESTAMP '2013-10-08 09:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (767, 57, NULL, TIMESTAMP '2017-08-03 05:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (768, 43, NULL, TIMESTAMP '2015-10-24 04:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (769, 20, NULL, TIMESTAMP '2011-07-25 10:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (770, 16, NULL, TIMESTAMP '2014-12-17 08:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (771, 53, NULL, TIMESTAMP '2014-05-08 09:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (772, 52, NULL, TIMESTAMP '2016-02-17 05:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (773, 50, NULL, TIMESTAMP '2018-06-24 03:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (774, 9, NULL, TIMESTAMP '2012-05-05 21:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (775, 7, NULL, TIMESTAMP '2011-01-02 13:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (776, 9, NULL, TIMESTAMP '2013-01-15 16:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (777, 11, NULL, TIMESTAMP '2016-06-17 23:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (778, 55, NULL, TIMESTAMP '2010-02-02 19:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (779, 14, NULL, TIMESTAMP '2016-05-13 12:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (780, 7, NULL, TIMESTAMP '2016-12-07 18:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (781, 19, NULL, TIMESTAMP '2014-05-16 12:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (782, 18, NULL, TIMESTAMP '2016-03-08 21:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (783, 30, NULL, TIMESTAMP '2012-05-03 14:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (784, 14, NULL, TIMESTAMP '2015-06-07 08:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (785, 17, NULL, TIMESTAMP '2012-04-07 02:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (786, 43, NULL, TIMESTAMP '2013-12-22 13:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (787, 32, NULL, TIMESTAMP '2017-06-11 02:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (788, 28, NULL, TIMESTAMP '2011-01-14 04:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (789, 28, NULL, TIMESTAMP '2017-03-20 18:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (790, 4, NULL, TIMESTAMP '2015-08-15 01:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (791, 30, NULL, TIMESTAMP '2018-05-28 23:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (792, 13, NULL, TIMESTAMP '2015-09-14 21:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (793, 19, NULL, TIMESTAMP '2010-02-20 18:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (794, 33, NULL, TIMESTAMP '2012-06-25 18:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (795, 19, NULL, TIMESTAMP '2014-01-22 12:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (796, 21, NULL, TIMESTAMP '2016-08-04 18:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (797, 11, NULL, TIMESTAMP '2018-05-08 07:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (798, 54, NULL, TIMESTAMP '2012-11-12 07:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (799, 11, NULL, TIMESTAMP '2016-11-02 10:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (800, 20, NULL, TIMESTAMP '2011-10-26 16:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (801, 49, NULL, TIMESTAMP '2011-02-21 10:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (802, 7, NULL, TIMESTAMP '2018-05-14 07:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (803, 16, NULL, TIMESTAMP '2016-12-25 18:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (804, 55, NULL, TIMESTAMP '2014-11-10 23:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (805, 36, NULL, TIMESTAMP '2011-08-14 15:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (806, 42, NULL, TIMESTAMP '2017-09-04 00:36:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (807, 2, NULL, TIMESTAMP '2015-10-17 10:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (808, 49, NULL, TIMESTAMP '2018-09-26 13:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (809, 2, NULL, TIMESTAMP '2015-02-15 22:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (810, 8, NULL, TIMESTAMP '2016-11-13 07:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (811, 23, NULL, TIMESTAMP '2015-01-25 22:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (812, 24, NULL, TIMESTAMP '2014-01-22 06:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (813, 30, NULL, TIMESTAMP '2018-05-08 02:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (814, 55, NULL, TIMESTAMP '2010-11-24 11:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (815, 36, NULL, TIMESTAMP '2013-04-03 07:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (816, 31, NULL, TIMESTAMP '2012-01-27 10:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (817, 30, NULL, TIMESTAMP '2016-01-01 21:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (818, 45, NULL, TIMESTAMP '2017-12-22 06:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (819, 20, NULL, TIMESTAMP '2014-11-11 16:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (820, 38, NULL, TIMESTAMP '2016-09-24 19:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (821, 33, NULL, TIMESTAMP '2010-02-24 09:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (822, 29, NULL, TIMESTAMP '2013-03-01 12:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (823, 38, NULL, TIMESTAMP '2010-06-10 20:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (824, 38, NULL, TIMESTAMP '2010-04-08 10:48:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (825, 56, NULL, TIMESTAMP '2010-06-09 18:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (826, 31, NULL, TIMESTAMP '2014-10-11 19:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (827, 14, NULL, TIMESTAMP '2013-12-06 21:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (828, 31, NULL, TIMESTAMP '2011-06-15 00:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (829, 7, NULL, TIMESTAMP '2017-03-21 06:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (830, 53, NULL, TIMESTAMP '2012-12-21 20:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (831, 40, NULL, TIMESTAMP '2015-01-26 05:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (832, 36, NULL, TIMESTAMP '2014-03-21 19:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (833, 11, NULL, TIMESTAMP '2016-04-14 17:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (834, 10, NULL, TIMESTAMP '2016-07-12 14:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (835, 48, NULL, TIMESTAMP '2018-04-18 12:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (836, 4, NULL, TIMESTAMP '2014-04-07 08:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (837, 40, NULL, TIMESTAMP '2012-02-28 09:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (838, 36, NULL, TIMESTAMP '2013-07-19 20:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (839, 35, NULL, TIMESTAMP '2018-02-07 17:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (840, 17, NULL, TIMESTAMP '2013-10-20 03:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (841, 46, NULL, TIMESTAMP '2011-05-27 17:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (842, 12, NULL, TIMESTAMP '2011-03-26 21:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (843, 41, NULL, TIMESTAMP '2017-04-26 12:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (844, 31, NULL, TIMESTAMP '2013-03-03 19:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (845, 9, NULL, TIMESTAMP '2011-04-18 10:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (846, 56, NULL, TIMESTAMP '2010-03-15 07:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (847, 52, NULL, TIMESTAMP '2010-12-04 17:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (848, 10, NULL, TIMESTAMP '2012-08-09 18:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (849, 43, NULL, TIMESTAMP '2010-01-09 18:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (850, 6, NULL, TIMESTAMP '2015-07-21 19:03:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (851, 40, NULL, TIMESTAMP '2012-02-01 15:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (852, 57, NULL, TIMESTAMP '2010-02-04 15:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (853, 55, NULL, TIMESTAMP '2016-02-06 23:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (854, 45, NULL, TIMESTAMP '2017-05-01 23:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (855, 45, NULL, TIMESTAMP '2014-06-09 15:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (856, 54, NULL, TIMESTAMP '2014-08-01 21:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (857, 57, NULL, TIMESTAMP '2014-03-01 05:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (858, 39, NULL, TIMESTAMP '2015-08-24 10:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (859, 15, NULL, TIMESTAMP '2011-06-20 01:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (860, 43, NULL, TIMESTAMP '2017-07-09 07:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (861, 50, NULL, TIMESTAMP '2017-04-21 04:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (862, 2, NULL, TIMESTAMP '2016-05-08 17:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (863, 12, NULL, TIMESTAMP '2010-07-05 23:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (864, 13, NULL, TIMESTAMP '2014-04-04 12:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (865, 45, NULL, TIMESTAMP '2013-11-28 04:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (866, 12, NULL, TIMESTAMP '2016-03-06 06:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (867, 48, NULL, TIMESTAMP '2011-06-16 07:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (868, 37, NULL, TIMESTAMP '2014-05-28 17:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (869, 47, NULL, TIMESTAMP '2015-02-05 21:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (870, 30, NULL, TIMESTAMP '2015-05-19 07:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (871, 51, NULL, TIMESTAMP '2010-07-06 22:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (872, 10, NULL, TIMESTAMP '2018-11-15 14:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (873, 53, NULL, TIMESTAMP '2018-09-19 08:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (874, 25, NULL, TIMESTAMP '2013-06-21 21:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (875, 46, NULL, TIMESTAMP '2010-06-20 01:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (876, 22, NULL, TIMESTAMP '2018-07-19 21:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (877, 2, NULL, TIMESTAMP '2014-11-21 22:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (878, 4, NULL, TIMESTAMP '2014-01-05 19:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (879, 26, NULL, TIMESTAMP '2010-06-06 04:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (880, 55, NULL, TIMESTAMP '2012-04-10 23:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (881, 36, NULL, TIMESTAMP '2013-11-10 09:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (882, 18, NULL, TIMESTAMP '2011-10-09 02:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (883, 2, NULL, TIMESTAMP '2012-04-08 10:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (884, 22, NULL, TIMESTAMP '2011-10-01 16:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (885, 49, NULL, TIMESTAMP '2016-05-13 12:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (886, 45, NULL, TIMESTAMP '2014-10-10 01:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (887, 8, NULL, TIMESTAMP '2014-01-01 03:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (888, 23, NULL, TIMESTAMP '2016-02-14 10:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (889, 7, NULL, TIMESTAMP '2018-05-08 20:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (890, 25, NULL, TIMESTAMP '2011-07-09 00:14:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (891, 20, NULL, TIMESTAMP '2014-02-10 23:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (892, 53, NULL, TIMESTAMP '2014-01-22 11:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (893, 15, NULL, TIMESTAMP '2018-11-02 05:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (894, 4, NULL, TIMESTAMP '2012-03-18 02:46:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (895, 47, NULL, TIMESTAMP '2015-09-03 18:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (896, 50, NULL, TIMESTAMP '2012-06-12 02:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (897, 33, NULL, TIMESTAMP '2011-09-01 03:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (898, 54, NULL, TIMESTAMP '2010-01-19 11:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (899, 42, NULL, TIMESTAMP '2016-09-08 12:41:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (900, 50, NULL, TIMESTAMP '2013-08-19 03:26:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (901, 49, NULL, TIMESTAMP '2016-12-10 16:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (902, 47, NULL, TIMESTAMP '2010-09-11 19:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (903, 11, NULL, TIMESTAMP '2018-03-25 07:52:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (904, 14, NULL, TIMESTAMP '2016-02-05 02:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (905, 27, NULL, TIMESTAMP '2014-04-01 02:47:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (906, 48, NULL, TIMESTAMP '2013-12-13 17:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (907, 50, NULL, TIMESTAMP '2014-11-11 02:20:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (908, 38, NULL, TIMESTAMP '2016-08-03 09:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (909, 29, NULL, TIMESTAMP '2011-11-25 07:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (910, 5, NULL, TIMESTAMP '2012-01-21 16:04:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (911, 9, NULL, TIMESTAMP '2015-12-22 09:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (912, 39, NULL, TIMESTAMP '2018-12-27 23:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (913, 2, NULL, TIMESTAMP '2018-05-04 01:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (914, 12, NULL, TIMESTAMP '2015-08-23 04:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (915, 55, NULL, TIMESTAMP '2015-11-20 14:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (916, 6, NULL, TIMESTAMP '2012-08-07 16:30:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (917, 49, NULL, TIMESTAMP '2015-05-02 22:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (918, 38, NULL, TIMESTAMP '2016-12-22 16:10:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (919, 11, NULL, TIMESTAMP '2018-01-07 20:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (920, 47, NULL, TIMESTAMP '2012-03-23 22:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (921, 43, NULL, TIMESTAMP '2013-12-08 05:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (922, 46, NULL, TIMESTAMP '2015-08-20 22:59:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (923, 55, NULL, TIMESTAMP '2011-11-18 17:35:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (924, 17, NULL, TIMESTAMP '2013-03-13 16:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (925, 40, NULL, TIMESTAMP '2010-02-17 00:23:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (926, 10, NULL, TIMESTAMP '2015-06-01 18:32:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (927, 54, NULL, TIMESTAMP '2017-02-22 03:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (928, 52, NULL, TIMESTAMP '2011-07-01 18:22:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (929, 42, NULL, TIMESTAMP '2016-03-28 22:38:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (930, 44, NULL, TIMESTAMP '2016-06-18 06:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (931, 41, NULL, TIMESTAMP '2013-01-14 12:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (932, 30, NULL, TIMESTAMP '2013-12-13 18:25:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (933, 41, NULL, TIMESTAMP '2013-11-06 09:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (934, 51, NULL, TIMESTAMP '2012-01-01 05:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (935, 37, NULL, TIMESTAMP '2012-08-05 16:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (936, 39, NULL, TIMESTAMP '2011-01-16 19:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (937, 43, NULL, TIMESTAMP '2018-02-11 11:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (938, 56, NULL, TIMESTAMP '2013-01-09 11:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (939, 45, NULL, TIMESTAMP '2017-01-28 02:00:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (940, 33, NULL, TIMESTAMP '2014-04-05 04:37:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (941, 5, NULL, TIMESTAMP '2015-08-24 19:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (942, 19, NULL, TIMESTAMP '2014-09-20 04:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (943, 46, NULL, TIMESTAMP '2010-02-12 18:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (944, 54, NULL, TIMESTAMP '2010-02-05 11:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (945, 43, NULL, TIMESTAMP '2015-10-02 15:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (946, 51, NULL, TIMESTAMP '2013-02-25 13:24:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (947, 54, NULL, TIMESTAMP '2014-09-10 03:18:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (948, 12, NULL, TIMESTAMP '2010-04-16 04:51:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (949, 26, NULL, TIMESTAMP '2013-09-23 02:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (950, 41, NULL, TIMESTAMP '2015-08-24 02:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (951, 57, NULL, TIMESTAMP '2015-09-23 15:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (952, 7, NULL, TIMESTAMP '2010-04-10 23:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (953, 2, NULL, TIMESTAMP '2015-08-15 10:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (954, 51, NULL, TIMESTAMP '2018-10-07 18:34:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (955, 45, NULL, TIMESTAMP '2010-08-20 03:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (956, 37, NULL, TIMESTAMP '2017-06-09 22:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (957, 20, NULL, TIMESTAMP '2012-04-10 05:27:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (958, 21, NULL, TIMESTAMP '2013-02-20 09:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (959, 51, NULL, TIMESTAMP '2015-05-17 00:31:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (960, 3, NULL, TIMESTAMP '2018-07-28 00:55:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (961, 24, NULL, TIMESTAMP '2012-04-18 14:21:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (962, 33, NULL, TIMESTAMP '2010-11-03 05:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (963, 3, NULL, TIMESTAMP '2018-10-24 12:45:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (964, 16, NULL, TIMESTAMP '2011-11-14 23:58:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (965, 45, NULL, TIMESTAMP '2012-11-02 15:43:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (966, 37, NULL, TIMESTAMP '2017-09-01 13:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (967, 17, NULL, TIMESTAMP '2011-11-07 07:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (968, 54, NULL, TIMESTAMP '2014-04-15 02:19:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (969, 40, NULL, TIMESTAMP '2017-10-13 01:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (970, 37, NULL, TIMESTAMP '2015-05-19 08:06:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (971, 49, NULL, TIMESTAMP '2017-02-03 12:02:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (972, 5, NULL, TIMESTAMP '2017-10-14 22:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (973, 26, NULL, TIMESTAMP '2011-09-16 00:54:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (974, 37, NULL, TIMESTAMP '2014-04-09 08:50:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (975, 45, NULL, TIMESTAMP '2013-10-05 03:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (976, 12, NULL, TIMESTAMP '2014-12-17 09:13:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (977, 29, NULL, TIMESTAMP '2014-04-10 00:07:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (978, 29, NULL, TIMESTAMP '2016-01-12 10:28:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (979, 55, NULL, TIMESTAMP '2013-11-15 17:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (980, 29, NULL, TIMESTAMP '2015-02-10 08:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (981, 5, NULL, TIMESTAMP '2014-01-05 00:33:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (982, 42, NULL, TIMESTAMP '2016-05-20 18:53:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (983, 59, NULL, TIMESTAMP '2010-10-05 06:29:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (984, 48, NULL, TIMESTAMP '2015-03-18 09:01:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (985, 38, NULL, TIMESTAMP '2011-01-19 03:57:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (986, 21, NULL, TIMESTAMP '2012-05-16 17:16:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (987, 26, NULL, TIMESTAMP '2010-10-14 11:49:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (988, 30, NULL, TIMESTAMP '2011-12-06 11:39:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (989, 32, NULL, TIMESTAMP '2014-01-09 13:08:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (990, 17, NULL, TIMESTAMP '2018-08-14 19:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (991, 58, NULL, TIMESTAMP '2017-09-20 20:11:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (992, 11, NULL, TIMESTAMP '2012-09-09 04:17:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (993, 28, NULL, TIMESTAMP '2011-01-19 21:15:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (994, 8, NULL, TIMESTAMP '2014-12-09 03:12:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (995, 55, NULL, TIMESTAMP '2013-10-02 09:42:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (996, 50, NULL, TIMESTAMP '2017-12-14 07:09:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (997, 59, NULL, TIMESTAMP '2015-03-21 21:05:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (998, 50, NULL, TIMESTAMP '2011-08-13 17:44:00', NULL, 'link');
+INSERT INTO ${prefix}Photos VALUES (999, 3, NULL, TIMESTAMP '2014-08-10 17:23:00', NULL, 'link');
+INSERT INTO ${prefix}Tags VALUES (1, 2, TIMESTAMP '2013-04-24 11:59:00', 99, 19);
+INSERT INTO ${prefix}Tags VALUES (1, 175, TIMESTAMP '2014-02-26 06:53:00', 56, 11);
+INSERT INTO ${prefix}Tags VALUES (1, 663, TIMESTAMP '2010-05-01 02:21:00', 49, 4);
+INSERT INTO ${prefix}Tags VALUES (3, 250, TIMESTAMP '2011-11-20 01:08:00', 72, 93);
+INSERT INTO ${prefix}Tags VALUES (3, 550, TIMESTAMP '2011-03-01 03:26:00', 71, 33);
+INSERT INTO ${prefix}Tags VALUES (3, 769, TIMESTAMP '2017-09-27 13:21:00', 10, 37);
+INSERT INTO ${prefix}Tags VALUES (4, 376, TIMESTAMP '2014-10-26 10:21:00', 93, 95);
+INSERT INTO ${prefix}Tags VALUES (4, 431, TIMESTAMP '2017-05-14 06:41:00', 70, 14);
+INSERT INTO ${prefix}Tags VALUES (4, 729, TIMESTAMP '2011-05-07 02:17:00', 84, 44);
+INSERT INTO ${prefix}Tags VALUES (5, 69, TIMESTAMP '2017-08-11 06:22:00', 54, 43);
+INSERT INTO ${prefix}Tags VALUES (5, 508, TIMESTAMP '2010-10-15 04:40:00', 84, 30);
+INSERT INTO ${prefix}Tags VALUES (5, 696, TIMESTAMP '2010-01-05 22:17:00', 43, 26);
+INSERT INTO ${prefix}Tags VALUES (6, 339, TIMESTAMP '2013-01-15 22:16:00', 70, 89);
+INSERT INTO ${prefix}Tags VALUES (7, 112, TIMESTAMP '2012-06-10 10:19:00', 15, 29);
+INSERT INTO ${prefix}Tags VALUES (7, 520, TIMESTAMP '2012-04-23 10:33:00', 88, 18);
+INSERT INTO ${prefix}Tags VALUES (8, 219, TIMESTAMP '2018-09-17 14:37:00', 23, 27);
+INSERT INTO ${prefix}Tags VALUES (8, 244, TIMESTAMP '2011-03-13 01:44:00', 48, 76);
+INSERT INTO ${prefix}Tags VALUES (8, 464, TIMESTAMP '2014-09-20 14:52:00', 40, 32);
+INSERT INTO ${prefix}Tags VALUES (8, 663, TIMESTAMP '2017-07-21 23:50:00', 30, 82);
+INSERT INTO ${prefix}Tags VALUES (9, 612, TIMESTAMP '2012-07-24 23:45:00', 0, 80);
+INSERT INTO ${prefix}Tags VALUES (9, 637, TIMESTAMP '2010-10-20 15:09:00', 59, 66);
+INSERT INTO ${prefix}Tags VALUES (10, 411, TIMESTAMP '2011-08-24 04:48:00', 86, 29);
+INSERT INTO ${prefix}Tags VALUES (12, 396, TIMESTAMP '2010-04-10 23:24:00', 27, 81);
+INSERT INTO ${prefix}Tags VALUES (13, 141, TIMESTAMP '2016-01-10 21:39:00', 1, 44);
+INSERT INTO ${prefix}Tags VALUES (13, 418, TIMESTAMP '2014-09-20 02:08:00', 23, 54);
+INSERT INTO ${prefix}Tags VALUES (14, 302, TIMESTAMP '2014-04-11 04:23:00', 5, 20);
+INSERT INTO ${prefix}Tags VALUES (15, 84, TIMESTAMP '2016-03-12 14:11:00', 37, 76);
+INSERT INTO ${prefix}Tags VALUES (15, 138, TIMESTAMP '2014-04-11 15:10:00', 19, 90);
+INSERT INTO ${prefix}Tags VALUES (15, 657, TIMESTAMP '2011-06-12 01:09:00', 17, 82);
+INSERT INTO ${prefix}Tags VALUES (16, 584, TIMESTAMP '2017-12-14 15:07:00', 46, 20);
+INSERT INTO ${prefix}Tags VALUES (18, 455, TIMESTAMP '2014-12-15 18:36:00', 2, 39);
+INSERT INTO ${prefix}Tags VALUES (19, 128, TIMESTAMP '2017-01-24 19:59:00', 8, 47);
+INSERT INTO ${prefix}Tags VALUES (19, 703, TIMESTAMP '2013-04-23 05:31:00', 4, 0);
+INSERT INTO ${prefix}Tags VALUES (19, 730, TIMESTAMP '2013-11-13 10:53:00', 35, 19);
+INSERT INTO ${prefix}Tags VALUES (20, 127, TIMESTAMP '2015-01-18 10:36:00', 96, 86);
+INSERT INTO ${prefix}Tags VALUES (20, 304, TIMESTAMP '2016-02-10 11:19:00', 32, 8);
+INSERT INTO ${prefix}Tags VALUES (21, 65, TIMESTAMP '2011-04-23 23:57:00', 17, 75);
+INSERT INTO ${prefix}Tags VALUES (21, 358, TIMESTAMP '2011-03-09 07:48:00', 84, 17);
+INSERT INTO ${prefix}Tags VALUES (21, 717, TIMESTAMP '2016-01-14 18:27:00', 11, 95);
+INSERT INTO ${prefix}Tags VALUES (22, 266, TIMESTAMP '2017-11-15 20:24:00', 57, 36);
+INSERT INTO ${prefix}Tags VALUES (23, 219, TIMESTAMP '2013-05-02 16:52:00', 42, 2);
+INSERT INTO ${prefix}Tags VALUES (23, 341, TIMESTAMP '2016-04-11 21:31:00', 100, 77);
+INSERT INTO ${prefix}Tags VALUES (24, 45, TIMESTAMP '2013-12-09 20:00:00', 52, 13);
+INSERT INTO ${prefix}Tags VALUES (24, 719, TIMESTAMP '2015-11-10 23:13:00', 2, 83);
+INSERT INTO ${prefix}Tags VALUES (25, 36, TIMESTAMP '2010-08-02 20:42:00', 40, 57);
+INSERT INTO ${prefix}Tags VALUES (25, 271, TIMESTAMP '2014-04-25 16:38:00', 38, 99);
+INSERT INTO ${prefix}Tags VALUES (25, 703, TIMESTAMP '2018-05-27 02:38:00', 56, 77);
+INSERT INTO ${prefix}Tags VALUES (26, 111, TIMESTAMP '2016-01-17 12:40:00', 85, 8);
+INSERT INTO ${prefix}Tags VALUES (27, 416, TIMESTAMP '2013-10-04 14:43:00', 20, 55);
+INSERT INTO ${prefix}Tags VALUES (28, 217, TIMESTAMP '2014-05-06 04:38:00', 52, 94);
+INSERT INTO ${prefix}Tags VALUES (28, 347, TIMESTAMP '2018-01-17 15:49:00', 84, 17);
+INSERT INTO ${prefix}Tags VALUES (28, 363, TIMESTAMP '2018-11-21 08:20:00', 85, 44);
+INSERT INTO ${prefix}Tags VALUES (28, 405, TIMESTAMP '2011-07-22 20:17:00', 16, 40);
+INSERT INTO ${prefix}Tags VALUES (29, 96, TIMESTAMP '2018-01-22 20:41:00', 20, 61);
+INSERT INTO ${prefix}Tags VALUES (29, 539, TIMESTAMP '2017-09-01 11:02:00', 14, 26);
+INSERT INTO ${prefix}Tags VALUES (29, 710, TIMESTAMP '2014-05-07 01:58:00', 38, 16);
+INSERT INTO ${prefix}Tags VALUES (30, 134, TIMESTAMP '2013-03-21 11:44:00', 74, 7);
+INSERT INTO ${prefix}Tags VALUES (30, 334, TIMESTAMP '2017-04-10 01:47:00', 83, 96);
+INSERT INTO ${prefix}Tags VALUES (30, 388, TIMESTAMP '2016-07-08 18:12:00', 88, 10);
+INSERT INTO ${prefix}Tags VALUES (31, 423, TIMESTAMP '2010-05-27 05:21:00', 8, 96);
+INSERT INTO ${prefix}Tags VALUES (31, 605, TIMESTAMP '2013-10-14 09:36:00', 24, 81);
+INSERT INTO ${prefix}Tags VALUES (32, 124, TIMESTAMP '2018-10-19 02:29:00', 80, 54);
+INSERT INTO ${prefix}Tags VALUES (32, 684, TIMESTAMP '2011-10-06 02:51:00', 84, 43);
+INSERT INTO ${prefix}Tags VALUES (33, 242, TIMESTAMP '2018-12-26 15:21:00', 24, 17);
+INSERT INTO ${prefix}Tags VALUES (33, 286, TIMESTAMP '2014-11-19 04:35:00', 95, 16);
+INSERT INTO ${prefix}Tags VALUES (35, 180, TIMESTAMP '2010-03-03 13:24:00', 97, 62);
+INSERT INTO ${prefix}Tags VALUES (35, 643, TIMESTAMP '2010-07-15 07:01:00', 75, 6);
+INSERT INTO ${prefix}Tags VALUES (35, 665, TIMESTAMP '2010-12-04 22:32:00', 79, 93);
+INSERT INTO ${prefix}Tags VALUES (36, 241, TIMESTAMP '2013-04-02 15:13:00', 64, 50);
+INSERT INTO ${prefix}Tags VALUES (36, 466, TIMESTAMP '2015-05-19 08:46:00', 36, 2);
+INSERT INTO ${prefix}Tags VALUES (36, 534, TIMESTAMP '2015-07-02 12:25:00', 65, 86);
+INSERT INTO ${prefix}Tags VALUES (36, 646, TIMESTAMP '2015-03-10 05:19:00', 20, 96);
+INSERT INTO ${prefix}Tags VALUES (37, 30, TIMESTAMP '2018-10-26 17:19:00', 9, 41);
+INSERT INTO ${prefix}Tags VALUES (37, 59, TIMESTAMP '2010-03-07 04:24:00', 52, 21);
+INSERT INTO ${prefix}Tags VALUES (37, 276, TIMESTAMP '2017-05-27 01:53:00', 40, 62);
+INSERT INTO ${prefix}Tags VALUES (37, 401, TIMESTAMP '2012-03-13 01:47:00', 24, 97);
+INSERT INTO ${prefix}Tags VALUES (38, 777, TIMESTAMP '2010-07-21 20:54:00', 94, 11);
+INSERT INTO ${prefix}Tags VALUES (39, 393, TIMESTAMP '2015-04-08 09:40:00', 97, 2);
+INSERT INTO ${prefix}Tags VALUES (41, 371, TIMESTAMP '2014-11-26 10:45:00', 45, 83);
+INSERT INTO ${prefix}Tags VALUES (41, 536, TIMESTAMP '2014-04-12 18:15:00', 81, 2);
+INSERT INTO ${prefix}Tags VALUES (41, 553, TIMESTAMP '2010-11-11 13:27:00', 23, 53);
+INSERT INTO ${prefix}Tags VALUES (42, 505, TIMESTAMP '2015-10-03 23:26:00', 62, 85);
+INSERT INTO ${prefix}Tags VALUES (42, 790, TIMESTAMP '2018-09-20 02:39:00', 24, 91);
+INSERT INTO ${prefix}Tags VALUES (44, 461, TIMESTAMP '2015-08-25 13:53:00', 60, 82);
+INSERT INTO ${prefix}Tags VALUES (45, 469, TIMESTAMP '2012-06-21 16:53:00', 33, 48);
+INSERT INTO ${prefix}Tags VALUES (45, 568, TIMESTAMP '2012-09-02 08:18:00', 41, 27);
+INSERT INTO ${prefix}Tags VALUES (46, 428, TIMESTAMP '2015-01-15 11:52:00', 99, 50);
+INSERT INTO ${prefix}Tags VALUES (46, 475, TIMESTAMP '2018-01-01 14:36:00', 29, 21);
+INSERT INTO ${prefix}Tags VALUES (46, 482, TIMESTAMP '2016-11-21 04:06:00', 85, 51);
+INSERT INTO ${prefix}Tags VALUES (47, 46, TIMESTAMP '2011-12-26 15:05:00', 90, 65);
+INSERT INTO ${prefix}Tags VALUES (47, 376, TIMESTAMP '2012-04-19 13:18:00', 6, 37);
+INSERT INTO ${prefix}Tags VALUES (47, 395, TIMESTAMP '2015-06-25 22:24:00', 20, 8);
+INSERT INTO ${prefix}Tags VALUES (47, 621, TIMESTAMP '2013-09-24 15:38:00', 24, 56);
+INSERT INTO ${prefix}Tags VALUES (48, 254, TIMESTAMP '2015-12-18 23:05:00', 61, 56);
+INSERT INTO ${prefix}Tags VALUES (48, 335, TIMESTAMP '2014-10-15 17:55:00', 80, 64);
+INSERT INTO ${prefix}Tags VALUES (48, 732, TIMESTAMP '2014-10-07 15:41:00', 57, 96);
+INSERT INTO ${prefix}Tags VALUES (49, 367, TIMESTAMP '2011-11-09 11:06:00', 44, 20);
+INSERT INTO ${prefix}Tags VALUES (49, 411, TIMESTAMP '2016-08-27 13:07:00', 51, 62);
+INSERT INTO ${prefix}Tags VALUES (49, 554, TIMESTAMP '2018-09-15 13:37:00', 37, 53);
+INSERT INTO ${prefix}Tags VALUES (50, 480, TIMESTAMP '2018-02-23 10:21:00', 67, 68);
+INSERT INTO ${prefix}Tags VALUES (50, 502, TIMESTAMP '2013-08-03 13:45:00', 27, 29);
+INSERT INTO ${prefix}Tags VALUES (50, 578, TIMESTAMP '2017-03-15 00:31:00', 71, 68);
+INSERT INTO ${prefix}Tags VALUES (51, 296, TIMESTAMP '2017-04-10 10:09:00', 23, 53);
+INSERT INTO ${prefix}Tags VALUES (51, 474, TIMESTAMP '2013-12-08 18:37:00', 72, 15);
+INSERT INTO ${prefix}Tags VALUES (52, 64, TIMESTAMP '2015-09-18 10:07:00', 51, 57);
+INSERT INTO ${prefix}Tags VALUES (53, 51, TIMESTAMP '2011-04-23 01:43:00', 82, 41);
+INSERT INTO ${prefix}Tags VALUES (53, 216, TIMESTAMP '2011-10-27 03:59:00', 32, 70);
+INSERT INTO ${prefix}Tags VALUES (54, 114, TIMESTAMP '2016-04-12 20:03:00', 72, 36);
+INSERT INTO ${prefix}Tags VALUES (54, 182, TIMESTAMP '2014-03-08 15:32:00', 87, 5);
+INSERT INTO ${prefix}Tags VALUES (54, 272, TIMESTAMP '2014-11-05 02:59:00', 50, 35);
+INSERT INTO ${prefix}Tags VALUES (55, 495, TIMESTAMP '2016-08-22 02:54:00', 6, 69);
+INSERT INTO ${prefix}Tags VALUES (56, 661, TIMESTAMP '2013-06-14 07:12:00', 81, 82);
+INSERT INTO ${prefix}Tags VALUES (57, 263, TIMESTAMP '2017-08-05 20:14:00', 8, 76);
+INSERT INTO ${prefix}Tags VALUES (57, 345, TIMESTAMP '2012-06-28 14:57:00', 30, 2);
+INSERT INTO ${prefix}Tags VALUES (57, 556, TIMESTAMP '2016-11-17 11:14:00', 5, 93);
+INSERT INTO ${prefix}Tags VALUES (58, 469, TIMESTAMP '2016-10-26 07:26:00', 74, 5);
+INSERT INTO ${prefix}Tags VALUES (58, 632, TIMESTAMP '2018-12-07 13:25:00', 82, 37);
+INSERT INTO ${prefix}Tags VALUES (58, 705, TIMESTAMP '2011-08-27 23:12:00', 32, 57);
+INSERT INTO ${prefix}Tags VALUES (59, 32, TIMESTAMP '2018-09-15 23:41:00', 80, 51);
+INSERT INTO ${prefix}Tags VALUES (60, 45, TIMESTAMP '2018-09-15 07:25:00', 80, 92);
+INSERT INTO ${prefix}Tags VALUES (60, 414, TIMESTAMP '2018-02-08 01:44:00', 68, 72);
+INSERT INTO ${prefix}Tags VALUES (60, 535, TIMESTAMP '2017-09-20 12:06:00', 20, 2);
+INSERT INTO ${prefix}Tags VALUES (61, 274, TIMESTAMP '2013-10-04 16:18:00', 100, 77);
+INSERT INTO ${prefix}Tags VALUES (61, 698, TIMESTAMP '2014-10-28 02:24:00', 11, 74);
+INSERT INTO ${prefix}Tags VALUES (62, 222, TIMESTAMP '2010-05-15 13:32:00', 35, 79);
+INSERT INTO ${prefix}Tags VALUES (62, 645, TIMESTAMP '2015-08-25 13:20:00', 71, 59);
+INSERT INTO ${prefix}Tags VALUES (63, 232, TIMESTAMP '2016-07-01 14:58:00', 44, 29);
+INSERT INTO ${prefix}Tags VALUES (63, 480, TIMESTAMP '2015-01-21 04:59:00', 92, 51);
+INSERT INTO ${prefix}Tags VALUES (64, 23, TIMESTAMP '2015-06-12 09:42:00', 77, 74);
+INSERT INTO ${prefix}Tags VALUES (64, 47, TIMESTAMP '2011-08-09 16:41:00', 14, 16);
+INSERT INTO ${prefix}Tags VALUES (64, 635, TIMESTAMP '2018-02-23 23:55:00', 51, 25);
+INSERT INTO ${prefix}Tags VALUES (65, 314, TIMESTAMP '2013-12-01 02:51:00', 12, 69);
+INSERT INTO ${prefix}Tags VALUES (65, 477, TIMESTAMP '2017-03-17 18:41:00', 6, 48);
+INSERT INTO ${prefix}Tags VALUES (65, 662, TIMESTAMP '2017-10-10 06:31:00', 15, 13);
+INSERT INTO ${prefix}Tags VALUES (66, 70, TIMESTAMP '2015-10-23 09:45:00', 65, 31);
+INSERT INTO ${prefix}Tags VALUES (66, 341, TIMESTAMP '2016-11-15 00:46:00', 35, 93);
+INSERT INTO ${prefix}Tags VALUES (68, 427, TIMESTAMP '2018-07-07 16:20:00', 86, 98);
+INSERT INTO ${prefix}Tags VALUES (68, 429, TIMESTAMP '2013-10-26 05:59:00', 0, 64);
+INSERT INTO ${prefix}Tags VALUES (69, 314, TIMESTAMP '2018-06-20 17:36:00', 81, 25);
+INSERT INTO ${prefix}Tags VALUES (70, 54, TIMESTAMP '2015-11-26 06:28:00', 89, 20);
+INSERT INTO ${prefix}Tags VALUES (70, 166, TIMESTAMP '2010-07-27 03:24:00', 93, 30);
+INSERT INTO ${prefix}Tags VALUES (71, 142, TIMESTAMP '2015-10-08 01:12:00', 66, 71);
+INSERT INTO ${prefix}Tags VALUES (71, 305, TIMESTAMP '2014-07-10 08:26:00', 94, 47);
+INSERT INTO ${prefix}Tags VALUES (71, 330, TIMESTAMP '2012-05-27 20:05:00', 14, 68);
+INSERT INTO ${prefix}Tags VALUES (72, 463, TIMESTAMP '2015-12-17 05:22:00', 42, 21);
+INSERT INTO ${prefix}Tags VALUES (73, 536, TIMESTAMP '2015-03-20 05:11:00', 18, 30);
+INSERT INTO ${prefix}Tags VALUES (73, 584, TIMESTAMP '2017-04-27 03:14:00', 67, 95);
+INSERT INTO ${prefix}Tags VALUES (74, 621, TIMESTAMP '2011-02-20 11:55:00', 50, 89);
+INSERT INTO ${prefix}Tags VALUES (74, 645, TIMESTAMP '2013-08-02 08:29:00', 93, 19);
+INSERT INTO ${prefix}Tags VALUES (74, 651, TIMESTAMP '2018-02-27 06:55:00', 73, 86);
+INSERT INTO ${prefix}Tags VALUES (74, 762, TIMESTAMP '2015-02-13 21:35:00', 57, 77);
+INSERT INTO ${prefix}Tags VALUES (75, 226, TIMESTAMP '2012-02-23 23:36:00', 10, 6);
+INSERT INTO ${prefix}Tags VALUES (75, 677, TIMESTAMP '2017-12-21 14:32:00', 75, 17);
+INSERT INTO ${prefix}Tags VALUES (75, 710, TIMESTAMP '2013-01-09 18:15:00', 59, 75);
+INSERT INTO ${prefix}Tags VALUES (76, 197, TIMESTAMP '2017-06-16 16:50:00', 14, 53);
+INSERT INTO ${prefix}Tags VALUES (76, 692, TIMESTAMP '2018-07-13 10:07:00', 46, 54);
+INSERT INTO ${prefix}Tags VALUES (76, 758, TIMESTAMP '2016-02-17 06:44:00', 27, 66);
+INSERT INTO ${prefix}Tags VALUES (77, 557, TIMESTAMP '2010-05-27 21:50:00', 41, 15);
+INSERT INTO ${prefix}Tags VALUES (77, 606, TIMESTAMP '2014-11-14 07:49:00', 58, 40);
+INSERT INTO ${prefix}Tags VALUES (78, 185, TIMESTAMP '2018-01-28 14:30:00', 4, 78);
+INSERT INTO ${prefix}Tags VALUES (78, 271, TIMESTAMP '2011-09-09 22:58:00', 3, 30);
+INSERT INTO ${prefix}Tags VALUES (79, 576, TIMESTAMP '2012-01-24 00:06:00', 5, 83);
+INSERT INTO ${prefix}Tags VALUES (79, 595, TIMESTAMP '2014-06-15 05:34:00', 72, 62);
+INSERT INTO ${prefix}Tags VALUES (79, 706, TIMESTAMP '2011-02-18 03:23:00', 92, 95);
+INSERT INTO ${prefix}Tags VALUES (80, 320, TIMESTAMP '2014-11-22 09:26:00', 23, 11);
+INSERT INTO ${prefix}Tags VALUES (80, 531, TIMESTAMP '2014-07-19 01:52:00', 8, 42);
+INSERT INTO ${prefix}Tags VALUES (80, 543, TIMESTAMP '2018-08-08 18:53:00', 81, 1);
+INSERT INTO ${prefix}Tags VALUES (80, 760, TIMESTAMP '2016-02-24 15:48:00', 34, 30);
+INSERT INTO ${prefix}Tags VALUES (81, 294, TIMESTAMP '2018-03-19 03:44:00', 78, 41);
+INSERT INTO ${prefix}Tags VALUES (82, 103, TIMESTAMP '2018-10-27 03:11:00', 54, 85);
+INSERT INTO ${prefix}Tags VALUES (82, 195, TIMESTAMP '2014-05-17 21:43:00', 99, 92);
+INSERT INTO ${prefix}Tags VALUES (82, 462, TIMESTAMP '2016-12-20 19:44:00', 46, 11);
+INSERT INTO ${prefix}Tags VALUES (82, 513, TIMESTAMP '2012-11-07 04:21:00', 94, 89);
+INSERT INTO ${prefix}Tags VALUES (83, 15, TIMESTAMP '2014-04-26 07:44:00', 89, 27);
+INSERT INTO ${prefix}Tags VALUES (83, 784, TIMESTAMP '2014-08-06 03:43:00', 1, 20);
+INSERT INTO ${prefix}Tags VALUES (84, 88, TIMESTAMP '2010-07-21 05:52:00', 35, 19);
+INSERT INTO ${prefix}Tags VALUES (84, 270, TIMESTAMP '2015-01-24 16:37:00', 47, 1);
+INSERT INTO ${prefix}Tags VALUES (85, 790, TIMESTAMP '2010-05-16 11:36:00', 75, 3);
+INSERT INTO ${prefix}Tags VALUES (86, 321, TIMESTAMP '2010-12-07 02:36:00', 3, 15);
+INSERT INTO ${prefix}Tags VALUES (86, 544, TIMESTAMP '2018-12-03 13:28:00', 49, 36);
+INSERT INTO ${prefix}Tags VALUES (87, 51, TIMESTAMP '2012-10-08 22:03:00', 22, 50);
+INSERT INTO ${prefix}Tags VALUES (87, 652, TIMESTAMP '2011-02-19 04:28:00', 38, 83);
+INSERT INTO ${prefix}Tags VALUES (88, 89, TIMESTAMP '2018-11-28 18:34:00', 100, 2);
+INSERT INTO ${prefix}Tags VALUES (88, 191, TIMESTAMP '2014-11-28 22:10:00', 76, 2);
+INSERT INTO ${prefix}Tags VALUES (88, 193, TIMESTAMP '2014-01-11 12:50:00', 9, 54);
+INSERT INTO ${prefix}Tags VALUES (88, 520, TIMESTAMP '2015-12-07 14:19:00', 61, 50);
+INSERT INTO ${prefix}Tags VALUES (89, 311, TIMESTAMP '2016-01-06 23:18:00', 47, 85);
+INSERT INTO ${prefix}Tags VALUES (90, 141, TIMESTAMP '2015-06-23 19:01:00', 45, 58);
+INSERT INTO ${prefix}Tags VALUES (90, 199, TIMESTAMP '2010-10-13 21:46:00', 45, 28);
+INSERT INTO ${prefix}Tags VALUES (90, 236, TIMESTAMP '2014-05-19 14:32:00', 6, 46);
+INSERT INTO ${prefix}Tags VALUES (90, 638, TIMESTAMP '2011-09-03 13:25:00', 41, 44);
+INSERT INTO ${prefix}Tags VALUES (91, 415, TIMESTAMP '2016-02-23 13:06:00', 36, 9);
+INSERT INTO ${prefix}Tags VALUES (91, 483, TIMESTAMP '2015-12-16 11:13:00', 93, 32);
+INSERT INTO ${prefix}Tags VALUES (91, 640, TIMESTAMP '2018-05-18 23:08:00', 99, 12);
+INSERT INTO ${prefix}Tags VALUES (91, 692, TIMESTAMP '2015-05-23 10:18:00', 7, 85);
+INSERT INTO ${prefix}Tags VALUES (92, 15, TIMESTAMP '2014-07-22 19:48:00', 84, 61);
+INSERT INTO ${prefix}Tags VALUES (92, 284, TIMESTAMP '2018-08-20 00:00:00', 1, 36);
+INSERT INTO ${prefix}Tags VALUES (93, 23, TIMESTAMP '2011-09-08 17:29:00', 94, 25);
+INSERT INTO ${prefix}Tags VALUES (93, 650, TIMESTAMP '2015-01-21 02:17:00', 27, 11);
+INSERT INTO ${prefix}Tags VALUES (94, 398, TIMESTAMP '2012-03-05 13:53:00', 57, 1);
+INSERT INTO ${prefix}Tags VALUES (94, 536, TIMESTAMP '2015-07-06 12:09:00', 51, 100);
+INSERT INTO ${prefix}Tags VALUES (94, 759, TIMESTAMP '2017-08-08 23:40:00', 39, 85);
+INSERT INTO ${prefix}Tags VALUES (95, 309, TIMESTAMP '2018-01-18 03:41:00', 95, 31);
+INSERT INTO ${prefix}Tags VALUES (95, 551, TIMESTAMP '2015-11-01 16:08:00', 67, 35);
+INSERT INTO ${prefix}Tags VALUES (95, 631, TIMESTAMP '2018-02-27 02:11:00', 46, 39);
+INSERT INTO ${prefix}Tags VALUES (97, 20, TIMESTAMP '2012-05-17 13:09:00', 94, 45);
+INSERT INTO ${prefix}Tags VALUES (98, 40, TIMESTAMP '2014-07-22 11:42:00', 37, 33);
+INSERT INTO ${prefix}Tags VALUES (98, 349, TIMESTAMP '2017-11-03 07:44:00', 95, 80);
+INSERT INTO ${prefix}Tags VALUES (98, 577, TIMESTAMP '2018-08-24 15:29:00', 85, 18);
+INSERT INTO ${prefix}Tags VALUES (99, 261, TIMESTAMP '2016-03-03 20:16:00', 70, 85);
+INSERT INTO ${prefix}Tags VALUES (99, 326, TIMESTAMP '2014-02-15 08:38:00', 32, 45);
+INSERT INTO ${prefix}Tags VALUES (99, 381, TIMESTAMP '2017-01-01 12:34:00', 47, 6);
+INSERT INTO ${prefix}Tags VALUES (99, 601, TIMESTAMP '2012-06-21 14:51:00', 0, 23);
+INSERT INTO ${prefix}Tags VALUES (100, 143, TIMESTAMP '2010-10-04 15:13:00', 90, 94);
+INSERT INTO ${prefix}Tags VALUES (100, 632, TIMESTAMP '2017-10-07 00:39:00', 70, 97);
+INSERT INTO ${prefix}Tags VALUES (101, 725, TIMESTAMP '2014-11-11 23:16:00', 52, 85);
+INSERT INTO ${prefix}Tags VALUES (102, 8, TIMESTAMP '2016-02-06 07:11:00', 70, 68);
+INSERT INTO ${prefix}Tags VALUES (102, 471, TIMESTAMP '2011-10-28 00:13:00', 81, 20);
+INSERT INTO ${prefix}Tags VALUES (102, 783, TIMESTAMP '2018-10-13 12:38:00', 9, 40);
+INSERT INTO ${prefix}Tags VALUES (103, 103, TIMESTAMP '2011-09-07 05:39:00', 50, 84);
+INSERT INTO ${prefix}Tags VALUES (103, 634, TIMESTAMP '2013-04-04 05:17:00', 25, 21);
+INSERT INTO ${prefix}Tags VALUES (105, 502, TIMESTAMP '2015-11-04 01:56:00', 97, 8);
+INSERT INTO ${prefix}Tags VALUES (105, 647, TIMESTAMP '2014-01-12 14:03:00', 33, 14);
+INSERT INTO ${prefix}Tags VALUES (105, 732, TIMESTAMP '2011-05-14 15:03:00', 3, 95);
+INSERT INTO ${prefix}Tags VALUES (105, 758, TIMESTAMP '2010-03-09 22:10:00', 47, 32);
+INSERT INTO ${prefix}Tags VALUES (106, 143, TIMESTAMP '2015-02-11 02:55:00', 17, 43);
+INSERT INTO ${prefix}Tags VALUES (106, 519, TIMESTAMP '2017-03-28 18:36:00', 78, 1);
+INSERT INTO ${prefix}Tags VALUES (106, 562, TIMESTAMP '2012-03-10 02:45:00', 28, 36);
+INSERT INTO ${prefix}Tags VALUES (106, 619, TIMESTAMP '2013-08-12 13:06:00', 37, 36);
+INSERT INTO ${prefix}Tags VALUES (107, 652, TIMESTAMP '2013-10-02 01:35:00', 53, 23);
+INSERT INTO ${prefix}Tags VALUES (108, 31, TIMESTAMP '2015-06-06 07:37:00', 55, 27);
+INSERT INTO ${prefix}Tags VALUES (108, 480, TIMESTAMP '2012-08-18 17:21:00', 32, 98);
+INSERT INTO ${prefix}Tags VALUES (108, 558, TIMESTAMP '2013-11-18 06:01:00', 41, 0);
+INSERT INTO ${prefix}Tags VALUES (108, 652, TIMESTAMP '2016-07-23 12:41:00', 26, 37);
+INSERT INTO ${prefix}Tags VALUES (109, 5, TIMESTAMP '2012-07-03 06:15:00', 100, 48);
+INSERT INTO ${prefix}Tags VALUES (109, 195, TIMESTAMP '2013-12-01 14:25:00', 31, 63);
+INSERT INTO ${prefix}Tags VALUES (109, 660, TIMESTAMP '2017-07-24 10:54:00', 5, 6);
+INSERT INTO ${prefix}Tags VALUES (109, 671, TIMESTAMP '2015-06-17 19:28:00', 87, 79);
+INSERT INTO ${prefix}Tags VALUES (110, 317, TIMESTAMP '2018-06-03 21:55:00', 10, 32);
+INSERT INTO ${prefix}Tags VALUES (110, 390, TIMESTAMP '2011-12-02 07:04:00', 85, 48);
+INSERT INTO ${prefix}Tags VALUES (110, 667, TIMESTAMP '2016-01-23 11:08:00', 58, 0);
+INSERT INTO ${prefix}Tags VALUES (110, 725, TIMESTAMP '2017-08-25 15:26:00', 21, 1);
+INSERT INTO ${prefix}Tags VALUES (112, 112, TIMESTAMP '2013-05-24 03:50:00', 95, 67);
+INSERT INTO ${prefix}Tags VALUES (112, 452, TIMESTAMP '2018-04-27 22:58:00', 31, 94);
+INSERT INTO ${prefix}Tags VALUES (113, 226, TIMESTAMP '2010-11-12 00:52:00', 19, 81);
+INSERT INTO ${prefix}Tags VALUES (113, 245, TIMESTAMP '2013-12-24 20:46:00', 52, 29);
+INSERT INTO ${prefix}Tags VALUES (113, 681, TIMESTAMP '2017-06-28 06:24:00', 45, 11);
+INSERT INTO ${prefix}Tags VALUES (114, 357, TIMESTAMP '2010-10-03 00:01:00', 90, 57);
+INSERT INTO ${prefix}Tags VALUES (114, 520, TIMESTAMP '2015-08-23 07:06:00', 21, 1);
+INSERT INTO ${prefix}Tags VALUES (115, 362, TIMESTAMP '2015-10-05 16:07:00', 57, 80);
+INSERT INTO ${prefix}Tags VALUES (115, 395, TIMESTAMP '2017-01-25 23:05:00', 45, 35);
+INSERT INTO ${prefix}Tags VALUES (115, 757, TIMESTAMP '2011-10-05 12:01:00', 41, 22);
+INSERT INTO ${prefix}Tags VALUES (116, 455, TIMESTAMP '2012-11-21 15:30:00', 24, 29);
+INSERT INTO ${prefix}Tags VALUES (117, 540, TIMESTAMP '2011-03-27 05:15:00', 13, 52);
+INSERT INTO ${prefix}Tags VALUES (118, 598, TIMESTAMP '2012-05-25 11:48:00', 11, 67);
+INSERT INTO ${prefix}Tags VALUES (119, 767, TIMESTAMP '2010-03-18 19:46:00', 17, 14);
+INSERT INTO ${prefix}Tags VALUES (120, 260, TIMESTAMP '2010-06-14 04:05:00', 54, 76);
+INSERT INTO ${prefix}Tags VALUES (120, 567, TIMESTAMP '2016-11-09 11:49:00', 74, 24);
+INSERT INTO ${prefix}Tags VALUES (121, 789, TIMESTAMP '2015-03-06 09:44:00', 82, 8);
+INSERT INTO ${prefix}Tags VALUES (122, 143, TIMESTAMP '2015-02-19 17:05:00', 75, 6);
+INSERT INTO ${prefix}Tags VALUES (122, 156, TIMESTAMP '2016-03-15 01:31:00', 91, 15);
+INSERT INTO ${prefix}Tags VALUES (122, 244, TIMESTAMP '2016-04-18 18:46:00', 95, 69);
+INSERT INTO ${prefix}Tags VALUES (123, 507, TIMESTAMP '2011-04-10 08:25:00', 50, 21);
+INSERT INTO ${prefix}Tags VALUES (123, 660, TIMESTAMP '2013-04-06 05:57:00', 95, 90);
+INSERT INTO ${prefix}Tags VALUES (123, 685, TIMESTAMP '2017-08-07 16:30:00', 93, 6);
+INSERT INTO ${prefix}Tags VALUES (124, 583, TIMESTAMP '2016-07-09 11:28:00', 24, 5);
+INSERT INTO ${prefix}Tags VALUES (124, 701, TIMESTAMP '2015-06-02 11:01:00', 97, 66);
+INSERT INTO ${prefix}Tags VALUES (125, 153, TIMESTAMP '2010-02-12 18:01:00', 64, 92);
+INSERT INTO ${prefix}Tags VALUES (125, 444, TIMESTAMP '2013-08-15 12:56:00', 98, 2);
+INSERT INTO ${prefix}Tags VALUES (125, 489, TIMESTAMP '2015-11-09 21:36:00', 9, 13);
+INSERT INTO ${prefix}Tags VALUES (125, 669, TIMESTAMP '2010-03-15 06:55:00', 3, 39);
+INSERT INTO ${prefix}Tags VALUES (126, 18, TIMESTAMP '2018-01-02 08:10:00', 96, 16);
+INSERT INTO ${prefix}Tags VALUES (126, 146, TIMESTAMP '2011-04-28 11:29:00', 23, 22);
+INSERT INTO ${prefix}Tags VALUES (126, 167, TIMESTAMP '2012-09-07 11:15:00', 35, 33);
+INSERT INTO ${prefix}Tags VALUES (126, 245, TIMESTAMP '2013-04-24 23:08:00', 29, 9);
+INSERT INTO ${prefix}Tags VALUES (127, 147, TIMESTAMP '2011-04-18 09:08:00', 14, 38);
+INSERT INTO ${prefix}Tags VALUES (127, 250, TIMESTAMP '2010-02-25 14:20:00', 84, 97);
+INSERT INTO ${prefix}Tags VALUES (127, 494, TIMESTAMP '2015-03-16 04:05:00', 28, 10);
+INSERT INTO ${prefix}Tags VALUES (128, 89, TIMESTAMP '2017-02-16 17:50:00', 91, 22);
+INSERT INTO ${prefix}Tags VALUES (128, 156, TIMESTAMP '2013-09-13 14:32:00', 58, 54);
+INSERT INTO ${prefix}Tags VALUES (128, 204, TIMESTAMP '2012-06-15 06:26:00', 100, 68);
+INSERT INTO ${prefix}Tags VALUES (129, 60, TIMESTAMP '2013-09-23 23:01:00', 73, 28);
+INSERT INTO ${prefix}Tags VALUES (129, 168, TIMESTAMP '2012-12-13 14:50:00', 15, 88);
+INSERT INTO ${prefix}Tags VALUES (129, 322, TIMESTAMP '2018-12-19 08:45:00', 33, 44);
+INSERT INTO ${prefix}Tags VALUES (129, 356, TIMESTAMP '2010-12-09 05:00:00', 99, 14);
+INSERT INTO ${prefix}Tags VALUES (131, 467, TIMESTAMP '2018-12-08 15:19:00', 12, 40);
+INSERT INTO ${prefix}Tags VALUES (132, 63, TIMESTAMP '2015-09-21 15:35:00', 10, 44);
+INSERT INTO ${prefix}Tags VALUES (133, 293, TIMESTAMP '2011-12-21 21:04:00', 9, 62);
+INSERT INTO ${prefix}Tags VALUES (133, 433, TIMESTAMP '2013-01-10 02:25:00', 9, 52);
+INSERT INTO ${prefix}Tags VALUES (133, 634, TIMESTAMP '2014-05-21 04:07:00', 88, 37);
+INSERT INTO ${prefix}Tags VALUES (134, 86, TIMESTAMP '2014-01-18 11:31:00', 53, 21);
+INSERT INTO ${prefix}Tags VALUES (135, 216, TIMESTAMP '2016-05-21 10:02:00', 25, 75);
+INSERT INTO ${prefix}Tags VALUES (135, 591, TIMESTAMP '2012-06-12 12:41:00', 52, 98);
+INSERT INTO ${prefix}Tags VALUES (136, 216, TIMESTAMP '2014-05-18 06:04:00', 4, 27);
+INSERT INTO ${prefix}Tags VALUES (136, 382, TIMESTAMP '2018-04-05 03:20:00', 22, 86);
+INSERT INTO ${prefix}Tags VALUES (136, 646, TIMESTAMP '2011-06-01 01:13:00', 50, 85);
+INSERT INTO ${prefix}Tags VALUES (136, 673, TIMESTAMP '2011-10-12 09:54:00', 97, 23);
+INSERT INTO ${prefix}Tags VALUES (137, 295, TIMESTAMP '2012-04-15 05:12:00', 13, 13);
+INSERT INTO ${prefix}Tags VALUES (137, 559, TIMESTAMP '2013-04-26 16:29:00', 93, 81);
+INSERT INTO ${prefix}Tags VALUES (137, 697, TIMESTAMP '2010-09-14 00:31:00', 18, 28);
+INSERT INTO ${prefix}Tags VALUES (138, 63, TIMESTAMP '2013-12-12 00:43:00', 62, 17);
+INSERT INTO ${prefix}Tags VALUES (138, 234, TIMESTAMP '2010-02-11 18:47:00', 79, 42);
+INSERT INTO ${prefix}Tags VALUES (138, 770, TIMESTAMP '2010-07-27 14:55:00', 96, 16);
+INSERT INTO ${prefix}Tags VALUES (138, 793, TIMESTAMP '2014-10-05 04:41:00', 77, 13);
+INSERT INTO ${prefix}Tags VALUES (139, 294, TIMESTAMP '2011-12-17 20:59:00', 26, 71);
+INSERT INTO ${prefix}Tags VALUES (141, 115, TIMESTAMP '2013-11-05 11:08:00', 83, 85);
+INSERT INTO ${prefix}Tags VALUES (141, 301, TIMESTAMP '2018-01-08 04:59:00', 47, 15);
+INSERT INTO ${prefix}Tags VALUES (141, 375, TIMESTAMP '2013-08-16 19:53:00', 38, 83);
+INSERT INTO ${prefix}Tags VALUES (141, 553, TIMESTAMP '2014-01-28 02:55:00', 76, 62);
+INSERT INTO ${prefix}Tags VALUES (142, 670, TIMESTAMP '2010-12-21 17:56:00', 95, 27);
+INSERT INTO ${prefix}Tags VALUES (142, 687, TIMESTAMP '2012-11-03 21:33:00', 78, 61);
+INSERT INTO ${prefix}Tags VALUES (142, 787, TIMESTAMP '2014-03-28 18:56:00', 80, 34);
+INSERT INTO ${prefix}Tags VALUES (143, 96, TIMESTAMP '2010-11-02 06:32:00', 34, 50);
+INSERT INTO ${prefix}Tags VALUES (143, 108, TIMESTAMP '2011-09-01 10:21:00', 77, 17);
+INSERT INTO ${prefix}Tags VALUES (145, 383, TIMESTAMP '2012-10-23 22:19:00', 3, 85);
+INSERT INTO ${prefix}Tags VALUES (147, 256, TIMESTAMP '2015-07-15 00:20:00', 25, 56);
+INSERT INTO ${prefix}Tags VALUES (147, 431, TIMESTAMP '2018-12-03 02:50:00', 22, 31);
+INSERT INTO ${prefix}Tags VALUES (148, 313, TIMESTAMP '2010-12-26 11:53:00', 82, 65);
+INSERT INTO ${prefix}Tags VALUES (148, 635, TIMESTAMP '2017-03-01 19:58:00', 11, 37);
+INSERT INTO ${prefix}Tags VALUES (148, 680, TIMESTAMP '2014-11-13 01:16:00', 55, 11);
+INSERT INTO ${prefix}Tags VALUES (149, 4, TIMESTAMP '2016-05-10 10:32:00', 10, 46);
+INSERT INTO ${prefix}Tags VALUES (150, 390, TIMESTAMP '2016-01-01 06:25:00', 28, 15);
+INSERT INTO ${prefix}Tags VALUES (151, 118, TIMESTAMP '2015-11-08 08:29:00', 72, 40);
+INSERT INTO ${prefix}Tags VALUES (151, 313, TIMESTAMP '2011-10-24 10:35:00', 48, 50);
+INSERT INTO ${prefix}Tags VALUES (151, 702, TIMESTAMP '2013-12-24 16:47:00', 91, 85);
+INSERT INTO ${prefix}Tags VALUES (151, 797, TIMESTAMP '2013-08-28 16:10:00', 39, 62);
+INSERT INTO ${prefix}Tags VALUES (152, 591, TIMESTAMP '2016-01-27 13:16:00', 26, 1);
+INSERT INTO ${prefix}Tags VALUES (153, 219, TIMESTAMP '2013-12-10 21:52:00', 28, 37);
+INSERT INTO ${prefix}Tags VALUES (153, 321, TIMESTAMP '2014-04-07 07:06:00', 88, 27);
+INSERT INTO ${prefix}Tags VALUES (155, 623, TIMESTAMP '2015-05-19 22:37:00', 54, 62);
+INSERT INTO ${prefix}Tags VALUES (156, 57, TIMESTAMP '2011-09-25 20:59:00', 9, 80);
+INSERT INTO ${prefix}Tags VALUES (156, 388, TIMESTAMP '2018-06-10 02:26:00', 75, 89);
+INSERT INTO ${prefix}Tags VALUES (156, 646, TIMESTAMP '2013-09-05 12:34:00', 82, 77);
+INSERT INTO ${prefix}Tags VALUES (157, 200, TIMESTAMP '2013-10-11 09:12:00', 76, 67);
+INSERT INTO ${prefix}Tags VALUES (157, 705, TIMESTAMP '2016-12-16 14:01:00', 43, 78);
+INSERT INTO ${prefix}Tags VALUES (158, 129, TIMESTAMP '2014-10-07 04:23:00', 44, 53);
+INSERT INTO ${prefix}Tags VALUES (158, 192, TIMESTAMP '2010-08-28 10:58:00', 69, 57);
+INSERT INTO ${prefix}Tags VALUES (158, 611, TIMESTAMP '2012-12-18 05:36:00', 14, 85);
+INSERT INTO ${prefix}Tags VALUES (159, 18, TIMESTAMP '2012-06-25 10:04:00', 32, 35);
+INSERT INTO ${prefix}Tags VALUES (159, 462, TIMESTAMP '2016-01-20 16:26:00', 32, 72);
+INSERT INTO ${prefix}Tags VALUES (159, 705, TIMESTAMP '2010-12-28 03:31:00', 34, 27);
+INSERT INTO ${prefix}Tags VALUES (160, 341, TIMESTAMP '2013-06-19 05:49:00', 15, 63);
+INSERT INTO ${prefix}Tags VALUES (160, 346, TIMESTAMP '2016-02-15 21:49:00', 42, 51);
+INSERT INTO ${prefix}Tags VALUES (160, 410, TIMESTAMP '2016-07-17 11:40:00', 88, 38);
+INSERT INTO ${prefix}Tags VALUES (161, 82, TIMESTAMP '2018-12-18 00:02:00', 86, 6);
+INSERT INTO ${prefix}Tags VALUES (161, 573, TIMESTAMP '2018-07-03 08:27:00', 91, 52);
+INSERT INTO ${prefix}Tags VALUES (162, 244, TIMESTAMP '2011-10-12 07:15:00', 33, 39);
+INSERT INTO ${prefix}Tags VALUES (162, 398, TIMESTAMP '2017-12-03 12:08:00', 80, 85);
+INSERT INTO ${prefix}Tags VALUES (162, 727, TIMESTAMP '2014-10-08 16:05:00', 67, 1);
+INSERT INTO ${prefix}Tags VALUES (162, 784, TIMESTAMP '2014-06-15 11:53:00', 100, 29);
+INSERT INTO ${prefix}Tags VALUES (163, 229, TIMESTAMP '2016-07-06 12:42:00', 87, 96);
+INSERT INTO ${prefix}Tags VALUES (164, 191, TIMESTAMP '2018-10-20 00:50:00', 61, 88);
+INSERT INTO ${prefix}Tags VALUES (164, 676, TIMESTAMP '2013-10-19 06:15:00', 50, 56);
+INSERT INTO ${prefix}Tags VALUES (164, 716, TIMESTAMP '2013-10-27 09:32:00', 81, 34);
+INSERT INTO ${prefix}Tags VALUES (164, 772, TIMESTAMP '2014-06-20 22:10:00', 53, 6);
+INSERT INTO ${prefix}Tags VALUES (165, 477, TIMESTAMP '2015-08-23 02:40:00', 40, 91);
+INSERT INTO ${prefix}Tags VALUES (166, 399, TIMESTAMP '2012-01-27 13:44:00', 73, 79);
+INSERT INTO ${prefix}Tags VALUES (166, 686, TIMESTAMP '2015-01-07 11:11:00', 98, 60);
+INSERT INTO ${prefix}Tags VALUES (167, 467, TIMESTAMP '2011-06-14 06:34:00', 7, 61);
+INSERT INTO ${prefix}Tags VALUES (167, 585, TIMESTAMP '2012-07-25 12:56:00', 12, 29);
+INSERT INTO ${prefix}Tags VALUES (168, 173, TIMESTAMP '2013-06-14 22:24:00', 30, 94);
+INSERT INTO ${prefix}Tags VALUES (168, 186, TIMESTAMP '2014-04-13 15:04:00', 93, 60);
+INSERT INTO ${prefix}Tags VALUES (168, 372, TIMESTAMP '2016-09-15 06:40:00', 60, 68);
+INSERT INTO ${prefix}Tags VALUES (169, 108, TIMESTAMP '2011-03-28 15:18:00', 67, 93);
+INSERT INTO ${prefix}Tags VALUES (169, 521, TIMESTAMP '2010-08-16 06:58:00', 58, 11);
+INSERT INTO ${prefix}Tags VALUES (169, 604, TIMESTAMP '2018-06-08 18:54:00', 35, 35);
+INSERT INTO ${prefix}Tags VALUES (170, 175, TIMESTAMP '2010-01-09 23:08:00', 36, 52);
+INSERT INTO ${prefix}Tags VALUES (170, 240, TIMESTAMP '2011-03-21 16:53:00', 81, 53);
+INSERT INTO ${prefix}Tags VALUES (170, 376, TIMESTAMP '2013-02-25 05:08:00', 1, 91);
+INSERT INTO ${prefix}Tags VALUES (171, 119, TIMESTAMP '2011-09-23 08:55:00', 19, 76);
+INSERT INTO ${prefix}Tags VALUES (171, 140, TIMESTAMP '2017-01-18 09:22:00', 54, 51);
+INSERT INTO ${prefix}Tags VALUES (171, 220, TIMESTAMP '2012-09-26 18:51:00', 25, 73);
+INSERT INTO ${prefix}Tags VALUES (171, 223, TIMESTAMP '2018-01-28 01:52:00', 88, 71);
+INSERT INTO ${prefix}Tags VALUES (172, 372, TIMESTAMP '2015-05-23 12:33:00', 23, 70);
+INSERT INTO ${prefix}Tags VALUES (172, 579, TIMESTAMP '2014-08-24 03:29:00', 59, 20);
+INSERT INTO ${prefix}Tags VALUES (172, 647, TIMESTAMP '2016-01-02 16:32:00', 79, 25);
+INSERT INTO ${prefix}Tags VALUES (173, 257, TIMESTAMP '2013-06-13 19:56:00', 55, 9);
+INSERT INTO ${prefix}Tags VALUES (173, 783, TIMESTAMP '2018-09-03 04:58:00', 62, 6);
+INSERT INTO ${prefix}Tags VALUES (174, 399, TIMESTAMP '2011-11-17 09:08:00', 2, 13);
+INSERT INTO ${prefix}Tags VALUES (175, 158, TIMESTAMP '2015-04-02 13:20:00', 58, 65);
+INSERT INTO ${prefix}Tags VALUES (175, 238, TIMESTAMP '2017-01-01 13:53:00', 94, 34);
+INSERT INTO ${prefix}Tags VALUES (175, 258, TIMESTAMP '2013-01-17 14:27:00', 29, 60);
+INSERT INTO ${prefix}Tags VALUES (176, 118, TIMESTAMP '2015-03-07 23:56:00', 58, 30);
+INSERT INTO ${prefix}Tags VALUES (176, 579, TIMESTAMP '2017-10-17 08:19:00', 15, 63);
+INSERT INTO ${prefix}Tags VALUES (176, 786, TIMESTAMP '2010-02-17 12:12:00', 13, 36);
+INSERT INTO ${prefix}Tags VALUES (177, 479, TIMESTAMP '2013-01-24 22:21:00', 100, 64);
+INSERT INTO ${prefix}Tags VALUES (177, 532, TIMESTAMP '2014-01-06 15:09:00', 91, 81);
+INSERT INTO ${prefix}Tags VALUES (177, 568, TIMESTAMP '2016-11-05 04:05:00', 32, 77);
+INSERT INTO ${prefix}Tags VALUES (178, 361, TIMESTAMP '2015-09-24 21:25:00', 57, 67);
+INSERT INTO ${prefix}Tags VALUES (178, 797, TIMESTAMP '2013-11-20 20:56:00', 41, 16);
+INSERT INTO ${prefix}Tags VALUES (180, 83, TIMESTAMP '2012-03-14 09:54:00', 61, 8);
+INSERT INTO ${prefix}Tags VALUES (180, 254, TIMESTAMP '2018-05-17 08:03:00', 77, 72);
+INSERT INTO ${prefix}Tags VALUES (180, 510, TIMESTAMP '2016-05-17 13:39:00', 66, 38);
+INSERT INTO ${prefix}Tags VALUES (181, 215, TIMESTAMP '2015-04-02 06:51:00', 9, 0);
+INSERT INTO ${prefix}Tags VALUES (181, 341, TIMESTAMP '2010-11-05 22:02:00', 96, 55);
+INSERT INTO ${prefix}Tags VALUES (181, 619, TIMESTAMP '2015-07-20 00:17:00', 65, 9);
+INSERT INTO ${prefix}Tags VALUES (182, 45, TIMESTAMP '2018-11-18 06:02:00', 59, 39);
+INSERT INTO ${prefix}Tags VALUES (185, 152, TIMESTAMP '2015-03-05 01:40:00', 52, 76);
+INSERT INTO ${prefix}Tags VALUES (185, 179, TIMESTAMP '2016-06-17 02:21:00', 0, 69);
+INSERT INTO ${prefix}Tags VALUES (185, 505, TIMESTAMP '2011-03-15 06:05:00', 87, 12);
+INSERT INTO ${prefix}Tags VALUES (186, 585, TIMESTAMP '2012-05-12 04:45:00', 68, 39);
+INSERT INTO ${prefix}Tags VALUES (187, 360, TIMESTAMP '2017-01-05 12:15:00', 44, 23);
+INSERT INTO ${prefix}Tags VALUES (188, 419, TIMESTAMP '2010-08-06 06:05:00', 47, 94);
+INSERT INTO ${prefix}Tags VALUES (188, 541, TIMESTAMP '2016-10-03 03:43:00', 98, 17);
+INSERT INTO ${prefix}Tags VALUES (189, 347, TIMESTAMP '2010-04-20 18:05:00', 1, 34);
+INSERT INTO ${prefix}Tags VALUES (189, 577, TIMESTAMP '2010-06-01 17:27:00', 99, 5);
+INSERT INTO ${prefix}Tags VALUES (189, 588, TIMESTAMP '2018-12-28 19:01:00', 41, 27);
+INSERT INTO ${prefix}Tags VALUES (189, 664, TIMESTAMP '2018-12-02 21:28:00', 73, 43);
+INSERT INTO ${prefix}Tags VALUES (190, 11, TIMESTAMP '2016-01-01 18:47:00', 96, 18);
+INSERT INTO ${prefix}Tags VALUES (190, 648, TIMESTAMP '2017-09-08 10:57:00', 85, 58);
+INSERT INTO ${prefix}Tags VALUES (190, 673, TIMESTAMP '2014-03-06 08:28:00', 92, 35);
+INSERT INTO ${prefix}Tags VALUES (190, 685, TIMESTAMP '2015-10-12 20:30:00', 52, 5);
+INSERT INTO ${prefix}Tags VALUES (191, 97, TIMESTAMP '2010-02-21 22:38:00', 26, 51);
+INSERT INTO ${prefix}Tags VALUES (191, 315, TIMESTAMP '2015-03-20 13:51:00', 79, 48);
+INSERT INTO ${prefix}Tags VALUES (192, 151, TIMESTAMP '2015-08-23 06:54:00', 56, 33);
+INSERT INTO ${prefix}Tags VALUES (192, 223, TIMESTAMP '2014-02-17 04:39:00', 45, 53);
+INSERT INTO ${prefix}Tags VALUES (192, 637, TIMESTAMP '2017-05-04 00:32:00', 4, 20);
+INSERT INTO ${prefix}Tags VALUES (193, 523, TIMESTAMP '2017-05-08 00:14:00', 14, 63);
+INSERT INTO ${prefix}Tags VALUES (194, 517, TIMESTAMP '2014-09-15 22:52:00', 89, 64);
+INSERT INTO ${prefix}Tags VALUES (194, 538, TIMESTAMP '2016-01-07 19:51:00', 98, 55);
+INSERT INTO ${prefix}Tags VALUES (194, 765, TIMESTAMP '2016-11-15 04:21:00', 62, 76);
+INSERT INTO ${prefix}Tags VALUES (195, 27, TIMESTAMP '2016-10-02 05:59:00', 89, 9);
+INSERT INTO ${prefix}Tags VALUES (195, 532, TIMESTAMP '2014-12-19 21:24:00', 39, 6);
+INSERT INTO ${prefix}Tags VALUES (195, 590, TIMESTAMP '2013-01-23 09:08:00', 55, 25);
+INSERT INTO ${prefix}Tags VALUES (195, 743, TIMESTAMP '2018-05-11 04:38:00', 100, 65);
+INSERT INTO ${prefix}Tags VALUES (196, 358, TIMESTAMP '2017-09-20 04:21:00', 22, 48);
+INSERT INTO ${prefix}Tags VALUES (196, 630, TIMESTAMP '2016-11-13 09:58:00', 47, 37);
+INSERT INTO ${prefix}Tags VALUES (196, 651, TIMESTAMP '2012-09-12 17:28:00', 95, 9);
+INSERT INTO ${prefix}Tags VALUES (197, 122, TIMESTAMP '2014-07-15 10:25:00', 0, 83);
+INSERT INTO ${prefix}Tags VALUES (197, 247, TIMESTAMP '2010-06-27 04:47:00', 99, 5);
+INSERT INTO ${prefix}Tags VALUES (197, 390, TIMESTAMP '2013-08-28 13:59:00', 55, 16);
+INSERT INTO ${prefix}Tags VALUES (198, 151, TIMESTAMP '2016-02-03 05:42:00', 92, 43);
+INSERT INTO ${prefix}Tags VALUES (198, 185, TIMESTAMP '2010-02-24 17:57:00', 43, 70);
+INSERT INTO ${prefix}Tags VALUES (198, 414, TIMESTAMP '2014-10-19 12:26:00', 16, 66);
+INSERT INTO ${prefix}Tags VALUES (198, 532, TIMESTAMP '2016-02-14 19:48:00', 0, 49);
+INSERT INTO ${prefix}Tags VALUES (199, 731, TIMESTAMP '2011-02-21 16:43:00', 27, 5);
+INSERT INTO ${prefix}Tags VALUES (201, 271, TIMESTAMP '2011-06-10 19:40:00', 72, 65);
+INSERT INTO ${prefix}Tags VALUES (202, 396, TIMESTAMP '2017-10-14 23:33:00', 79, 58);
+INSERT INTO ${prefix}Tags VALUES (202, 504, TIMESTAMP '2011-07-10 18:01:00', 16, 7);
+INSERT INTO ${prefix}Tags VALUES (202, 519, TIMESTAMP '2014-01-16 17:27:00', 92, 89);
+INSERT INTO ${prefix}Tags VALUES (203, 205, TIMESTAMP '2013-02-27 17:32:00', 98, 85);
+INSERT INTO ${prefix}Tags VALUES (203, 206, TIMESTAMP '2015-10-19 04:05:00', 84, 39);
+INSERT INTO ${prefix}Tags VALUES (203, 438, TIMESTAMP '2016-04-03 00:20:00', 37, 34);
+INSERT INTO ${prefix}Tags VALUES (203, 697, TIMESTAMP '2011-02-17 02:02:00', 73, 37);
+INSERT INTO ${prefix}Tags VALUES (204, 501, TIMESTAMP '2010-09-18 05:51:00', 33, 5);
+INSERT INTO ${prefix}Tags VALUES (204, 503, TIMESTAMP '2011-04-07 17:31:00', 53, 48);
+INSERT INTO ${prefix}Tags VALUES (204, 602, TIMESTAMP '2014-10-13 06:12:00', 46, 67);
+INSERT INTO ${prefix}Tags VALUES (204, 613, TIMESTAMP '2016-03-05 23:01:00', 72, 95);
+INSERT INTO ${prefix}Tags VALUES (205, 746, TIMESTAMP '2015-07-24 21:20:00', 73, 90);
+INSERT INTO ${prefix}Tags VALUES (207, 614, TIMESTAMP '2016-11-16 03:21:00', 27, 50);
+INSERT INTO ${prefix}Tags VALUES (208, 279, TIMESTAMP '2010-02-18 04:10:00', 40, 64);
+INSERT INTO ${prefix}Tags VALUES (208, 376, TIMESTAMP '2012-10-23 15:15:00', 35, 20);
+INSERT INTO ${prefix}Tags VALUES (208, 709, TIMESTAMP '2012-06-11 12:45:00', 78, 19);
+INSERT INTO ${prefix}Tags VALUES (209, 268, TIMESTAMP '2013-10-12 07:17:00', 26, 20);
+INSERT INTO ${prefix}Tags VALUES (209, 479, TIMESTAMP '2013-08-03 00:25:00', 13, 15);
+INSERT INTO ${prefix}Tags VALUES (211, 790, TIMESTAMP '2017-04-14 01:59:00', 69, 85);
+INSERT INTO ${prefix}Tags VALUES (212, 286, TIMESTAMP '2010-05-20 15:46:00', 94, 87);
+INSERT INTO ${prefix}Tags VALUES (212, 637, TIMESTAMP '2012-07-03 22:31:00', 18, 77);
+INSERT INTO ${prefix}Tags VALUES (212, 785, TIMESTAMP '2014-01-24 07:34:00', 92, 50);
+INSERT INTO ${prefix}Tags VALUES (213, 559, TIMESTAMP '2015-03-03 06:16:00', 97, 87);
+INSERT INTO ${prefix}Tags VALUES (214, 698, TIMESTAMP '2010-12-02 06:01:00', 52, 76);
+INSERT INTO ${prefix}Tags VALUES (215, 459, TIMESTAMP '2013-04-18 01:34:00', 37, 60);
+INSERT INTO ${prefix}Tags VALUES (215, 496, TIMESTAMP '2011-12-25 03:42:00', 40, 3);
+INSERT INTO ${prefix}Tags VALUES (215, 506, TIMESTAMP '2014-09-27 22:25:00', 98, 99);
+INSERT INTO ${prefix}Tags VALUES (216, 283, TIMESTAMP '2017-04-07 15:40:00', 87, 47);
+INSERT INTO ${prefix}Tags VALUES (216, 545, TIMESTAMP '2013-11-17 10:37:00', 54, 76);
+INSERT INTO ${prefix}Tags VALUES (216, 758, TIMESTAMP '2011-01-12 12:02:00', 8, 77);
+INSERT INTO ${prefix}Tags VALUES (217, 595, TIMESTAMP '2016-02-04 21:14:00', 45, 40);
+INSERT INTO ${prefix}Tags VALUES (219, 78, TIMESTAMP '2018-05-13 23:53:00', 25, 95);
+INSERT INTO ${prefix}Tags VALUES (219, 545, TIMESTAMP '2017-12-11 12:45:00', 69, 5);
+INSERT INTO ${prefix}Tags VALUES (219, 721, TIMESTAMP '2018-10-22 03:27:00', 51, 97);
+INSERT INTO ${prefix}Tags VALUES (220, 232, TIMESTAMP '2016-07-15 17:27:00', 57, 72);
+INSERT INTO ${prefix}Tags VALUES (220, 689, TIMESTAMP '2012-01-12 11:39:00', 10, 45);
+INSERT INTO ${prefix}Tags VALUES (220, 798, TIMESTAMP '2018-10-16 12:58:00', 35, 88);
+INSERT INTO ${prefix}Tags VALUES (221, 31, TIMESTAMP '2018-08-26 13:30:00', 71, 100);
+INSERT INTO ${prefix}Tags VALUES (221, 70, TIMESTAMP '2016-11-27 04:09:00', 96, 65);
+INSERT INTO ${prefix}Tags VALUES (221, 155, TIMESTAMP '2012-02-10 16:48:00', 41, 2);
+INSERT INTO ${prefix}Tags VALUES (222, 699, TIMESTAMP '2013-12-01 21:35:00', 62, 72);
+INSERT INTO ${prefix}Tags VALUES (223, 448, TIMESTAMP '2012-03-23 12:03:00', 89, 53);
+INSERT INTO ${prefix}Tags VALUES (224, 117, TIMESTAMP '2011-09-16 22:44:00', 21, 76);
+INSERT INTO ${prefix}Tags VALUES (224, 291, TIMESTAMP '2012-01-14 03:38:00', 13, 86);
+INSERT INTO ${prefix}Tags VALUES (225, 429, TIMESTAMP '2016-10-25 04:31:00', 47, 28);
+INSERT INTO ${prefix}Tags VALUES (225, 609, TIMESTAMP '2016-06-18 09:52:00', 66, 33);
+INSERT INTO ${prefix}Tags VALUES (226, 170, TIMESTAMP '2015-04-16 09:52:00', 83, 21);
+INSERT INTO ${prefix}Tags VALUES (227, 454, TIMESTAMP '2014-03-21 18:26:00', 37, 32);
+INSERT INTO ${prefix}Tags VALUES (227, 536, TIMESTAMP '2018-04-19 06:11:00', 97, 95);
+INSERT INTO ${prefix}Tags VALUES (228, 183, TIMESTAMP '2014-10-10 10:23:00', 82, 63);
+INSERT INTO ${prefix}Tags VALUES (229, 169, TIMESTAMP '2010-01-17 19:06:00', 37, 25);
+INSERT INTO ${prefix}Tags VALUES (229, 476, TIMESTAMP '2011-01-06 22:22:00', 90, 36);
+INSERT INTO ${prefix}Tags VALUES (229, 495, TIMESTAMP '2014-11-24 01:37:00', 100, 15);
+INSERT INTO ${prefix}Tags VALUES (231, 128, TIMESTAMP '2016-08-13 20:56:00', 36, 41);
+INSERT INTO ${prefix}Tags VALUES (231, 569, TIMESTAMP '2014-09-26 16:56:00', 53, 64);
+INSERT INTO ${prefix}Tags VALUES (232, 12, TIMESTAMP '2017-03-18 18:47:00', 88, 91);
+INSERT INTO ${prefix}Tags VALUES (232, 436, TIMESTAMP '2010-09-20 14:45:00', 15, 39);
+INSERT INTO ${prefix}Tags VALUES (233, 245, TIMESTAMP '2012-11-18 15:38:00', 16, 91);
+INSERT INTO ${prefix}Tags VALUES (233, 473, TIMESTAMP '2015-09-11 18:56:00', 61, 50);
+INSERT INTO ${prefix}Tags VALUES (234, 433, TIMESTAMP '2015-03-09 20:56:00', 41, 25);
+INSERT INTO ${prefix}Tags VALUES (234, 699, TIMESTAMP '2012-02-13 10:05:00', 17, 80);
+INSERT INTO ${prefix}Tags VALUES (234, 740, TIMESTAMP '2011-03-11 10:01:00', 53, 23);
+INSERT INTO ${prefix}Tags VALUES (234, 758, TIMESTAMP '2012-09-20 01:06:00', 21, 97);
+INSERT INTO ${prefix}Tags VALUES (235, 33, TIMESTAMP '2015-05-10 07:33:00', 31, 82);
+INSERT INTO ${prefix}Tags VALUES (235, 70, TIMESTAMP '2017-03-26 15:42:00', 85, 53);
+INSERT INTO ${prefix}Tags VALUES (235, 383, TIMESTAMP '2018-09-26 10:45:00', 63, 75);
+INSERT INTO ${prefix}Tags VALUES (236, 38, TIMESTAMP '2017-01-12 00:38:00', 79, 65);
+INSERT INTO ${prefix}Tags VALUES (236, 366, TIMESTAMP '2012-11-12 06:31:00', 13, 15);
+INSERT INTO ${prefix}Tags VALUES (236, 462, TIMESTAMP '2015-05-21 17:33:00', 10, 5);
+INSERT INTO ${prefix}Tags VALUES (237, 353, TIMESTAMP '2010-06-21 23:34:00', 84, 26);
+INSERT INTO ${prefix}Tags VALUES (237, 655, TIMESTAMP '2018-03-25 03:03:00', 77, 18);
+INSERT INTO ${prefix}Tags VALUES (237, 781, TIMESTAMP '2018-08-20 18:02:00', 22, 99);
+INSERT INTO ${prefix}Tags VALUES (238, 432, TIMESTAMP '2013-06-27 00:30:00', 18, 46);
+INSERT INTO ${prefix}Tags VALUES (238, 725, TIMESTAMP '2017-06-12 05:47:00', 90, 99);
+INSERT INTO ${prefix}Tags VALUES (239, 308, TIMESTAMP '2012-06-18 07:13:00', 38, 21);
+INSERT INTO ${prefix}Tags VALUES (239, 510, TIMESTAMP '2016-02-27 06:38:00', 34, 13);
+INSERT INTO ${prefix}Tags VALUES (239, 702, TIMESTAMP '2017-03-19 07:49:00', 48, 54);
+INSERT INTO ${prefix}Tags VALUES (241, 799, TIMESTAMP '2010-08-01 01:31:00', 59, 18);
+INSERT INTO ${prefix}Tags VALUES (242, 332, TIMESTAMP '2011-09-12 13:33:00', 50, 87);
+INSERT INTO ${prefix}Tags VALUES (242, 697, TIMESTAMP '2014-03-13 22:56:00', 3, 91);
+INSERT INTO ${prefix}Tags VALUES (243, 302, TIMESTAMP '2010-12-28 16:41:00', 37, 61);
+INSERT INTO ${prefix}Tags VALUES (243, 764, TIMESTAMP '2015-01-10 16:01:00', 48, 75);
+INSERT INTO ${prefix}Tags VALUES (244, 216, TIMESTAMP '2013-04-10 07:19:00', 31, 91);
+INSERT INTO ${prefix}Tags VALUES (246, 585, TIMESTAMP '2017-02-01 14:52:00', 36, 90);
+INSERT INTO ${prefix}Tags VALUES (247, 138, TIMESTAMP '2017-01-21 01:53:00', 98, 92);
+INSERT INTO ${prefix}Tags VALUES (247, 318, TIMESTAMP '2016-02-16 00:04:00', 73, 17);
+INSERT INTO ${prefix}Tags VALUES (248, 388, TIMESTAMP '2011-10-10 14:15:00', 31, 44);
+INSERT INTO ${prefix}Tags VALUES (248, 459, TIMESTAMP '2017-06-11 01:58:00', 63, 91);
+INSERT INTO ${prefix}Tags VALUES (248, 578, TIMESTAMP '2010-10-11 07:03:00', 58, 60);
+INSERT INTO ${prefix}Tags VALUES (251, 423, TIMESTAMP '2013-09-04 07:31:00', 63, 27);
+INSERT INTO ${prefix}Tags VALUES (251, 739, TIMESTAMP '2014-09-19 21:46:00', 27, 96);
+INSERT INTO ${prefix}Tags VALUES (252, 153, TIMESTAMP '2017-04-04 18:56:00', 41, 56);
+INSERT INTO ${prefix}Tags VALUES (252, 273, TIMESTAMP '2018-12-13 21:08:00', 65, 34);
+INSERT INTO ${prefix}Tags VALUES (252, 334, TIMESTAMP '2015-10-14 14:35:00', 60, 70);
+INSERT INTO ${prefix}Tags VALUES (253, 18, TIMESTAMP '2014-07-07 13:36:00', 36, 20);
+INSERT INTO ${prefix}Tags VALUES (253, 416, TIMESTAMP '2010-12-10 22:09:00', 50, 24);
+INSERT INTO ${prefix}Tags VALUES (253, 518, TIMESTAMP '2012-06-20 09:03:00', 4, 72);
+INSERT INTO ${prefix}Tags VALUES (254, 61, TIMESTAMP '2012-07-04 23:55:00', 45, 86);
+INSERT INTO ${prefix}Tags VALUES (254, 795, TIMESTAMP '2011-09-04 20:27:00', 63, 68);
+INSERT INTO ${prefix}Tags VALUES (255, 462, TIMESTAMP '2013-12-12 15:47:00', 71, 80);
+INSERT INTO ${prefix}Tags VALUES (258, 43, TIMESTAMP '2016-10-27 15:15:00', 30, 61);
+INSERT INTO ${prefix}Tags VALUES (259, 283, TIMESTAMP '2013-01-03 20:36:00', 15, 13);
+INSERT INTO ${prefix}Tags VALUES (259, 381, TIMESTAMP '2010-04-19 13:04:00', 47, 24);
+INSERT INTO ${prefix}Tags VALUES (259, 393, TIMESTAMP '2015-10-18 18:21:00', 93, 75);
+INSERT INTO ${prefix}Tags VALUES (259, 629, TIMESTAMP '2011-12-28 20:36:00', 11, 33);
+INSERT INTO ${prefix}Tags VALUES (260, 43, TIMESTAMP '2017-07-08 21:04:00', 0, 55);
+INSERT INTO ${prefix}Tags VALUES (260, 224, TIMESTAMP '2014-03-10 23:28:00', 44, 65);
+INSERT INTO ${prefix}Tags VALUES (260, 589, TIMESTAMP '2014-11-13 02:04:00', 29, 7);
+INSERT INTO ${prefix}Tags VALUES (262, 457, TIMESTAMP '2016-07-15 01:59:00', 95, 61);
+INSERT INTO ${prefix}Tags VALUES (262, 750, TIMESTAMP '2013-09-14 15:57:00', 58, 74);
+INSERT INTO ${prefix}Tags VALUES (263, 71, TIMESTAMP '2016-11-03 20:40:00', 81, 26);
+INSERT INTO ${prefix}Tags VALUES (263, 299, TIMESTAMP '2016-09-02 22:06:00', 14, 3);
+INSERT INTO ${prefix}Tags VALUES (263, 306, TIMESTAMP '2011-08-18 17:34:00', 86, 45);
+INSERT INTO ${prefix}Tags VALUES (263, 701, TIMESTAMP '2016-07-08 14:17:00', 97, 61);
+INSERT INTO ${prefix}Tags VALUES (264, 530, TIMESTAMP '2012-07-02 11:58:00', 32, 93);
+INSERT INTO ${prefix}Tags VALUES (264, 616, TIMESTAMP '2012-11-28 16:55:00', 34, 44);
+INSERT INTO ${prefix}Tags VALUES (265, 761, TIMESTAMP '2013-06-03 05:12:00', 63, 74);
+INSERT INTO ${prefix}Tags VALUES (266, 367, TIMESTAMP '2015-07-17 14:30:00', 45, 20);
+INSERT INTO ${prefix}Tags VALUES (266, 715, TIMESTAMP '2016-03-11 16:19:00', 58, 29);
+INSERT INTO ${prefix}Tags VALUES (267, 299, TIMESTAMP '2014-06-04 22:08:00', 90, 15);
+INSERT INTO ${prefix}Tags VALUES (267, 671, TIMESTAMP '2016-12-10 07:34:00', 42, 43);
+INSERT INTO ${prefix}Tags VALUES (268, 436, TIMESTAMP '2012-11-14 07:39:00', 92, 98);
+INSERT INTO ${prefix}Tags VALUES (269, 119, TIMESTAMP '2012-03-12 12:12:00', 56, 68);
+INSERT INTO ${prefix}Tags VALUES (270, 471, TIMESTAMP '2015-02-15 17:30:00', 2, 80);
+INSERT INTO ${prefix}Tags VALUES (271, 477, TIMESTAMP '2015-05-04 02:16:00', 97, 74);
+INSERT INTO ${prefix}Tags VALUES (271, 523, TIMESTAMP '2018-03-18 07:36:00', 93, 91);
+INSERT INTO ${prefix}Tags VALUES (271, 617, TIMESTAMP '2014-10-25 21:22:00', 61, 56);
+INSERT INTO ${prefix}Tags VALUES (272, 251, TIMESTAMP '2010-07-02 21:11:00', 14, 1);
+INSERT INTO ${prefix}Tags VALUES (272, 293, TIMESTAMP '2010-06-05 19:56:00', 3, 71);
+INSERT INTO ${prefix}Tags VALUES (272, 419, TIMESTAMP '2015-01-17 13:03:00', 46, 96);
+INSERT INTO ${prefix}Tags VALUES (272, 469, TIMESTAMP '2012-11-08 17:34:00', 18, 78);
+INSERT INTO ${prefix}Tags VALUES (273, 370, TIMESTAMP '2012-02-08 20:19:00', 93, 68);
+INSERT INTO ${prefix}Tags VALUES (273, 771, TIMESTAMP '2015-09-25 01:12:00', 97, 60);
+INSERT INTO ${prefix}Tags VALUES (274, 176, TIMESTAMP '2018-10-12 22:06:00', 95, 47);
+INSERT INTO ${prefix}Tags VALUES (275, 38, TIMESTAMP '2011-06-10 23:08:00', 76, 6);
+INSERT INTO ${prefix}Tags VALUES (275, 498, TIMESTAMP '2011-06-06 05:23:00', 84, 44);
+INSERT INTO ${prefix}Tags VALUES (276, 785, TIMESTAMP '2013-12-04 01:29:00', 55, 72);
+INSERT INTO ${prefix}Tags VALUES (279, 0, TIMESTAMP '2013-06-07 11:12:00', 38, 74);
+INSERT INTO ${prefix}Tags VALUES (279, 704, TIMESTAMP '2014-10-16 14:04:00', 45, 87);
+INSERT INTO ${prefix}Tags VALUES (280, 416, TIMESTAMP '2016-01-23 20:45:00', 45, 31);
+INSERT INTO ${prefix}Tags VALUES (280, 788, TIMESTAMP '2014-04-08 04:21:00', 95, 50);
+INSERT INTO ${prefix}Tags VALUES (281, 1, TIMESTAMP '2012-09-12 04:42:00', 57, 58);
+INSERT INTO ${prefix}Tags VALUES (281, 92, TIMESTAMP '2015-05-02 01:38:00', 48, 5);
+INSERT INTO ${prefix}Tags VALUES (281, 199, TIMESTAMP '2013-06-25 18:56:00', 0, 43);
+INSERT INTO ${prefix}Tags VALUES (281, 335, TIMESTAMP '2015-06-10 02:17:00', 19, 84);
+INSERT INTO ${prefix}Tags VALUES (282, 178, TIMESTAMP '2018-03-03 17:58:00', 76, 29);
+INSERT INTO ${prefix}Tags VALUES (283, 358, TIMESTAMP '2012-02-21 12:17:00', 10, 8);
+INSERT INTO ${prefix}Tags VALUES (283, 530, TIMESTAMP '2012-03-16 13:16:00', 81, 40);
+INSERT INTO ${prefix}Tags VALUES (284, 264, TIMESTAMP '2014-11-15 16:54:00', 54, 73);
+INSERT INTO ${prefix}Tags VALUES (285, 640, TIMESTAMP '2016-04-15 07:41:00', 80, 63);
+INSERT INTO ${prefix}Tags VALUES (285, 643, TIMESTAMP '2013-11-02 14:29:00', 19, 70);
+INSERT INTO ${prefix}Tags VALUES (287, 154, TIMESTAMP '2013-02-04 09:24:00', 72, 58);
+INSERT INTO ${prefix}Tags VALUES (287, 364, TIMESTAMP '2012-01-21 23:00:00', 37, 21);
+INSERT INTO ${prefix}Tags VALUES (287, 377, TIMESTAMP '2012-03-02 01:32:00', 98, 77);
+INSERT INTO ${prefix}Tags VALUES (288, 645, TIMESTAMP '2010-07-05 02:37:00', 1, 98);
+INSERT INTO ${prefix}Tags VALUES (289, 462, TIMESTAMP '2015-01-10 11:26:00', 74, 77);
+INSERT INTO ${prefix}Tags VALUES (290, 344, TIMESTAMP '2010-10-05 16:44:00', 34, 35);
+INSERT INTO ${prefix}Tags VALUES (290, 595, TIMESTAMP '2017-10-13 18:46:00', 68, 52);
+INSERT INTO ${prefix}Tags VALUES (291, 62, TIMESTAMP '2015-10-04 23:48:00', 18, 36);
+INSERT INTO ${prefix}Tags VALUES (292, 524, TIMESTAMP '2012-07-14 20:18:00', 53, 3);
+INSERT INTO ${prefix}Tags VALUES (293, 397, TIMESTAMP '2014-08-01 18:15:00', 38, 97);
+INSERT INTO ${prefix}Tags VALUES (293, 572, TIMESTAMP '2010-01-09 03:07:00', 71, 6);
+INSERT INTO ${prefix}Tags VALUES (294, 300, TIMESTAMP '2013-02-13 14:05:00', 18, 49);
+INSERT INTO ${prefix}Tags VALUES (294, 394, TIMESTAMP '2016-05-23 17:28:00', 71, 42);
+INSERT INTO ${prefix}Tags VALUES (294, 513, TIMESTAMP '2015-12-09 04:46:00', 51, 73);
+INSERT INTO ${prefix}Tags VALUES (294, 562, TIMESTAMP '2015-12-06 07:07:00', 57, 29);
+INSERT INTO ${prefix}Tags VALUES (295, 282, TIMESTAMP '2015-06-28 05:49:00', 79, 13);
+INSERT INTO ${prefix}Tags VALUES (297, 139, TIMESTAMP '2014-12-11 15:14:00', 21, 68);
+INSERT INTO ${prefix}Tags VALUES (297, 746, TIMESTAMP '2011-01-19 19:54:00', 100, 98);
+INSERT INTO ${prefix}Tags VALUES (297, 771, TIMESTAMP '2017-03-08 06:03:00', 56, 85);
+INSERT INTO ${prefix}Tags VALUES (298, 754, TIMESTAMP '2016-10-23 01:28:00', 98, 16);
+INSERT INTO ${prefix}Tags VALUES (300, 66, TIMESTAMP '2013-11-02 02:40:00', 88, 9);
+INSERT INTO ${prefix}Tags VALUES (300, 369, TIMESTAMP '2017-03-16 16:48:00', 19, 28);
+INSERT INTO ${prefix}Tags VALUES (300, 566, TIMESTAMP '2010-09-15 01:00:00', 77, 79);
+INSERT INTO ${prefix}Tags VALUES (300, 705, TIMESTAMP '2018-07-13 21:56:00', 74, 96);
+INSERT INTO ${prefix}Tags VALUES (301, 411, TIMESTAMP '2011-08-06 21:46:00', 66, 22);
+INSERT INTO ${prefix}Tags VALUES (301, 654, TIMESTAMP '2013-07-16 22:06:00', 61, 47);
+INSERT INTO ${prefix}Tags VALUES (302, 712, TIMESTAMP '2011-01-13 02:24:00', 76, 33);
+INSERT INTO ${prefix}Tags VALUES (303, 319, TIMESTAMP '2017-02-20 17:19:00', 91, 5);
+INSERT INTO ${prefix}Tags VALUES (303, 419, TIMESTAMP '2017-10-21 23:56:00', 6, 28);
+INSERT INTO ${prefix}Tags VALUES (304, 239, TIMESTAMP '2014-08-15 14:09:00', 69, 89);
+INSERT INTO ${prefix}Tags VALUES (304, 369, TIMESTAMP '2010-02-05 22:34:00', 24, 84);
+INSERT INTO ${prefix}Tags VALUES (305, 38, TIMESTAMP '2012-12-28 12:59:00', 53, 1);
+INSERT INTO ${prefix}Tags VALUES (305, 39, TIMESTAMP '2014-10-07 15:43:00', 89, 72);
+INSERT INTO ${prefix}Tags VALUES (305, 405, TIMESTAMP '2012-02-27 07:02:00', 61, 30);
+INSERT INTO ${prefix}Tags VALUES (306, 141, TIMESTAMP '2012-02-06 13:44:00', 49, 37);
+INSERT INTO ${prefix}Tags VALUES (306, 154, TIMESTAMP '2016-11-10 05:24:00', 59, 2);
+INSERT INTO ${prefix}Tags VALUES (306, 780, TIMESTAMP '2015-05-15 21:56:00', 100, 81);
+INSERT INTO ${prefix}Tags VALUES (307, 352, TIMESTAMP '2010-03-16 02:51:00', 71, 36);
+INSERT INTO ${prefix}Tags VALUES (308, 516, TIMESTAMP '2018-06-18 05:07:00', 15, 14);
+INSERT INTO ${prefix}Tags VALUES (309, 197, TIMESTAMP '2014-09-25 22:40:00', 71, 79);
+INSERT INTO ${prefix}Tags VALUES (309, 435, TIMESTAMP '2011-04-14 20:53:00', 55, 1);
+INSERT INTO ${prefix}Tags VALUES (309, 530, TIMESTAMP '2014-02-25 02:20:00', 78, 41);
+INSERT INTO ${prefix}Tags VALUES (310, 161, TIMESTAMP '2010-02-13 00:56:00', 60, 34);
+INSERT INTO ${prefix}Tags VALUES (310, 536, TIMESTAMP '2016-11-06 17:50:00', 28, 58);
+INSERT INTO ${prefix}Tags VALUES (310, 577, TIMESTAMP '2011-12-26 21:56:00', 39, 36);
+INSERT INTO ${prefix}Tags VALUES (310, 797, TIMESTAMP '2013-03-19 11:17:00', 63, 11);
+INSERT INTO ${prefix}Tags VALUES (312, 376, TIMESTAMP '2014-11-14 14:39:00', 88, 72);
+INSERT INTO ${prefix}Tags VALUES (312, 382, TIMESTAMP '2011-10-02 13:11:00', 87, 38);
+INSERT INTO ${prefix}Tags VALUES (312, 488, TIMESTAMP '2010-04-06 03:51:00', 82, 29);
+INSERT INTO ${prefix}Tags VALUES (313, 1, TIMESTAMP '2016-04-26 21:23:00', 99, 18);
+INSERT INTO ${prefix}Tags VALUES (313, 143, TIMESTAMP '2015-08-09 02:00:00', 37, 76);
+INSERT INTO ${prefix}Tags VALUES (314, 46, TIMESTAMP '2011-05-07 21:55:00', 48, 56);
+INSERT INTO ${prefix}Tags VALUES (314, 149, TIMESTAMP '2018-10-02 12:30:00', 85, 44);
+INSERT INTO ${prefix}Tags VALUES (314, 170, TIMESTAMP '2014-07-18 18:52:00', 25, 57);
+INSERT INTO ${prefix}Tags VALUES (315, 306, TIMESTAMP '2011-07-15 22:19:00', 4, 58);
+INSERT INTO ${prefix}Tags VALUES (315, 415, TIMESTAMP '2010-01-16 13:03:00', 46, 21);
+INSERT INTO ${prefix}Tags VALUES (316, 614, TIMESTAMP '2016-09-17 01:35:00', 42, 44);
+INSERT INTO ${prefix}Tags VALUES (316, 765, TIMESTAMP '2012-12-27 14:34:00', 9, 95);
+INSERT INTO ${prefix}Tags VALUES (317, 265, TIMESTAMP '2017-05-10 17:19:00', 81, 54);
+INSERT INTO ${prefix}Tags VALUES (319, 585, TIMESTAMP '2016-09-25 09:01:00', 93, 10);
+INSERT INTO ${prefix}Tags VALUES (321, 66, TIMESTAMP '2014-10-03 20:17:00', 91, 96);
+INSERT INTO ${prefix}Tags VALUES (321, 647, TIMESTAMP '2016-09-14 00:06:00', 47, 2);
+INSERT INTO ${prefix}Tags VALUES (322, 2, TIMESTAMP '2011-12-11 19:19:00', 96, 75);
+INSERT INTO ${prefix}Tags VALUES (322, 271, TIMESTAMP '2018-03-13 21:17:00', 58, 93);
+INSERT INTO ${prefix}Tags VALUES (322, 384, TIMESTAMP '2011-02-02 02:32:00', 53, 47);
+INSERT INTO ${prefix}Tags VALUES (324, 74, TIMESTAMP '2015-10-22 05:49:00', 67, 1);
+INSERT INTO ${prefix}Tags VALUES (324, 595, TIMESTAMP '2016-11-12 17:03:00', 39, 27);
+INSERT INTO ${prefix}Tags VALUES (324, 694, TIMESTAMP '2010-07-23 08:18:00', 7, 43);
+INSERT INTO ${prefix}Tags VALUES (325, 16, TIMESTAMP '2013-05-05 03:20:00', 14, 74);
+INSERT INTO ${prefix}Tags VALUES (325, 327, TIMESTAMP '2014-12-07 04:56:00', 75, 46);
+INSERT INTO ${prefix}Tags VALUES (326, 170, TIMESTAMP '2014-08-02 07:52:00', 4, 81);
+INSERT INTO ${prefix}Tags VALUES (326, 330, TIMESTAMP '2018-12-26 11:51:00', 54, 90);
+INSERT INTO ${prefix}Tags VALUES (326, 337, TIMESTAMP '2015-12-27 07:25:00', 68, 59);
+INSERT INTO ${prefix}Tags VALUES (326, 549, TIMESTAMP '2017-05-26 11:42:00', 50, 98);
+INSERT INTO ${prefix}Tags VALUES (328, 74, TIMESTAMP '2018-11-22 23:46:00', 8, 50);
+INSERT INTO ${prefix}Tags VALUES (328, 769, TIMESTAMP '2015-05-26 15:43:00', 99, 56);
+INSERT INTO ${prefix}Tags VALUES (329, 9, TIMESTAMP '2014-12-15 13:53:00', 80, 93);
+INSERT INTO ${prefix}Tags VALUES (330, 527, TIMESTAMP '2010-05-10 11:49:00', 6, 88);
+INSERT INTO ${prefix}Tags VALUES (331, 238, TIMESTAMP '2016-07-17 12:55:00', 96, 7);
+INSERT INTO ${prefix}Tags VALUES (331, 691, TIMESTAMP '2014-07-28 02:13:00', 56, 84);
+INSERT INTO ${prefix}Tags VALUES (332, 197, TIMESTAMP '2012-12-02 13:52:00', 24, 89);
+INSERT INTO ${prefix}Tags VALUES (333, 14, TIMESTAMP '2018-01-13 10:14:00', 49, 30);
+INSERT INTO ${prefix}Tags VALUES (333, 285, TIMESTAMP '2011-10-23 16:26:00', 43, 70);
+INSERT INTO ${prefix}Tags VALUES (333, 378, TIMESTAMP '2018-07-28 01:05:00', 42, 47);
+INSERT INTO ${prefix}Tags VALUES (334, 490, TIMESTAMP '2017-11-05 12:54:00', 48, 90);
+INSERT INTO ${prefix}Tags VALUES (334, 499, TIMESTAMP '2013-07-04 21:30:00', 33, 46);
+INSERT INTO ${prefix}Tags VALUES (335, 336, TIMESTAMP '2010-03-15 15:34:00', 81, 40);
+INSERT INTO ${prefix}Tags VALUES (335, 373, TIMESTAMP '2010-12-02 13:30:00', 50, 93);
+INSERT INTO ${prefix}Tags VALUES (336, 25, TIMESTAMP '2012-10-23 21:42:00', 50, 2);
+INSERT INTO ${prefix}Tags VALUES (336, 267, TIMESTAMP '2013-08-13 16:24:00', 93, 74);
+INSERT INTO ${prefix}Tags VALUES (336, 524, TIMESTAMP '2014-06-13 22:23:00', 67, 72);
+INSERT INTO ${prefix}Tags VALUES (336, 727, TIMESTAMP '2018-05-11 17:52:00', 1, 33);
+INSERT INTO ${prefix}Tags VALUES (337, 389, TIMESTAMP '2016-01-14 05:17:00', 98, 37);
+INSERT INTO ${prefix}Tags VALUES (337, 578, TIMESTAMP '2015-04-10 12:03:00', 7, 1);
+INSERT INTO ${prefix}Tags VALUES (337, 727, TIMESTAMP '2017-04-13 19:08:00', 40, 34);
+INSERT INTO ${prefix}Tags VALUES (337, 763, TIMESTAMP '2011-08-13 13:52:00', 89, 23);
+INSERT INTO ${prefix}Tags VALUES (338, 244, TIMESTAMP '2011-02-22 04:30:00', 67, 61);
+INSERT INTO ${prefix}Tags VALUES (338, 385, TIMESTAMP '2015-08-27 10:33:00', 59, 44);
+INSERT INTO ${prefix}Tags VALUES (338, 777, TIMESTAMP '2017-04-27 10:33:00', 37, 39);
+INSERT INTO ${prefix}Tags VALUES (339, 50, TIMESTAMP '2018-02-28 17:10:00', 65, 64);
+INSERT INTO ${prefix}Tags VALUES (339, 387, TIMESTAMP '2011-06-20 03:22:00', 7, 30);
+INSERT INTO ${prefix}Tags VALUES (339, 711, TIMESTAMP '2016-01-04 03:40:00', 81, 83);
+INSERT INTO ${prefix}Tags VALUES (339, 752, TIMESTAMP '2016-12-26 06:38:00', 29, 49);
+INSERT INTO ${prefix}Tags VALUES (341, 334, TIMESTAMP '2013-05-15 08:01:00', 27, 34);
+INSERT INTO ${prefix}Tags VALUES (341, 430, TIMESTAMP '2014-08-17 05:39:00', 83, 69);
+INSERT INTO ${prefix}Tags VALUES (341, 512, TIMESTAMP '2014-03-01 12:31:00', 44, 94);
+INSERT INTO ${prefix}Tags VALUES (341, 599, TIMESTAMP '2012-03-03 10:23:00', 26, 68);
+INSERT INTO ${prefix}Tags VALUES (342, 549, TIMESTAMP '2010-07-05 05:29:00', 31, 79);
+INSERT INTO ${prefix}Tags VALUES (343, 133, TIMESTAMP '2015-11-11 03:19:00', 96, 87);
+INSERT INTO ${prefix}Tags VALUES (343, 457, TIMESTAMP '2017-07-18 12:07:00', 27, 88);
+INSERT INTO ${prefix}Tags VALUES (343, 618, TIMESTAMP '2015-05-07 21:07:00', 40, 44);
+INSERT INTO ${prefix}Tags VALUES (344, 353, TIMESTAMP '2014-10-28 16:36:00', 75, 64);
+INSERT INTO ${prefix}Tags VALUES (344, 781, TIMESTAMP '2016-08-18 07:14:00', 72, 56);
+INSERT INTO ${prefix}Tags VALUES (345, 320, TIMESTAMP '2013-09-19 20:11:00', 38, 90);
+INSERT INTO ${prefix}Tags VALUES (346, 36, TIMESTAMP '2013-10-19 00:52:00', 16, 2);
+INSERT INTO ${prefix}Tags VALUES (346, 109, TIMESTAMP '2012-09-28 02:19:00', 82, 39);
+INSERT INTO ${prefix}Tags VALUES (346, 174, TIMESTAMP '2017-07-24 00:25:00', 40, 23);
+INSERT INTO ${prefix}Tags VALUES (346, 750, TIMESTAMP '2016-07-19 19:30:00', 3, 98);
+INSERT INTO ${prefix}Tags VALUES (347, 229, TIMESTAMP '2010-11-15 15:51:00', 62, 23);
+INSERT INTO ${prefix}Tags VALUES (347, 397, TIMESTAMP '2016-08-08 13:00:00', 83, 79);
+INSERT INTO ${prefix}Tags VALUES (348, 358, TIMESTAMP '2010-03-10 12:57:00', 25, 39);
+INSERT INTO ${prefix}Tags VALUES (349, 639, TIMESTAMP '2016-05-12 09:39:00', 34, 37);
+INSERT INTO ${prefix}Tags VALUES (350, 665, TIMESTAMP '2018-08-20 18:28:00', 20, 88);
+INSERT INTO ${prefix}Tags VALUES (350, 769, TIMESTAMP '2010-02-27 14:27:00', 99, 20);
+INSERT INTO ${prefix}Tags VALUES (351, 49, TIMESTAMP '2011-12-19 07:07:00', 94, 79);
+INSERT INTO ${prefix}Tags VALUES (351, 228, TIMESTAMP '2015-03-22 03:35:00', 46, 64);
+INSERT INTO ${prefix}Tags VALUES (351, 398, TIMESTAMP '2014-01-19 22:28:00', 33, 15);
+INSERT INTO ${prefix}Tags VALUES (352, 89, TIMESTAMP '2013-08-09 04:44:00', 39, 53);
+INSERT INTO ${prefix}Tags VALUES (352, 147, TIMESTAMP '2017-12-10 11:09:00', 27, 40);
+INSERT INTO ${prefix}Tags VALUES (352, 263, TIMESTAMP '2012-12-06 09:01:00', 48, 69);
+INSERT INTO ${prefix}Tags VALUES (352, 380, TIMESTAMP '2016-11-11 08:01:00', 83, 70);
+INSERT INTO ${prefix}Tags VALUES (353, 399, TIMESTAMP '2014-10-11 18:56:00', 64, 5);
+INSERT INTO ${prefix}Tags VALUES (353, 460, TIMESTAMP '2018-02-01 09:06:00', 100, 60);
+INSERT INTO ${prefix}Tags VALUES (355, 442, TIMESTAMP '2012-10-16 01:38:00', 35, 6);
+INSERT INTO ${prefix}Tags VALUES (356, 29, TIMESTAMP '2012-04-18 02:03:00', 58, 42);
+INSERT INTO ${prefix}Tags VALUES (356, 136, TIMESTAMP '2013-08-28 08:07:00', 48, 13);
+INSERT INTO ${prefix}Tags VALUES (356, 346, TIMESTAMP '2015-03-15 11:10:00', 49, 47);
+INSERT INTO ${prefix}Tags VALUES (356, 712, TIMESTAMP '2013-12-12 00:08:00', 95, 77);
+INSERT INTO ${prefix}Tags VALUES (358, 84, TIMESTAMP '2010-11-07 03:38:00', 49, 69);
+INSERT INTO ${prefix}Tags VALUES (358, 625, TIMESTAMP '2012-09-14 00:41:00', 83, 27);
+INSERT INTO ${prefix}Tags VALUES (359, 344, TIMESTAMP '2014-06-17 07:18:00', 62, 4);
+INSERT INTO ${prefix}Tags VALUES (359, 462, TIMESTAMP '2017-08-07 13:01:00', 15, 79);
+INSERT INTO ${prefix}Tags VALUES (359, 490, TIMESTAMP '2012-12-16 13:37:00', 36, 29);
+INSERT INTO ${prefix}Tags VALUES (359, 671, TIMESTAMP '2012-04-03 14:09:00', 33, 81);
+INSERT INTO ${prefix}Tags VALUES (360, 132, TIMESTAMP '2012-09-21 21:45:00', 14, 68);
+INSERT INTO ${prefix}Tags VALUES (360, 217, TIMESTAMP '2014-01-21 04:48:00', 70, 35);
+INSERT INTO ${prefix}Tags VALUES (361, 131, TIMESTAMP '2012-04-18 20:02:00', 44, 35);
+INSERT INTO ${prefix}Tags VALUES (361, 136, TIMESTAMP '2011-10-26 09:34:00', 98, 3);
+INSERT INTO ${prefix}Tags VALUES (362, 108, TIMESTAMP '2012-04-19 07:59:00', 63, 63);
+INSERT INTO ${prefix}Tags VALUES (362, 292, TIMESTAMP '2018-03-25 07:00:00', 56, 40);
+INSERT INTO ${prefix}Tags VALUES (362, 527, TIMESTAMP '2016-10-19 03:45:00', 74, 8);
+INSERT INTO ${prefix}Tags VALUES (363, 22, TIMESTAMP '2010-12-22 07:07:00', 0, 3);
+INSERT INTO ${prefix}Tags VALUES (363, 254, TIMESTAMP '2017-06-08 07:49:00', 85, 1);
+INSERT INTO ${prefix}Tags VALUES (363, 660, TIMESTAMP '2018-10-27 02:13:00', 55, 22);
+INSERT INTO ${prefix}Tags VALUES (364, 348, TIMESTAMP '2014-12-01 01:25:00', 52, 6);
+INSERT INTO ${prefix}Tags VALUES (365, 279, TIMESTAMP '2016-10-24 15:08:00', 60, 29);
+INSERT INTO ${prefix}Tags VALUES (365, 296, TIMESTAMP '2011-04-28 03:15:00', 82, 94);
+INSERT INTO ${prefix}Tags VALUES (365, 373, TIMESTAMP '2018-11-11 06:24:00', 15, 1);
+INSERT INTO ${prefix}Tags VALUES (365, 417, TIMESTAMP '2014-06-26 11:49:00', 10, 57);
+INSERT INTO ${prefix}Tags VALUES (366, 445, TIMESTAMP '2010-01-03 08:52:00', 61, 26);
+INSERT INTO ${prefix}Tags VALUES (366, 561, TIMESTAMP '2016-01-04 14:18:00', 94, 11);
+INSERT INTO ${prefix}Tags VALUES (366, 794, TIMESTAMP '2018-10-18 09:25:00', 65, 71);
+INSERT INTO ${prefix}Tags VALUES (367, 670, TIMESTAMP '2018-04-02 21:05:00', 50, 12);
+INSERT INTO ${prefix}Tags VALUES (367, 678, TIMESTAMP '2013-02-20 23:43:00', 32, 43);
+INSERT INTO ${prefix}Tags VALUES (367, 688, TIMESTAMP '2010-09-21 02:04:00', 73, 52);
+INSERT INTO ${prefix}Tags VALUES (367, 778, TIMESTAMP '2017-06-14 12:21:00', 84, 74);
+INSERT INTO ${prefix}Tags VALUES (368, 12, TIMESTAMP '2010-01-08 00:00:00', 82, 18);
+INSERT INTO ${prefix}Tags VALUES (368, 51, TIMESTAMP '2011-10-06 02:35:00', 30, 58);
+INSERT INTO ${prefix}Tags VALUES (368, 470, TIMESTAMP '2012-08-04 14:41:00', 97, 32);
+INSERT INTO ${prefix}Tags VALUES (368, 727, TIMESTAMP '2016-11-23 20:42:00', 41, 59);
+INSERT INTO ${prefix}Tags VALUES (369, 30, TIMESTAMP '2014-09-08 13:06:00', 100, 73);
+INSERT INTO ${prefix}Tags VALUES (370, 201, TIMESTAMP '2013-07-22 22:34:00', 68, 72);
+INSERT INTO ${prefix}Tags VALUES (370, 279, TIMESTAMP '2014-04-24 22:53:00', 74, 47);
+INSERT INTO ${prefix}Tags VALUES (371, 84, TIMESTAMP '2017-09-02 16:18:00', 0, 78);
+INSERT INTO ${prefix}Tags VALUES (372, 256, TIMESTAMP '2017-08-23 14:08:00', 18, 1);
+INSERT INTO ${prefix}Tags VALUES (373, 381, TIMESTAMP '2014-08-02 04:27:00', 12, 94);
+INSERT INTO ${prefix}Tags VALUES (373, 561, TIMESTAMP '2010-12-24 03:46:00', 75, 57);
+INSERT INTO ${prefix}Tags VALUES (373, 655, TIMESTAMP '2012-05-08 06:43:00', 98, 100);
+INSERT INTO ${prefix}Tags VALUES (373, 777, TIMESTAMP '2017-05-03 09:04:00', 70, 93);
+INSERT INTO ${prefix}Tags VALUES (374, 16, TIMESTAMP '2012-10-10 16:11:00', 28, 49);
+INSERT INTO ${prefix}Tags VALUES (374, 382, TIMESTAMP '2016-06-28 05:05:00', 63, 95);
+INSERT INTO ${prefix}Tags VALUES (374, 474, TIMESTAMP '2015-06-05 08:22:00', 75, 43);
+INSERT INTO ${prefix}Tags VALUES (375, 432, TIMESTAMP '2014-03-01 19:40:00', 9, 97);
+INSERT INTO ${prefix}Tags VALUES (375, 755, TIMESTAMP '2012-05-15 11:19:00', 92, 90);
+INSERT INTO ${prefix}Tags VALUES (376, 87, TIMESTAMP '2011-04-17 05:50:00', 59, 71);
+INSERT INTO ${prefix}Tags VALUES (376, 307, TIMESTAMP '2015-06-27 16:47:00', 96, 58);
+INSERT INTO ${prefix}Tags VALUES (377, 222, TIMESTAMP '2010-10-16 05:02:00', 69, 82);
+INSERT INTO ${prefix}Tags VALUES (377, 538, TIMESTAMP '2015-02-15 03:15:00', 13, 99);
+INSERT INTO ${prefix}Tags VALUES (377, 540, TIMESTAMP '2018-01-12 06:31:00', 98, 38);
+INSERT INTO ${prefix}Tags VALUES (378, 76, TIMESTAMP '2014-08-20 05:23:00', 52, 24);
+INSERT INTO ${prefix}Tags VALUES (378, 397, TIMESTAMP '2015-05-26 19:13:00', 6, 66);
+INSERT INTO ${prefix}Tags VALUES (378, 621, TIMESTAMP '2012-07-18 18:06:00', 63, 87);
+INSERT INTO ${prefix}Tags VALUES (379, 286, TIMESTAMP '2012-04-05 12:11:00', 25, 98);
+INSERT INTO ${prefix}Tags VALUES (379, 609, TIMESTAMP '2016-06-15 00:59:00', 45, 71);
+INSERT INTO ${prefix}Tags VALUES (379, 747, TIMESTAMP '2014-09-14 17:48:00', 31, 34);
+INSERT INTO ${prefix}Tags VALUES (381, 517, TIMESTAMP '2011-06-17 23:01:00', 6, 95);
+INSERT INTO ${prefix}Tags VALUES (381, 642, TIMESTAMP '2012-12-07 16:58:00', 37, 83);
+INSERT INTO ${prefix}Tags VALUES (382, 421, TIMESTAMP '2011-01-23 11:34:00', 3, 13);
+INSERT INTO ${prefix}Tags VALUES (383, 14, TIMESTAMP '2016-12-21 03:14:00', 33, 83);
+INSERT INTO ${prefix}Tags VALUES (384, 541, TIMESTAMP '2015-06-05 23:33:00', 58, 10);
+INSERT INTO ${prefix}Tags VALUES (385, 236, TIMESTAMP '2018-12-07 05:22:00', 9, 40);
+INSERT INTO ${prefix}Tags VALUES (385, 289, TIMESTAMP '2018-04-24 09:07:00', 29, 59);
+INSERT INTO ${prefix}Tags VALUES (385, 391, TIMESTAMP '2010-03-04 08:57:00', 32, 89);
+INSERT INTO ${prefix}Tags VALUES (385, 671, TIMESTAMP '2016-05-11 17:31:00', 15, 68);
+INSERT INTO ${prefix}Tags VALUES (386, 55, TIMESTAMP '2018-11-19 16:53:00', 48, 45);
+INSERT INTO ${prefix}Tags VALUES (386, 407, TIMESTAMP '2011-10-27 08:58:00', 62, 81);
+INSERT INTO ${prefix}Tags VALUES (387, 160, TIMESTAMP '2016-06-05 00:50:00', 99, 66);
+INSERT INTO ${prefix}Tags VALUES (388, 351, TIMESTAMP '2013-02-14 12:02:00', 29, 1);
+INSERT INTO ${prefix}Tags VALUES (388, 572, TIMESTAMP '2010-05-21 15:56:00', 70, 76);
+INSERT INTO ${prefix}Tags VALUES (388, 663, TIMESTAMP '2012-06-19 00:28:00', 70, 76);
+INSERT INTO ${prefix}Tags VALUES (388, 751, TIMESTAMP '2010-06-09 16:56:00', 58, 54);
+INSERT INTO ${prefix}Tags VALUES (389, 281, TIMESTAMP '2015-11-16 15:07:00', 46, 73);
+INSERT INTO ${prefix}Tags VALUES (390, 428, TIMESTAMP '2015-03-05 09:01:00', 19, 96);
+INSERT INTO ${prefix}Tags VALUES (391, 399, TIMESTAMP '2015-01-04 16:47:00', 11, 49);
+INSERT INTO ${prefix}Tags VALUES (391, 630, TIMESTAMP '2017-08-05 10:42:00', 97, 3);
+INSERT INTO ${prefix}Tags VALUES (391, 772, TIMESTAMP '2012-03-25 04:30:00', 96, 30);
+INSERT INTO ${prefix}Tags VALUES (392, 35, TIMESTAMP '2012-10-14 20:36:00', 46, 10);
+INSERT INTO ${prefix}Tags VALUES (392, 99, TIMESTAMP '2012-07-05 04:11:00', 20, 64);
+INSERT INTO ${prefix}Tags VALUES (392, 647, TIMESTAMP '2015-06-23 03:44:00', 68, 85);
+INSERT INTO ${prefix}Tags VALUES (392, 677, TIMESTAMP '2013-11-10 01:02:00', 94, 46);
+INSERT INTO ${prefix}Tags VALUES (393, 308, TIMESTAMP '2016-08-19 12:47:00', 97, 71);
+INSERT INTO ${prefix}Tags VALUES (393, 491, TIMESTAMP '2013-12-19 17:08:00', 84, 1);
+INSERT INTO ${prefix}Tags VALUES (395, 74, TIMESTAMP '2015-02-04 11:32:00', 8, 10);
+INSERT INTO ${prefix}Tags VALUES (395, 77, TIMESTAMP '2018-04-02 08:05:00', 2, 74);
+INSERT INTO ${prefix}Tags VALUES (395, 178, TIMESTAMP '2012-01-25 01:12:00', 2, 46);
+INSERT INTO ${prefix}Tags VALUES (395, 410, TIMESTAMP '2017-05-26 03:17:00', 82, 46);
+INSERT INTO ${prefix}Tags VALUES (396, 332, TIMESTAMP '2012-05-18 06:00:00', 27, 30);
+INSERT INTO ${prefix}Tags VALUES (396, 663, TIMESTAMP '2013-05-02 03:31:00', 49, 79);
+INSERT INTO ${prefix}Tags VALUES (397, 31, TIMESTAMP '2010-05-18 03:49:00', 100, 87);
+INSERT INTO ${prefix}Tags VALUES (397, 91, TIMESTAMP '2012-01-17 05:17:00', 17, 62);
+INSERT INTO ${prefix}Tags VALUES (397, 117, TIMESTAMP '2011-07-19 04:08:00', 22, 7);
+INSERT INTO ${prefix}Tags VALUES (398, 190, TIMESTAMP '2013-05-03 14:57:00', 64, 52);
+INSERT INTO ${prefix}Tags VALUES (398, 305, TIMESTAMP '2012-12-08 03:00:00', 28, 64);
+INSERT INTO ${prefix}Tags VALUES (398, 336, TIMESTAMP '2013-02-26 10:15:00', 30, 17);
+INSERT INTO ${prefix}Tags VALUES (400, 222, TIMESTAMP '2017-05-26 00:02:00', 95, 81);
+INSERT INTO ${prefix}Tags VALUES (400, 310, TIMESTAMP '2016-02-02 11:18:00', 17, 48);
+INSERT INTO ${prefix}Tags VALUES (400, 759, TIMESTAMP '2013-11-14 05:04:00', 43, 14);
+INSERT INTO ${prefix}Tags VALUES (401, 75, TIMESTAMP '2010-06-10 10:16:00', 63, 67);
+INSERT INTO ${prefix}Tags VALUES (401, 699, TIMESTAMP '2010-04-20 04:18:00', 41, 25);
+INSERT INTO ${prefix}Tags VALUES (402, 191, TIMESTAMP '2010-08-17 00:31:00', 44, 89);
+INSERT INTO ${prefix}Tags VALUES (402, 192, TIMESTAMP '2012-12-10 16:22:00', 11, 5);
+INSERT INTO ${prefix}Tags VALUES (402, 749, TIMESTAMP '2010-08-25 05:21:00', 37, 47);
+INSERT INTO ${prefix}Tags VALUES (403, 53, TIMESTAMP '2013-01-23 13:29:00', 85, 44);
+INSERT INTO ${prefix}Tags VALUES (403, 363, TIMESTAMP '2013-02-14 09:25:00', 42, 27);
+INSERT INTO ${prefix}Tags VALUES (403, 722, TIMESTAMP '2011-01-27 23:29:00', 92, 77);
+INSERT INTO ${prefix}Tags VALUES (404, 438, TIMESTAMP '2013-01-14 03:56:00', 82, 38);
+INSERT INTO ${prefix}Tags VALUES (404, 585, TIMESTAMP '2018-09-11 13:53:00', 75, 57);
+INSERT INTO ${prefix}Tags VALUES (405, 361, TIMESTAMP '2015-09-23 00:53:00', 64, 87);
+INSERT INTO ${prefix}Tags VALUES (405, 600, TIMESTAMP '2011-11-14 23:33:00', 77, 60);
+INSERT INTO ${prefix}Tags VALUES (406, 407, TIMESTAMP '2012-12-19 02:03:00', 86, 40);
+INSERT INTO ${prefix}Tags VALUES (406, 489, TIMESTAMP '2015-10-25 16:29:00', 63, 13);
+INSERT INTO ${prefix}Tags VALUES (407, 85, TIMESTAMP '2010-05-27 22:50:00', 40, 49);
+INSERT INTO ${prefix}Tags VALUES (407, 149, TIMESTAMP '2011-02-22 15:51:00', 44, 53);
+INSERT INTO ${prefix}Tags VALUES (407, 603, TIMESTAMP '2017-12-13 23:47:00', 28, 81);
+INSERT INTO ${prefix}Tags VALUES (408, 63, TIMESTAMP '2018-05-02 18:22:00', 30, 87);
+INSERT INTO ${prefix}Tags VALUES (408, 122, TIMESTAMP '2015-06-16 19:40:00', 85, 31);
+INSERT INTO ${prefix}Tags VALUES (408, 352, TIMESTAMP '2018-09-28 22:12:00', 31, 23);
+INSERT INTO ${prefix}Tags VALUES (409, 628, TIMESTAMP '2011-04-25 18:13:00', 48, 88);
+INSERT INTO ${prefix}Tags VALUES (409, 719, TIMESTAMP '2017-09-05 00:39:00', 30, 53);
+INSERT INTO ${prefix}Tags VALUES (410, 243, TIMESTAMP '2013-09-13 17:11:00', 22, 52);
+INSERT INTO ${prefix}Tags VALUES (411, 426, TIMESTAMP '2015-11-19 09:42:00', 90, 64);
+INSERT INTO ${prefix}Tags VALUES (411, 475, TIMESTAMP '2018-07-15 18:12:00', 56, 23);
+INSERT INTO ${prefix}Tags VALUES (411, 506, TIMESTAMP '2010-06-24 02:46:00', 61, 64);
+INSERT INTO ${prefix}Tags VALUES (412, 19, TIMESTAMP '2015-08-21 15:59:00', 23, 62);
+INSERT INTO ${prefix}Tags VALUES (413, 542, TIMESTAMP '2015-12-07 01:52:00', 79, 63);
+INSERT INTO ${prefix}Tags VALUES (413, 591, TIMESTAMP '2010-05-09 02:59:00', 18, 8);
+INSERT INTO ${prefix}Tags VALUES (414, 193, TIMESTAMP '2017-01-17 05:40:00', 75, 27);
+INSERT INTO ${prefix}Tags VALUES (414, 249, TIMESTAMP '2012-03-19 22:08:00', 62, 2);
+INSERT INTO ${prefix}Tags VALUES (415, 322, TIMESTAMP '2010-11-15 06:28:00', 42, 64);
+INSERT INTO ${prefix}Tags VALUES (415, 352, TIMESTAMP '2016-06-11 20:54:00', 80, 69);
+INSERT INTO ${prefix}Tags VALUES (415, 754, TIMESTAMP '2010-03-22 15:11:00', 32, 17);
+INSERT INTO ${prefix}Tags VALUES (415, 788, TIMESTAMP '2016-07-21 12:01:00', 19, 62);
+INSERT INTO ${prefix}Tags VALUES (416, 650, TIMESTAMP '2010-05-08 19:47:00', 97, 13);
+INSERT INTO ${prefix}Tags VALUES (418, 240, TIMESTAMP '2012-07-10 05:13:00', 26, 36);
+INSERT INTO ${prefix}Tags VALUES (418, 367, TIMESTAMP '2011-03-03 04:44:00', 10, 30);
+INSERT INTO ${prefix}Tags VALUES (419, 346, TIMESTAMP '2017-05-14 02:21:00', 75, 52);
+INSERT INTO ${prefix}Tags VALUES (419, 539, TIMESTAMP '2010-01-06 21:45:00', 90, 24);
+INSERT INTO ${prefix}Tags VALUES (419, 655, TIMESTAMP '2018-02-24 05:53:00', 45, 91);
+INSERT INTO ${prefix}Tags VALUES (419, 748, TIMESTAMP '2018-10-19 00:59:00', 98, 73);
+INSERT INTO ${prefix}Tags VALUES (420, 412, TIMESTAMP '2010-02-14 04:00:00', 16, 61);
+INSERT INTO ${prefix}Tags VALUES (421, 9, TIMESTAMP '2011-01-05 20:53:00', 41, 96);
+INSERT INTO ${prefix}Tags VALUES (421, 379, TIMESTAMP '2013-07-20 01:34:00', 89, 45);
+INSERT INTO ${prefix}Tags VALUES (422, 265, TIMESTAMP '2015-05-05 06:06:00', 17, 92);
+INSERT INTO ${prefix}Tags VALUES (422, 784, TIMESTAMP '2014-02-05 15:52:00', 20, 42);
+INSERT INTO ${prefix}Tags VALUES (424, 95, TIMESTAMP '2012-04-18 02:50:00', 4, 75);
+INSERT INTO ${prefix}Tags VALUES (424, 298, TIMESTAMP '2014-09-20 18:10:00', 29, 74);
+INSERT INTO ${prefix}Tags VALUES (424, 441, TIMESTAMP '2013-06-10 04:14:00', 14, 38);
+INSERT INTO ${prefix}Tags VALUES (424, 491, TIMESTAMP '2012-12-17 04:21:00', 85, 43);
+INSERT INTO ${prefix}Tags VALUES (425, 85, TIMESTAMP '2018-04-06 20:29:00', 81, 58);
+INSERT INTO ${prefix}Tags VALUES (425, 604, TIMESTAMP '2016-04-24 12:52:00', 25, 85);
+INSERT INTO ${prefix}Tags VALUES (425, 689, TIMESTAMP '2016-01-01 17:12:00', 12, 95);
+INSERT INTO ${prefix}Tags VALUES (426, 452, TIMESTAMP '2017-09-25 18:15:00', 34, 27);
+INSERT INTO ${prefix}Tags VALUES (427, 162, TIMESTAMP '2015-06-05 00:44:00', 39, 40);
+INSERT INTO ${prefix}Tags VALUES (427, 368, TIMESTAMP '2010-03-04 18:59:00', 74, 73);
+INSERT INTO ${prefix}Tags VALUES (428, 238, TIMESTAMP '2014-06-04 17:49:00', 1, 4);
+INSERT INTO ${prefix}Tags VALUES (429, 227, TIMESTAMP '2017-09-07 00:58:00', 92, 26);
+INSERT INTO ${prefix}Tags VALUES (429, 251, TIMESTAMP '2018-03-14 04:33:00', 11, 95);
+INSERT INTO ${prefix}Tags VALUES (429, 517, TIMESTAMP '2018-01-24 14:32:00', 95, 19);
+INSERT INTO ${prefix}Tags VALUES (429, 736, TIMESTAMP '2017-09-01 22:53:00', 93, 55);
+INSERT INTO ${prefix}Tags VALUES (430, 166, TIMESTAMP '2010-04-01 06:32:00', 41, 45);
+INSERT INTO ${prefix}Tags VALUES (430, 167, TIMESTAMP '2011-09-14 07:11:00', 61, 2);
+INSERT INTO ${prefix}Tags VALUES (430, 271, TIMESTAMP '2014-10-08 08:38:00', 41, 18);
+INSERT INTO ${prefix}Tags VALUES (432, 615, TIMESTAMP '2016-12-16 06:06:00', 96, 51);
+INSERT INTO ${prefix}Tags VALUES (433, 363, TIMESTAMP '2013-08-10 18:29:00', 97, 63);
+INSERT INTO ${prefix}Tags VALUES (433, 570, TIMESTAMP '2015-09-25 00:18:00', 9, 50);
+INSERT INTO ${prefix}Tags VALUES (434, 639, TIMESTAMP '2011-02-15 05:58:00', 94, 88);
+INSERT INTO ${prefix}Tags VALUES (434, 658, TIMESTAMP '2012-09-11 22:46:00', 8, 21);
+INSERT INTO ${prefix}Tags VALUES (434, 754, TIMESTAMP '2012-12-06 07:54:00', 38, 12);
+INSERT INTO ${prefix}Tags VALUES (434, 783, TIMESTAMP '2011-04-10 12:07:00', 42, 85);
+INSERT INTO ${prefix}Tags VALUES (435, 13, TIMESTAMP '2013-09-07 17:05:00', 45, 48);
+INSERT INTO ${prefix}Tags VALUES (435, 176, TIMESTAMP '2017-10-15 00:02:00', 60, 97);
+INSERT INTO ${prefix}Tags VALUES (435, 494, TIMESTAMP '2013-04-24 04:24:00', 4, 100);
+INSERT INTO ${prefix}Tags VALUES (436, 38, TIMESTAMP '2010-01-16 02:26:00', 56, 31);
+INSERT INTO ${prefix}Tags VALUES (436, 134, TIMESTAMP '2017-09-24 16:52:00', 42, 47);
+INSERT INTO ${prefix}Tags VALUES (436, 160, TIMESTAMP '2010-01-28 03:58:00', 63, 83);
+INSERT INTO ${prefix}Tags VALUES (436, 548, TIMESTAMP '2018-12-26 02:01:00', 20, 97);
+INSERT INTO ${prefix}Tags VALUES (438, 132, TIMESTAMP '2015-01-20 12:06:00', 84, 41);
+INSERT INTO ${prefix}Tags VALUES (439, 315, TIMESTAMP '2011-01-06 08:48:00', 56, 33);
+INSERT INTO ${prefix}Tags VALUES (439, 551, TIMESTAMP '2017-01-04 14:09:00', 97, 75);
+INSERT INTO ${prefix}Tags VALUES (440, 491, TIMESTAMP '2018-12-28 00:42:00', 7, 71);
+INSERT INTO ${prefix}Tags VALUES (440, 621, TIMESTAMP '2010-04-10 09:31:00', 22, 7);
+INSERT INTO ${prefix}Tags VALUES (440, 626, TIMESTAMP '2016-07-21 22:40:00', 100, 95);
+INSERT INTO ${prefix}Tags VALUES (441, 768, TIMESTAMP '2016-04-13 07:46:00', 70, 70);
+INSERT INTO ${prefix}Tags VALUES (442, 14, TIMESTAMP '2018-04-15 01:29:00', 60, 86);
+INSERT INTO ${prefix}Tags VALUES (443, 228, TIMESTAMP '2011-02-09 17:19:00', 3, 98);
+INSERT INTO ${prefix}Tags VALUES (443, 381, TIMESTAMP '2010-09-04 11:44:00', 91, 62);
+INSERT INTO ${prefix}Tags VALUES (444, 113, TIMESTAMP '2013-03-14 18:36:00', 50, 29);
+INSERT INTO ${prefix}Tags VALUES (444, 378, TIMESTAMP '2011-03-05 04:51:00', 77, 67);
+INSERT INTO ${prefix}Tags VALUES (445, 20, TIMESTAMP '2010-01-28 05:17:00', 1, 98);
+INSERT INTO ${prefix}Tags VALUES (445, 215, TIMESTAMP '2013-10-02 14:09:00', 35, 1);
+INSERT INTO ${prefix}Tags VALUES (445, 351, TIMESTAMP '2012-07-03 06:49:00', 92, 35);
+INSERT INTO ${prefix}Tags VALUES (446, 147, TIMESTAMP '2012-05-05 15:29:00', 19, 64);
+INSERT INTO ${prefix}Tags VALUES (446, 244, TIMESTAMP '2016-10-08 16:14:00', 94, 83);
+INSERT INTO ${prefix}Tags VALUES (446, 381, TIMESTAMP '2012-06-15 04:14:00', 45, 27);
+INSERT INTO ${prefix}Tags VALUES (446, 522, TIMESTAMP '2010-09-24 09:48:00', 81, 54);
+INSERT INTO ${prefix}Tags VALUES (447, 404, TIMESTAMP '2014-01-24 04:23:00', 34, 20);
+INSERT INTO ${prefix}Tags VALUES (447, 510, TIMESTAMP '2014-12-09 00:01:00', 92, 23);
+INSERT INTO ${prefix}Tags VALUES (447, 713, TIMESTAMP '2018-09-09 18:36:00', 45, 9);
+INSERT INTO ${prefix}Tags VALUES (448, 90, TIMESTAMP '2017-08-15 04:09:00', 74, 71);
+INSERT INTO ${prefix}Tags VALUES (449, 151, TIMESTAMP '2016-11-15 03:11:00', 88, 76);
+INSERT INTO ${prefix}Tags VALUES (449, 190, TIMESTAMP '2016-05-18 06:54:00', 57, 48);
+INSERT INTO ${prefix}Tags VALUES (449, 464, TIMESTAMP '2017-01-14 02:43:00', 18, 95);
+INSERT INTO ${prefix}Tags VALUES (450, 72, TIMESTAMP '2013-07-11 01:40:00', 39, 13);
+INSERT INTO ${prefix}Tags VALUES (450, 411, TIMESTAMP '2012-12-14 13:39:00', 91, 6);
+INSERT INTO ${prefix}Tags VALUES (451, 782, TIMESTAMP '2017-12-11 17:02:00', 72, 63);
+INSERT INTO ${prefix}Tags VALUES (452, 277, TIMESTAMP '2016-06-26 11:55:00', 3, 88);
+INSERT INTO ${prefix}Tags VALUES (452, 384, TIMESTAMP '2018-01-10 17:59:00', 53, 24);
+INSERT INTO ${prefix}Tags VALUES (453, 231, TIMESTAMP '2016-08-12 15:48:00', 48, 65);
+INSERT INTO ${prefix}Tags VALUES (453, 276, TIMESTAMP '2016-12-26 00:23:00', 2, 78);
+INSERT INTO ${prefix}Tags VALUES (454, 348, TIMESTAMP '2013-09-24 02:22:00', 74, 44);
+INSERT INTO ${prefix}Tags VALUES (454, 367, TIMESTAMP '2018-07-03 10:56:00', 19, 25);
+INSERT INTO ${prefix}Tags VALUES (454, 783, TIMESTAMP '2010-02-23 00:28:00', 70, 80);
+INSERT INTO ${prefix}Tags VALUES (455, 80, TIMESTAMP '2016-09-05 12:06:00', 43, 44);
+INSERT INTO ${prefix}Tags VALUES (455, 210, TIMESTAMP '2010-12-03 04:09:00', 90, 15);
+INSERT INTO ${prefix}Tags VALUES (455, 772, TIMESTAMP '2012-08-18 20:23:00', 23, 73);
+INSERT INTO ${prefix}Tags VALUES (456, 215, TIMESTAMP '2014-12-17 14:16:00', 26, 68);
+INSERT INTO ${prefix}Tags VALUES (456, 455, TIMESTAMP '2016-03-17 05:23:00', 44, 33);
+INSERT INTO ${prefix}Tags VALUES (456, 602, TIMESTAMP '2012-07-25 00:35:00', 14, 27);
+INSERT INTO ${prefix}Tags VALUES (459, 178, TIMESTAMP '2013-12-13 13:08:00', 85, 52);
+INSERT INTO ${prefix}Tags VALUES (459, 414, TIMESTAMP '2013-06-22 02:07:00', 33, 78);
+INSERT INTO ${prefix}Tags VALUES (459, 596, TIMESTAMP '2017-11-07 09:04:00', 38, 91);
+INSERT INTO ${prefix}Tags VALUES (459, 757, TIMESTAMP '2014-12-28 16:03:00', 24, 32);
+INSERT INTO ${prefix}Tags VALUES (460, 201, TIMESTAMP '2016-03-05 01:35:00', 75, 16);
+INSERT INTO ${prefix}Tags VALUES (460, 337, TIMESTAMP '2018-11-18 17:47:00', 28, 48);
+INSERT INTO ${prefix}Tags VALUES (460, 521, TIMESTAMP '2012-07-24 04:38:00', 79, 23);
+INSERT INTO ${prefix}Tags VALUES (461, 251, TIMESTAMP '2010-10-11 08:22:00', 90, 93);
+INSERT INTO ${prefix}Tags VALUES (462, 85, TIMESTAMP '2017-03-01 02:26:00', 0, 61);
+INSERT INTO ${prefix}Tags VALUES (463, 280, TIMESTAMP '2014-12-17 03:15:00', 2, 13);
+INSERT INTO ${prefix}Tags VALUES (464, 724, TIMESTAMP '2013-02-14 01:10:00', 0, 90);
+INSERT INTO ${prefix}Tags VALUES (465, 266, TIMESTAMP '2010-05-06 18:15:00', 72, 10);
+INSERT INTO ${prefix}Tags VALUES (465, 305, TIMESTAMP '2015-12-17 08:32:00', 73, 17);
+INSERT INTO ${prefix}Tags VALUES (465, 418, TIMESTAMP '2013-11-03 21:30:00', 79, 35);
+INSERT INTO ${prefix}Tags VALUES (465, 584, TIMESTAMP '2011-08-11 23:25:00', 42, 94);
+INSERT INTO ${prefix}Tags VALUES (466, 14, TIMESTAMP '2016-02-21 10:53:00', 94, 45);
+INSERT INTO ${prefix}Tags VALUES (466, 646, TIMESTAMP '2011-06-12 20:34:00', 81, 38);
+INSERT INTO ${prefix}Tags VALUES (466, 758, TIMESTAMP '2011-12-18 20:04:00', 27, 1);
+INSERT INTO ${prefix}Tags VALUES (466, 779, TIMESTAMP '2010-11-25 00:58:00', 32, 71);
+INSERT INTO ${prefix}Tags VALUES (467, 196, TIMESTAMP '2014-08-03 22:23:00', 88, 69);
+INSERT INTO ${prefix}Tags VALUES (467, 584, TIMESTAMP '2017-04-15 11:36:00', 19, 37);
+INSERT INTO ${prefix}Tags VALUES (467, 763, TIMESTAMP '2017-05-09 15:27:00', 27, 83);
+INSERT INTO ${prefix}Tags VALUES (468, 89, TIMESTAMP '2018-01-01 15:17:00', 11, 64);
+INSERT INTO ${prefix}Tags VALUES (468, 486, TIMESTAMP '2015-08-24 07:36:00', 100, 21);
+INSERT INTO ${prefix}Tags VALUES (468, 688, TIMESTAMP '2016-06-02 07:05:00', 14, 5);
+INSERT INTO ${prefix}Tags VALUES (469, 146, TIMESTAMP '2018-08-22 12:38:00', 48, 10);
+INSERT INTO ${prefix}Tags VALUES (469, 333, TIMESTAMP '2016-06-10 22:04:00', 57, 65);
+INSERT INTO ${prefix}Tags VALUES (469, 792, TIMESTAMP '2013-03-13 18:08:00', 10, 100);
+INSERT INTO ${prefix}Tags VALUES (470, 3, TIMESTAMP '2012-11-12 09:48:00', 24, 2);
+INSERT INTO ${prefix}Tags VALUES (470, 26, TIMESTAMP '2010-06-13 19:12:00', 56, 73);
+INSERT INTO ${prefix}Tags VALUES (470, 306, TIMESTAMP '2013-06-21 14:01:00', 80, 33);
+INSERT INTO ${prefix}Tags VALUES (471, 119, TIMESTAMP '2012-04-22 09:36:00', 86, 94);
+INSERT INTO ${prefix}Tags VALUES (471, 315, TIMESTAMP '2013-10-05 16:41:00', 36, 75);
+INSERT INTO ${prefix}Tags VALUES (474, 391, TIMESTAMP '2011-09-24 13:55:00', 57, 31);
+INSERT INTO ${prefix}Tags VALUES (474, 500, TIMESTAMP '2012-11-02 22:03:00', 46, 69);
+INSERT INTO ${prefix}Tags VALUES (475, 208, TIMESTAMP '2014-05-24 22:55:00', 47, 73);
+INSERT INTO ${prefix}Tags VALUES (475, 627, TIMESTAMP '2014-11-21 13:17:00', 14, 66);
+INSERT INTO ${prefix}Tags VALUES (475, 691, TIMESTAMP '2013-12-05 08:45:00', 87, 87);
+INSERT INTO ${prefix}Tags VALUES (476, 146, TIMESTAMP '2010-05-14 08:21:00', 8, 96);
+INSERT INTO ${prefix}Tags VALUES (476, 167, TIMESTAMP '2012-12-20 18:17:00', 6, 19);
+INSERT INTO ${prefix}Tags VALUES (477, 370, TIMESTAMP '2010-04-28 11:42:00', 89, 23);
+INSERT INTO ${prefix}Tags VALUES (477, 425, TIMESTAMP '2015-08-03 03:35:00', 22, 58);
+INSERT INTO ${prefix}Tags VALUES (477, 766, TIMESTAMP '2015-02-09 04:55:00', 86, 60);
+INSERT INTO ${prefix}Tags VALUES (480, 34, TIMESTAMP '2013-05-15 07:12:00', 89, 16);
+INSERT INTO ${prefix}Tags VALUES (480, 53, TIMESTAMP '2017-05-12 02:40:00', 3, 13);
+INSERT INTO ${prefix}Tags VALUES (480, 446, TIMESTAMP '2018-07-12 09:43:00', 58, 16);
+INSERT INTO ${prefix}Tags VALUES (480, 743, TIMESTAMP '2013-05-28 23:43:00', 93, 43);
+INSERT INTO ${prefix}Tags VALUES (481, 13, TIMESTAMP '2017-02-18 12:08:00', 31, 34);
+INSERT INTO ${prefix}Tags VALUES (481, 153, TIMESTAMP '2018-10-26 07:37:00', 95, 72);
+INSERT INTO ${prefix}Tags VALUES (481, 421, TIMESTAMP '2010-02-05 09:31:00', 4, 51);
+INSERT INTO ${prefix}Tags VALUES (481, 511, TIMESTAMP '2010-10-07 02:50:00', 56, 86);
+INSERT INTO ${prefix}Tags VALUES (482, 130, TIMESTAMP '2011-12-11 05:42:00', 25, 97);
+INSERT INTO ${prefix}Tags VALUES (482, 200, TIMESTAMP '2010-04-26 05:33:00', 62, 25);
+INSERT INTO ${prefix}Tags VALUES (482, 605, TIMESTAMP '2015-03-08 04:43:00', 12, 0);
+INSERT INTO ${prefix}Tags VALUES (482, 762, TIMESTAMP '2017-02-13 22:21:00', 72, 100);
+INSERT INTO ${prefix}Tags VALUES (483, 36, TIMESTAMP '2018-04-21 08:12:00', 73, 79);
+INSERT INTO ${prefix}Tags VALUES (483, 230, TIMESTAMP '2011-10-10 16:48:00', 86, 10);
+INSERT INTO ${prefix}Tags VALUES (483, 330, TIMESTAMP '2017-07-16 19:36:00', 16, 41);
+INSERT INTO ${prefix}Tags VALUES (483, 628, TIMESTAMP '2011-01-10 10:13:00', 69, 4);
+INSERT INTO ${prefix}Tags VALUES (484, 106, TIMESTAMP '2017-10-14 13:38:00', 7, 78);
+INSERT INTO ${prefix}Tags VALUES (484, 449, TIMESTAMP '2014-10-28 19:59:00', 66, 56);
+INSERT INTO ${prefix}Tags VALUES (485, 558, TIMESTAMP '2017-06-09 07:18:00', 75, 38);
+INSERT INTO ${prefix}Tags VALUES (486, 40, TIMESTAMP '2016-03-09 20:14:00', 3, 36);
+INSERT INTO ${prefix}Tags VALUES (486, 189, TIMESTAMP '2017-04-08 04:38:00', 86, 91);
+INSERT INTO ${prefix}Tags VALUES (486, 262, TIMESTAMP '2011-11-22 13:04:00', 15, 45);
+INSERT INTO ${prefix}Tags VALUES (486, 677, TIMESTAMP '2011-04-17 16:58:00', 11, 61);
+INSERT INTO ${prefix}Tags VALUES (487, 24, TIMESTAMP '2011-11-12 02:32:00', 31, 67);
+INSERT INTO ${prefix}Tags VALUES (487, 146, TIMESTAMP '2012-01-18 22:26:00', 13, 95);
+INSERT INTO ${prefix}Tags VALUES (487, 186, TIMESTAMP '2010-12-23 22:58:00', 52, 50);
+INSERT INTO ${prefix}Tags VALUES (487, 691, TIMESTAMP '2018-07-10 12:57:00', 13, 96);
+INSERT INTO ${prefix}Tags VALUES (488, 337, TIMESTAMP '2018-10-10 01:53:00', 8, 40);
+INSERT INTO ${prefix}Tags VALUES (488, 590, TIMESTAMP '2017-05-01 18:46:00', 73, 2);
+INSERT INTO ${prefix}Tags VALUES (488, 776, TIMESTAMP '2013-09-28 00:03:00', 98, 39);
+INSERT INTO ${prefix}Tags VALUES (489, 36, TIMESTAMP '2018-12-11 21:48:00', 42, 73);
+INSERT INTO ${prefix}Tags VALUES (489, 56, TIMESTAMP '2011-02-14 22:42:00', 10, 70);
+INSERT INTO ${prefix}Tags VALUES (489, 221, TIMESTAMP '2011-09-16 03:37:00', 56, 2);
+INSERT INTO ${prefix}Tags VALUES (490, 65, TIMESTAMP '2017-12-09 10:00:00', 59, 35);
+INSERT INTO ${prefix}Tags VALUES (490, 360, TIMESTAMP '2012-09-16 11:01:00', 16, 47);
+INSERT INTO ${prefix}Tags VALUES (491, 310, TIMESTAMP '2015-05-26 18:52:00', 75, 56);
+INSERT INTO ${prefix}Tags VALUES (492, 232, TIMESTAMP '2015-01-24 01:50:00', 51, 61);
+INSERT INTO ${prefix}Tags VALUES (492, 362, TIMESTAMP '2011-04-08 13:04:00', 91, 90);
+INSERT INTO ${prefix}Tags VALUES (492, 367, TIMESTAMP '2013-05-25 16:05:00', 26, 87);
+INSERT INTO ${prefix}Tags VALUES (493, 461, TIMESTAMP '2016-04-23 10:17:00', 45, 82);
+INSERT INTO ${prefix}Tags VALUES (493, 479, TIMESTAMP '2018-02-12 20:16:00', 21, 78);
+INSERT INTO ${prefix}Tags VALUES (493, 528, TIMESTAMP '2012-03-11 12:29:00', 57, 44);
+INSERT INTO ${prefix}Tags VALUES (494, 337, TIMESTAMP '2018-07-27 12:03:00', 30, 85);
+INSERT INTO ${prefix}Tags VALUES (494, 692, TIMESTAMP '2016-10-21 07:02:00', 10, 43);
+INSERT INTO ${prefix}Tags VALUES (495, 62, TIMESTAMP '2013-12-15 21:31:00', 3, 47);
+INSERT INTO ${prefix}Tags VALUES (495, 799, TIMESTAMP '2010-04-14 21:05:00', 49, 1);
+INSERT INTO ${prefix}Tags VALUES (496, 111, TIMESTAMP '2013-09-22 20:33:00', 71, 12);
+INSERT INTO ${prefix}Tags VALUES (496, 244, TIMESTAMP '2013-09-06 15:15:00', 15, 1);
+INSERT INTO ${prefix}Tags VALUES (496, 616, TIMESTAMP '2010-03-19 00:34:00', 11, 3);
+INSERT INTO ${prefix}Tags VALUES (499, 370, TIMESTAMP '2011-04-14 15:33:00', 50, 71);
+INSERT INTO ${prefix}Tags VALUES (499, 464, TIMESTAMP '2010-06-09 22:54:00', 75, 78);
+INSERT INTO ${prefix}Tags VALUES (499, 640, TIMESTAMP '2011-10-04 15:52:00', 73, 3);
+INSERT INTO ${prefix}Tags VALUES (499, 662, TIMESTAMP '2010-06-23 17:48:00', 37, 40);
+INSERT INTO ${prefix}Tags VALUES (500, 411, TIMESTAMP '2012-05-04 19:35:00', 72, 71);
+INSERT INTO ${prefix}Tags VALUES (500, 689, TIMESTAMP '2018-03-03 02:25:00', 6, 54);
+INSERT INTO ${prefix}Tags VALUES (501, 2, TIMESTAMP '2016-09-23 22:47:00', 51, 68);
+INSERT INTO ${prefix}Tags VALUES (501, 363, TIMESTAMP '2014-04-18 22:21:00', 36, 71);
+INSERT INTO ${prefix}Tags VALUES (501, 635, TIMESTAMP '2016-12-01 19:19:00', 3, 5);
+INSERT INTO ${prefix}Tags VALUES (502, 68, TIMESTAMP '2018-07-11 09:58:00', 52, 64);
+INSERT INTO ${prefix}Tags VALUES (502, 690, TIMESTAMP '2010-12-11 07:29:00', 30, 50);
+INSERT INTO ${prefix}Tags VALUES (503, 85, TIMESTAMP '2016-08-08 11:49:00', 7, 41);
+INSERT INTO ${prefix}Tags VALUES (503, 789, TIMESTAMP '2011-03-22 21:44:00', 79, 71);
+INSERT INTO ${prefix}Tags VALUES (504, 152, TIMESTAMP '2013-08-22 11:31:00', 32, 76);
+INSERT INTO ${prefix}Tags VALUES (505, 501, TIMESTAMP '2015-01-02 04:26:00', 16, 1);
+INSERT INTO ${prefix}Tags VALUES (506, 72, TIMESTAMP '2015-12-26 00:06:00', 96, 38);
+INSERT INTO ${prefix}Tags VALUES (506, 348, TIMESTAMP '2010-10-01 11:27:00', 5, 14);
+INSERT INTO ${prefix}Tags VALUES (506, 783, TIMESTAMP '2018-06-03 06:11:00', 52, 67);
+INSERT INTO ${prefix}Tags VALUES (507, 157, TIMESTAMP '2018-08-18 03:09:00', 81, 46);
+INSERT INTO ${prefix}Tags VALUES (507, 382, TIMESTAMP '2011-02-17 15:38:00', 64, 26);
+INSERT INTO ${prefix}Tags VALUES (507, 628, TIMESTAMP '2016-03-10 19:02:00', 97, 12);
+INSERT INTO ${prefix}Tags VALUES (508, 111, TIMESTAMP '2012-01-14 03:56:00', 66, 60);
+INSERT INTO ${prefix}Tags VALUES (508, 741, TIMESTAMP '2013-05-04 08:06:00', 33, 23);
+INSERT INTO ${prefix}Tags VALUES (509, 632, TIMESTAMP '2015-05-16 08:05:00', 12, 74);
+INSERT INTO ${prefix}Tags VALUES (510, 529, TIMESTAMP '2016-10-16 11:39:00', 68, 19);
+INSERT INTO ${prefix}Tags VALUES (510, 765, TIMESTAMP '2016-06-03 08:35:00', 57, 67);
+INSERT INTO ${prefix}Tags VALUES (511, 109, TIMESTAMP '2015-03-17 17:44:00', 19, 52);
+INSERT INTO ${prefix}Tags VALUES (511, 207, TIMESTAMP '2012-09-26 13:14:00', 62, 74);
+INSERT INTO ${prefix}Tags VALUES (511, 617, TIMESTAMP '2014-02-09 13:05:00', 71, 32);
+INSERT INTO ${prefix}Tags VALUES (511, 787, TIMESTAMP '2013-08-06 08:47:00', 10, 98);
+INSERT INTO ${prefix}Tags VALUES (512, 514, TIMESTAMP '2015-05-12 15:33:00', 87, 33);
+INSERT INTO ${prefix}Tags VALUES (512, 566, TIMESTAMP '2014-08-04 12:10:00', 26, 16);
+INSERT INTO ${prefix}Tags VALUES (512, 701, TIMESTAMP '2014-12-22 15:09:00', 90, 70);
+INSERT INTO ${prefix}Tags VALUES (513, 294, TIMESTAMP '2017-09-19 13:55:00', 33, 45);
+INSERT INTO ${prefix}Tags VALUES (513, 401, TIMESTAMP '2010-09-22 12:02:00', 55, 27);
+INSERT INTO ${prefix}Tags VALUES (513, 544, TIMESTAMP '2014-06-25 07:34:00', 93, 64);
+INSERT INTO ${prefix}Tags VALUES (513, 695, TIMESTAMP '2014-02-17 11:55:00', 34, 40);
+INSERT INTO ${prefix}Tags VALUES (514, 707, TIMESTAMP '2018-06-02 12:35:00', 63, 18);
+INSERT INTO ${prefix}Tags VALUES (516, 484, TIMESTAMP '2018-08-14 04:43:00', 53, 14);
+INSERT INTO ${prefix}Tags VALUES (517, 230, TIMESTAMP '2015-12-04 21:00:00', 20, 38);
+INSERT INTO ${prefix}Tags VALUES (517, 642, TIMESTAMP '2016-04-07 07:36:00', 96, 30);
+INSERT INTO ${prefix}Tags VALUES (517, 647, TIMESTAMP '2017-01-09 14:57:00', 20, 41);
+INSERT INTO ${prefix}Tags VALUES (518, 176, TIMESTAMP '2016-12-27 02:04:00', 60, 58);
+INSERT INTO ${prefix}Tags VALUES (518, 347, TIMESTAMP '2013-07-18 13:43:00', 44, 12);
+INSERT INTO ${prefix}Tags VALUES (518, 463, TIMESTAMP '2016-06-07 11:43:00', 36, 41);
+INSERT INTO ${prefix}Tags VALUES (519, 204, TIMESTAMP '2013-08-20 16:43:00', 68, 14);
+INSERT INTO ${prefix}Tags VALUES (521, 131, TIMESTAMP '2015-05-10 13:49:00', 100, 63);
+INSERT INTO ${prefix}Tags VALUES (522, 503, TIMESTAMP '2018-02-06 06:03:00', 19, 11);
+INSERT INTO ${prefix}Tags VALUES (522, 522, TIMESTAMP '2014-05-20 22:15:00', 36, 78);
+INSERT INTO ${prefix}Tags VALUES (522, 529, TIMESTAMP '2014-11-17 02:26:00', 26, 86);
+INSERT INTO ${prefix}Tags VALUES (523, 394, TIMESTAMP '2018-05-04 02:21:00', 94, 84);
+INSERT INTO ${prefix}Tags VALUES (523, 399, TIMESTAMP '2013-11-07 09:01:00', 53, 27);
+INSERT INTO ${prefix}Tags VALUES (524, 626, TIMESTAMP '2015-09-08 20:44:00', 1, 17);
+INSERT INTO ${prefix}Tags VALUES (524, 643, TIMESTAMP '2017-07-14 20:14:00', 48, 91);
+INSERT INTO ${prefix}Tags VALUES (524, 701, TIMESTAMP '2014-10-16 09:03:00', 75, 1);
+INSERT INTO ${prefix}Tags VALUES (525, 33, TIMESTAMP '2012-10-13 17:54:00', 61, 84);
+INSERT INTO ${prefix}Tags VALUES (525, 314, TIMESTAMP '2016-12-23 08:57:00', 68, 2);
+INSERT INTO ${prefix}Tags VALUES (525, 626, TIMESTAMP '2017-02-19 03:28:00', 80, 18);
+INSERT INTO ${prefix}Tags VALUES (526, 39, TIMESTAMP '2014-10-04 22:20:00', 73, 84);
+INSERT INTO ${prefix}Tags VALUES (526, 210, TIMESTAMP '2016-09-10 17:20:00', 82, 12);
+INSERT INTO ${prefix}Tags VALUES (527, 665, TIMESTAMP '2011-09-28 15:41:00', 92, 63);
+INSERT INTO ${prefix}Tags VALUES (527, 794, TIMESTAMP '2014-10-17 06:43:00', 87, 44);
+INSERT INTO ${prefix}Tags VALUES (528, 744, TIMESTAMP '2012-03-05 00:19:00', 21, 11);
+INSERT INTO ${prefix}Tags VALUES (529, 139, TIMESTAMP '2015-02-19 01:43:00', 91, 9);
+INSERT INTO ${prefix}Tags VALUES (529, 709, TIMESTAMP '2010-08-19 00:27:00', 85, 28);
+INSERT INTO ${prefix}Tags VALUES (530, 319, TIMESTAMP '2013-01-16 04:18:00', 74, 46);
+INSERT INTO ${prefix}Tags VALUES (530, 341, TIMESTAMP '2011-07-08 18:16:00', 35, 40);
+INSERT INTO ${prefix}Tags VALUES (530, 402, TIMESTAMP '2016-10-07 10:37:00', 100, 90);
+INSERT INTO ${prefix}Tags VALUES (530, 429, TIMESTAMP '2018-06-19 04:08:00', 59, 65);
+INSERT INTO ${prefix}Tags VALUES (531, 552, TIMESTAMP '2016-08-28 19:44:00', 79, 19);
+INSERT INTO ${prefix}Tags VALUES (531, 672, TIMESTAMP '2013-08-21 05:58:00', 97, 38);
+INSERT INTO ${prefix}Tags VALUES (531, 726, TIMESTAMP '2018-10-10 17:28:00', 10, 20);
+INSERT INTO ${prefix}Tags VALUES (532, 21, TIMESTAMP '2011-07-16 04:39:00', 45, 51);
+INSERT INTO ${prefix}Tags VALUES (532, 132, TIMESTAMP '2018-09-03 05:33:00', 63, 10);
+INSERT INTO ${prefix}Tags VALUES (532, 631, TIMESTAMP '2012-09-15 22:21:00', 30, 33);
+INSERT INTO ${prefix}Tags VALUES (533, 121, TIMESTAMP '2017-04-05 06:17:00', 59, 79);
+INSERT INTO ${prefix}Tags VALUES (533, 400, TIMESTAMP '2016-11-13 00:58:00', 56, 26);
+INSERT INTO ${prefix}Tags VALUES (533, 424, TIMESTAMP '2016-12-13 00:11:00', 13, 80);
+INSERT INTO ${prefix}Tags VALUES (533, 629, TIMESTAMP '2014-07-23 19:43:00', 17, 98);
+INSERT INTO ${prefix}Tags VALUES (534, 350, TIMESTAMP '2015-07-11 08:48:00', 30, 24);
+INSERT INTO ${prefix}Tags VALUES (534, 736, TIMESTAMP '2010-08-13 22:43:00', 18, 59);
+INSERT INTO ${prefix}Tags VALUES (535, 256, TIMESTAMP '2010-12-24 05:42:00', 53, 15);
+INSERT INTO ${prefix}Tags VALUES (535, 298, TIMESTAMP '2014-06-19 08:58:00', 43, 35);
+INSERT INTO ${prefix}Tags VALUES (535, 654, TIMESTAMP '2017-05-12 00:12:00', 73, 72);
+INSERT INTO ${prefix}Tags VALUES (535, 720, TIMESTAMP '2012-01-18 13:24:00', 87, 0);
+INSERT INTO ${prefix}Tags VALUES (536, 292, TIMESTAMP '2011-04-10 20:52:00', 69, 68);
+INSERT INTO ${prefix}Tags VALUES (536, 329, TIMESTAMP '2017-07-01 08:17:00', 43, 38);
+INSERT INTO ${prefix}Tags VALUES (536, 485, TIMESTAMP '2014-10-12 14:29:00', 17, 11);
+INSERT INTO ${prefix}Tags VALUES (539, 0, TIMESTAMP '2012-04-03 09:06:00', 83, 6);
+INSERT INTO ${prefix}Tags VALUES (539, 57, TIMESTAMP '2012-05-14 06:28:00', 2, 61);
+INSERT INTO ${prefix}Tags VALUES (539, 193, TIMESTAMP '2015-12-09 00:22:00', 45, 75);
+INSERT INTO ${prefix}Tags VALUES (540, 191, TIMESTAMP '2013-09-22 17:43:00', 30, 42);
+INSERT INTO ${prefix}Tags VALUES (540, 347, TIMESTAMP '2018-05-17 09:05:00', 44, 60);
+INSERT INTO ${prefix}Tags VALUES (541, 146, TIMESTAMP '2011-04-10 23:33:00', 6, 19);
+INSERT INTO ${prefix}Tags VALUES (541, 778, TIMESTAMP '2013-05-04 13:43:00', 88, 62);
+INSERT INTO ${prefix}Tags VALUES (543, 62, TIMESTAMP '2017-02-26 05:59:00', 61, 56);
+INSERT INTO ${prefix}Tags VALUES (543, 127, TIMESTAMP '2014-12-07 16:08:00', 34, 60);
+INSERT INTO ${prefix}Tags VALUES (544, 113, TIMESTAMP '2017-10-14 15:57:00', 31, 91);
+INSERT INTO ${prefix}Tags VALUES (545, 171, TIMESTAMP '2017-03-11 21:17:00', 66, 33);
+INSERT INTO ${prefix}Tags VALUES (545, 412, TIMESTAMP '2018-10-02 05:09:00', 30, 8);
+INSERT INTO ${prefix}Tags VALUES (545, 680, TIMESTAMP '2017-05-25 07:26:00', 78, 28);
+INSERT INTO ${prefix}Tags VALUES (546, 653, TIMESTAMP '2014-01-26 13:58:00', 13, 16);
+INSERT INTO ${prefix}Tags VALUES (546, 683, TIMESTAMP '2016-09-16 08:50:00', 51, 33);
+INSERT INTO ${prefix}Tags VALUES (547, 189, TIMESTAMP '2013-03-28 08:35:00', 8, 2);
+INSERT INTO ${prefix}Tags VALUES (547, 534, TIMESTAMP '2013-03-15 08:59:00', 81, 12);
+INSERT INTO ${prefix}Tags VALUES (547, 602, TIMESTAMP '2011-05-02 12:26:00', 28, 18);
+INSERT INTO ${prefix}Tags VALUES (548, 160, TIMESTAMP '2010-03-27 05:50:00', 66, 33);
+INSERT INTO ${prefix}Tags VALUES (548, 374, TIMESTAMP '2015-09-13 13:20:00', 89, 82);
+INSERT INTO ${prefix}Tags VALUES (548, 439, TIMESTAMP '2016-09-11 12:00:00', 71, 93);
+INSERT INTO ${prefix}Tags VALUES (548, 493, TIMESTAMP '2016-10-26 15:52:00', 54, 44);
+INSERT INTO ${prefix}Tags VALUES (549, 143, TIMESTAMP '2012-10-21 23:01:00', 92, 93);
+INSERT INTO ${prefix}Tags VALUES (550, 52, TIMESTAMP '2010-02-07 15:29:00', 22, 13);
+INSERT INTO ${prefix}Tags VALUES (550, 465, TIMESTAMP '2015-12-16 14:13:00', 31, 87);
+INSERT INTO ${prefix}Tags VALUES (551, 774, TIMESTAMP '2012-12-06 22:45:00', 19, 79);
+INSERT INTO ${prefix}Tags VALUES (552, 50, TIMESTAMP '2012-07-10 09:58:00', 60, 29);
+INSERT INTO ${prefix}Tags VALUES (552, 397, TIMESTAMP '2017-01-20 16:45:00', 3, 93);
+INSERT INTO ${prefix}Tags VALUES (552, 571, TIMESTAMP '2015-04-28 18:51:00', 69, 40);
+INSERT INTO ${prefix}Tags VALUES (553, 209, TIMESTAMP '2013-01-28 16:37:00', 11, 16);
+INSERT INTO ${prefix}Tags VALUES (553, 292, TIMESTAMP '2016-08-16 04:50:00', 65, 29);
+INSERT INTO ${prefix}Tags VALUES (553, 596, TIMESTAMP '2017-03-03 22:25:00', 54, 39);
+INSERT INTO ${prefix}Tags VALUES (554, 337, TIMESTAMP '2010-10-13 02:29:00', 95, 0);
+INSERT INTO ${prefix}Tags VALUES (554, 401, TIMESTAMP '2017-07-23 23:29:00', 43, 92);
+INSERT INTO ${prefix}Tags VALUES (555, 603, TIMESTAMP '2013-08-27 02:03:00', 18, 13);
+INSERT INTO ${prefix}Tags VALUES (555, 706, TIMESTAMP '2017-03-11 15:54:00', 59, 14);
+INSERT INTO ${prefix}Tags VALUES (555, 789, TIMESTAMP '2016-07-08 10:27:00', 15, 68);
+INSERT INTO ${prefix}Tags VALUES (556, 236, TIMESTAMP '2013-05-19 10:25:00', 96, 3);
+INSERT INTO ${prefix}Tags VALUES (556, 500, TIMESTAMP '2013-06-01 16:55:00', 93, 4);
+INSERT INTO ${prefix}Tags VALUES (556, 696, TIMESTAMP '2013-09-15 11:28:00', 67, 46);
+INSERT INTO ${prefix}Tags VALUES (557, 113, TIMESTAMP '2014-04-09 15:01:00', 54, 95);
+INSERT INTO ${prefix}Tags VALUES (557, 173, TIMESTAMP '2013-11-06 17:42:00', 81, 50);
+INSERT INTO ${prefix}Tags VALUES (557, 747, TIMESTAMP '2010-09-28 09:59:00', 2, 93);
+INSERT INTO ${prefix}Tags VALUES (558, 153, TIMESTAMP '2014-06-05 09:17:00', 100, 46);
+INSERT INTO ${prefix}Tags VALUES (558, 214, TIMESTAMP '2014-12-17 22:29:00', 70, 41);
+INSERT INTO ${prefix}Tags VALUES (559, 277, TIMESTAMP '2013-02-28 03:38:00', 31, 96);
+INSERT INTO ${prefix}Tags VALUES (559, 558, TIMESTAMP '2016-06-23 17:36:00', 94, 17);
+INSERT INTO ${prefix}Tags VALUES (559, 645, TIMESTAMP '2016-01-22 18:53:00', 17, 6);
+INSERT INTO ${prefix}Tags VALUES (560, 233, TIMESTAMP '2012-05-20 13:50:00', 8, 18);
+INSERT INTO ${prefix}Tags VALUES (560, 356, TIMESTAMP '2017-12-25 11:46:00', 17, 84);
+INSERT INTO ${prefix}Tags VALUES (560, 449, TIMESTAMP '2016-11-11 17:14:00', 93, 59);
+INSERT INTO ${prefix}Tags VALUES (560, 570, TIMESTAMP '2014-12-20 03:31:00', 87, 86);
+INSERT INTO ${prefix}Tags VALUES (561, 138, TIMESTAMP '2017-11-26 08:48:00', 78, 31);
+INSERT INTO ${prefix}Tags VALUES (561, 345, TIMESTAMP '2012-12-21 04:35:00', 91, 71);
+INSERT INTO ${prefix}Tags VALUES (561, 585, TIMESTAMP '2017-11-22 12:15:00', 32, 56);
+INSERT INTO ${prefix}Tags VALUES (561, 784, TIMESTAMP '2018-12-16 09:27:00', 9, 40);
+INSERT INTO ${prefix}Tags VALUES (563, 102, TIMESTAMP '2015-11-08 03:24:00', 8, 73);
+INSERT INTO ${prefix}Tags VALUES (563, 711, TIMESTAMP '2013-01-08 15:33:00', 53, 32);
+INSERT INTO ${prefix}Tags VALUES (563, 746, TIMESTAMP '2010-11-25 08:50:00', 46, 64);
+INSERT INTO ${prefix}Tags VALUES (564, 50, TIMESTAMP '2013-12-01 15:12:00', 93, 3);
+INSERT INTO ${prefix}Tags VALUES (564, 593, TIMESTAMP '2013-01-15 11:36:00', 44, 92);
+INSERT INTO ${prefix}Tags VALUES (564, 611, TIMESTAMP '2017-10-11 04:49:00', 25, 34);
+INSERT INTO ${prefix}Tags VALUES (564, 784, TIMESTAMP '2017-06-16 16:53:00', 16, 98);
+INSERT INTO ${prefix}Tags VALUES (566, 111, TIMESTAMP '2017-11-16 18:07:00', 69, 91);
+INSERT INTO ${prefix}Tags VALUES (566, 676, TIMESTAMP '2016-05-15 12:05:00', 75, 49);
+INSERT INTO ${prefix}Tags VALUES (566, 725, TIMESTAMP '2014-02-24 18:25:00', 39, 44);
+INSERT INTO ${prefix}Tags VALUES (567, 224, TIMESTAMP '2010-05-05 17:09:00', 83, 36);
+INSERT INTO ${prefix}Tags VALUES (567, 770, TIMESTAMP '2017-10-25 10:40:00', 56, 45);
+INSERT INTO ${prefix}Tags VALUES (568, 594, TIMESTAMP '2015-01-28 16:59:00', 27, 44);
+INSERT INTO ${prefix}Tags VALUES (568, 624, TIMESTAMP '2014-12-17 12:06:00', 99, 38);
+INSERT INTO ${prefix}Tags VALUES (568, 713, TIMESTAMP '2010-01-02 13:45:00', 72, 87);
+INSERT INTO ${prefix}Tags VALUES (569, 222, TIMESTAMP '2012-12-09 04:31:00', 46, 66);
+INSERT INTO ${prefix}Tags VALUES (569, 249, TIMESTAMP '2015-12-25 12:40:00', 19, 90);
+INSERT INTO ${prefix}Tags VALUES (569, 355, TIMESTAMP '2010-08-02 07:12:00', 17, 97);
+INSERT INTO ${prefix}Tags VALUES (570, 39, TIMESTAMP '2014-06-27 14:40:00', 16, 6);
+INSERT INTO ${prefix}Tags VALUES (570, 381, TIMESTAMP '2015-09-03 09:35:00', 81, 76);
+INSERT INTO ${prefix}Tags VALUES (570, 786, TIMESTAMP '2013-05-14 23:11:00', 8, 58);
+INSERT INTO ${prefix}Tags VALUES (571, 105, TIMESTAMP '2014-04-03 18:45:00', 28, 7);
+INSERT INTO ${prefix}Tags VALUES (572, 393, TIMESTAMP '2016-04-19 14:45:00', 17, 45);
+INSERT INTO ${prefix}Tags VALUES (572, 447, TIMESTAMP '2010-10-05 16:51:00', 89, 57);
+INSERT INTO ${prefix}Tags VALUES (572, 569, TIMESTAMP '2011-01-24 12:38:00', 70, 26);
+INSERT INTO ${prefix}Tags VALUES (573, 31, TIMESTAMP '2010-09-27 19:45:00', 46, 55);
+INSERT INTO ${prefix}Tags VALUES (574, 74, TIMESTAMP '2018-06-21 07:11:00', 4, 42);
+INSERT INTO ${prefix}Tags VALUES (574, 113, TIMESTAMP '2011-07-02 09:01:00', 71, 20);
+INSERT INTO ${prefix}Tags VALUES (574, 217, TIMESTAMP '2018-10-19 17:10:00', 93, 65);
+INSERT INTO ${prefix}Tags VALUES (574, 368, TIMESTAMP '2011-01-11 16:57:00', 55, 89);
+INSERT INTO ${prefix}Tags VALUES (576, 305, TIMESTAMP '2010-09-17 04:50:00', 56, 20);
+INSERT INTO ${prefix}Tags VALUES (576, 656, TIMESTAMP '2015-09-20 09:11:00', 45, 72);
+INSERT INTO ${prefix}Tags VALUES (577, 439, TIMESTAMP '2010-07-04 23:29:00', 80, 15);
+INSERT INTO ${prefix}Tags VALUES (577, 741, TIMESTAMP '2010-08-16 06:22:00', 23, 62);
+INSERT INTO ${prefix}Tags VALUES (578, 170, TIMESTAMP '2011-05-10 10:02:00', 63, 11);
+INSERT INTO ${prefix}Tags VALUES (578, 624, TIMESTAMP '2014-02-20 00:18:00', 100, 20);
+INSERT INTO ${prefix}Tags VALUES (578, 776, TIMESTAMP '2016-03-05 09:21:00', 89, 35);
+INSERT INTO ${prefix}Tags VALUES (578, 783, TIMESTAMP '2013-05-24 12:39:00', 14, 85);
+INSERT INTO ${prefix}Tags VALUES (579, 54, TIMESTAMP '2016-03-05 23:01:00', 56, 7);
+INSERT INTO ${prefix}Tags VALUES (579, 463, TIMESTAMP '2017-09-01 09:43:00', 66, 96);
+INSERT INTO ${prefix}Tags VALUES (579, 508, TIMESTAMP '2013-06-17 22:51:00', 22, 26);
+INSERT INTO ${prefix}Tags VALUES (581, 388, TIMESTAMP '2012-04-21 20:56:00', 59, 15);
+INSERT INTO ${prefix}Tags VALUES (581, 435, TIMESTAMP '2011-01-02 11:39:00', 26, 73);
+INSERT INTO ${prefix}Tags VALUES (581, 463, TIMESTAMP '2018-03-14 02:41:00', 91, 14);
+INSERT INTO ${prefix}Tags VALUES (582, 336, TIMESTAMP '2010-02-14 09:23:00', 52, 50);
+INSERT INTO ${prefix}Tags VALUES (583, 342, TIMESTAMP '2017-12-26 10:09:00', 69, 9);
+INSERT INTO ${prefix}Tags VALUES (583, 367, TIMESTAMP '2014-01-09 02:09:00', 96, 98);
+INSERT INTO ${prefix}Tags VALUES (584, 782, TIMESTAMP '2018-05-15 19:45:00', 42, 73);
+INSERT INTO ${prefix}Tags VALUES (585, 5, TIMESTAMP '2013-12-28 00:57:00', 25, 91);
+INSERT INTO ${prefix}Tags VALUES (585, 266, TIMESTAMP '2010-11-28 22:36:00', 8, 91);
+INSERT INTO ${prefix}Tags VALUES (585, 790, TIMESTAMP '2011-12-22 02:37:00', 58, 21);
+INSERT INTO ${prefix}Tags VALUES (586, 463, TIMESTAMP '2016-12-21 07:40:00', 5, 59);
+INSERT INTO ${prefix}Tags VALUES (586, 686, TIMESTAMP '2013-03-18 11:41:00', 18, 29);
+INSERT INTO ${prefix}Tags VALUES (587, 743, TIMESTAMP '2012-11-07 23:28:00', 71, 41);
+INSERT INTO ${prefix}Tags VALUES (589, 135, TIMESTAMP '2015-05-19 09:33:00', 21, 45);
+INSERT INTO ${prefix}Tags VALUES (589, 194, TIMESTAMP '2011-12-09 06:48:00', 95, 37);
+INSERT INTO ${prefix}Tags VALUES (589, 371, TIMESTAMP '2015-12-10 04:24:00', 26, 23);
+INSERT INTO ${prefix}Tags VALUES (590, 221, TIMESTAMP '2012-06-21 18:44:00', 36, 94);
+INSERT INTO ${prefix}Tags VALUES (590, 576, TIMESTAMP '2013-05-11 10:45:00', 22, 21);
+INSERT INTO ${prefix}Tags VALUES (591, 324, TIMESTAMP '2014-06-15 01:49:00', 82, 44);
+INSERT INTO ${prefix}Tags VALUES (591, 522, TIMESTAMP '2015-08-22 04:14:00', 76, 47);
+INSERT INTO ${prefix}Tags VALUES (592, 675, TIMESTAMP '2017-07-05 01:29:00', 91, 43);
+INSERT INTO ${prefix}Tags VALUES (593, 134, TIMESTAMP '2018-12-01 04:51:00', 6, 73);
+INSERT INTO ${prefix}Tags VALUES (593, 209, TIMESTAMP '2018-08-20 16:02:00', 47, 13);
+INSERT INTO ${prefix}Tags VALUES (594, 30, TIMESTAMP '2016-12-23 15:09:00', 75, 74);
+INSERT INTO ${prefix}Tags VALUES (594, 370, TIMESTAMP '2012-02-21 04:59:00', 41, 38);
+INSERT INTO ${prefix}Tags VALUES (594, 408, TIMESTAMP '2018-10-03 06:02:00', 12, 14);
+INSERT INTO ${prefix}Tags VALUES (594, 783, TIMESTAMP '2015-05-17 13:29:00', 78, 52);
+INSERT INTO ${prefix}Tags VALUES (595, 420, TIMESTAMP '2010-04-05 12:29:00', 33, 49);
+INSERT INTO ${prefix}Tags VALUES (596, 32, TIMESTAMP '2018-03-04 21:55:00', 77, 76);
+INSERT INTO ${prefix}Tags VALUES (596, 287, TIMESTAMP '2015-09-23 12:21:00', 7, 95);
+INSERT INTO ${prefix}Tags VALUES (596, 491, TIMESTAMP '2010-01-09 13:41:00', 71, 97);
+INSERT INTO ${prefix}Tags VALUES (596, 792, TIMESTAMP '2017-01-13 09:34:00', 44, 45);
+INSERT INTO ${prefix}Tags VALUES (597, 168, TIMESTAMP '2015-06-11 15:48:00', 8, 4);
+INSERT INTO ${prefix}Tags VALUES (597, 426, TIMESTAMP '2017-02-10 16:29:00', 23, 70);
+INSERT INTO ${prefix}Tags VALUES (597, 466, TIMESTAMP '2016-03-20 12:18:00', 75, 66);
+INSERT INTO ${prefix}Tags VALUES (598, 381, TIMESTAMP '2013-01-05 10:22:00', 52, 5);
+INSERT INTO ${prefix}Tags VALUES (598, 594, TIMESTAMP '2017-02-14 04:31:00', 2, 100);
+INSERT INTO ${prefix}Tags VALUES (599, 93, TIMESTAMP '2017-02-02 07:02:00', 64, 82);
+INSERT INTO ${prefix}Tags VALUES (599, 377, TIMESTAMP '2018-05-06 06:00:00', 35, 58);
+INSERT INTO ${prefix}Tags VALUES (599, 669, TIMESTAMP '2017-09-11 16:45:00', 81, 23);
+INSERT INTO ${prefix}Tags VALUES (600, 299, TIMESTAMP '2013-02-15 00:48:00', 5, 3);
+INSERT INTO ${prefix}Tags VALUES (600, 736, TIMESTAMP '2014-07-09 22:18:00', 34, 88);
+INSERT INTO ${prefix}Tags VALUES (601, 155, TIMESTAMP '2013-06-27 15:18:00', 70, 82);
+INSERT INTO ${prefix}Tags VALUES (601, 687, TIMESTAMP '2015-10-28 08:50:00', 58, 91);
+INSERT INTO ${prefix}Tags VALUES (602, 174, TIMESTAMP '2016-06-13 11:59:00', 65, 68);
+INSERT INTO ${prefix}Tags VALUES (603, 101, TIMESTAMP '2010-02-16 02:46:00', 50, 2);
+INSERT INTO ${prefix}Tags VALUES (603, 138, TIMESTAMP '2010-11-26 06:46:00', 76, 60);
+INSERT INTO ${prefix}Tags VALUES (603, 358, TIMESTAMP '2014-01-26 08:00:00', 10, 52);
+INSERT INTO ${prefix}Tags VALUES (603, 422, TIMESTAMP '2015-10-14 14:56:00', 97, 1);
+INSERT INTO ${prefix}Tags VALUES (604, 291, TIMESTAMP '2017-11-19 07:26:00', 40, 36);
+INSERT INTO ${prefix}Tags VALUES (604, 451, TIMESTAMP '2013-05-12 03:33:00', 7, 44);
+INSERT INTO ${prefix}Tags VALUES (604, 547, TIMESTAMP '2011-08-25 23:05:00', 98, 77);
+INSERT INTO ${prefix}Tags VALUES (604, 609, TIMESTAMP '2011-11-06 21:41:00', 8, 71);
+INSERT INTO ${prefix}Tags VALUES (605, 512, TIMESTAMP '2018-12-01 00:31:00', 31, 95);
+INSERT INTO ${prefix}Tags VALUES (605, 519, TIMESTAMP '2010-08-18 14:24:00', 30, 48);
+INSERT INTO ${prefix}Tags VALUES (605, 625, TIMESTAMP '2018-10-11 04:21:00', 40, 59);
+INSERT INTO ${prefix}Tags VALUES (605, 727, TIMESTAMP '2010-04-16 18:14:00', 3, 5);
+INSERT INTO ${prefix}Tags VALUES (606, 48, TIMESTAMP '2013-04-28 00:09:00', 82, 24);
+INSERT INTO ${prefix}Tags VALUES (606, 321, TIMESTAMP '2018-02-25 23:59:00', 38, 5);
+INSERT INTO ${prefix}Tags VALUES (606, 496, TIMESTAMP '2018-01-08 01:22:00', 44, 6);
+INSERT INTO ${prefix}Tags VALUES (607, 227, TIMESTAMP '2012-02-20 23:39:00', 29, 13);
+INSERT INTO ${prefix}Tags VALUES (608, 458, TIMESTAMP '2013-12-15 00:41:00', 56, 35);
+INSERT INTO ${prefix}Tags VALUES (608, 511, TIMESTAMP '2011-02-28 08:01:00', 56, 48);
+INSERT INTO ${prefix}Tags VALUES (608, 588, TIMESTAMP '2014-01-01 23:14:00', 25, 29);
+INSERT INTO ${prefix}Tags VALUES (609, 78, TIMESTAMP '2011-04-10 04:08:00', 39, 1);
+INSERT INTO ${prefix}Tags VALUES (611, 379, TIMESTAMP '2014-11-02 23:01:00', 87, 57);
+INSERT INTO ${prefix}Tags VALUES (611, 554, TIMESTAMP '2011-03-05 07:10:00', 80, 27);
+INSERT INTO ${prefix}Tags VALUES (613, 157, TIMESTAMP '2015-01-10 22:19:00', 2, 74);
+INSERT INTO ${prefix}Tags VALUES (614, 25, TIMESTAMP '2013-05-02 13:43:00', 40, 93);
+INSERT INTO ${prefix}Tags VALUES (614, 38, TIMESTAMP '2018-01-04 04:48:00', 27, 0);
+INSERT INTO ${prefix}Tags VALUES (614, 218, TIMESTAMP '2015-05-06 13:40:00', 67, 10);
+INSERT INTO ${prefix}Tags VALUES (614, 562, TIMESTAMP '2013-08-27 11:08:00', 67, 35);
+INSERT INTO ${prefix}Tags VALUES (615, 209, TIMESTAMP '2015-07-12 13:41:00', 14, 67);
+INSERT INTO ${prefix}Tags VALUES (615, 398, TIMESTAMP '2015-08-07 14:24:00', 98, 58);
+INSERT INTO ${prefix}Tags VALUES (615, 413, TIMESTAMP '2017-05-05 06:24:00', 17, 46);
+INSERT INTO ${prefix}Tags VALUES (615, 601, TIMESTAMP '2012-06-07 16:09:00', 54, 25);
+INSERT INTO ${prefix}Tags VALUES (616, 133, TIMESTAMP '2016-04-14 15:52:00', 66, 60);
+INSERT INTO ${prefix}Tags VALUES (616, 381, TIMESTAMP '2010-04-12 23:10:00', 56, 42);
+INSERT INTO ${prefix}Tags VALUES (617, 219, TIMESTAMP '2016-08-14 14:45:00', 68, 36);
+INSERT INTO ${prefix}Tags VALUES (619, 58, TIMESTAMP '2014-05-11 21:56:00', 47, 48);
+INSERT INTO ${prefix}Tags VALUES (619, 483, TIMESTAMP '2014-09-15 01:23:00', 44, 4);
+INSERT INTO ${prefix}Tags VALUES (620, 64, TIMESTAMP '2010-04-04 04:11:00', 77, 93);
+INSERT INTO ${prefix}Tags VALUES (621, 280, TIMESTAMP '2014-09-22 04:52:00', 19, 25);
+INSERT INTO ${prefix}Tags VALUES (621, 288, TIMESTAMP '2013-03-18 12:00:00', 61, 100);
+INSERT INTO ${prefix}Tags VALUES (621, 317, TIMESTAMP '2010-09-27 13:12:00', 40, 100);
+INSERT INTO ${prefix}Tags VALUES (621, 525, TIMESTAMP '2018-01-17 21:48:00', 10, 76);
+INSERT INTO ${prefix}Tags VALUES (622, 188, TIMESTAMP '2015-03-01 00:40:00', 87, 44);
+INSERT INTO ${prefix}Tags VALUES (622, 331, TIMESTAMP '2016-11-14 09:44:00', 85, 33);
+INSERT INTO ${prefix}Tags VALUES (622, 434, TIMESTAMP '2013-06-08 13:17:00', 100, 66);
+INSERT INTO ${prefix}Tags VALUES (622, 737, TIMESTAMP '2013-01-10 05:19:00', 32, 86);
+INSERT INTO ${prefix}Tags VALUES (623, 33, TIMESTAMP '2012-05-22 03:49:00', 89, 15);
+INSERT INTO ${prefix}Tags VALUES (623, 566, TIMESTAMP '2012-06-08 15:39:00', 93, 50);
+INSERT INTO ${prefix}Tags VALUES (623, 707, TIMESTAMP '2015-05-02 12:22:00', 11, 37);
+INSERT INTO ${prefix}Tags VALUES (624, 167, TIMESTAMP '2010-06-11 04:19:00', 84, 3);
+INSERT INTO ${prefix}Tags VALUES (624, 477, TIMESTAMP '2013-01-27 13:46:00', 37, 39);
+INSERT INTO ${prefix}Tags VALUES (624, 684, TIMESTAMP '2010-07-19 09:15:00', 85, 74);
+INSERT INTO ${prefix}Tags VALUES (624, 702, TIMESTAMP '2016-12-18 21:06:00', 70, 34);
+INSERT INTO ${prefix}Tags VALUES (625, 393, TIMESTAMP '2016-08-27 15:17:00', 68, 94);
+INSERT INTO ${prefix}Tags VALUES (626, 16, TIMESTAMP '2016-01-19 14:36:00', 9, 85);
+INSERT INTO ${prefix}Tags VALUES (626, 93, TIMESTAMP '2014-10-27 22:47:00', 0, 73);
+INSERT INTO ${prefix}Tags VALUES (626, 122, TIMESTAMP '2017-12-21 00:10:00', 28, 81);
+INSERT INTO ${prefix}Tags VALUES (626, 219, TIMESTAMP '2012-09-07 01:00:00', 73, 89);
+INSERT INTO ${prefix}Tags VALUES (627, 4, TIMESTAMP '2018-03-28 12:21:00', 53, 54);
+INSERT INTO ${prefix}Tags VALUES (627, 606, TIMESTAMP '2013-08-13 12:25:00', 94, 30);
+INSERT INTO ${prefix}Tags VALUES (629, 172, TIMESTAMP '2012-08-17 19:51:00', 72, 75);
+INSERT INTO ${prefix}Tags VALUES (629, 247, TIMESTAMP '2011-06-13 16:34:00', 83, 37);
+INSERT INTO ${prefix}Tags VALUES (631, 4, TIMESTAMP '2011-08-01 13:13:00', 80, 33);
+INSERT INTO ${prefix}Tags VALUES (631, 115, TIMESTAMP '2018-02-17 14:31:00', 85, 49);
+INSERT INTO ${prefix}Tags VALUES (631, 472, TIMESTAMP '2016-01-03 19:01:00', 86, 56);
+INSERT INTO ${prefix}Tags VALUES (631, 553, TIMESTAMP '2013-09-28 21:57:00', 64, 18);
+INSERT INTO ${prefix}Tags VALUES (632, 647, TIMESTAMP '2011-05-13 10:55:00', 81, 46);
+INSERT INTO ${prefix}Tags VALUES (633, 81, TIMESTAMP '2018-02-24 19:53:00', 52, 29);
+INSERT INTO ${prefix}Tags VALUES (633, 138, TIMESTAMP '2014-11-19 17:26:00', 30, 17);
+INSERT INTO ${prefix}Tags VALUES (633, 737, TIMESTAMP '2014-02-07 20:25:00', 58, 57);
+INSERT INTO ${prefix}Tags VALUES (634, 155, TIMESTAMP '2014-06-02 06:06:00', 62, 95);
+INSERT INTO ${prefix}Tags VALUES (634, 223, TIMESTAMP '2011-01-21 22:37:00', 78, 56);
+INSERT INTO ${prefix}Tags VALUES (634, 684, TIMESTAMP '2018-12-20 22:50:00', 37, 1);
+INSERT INTO ${prefix}Tags VALUES (634, 725, TIMESTAMP '2010-02-25 08:24:00', 13, 87);
+INSERT INTO ${prefix}Tags VALUES (635, 193, TIMESTAMP '2016-08-06 21:28:00', 55, 75);
+INSERT INTO ${prefix}Tags VALUES (635, 258, TIMESTAMP '2016-05-17 19:29:00', 50, 83);
+INSERT INTO ${prefix}Tags VALUES (635, 271, TIMESTAMP '2011-07-07 12:11:00', 26, 83);
+INSERT INTO ${prefix}Tags VALUES (635, 567, TIMESTAMP '2010-02-16 22:57:00', 100, 20);
+INSERT INTO ${prefix}Tags VALUES (636, 212, TIMESTAMP '2018-10-03 05:03:00', 59, 79);
+INSERT INTO ${prefix}Tags VALUES (636, 378, TIMESTAMP '2010-09-10 00:38:00', 26, 18);
+INSERT INTO ${prefix}Tags VALUES (636, 435, TIMESTAMP '2015-07-11 00:28:00', 66, 47);
+INSERT INTO ${prefix}Tags VALUES (636, 507, TIMESTAMP '2010-12-20 10:22:00', 96, 94);
+INSERT INTO ${prefix}Tags VALUES (637, 66, TIMESTAMP '2012-02-28 16:05:00', 12, 33);
+INSERT INTO ${prefix}Tags VALUES (637, 151, TIMESTAMP '2014-01-03 14:41:00', 22, 8);
+INSERT INTO ${prefix}Tags VALUES (637, 358, TIMESTAMP '2012-06-07 15:17:00', 23, 11);
+INSERT INTO ${prefix}Tags VALUES (639, 191, TIMESTAMP '2016-11-27 13:41:00', 63, 41);
+INSERT INTO ${prefix}Tags VALUES (639, 298, TIMESTAMP '2010-01-10 06:23:00', 55, 41);
+INSERT INTO ${prefix}Tags VALUES (639, 680, TIMESTAMP '2017-10-04 06:02:00', 54, 14);
+INSERT INTO ${prefix}Tags VALUES (639, 718, TIMESTAMP '2013-07-02 11:05:00', 44, 57);
+INSERT INTO ${prefix}Tags VALUES (640, 323, TIMESTAMP '2010-08-15 08:15:00', 56, 89);
+INSERT INTO ${prefix}Tags VALUES (640, 586, TIMESTAMP '2016-02-06 00:44:00', 84, 19);
+INSERT INTO ${prefix}Tags VALUES (641, 645, TIMESTAMP '2012-02-02 18:55:00', 40, 36);
+INSERT INTO ${prefix}Tags VALUES (642, 316, TIMESTAMP '2012-07-19 10:07:00', 57, 18);
+INSERT INTO ${prefix}Tags VALUES (642, 563, TIMESTAMP '2013-07-22 22:49:00', 98, 19);
+INSERT INTO ${prefix}Tags VALUES (642, 592, TIMESTAMP '2015-06-07 02:02:00', 82, 14);
+INSERT INTO ${prefix}Tags VALUES (644, 395, TIMESTAMP '2017-02-16 09:46:00', 33, 19);
+INSERT INTO ${prefix}Tags VALUES (645, 61, TIMESTAMP '2016-03-02 18:05:00', 48, 55);
+INSERT INTO ${prefix}Tags VALUES (645, 176, TIMESTAMP '2017-02-28 13:09:00', 49, 48);
+INSERT INTO ${prefix}Tags VALUES (646, 132, TIMESTAMP '2017-04-18 21:09:00', 82, 17);
+INSERT INTO ${prefix}Tags VALUES (647, 305, TIMESTAMP '2017-11-12 04:51:00', 25, 58);
+INSERT INTO ${prefix}Tags VALUES (647, 553, TIMESTAMP '2013-09-16 21:57:00', 40, 80);
+INSERT INTO ${prefix}Tags VALUES (647, 586, TIMESTAMP '2016-07-27 18:53:00', 60, 63);
+INSERT INTO ${prefix}Tags VALUES (647, 598, TIMESTAMP '2016-06-27 16:53:00', 89, 30);
+INSERT INTO ${prefix}Tags VALUES (648, 141, TIMESTAMP '2013-07-09 22:15:00', 20, 38);
+INSERT INTO ${prefix}Tags VALUES (648, 301, TIMESTAMP '2014-03-08 22:51:00', 8, 76);
+INSERT INTO ${prefix}Tags VALUES (649, 254, TIMESTAMP '2018-05-15 19:22:00', 94, 3);
+INSERT INTO ${prefix}Tags VALUES (649, 271, TIMESTAMP '2014-04-28 10:25:00', 14, 13);
+INSERT INTO ${prefix}Tags VALUES (649, 318, TIMESTAMP '2014-06-05 23:19:00', 60, 93);
+INSERT INTO ${prefix}Tags VALUES (649, 514, TIMESTAMP '2012-01-10 10:24:00', 57, 13);
+INSERT INTO ${prefix}Tags VALUES (650, 434, TIMESTAMP '2015-07-22 11:53:00', 67, 49);
+INSERT INTO ${prefix}Tags VALUES (650, 672, TIMESTAMP '2011-06-07 00:37:00', 80, 52);
+INSERT INTO ${prefix}Tags VALUES (651, 402, TIMESTAMP '2015-01-02 11:11:00', 22, 47);
+INSERT INTO ${prefix}Tags VALUES (651, 510, TIMESTAMP '2013-08-23 03:49:00', 45, 43);
+INSERT INTO ${prefix}Tags VALUES (652, 21, TIMESTAMP '2012-06-10 23:32:00', 80, 65);
+INSERT INTO ${prefix}Tags VALUES (652, 93, TIMESTAMP '2016-01-01 11:51:00', 36, 36);
+INSERT INTO ${prefix}Tags VALUES (652, 261, TIMESTAMP '2015-03-06 16:41:00', 62, 42);
+INSERT INTO ${prefix}Tags VALUES (652, 758, TIMESTAMP '2012-02-10 04:05:00', 95, 50);
+INSERT INTO ${prefix}Tags VALUES (653, 205, TIMESTAMP '2016-09-01 01:09:00', 60, 45);
+INSERT INTO ${prefix}Tags VALUES (653, 570, TIMESTAMP '2015-03-17 16:36:00', 24, 65);
+INSERT INTO ${prefix}Tags VALUES (653, 732, TIMESTAMP '2015-09-11 08:36:00', 32, 21);
+INSERT INTO ${prefix}Tags VALUES (655, 463, TIMESTAMP '2015-02-01 15:49:00', 51, 50);
+INSERT INTO ${prefix}Tags VALUES (655, 528, TIMESTAMP '2014-12-05 13:31:00', 13, 38);
+INSERT INTO ${prefix}Tags VALUES (655, 795, TIMESTAMP '2013-06-27 12:09:00', 62, 10);
+INSERT INTO ${prefix}Tags VALUES (656, 385, TIMESTAMP '2010-01-12 06:43:00', 62, 16);
+INSERT INTO ${prefix}Tags VALUES (656, 504, TIMESTAMP '2011-03-08 22:14:00', 99, 23);
+INSERT INTO ${prefix}Tags VALUES (657, 451, TIMESTAMP '2018-11-23 18:28:00', 98, 73);
+INSERT INTO ${prefix}Tags VALUES (657, 678, TIMESTAMP '2012-07-02 01:59:00', 44, 4);
+INSERT INTO ${prefix}Tags VALUES (657, 778, TIMESTAMP '2011-11-20 16:29:00', 69, 71);
+INSERT INTO ${prefix}Tags VALUES (658, 83, TIMESTAMP '2010-02-01 10:30:00', 94, 99);
+INSERT INTO ${prefix}Tags VALUES (658, 675, TIMESTAMP '2012-11-24 09:47:00', 100, 87);
+INSERT INTO ${prefix}Tags VALUES (659, 386, TIMESTAMP '2018-10-18 20:27:00', 16, 45);
+INSERT INTO ${prefix}Tags VALUES (659, 643, TIMESTAMP '2010-11-25 18:25:00', 74, 71);
+INSERT INTO ${prefix}Tags VALUES (660, 205, TIMESTAMP '2015-01-28 07:22:00', 5, 76);
+INSERT INTO ${prefix}Tags VALUES (660, 274, TIMESTAMP '2014-06-24 12:00:00', 92, 91);
+INSERT INTO ${prefix}Tags VALUES (660, 391, TIMESTAMP '2012-08-17 17:30:00', 3, 69);
+INSERT INTO ${prefix}Tags VALUES (661, 60, TIMESTAMP '2017-08-01 06:55:00', 52, 83);
+INSERT INTO ${prefix}Tags VALUES (661, 131, TIMESTAMP '2011-05-26 14:05:00', 99, 42);
+INSERT INTO ${prefix}Tags VALUES (661, 451, TIMESTAMP '2013-11-14 20:10:00', 73, 82);
+INSERT INTO ${prefix}Tags VALUES (661, 608, TIMESTAMP '2018-01-16 23:49:00', 76, 37);
+INSERT INTO ${prefix}Tags VALUES (662, 104, TIMESTAMP '2011-01-14 15:07:00', 27, 78);
+INSERT INTO ${prefix}Tags VALUES (663, 137, TIMESTAMP '2012-05-06 18:34:00', 72, 4);
+INSERT INTO ${prefix}Tags VALUES (663, 161, TIMESTAMP '2012-03-12 00:47:00', 27, 72);
+INSERT INTO ${prefix}Tags VALUES (663, 782, TIMESTAMP '2018-10-09 15:41:00', 11, 41);
+INSERT INTO ${prefix}Tags VALUES (664, 170, TIMESTAMP '2016-11-24 07:04:00', 25, 44);
+INSERT INTO ${prefix}Tags VALUES (664, 705, TIMESTAMP '2010-07-15 19:49:00', 29, 4);
+INSERT INTO ${prefix}Tags VALUES (664, 796, TIMESTAMP '2010-07-22 02:27:00', 96, 20);
+INSERT INTO ${prefix}Tags VALUES (665, 454, TIMESTAMP '2010-04-12 19:28:00', 74, 9);
+INSERT INTO ${prefix}Tags VALUES (665, 611, TIMESTAMP '2013-08-24 09:44:00', 83, 47);
+INSERT INTO ${prefix}Tags VALUES (666, 81, TIMESTAMP '2015-07-25 12:02:00', 95, 59);
+INSERT INTO ${prefix}Tags VALUES (666, 199, TIMESTAMP '2015-06-03 05:39:00', 78, 43);
+INSERT INTO ${prefix}Tags VALUES (666, 273, TIMESTAMP '2016-02-08 05:43:00', 8, 99);
+INSERT INTO ${prefix}Tags VALUES (667, 113, TIMESTAMP '2014-02-14 21:42:00', 82, 41);
+INSERT INTO ${prefix}Tags VALUES (667, 498, TIMESTAMP '2018-01-14 07:53:00', 32, 31);
+INSERT INTO ${prefix}Tags VALUES (668, 334, TIMESTAMP '2016-07-12 12:25:00', 60, 82);
+INSERT INTO ${prefix}Tags VALUES (669, 346, TIMESTAMP '2015-09-12 09:46:00', 21, 56);
+INSERT INTO ${prefix}Tags VALUES (670, 463, TIMESTAMP '2016-01-07 04:30:00', 89, 56);
+INSERT INTO ${prefix}Tags VALUES (670, 595, TIMESTAMP '2016-11-01 05:23:00', 77, 6);
+INSERT INTO ${prefix}Tags VALUES (671, 83, TIMESTAMP '2011-07-11 05:05:00', 100, 13);
+INSERT INTO ${prefix}Tags VALUES (672, 188, TIMESTAMP '2016-01-24 15:22:00', 4, 15);
+INSERT INTO ${prefix}Tags VALUES (672, 267, TIMESTAMP '2011-02-10 18:01:00', 77, 88);
+INSERT INTO ${prefix}Tags VALUES (672, 617, TIMESTAMP '2018-02-21 05:01:00', 64, 42);
+INSERT INTO ${prefix}Tags VALUES (673, 662, TIMESTAMP '2013-05-27 15:25:00', 4, 60);
+INSERT INTO ${prefix}Tags VALUES (674, 393, TIMESTAMP '2010-06-14 11:17:00', 98, 94);
+INSERT INTO ${prefix}Tags VALUES (674, 418, TIMESTAMP '2011-02-09 10:41:00', 25, 26);
+INSERT INTO ${prefix}Tags VALUES (675, 472, TIMESTAMP '2014-04-23 05:38:00', 33, 63);
+INSERT INTO ${prefix}Tags VALUES (676, 329, TIMESTAMP '2012-08-24 15:19:00', 31, 64);
+INSERT INTO ${prefix}Tags VALUES (676, 439, TIMESTAMP '2015-03-23 07:53:00', 63, 98);
+INSERT INTO ${prefix}Tags VALUES (676, 758, TIMESTAMP '2010-11-08 01:09:00', 54, 94);
+INSERT INTO ${prefix}Tags VALUES (677, 285, TIMESTAMP '2018-01-19 12:44:00', 97, 56);
+INSERT INTO ${prefix}Tags VALUES (677, 328, TIMESTAMP '2014-12-28 16:07:00', 14, 60);
+INSERT INTO ${prefix}Tags VALUES (677, 621, TIMESTAMP '2011-03-06 16:23:00', 4, 98);
+INSERT INTO ${prefix}Tags VALUES (677, 746, TIMESTAMP '2010-01-12 20:46:00', 94, 86);
+INSERT INTO ${prefix}Tags VALUES (678, 252, TIMESTAMP '2012-06-26 04:12:00', 3, 70);
+INSERT INTO ${prefix}Tags VALUES (678, 315, TIMESTAMP '2012-05-21 02:15:00', 35, 82);
+INSERT INTO ${prefix}Tags VALUES (679, 506, TIMESTAMP '2013-10-19 07:03:00', 21, 22);
+INSERT INTO ${prefix}Tags VALUES (679, 557, TIMESTAMP '2012-08-18 20:27:00', 25, 19);
+INSERT INTO ${prefix}Tags VALUES (679, 740, TIMESTAMP '2016-04-15 23:52:00', 15, 68);
+INSERT INTO ${prefix}Tags VALUES (680, 572, TIMESTAMP '2018-12-24 01:46:00', 27, 2);
+INSERT INTO ${prefix}Tags VALUES (680, 720, TIMESTAMP '2013-11-17 18:25:00', 3, 91);
+INSERT INTO ${prefix}Tags VALUES (681, 9, TIMESTAMP '2018-07-11 02:48:00', 48, 34);
+INSERT INTO ${prefix}Tags VALUES (682, 166, TIMESTAMP '2015-06-08 19:46:00', 33, 76);
+INSERT INTO ${prefix}Tags VALUES (682, 378, TIMESTAMP '2011-01-23 06:40:00', 70, 23);
+INSERT INTO ${prefix}Tags VALUES (683, 341, TIMESTAMP '2010-04-16 17:35:00', 63, 92);
+INSERT INTO ${prefix}Tags VALUES (684, 97, TIMESTAMP '2012-05-27 02:15:00', 42, 10);
+INSERT INTO ${prefix}Tags VALUES (685, 79, TIMESTAMP '2013-12-02 06:13:00', 76, 55);
+INSERT INTO ${prefix}Tags VALUES (685, 404, TIMESTAMP '2011-03-05 15:44:00', 31, 60);
+INSERT INTO ${prefix}Tags VALUES (685, 514, TIMESTAMP '2011-11-11 01:38:00', 86, 35);
+INSERT INTO ${prefix}Tags VALUES (686, 44, TIMESTAMP '2012-05-23 03:56:00', 83, 28);
+INSERT INTO ${prefix}Tags VALUES (686, 388, TIMESTAMP '2011-12-15 21:09:00', 3, 84);
+INSERT INTO ${prefix}Tags VALUES (686, 402, TIMESTAMP '2015-01-25 13:05:00', 25, 83);
+INSERT INTO ${prefix}Tags VALUES (686, 466, TIMESTAMP '2011-04-14 23:31:00', 5, 99);
+INSERT INTO ${prefix}Tags VALUES (688, 191, TIMESTAMP '2017-12-20 10:32:00', 43, 28);
+INSERT INTO ${prefix}Tags VALUES (688, 474, TIMESTAMP '2014-06-17 06:45:00', 87, 77);
+INSERT INTO ${prefix}Tags VALUES (688, 558, TIMESTAMP '2011-01-07 09:29:00', 43, 95);
+INSERT INTO ${prefix}Tags VALUES (689, 41, TIMESTAMP '2018-10-18 07:30:00', 81, 18);
+INSERT INTO ${prefix}Tags VALUES (690, 518, TIMESTAMP '2015-06-20 10:56:00', 71, 89);
+INSERT INTO ${prefix}Tags VALUES (690, 590, TIMESTAMP '2017-06-14 17:50:00', 100, 24);
+INSERT INTO ${prefix}Tags VALUES (691, 230, TIMESTAMP '2017-02-16 19:12:00', 48, 98);
+INSERT INTO ${prefix}Tags VALUES (691, 337, TIMESTAMP '2011-08-09 00:52:00', 51, 71);
+INSERT INTO ${prefix}Tags VALUES (691, 606, TIMESTAMP '2014-09-25 02:06:00', 6, 58);
+INSERT INTO ${prefix}Tags VALUES (691, 647, TIMESTAMP '2018-08-07 12:49:00', 73, 46);
+INSERT INTO ${prefix}Tags VALUES (692, 66, TIMESTAMP '2013-08-28 04:14:00', 77, 73);
+INSERT INTO ${prefix}Tags VALUES (692, 192, TIMESTAMP '2016-09-27 03:53:00', 28, 92);
+INSERT INTO ${prefix}Tags VALUES (692, 678, TIMESTAMP '2015-10-28 01:13:00', 43, 44);
+INSERT INTO ${prefix}Tags VALUES (693, 1, TIMESTAMP '2015-09-22 14:38:00', 94, 84);
+INSERT INTO ${prefix}Tags VALUES (693, 380, TIMESTAMP '2011-11-24 19:45:00', 40, 40);
+INSERT INTO ${prefix}Tags VALUES (693, 399, TIMESTAMP '2017-07-26 19:11:00', 79, 75);
+INSERT INTO ${prefix}Tags VALUES (693, 519, TIMESTAMP '2015-06-14 11:30:00', 18, 76);
+INSERT INTO ${prefix}Tags VALUES (695, 263, TIMESTAMP '2016-09-21 08:22:00', 70, 70);
+INSERT INTO ${prefix}Tags VALUES (695, 289, TIMESTAMP '2015-09-05 06:03:00', 42, 0);
+INSERT INTO ${prefix}Tags VALUES (697, 88, TIMESTAMP '2014-06-25 14:21:00', 93, 30);
+INSERT INTO ${prefix}Tags VALUES (697, 172, TIMESTAMP '2016-01-15 12:08:00', 54, 71);
+INSERT INTO ${prefix}Tags VALUES (697, 350, TIMESTAMP '2018-07-02 13:12:00', 9, 49);
+INSERT INTO ${prefix}Tags VALUES (698, 516, TIMESTAMP '2012-08-02 23:50:00', 8, 47);
+INSERT INTO ${prefix}Tags VALUES (700, 89, TIMESTAMP '2013-09-14 01:22:00', 42, 62);
+INSERT INTO ${prefix}Tags VALUES (700, 179, TIMESTAMP '2017-04-15 02:54:00', 32, 44);
+INSERT INTO ${prefix}Tags VALUES (700, 668, TIMESTAMP '2014-11-19 05:29:00', 27, 96);
+INSERT INTO ${prefix}Tags VALUES (701, 622, TIMESTAMP '2012-10-28 04:54:00', 8, 7);
+INSERT INTO ${prefix}Tags VALUES (703, 135, TIMESTAMP '2014-07-13 04:55:00', 25, 75);
+INSERT INTO ${prefix}Tags VALUES (704, 208, TIMESTAMP '2010-09-15 06:10:00', 99, 60);
+INSERT INTO ${prefix}Tags VALUES (704, 390, TIMESTAMP '2015-07-02 17:54:00', 34, 13);
+INSERT INTO ${prefix}Tags VALUES (704, 570, TIMESTAMP '2016-01-01 04:49:00', 27, 33);
+INSERT INTO ${prefix}Tags VALUES (705, 251, TIMESTAMP '2014-08-16 23:54:00', 26, 33);
+INSERT INTO ${prefix}Tags VALUES (705, 731, TIMESTAMP '2017-04-13 10:48:00', 43, 58);
+INSERT INTO ${prefix}Tags VALUES (706, 186, TIMESTAMP '2018-06-18 05:02:00', 33, 62);
+INSERT INTO ${prefix}Tags VALUES (706, 312, TIMESTAMP '2012-05-21 16:31:00', 56, 61);
+INSERT INTO ${prefix}Tags VALUES (706, 324, TIMESTAMP '2014-09-24 22:05:00', 40, 81);
+INSERT INTO ${prefix}Tags VALUES (707, 110, TIMESTAMP '2013-05-21 02:08:00', 64, 60);
+INSERT INTO ${prefix}Tags VALUES (707, 258, TIMESTAMP '2010-07-12 02:25:00', 28, 41);
+INSERT INTO ${prefix}Tags VALUES (707, 555, TIMESTAMP '2014-10-12 02:02:00', 49, 96);
+INSERT INTO ${prefix}Tags VALUES (708, 693, TIMESTAMP '2010-08-18 11:33:00', 98, 70);
+INSERT INTO ${prefix}Tags VALUES (709, 126, TIMESTAMP '2010-12-09 18:00:00', 78, 74);
+INSERT INTO ${prefix}Tags VALUES (709, 243, TIMESTAMP '2015-09-12 21:15:00', 97, 4);
+INSERT INTO ${prefix}Tags VALUES (710, 194, TIMESTAMP '2017-09-06 17:08:00', 8, 14);
+INSERT INTO ${prefix}Tags VALUES (711, 178, TIMESTAMP '2011-01-21 01:20:00', 82, 12);
+INSERT INTO ${prefix}Tags VALUES (711, 349, TIMESTAMP '2012-04-09 20:20:00', 84, 77);
+INSERT INTO ${prefix}Tags VALUES (711, 770, TIMESTAMP '2016-12-13 23:57:00', 39, 25);
+INSERT INTO ${prefix}Tags VALUES (713, 138, TIMESTAMP '2013-06-20 14:31:00', 94, 74);
+INSERT INTO ${prefix}Tags VALUES (713, 147, TIMESTAMP '2012-09-10 21:18:00', 27, 96);
+INSERT INTO ${prefix}Tags VALUES (713, 202, TIMESTAMP '2013-06-07 17:23:00', 25, 69);
+INSERT INTO ${prefix}Tags VALUES (713, 285, TIMESTAMP '2017-02-14 21:19:00', 73, 37);
+INSERT INTO ${prefix}Tags VALUES (714, 95, TIMESTAMP '2011-04-14 02:59:00', 42, 44);
+INSERT INTO ${prefix}Tags VALUES (714, 416, TIMESTAMP '2012-12-10 05:54:00', 7, 24);
+INSERT INTO ${prefix}Tags VALUES (714, 599, TIMESTAMP '2014-10-03 20:33:00', 48, 47);
+INSERT INTO ${prefix}Tags VALUES (714, 618, TIMESTAMP '2014-10-15 08:48:00', 48, 20);
+INSERT INTO ${prefix}Tags VALUES (715, 790, TIMESTAMP '2017-04-19 10:03:00', 74, 89);
+INSERT INTO ${prefix}Tags VALUES (716, 279, TIMESTAMP '2012-08-12 19:44:00', 89, 0);
+INSERT INTO ${prefix}Tags VALUES (716, 379, TIMESTAMP '2017-07-27 18:19:00', 56, 87);
+INSERT INTO ${prefix}Tags VALUES (716, 475, TIMESTAMP '2014-09-10 01:28:00', 99, 17);
+INSERT INTO ${prefix}Tags VALUES (717, 148, TIMESTAMP '2018-08-07 11:56:00', 93, 18);
+INSERT INTO ${prefix}Tags VALUES (717, 219, TIMESTAMP '2015-01-27 13:06:00', 66, 8);
+INSERT INTO ${prefix}Tags VALUES (717, 305, TIMESTAMP '2011-02-17 22:46:00', 62, 96);
+INSERT INTO ${prefix}Tags VALUES (718, 579, TIMESTAMP '2013-12-04 12:17:00', 47, 14);
+INSERT INTO ${prefix}Tags VALUES (719, 290, TIMESTAMP '2018-02-04 21:50:00', 66, 93);
+INSERT INTO ${prefix}Tags VALUES (720, 225, TIMESTAMP '2013-01-16 05:14:00', 95, 68);
+INSERT INTO ${prefix}Tags VALUES (720, 272, TIMESTAMP '2015-08-05 09:20:00', 64, 23);
+INSERT INTO ${prefix}Tags VALUES (720, 648, TIMESTAMP '2014-01-01 10:35:00', 100, 40);
+INSERT INTO ${prefix}Tags VALUES (721, 19, TIMESTAMP '2012-10-08 01:58:00', 50, 81);
+INSERT INTO ${prefix}Tags VALUES (721, 92, TIMESTAMP '2017-11-01 03:24:00', 66, 86);
+INSERT INTO ${prefix}Tags VALUES (721, 145, TIMESTAMP '2011-04-21 21:46:00', 39, 45);
+INSERT INTO ${prefix}Tags VALUES (723, 195, TIMESTAMP '2012-03-02 17:14:00', 36, 31);
+INSERT INTO ${prefix}Tags VALUES (723, 292, TIMESTAMP '2015-04-04 12:33:00', 21, 15);
+INSERT INTO ${prefix}Tags VALUES (723, 543, TIMESTAMP '2017-03-21 06:19:00', 19, 90);
+INSERT INTO ${prefix}Tags VALUES (724, 139, TIMESTAMP '2018-03-08 22:50:00', 8, 74);
+INSERT INTO ${prefix}Tags VALUES (724, 515, TIMESTAMP '2016-05-06 19:47:00', 11, 52);
+INSERT INTO ${prefix}Tags VALUES (724, 722, TIMESTAMP '2015-03-16 10:45:00', 100, 31);
+INSERT INTO ${prefix}Tags VALUES (725, 59, TIMESTAMP '2017-09-04 02:23:00', 85, 18);
+INSERT INTO ${prefix}Tags VALUES (726, 53, TIMESTAMP '2016-06-02 09:07:00', 21, 87);
+INSERT INTO ${prefix}Tags VALUES (726, 436, TIMESTAMP '2014-09-10 18:09:00', 79, 69);
+INSERT INTO ${prefix}Tags VALUES (727, 746, TIMESTAMP '2014-01-10 01:48:00', 90, 22);
+INSERT INTO ${prefix}Tags VALUES (727, 768, TIMESTAMP '2014-11-14 07:43:00', 13, 66);
+INSERT INTO ${prefix}Tags VALUES (728, 313, TIMESTAMP '2014-01-11 04:20:00', 35, 78);
+INSERT INTO ${prefix}Tags VALUES (728, 730, TIMESTAMP '2015-12-04 16:48:00', 77, 3);
+INSERT INTO ${prefix}Tags VALUES (729, 196, TIMESTAMP '2016-09-27 21:04:00', 28, 73);
+INSERT INTO ${prefix}Tags VALUES (729, 634, TIMESTAMP '2010-07-06 14:00:00', 56, 80);
+INSERT INTO ${prefix}Tags VALUES (730, 234, TIMESTAMP '2014-04-05 03:31:00', 30, 35);
+INSERT INTO ${prefix}Tags VALUES (730, 580, TIMESTAMP '2016-11-17 13:12:00', 71, 65);
+INSERT INTO ${prefix}Tags VALUES (731, 551, TIMESTAMP '2015-01-28 05:59:00', 90, 4);
+INSERT INTO ${prefix}Tags VALUES (731, 771, TIMESTAMP '2011-03-24 22:57:00', 28, 80);
+INSERT INTO ${prefix}Tags VALUES (732, 141, TIMESTAMP '2012-02-10 04:01:00', 13, 7);
+INSERT INTO ${prefix}Tags VALUES (732, 722, TIMESTAMP '2012-02-05 19:14:00', 79, 64);
+INSERT INTO ${prefix}Tags VALUES (733, 139, TIMESTAMP '2012-10-01 06:56:00', 31, 85);
+INSERT INTO ${prefix}Tags VALUES (734, 40, TIMESTAMP '2018-02-05 00:57:00', 95, 48);
+INSERT INTO ${prefix}Tags VALUES (734, 350, TIMESTAMP '2017-10-25 07:52:00', 25, 11);
+INSERT INTO ${prefix}Tags VALUES (734, 648, TIMESTAMP '2013-10-02 05:57:00', 38, 88);
+INSERT INTO ${prefix}Tags VALUES (735, 11, TIMESTAMP '2015-06-08 18:20:00', 80, 84);
+INSERT INTO ${prefix}Tags VALUES (735, 29, TIMESTAMP '2016-02-28 11:57:00', 67, 26);
+INSERT INTO ${prefix}Tags VALUES (735, 459, TIMESTAMP '2012-05-12 09:34:00', 62, 63);
+INSERT INTO ${prefix}Tags VALUES (736, 79, TIMESTAMP '2016-05-10 03:58:00', 14, 11);
+INSERT INTO ${prefix}Tags VALUES (736, 114, TIMESTAMP '2011-03-12 20:50:00', 23, 46);
+INSERT INTO ${prefix}Tags VALUES (736, 567, TIMESTAMP '2012-01-01 19:36:00', 11, 77);
+INSERT INTO ${prefix}Tags VALUES (736, 613, TIMESTAMP '2011-08-19 12:39:00', 63, 16);
+INSERT INTO ${prefix}Tags VALUES (737, 380, TIMESTAMP '2014-03-26 21:48:00', 55, 45);
+INSERT INTO ${prefix}Tags VALUES (737, 513, TIMESTAMP '2015-01-05 12:35:00', 44, 63);
+INSERT INTO ${prefix}Tags VALUES (738, 243, TIMESTAMP '2010-11-01 02:56:00', 43, 74);
+INSERT INTO ${prefix}Tags VALUES (738, 284, TIMESTAMP '2013-03-01 02:44:00', 45, 25);
+INSERT INTO ${prefix}Tags VALUES (738, 624, TIMESTAMP '2011-09-11 16:24:00', 51, 82);
+INSERT INTO ${prefix}Tags VALUES (739, 206, TIMESTAMP '2014-09-23 08:12:00', 95, 73);
+INSERT INTO ${prefix}Tags VALUES (739, 414, TIMESTAMP '2011-06-26 20:58:00', 25, 71);
+INSERT INTO ${prefix}Tags VALUES (739, 562, TIMESTAMP '2014-09-15 00:45:00', 43, 75);
+INSERT INTO ${prefix}Tags VALUES (739, 781, TIMESTAMP '2013-04-14 05:32:00', 79, 55);
+INSERT INTO ${prefix}Tags VALUES (740, 128, TIMESTAMP '2015-09-08 12:10:00', 54, 44);
+INSERT INTO ${prefix}Tags VALUES (740, 326, TIMESTAMP '2011-03-24 03:05:00', 22, 56);
+INSERT INTO ${prefix}Tags VALUES (740, 327, TIMESTAMP '2011-11-27 23:07:00', 93, 93);
+INSERT INTO ${prefix}Tags VALUES (740, 780, TIMESTAMP '2012-10-19 05:23:00', 17, 98);
+INSERT INTO ${prefix}Tags VALUES (741, 303, TIMESTAMP '2017-07-03 12:05:00', 11, 31);
+INSERT INTO ${prefix}Tags VALUES (741, 329, TIMESTAMP '2018-08-27 08:37:00', 41, 51);
+INSERT INTO ${prefix}Tags VALUES (742, 753, TIMESTAMP '2018-10-25 19:57:00', 99, 75);
+INSERT INTO ${prefix}Tags VALUES (744, 332, TIMESTAMP '2015-01-06 11:52:00', 35, 21);
+INSERT INTO ${prefix}Tags VALUES (745, 364, TIMESTAMP '2017-08-01 05:08:00', 100, 23);
+INSERT INTO ${prefix}Tags VALUES (745, 741, TIMESTAMP '2016-07-08 20:05:00', 77, 20);
+INSERT INTO ${prefix}Tags VALUES (747, 177, TIMESTAMP '2014-05-05 03:25:00', 69, 23);
+INSERT INTO ${prefix}Tags VALUES (747, 790, TIMESTAMP '2013-05-13 10:20:00', 89, 40);
+INSERT INTO ${prefix}Tags VALUES (748, 242, TIMESTAMP '2018-08-23 08:05:00', 51, 32);
+INSERT INTO ${prefix}Tags VALUES (748, 497, TIMESTAMP '2017-03-28 00:39:00', 50, 84);
+INSERT INTO ${prefix}Tags VALUES (749, 125, TIMESTAMP '2018-03-20 22:21:00', 64, 77);
+INSERT INTO ${prefix}Tags VALUES (749, 236, TIMESTAMP '2011-11-04 05:54:00', 60, 88);
+INSERT INTO ${prefix}Tags VALUES (749, 663, TIMESTAMP '2011-10-27 08:47:00', 78, 5);
+INSERT INTO ${prefix}Tags VALUES (750, 169, TIMESTAMP '2017-11-06 02:24:00', 28, 75);
+INSERT INTO ${prefix}Tags VALUES (750, 456, TIMESTAMP '2014-08-16 04:19:00', 79, 38);
+INSERT INTO ${prefix}Tags VALUES (751, 76, TIMESTAMP '2013-12-17 08:22:00', 19, 13);
+INSERT INTO ${prefix}Tags VALUES (751, 306, TIMESTAMP '2010-06-26 20:53:00', 73, 89);
+INSERT INTO ${prefix}Tags VALUES (751, 597, TIMESTAMP '2014-09-01 15:01:00', 84, 76);
+INSERT INTO ${prefix}Tags VALUES (751, 726, TIMESTAMP '2018-09-03 20:03:00', 0, 28);
+INSERT INTO ${prefix}Tags VALUES (752, 783, TIMESTAMP '2014-12-05 03:13:00', 9, 43);
+INSERT INTO ${prefix}Tags VALUES (753, 513, TIMESTAMP '2015-02-26 13:19:00', 88, 69);
+INSERT INTO ${prefix}Tags VALUES (753, 577, TIMESTAMP '2014-08-04 17:13:00', 45, 74);
+INSERT INTO ${prefix}Tags VALUES (753, 690, TIMESTAMP '2015-07-24 23:04:00', 25, 89);
+INSERT INTO ${prefix}Tags VALUES (754, 105, TIMESTAMP '2015-06-18 03:31:00', 76, 57);
+INSERT INTO ${prefix}Tags VALUES (755, 655, TIMESTAMP '2017-04-12 09:57:00', 56, 96);
+INSERT INTO ${prefix}Tags VALUES (756, 353, TIMESTAMP '2018-06-06 10:01:00', 53, 89);
+INSERT INTO ${prefix}Tags VALUES (757, 506, TIMESTAMP '2014-07-15 09:53:00', 0, 62);
+INSERT INTO ${prefix}Tags VALUES (757, 686, TIMESTAMP '2015-07-01 22:17:00', 35, 58);
+INSERT INTO ${prefix}Tags VALUES (758, 352, TIMESTAMP '2010-05-15 16:09:00', 13, 90);
+INSERT INTO ${prefix}Tags VALUES (758, 453, TIMESTAMP '2017-07-19 12:47:00', 34, 81);
+INSERT INTO ${prefix}Tags VALUES (759, 474, TIMESTAMP '2013-06-18 20:46:00', 18, 42);
+INSERT INTO ${prefix}Tags VALUES (760, 199, TIMESTAMP '2017-02-28 15:42:00', 38, 83);
+INSERT INTO ${prefix}Tags VALUES (760, 219, TIMESTAMP '2010-09-02 15:46:00', 92, 70);
+INSERT INTO ${prefix}Tags VALUES (760, 620, TIMESTAMP '2010-03-08 11:23:00', 54, 12);
+INSERT INTO ${prefix}Tags VALUES (761, 80, TIMESTAMP '2015-08-08 12:45:00', 13, 67);
+INSERT INTO ${prefix}Tags VALUES (761, 255, TIMESTAMP '2010-11-19 11:29:00', 48, 2);
+INSERT INTO ${prefix}Tags VALUES (761, 563, TIMESTAMP '2010-05-13 11:29:00', 41, 66);
+INSERT INTO ${prefix}Tags VALUES (762, 18, TIMESTAMP '2013-01-17 09:08:00', 94, 42);
+INSERT INTO ${prefix}Tags VALUES (762, 315, TIMESTAMP '2018-10-21 22:22:00', 38, 54);
+INSERT INTO ${prefix}Tags VALUES (762, 344, TIMESTAMP '2013-02-05 05:37:00', 74, 29);
+INSERT INTO ${prefix}Tags VALUES (763, 417, TIMESTAMP '2014-06-01 21:21:00', 46, 54);
+INSERT INTO ${prefix}Tags VALUES (763, 603, TIMESTAMP '2018-09-03 18:03:00', 98, 71);
+INSERT INTO ${prefix}Tags VALUES (765, 547, TIMESTAMP '2013-03-09 16:52:00', 14, 56);
+INSERT INTO ${prefix}Tags VALUES (766, 217, TIMESTAMP '2015-02-16 10:58:00', 81, 35);
+INSERT INTO ${prefix}Tags VALUES (766, 237, TIMESTAMP '2016-06-25 06:25:00', 74, 39);
+INSERT INTO ${prefix}Tags VALUES (766, 727, TIMESTAMP '2013-07-19 12:24:00', 91, 71);
+INSERT INTO ${prefix}Tags VALUES (767, 425, TIMESTAMP '2012-01-25 12:05:00', 17, 9);
+INSERT INTO ${prefix}Tags VALUES (768, 588, TIMESTAMP '2018-12-16 17:01:00', 69, 38);
+INSERT INTO ${prefix}Tags VALUES (769, 337, TIMESTAMP '2011-08-02 03:18:00', 69, 100);
+INSERT INTO ${prefix}Tags VALUES (769, 506, TIMESTAMP '2011-10-28 21:49:00', 45, 65);
+INSERT INTO ${prefix}Tags VALUES (769, 653, TIMESTAMP '2011-06-01 23:53:00', 67, 62);
+INSERT INTO ${prefix}Tags VALUES (769, 696, TIMESTAMP '2013-06-16 00:06:00', 8, 51);
+INSERT INTO ${prefix}Tags VALUES (770, 326, TIMESTAMP '2015-12-01 03:30:00', 37, 92);
+INSERT INTO ${prefix}Tags VALUES (770, 399, TIMESTAMP '2017-03-12 15:19:00', 92, 65);
+INSERT INTO ${prefix}Tags VALUES (770, 723, TIMESTAMP '2012-07-04 00:03:00', 38, 5);
+INSERT INTO ${prefix}Tags VALUES (771, 119, TIMESTAMP '2015-04-04 21:46:00', 81, 50);
+INSERT INTO ${prefix}Tags VALUES (771, 200, TIMESTAMP '2010-06-25 15:13:00', 7, 4);
+INSERT INTO ${prefix}Tags VALUES (771, 697, TIMESTAMP '2014-07-03 11:25:00', 99, 57);
+INSERT INTO ${prefix}Tags VALUES (772, 541, TIMESTAMP '2012-03-15 20:37:00', 66, 43);
+INSERT INTO ${prefix}Tags VALUES (772, 668, TIMESTAMP '2016-07-05 10:59:00', 10, 44);
+INSERT INTO ${prefix}Tags VALUES (772, 771, TIMESTAMP '2011-12-04 14:42:00', 94, 94);
+INSERT INTO ${prefix}Tags VALUES (773, 264, TIMESTAMP '2011-05-07 11:48:00', 75, 38);
+INSERT INTO ${prefix}Tags VALUES (773, 771, TIMESTAMP '2013-11-28 10:28:00', 95, 29);
+INSERT INTO ${prefix}Tags VALUES (776, 121, TIMESTAMP '2015-05-12 20:02:00', 76, 36);
+INSERT INTO ${prefix}Tags VALUES (778, 412, TIMESTAMP '2018-07-13 02:37:00', 93, 85);
+INSERT INTO ${prefix}Tags VALUES (778, 700, TIMESTAMP '2017-04-10 02:00:00', 4, 32);
+INSERT INTO ${prefix}Tags VALUES (779, 592, TIMESTAMP '2010-03-15 02:52:00', 10, 39);
+INSERT INTO ${prefix}Tags VALUES (779, 679, TIMESTAMP '2013-11-23 04:23:00', 54, 13);
+INSERT INTO ${prefix}Tags VALUES (779, 687, TIMESTAMP '2014-07-09 11:08:00', 47, 43);
+INSERT INTO ${prefix}Tags VALUES (779, 761, TIMESTAMP '2012-03-17 12:07:00', 37, 41);
+INSERT INTO ${prefix}Tags VALUES (780, 637, TIMESTAMP '2011-03-22 22:38:00', 55, 16);
+INSERT INTO ${prefix}Tags VALUES (781, 293, TIMESTAMP '2013-11-20 11:02:00', 95, 95);
+INSERT INTO ${prefix}Tags VALUES (781, 377, TIMESTAMP '2017-08-15 21:48:00', 48, 63);
+INSERT INTO ${prefix}Tags VALUES (781, 542, TIMESTAMP '2018-04-05 21:08:00', 45, 47);
+INSERT INTO ${prefix}Tags VALUES (781, 660, TIMESTAMP '2013-06-19 00:49:00', 39, 26);
+INSERT INTO ${prefix}Tags VALUES (782, 491, TIMESTAMP '2012-06-18 01:32:00', 71, 81);
+INSERT INTO ${prefix}Tags VALUES (782, 531, TIMESTAMP '2011-05-12 16:53:00', 37, 56);
+INSERT INTO ${prefix}Tags VALUES (782, 779, TIMESTAMP '2018-12-21 03:59:00', 2, 68);
+INSERT INTO ${prefix}Tags VALUES (784, 364, TIMESTAMP '2012-08-07 20:59:00', 59, 25);
+INSERT INTO ${prefix}Tags VALUES (784, 691, TIMESTAMP '2017-08-04 21:21:00', 50, 8);
+INSERT INTO ${prefix}Tags VALUES (785, 222, TIMESTAMP '2012-07-27 13:16:00', 36, 81);
+INSERT INTO ${prefix}Tags VALUES (785, 414, TIMESTAMP '2016-01-22 05:01:00', 17, 23);
+INSERT INTO ${prefix}Tags VALUES (785, 555, TIMESTAMP '2017-05-19 12:21:00', 76, 49);
+INSERT INTO ${prefix}Tags VALUES (786, 793, TIMESTAMP '2012-05-10 17:29:00', 5, 26);
+INSERT INTO ${prefix}Tags VALUES (787, 72, TIMESTAMP '2011-03-04 10:36:00', 84, 40);
+INSERT INTO ${prefix}Tags VALUES (787, 523, TIMESTAMP '2014-08-05 18:33:00', 30, 45);
+INSERT INTO ${prefix}Tags VALUES (787, 676, TIMESTAMP '2015-03-11 10:57:00', 15, 84);
+INSERT INTO ${prefix}Tags VALUES (788, 510, TIMESTAMP '2010-10-04 13:33:00', 81, 91);
+INSERT INTO ${prefix}Tags VALUES (790, 2, TIMESTAMP '2013-03-06 21:04:00', 1, 85);
+INSERT INTO ${prefix}Tags VALUES (790, 126, TIMESTAMP '2017-11-09 23:18:00', 36, 36);
+INSERT INTO ${prefix}Tags VALUES (790, 695, TIMESTAMP '2014-01-20 01:37:00', 13, 35);
+INSERT INTO ${prefix}Tags VALUES (791, 319, TIMESTAMP '2015-05-09 20:11:00', 70, 8);
+INSERT INTO ${prefix}Tags VALUES (791, 452, TIMESTAMP '2016-07-26 12:59:00', 15, 8);
+INSERT INTO ${prefix}Tags VALUES (791, 461, TIMESTAMP '2013-05-15 12:41:00', 35, 27);
+INSERT INTO ${prefix}Tags VALUES (792, 186, TIMESTAMP '2011-08-15 04:22:00', 44, 70);
+INSERT INTO ${prefix}Tags VALUES (792, 265, TIMESTAMP '2016-04-14 02:01:00', 41, 93);
+INSERT INTO ${prefix}Tags VALUES (792, 413, TIMESTAMP '2012-07-05 05:47:00', 76, 10);
+INSERT INTO ${prefix}Tags VALUES (793, 324, TIMESTAMP '2014-04-20 08:07:00', 8, 96);
+INSERT INTO ${prefix}Tags VALUES (794, 252, TIMESTAMP '2018-06-12 23:47:00', 77, 38);
+INSERT INTO ${prefix}Tags VALUES (795, 92, TIMESTAMP '2016-02-06 13:52:00', 16, 44);
+INSERT INTO ${prefix}Tags VALUES (795, 367, TIMESTAMP '2014-04-19 22:08:00', 43, 37);
+INSERT INTO ${prefix}Tags VALUES (796, 431, TIMESTAMP '2016-06-14 21:32:00', 5, 4);
+INSERT INTO ${prefix}Tags VALUES (796, 668, TIMESTAMP '2013-12-26 06:27:00', 99, 93);
+INSERT INTO ${prefix}Tags VALUES (797, 113, TIMESTAMP '2017-05-04 23:39:00', 10, 49);
+INSERT INTO ${prefix}Tags VALUES (797, 232, TIMESTAMP '2012-07-21 10:47:00', 56, 65);
+INSERT INTO ${prefix}Tags VALUES (798, 265, TIMESTAMP '2011-09-02 21:59:00', 31, 73);
+INSERT INTO ${prefix}Tags VALUES (798, 637, TIMESTAMP '2018-10-10 07:27:00', 15, 40);
+INSERT INTO ${prefix}Tags VALUES (799, 534, TIMESTAMP '2013-08-12 01:39:00', 14, 87);
+INSERT INTO ${prefix}Tags VALUES (799, 692, TIMESTAMP '2014-08-02 04:43:00', 89, 19);
+INSERT INTO ${prefix}Tags VALUES (800, 111, TIMESTAMP '2016-03-25 21:40:00', 84, 47);
+INSERT INTO ${prefix}Tags VALUES (801, 396, TIMESTAMP '2010-05-12 17:52:00', 0, 22);
+INSERT INTO ${prefix}Tags VALUES (801, 547, TIMESTAMP '2018-02-16 22:30:00', 37, 90);
+INSERT INTO ${prefix}Tags VALUES (801, 678, TIMESTAMP '2016-11-15 13:07:00', 33, 77);
+INSERT INTO ${prefix}Tags VALUES (802, 715, TIMESTAMP '2014-02-27 16:54:00', 45, 61);
+INSERT INTO ${prefix}Tags VALUES (803, 687, TIMESTAMP '2016-07-16 16:18:00', 38, 84);
+INSERT INTO ${prefix}Tags VALUES (803, 710, TIMESTAMP '2012-07-02 22:53:00', 35, 85);
+INSERT INTO ${prefix}Tags VALUES (804, 180, TIMESTAMP '2011-05-13 07:11:00', 89, 31);
+INSERT INTO ${prefix}Tags VALUES (804, 456, TIMESTAMP '2018-08-03 05:50:00', 21, 21);
+INSERT INTO ${prefix}Tags VALUES (805, 99, TIMESTAMP '2016-06-07 16:15:00', 33, 94);
+INSERT INTO ${prefix}Tags VALUES (805, 753, TIMESTAMP '2015-07-23 18:29:00', 94, 80);
+INSERT INTO ${prefix}Tags VALUES (807, 191, TIMESTAMP '2017-06-13 02:49:00', 30, 53);
+INSERT INTO ${prefix}Tags VALUES (807, 432, TIMESTAMP '2016-07-18 08:57:00', 47, 62);
+INSERT INTO ${prefix}Tags VALUES (807, 628, TIMESTAMP '2013-03-28 02:34:00', 88, 36);
+INSERT INTO ${prefix}Tags VALUES (808, 514, TIMESTAMP '2012-07-11 12:27:00', 47, 89);
+INSERT INTO ${prefix}Tags VALUES (809, 432, TIMESTAMP '2016-08-09 11:30:00', 28, 65);
+INSERT INTO ${prefix}Tags VALUES (810, 246, TIMESTAMP '2018-12-16 20:40:00', 20, 17);
+INSERT INTO ${prefix}Tags VALUES (810, 509, TIMESTAMP '2016-01-18 06:24:00', 18, 66);
+INSERT INTO ${prefix}Tags VALUES (811, 292, TIMESTAMP '2011-02-07 03:22:00', 24, 41);
+INSERT INTO ${prefix}Tags VALUES (812, 318, TIMESTAMP '2014-04-23 20:00:00', 61, 83);
+INSERT INTO ${prefix}Tags VALUES (812, 560, TIMESTAMP '2012-12-01 08:51:00', 86, 23);
+INSERT INTO ${prefix}Tags VALUES (812, 616, TIMESTAMP '2013-06-24 13:07:00', 48, 98);
+INSERT INTO ${prefix}Tags VALUES (812, 706, TIMESTAMP '2018-12-11 00:55:00', 31, 29);
+INSERT INTO ${prefix}Tags VALUES (813, 170, TIMESTAMP '2014-07-04 21:56:00', 24, 42);
+INSERT INTO ${prefix}Tags VALUES (813, 308, TIMESTAMP '2013-12-06 01:21:00', 57, 91);
+INSERT INTO ${prefix}Tags VALUES (813, 579, TIMESTAMP '2018-08-10 02:06:00', 100, 38);
+INSERT INTO ${prefix}Tags VALUES (813, 735, TIMESTAMP '2012-05-04 05:22:00', 36, 64);
+INSERT INTO ${prefix}Tags VALUES (814, 263, TIMESTAMP '2017-12-26 06:00:00', 25, 55);
+INSERT INTO ${prefix}Tags VALUES (814, 533, TIMESTAMP '2014-01-13 02:48:00', 85, 3);
+INSERT INTO ${prefix}Tags VALUES (815, 27, TIMESTAMP '2016-01-16 09:54:00', 78, 52);
+INSERT INTO ${prefix}Tags VALUES (816, 19, TIMESTAMP '2014-11-27 17:20:00', 64, 17);
+INSERT INTO ${prefix}Tags VALUES (816, 173, TIMESTAMP '2018-03-07 09:32:00', 46, 82);
+INSERT INTO ${prefix}Tags VALUES (816, 398, TIMESTAMP '2012-05-05 23:38:00', 79, 3);
+INSERT INTO ${prefix}Tags VALUES (816, 752, TIMESTAMP '2016-05-21 05:55:00', 61, 81);
+INSERT INTO ${prefix}Tags VALUES (818, 692, TIMESTAMP '2011-12-03 21:53:00', 64, 69);
+INSERT INTO ${prefix}Tags VALUES (819, 429, TIMESTAMP '2011-01-21 21:14:00', 79, 96);
+INSERT INTO ${prefix}Tags VALUES (819, 608, TIMESTAMP '2014-06-02 08:24:00', 77, 6);
+INSERT INTO ${prefix}Tags VALUES (820, 156, TIMESTAMP '2013-12-08 22:29:00', 79, 92);
+INSERT INTO ${prefix}Tags VALUES (822, 328, TIMESTAMP '2010-06-25 21:08:00', 87, 38);
+INSERT INTO ${prefix}Tags VALUES (823, 10, TIMESTAMP '2012-07-04 11:21:00', 92, 64);
+INSERT INTO ${prefix}Tags VALUES (823, 490, TIMESTAMP '2010-10-03 07:27:00', 1, 92);
+INSERT INTO ${prefix}Tags VALUES (824, 479, TIMESTAMP '2015-04-09 04:49:00', 43, 27);
+INSERT INTO ${prefix}Tags VALUES (825, 475, TIMESTAMP '2016-03-12 04:34:00', 10, 53);
+INSERT INTO ${prefix}Tags VALUES (826, 240, TIMESTAMP '2011-09-24 03:04:00', 7, 87);
+INSERT INTO ${prefix}Tags VALUES (826, 449, TIMESTAMP '2015-09-06 19:05:00', 41, 3);
+INSERT INTO ${prefix}Tags VALUES (827, 65, TIMESTAMP '2011-12-21 18:23:00', 52, 35);
+INSERT INTO ${prefix}Tags VALUES (827, 176, TIMESTAMP '2016-03-04 13:36:00', 0, 59);
+INSERT INTO ${prefix}Tags VALUES (827, 571, TIMESTAMP '2018-04-15 13:06:00', 98, 28);
+INSERT INTO ${prefix}Tags VALUES (828, 250, TIMESTAMP '2013-03-05 07:19:00', 66, 35);
+INSERT INTO ${prefix}Tags VALUES (829, 431, TIMESTAMP '2016-02-13 09:35:00', 53, 92);
+INSERT INTO ${prefix}Tags VALUES (829, 684, TIMESTAMP '2015-11-18 12:43:00', 35, 46);
+INSERT INTO ${prefix}Tags VALUES (829, 776, TIMESTAMP '2010-01-25 17:36:00', 18, 59);
+INSERT INTO ${prefix}Tags VALUES (830, 703, TIMESTAMP '2013-02-18 01:12:00', 79, 74);
+INSERT INTO ${prefix}Tags VALUES (831, 677, TIMESTAMP '2011-05-07 02:55:00', 59, 40);
+INSERT INTO ${prefix}Tags VALUES (832, 488, TIMESTAMP '2017-01-20 00:10:00', 32, 76);
+INSERT INTO ${prefix}Tags VALUES (833, 289, TIMESTAMP '2018-03-17 22:41:00', 19, 51);
+INSERT INTO ${prefix}Tags VALUES (833, 437, TIMESTAMP '2011-04-21 10:55:00', 35, 8);
+INSERT INTO ${prefix}Tags VALUES (833, 457, TIMESTAMP '2013-10-12 20:28:00', 32, 39);
+INSERT INTO ${prefix}Tags VALUES (834, 671, TIMESTAMP '2010-01-21 11:42:00', 78, 62);
+INSERT INTO ${prefix}Tags VALUES (835, 51, TIMESTAMP '2017-11-10 04:12:00', 46, 47);
+INSERT INTO ${prefix}Tags VALUES (835, 211, TIMESTAMP '2013-08-24 03:00:00', 23, 81);
+INSERT INTO ${prefix}Tags VALUES (835, 606, TIMESTAMP '2013-02-17 08:08:00', 77, 68);
+INSERT INTO ${prefix}Tags VALUES (835, 684, TIMESTAMP '2015-06-26 00:18:00', 39, 15);
+INSERT INTO ${prefix}Tags VALUES (836, 282, TIMESTAMP '2011-10-04 02:04:00', 57, 88);
+INSERT INTO ${prefix}Tags VALUES (836, 373, TIMESTAMP '2014-09-03 11:33:00', 46, 25);
+INSERT INTO ${prefix}Tags VALUES (836, 375, TIMESTAMP '2017-07-09 23:40:00', 87, 36);
+INSERT INTO ${prefix}Tags VALUES (836, 736, TIMESTAMP '2013-04-24 07:32:00', 13, 57);
+INSERT INTO ${prefix}Tags VALUES (837, 320, TIMESTAMP '2018-05-19 12:42:00', 2, 88);
+INSERT INTO ${prefix}Tags VALUES (837, 595, TIMESTAMP '2012-06-09 14:08:00', 1, 97);
+INSERT INTO ${prefix}Tags VALUES (838, 771, TIMESTAMP '2011-07-07 08:18:00', 43, 41);
+INSERT INTO ${prefix}Tags VALUES (839, 25, TIMESTAMP '2015-11-17 13:55:00', 12, 95);
+INSERT INTO ${prefix}Tags VALUES (839, 450, TIMESTAMP '2014-03-04 03:37:00', 35, 51);
+INSERT INTO ${prefix}Tags VALUES (840, 388, TIMESTAMP '2012-12-17 03:41:00', 33, 67);
+INSERT INTO ${prefix}Tags VALUES (840, 686, TIMESTAMP '2014-02-03 04:51:00', 79, 29);
+INSERT INTO ${prefix}Tags VALUES (840, 737, TIMESTAMP '2013-12-18 06:03:00', 42, 56);
+INSERT INTO ${prefix}Tags VALUES (841, 772, TIMESTAMP '2011-07-11 10:52:00', 89, 85);
+INSERT INTO ${prefix}Tags VALUES (842, 502, TIMESTAMP '2014-08-19 18:13:00', 15, 39);
+INSERT INTO ${prefix}Tags VALUES (844, 83, TIMESTAMP '2012-11-17 14:19:00', 82, 93);
+INSERT INTO ${prefix}Tags VALUES (844, 87, TIMESTAMP '2012-11-04 20:47:00', 8, 34);
+INSERT INTO ${prefix}Tags VALUES (844, 139, TIMESTAMP '2012-06-26 05:39:00', 16, 75);
+INSERT INTO ${prefix}Tags VALUES (844, 753, TIMESTAMP '2011-11-26 11:52:00', 48, 32);
+INSERT INTO ${prefix}Tags VALUES (845, 115, TIMESTAMP '2013-02-19 12:23:00', 8, 20);
+INSERT INTO ${prefix}Tags VALUES (845, 758, TIMESTAMP '2011-04-04 17:48:00', 15, 60);
+INSERT INTO ${prefix}Tags VALUES (845, 771, TIMESTAMP '2010-10-02 15:03:00', 39, 0);
+INSERT INTO ${prefix}Tags VALUES (846, 294, TIMESTAMP '2010-11-16 07:55:00', 37, 9);
+INSERT INTO ${prefix}Tags VALUES (847, 174, TIMESTAMP '2018-05-18 19:29:00', 28, 100);
+INSERT INTO ${prefix}Tags VALUES (847, 361, TIMESTAMP '2012-08-27 03:42:00', 99, 48);
+INSERT INTO ${prefix}Tags VALUES (847, 623, TIMESTAMP '2011-04-14 12:27:00', 56, 21);
+INSERT INTO ${prefix}Tags VALUES (848, 312, TIMESTAMP '2012-09-20 22:29:00', 52, 79);
+INSERT INTO ${prefix}Tags VALUES (849, 319, TIMESTAMP '2017-12-23 06:08:00', 38, 3);
+INSERT INTO ${prefix}Tags VALUES (849, 713, TIMESTAMP '2013-12-25 05:25:00', 56, 93);
+INSERT INTO ${prefix}Tags VALUES (849, 752, TIMESTAMP '2013-08-15 00:25:00', 100, 74);
+INSERT INTO ${prefix}Tags VALUES (850, 307, TIMESTAMP '2018-02-16 05:02:00', 82, 32);
+INSERT INTO ${prefix}Tags VALUES (850, 319, TIMESTAMP '2010-04-16 16:02:00', 95, 19);
+INSERT INTO ${prefix}Tags VALUES (850, 447, TIMESTAMP '2011-04-17 17:42:00', 3, 94);
+INSERT INTO ${prefix}Tags VALUES (850, 780, TIMESTAMP '2013-03-23 03:41:00', 22, 72);
+INSERT INTO ${prefix}Tags VALUES (851, 350, TIMESTAMP '2014-02-14 18:51:00', 41, 56);
+INSERT INTO ${prefix}Tags VALUES (851, 702, TIMESTAMP '2017-03-21 15:03:00', 49, 87);
+INSERT INTO ${prefix}Tags VALUES (851, 724, TIMESTAMP '2010-08-28 10:23:00', 79, 29);
+INSERT INTO ${prefix}Tags VALUES (853, 139, TIMESTAMP '2018-11-21 22:44:00', 73, 42);
+INSERT INTO ${prefix}Tags VALUES (853, 249, TIMESTAMP '2011-06-10 22:14:00', 20, 11);
+INSERT INTO ${prefix}Tags VALUES (853, 517, TIMESTAMP '2011-04-02 13:55:00', 23, 36);
+INSERT INTO ${prefix}Tags VALUES (854, 430, TIMESTAMP '2014-09-17 20:46:00', 14, 18);
+INSERT INTO ${prefix}Tags VALUES (854, 443, TIMESTAMP '2017-01-01 22:03:00', 5, 22);
+INSERT INTO ${prefix}Tags VALUES (855, 648, TIMESTAMP '2017-09-20 02:06:00', 13, 56);
+INSERT INTO ${prefix}Tags VALUES (856, 291, TIMESTAMP '2018-10-17 05:59:00', 58, 58);
+INSERT INTO ${prefix}Tags VALUES (857, 460, TIMESTAMP '2018-05-26 04:37:00', 9, 92);
+INSERT INTO ${prefix}Tags VALUES (857, 465, TIMESTAMP '2011-06-20 23:25:00', 78, 65);
+INSERT INTO ${prefix}Tags VALUES (857, 639, TIMESTAMP '2014-10-07 03:39:00', 87, 37);
+INSERT INTO ${prefix}Tags VALUES (857, 679, TIMESTAMP '2013-07-24 12:19:00', 56, 30);
+INSERT INTO ${prefix}Tags VALUES (858, 18, TIMESTAMP '2013-08-17 08:14:00', 21, 58);
+INSERT INTO ${prefix}Tags VALUES (858, 67, TIMESTAMP '2016-11-21 16:33:00', 30, 13);
+INSERT INTO ${prefix}Tags VALUES (859, 465, TIMESTAMP '2011-07-10 06:25:00', 63, 22);
+INSERT INTO ${prefix}Tags VALUES (860, 283, TIMESTAMP '2017-06-25 07:48:00', 49, 73);
+INSERT INTO ${prefix}Tags VALUES (860, 536, TIMESTAMP '2014-10-16 02:25:00', 13, 19);
+INSERT INTO ${prefix}Tags VALUES (861, 62, TIMESTAMP '2011-11-18 11:13:00', 36, 67);
+INSERT INTO ${prefix}Tags VALUES (861, 70, TIMESTAMP '2017-04-12 10:12:00', 88, 88);
+INSERT INTO ${prefix}Tags VALUES (862, 728, TIMESTAMP '2014-04-02 02:51:00', 98, 66);
+INSERT INTO ${prefix}Tags VALUES (863, 67, TIMESTAMP '2018-06-12 14:55:00', 39, 25);
+INSERT INTO ${prefix}Tags VALUES (863, 163, TIMESTAMP '2018-06-04 22:30:00', 88, 33);
+INSERT INTO ${prefix}Tags VALUES (863, 615, TIMESTAMP '2011-04-15 22:00:00', 27, 6);
+INSERT INTO ${prefix}Tags VALUES (863, 729, TIMESTAMP '2018-05-19 03:53:00', 34, 2);
+INSERT INTO ${prefix}Tags VALUES (864, 379, TIMESTAMP '2013-03-15 01:41:00', 31, 90);
+INSERT INTO ${prefix}Tags VALUES (864, 381, TIMESTAMP '2011-09-22 19:18:00', 88, 84);
+INSERT INTO ${prefix}Tags VALUES (864, 393, TIMESTAMP '2013-02-18 15:07:00', 4, 31);
+INSERT INTO ${prefix}Tags VALUES (865, 159, TIMESTAMP '2018-08-07 05:29:00', 46, 36);
+INSERT INTO ${prefix}Tags VALUES (866, 90, TIMESTAMP '2017-04-22 09:55:00', 78, 2);
+INSERT INTO ${prefix}Tags VALUES (866, 400, TIMESTAMP '2015-08-19 11:38:00', 65, 20);
+INSERT INTO ${prefix}Tags VALUES (866, 631, TIMESTAMP '2012-06-19 14:10:00', 42, 37);
+INSERT INTO ${prefix}Tags VALUES (868, 437, TIMESTAMP '2018-02-01 04:44:00', 38, 100);
+INSERT INTO ${prefix}Tags VALUES (870, 109, TIMESTAMP '2017-04-15 09:32:00', 37, 72);
+INSERT INTO ${prefix}Tags VALUES (870, 488, TIMESTAMP '2015-06-25 10:27:00', 96, 87);
+INSERT INTO ${prefix}Tags VALUES (871, 266, TIMESTAMP '2015-05-10 14:42:00', 85, 3);
+INSERT INTO ${prefix}Tags VALUES (871, 630, TIMESTAMP '2012-09-26 14:00:00', 43, 97);
+INSERT INTO ${prefix}Tags VALUES (871, 758, TIMESTAMP '2016-11-21 21:15:00', 11, 43);
+INSERT INTO ${prefix}Tags VALUES (871, 790, TIMESTAMP '2018-12-21 18:23:00', 76, 65);
+INSERT INTO ${prefix}Tags VALUES (872, 603, TIMESTAMP '2013-03-19 10:02:00', 89, 83);
+INSERT INTO ${prefix}Tags VALUES (872, 775, TIMESTAMP '2010-06-08 21:37:00', 76, 42);
+INSERT INTO ${prefix}Tags VALUES (873, 131, TIMESTAMP '2015-06-20 11:51:00', 10, 8);
+INSERT INTO ${prefix}Tags VALUES (873, 268, TIMESTAMP '2017-05-22 12:21:00', 38, 33);
+INSERT INTO ${prefix}Tags VALUES (875, 108, TIMESTAMP '2017-02-02 15:16:00', 74, 7);
+INSERT INTO ${prefix}Tags VALUES (875, 486, TIMESTAMP '2017-10-27 08:54:00', 62, 74);
+INSERT INTO ${prefix}Tags VALUES (876, 329, TIMESTAMP '2018-08-14 08:15:00', 74, 37);
+INSERT INTO ${prefix}Tags VALUES (877, 731, TIMESTAMP '2016-06-26 06:27:00', 32, 80);
+INSERT INTO ${prefix}Tags VALUES (878, 106, TIMESTAMP '2012-01-06 19:32:00', 8, 20);
+INSERT INTO ${prefix}Tags VALUES (878, 518, TIMESTAMP '2012-08-13 18:36:00', 56, 25);
+INSERT INTO ${prefix}Tags VALUES (879, 231, TIMESTAMP '2013-02-06 13:10:00', 32, 15);
+INSERT INTO ${prefix}Tags VALUES (879, 237, TIMESTAMP '2014-07-11 18:38:00', 76, 94);
+INSERT INTO ${prefix}Tags VALUES (880, 94, TIMESTAMP '2016-11-14 11:52:00', 78, 24);
+INSERT INTO ${prefix}Tags VALUES (880, 679, TIMESTAMP '2013-05-16 14:10:00', 33, 23);
+INSERT INTO ${prefix}Tags VALUES (881, 81, TIMESTAMP '2011-01-25 10:57:00', 91, 85);
+INSERT INTO ${prefix}Tags VALUES (882, 3, TIMESTAMP '2015-04-14 15:46:00', 91, 74);
+INSERT INTO ${prefix}Tags VALUES (882, 319, TIMESTAMP '2011-02-05 08:32:00', 11, 48);
+INSERT INTO ${prefix}Tags VALUES (883, 12, TIMESTAMP '2011-02-16 17:24:00', 20, 3);
+INSERT INTO ${prefix}Tags VALUES (883, 87, TIMESTAMP '2016-04-06 13:35:00', 58, 79);
+INSERT INTO ${prefix}Tags VALUES (883, 307, TIMESTAMP '2017-05-01 18:18:00', 12, 79);
+INSERT INTO ${prefix}Tags VALUES (883, 429, TIMESTAMP '2016-11-03 11:28:00', 31, 2);
+INSERT INTO ${prefix}Tags VALUES (884, 573, TIMESTAMP '2010-02-07 12:42:00', 75, 89);
+INSERT INTO ${prefix}Tags VALUES (885, 487, TIMESTAMP '2014-03-25 16:29:00', 21, 16);
+INSERT INTO ${prefix}Tags VALUES (887, 46, TIMESTAMP '2016-04-26 23:34:00', 31, 65);
+INSERT INTO ${prefix}Tags VALUES (887, 154, TIMESTAMP '2012-01-02 15:40:00', 88, 65);
+INSERT INTO ${prefix}Tags VALUES (887, 202, TIMESTAMP '2013-02-11 21:05:00', 84, 8);
+INSERT INTO ${prefix}Tags VALUES (888, 232, TIMESTAMP '2012-02-17 16:11:00', 19, 77);
+INSERT INTO ${prefix}Tags VALUES (888, 335, TIMESTAMP '2017-01-06 04:41:00', 11, 93);
+INSERT INTO ${prefix}Tags VALUES (888, 413, TIMESTAMP '2015-06-10 05:31:00', 27, 23);
+INSERT INTO ${prefix}Tags VALUES (888, 443, TIMESTAMP '2012-02-21 13:10:00', 5, 78);
+INSERT INTO ${prefix}Tags VALUES (889, 79, TIMESTAMP '2015-07-13 16:08:00', 1, 25);
+INSERT INTO ${prefix}Tags VALUES (889, 616, TIMESTAMP '2011-12-15 22:54:00', 31, 76);
+INSERT INTO ${prefix}Tags VALUES (890, 407, TIMESTAMP '2017-02-11 02:57:00', 7, 66);
+INSERT INTO ${prefix}Tags VALUES (890, 473, TIMESTAMP '2014-02-09 20:52:00', 51, 37);
+INSERT INTO ${prefix}Tags VALUES (892, 21, TIMESTAMP '2013-06-07 10:47:00', 56, 2);
+INSERT INTO ${prefix}Tags VALUES (892, 509, TIMESTAMP '2017-11-18 20:11:00', 14, 18);
+INSERT INTO ${prefix}Tags VALUES (893, 528, TIMESTAMP '2012-11-24 07:05:00', 24, 19);
+INSERT INTO ${prefix}Tags VALUES (893, 555, TIMESTAMP '2012-12-07 19:08:00', 40, 7);
+INSERT INTO ${prefix}Tags VALUES (894, 267, TIMESTAMP '2014-06-26 02:29:00', 27, 52);
+INSERT INTO ${prefix}Tags VALUES (895, 601, TIMESTAMP '2017-02-14 09:51:00', 34, 31);
+INSERT INTO ${prefix}Tags VALUES (896, 693, TIMESTAMP '2016-02-09 09:45:00', 45, 95);
+INSERT INTO ${prefix}Tags VALUES (897, 271, TIMESTAMP '2011-03-14 09:04:00', 73, 88);
+INSERT INTO ${prefix}Tags VALUES (897, 502, TIMESTAMP '2010-09-20 18:21:00', 93, 37);
+INSERT INTO ${prefix}Tags VALUES (898, 85, TIMESTAMP '2018-08-03 11:03:00', 1, 4);
+INSERT INTO ${prefix}Tags VALUES (898, 317, TIMESTAMP '2013-05-08 12:43:00', 55, 45);
+INSERT INTO ${prefix}Tags VALUES (899, 168, TIMESTAMP '2017-03-22 07:58:00', 58, 53);
+INSERT INTO ${prefix}Tags VALUES (899, 256, TIMESTAMP '2012-05-07 19:33:00', 93, 72);
+INSERT INTO ${prefix}Tags VALUES (899, 379, TIMESTAMP '2011-03-28 11:13:00', 68, 41);
+INSERT INTO ${prefix}Tags VALUES (899, 417, TIMESTAMP '2012-09-23 02:04:00', 63, 84);
+INSERT INTO ${prefix}Tags VALUES (900, 134, TIMESTAMP '2014-08-28 23:06:00', 54, 93);
+INSERT INTO ${prefix}Tags VALUES (900, 521, TIMESTAMP '2010-01-25 07:40:00', 68, 57);
+INSERT INTO ${prefix}Tags VALUES (900, 734, TIMESTAMP '2017-06-26 22:44:00', 67, 33);
+INSERT INTO ${prefix}Tags VALUES (901, 100, TIMESTAMP '2016-04-02 00:11:00', 82, 83);
+INSERT INTO ${prefix}Tags VALUES (901, 151, TIMESTAMP '2012-03-23 09:32:00', 15, 32);
+INSERT INTO ${prefix}Tags VALUES (901, 399, TIMESTAMP '2018-10-19 05:54:00', 43, 74);
+INSERT INTO ${prefix}Tags VALUES (901, 655, TIMESTAMP '2014-01-20 06:34:00', 41, 81);
+INSERT INTO ${prefix}Tags VALUES (902, 99, TIMESTAMP '2018-06-21 09:09:00', 7, 73);
+INSERT INTO ${prefix}Tags VALUES (902, 113, TIMESTAMP '2011-08-19 16:14:00', 56, 91);
+INSERT INTO ${prefix}Tags VALUES (902, 263, TIMESTAMP '2013-12-18 21:49:00', 67, 80);
+INSERT INTO ${prefix}Tags VALUES (902, 362, TIMESTAMP '2017-11-20 15:30:00', 65, 20);
+INSERT INTO ${prefix}Tags VALUES (903, 118, TIMESTAMP '2017-08-16 17:15:00', 18, 22);
+INSERT INTO ${prefix}Tags VALUES (903, 410, TIMESTAMP '2011-08-02 18:08:00', 44, 78);
+INSERT INTO ${prefix}Tags VALUES (903, 411, TIMESTAMP '2016-12-12 20:16:00', 46, 2);
+INSERT INTO ${prefix}Tags VALUES (905, 112, TIMESTAMP '2011-02-05 03:57:00', 81, 19);
+INSERT INTO ${prefix}Tags VALUES (905, 696, TIMESTAMP '2012-10-19 00:39:00', 88, 60);
+INSERT INTO ${prefix}Tags VALUES (906, 219, TIMESTAMP '2015-05-02 08:10:00', 31, 1);
+INSERT INTO ${prefix}Tags VALUES (906, 323, TIMESTAMP '2016-08-01 11:18:00', 13, 41);
+INSERT INTO ${prefix}Tags VALUES (906, 480, TIMESTAMP '2011-03-23 20:28:00', 23, 81);
+INSERT INTO ${prefix}Tags VALUES (906, 707, TIMESTAMP '2010-04-25 10:46:00', 76, 4);
+INSERT INTO ${prefix}Tags VALUES (907, 413, TIMESTAMP '2017-06-05 10:08:00', 8, 54);
+INSERT INTO ${prefix}Tags VALUES (908, 791, TIMESTAMP '2018-03-09 19:20:00', 96, 73);
+INSERT INTO ${prefix}Tags VALUES (909, 24, TIMESTAMP '2016-12-11 16:32:00', 19, 72);
+INSERT INTO ${prefix}Tags VALUES (909, 153, TIMESTAMP '2016-12-17 09:30:00', 73, 2);
+INSERT INTO ${prefix}Tags VALUES (909, 218, TIMESTAMP '2018-12-22 00:54:00', 31, 30);
+INSERT INTO ${prefix}Tags VALUES (909, 762, TIMESTAMP '2016-04-09 11:26:00', 41, 2);
+INSERT INTO ${prefix}Tags VALUES (910, 32, TIMESTAMP '2013-09-07 08:37:00', 100, 71);
+INSERT INTO ${prefix}Tags VALUES (910, 260, TIMESTAMP '2017-08-25 06:37:00', 89, 68);
+INSERT INTO ${prefix}Tags VALUES (910, 352, TIMESTAMP '2018-04-19 19:58:00', 75, 61);
+INSERT INTO ${prefix}Tags VALUES (911, 478, TIMESTAMP '2011-05-16 08:43:00', 18, 37);
+INSERT INTO ${prefix}Tags VALUES (911, 754, TIMESTAMP '2014-06-06 08:38:00', 79, 41);
+INSERT INTO ${prefix}Tags VALUES (912, 250, TIMESTAMP '2011-05-10 07:38:00', 73, 96);
+INSERT INTO ${prefix}Tags VALUES (912, 251, TIMESTAMP '2016-09-20 22:29:00', 58, 4);
+INSERT INTO ${prefix}Tags VALUES (912, 463, TIMESTAMP '2014-02-17 11:07:00', 93, 6);
+INSERT INTO ${prefix}Tags VALUES (912, 710, TIMESTAMP '2018-08-25 04:21:00', 91, 32);
+INSERT INTO ${prefix}Tags VALUES (915, 71, TIMESTAMP '2010-03-03 16:04:00', 23, 9);
+INSERT INTO ${prefix}Tags VALUES (915, 180, TIMESTAMP '2010-08-14 22:06:00', 12, 81);
+INSERT INTO ${prefix}Tags VALUES (917, 693, TIMESTAMP '2016-11-27 17:31:00', 57, 57);
+INSERT INTO ${prefix}Tags VALUES (917, 745, TIMESTAMP '2018-07-07 04:58:00', 41, 86);
+INSERT INTO ${prefix}Tags VALUES (918, 411, TIMESTAMP '2018-05-01 21:50:00', 77, 57);
+INSERT INTO ${prefix}Tags VALUES (918, 759, TIMESTAMP '2012-03-24 13:26:00', 92, 58);
+INSERT INTO ${prefix}Tags VALUES (919, 207, TIMESTAMP '2018-03-22 11:08:00', 35, 80);
+INSERT INTO ${prefix}Tags VALUES (919, 749, TIMESTAMP '2012-02-03 14:00:00', 49, 45);
+INSERT INTO ${prefix}Tags VALUES (920, 162, TIMESTAMP '2017-03-25 02:07:00', 18, 18);
+INSERT INTO ${prefix}Tags VALUES (920, 257, TIMESTAMP '2010-12-04 06:58:00', 67, 19);
+INSERT INTO ${prefix}Tags VALUES (920, 762, TIMESTAMP '2011-10-02 08:49:00', 55, 7);
+INSERT INTO ${prefix}Tags VALUES (921, 353, TIMESTAMP '2011-06-06 17:37:00', 71, 36);
+INSERT INTO ${prefix}Tags VALUES (921, 761, TIMESTAMP '2012-10-03 07:17:00', 12, 93);
+INSERT INTO ${prefix}Tags VALUES (922, 788, TIMESTAMP '2012-08-14 05:40:00', 87, 81);
+INSERT INTO ${prefix}Tags VALUES (923, 301, TIMESTAMP '2011-02-26 05:03:00', 77, 40);
+INSERT INTO ${prefix}Tags VALUES (924, 386, TIMESTAMP '2011-09-12 16:51:00', 73, 11);
+INSERT INTO ${prefix}Tags VALUES (924, 639, TIMESTAMP '2018-11-08 15:29:00', 23, 91);
+INSERT INTO ${prefix}Tags VALUES (925, 126, TIMESTAMP '2015-07-23 19:48:00', 2, 50);
+INSERT INTO ${prefix}Tags VALUES (925, 164, TIMESTAMP '2015-08-23 19:51:00', 65, 30);
+INSERT INTO ${prefix}Tags VALUES (925, 181, TIMESTAMP '2012-06-11 12:16:00', 100, 24);
+INSERT INTO ${prefix}Tags VALUES (925, 210, TIMESTAMP '2013-10-23 09:36:00', 85, 64);
+INSERT INTO ${prefix}Tags VALUES (926, 135, TIMESTAMP '2010-02-08 01:15:00', 67, 15);
+INSERT INTO ${prefix}Tags VALUES (926, 215, TIMESTAMP '2013-03-03 09:34:00', 82, 1);
+INSERT INTO ${prefix}Tags VALUES (926, 763, TIMESTAMP '2014-05-26 03:14:00', 11, 17);
+INSERT INTO ${prefix}Tags VALUES (927, 79, TIMESTAMP '2017-12-22 01:41:00', 16, 82);
+INSERT INTO ${prefix}Tags VALUES (929, 542, TIMESTAMP '2015-10-01 10:10:00', 15, 27);
+INSERT INTO ${prefix}Tags VALUES (930, 75, TIMESTAMP '2010-03-09 06:20:00', 53, 2);
+INSERT INTO ${prefix}Tags VALUES (930, 285, TIMESTAMP '2013-03-07 12:18:00', 47, 94);
+INSERT INTO ${prefix}Tags VALUES (930, 703, TIMESTAMP '2011-12-23 01:45:00', 73, 66);
+INSERT INTO ${prefix}Tags VALUES (933, 65, TIMESTAMP '2012-09-20 00:26:00', 35, 20);
+INSERT INTO ${prefix}Tags VALUES (933, 663, TIMESTAMP '2013-10-24 07:09:00', 61, 25);
+INSERT INTO ${prefix}Tags VALUES (933, 687, TIMESTAMP '2018-11-19 19:46:00', 50, 93);
+INSERT INTO ${prefix}Tags VALUES (934, 195, TIMESTAMP '2010-03-09 10:44:00', 63, 45);
+INSERT INTO ${prefix}Tags VALUES (934, 283, TIMESTAMP '2018-04-13 17:44:00', 39, 82);
+INSERT INTO ${prefix}Tags VALUES (934, 322, TIMESTAMP '2013-11-26 01:31:00', 63, 86);
+INSERT INTO ${prefix}Tags VALUES (934, 648, TIMESTAMP '2015-02-13 16:37:00', 62, 30);
+INSERT INTO ${prefix}Tags VALUES (935, 410, TIMESTAMP '2018-05-10 13:48:00', 31, 83);
+INSERT INTO ${prefix}Tags VALUES (935, 431, TIMESTAMP '2014-02-03 07:05:00', 38, 99);
+INSERT INTO ${prefix}Tags VALUES (935, 707, TIMESTAMP '2011-01-03 09:49:00', 51, 89);
+INSERT INTO ${prefix}Tags VALUES (936, 169, TIMESTAMP '2011-08-13 12:38:00', 22, 29);
+INSERT INTO ${prefix}Tags VALUES (936, 437, TIMESTAMP '2015-01-11 02:22:00', 48, 57);
+INSERT INTO ${prefix}Tags VALUES (936, 724, TIMESTAMP '2016-08-22 18:16:00', 75, 43);
+INSERT INTO ${prefix}Tags VALUES (937, 647, TIMESTAMP '2014-05-05 11:30:00', 19, 42);
+INSERT INTO ${prefix}Tags VALUES (937, 719, TIMESTAMP '2016-02-11 08:28:00', 66, 86);
+INSERT INTO ${prefix}Tags VALUES (938, 676, TIMESTAMP '2013-04-02 06:14:00', 36, 91);
+INSERT INTO ${prefix}Tags VALUES (940, 160, TIMESTAMP '2010-10-12 13:28:00', 73, 22);
+INSERT INTO ${prefix}Tags VALUES (940, 374, TIMESTAMP '2012-08-23 22:57:00', 41, 9);
+INSERT INTO ${prefix}Tags VALUES (941, 203, TIMESTAMP '2013-02-19 08:33:00', 14, 62);
+INSERT INTO ${prefix}Tags VALUES (941, 473, TIMESTAMP '2010-10-10 17:13:00', 7, 58);
+INSERT INTO ${prefix}Tags VALUES (941, 780, TIMESTAMP '2013-01-25 18:08:00', 3, 18);
+INSERT INTO ${prefix}Tags VALUES (942, 413, TIMESTAMP '2018-02-20 09:53:00', 0, 82);
+INSERT INTO ${prefix}Tags VALUES (943, 546, TIMESTAMP '2011-07-18 21:34:00', 67, 79);
+INSERT INTO ${prefix}Tags VALUES (943, 678, TIMESTAMP '2018-08-27 06:48:00', 65, 14);
+INSERT INTO ${prefix}Tags VALUES (944, 51, TIMESTAMP '2018-01-26 15:25:00', 19, 95);
+INSERT INTO ${prefix}Tags VALUES (944, 72, TIMESTAMP '2012-01-28 17:23:00', 50, 76);
+INSERT INTO ${prefix}Tags VALUES (944, 228, TIMESTAMP '2016-07-03 19:49:00', 24, 86);
+INSERT INTO ${prefix}Tags VALUES (945, 351, TIMESTAMP '2014-05-20 00:37:00', 0, 55);
+INSERT INTO ${prefix}Tags VALUES (945, 446, TIMESTAMP '2010-05-24 09:45:00', 13, 12);
+INSERT INTO ${prefix}Tags VALUES (945, 532, TIMESTAMP '2012-10-02 06:35:00', 93, 100);
+INSERT INTO ${prefix}Tags VALUES (946, 385, TIMESTAMP '2010-12-20 11:40:00', 20, 50);
+INSERT INTO ${prefix}Tags VALUES (946, 590, TIMESTAMP '2013-08-08 22:41:00', 20, 18);
+INSERT INTO ${prefix}Tags VALUES (946, 737, TIMESTAMP '2016-01-21 08:09:00', 28, 20);
+INSERT INTO ${prefix}Tags VALUES (947, 275, TIMESTAMP '2015-11-19 04:52:00', 34, 78);
+INSERT INTO ${prefix}Tags VALUES (947, 355, TIMESTAMP '2016-01-28 21:05:00', 13, 26);
+INSERT INTO ${prefix}Tags VALUES (947, 599, TIMESTAMP '2015-05-23 17:31:00', 16, 78);
+INSERT INTO ${prefix}Tags VALUES (948, 107, TIMESTAMP '2013-02-07 00:29:00', 31, 17);
+INSERT INTO ${prefix}Tags VALUES (948, 325, TIMESTAMP '2011-07-24 09:55:00', 64, 33);
+INSERT INTO ${prefix}Tags VALUES (948, 598, TIMESTAMP '2017-09-22 18:07:00', 46, 22);
+INSERT INTO ${prefix}Tags VALUES (949, 447, TIMESTAMP '2015-02-08 02:40:00', 66, 40);
+INSERT INTO ${prefix}Tags VALUES (949, 529, TIMESTAMP '2011-07-02 13:56:00', 8, 82);
+INSERT INTO ${prefix}Tags VALUES (949, 762, TIMESTAMP '2012-08-24 21:13:00', 33, 22);
+INSERT INTO ${prefix}Tags VALUES (950, 582, TIMESTAMP '2012-10-28 21:14:00', 51, 84);
+INSERT INTO ${prefix}Tags VALUES (950, 661, TIMESTAMP '2018-05-06 13:59:00', 82, 56);
+INSERT INTO ${prefix}Tags VALUES (951, 463, TIMESTAMP '2015-02-21 22:40:00', 98, 53);
+INSERT INTO ${prefix}Tags VALUES (951, 606, TIMESTAMP '2013-12-15 23:17:00', 49, 96);
+INSERT INTO ${prefix}Tags VALUES (951, 732, TIMESTAMP '2017-03-02 00:48:00', 21, 55);
+INSERT INTO ${prefix}Tags VALUES (952, 164, TIMESTAMP '2016-01-05 10:11:00', 86, 66);
+INSERT INTO ${prefix}Tags VALUES (952, 751, TIMESTAMP '2012-07-27 21:50:00', 31, 41);
+INSERT INTO ${prefix}Tags VALUES (953, 65, TIMESTAMP '2016-12-17 21:22:00', 56, 88);
+INSERT INTO ${prefix}Tags VALUES (953, 150, TIMESTAMP '2015-12-02 10:38:00', 78, 34);
+INSERT INTO ${prefix}Tags VALUES (953, 653, TIMESTAMP '2011-06-27 09:31:00', 97, 40);
+INSERT INTO ${prefix}Tags VALUES (954, 338, TIMESTAMP '2017-02-15 20:23:00', 81, 84);
+INSERT INTO ${prefix}Tags VALUES (955, 221, TIMESTAMP '2016-09-25 00:21:00', 53, 78);
+INSERT INTO ${prefix}Tags VALUES (955, 330, TIMESTAMP '2010-02-04 14:27:00', 62, 67);
+INSERT INTO ${prefix}Tags VALUES (955, 744, TIMESTAMP '2013-02-24 12:19:00', 6, 63);
+INSERT INTO ${prefix}Tags VALUES (956, 208, TIMESTAMP '2012-08-02 10:41:00', 69, 56);
+INSERT INTO ${prefix}Tags VALUES (957, 317, TIMESTAMP '2016-07-17 06:33:00', 12, 11);
+INSERT INTO ${prefix}Tags VALUES (957, 336, TIMESTAMP '2012-02-01 03:11:00', 60, 98);
+INSERT INTO ${prefix}Tags VALUES (957, 784, TIMESTAMP '2014-04-18 22:10:00', 54, 47);
+INSERT INTO ${prefix}Tags VALUES (958, 549, TIMESTAMP '2011-05-26 12:26:00', 70, 0);
+INSERT INTO ${prefix}Tags VALUES (958, 647, TIMESTAMP '2010-02-26 10:34:00', 50, 39);
+INSERT INTO ${prefix}Tags VALUES (958, 672, TIMESTAMP '2015-07-20 18:08:00', 6, 39);
+INSERT INTO ${prefix}Tags VALUES (959, 165, TIMESTAMP '2011-09-12 11:31:00', 4, 90);
+INSERT INTO ${prefix}Tags VALUES (959, 548, TIMESTAMP '2014-05-01 15:01:00', 33, 2);
+INSERT INTO ${prefix}Tags VALUES (960, 669, TIMESTAMP '2012-01-11 10:18:00', 22, 98);
+INSERT INTO ${prefix}Tags VALUES (963, 272, TIMESTAMP '2010-12-26 10:06:00', 85, 74);
+INSERT INTO ${prefix}Tags VALUES (964, 13, TIMESTAMP '2014-05-15 00:03:00', 9, 9);
+INSERT INTO ${prefix}Tags VALUES (964, 534, TIMESTAMP '2011-12-07 21:45:00', 78, 27);
+INSERT INTO ${prefix}Tags VALUES (964, 702, TIMESTAMP '2010-11-03 13:39:00', 64, 51);
+INSERT INTO ${prefix}Tags VALUES (964, 710, TIMESTAMP '2013-07-16 05:30:00', 60, 7);
+INSERT INTO ${prefix}Tags VALUES (965, 149, TIMESTAMP '2012-08-28 10:31:00', 54, 67);
+INSERT INTO ${prefix}Tags VALUES (965, 305, TIMESTAMP '2015-04-13 21:45:00', 13, 12);
+INSERT INTO ${prefix}Tags VALUES (965, 405, TIMESTAMP '2016-08-18 10:39:00', 21, 0);
+INSERT INTO ${prefix}Tags VALUES (965, 492, TIMESTAMP '2012-07-03 16:38:00', 94, 64);
+INSERT INTO ${prefix}Tags VALUES (966, 95, TIMESTAMP '2012-04-07 04:34:00', 74, 49);
+INSERT INTO ${prefix}Tags VALUES (966, 196, TIMESTAMP '2012-06-15 19:15:00', 51, 60);
+INSERT INTO ${prefix}Tags VALUES (967, 624, TIMESTAMP '2011-01-09 05:25:00', 49, 92);
+INSERT INTO ${prefix}Tags VALUES (968, 125, TIMESTAMP '2012-02-22 18:32:00', 46, 83);
+INSERT INTO ${prefix}Tags VALUES (968, 235, TIMESTAMP '2018-02-26 17:10:00', 23, 74);
+INSERT INTO ${prefix}Tags VALUES (968, 634, TIMESTAMP '2013-09-27 23:20:00', 70, 31);
+INSERT INTO ${prefix}Tags VALUES (969, 18, TIMESTAMP '2018-03-10 20:58:00', 18, 84);
+INSERT INTO ${prefix}Tags VALUES (969, 344, TIMESTAMP '2011-06-27 21:20:00', 81, 83);
+INSERT INTO ${prefix}Tags VALUES (971, 74, TIMESTAMP '2018-07-01 09:38:00', 99, 9);
+INSERT INTO ${prefix}Tags VALUES (971, 117, TIMESTAMP '2018-07-26 06:42:00', 18, 37);
+INSERT INTO ${prefix}Tags VALUES (971, 370, TIMESTAMP '2017-03-10 12:50:00', 5, 5);
+INSERT INTO ${prefix}Tags VALUES (972, 35, TIMESTAMP '2016-11-15 00:54:00', 16, 11);
+INSERT INTO ${prefix}Tags VALUES (972, 89, TIMESTAMP '2010-07-13 23:13:00', 53, 39);
+INSERT INTO ${prefix}Tags VALUES (972, 329, TIMESTAMP '2015-11-16 11:28:00', 27, 4);
+INSERT INTO ${prefix}Tags VALUES (972, 734, TIMESTAMP '2011-06-04 15:14:00', 39, 65);
+INSERT INTO ${prefix}Tags VALUES (973, 329, TIMESTAMP '2013-08-12 19:04:00', 100, 59);
+INSERT INTO ${prefix}Tags VALUES (973, 579, TIMESTAMP '2011-12-12 01:09:00', 74, 20);
+INSERT INTO ${prefix}Tags VALUES (973, 595, TIMESTAMP '2012-03-01 04:57:00', 64, 68);
+INSERT INTO ${prefix}Tags VALUES (973, 632, TIMESTAMP '2011-09-01 19:17:00', 24, 91);
+INSERT INTO ${prefix}Tags VALUES (974, 52, TIMESTAMP '2014-04-01 08:34:00', 63, 72);
+INSERT INTO ${prefix}Tags VALUES (975, 53, TIMESTAMP '2010-01-07 13:51:00', 91, 34);
+INSERT INTO ${prefix}Tags VALUES (975, 258, TIMESTAMP '2015-05-18 13:50:00', 47, 66);
+INSERT INTO ${prefix}Tags VALUES (976, 609, TIMESTAMP '2017-10-24 15:03:00', 46, 70);
+INSERT INTO ${prefix}Tags VALUES (976, 642, TIMESTAMP '2016-09-18 16:07:00', 83, 85);
+INSERT INTO ${prefix}Tags VALUES (978, 715, TIMESTAMP '2016-02-10 23:36:00', 17, 93);
+INSERT INTO ${prefix}Tags VALUES (979, 673, TIMESTAMP '2018-01-02 23:02:00', 90, 7);
+INSERT INTO ${prefix}Tags VALUES (980, 355, TIMESTAMP '2017-12-24 05:01:00', 89, 46);
+INSERT INTO ${prefix}Tags VALUES (981, 69, TIMESTAMP '2011-03-23 21:36:00', 94, 73);
+INSERT INTO ${prefix}Tags VALUES (981, 96, TIMESTAMP '2012-12-07 04:46:00', 53, 31);
+INSERT INTO ${prefix}Tags VALUES (981, 135, TIMESTAMP '2016-10-14 10:33:00', 0, 74);
+INSERT INTO ${prefix}Tags VALUES (981, 244, TIMESTAMP '2015-11-02 10:24:00', 59, 28);
+INSERT INTO ${prefix}Tags VALUES (982, 91, TIMESTAMP '2012-11-27 18:30:00', 17, 20);
+INSERT INTO ${prefix}Tags VALUES (982, 506, TIMESTAMP '2010-08-12 21:21:00', 85, 81);
+INSERT INTO ${prefix}Tags VALUES (983, 108, TIMESTAMP '2011-10-13 09:29:00', 11, 59);
+INSERT INTO ${prefix}Tags VALUES (983, 364, TIMESTAMP '2013-12-14 01:47:00', 96, 9);
+INSERT INTO ${prefix}Tags VALUES (983, 773, TIMESTAMP '2013-03-20 15:55:00', 96, 74);
+INSERT INTO ${prefix}Tags VALUES (984, 337, TIMESTAMP '2015-08-12 11:18:00', 82, 42);
+INSERT INTO ${prefix}Tags VALUES (984, 752, TIMESTAMP '2017-03-14 06:58:00', 87, 61);
+INSERT INTO ${prefix}Tags VALUES (985, 159, TIMESTAMP '2013-07-08 18:54:00', 86, 18);
+INSERT INTO ${prefix}Tags VALUES (987, 15, TIMESTAMP '2014-10-07 17:05:00', 23, 91);
+INSERT INTO ${prefix}Tags VALUES (987, 240, TIMESTAMP '2010-07-25 12:17:00', 72, 0);
+INSERT INTO ${prefix}Tags VALUES (988, 54, TIMESTAMP '2015-08-18 06:55:00', 68, 35);
+INSERT INTO ${prefix}Tags VALUES (988, 492, TIMESTAMP '2018-09-25 13:31:00', 58, 90);
+INSERT INTO ${prefix}Tags VALUES (989, 790, TIMESTAMP '2013-03-23 18:58:00', 0, 21);
+INSERT INTO ${prefix}Tags VALUES (990, 122, TIMESTAMP '2017-05-03 00:22:00', 24, 8);
+INSERT INTO ${prefix}Tags VALUES (990, 315, TIMESTAMP '2017-08-08 08:59:00', 85, 0);
+INSERT INTO ${prefix}Tags VALUES (990, 421, TIMESTAMP '2016-07-19 10:10:00', 50, 93);
+INSERT INTO ${prefix}Tags VALUES (991, 195, TIMESTAMP '2010-12-27 17:49:00', 19, 83);
+INSERT INTO ${prefix}Tags VALUES (991, 230, TIMESTAMP '2012-01-10 09:41:00', 30, 20);
+INSERT INTO ${prefix}Tags VALUES (991, 702, TIMESTAMP '2014-08-28 00:46:00', 92, 76);
+INSERT INTO ${prefix}Tags VALUES (991, 726, TIMESTAMP '2010-02-21 14:04:00', 95, 61);
+INSERT INTO ${prefix}Tags VALUES (992, 549, TIMESTAMP '2017-10-24 23:26:00', 68, 28);
+INSERT INTO ${prefix}Tags VALUES (993, 380, TIMESTAMP '2011-11-08 00:50:00', 13, 77);
+INSERT INTO ${prefix}Tags VALUES (993, 586, TIMESTAMP '2013-04-04 05:05:00', 61, 71);
+INSERT INTO ${prefix}Tags VALUES (994, 353, TIMESTAMP '2017-09-26 03:56:00', 35, 19);
+INSERT INTO ${prefix}Tags VALUES (994, 541, TIMESTAMP '2014-12-14 22:59:00', 81, 84);
+INSERT INTO ${prefix}Tags VALUES (995, 145, TIMESTAMP '2017-02-08 18:10:00', 35, 0);
+INSERT INTO ${prefix}Tags VALUES (995, 717, TIMESTAMP '2012-12-22 06:53:00', 33, 45);
+INSERT INTO ${prefix}Tags VALUES (995, 724, TIMESTAMP '2017-04-20 21:21:00', 44, 95);
+INSERT INTO ${prefix}Tags VALUES (996, 402, TIMESTAMP '2016-11-17 06:27:00', 85, 20);
+INSERT INTO ${prefix}Tags VALUES (996, 692, TIMESTAMP '2018-07-02 01:41:00', 56, 83);
+INSERT INTO ${prefix}Tags VALUES (996, 763, TIMESTAMP '2015-08-28 12:03:00', 41, 38);
+INSERT INTO ${prefix}Tags VALUES (997, 2, TIMESTAMP '2012-12-02 00:41:00', 99, 19);
+INSERT INTO ${prefix}Tags VALUES (997, 248, TIMESTAMP '2010-10-15 12:00:00', 90, 49);
+INSERT INTO ${prefix}Tags VALUES (997, 714, TIMESTAMP '2014-06-28 05:11:00', 98, 72);
+INSERT INTO ${prefix}Tags VALUES (998, 555, TIMESTAMP '2016-09-13 09:41:00', 39, 82);
+INSERT INTO ${prefix}Tags VALUES (998, 755, TIMESTAMP '2013-01-05 14:01:00', 41, 94);
+INSERT INTO ${prefix}Tags VALUES (999, 256, TIMESTAMP '2014-06-23 16:47:00', 12, 33);
+INSERT INTO ${prefix}Tags VALUES (999, 576, TIMESTAMP '2018-06-19 03:09:00', 39, 5);
+INSERT INTO ${prefix}Tags VALUES (999, 622, TIMESTAMP '2012-07-11 12:49:00', 26, 61);
@@ -0,0 +1,93 @@
+-- Fakebook schema for the embedded profile of FakebookConnectionFactory.
+-- ${prefix} is replaced with the configured table prefix. Foreign keys, sequences
+-- and triggers from createTables.sql are left out so that datasets can be bulk
+-- loaded in any order; Friends rows must already have USER1_ID < USER2_ID.
+
+CREATE TABLE ${prefix}Users (
+USER_ID NUMBER NOT NULL,
+FIRST_NAME VARCHAR2(100) NOT NULL,
+LAST_NAME VARCHAR2(100) NOT NULL,
+YEAR_OF_BIRTH INTEGER,
+MONTH_OF_BIRTH INTEGER,
+DAY_OF_BIRTH INTEGER,
+GENDER VARCHAR2(100),
+PRIMARY KEY (USER_ID));
+
+CREATE TABLE ${prefix}Friends (
+USER1_ID NUMBER NOT NULL,
+USER2_ID NUMBER NOT NULL,
+PRIMARY KEY (USER1_ID, USER2_ID));
+
+CREATE TABLE ${prefix}Cities (
+CITY_ID INTEGER NOT NULL,
+CITY_NAME VARCHAR2(100) NOT NULL,
+STATE_NAME VARCHAR2(100) NOT NULL,
+COUNTRY_NAME VARCHAR2(100) NOT NULL,
+PRIMARY KEY (CITY_ID));
+
+CREATE TABLE ${prefix}User_Current_City (
+USER_ID NUMBER NOT NULL,
+CURRENT_CITY_ID INTEGER NOT NULL,
+PRIMARY KEY (USER_ID));
+
+CREATE TABLE ${prefix}User_Hometown_City (
+USER_ID NUMBER NOT NULL,
+HOMETOWN_CITY_ID INTEGER NOT NULL,
+PRIMARY KEY (USER_ID));
+
+CREATE TABLE ${prefix}Programs (
+PROGRAM_ID INTEGER NOT NULL,
+INSTITUTION VARCHAR2(100) NOT NULL,
+CONCENTRATION VARCHAR2(100) NOT NULL,
+DEGREE VARCHAR2(100) NOT NULL,
+UNIQUE (INSTITUTION, CONCENTRATION, DEGREE),
+PRIMARY KEY (PROGRAM_ID));
+
+CREATE TABLE ${prefix}Education (
+USER_ID NUMBER NOT NULL,
+PROGRAM_ID INTEGER NOT NULL,
+PROGRAM_YEAR INTEGER NOT NULL,
+PRIMARY KEY (USER_ID, PROGRAM_ID));
+
+CREATE TABLE ${prefix}User_Events (
+EVENT_ID NUMBER NOT NULL,
+EVENT_CREATOR_ID NUMBER NOT NULL,
+EVENT_NAME VARCHAR2(100) NOT NULL,
+EVENT_TAGLINE VARCHAR2(100),
+EVENT_DESCRIPTION VARCHAR2(100),
+EVENT_HOST VARCHAR2(100),
+EVENT_TYPE VARCHAR2(100),
+EVENT_SUBTYPE VARCHAR2(100),
+EVENT_ADDRESS VARCHAR2(2000),
+EVENT_CITY_ID INTEGER NOT NULL,
+EVENT_START_TIME TIMESTAMP,
+EVENT_END_TIME TIMESTAMP,
+PRIMARY KEY (EVENT_ID));
+
+CREATE TABLE ${prefix}Albums (
+ALBUM_ID NUMBER NOT NULL,
+ALBUM_OWNER_ID NUMBER NOT NULL,
+ALBUM_NAME VARCHAR2(100) NOT NULL,
+ALBUM_CREATED_TIME TIMESTAMP NOT NULL,
+ALBUM_MODIFIED_TIME TIMESTAMP,
+ALBUM_LINK VARCHAR2(100) NOT NULL,
+ALBUM_VISIBILITY VARCHAR2(100) NOT NULL,
+COVER_PHOTO_ID NUMBER NOT NULL,
+PRIMARY KEY (ALBUM_ID));
+
+CREATE TABLE ${prefix}Photos (
+PHOTO_ID NUMBER NOT NULL,
+ALBUM_ID NUMBER NOT NULL,
+PHOTO_CAPTION VARCHAR2(2000),
+PHOTO_CREATED_TIME TIMESTAMP NOT NULL,
+PHOTO_MODIFIED_TIME TIMESTAMP,
+PHOTO_LINK VARCHAR2(2000) NOT NULL,
+PRIMARY KEY (PHOTO_ID));
+
+CREATE TABLE ${prefix}Tags (
+TAG_PHOTO_ID NUMBER NOT NULL,
+TAG_SUBJECT_ID NUMBER NOT NULL,
+TAG_CREATED_TIME TIMESTAMP NOT NULL,
+TAG_X NUMBER NOT NULL,
+TAG_Y NUMBER NOT NULL,
+PRIMARY KEY (TAG_PHOTO_ID, TAG_SUBJECT_ID));
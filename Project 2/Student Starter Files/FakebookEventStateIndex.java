@@ -0,0 +1,110 @@
+package project2;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    The FakebookEventStateIndex class counts the events held in each state, so that
+    Query 7 (the states with the most events) is answered without touching the database
+    while events are inserted and deleted from many threads at once.
+
+    Cities is read once by the caller and handed to the constructor, which gives every
+    state a LongAdder and maps every city straight to the adder of its state; a city
+    that is not listed, or whose state is NULL, maps to the adder of the NULL state, as
+    in the LEFT JOIN of StudentFakebookOracle. An insert is then one lookup in that
+    read-only map, one ConcurrentHashMap.put recording which adder the event counted
+    toward, and one LongAdder.increment: no lock is taken, and threads counting events
+    in the same state spread their increments over the adder's cells instead of
+    contending for one counter, so update throughput grows with the number of cores.
+
+    Reading the answer sums the adders of the (few) states. The sums are not an atomic
+    snapshot: while changes are in flight they may include some and not others, but
+    once the changes stop they are exact. Cities is not followed; build a new index
+    after it changes.
+*/
+final class FakebookEventStateIndex {
+    // [Constructor]
+    // EFFECTS:  creates an index with no events over the cities in <cityStates>, which
+    //   maps City IDs to state names (a state name may be NULL)
+    public FakebookEventStateIndex(Map<Long, String> cityStates) {
+        TreeMap<String, LongAdder> adders = new TreeMap<String, LongAdder>();
+        Map<Long, LongAdder> cityAdders = new HashMap<Long, LongAdder>();
+        for (Map.Entry<Long, String> city : cityStates.entrySet()) {
+            LongAdder adder = nullState;
+            if (city.getValue() != null) {
+                adder = adders.get(city.getValue());
+                if (adder == null) {
+                    adder = new LongAdder();
+                    adders.put(city.getValue(), adder);
+                }
+            }
+            cityAdders.put(city.getKey(), adder);
+        }
+
+        stateNames = adders.keySet().toArray(new String[0]);
+        stateAdders = adders.values().toArray(new LongAdder[0]);
+        cities = cityAdders;
+    }
+
+    // [Insert Function]
+    // MODIFIES: this
+    // EFFECTS:  records that event <eventID> is held in city <cityID>; an event that is
+    //   already present is moved to the state of <cityID>
+    public void insert(long eventID, long cityID) {
+        LongAdder adder = cities.getOrDefault(cityID, nullState);
+        adder.increment();
+        LongAdder previous = events.put(eventID, adder);
+        if (previous != null) {
+            previous.decrement();
+        }
+    }
+
+    // [Delete Function]
+    // MODIFIES: this
+    // EFFECTS:  records that event <eventID> was deleted; does nothing if it is absent
+    public void delete(long eventID) {
+        LongAdder previous = events.remove(eventID);
+        if (previous != null) {
+            previous.decrement();
+        }
+    }
+
+    // [Size Function]
+    // EFFECTS:  returns the number of events present
+    public int size() {
+        return events.size();
+    }
+
+    // [Most Events Function]
+    // EFFECTS:  returns the states with the most events, in name order with the NULL
+    //   state last, and their event count; with no events, the count is 0 and there
+    //   are no states
+    public EventStateInfo mostEvents() {
+        long[] counts = new long[stateAdders.length + 1];      // the last slot counts NULL
+        long most = 0L;
+        for (int idx = 0; idx < counts.length; idx++) {
+            counts[idx] = (idx < stateAdders.length) ? stateAdders[idx].sum() : nullState.sum();
+            most = Math.max(most, counts[idx]);
+        }
+
+        EventStateInfo info = new EventStateInfo(most);
+        if (most > 0L) {
+            for (int idx = 0; idx < counts.length; idx++) {
+                if (counts[idx] == most) {
+                    info.addState((idx < stateNames.length) ? stateNames[idx] : null);
+                }
+            }
+        }
+        return info;
+    }
+
+    // Member Variables
+    private final String[] stateNames;                 // in name order
+    private final LongAdder[] stateAdders;             // parallel to <stateNames>
+    private final LongAdder nullState = new LongAdder();
+    private final Map<Long, LongAdder> cities;         // read-only after construction
+    private final ConcurrentHashMap<Long, LongAdder> events = new ConcurrentHashMap<Long, LongAdder>();
+}
@@ -0,0 +1,391 @@
+package project2;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    The FakebookInstrumentation class measures where the time of each query goes. It
+    wraps a JDBC Connection in a java.lang.reflect.Proxy, and every Statement,
+    PreparedStatement and ResultSet obtained through it in further proxies, so that the
+    oracles run unchanged. Work is charged to the query that the calling thread has
+    announced with begin(<label>), and for each query it records:
+
+        wall        time between begin and end
+        statements  statements executed
+        ddl         time spent executing DDL (CREATE, DROP, ALTER, TRUNCATE)
+        execute     time spent executing all other statements, i.e. server execution
+                    up to the first rows
+        fetch       time spent in ResultSet.next and the column getters
+        java~       estimated: wall time less ddl, execute and fetch, i.e. building
+                    UserInfo, the result lists and everything else on the Java side,
+                    but also the time of this class's own bookkeeping
+        rows        rows fetched
+        trips~      estimated round trips: one per execution that returns a result
+                    set, then one every <fetch size> rows of it (the result set's
+                    fetch size, or its statement's); JDBC does not tell when a driver
+                    actually goes back to the server
+        bytes       approximate size of the column values read (2 bytes per string
+                    character, the primitive size for numbers, 8 for everything else)
+
+    The two estimated columns are marked with "~" in the table and named
+    "estimatedJavaNanos" and "estimatedRoundTrips" in the JSON report. Work done
+    outside of begin/end is charged to the label "(other)". The results can be printed
+    as a table (printTable) or written as a JSON report (writeJson).
+*/
+final class FakebookInstrumentation {
+    // [Wrap Function]
+    // EFFECTS:  returns a Connection that forwards every call to <connection> and records
+    //   the statements and result sets obtained through it
+    public Connection wrap(Connection connection) {
+        return (Connection)proxy(Connection.class, connection, null);
+    }
+
+    // [Begin Function]
+    // MODIFIES: the current thread's label, <stats>
+    // EFFECTS:  charges the work done by this thread from now on to query <label>
+    public void begin(String label) {
+        Stats stats = stats(label);
+        current.set(stats);
+        started.set(System.nanoTime());
+    }
+
+    // [End Function]
+    // MODIFIES: the current thread's label, <stats>
+    // EFFECTS:  adds the time since begin to the wall time of the current query and
+    //   charges later work to "(other)"
+    public void end() {
+        Stats stats = current.get();
+        Long start = started.get();
+        if (stats != null && start != null) {
+            stats.add(Wall, System.nanoTime() - start);
+        }
+        current.remove();
+        started.remove();
+    }
+
+    // [Statements Accessor]
+    // EFFECTS:  returns the number of statements executed so far for query <label>
+    public long getStatements(String label) {
+        Stats stats = this.stats.get(label);
+        return (stats != null) ? stats.values()[Statements] : 0L;
+    }
+
+    // [Round Trips Accessor]
+    // EFFECTS:  returns the estimated number of round trips so far for query <label>
+    public long getRoundTrips(String label) {
+        Stats stats = this.stats.get(label);
+        return (stats != null) ? stats.values()[RoundTrips] : 0L;
+    }
+
+    // [Print Table Function]
+    // EFFECTS:  writes one line per query, in the order the queries began, with the
+    //   breakdown of its time in milliseconds and its counters, followed by a total
+    public void printTable(Writer out) throws IOException {
+        out.write(String.format("%-12s %10s %6s %10s %10s %10s %10s %10s %8s %12s%n",
+            "Query", "Wall ms", "Stmts", "DDL ms", "Exec ms", "Fetch ms", "Java ms~", "Rows", "Trips~", "Bytes"));
+        long[] total = new long[Counters];
+        for (Stats stats : snapshot()) {
+            long[] values = stats.values();
+            printRow(out, stats.label, values);
+            for (int idx = 0; idx < Counters; idx++) {
+                total[idx] += values[idx];
+            }
+        }
+        printRow(out, "Total", total);
+        out.flush();
+    }
+
+    // [Write JSON Function]
+    // EFFECTS:  writes the counters of every query to <out> as a JSON object of the form
+    //   {"queries": [{"query": <label>, "wallNanos": ..., ...}, ...]}, times in
+    //   nanoseconds
+    public void writeJson(Writer out) throws IOException {
+        out.write("{\"queries\": [");
+        String separator = "\n";
+        for (Stats stats : snapshot()) {
+            long[] values = stats.values();
+            out.write(separator);
+            out.write("  {\"query\": \"" + escape(stats.label) + "\"");
+            for (int idx = 0; idx < Counters; idx++) {
+                out.write(", \"" + JsonNames[idx] + "\": " + values[idx]);
+            }
+            out.write(", \"estimatedJavaNanos\": " + javaNanos(values) + "}");
+            separator = ",\n";
+        }
+        out.write("\n]}\n");
+        out.flush();
+    }
+
+    // [Print Row Function]
+    // EFFECTS:  writes the table line of query <label>
+    private static void printRow(Writer out, String label, long[] values) throws IOException {
+        out.write(String.format("%-12s %10.3f %6d %10.3f %10.3f %10.3f %10.3f %10d %8d %12d%n",
+            label, values[Wall] / 1e6, values[Statements], values[Ddl] / 1e6, values[Execute] / 1e6,
+            values[Fetch] / 1e6, javaNanos(values) / 1e6, values[Rows], values[RoundTrips], values[Bytes]));
+    }
+
+    // [Java Time Function]
+    // EFFECTS:  returns the estimated Java time in <values>: the wall time not spent in
+    //   JDBC calls, or 0 if no wall time was recorded (work outside of begin/end)
+    private static long javaNanos(long[] values) {
+        return Math.max(0L, values[Wall] - values[Ddl] - values[Execute] - values[Fetch]);
+    }
+
+    // [Escape Function]
+    // EFFECTS:  returns <text> escaped for use inside a JSON string
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int)c));
+            }
+            else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    // [Stats Function]
+    // MODIFIES: <stats>, <order>
+    // EFFECTS:  returns the counters of query <label>, creating them if necessary
+    private Stats stats(String label) {
+        Stats stats = this.stats.get(label);
+        if (stats == null) {
+            synchronized (order) {
+                stats = this.stats.get(label);
+                if (stats == null) {
+                    stats = new Stats(label);
+                    this.stats.put(label, stats);
+                    order.add(stats);
+                }
+            }
+        }
+        return stats;
+    }
+
+    // [Snapshot Function]
+    // EFFECTS:  returns the counters of every query in the order the queries began
+    private List<Stats> snapshot() {
+        synchronized (order) {
+            return new ArrayList<Stats>(order);
+        }
+    }
+
+    // [Charged Function]
+    // EFFECTS:  returns the counters that work done by this thread is charged to
+    private Stats charged() {
+        Stats stats = current.get();
+        return (stats != null) ? stats : stats(Other);
+    }
+
+    // [Proxy Function]
+    // EFFECTS:  returns a proxy implementing <type> that forwards to <target>; <sql> is
+    //   the statement text of a PreparedStatement, NULL otherwise
+    private Object proxy(Class<?> type, Object target, String sql) {
+        return Proxy.newProxyInstance(FakebookInstrumentation.class.getClassLoader(),
+            new Class<?>[] { type }, new Handler(type, target, sql));
+    }
+
+    /*
+        The Handler class forwards the calls made on one proxied Connection, Statement or
+        ResultSet, timing and counting them, and wraps the statements and result sets
+        they return.
+    */
+    private final class Handler implements InvocationHandler {
+        // [Constructor]
+        Handler(Class<?> type, Object target, String sql) {
+            this.type = type;
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                switch (name) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Instrumented " + target;
+                }
+            }
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            }
+            catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (type == ResultSet.class) {
+                return fetched(name, args, result, elapsed);
+            }
+            if (type != Connection.class && name.startsWith("execute")) {
+                String text = (args != null && args.length > 0 && args[0] instanceof String) ? (String)args[0] : sql;
+                Stats stats = charged();
+                stats.add(isDdl(text) ? Ddl : Execute, elapsed);
+                stats.add(Statements, 1L);
+                if (result instanceof ResultSet) {
+                    stats.add(RoundTrips, 1L);
+                }
+            }
+            if (result instanceof CallableStatement) {
+                return proxy(CallableStatement.class, result, (String)args[0]);
+            }
+            if (result instanceof PreparedStatement) {
+                return proxy(PreparedStatement.class, result, (String)args[0]);
+            }
+            if (result instanceof Statement) {
+                return proxy(Statement.class, result, null);
+            }
+            if (result instanceof ResultSet) {
+                return proxy(ResultSet.class, result, null);
+            }
+            return result;
+        }
+
+        // [Fetched Function]
+        // MODIFIES: the current query's counters, <rows>
+        // EFFECTS:  charges the ResultSet call <name>(<args>), which returned <result>
+        //   after <elapsed> nanoseconds, and returns <result>
+        private Object fetched(String name, Object[] args, Object result, long elapsed) throws Exception {
+            Stats stats = charged();
+            stats.add(Fetch, elapsed);
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    if (fetchSize == 0) {
+                        fetchSize = fetchSize((ResultSet)target);
+                    }
+                    if (rows > 0 && rows % fetchSize == 0) {
+                        stats.add(RoundTrips, 1L);
+                    }
+                    rows++;
+                    stats.add(Rows, 1L);
+                }
+            }
+            else if (name.startsWith("get") && args != null && result != null) {
+                stats.add(Bytes, bytes(result));
+            }
+            return result;
+        }
+
+        // Member Variables
+        private final Class<?> type;
+        private final Object target;
+        private final String sql;
+        private long rows;
+        private int fetchSize;
+    }
+
+    // [Fetch Size Function]
+    // EFFECTS:  returns the rows fetched per round trip by <rst>: its own fetch size, or
+    //   else its statement's, or else the configured FetchSize (drivers report 0 when
+    //   the size was left to them)
+    private static int fetchSize(ResultSet rst) throws Exception {
+        int size = rst.getFetchSize();
+        if (size <= 0 && rst.getStatement() != null) {
+            size = rst.getStatement().getFetchSize();
+        }
+        return (size > 0) ? size : Math.max(1, FakebookOracleConstants.FetchSize);
+    }
+
+    // [DDL Function]
+    // EFFECTS:  returns true if <sql> is a DDL statement
+    private static boolean isDdl(String sql) {
+        if (sql == null) {
+            return false;
+        }
+        String verb = sql.trim().toUpperCase();
+        return verb.startsWith("CREATE") || verb.startsWith("DROP") || verb.startsWith("ALTER") || verb.startsWith("TRUNCATE");
+    }
+
+    // [Bytes Function]
+    // EFFECTS:  returns the approximate size of the column value <value>
+    private static long bytes(Object value) {
+        if (value instanceof String) {
+            return 2L * ((String)value).length();
+        }
+        if (value instanceof Integer || value instanceof Float) {
+            return 4L;
+        }
+        if (value instanceof Short) {
+            return 2L;
+        }
+        if (value instanceof Byte || value instanceof Boolean) {
+            return 1L;
+        }
+        return 8L;
+    }
+
+    /*
+        The Stats class holds the counters of one query.
+    */
+    private static final class Stats {
+        Stats(String label) {
+            this.label = label;
+        }
+
+        // [Add Function]
+        // MODIFIES: <counters>
+        // EFFECTS:  adds <amount> to counter <counter>
+        synchronized void add(int counter, long amount) {
+            counters[counter] += amount;
+        }
+
+        // [Values Function]
+        // EFFECTS:  returns a copy of the counters
+        synchronized long[] values() {
+            return counters.clone();
+        }
+
+        // Member Variables
+        final String label;
+        private final long[] counters = new long[Counters];
+    }
+
+    // Counters kept for each query, and their names in the JSON report
+    private static final int Wall = 0;
+    private static final int Statements = 1;
+    private static final int Ddl = 2;
+    private static final int Execute = 3;
+    private static final int Fetch = 4;
+    private static final int Rows = 5;
+    private static final int RoundTrips = 6;
+    private static final int Bytes = 7;
+    private static final int Counters = 8;
+    private static final String[] JsonNames = {
+        "wallNanos", "statements", "ddlNanos", "executeNanos", "fetchNanos", "rows", "estimatedRoundTrips", "bytes"
+    };
+
+    // Label of the work done outside of begin/end
+    private static final String Other = "(other)";
+
+    // Member Variables
+    private final Map<String, Stats> stats = new ConcurrentHashMap<String, Stats>();
+    private final List<Stats> order = new ArrayList<Stats>();
+    private final ThreadLocal<Stats> current = new ThreadLocal<Stats>();
+    private final ThreadLocal<Long> started = new ThreadLocal<Long>();
+}
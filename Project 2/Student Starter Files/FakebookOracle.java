@@ -3,13 +3,17 @@ package project2;
 import java.sql.SQLException;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class FakebookOracle {
     // Abstract Query Functions to be Implemented
     public abstract BirthMonthInfo findMonthOfBirthInfo() throws SQLException;
     public abstract FirstNameInfo findNameInfo() throws SQLException;
-    public abstract FakebookArrayList<UserInfo> lonelyUsers() throws SQLException;
-    public abstract FakebookArrayList<UserInfo> liveAwayFromHome() throws SQLException;
+    public abstract FakebookUserList lonelyUsers() throws SQLException;
+    public abstract FakebookUserList liveAwayFromHome() throws SQLException;
     public abstract FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException;
     public abstract FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException;
     public abstract FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException;
@@ -17,74 +21,271 @@ public abstract class FakebookOracle {
     public abstract AgeInfo findAgeInfo(long userID) throws SQLException;
     public abstract FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException;
     
+    // Error Reporting
+    // An oracle that answers a query with an empty or sentinel result after an error (as
+    // StudentFakebookOracle does, printing the error instead of throwing it) passes the
+    // error to reportError. getErrors returns the number of errors reported so far,
+    // including those of any oracle this one delegates to (which such an oracle adds by
+    // overriding it), so that a caller can tell an answer that was read from one that
+    // stands in for a failure: if the count moved during a call, the answer may be a
+    // stand-in.
+    public long getErrors() {
+        return errors.get();
+    }
+    
+    protected void reportError(Exception e) {
+        System.err.println(e.getMessage());
+        errors.incrementAndGet();
+    }
+    
+    // Statement Cache
+    // getStatementCache returns the cache of prepared statements that the oracle runs
+    // its queries through, or NULL if it has none (e.g. because it reads no database),
+    // so that a caller can cancel the statements a thread is running or read the
+    // cache's counters. An oracle over a FakebookStatementCache, or delegating to one
+    // that is, overrides it.
+    public FakebookStatementCache getStatementCache() {
+        return null;
+    }
+    
+    // Batch Query Functions
+    // findAgeInfo(long[]) answers Query 8 for every user in <userIDs> and returns the
+    // results keyed by User ID, in the order the IDs were given (duplicates once); a user
+    // with no friends with a full birth date maps to the same error AgeInfo that
+    // findAgeInfo(long) returns. The version here calls findAgeInfo(long) once per user;
+    // an oracle that can answer many users in one statement overrides it.
+    public Map<Long, AgeInfo> findAgeInfo(long[] userIDs) throws SQLException {
+        Map<Long, AgeInfo> results = new LinkedHashMap<Long, AgeInfo>();
+        for (long userID : userIDs) {
+            if (!results.containsKey(userID)) {
+                results.put(userID, findAgeInfo(userID));
+            }
+        }
+        return results;
+    }
+    
+    // Streaming Query Functions
+    // Each pushes its result to <sink> row by row instead of returning it. The versions
+    // here replay the list-returning functions above; an oracle that can hand rows over
+    // as they come off the ResultSet overrides them.
+    public void findMonthOfBirthInfo(BirthMonthSink sink) throws SQLException, IOException {
+        BirthMonthInfo info = findMonthOfBirthInfo();
+        sink.months(info.getUsersWithBirthMonth(), info.getMostPopularMonth(), info.getLeastPopularMonth());
+        replay(sink, info.getMostPopularMonthUsers());
+        replay(sink, info.getLeastPopularMonthUsers());
+    }
+    
+    public void lonelyUsers(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        replay(sink, lonelyUsers());
+    }
+    
+    public void liveAwayFromHome(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        replay(sink, liveAwayFromHome());
+    }
+    
+    public void findPotentialSiblings(FakebookRowSink<SiblingInfo> sink) throws SQLException, IOException {
+        replay(sink, findPotentialSiblings());
+    }
+    
+    // [Replay Function]
+    // EFFECTS:  pushes the elements of <rows> to <sink>
+    private static <T> void replay(FakebookRowSink<T> sink, List<T> rows) throws IOException {
+        sink.begin(rows.size());
+        for (T row : rows) {
+            sink.row(row);
+        }
+    }
+    
+    // Streaming Printing Functions
+    // Each writes exactly what the matching printQueryN function writes, but prints every
+    // row as soon as the streaming query function hands it over.
+    public void streamQuery0(Writer writer) throws IOException, SQLException {
+        writer.write(String.format("%sQuery 0%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        findMonthOfBirthInfo(new BirthMonthSink() {
+            @Override
+            public void months(long usersWithBirthMonth, int mostPopularMonth, int leastPopularMonth) throws IOException {
+                writer.write(String.format("Users with birth month info: %d%n", usersWithBirthMonth));
+                popularMonths = new int[] { mostPopularMonth, leastPopularMonth };
+            }
+            
+            @Override
+            public void begin(long rows) throws IOException {
+                if (section == 0) {
+                    writer.write(String.format("The most common birth month is %d (%d users)%nUsers: ", popularMonths[0], rows));
+                }
+                else {
+                    writer.write(String.format("%nThe least common birth month is %d (%d users)%nUsers: ", popularMonths[1], rows));
+                }
+                section++;
+                users.begin(rows);
+            }
+            
+            @Override
+            public void row(UserInfo row) throws IOException {
+                users.row(row);
+            }
+            
+            private int[] popularMonths;
+            private int section = 0;
+            private final ListWriter<UserInfo> users = new ListWriter<UserInfo>(writer, ", ");
+        });
+        writer.write(String.format("%n%n"));
+        writer.flush();
+    }
+    
+    public void streamQuery2(Writer writer) throws IOException, SQLException {
+        writer.write(String.format("%sQuery 2%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        lonelyUsers(new ListWriter<UserInfo>(writer, ", ", "Number of lonely users: %d%nLonely users are: "));
+        writer.write(String.format("%n%n"));
+        writer.flush();
+    }
+    
+    public void streamQuery3(Writer writer) throws IOException, SQLException {
+        writer.write(String.format("%sQuery 3%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        liveAwayFromHome(new ListWriter<UserInfo>(writer, ", ",
+            "Number of users who live away from home: %d%nThose users are: "));
+        writer.write(String.format("%n%n"));
+        writer.flush();
+    }
+    
+    public void streamQuery9(Writer writer) throws IOException, SQLException {
+        writer.write(String.format("%sQuery 9%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        findPotentialSiblings(new ListWriter<SiblingInfo>(writer, "\n", "%d pair(s) of potential siblings:%n"));
+        writer.write(String.format("%n%n"));
+        writer.flush();
+    }
+    
+    /*
+        The ListWriter class is a FakebookRowSink that prints the rows it receives the way
+        FakebookArrayList prints its elements, preceded by a header formatted with the
+        number of rows.
+    */
+    private static final class ListWriter<T> implements FakebookRowSink<T> {
+        // [Constructor]
+        ListWriter(Writer writer, String delimiter) {
+            this(writer, delimiter, "");
+        }
+        
+        // [Constructor]
+        // REQUIRES: <header> has at most one format specifier, for the number of rows
+        ListWriter(Writer writer, String delimiter, String header) {
+            this.writer = writer;
+            this.delimiter = delimiter;
+            this.header = header;
+        }
+        
+        @Override
+        public void begin(long rows) throws IOException {
+            writer.write(String.format(header, rows));
+            if (rows == 0) {
+                writer.write("[]");
+            }
+            first = true;
+        }
+        
+        @Override
+        public void row(T row) throws IOException {
+            if (!first) {
+                writer.write(delimiter);
+            }
+            FakebookWritable.write(writer, row);
+            first = false;
+        }
+        
+        // Member Variables
+        private final Writer writer;
+        private final String delimiter;
+        private final String header;
+        private boolean first;
+    }
+    
     // Query Result Printing Functions
+    // Each result is streamed to <writer> through FakebookWritable rather than formatted
+    // into one String first; the output is unchanged.
     public void printQuery0(Writer writer, BirthMonthInfo results) throws IOException {
-        String output = String.format("%sQuery 0%s%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 0%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery1(Writer writer, FirstNameInfo results) throws IOException {
-        String output = String.format("%sQuery 1%s%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 1%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
-    public void printQuery2(Writer writer, FakebookArrayList<UserInfo> results) throws IOException {
-        String output = String.format("%sQuery 2%s%nNumber of lonely users: %d%nLonely users are: %s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size(), results);
-        writer.write(output);
+    public void printQuery2(Writer writer, FakebookUserList results) throws IOException {
+        writer.write(String.format("%sQuery 2%s%nNumber of lonely users: %d%nLonely users are: ",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size()));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
-    public void printQuery3(Writer writer, FakebookArrayList<UserInfo> results) throws IOException {
-        String output = String.format("%sQuery 3%s%nNumber of users who live away from home: %d%nThose users are: %s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size(), results);
-        writer.write(output);
+    public void printQuery3(Writer writer, FakebookUserList results) throws IOException {
+        writer.write(String.format("%sQuery 3%s%nNumber of users who live away from home: %d%nThose users are: ",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size()));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery4(Writer writer, FakebookArrayList<TaggedPhotoInfo> results) throws IOException {
-        String output = String.format("%sQuery 4%s%nThe following are the top %d photo(s) with the most tags:%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size(), results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 4%s%nThe following are the top %d photo(s) with the most tags:%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size()));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery5(Writer writer, FakebookArrayList<MatchPair> results) throws IOException {
-        String output = String.format("%sQuery 5%s%nTop %d match(es):%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size(), results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 5%s%nTop %d match(es):%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size()));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery6(Writer writer, FakebookArrayList<UsersPair> results) throws IOException {
-        String output = String.format("%sQuery 6%s%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 6%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery7(Writer writer, EventStateInfo results) throws IOException {
-        String output = String.format("%sQuery 7%s%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 7%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery8(Writer writer, AgeInfo results) throws IOException {
-        String output = String.format("%sQuery 8%s%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 8%s%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
     
     public void printQuery9(Writer writer, FakebookArrayList<SiblingInfo> results) throws IOException {
-        String output = String.format("%sQuery 9%s%n%d pair(s) of potential siblings:%n%s%n%n",
-            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size(), results);
-        writer.write(output);
+        writer.write(String.format("%sQuery 9%s%n%d pair(s) of potential siblings:%n",
+            FakebookOracleConstants.PrintDecoration, FakebookOracleConstants.PrintDecoration, results.size()));
+        FakebookWritable.write(writer, results);
+        writer.write(String.format("%n%n"));
         writer.flush();
     }
+    
+    // Member Variables
+    private final AtomicLong errors = new AtomicLong();
 }
@@ -1,12 +1,15 @@
 package project2;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /*
     The UserInfo class stores a subset of the information about Fakebook users;
     specifically, it stores user IDs, first names, and last names. Query 0,
     Query 2, Query 3, Query 4, Query 5, Query 6, Query 8, and Query 9 will use this data
     structure.
 */
-final class UserInfo {
+final class UserInfo implements FakebookWritable {
     // [Constructor]
     public UserInfo(long id, String fname, String lname) {
         userID = id;
@@ -20,6 +23,32 @@ final class UserInfo {
         return String.format("%s %s (%d)", firstName, lastName, userID);
     }
     
+    // [UserInfo Write Function]
+    // EFFECTS:  writes toString() to <writer> without formatting it first
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(firstName);
+        writer.write(' ');
+        writer.write(lastName);
+        writer.write(" (");
+        writer.write(Long.toString(userID));
+        writer.write(')');
+    }
+    
+    // [User ID Accessor]
+    public long getUserID() {
+        return userID;
+    }
+    
+    // [First Name Accessor]
+    public String getFirstName() {
+        return firstName;
+    }
+    
+    // [Last Name Accessor]
+    public String getLastName() {
+        return lastName;
+    }
+    
     // Member Variables
     private long userID;
     private String firstName;
@@ -61,7 +90,7 @@ final class PhotoInfo {
     photo and a list of UserInfo instances identifying the users tagged in that
     photo. Query 4 will use this data structure.
 */
-final class TaggedPhotoInfo {
+final class TaggedPhotoInfo implements FakebookWritable {
     // [Constructor]
     // REQUIRES: <photo> is not NULL
     public TaggedPhotoInfo(PhotoInfo photo) {
@@ -83,6 +112,13 @@ final class TaggedPhotoInfo {
         return String.format("%s%n%d Tags%n%s", photo, usersTagged.size(), usersTagged);
     }
     
+    // [TaggedPhotoInfo Write Function]
+    // EFFECTS:  writes toString() to <writer>, streaming the list of tagged users
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(String.format("%s%n%d Tags%n", photo, usersTagged.size()));
+        usersTagged.writeTo(writer);
+    }
+    
     // Member Variables
     private PhotoInfo photo;
     private FakebookArrayList<UserInfo> usersTagged;
@@ -94,7 +130,7 @@ final class TaggedPhotoInfo {
     user (plus each user's birth year) and a list of PhotoInfo instances identifying
     the photos in which they are both tagged. Query 5 will use this data structure.
 */
-final class MatchPair {
+final class MatchPair implements FakebookWritable {
     // [Constructor]
     // REQUIRES: neither <user1> nor <user2> is NULL
     public MatchPair(UserInfo user1, long user1yr, UserInfo user2, long user2yr) {
@@ -121,6 +157,15 @@ final class MatchPair {
             user1, user1Year, user2, user2Year, sharedPhotos.size(), sharedPhotos);
     }
     
+    // [MatchPair Write Function]
+    // EFFECTS:  writes toString() to <writer>, streaming the list of shared photos
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(String.format("%s born in %d / %s born in %d%n" +
+            "They are not Fakebook friends and are tagged in %d common photo(s)%n",
+            user1, user1Year, user2, user2Year, sharedPhotos.size()));
+        sharedPhotos.writeTo(writer);
+    }
+    
     // Member Variables
     private UserInfo user1;
     private UserInfo user2;
@@ -135,7 +180,7 @@ final class MatchPair {
     users and a list of UserInfo instances identifying the two users' common
     friends. Query 6 will use this data structure.
 */
-final class UsersPair {
+final class UsersPair implements FakebookWritable {
     // [Constructor]
     // REQUIRES: neither <user1> nor <user2> is NULL
     public UsersPair(UserInfo user1, UserInfo user2) {
@@ -159,6 +204,14 @@ final class UsersPair {
             user1, user2, sharedFriends.size(), sharedFriends);
     }
     
+    // [UsersPair Write Function]
+    // EFFECTS:  writes toString() to <writer>, streaming the list of shared friends
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(String.format("%s and %s are not Fakebook friends but share %d common friends:%n",
+            user1, user2, sharedFriends.size()));
+        sharedFriends.writeTo(writer);
+    }
+    
     // Member Variables
     private UserInfo user1;
     private UserInfo user2;
@@ -170,7 +223,7 @@ final class UsersPair {
     siblings; specifically, it stores one UserInfo instance for each of th two
     users. Query 9 will use this data structure.
 */
-final class SiblingInfo {
+final class SiblingInfo implements FakebookWritable {
     // [Constructor]
     // REQUIRES: neither <user1> nor <user2> are NULL
     public SiblingInfo(UserInfo user1, UserInfo user2) {
@@ -184,6 +237,14 @@ final class SiblingInfo {
         return String.format("%s and %s", user1.toString(), user2.toString());
     }
     
+    // [SiblingInfo Write Function]
+    // EFFECTS:  writes toString() to <writer> without formatting it first
+    public void writeTo(Writer writer) throws IOException {
+        user1.writeTo(writer);
+        writer.write(" and ");
+        user2.writeTo(writer);
+    }
+    
     // Member Variables
     private UserInfo user1;
     private UserInfo user2;
@@ -196,14 +257,14 @@ final class SiblingInfo {
     are, and the month in which the fewest (but at least 1) users were born
     and who those users are. Query 0 will use this data structure.
 */
-final class BirthMonthInfo {
+final class BirthMonthInfo implements FakebookWritable {
     // [Constructor]
     public BirthMonthInfo(long totalUsers, int mostPopularMonth, int leastPopularMonth) {
         usersWithBirthMonth = totalUsers;
         monthOfMostUsers = mostPopularMonth;
         monthOfLeastUsers = leastPopularMonth;
-        usersBornInMostPopularMonth = new FakebookArrayList<UserInfo>(", ");
-        usersBornInLeastPopularMonth = new FakebookArrayList<UserInfo>(", ");
+        usersBornInMostPopularMonth = new FakebookUserList(", ");
+        usersBornInLeastPopularMonth = new FakebookUserList(", ");
     }
     
     // [Add User (Most Popular Month) Function]
@@ -214,6 +275,14 @@ final class BirthMonthInfo {
         usersBornInMostPopularMonth.add(user);
     }
     
+    // [Add User (Most Popular Month) Function]
+    // MODIFIES: <usersBornInMostPopularMonth>
+    // EFFECTS:  adds the user with ID <id>, first name <fname> and last name <lname> to
+    //   the list of users born in the most popular month
+    public void addMostPopularBirthMonthUser(long id, String fname, String lname) {
+        usersBornInMostPopularMonth.add(id, fname, lname);
+    }
+    
     // [Add User (Least Popular Month) Function]
     // REQUIERS: <user> is not NULL
     // MODIFIES: <user>
@@ -222,6 +291,14 @@ final class BirthMonthInfo {
         usersBornInLeastPopularMonth.add(user);
     }
     
+    // [Add User (Least Popular Month) Function]
+    // MODIFIES: <usersBornInLeastPopularMonth>
+    // EFFECTS:  adds the user with ID <id>, first name <fname> and last name <lname> to
+    //   the list of users born in the least popular month
+    public void addLeastPopularBirthMonthUser(long id, String fname, String lname) {
+        usersBornInLeastPopularMonth.add(id, fname, lname);
+    }
+    
     // [BirthMonthInfo-to-String Converter]
     // EFFECTS:  returns a string representation of this BirthMonthInfo instance
     public String toString() {
@@ -233,12 +310,49 @@ final class BirthMonthInfo {
 			monthOfLeastUsers, usersBornInLeastPopularMonth.size(), usersBornInLeastPopularMonth);
     }
     
+    // [Users With Birth Month Accessor]
+    public long getUsersWithBirthMonth() {
+        return usersWithBirthMonth;
+    }
+    
+    // [Most Popular Month Accessor]
+    public int getMostPopularMonth() {
+        return monthOfMostUsers;
+    }
+    
+    // [Least Popular Month Accessor]
+    public int getLeastPopularMonth() {
+        return monthOfLeastUsers;
+    }
+    
+    // [Most Popular Month Users Accessor]
+    public FakebookUserList getMostPopularMonthUsers() {
+        return usersBornInMostPopularMonth;
+    }
+    
+    // [Least Popular Month Users Accessor]
+    public FakebookUserList getLeastPopularMonthUsers() {
+        return usersBornInLeastPopularMonth;
+    }
+    
+    // [BirthMonthInfo Write Function]
+    // EFFECTS:  writes toString() to <writer>, streaming both lists of users
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(String.format("Users with birth month info: %d%n" +
+            "The most common birth month is %d (%d users)%nUsers: ",
+            usersWithBirthMonth, monthOfMostUsers, usersBornInMostPopularMonth.size()));
+        usersBornInMostPopularMonth.writeTo(writer);
+        writer.write(String.format("%nThe least common birth month is %d (%d users)%nUsers: ",
+            monthOfLeastUsers, usersBornInLeastPopularMonth.size()));
+        usersBornInLeastPopularMonth.writeTo(writer);
+    }
+    
     // Member Variables
     private long usersWithBirthMonth;
     private int monthOfMostUsers;
     private int monthOfLeastUsers;
-    private FakebookArrayList<UserInfo> usersBornInMostPopularMonth;
-    private FakebookArrayList<UserInfo> usersBornInLeastPopularMonth;
+    private FakebookUserList usersBornInMostPopularMonth;
+    private FakebookUserList usersBornInLeastPopularMonth;
 }
 
 /*
@@ -247,7 +361,7 @@ final class BirthMonthInfo {
     names with the fewest letters, and a list of the most commonly-held first names and
     how many users have that first name. Query 1 will use this data structure.
 */
-final class FirstNameInfo {
+final class FirstNameInfo implements FakebookWritable {
     // [Constructor]
     public FirstNameInfo() {
         commonCount = 0;
@@ -285,6 +399,18 @@ final class FirstNameInfo {
             longestFirstNames, shortestFirstNames, mostCommonFirstNames, commonCount);
     }
     
+    // [FirstNameInfo Write Function]
+    // EFFECTS:  writes toString() to <writer>, streaming the three lists of names
+    public void writeTo(Writer writer) throws IOException {
+        writer.write("The longest first name(s) is (are) ");
+        longestFirstNames.writeTo(writer);
+        writer.write(String.format("%nThe shortest first name(s) is (are) "));
+        shortestFirstNames.writeTo(writer);
+        writer.write(String.format("%nThe most common first name(s) is (are) "));
+        mostCommonFirstNames.writeTo(writer);
+        writer.write(String.format(" - having %d users having each one", commonCount));
+    }
+    
     // Member Variables
     private long commonCount;
     private FakebookArrayList<String> longestFirstNames;
@@ -297,7 +423,7 @@ final class FirstNameInfo {
     held; specifically, it stores a list of the states in which the most events are
     held and the number of events therein held. Query 7 will use this data structure.
 */
-final class EventStateInfo {
+final class EventStateInfo implements FakebookWritable {
     // [Constructor]
     public EventStateInfo(long count) {
         eventCount = count;
@@ -317,6 +443,14 @@ final class EventStateInfo {
             popularStates, eventCount);
     }
     
+    // [EventStateInfo Write Function]
+    // EFFECTS:  writes toString() to <writer>, streaming the list of states
+    public void writeTo(Writer writer) throws IOException {
+        writer.write("State(s) with the most events: ");
+        popularStates.writeTo(writer);
+        writer.write(String.format("%nNumber of events in that (those) state(s): %d", eventCount));
+    }
+    
     // Member Variables
     private long eventCount;
     private FakebookArrayList<String> popularStates;
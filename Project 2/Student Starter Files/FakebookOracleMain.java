@@ -1,10 +1,22 @@
 package project2;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public final class FakebookOracleMain {
     // Member Variables
@@ -15,6 +27,23 @@ public final class FakebookOracleMain {
     // Expected Command Line Arguments:
     //  [0] either "all" or a digit 0-9, representing what query to run
     //  [1] either "p" or "t", indicating "print results" and "time queries" respectively
+    //  [2...] optional settings (the database itself is chosen through the settings read by
+    //  FakebookConnectionFactory, e.g. -Dfakebook.profile=embedded):
+    //      --pool=<n>          open at most <n> connections (default 1)
+    //      --parallel=<n>      run up to <n> queries at once, each on its own pooled
+    //                          connection (default 1)
+    //      --oracle=<name>     FakebookOracle implementation to run: student (default),
+    //                          graph, hashjoin, incremental or snapshot (which reads the
+    //                          file named by -Dfakebook.snapshot, written by
+    //                          FakebookSnapshot); cached-<name> (or just cached, for
+    //                          student) wraps it in a CachingFakebookOracle
+    //      --stream            with "p", run the queries one at a time and print Queries
+    //                          0, 2, 3 and 9 row by row as they are read
+    //      --instrument[=<file>]
+    //                          record the statements, rows, estimated round trips and time of
+    //                          every query through FakebookInstrumentation, print the
+    //                          breakdown after the results and write it as JSON to
+    //                          <file> (default instrumentation.json)
     public static void main(String[] args) {
         int start = 0;                                // inclusive
         int stop = 10;                                // exclusive
@@ -22,59 +51,214 @@ public final class FakebookOracleMain {
             start = Integer.parseInt(args[0]);
             stop = start + 1;
         }
-
+        
+        int poolSize = 1;
+        int parallelism = 1;
+        String oracle = "student";
+        boolean stream = false;
+        String report = null;
+        for (int idx = 2; idx < args.length; idx++) {
+            if (args[idx].startsWith("--pool=")) {
+                poolSize = Integer.parseInt(args[idx].substring("--pool=".length()));
+            }
+            else if (args[idx].startsWith("--parallel=")) {
+                parallelism = Integer.parseInt(args[idx].substring("--parallel=".length()));
+            }
+            else if (args[idx].startsWith("--oracle=")) {
+                oracle = args[idx].substring("--oracle=".length());
+            }
+            else if (args[idx].equals("--stream")) {
+                stream = true;
+            }
+            else if (args[idx].equals("--instrument")) {
+                report = "instrumentation.json";
+            }
+            else if (args[idx].startsWith("--instrument=")) {
+                report = args[idx].substring("--instrument=".length());
+            }
+            else {
+                throw new IllegalArgumentException("unrecognized option: " + args[idx]);
+            }
+        }
+        
         boolean print = args[1].equals("p");
-        if (print) {
-            query(start, stop);
+        FakebookConnectionFactory factory = FakebookConnectionFactory.fromSettings(username, password);
+        FakebookInstrumentation instrumentation = (report != null) ? new FakebookInstrumentation() : null;
+        FakebookConnectionPool.ConnectionSource source = (instrumentation != null) ?
+            () -> instrumentation.wrap(factory.open()) : factory;
+        try (FakebookConnectionPool pool = new FakebookConnectionPool(poolSize, source)) {
+            if (print && stream) {
+                stream(pool, oracle, instrumentation, start, stop);
+            }
+            else {
+                Map<Connection, FakebookOracle> oracles = new ConcurrentHashMap<Connection, FakebookOracle>();
+                ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism));
+                List<QueryRun> runs = new ArrayList<QueryRun>();
+                try {
+                    submit(executor, runs, pool, oracle, oracles, instrumentation, start, stop);
+                    if (print) {
+                        query(runs);
+                    }
+                    else {
+                        time(runs);
+                    }
+                }
+                finally {
+                    cancel(executor, runs);             // a failed query leaves the rest running
+                    for (FakebookOracle db : oracles.values()) {
+                        closeOracle(db);
+                    }
+                }
+            }
+            if (instrumentation != null) {
+                report(instrumentation, report);
+            }
         }
-        else {
-            time(start, stop);
+        catch (SQLException e) {
+            e.printStackTrace();
         }
     }
     
-    private static void query(int start, int stop) {
-        try (Connection oracleConnection = getConnection()) {
-            FakebookOracle db = new StudentFakebookOracle(oracleConnection);
+    // [Submit Function]
+    // MODIFIES: <runs>
+    // EFFECTS:  starts queries <start> through <stop> - 1 of the <oracle> implementation
+    //   on <executor>, each borrowing a connection from <pool>, and adds one pending run
+    //   per query to <runs> in query order; the oracle created for each
+    //   connection is kept in <oracles>, sharing what does not depend on the connection
+    //   with the oracles created before it, and each query is announced to
+    //   <instrumentation> unless it is NULL
+    private static void submit(ExecutorService executor, List<QueryRun> runs, FakebookConnectionPool pool, String oracle,
+                               Map<Connection, FakebookOracle> oracles, FakebookInstrumentation instrumentation,
+                               int start, int stop) {
+        for (int query = start; query < stop; query++) {
+            final int number = query;
+            runs.add(new QueryRun(number, executor.submit(new Callable<QueryRun.Result>() {
+                @Override
+                public QueryRun.Result call() throws Exception {
+                    Connection connection = pool.borrow();
+                    try {
+                        FakebookOracle db;
+                        synchronized (oracles) {            // one oracle (and statement cache) per connection
+                            db = oracles.get(connection);
+                            if (db == null) {
+                                FakebookOracle first = oracles.isEmpty() ? null : oracles.values().iterator().next();
+                                db = createOracle(oracle, connection, first);
+                                oracles.put(connection, db);
+                            }
+                        }
+                        
+                        if (instrumentation != null) {
+                            instrumentation.begin("Query " + number);
+                        }
+                        try {
+                            long beginTime = System.currentTimeMillis();
+                            Object results = run(db, number);
+                            long endTime = System.currentTimeMillis();
+                            return new QueryRun.Result(db, results, endTime - beginTime);
+                        }
+                        finally {
+                            if (instrumentation != null) {
+                                instrumentation.end();
+                            }
+                        }
+                    }
+                    finally {
+                        pool.release(connection);
+                    }
+                }
+            })));
+        }
+        executor.shutdown();
+    }
+    
+    // [Cancel Function]
+    // MODIFIES: <executor>, <runs>
+    // EFFECTS:  cancels every run that has not finished, interrupting those in progress,
+    //   and waits until none is still running, so that their oracles and connections
+    //   can be closed
+    private static void cancel(ExecutorService executor, List<QueryRun> runs) {
+        for (QueryRun run : runs) {
+            run.pending.cancel(true);
+        }
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // [Stream Function]
+    // EFFECTS:  prints queries <start> through <stop> - 1 of the <oracle> implementation
+    //   one after another over a single pooled connection; Queries 0, 2, 3 and 9 are
+    //   written through the streamQueryN functions, so their rows are printed as they
+    //   are read rather than after the whole result has been collected; each query is
+    //   announced to <instrumentation> unless it is NULL
+    private static void stream(FakebookConnectionPool pool, String oracle, FakebookInstrumentation instrumentation,
+                               int start, int stop) {
+        try {
             OutputStreamWriter out = new OutputStreamWriter(System.out);
-            
-            for (int query = start; query < stop; query++) {
-                switch (query) {
-                    case 0:
-                        db.printQuery0(out, db.findMonthOfBirthInfo());
-                        break;
-                    case 1:
-                        db.printQuery1(out, db.findNameInfo());
-                        break;
-                    case 2:
-                        db.printQuery2(out, db.lonelyUsers());
-                        break;
-                    case 3:
-                        db.printQuery3(out, db.liveAwayFromHome());
-                        break;
-                    case 4:
-                        db.printQuery4(out, db.findPhotosWithMostTags(5));
-                        break;
-                    case 5:
-                        db.printQuery5(out, db.matchMaker(5, 2));
-                        break;
-                    case 6:
-                        db.printQuery6(out, db.suggestFriends(5));
-                        break;
-                    case 7:
-                        db.printQuery7(out, db.findEventStates());
-                        break;
-                    case 8:
-                        db.printQuery8(out, db.findAgeInfo(215L));
-                        break;
-                    case 9:
-                        db.printQuery9(out, db.findPotentialSiblings());
-                        break;
-                    default:
-                        break;
+            Connection connection = pool.borrow();
+            FakebookOracle db = null;
+            try {
+                db = createOracle(oracle, connection);
+                for (int query = start; query < stop; query++) {
+                    if (instrumentation != null) {
+                        instrumentation.begin("Query " + query);
+                    }
+                    try {
+                        switch (query) {
+                            case 0:
+                                db.streamQuery0(out);
+                                break;
+                            case 2:
+                                db.streamQuery2(out);
+                                break;
+                            case 3:
+                                db.streamQuery3(out);
+                                break;
+                            case 9:
+                                db.streamQuery9(out);
+                                break;
+                            default:
+                                print(db, out, query, run(db, query));
+                                break;
+                        }
+                    }
+                    finally {
+                        if (instrumentation != null) {
+                            instrumentation.end();
+                        }
+                    }
+                }
+            }
+            finally {
+                if (db != null) {
+                    closeOracle(db);
                 }
+                pool.release(connection);
             }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (SQLException e) {
+            e.printStackTrace();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    private static void query(List<QueryRun> runs) {
+        try {
+            OutputStreamWriter out = new OutputStreamWriter(System.out);
             
-            oracleConnection.close();
+            for (QueryRun run : runs) {
+                QueryRun.Result result = run.await();
+                print(result.db, out, run.query, result.results);
+            }
         }
         catch (SQLException e) {
             e.printStackTrace();
@@ -84,57 +268,46 @@ public final class FakebookOracleMain {
         }
     }
     
-    private static void time(int start, int stop) {
-        long beginTime = 0L;
-        long endTime = 0L;
+    private static void time(List<QueryRun> runs) {
+        long beginTime = System.currentTimeMillis();
         
-        try (Connection oracleConnection = getConnection()) {
-            FakebookOracle db = new StudentFakebookOracle(oracleConnection);
+        try {
             OutputStreamWriter out = new OutputStreamWriter(System.out);
+            List<FakebookOracle> oracles = new ArrayList<FakebookOracle>();
             
-            for (int query = start; query < stop; query++) {
-                beginTime = System.currentTimeMillis();
-                switch (query) {
-                    case 0:
-                        db.findMonthOfBirthInfo();
-                        break;
-                    case 1:
-                        db.findNameInfo();
-                        break;
-                    case 2:
-                        db.lonelyUsers();
-                        break;
-                    case 3:
-                        db.liveAwayFromHome();
-                        break;
-                    case 4:
-                        db.findPhotosWithMostTags(5);
-                        break;
-                    case 5:
-                        db.matchMaker(5, 2);
-                        break;
-                    case 6:
-                        db.suggestFriends(5);
-                        break;
-                    case 7:
-                        db.findEventStates();
-                        break;
-                    case 8:
-                        db.findAgeInfo(215L);
-                        break;
-                    case 9:
-                        db.findPotentialSiblings();
-                        break;
-                    default:
-                        break;
+            for (QueryRun run : runs) {
+                QueryRun.Result result = run.await();
+                if (!oracles.contains(result.db)) {
+                    oracles.add(result.db);
                 }
-                endTime = System.currentTimeMillis();
                 
-                out.write(String.format("Query %d Time: %.3f%n", query, (endTime - beginTime) / 1000.0));
+                out.write(String.format("Query %d Time: %.3f%n", run.query, result.millis / 1000.0));
                 out.flush();
             }
             
-            oracleConnection.close();
+            long hits = 0L;
+            long misses = 0L;
+            boolean cached = false;
+            long resultHits = 0L;
+            long resultMisses = 0L;
+            for (FakebookOracle db : oracles) {
+                FakebookStatementCache statements = db.getStatementCache();
+                if (statements != null) {
+                    hits += statements.getHits();
+                    misses += statements.getMisses();
+                }
+                if (db instanceof CachingFakebookOracle) {
+                    cached = true;
+                    resultHits += ((CachingFakebookOracle)db).getHits();
+                    resultMisses += ((CachingFakebookOracle)db).getMisses();
+                }
+            }
+            out.write(String.format("Total Time: %.3f%n", (System.currentTimeMillis() - beginTime) / 1000.0));
+            out.write(String.format("Statement Cache: %d hit(s), %d miss(es)%n", hits, misses));
+            if (cached) {
+                out.write(String.format("Result Cache: %d hit(s), %d miss(es)%n", resultHits, resultMisses));
+            }
+            out.flush();
         }
         catch (SQLException e) {
             e.printStackTrace();
@@ -144,20 +317,191 @@ public final class FakebookOracleMain {
         }
     }
     
-    private static Connection getConnection() throws SQLException {
+    // [Report Function]
+    // EFFECTS:  prints the per-query breakdown recorded by <instrumentation> and writes it
+    //   as JSON to the file <path>
+    private static void report(FakebookInstrumentation instrumentation, String path) {
         try {
-            Class.forName("oracle.jdbc.driver.OracleDriver").newInstance();
+            OutputStreamWriter out = new OutputStreamWriter(System.out);
+            out.write(String.format("%n"));
+            instrumentation.printTable(out);
+            try (Writer json = new OutputStreamWriter(new FileOutputStream(path), StandardCharsets.UTF_8)) {
+                instrumentation.writeJson(json);
+            }
+            out.write(String.format("Instrumentation report written to %s%n", path));
+            out.flush();
         }
-        catch (InstantiationException e) {
+        catch (IOException e) {
             e.printStackTrace();
         }
-        catch (IllegalAccessException e) {
-            e.printStackTrace();
+    }
+    
+    // [Create Oracle Function]
+    // EFFECTS:  returns the FakebookOracle implementation called <name> over <connection>
+    static FakebookOracle createOracle(String name, Connection connection) {
+        return createOracle(name, connection, null);
+    }
+    
+    // [Create Oracle Function]
+    // REQUIRES: <first> is NULL or was returned by createOracle(<name>, ...) for another
+    //   connection to the same database
+    // EFFECTS:  returns the FakebookOracle implementation called <name> over <connection>;
+    //   what does not depend on the connection is taken from <first> rather than built
+    //   again: a graph oracle shares the graph, tag index and workers of <first>, and a
+    //   snapshot oracle, which uses no connection, is <first> itself
+    static FakebookOracle createOracle(String name, Connection connection, FakebookOracle first) {
+        if (name.startsWith("cached-")) {
+            FakebookOracle inner = (first != null) ? ((CachingFakebookOracle)first).getDelegate() : null;
+            return new CachingFakebookOracle(createOracle(name.substring("cached-".length()), connection, inner));
         }
-        catch (ClassNotFoundException e) {
-            e.printStackTrace();
+        switch (name) {
+            case "student":
+                return new StudentFakebookOracle(connection);
+            case "graph":
+                return (first != null) ? new GraphFakebookOracle(connection, (GraphFakebookOracle)first)
+                                       : new GraphFakebookOracle(connection);
+            case "hashjoin":
+                return new HashJoinFakebookOracle(connection);
+            case "incremental":
+                return new IncrementalFakebookOracle(connection);
+            case "snapshot":
+                return (first != null) ? first : new SnapshotFakebookOracle(System.getProperty("fakebook.snapshot", "fakebook.snapshot"));
+            case "cached":
+                return new CachingFakebookOracle(new StudentFakebookOracle(connection));
+            default:
+                throw new IllegalArgumentException("unknown oracle: " + name);
+        }
+    }
+    
+    // [Close Oracle Function]
+    // EFFECTS:  releases what <db> holds apart from its connection, i.e. the workers of
+    //   a GraphFakebookOracle, looking through a CachingFakebookOracle
+    static void closeOracle(FakebookOracle db) {
+        if (db instanceof GraphFakebookOracle) {
+            ((GraphFakebookOracle)db).close();
+        }
+        else if (db instanceof CachingFakebookOracle) {
+            closeOracle(((CachingFakebookOracle)db).getDelegate());
+        }
+    }
+    
+    // [Run Function]
+    // EFFECTS:  runs query <query> against <db> and returns its results
+    private static Object run(FakebookOracle db, int query) throws SQLException {
+        switch (query) {
+            case 0:
+                return db.findMonthOfBirthInfo();
+            case 1:
+                return db.findNameInfo();
+            case 2:
+                return db.lonelyUsers();
+            case 3:
+                return db.liveAwayFromHome();
+            case 4:
+                return db.findPhotosWithMostTags(5);
+            case 5:
+                return db.matchMaker(5, 2);
+            case 6:
+                return db.suggestFriends(5);
+            case 7:
+                return db.findEventStates();
+            case 8:
+                return db.findAgeInfo(215L);
+            case 9:
+                return db.findPotentialSiblings();
+            default:
+                return null;
+        }
+    }
+    
+    // [Print Function]
+    // REQUIRES: <results> was returned by run(<db>, <query>)
+    // EFFECTS:  prints <results> through the printQueryN function for <query>
+    @SuppressWarnings("unchecked")
+    private static void print(FakebookOracle db, Writer out, int query, Object results) throws IOException {
+        switch (query) {
+            case 0:
+                db.printQuery0(out, (BirthMonthInfo)results);
+                break;
+            case 1:
+                db.printQuery1(out, (FirstNameInfo)results);
+                break;
+            case 2:
+                db.printQuery2(out, (FakebookUserList)results);
+                break;
+            case 3:
+                db.printQuery3(out, (FakebookUserList)results);
+                break;
+            case 4:
+                db.printQuery4(out, (FakebookArrayList<TaggedPhotoInfo>)results);
+                break;
+            case 5:
+                db.printQuery5(out, (FakebookArrayList<MatchPair>)results);
+                break;
+            case 6:
+                db.printQuery6(out, (FakebookArrayList<UsersPair>)results);
+                break;
+            case 7:
+                db.printQuery7(out, (EventStateInfo)results);
+                break;
+            case 8:
+                db.printQuery8(out, (AgeInfo)results);
+                break;
+            case 9:
+                db.printQuery9(out, (FakebookArrayList<SiblingInfo>)results);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    /*
+        The QueryRun class pairs a query number with the pending result of running it.
+    */
+    private static final class QueryRun {
+        // [Constructor]
+        QueryRun(int query, Future<Result> pending) {
+            this.query = query;
+            this.pending = pending;
+        }
+        
+        // [Await Function]
+        // EFFECTS:  blocks until the query has finished and returns its result, rethrowing
+        //   any SQLException the query raised
+        Result await() throws SQLException {
+            try {
+                return pending.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("interrupted while waiting for query " + query, e);
+            }
+            catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw (SQLException)e.getCause();
+                }
+                throw new SQLException("query " + query + " failed", e.getCause());
+            }
+        }
+        
+        /*
+            The Result class holds what one query returned, the oracle that produced it,
+            and how long it took.
+        */
+        static final class Result {
+            Result(FakebookOracle db, Object results, long millis) {
+                this.db = db;
+                this.results = results;
+                this.millis = millis;
+            }
+            
+            final FakebookOracle db;
+            final Object results;
+            final long millis;
         }
         
-        return DriverManager.getConnection("jdbc:oracle:thin:@forktail.dsc.umich.edu:1521:COURSEDB", username, password);
+        // Member Variables
+        final int query;
+        final Future<Result> pending;
     }
 }
@@ -1,13 +1,67 @@
 package project2;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+    The FakebookWritable interface is implemented by query results that can write their
+    string representation straight to a Writer, piece by piece, instead of first
+    building it as one String. writeTo must write exactly what toString returns.
+*/
+interface FakebookWritable {
+    void writeTo(Writer writer) throws IOException;
+    
+    // [Write Function]
+    // EFFECTS:  writes the string representation of <value> to <writer>, streaming it if
+    //   <value> is a FakebookWritable
+    static void write(Writer writer, Object value) throws IOException {
+        if (value instanceof FakebookWritable) {
+            ((FakebookWritable)value).writeTo(writer);
+        }
+        else {
+            writer.write(String.valueOf(value));
+        }
+    }
+}
+
+/*
+    The FakebookRowSink interface receives the rows of a query result one at a time, as
+    they are read from the ResultSet, so that the result can be printed without ever
+    being held in the memory of the client as a whole. begin is called once, before the
+    first row, with the number of rows that follow.
+*/
+interface FakebookRowSink<T> {
+    void begin(long rows) throws IOException;
+    void row(T row) throws IOException;
+}
+
+/*
+    The BirthMonthSink interface receives the result of Query 0 as it is read: months is
+    called first, then begin and row for the users born in the most popular month, and
+    then begin and row again for the users born in the least popular month.
+*/
+interface BirthMonthSink extends FakebookRowSink<UserInfo> {
+    void months(long usersWithBirthMonth, int mostPopularMonth, int leastPopularMonth) throws IOException;
+}
 
 /*
     The FakebookArrayList class is an ArrayList that allows customization of the toString
     function, specifically the inter-item delimiter and the removal of leading/trailing
     brackets.
 */
-final class FakebookArrayList<T> extends ArrayList<T> {
+final class FakebookArrayList<T> extends ArrayList<T> implements FakebookWritable {
     // [Constructor]
     public FakebookArrayList(String delim) {
         super();
@@ -19,22 +73,645 @@ final class FakebookArrayList<T> extends ArrayList<T> {
     // EFFECTS:  constructs a string representation of the elements contained in this
     //   FakebookArrayList instance, each one delimited by <delimiter>
     public String toString() {
-        String result = "";
+        StringBuilder result = new StringBuilder();
         
         int num = size();
         for (int idx = 0; idx < num; idx++) {
             if (idx != 0) {
-                result += delimiter;
+                result.append(delimiter);
             }
-            result += get(idx);
+            result.append(get(idx));
         }
 
-		if (result.equals("")) {
+		if (result.length() == 0) {
 			return "[]";
 		}
-	    return result;
+	    return result.toString();
+    }
+    
+    @Override
+    // [Write Function]
+    // EFFECTS:  writes toString() to <writer> one element and delimiter at a time; the
+    //   elements are written through a Tracker, so that a list whose elements all
+    //   print as nothing is found without building its string, and printed as "[]"
+    //   as toString() does
+    public void writeTo(Writer writer) throws IOException {
+        int num = size();
+        if (num == 0) {
+            writer.write("[]");
+            return;
+        }
+        
+        Tracker tracker = new Tracker(writer);
+        for (int idx = 0; idx < num; idx++) {
+            if (idx != 0) {
+                tracker.write(delimiter);
+            }
+            FakebookWritable.write(tracker, get(idx));
+        }
+        if (tracker.written == 0L) {
+            writer.write("[]");                 // nothing but empty elements
+        }
+    }
+    
+    /*
+        The Tracker class forwards everything written to it to another Writer and
+        counts the characters.
+    */
+    private static final class Tracker extends Writer {
+        Tracker(Writer writer) {
+            this.writer = writer;
+        }
+        
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            writer.write(buffer, offset, length);
+            written += length;
+        }
+        
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            writer.write(str, offset, length);
+            written += length;
+        }
+        
+        @Override
+        public void write(int c) throws IOException {
+            writer.write(c);
+            written++;
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            writer.flush();                     // the underlying writer stays open
+        }
+        
+        // Member Variables
+        private final Writer writer;
+        long written;
+    }
+    
+    // Member Variables
+    private String delimiter;
+}
+
+/*
+    The FakebookUserList class is a list of users stored column by column: the User IDs
+    in a long array, and the first and last names as int codes into one dictionary of
+    distinct names, so that a name shared by many users is stored only once. No UserInfo
+    instance is kept; get creates one on demand. Its toString function prints exactly
+    what a FakebookArrayList<UserInfo> with the same delimiter and users would print.
+*/
+final class FakebookUserList extends AbstractList<UserInfo> implements RandomAccess, FakebookWritable {
+    // [Constructor]
+    public FakebookUserList(String delim) {
+        super();
+        delimiter = delim;
+        ids = new long[16];
+        firstNames = new int[16];
+        lastNames = new int[16];
+        codes = new HashMap<String, Integer>();
+        names = new ArrayList<String>();
+    }
+    
+    // [Add User Function]
+    // MODIFIES: this
+    // EFFECTS:  appends the user with ID <id>, first name <fname> and last name <lname>
+    public void add(long id, String fname, String lname) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, 2 * size);
+            firstNames = Arrays.copyOf(firstNames, 2 * size);
+            lastNames = Arrays.copyOf(lastNames, 2 * size);
+        }
+        ids[size] = id;
+        firstNames[size] = encode(fname);
+        lastNames[size] = encode(lname);
+        size++;
+        modCount++;
+    }
+    
+    @Override
+    // [Add UserInfo Function]
+    // REQUIRES: <user> is not NULL
+    // MODIFIES: this
+    // EFFECTS:  appends the user described by <user>
+    public boolean add(UserInfo user) {
+        add(user.getUserID(), user.getFirstName(), user.getLastName());
+        return true;
+    }
+    
+    @Override
+    // [Get Function]
+    // EFFECTS:  returns a new UserInfo for the user at position <idx>
+    public UserInfo get(int idx) {
+        return new UserInfo(getUserID(idx), getFirstName(idx), getLastName(idx));
+    }
+    
+    @Override
+    // [Size Function]
+    public int size() {
+        return size;
+    }
+    
+    // [User ID Accessor]
+    public long getUserID(int idx) {
+        checkIndex(idx);
+        return ids[idx];
+    }
+    
+    // [First Name Accessor]
+    public String getFirstName(int idx) {
+        checkIndex(idx);
+        return names.get(firstNames[idx]);
+    }
+    
+    // [Last Name Accessor]
+    public String getLastName(int idx) {
+        checkIndex(idx);
+        return names.get(lastNames[idx]);
+    }
+    
+    @Override
+    // [String Converter Override]
+    // EFFECTS:  constructs a string representation of the users in this list, each one
+    //   formatted as by UserInfo and delimited by <delimiter>, or "[]" if it is empty
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        
+        StringBuilder result = new StringBuilder(size * 24);
+        for (int idx = 0; idx < size; idx++) {
+            if (idx != 0) {
+                result.append(delimiter);
+            }
+            result.append(names.get(firstNames[idx])).append(' ')
+                  .append(names.get(lastNames[idx])).append(" (")
+                  .append(ids[idx]).append(')');
+        }
+        return result.toString();
+    }
+    
+    @Override
+    // [Write Function]
+    // EFFECTS:  writes toString() to <writer> one user and delimiter at a time
+    public void writeTo(Writer writer) throws IOException {
+        if (size == 0) {
+            writer.write("[]");
+            return;
+        }
+        
+        for (int idx = 0; idx < size; idx++) {
+            if (idx != 0) {
+                writer.write(delimiter);
+            }
+            writer.write(names.get(firstNames[idx]));
+            writer.write(' ');
+            writer.write(names.get(lastNames[idx]));
+            writer.write(" (");
+            writer.write(Long.toString(ids[idx]));
+            writer.write(')');
+        }
+    }
+    
+    // [Encode Function]
+    // MODIFIES: <codes>, <names>
+    // EFFECTS:  returns the dictionary code of <name>, adding it if it is new
+    private int encode(String name) {
+        Integer code = codes.get(name);
+        if (code == null) {
+            code = names.size();
+            codes.put(name, code);
+            names.add(name);
+        }
+        return code;
+    }
+    
+    // [Check Index Function]
+    // EFFECTS:  throws an IndexOutOfBoundsException if <idx> is not a valid position
+    private void checkIndex(int idx) {
+        if (idx < 0 || idx >= size) {
+            throw new IndexOutOfBoundsException("Index: " + idx + ", Size: " + size);
+        }
     }
     
     // Member Variables
     private String delimiter;
+    private long[] ids;
+    private int[] firstNames;
+    private int[] lastNames;
+    private int size;
+    private Map<String, Integer> codes;
+    private ArrayList<String> names;
+}
+
+/*
+    The FakebookTopHeap class keeps the best <capacity> (score, id) pairs offered to it,
+    where a higher score ranks higher and ties go to the smaller ID. The worst kept pair
+    sits at the root, so an offer costs O(log capacity) and the heap never holds more
+    than <capacity> pairs, however many are offered.
+*/
+final class FakebookTopHeap {
+    // [Constructor]
+    // REQUIRES: <capacity> is at least 1
+    public FakebookTopHeap(int capacity) {
+        scores = new long[capacity];
+        ids = new long[capacity];
+    }
+    
+    // [Offer Function]
+    // MODIFIES: this
+    // EFFECTS:  keeps (<score>, <id>) if it ranks among the best pairs offered
+    public void offer(long score, long id) {
+        if (size < scores.length) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        }
+        else if (worse(scores[0], ids[0], score, id)) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+    
+    // [Size Function]
+    // EFFECTS:  returns the number of pairs kept
+    public int size() {
+        return size;
+    }
+    
+    // [Drain Function]
+    // MODIFIES: this
+    // EFFECTS:  empties the heap and returns the IDs it kept, from best to worst
+    public long[] drain() {
+        long[] ranked = new long[size];
+        while (size > 0) {
+            ranked[size - 1] = ids[0];
+            size--;
+            swap(0, size);
+            siftDown(0);
+        }
+        return ranked;
+    }
+    
+    // [Worse Function]
+    // EFFECTS:  returns true if pair 1 ranks below pair 2
+    static boolean worse(long score1, long id1, long score2, long id2) {
+        if (score1 != score2) {
+            return score1 < score2;
+        }
+        return id1 > id2;
+    }
+    
+    private void siftUp(int idx) {
+        while (idx > 0) {
+            int parent = (idx - 1) / 2;
+            if (!worse(scores[idx], ids[idx], scores[parent], ids[parent])) {
+                return;
+            }
+            swap(idx, parent);
+            idx = parent;
+        }
+    }
+    
+    private void siftDown(int idx) {
+        while (true) {
+            int worst = idx;
+            for (int child = 2 * idx + 1; child <= 2 * idx + 2 && child < size; child++) {
+                if (worse(scores[child], ids[child], scores[worst], ids[worst])) {
+                    worst = child;
+                }
+            }
+            if (worst == idx) {
+                return;
+            }
+            swap(idx, worst);
+            idx = worst;
+        }
+    }
+    
+    private void swap(int i, int j) {
+        long score = scores[i];
+        long id = ids[i];
+        scores[i] = scores[j];
+        ids[i] = ids[j];
+        scores[j] = score;
+        ids[j] = id;
+    }
+    
+    // Member Variables
+    private final long[] scores;
+    private final long[] ids;
+    private int size;
+}
+
+/*
+    The FakebookLongSet class is a hash set of primitive longs that uses open addressing
+    with linear probing, so that adding or looking up a key allocates nothing. The table
+    is kept at most half full and doubles when it would pass that. The key 0 marks an
+    empty slot and is tracked separately.
+*/
+final class FakebookLongSet {
+    // [Constructor]
+    // EFFECTS:  creates an empty set sized to hold <expected> keys without growing
+    public FakebookLongSet(int expected) {
+        int capacity = 16;
+        while (capacity < 2L * expected) {
+            capacity *= 2;
+        }
+        keys = new long[capacity];
+    }
+    
+    // [Add Function]
+    // MODIFIES: this
+    // EFFECTS:  adds <key>; returns true if it was not already in the set
+    public boolean add(long key) {
+        if (key == 0L) {
+            boolean added = !containsZero;
+            containsZero = true;
+            return added;
+        }
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == 0L) {
+                keys[slot] = key;
+                size++;
+                return true;
+            }
+            if (keys[slot] == key) {
+                return false;
+            }
+        }
+    }
+    
+    // [Contains Function]
+    // EFFECTS:  returns true if <key> is in the set
+    public boolean contains(long key) {
+        if (key == 0L) {
+            return containsZero;
+        }
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == 0L) {
+                return false;
+            }
+            if (keys[slot] == key) {
+                return true;
+            }
+        }
+    }
+    
+    // [Size Function]
+    // EFFECTS:  returns the number of keys in the set
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+    
+    // [Pair Key Function]
+    // EFFECTS:  returns one key for the unordered pair of non-negative ints <a> and <b>
+    public static long pair(int a, int b) {
+        return (a < b) ? ((long)a << 32) | b : ((long)b << 32) | a;
+    }
+    
+    // [Hash Function]
+    // EFFECTS:  mixes the bits of <key> so that keys differing only in their high or low
+    //   half still spread across the table
+    static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int)key;
+    }
+    
+    // [Grow Function]
+    // MODIFIES: <keys>
+    // EFFECTS:  doubles the table and re-inserts every key
+    private void grow() {
+        long[] old = keys;
+        keys = new long[2 * old.length];
+        int mask = keys.length - 1;
+        for (long key : old) {
+            if (key != 0L) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != 0L) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+    
+    // Member Variables
+    private long[] keys;
+    private int size;
+    private boolean containsZero;
+}
+
+/*
+    The FakebookLongIntMap class is a hash map from primitive longs to primitive ints,
+    laid out like FakebookLongSet: open addressing with linear probing over parallel key
+    and value arrays, at most half full, with the key 0 tracked separately. Looking up
+    a key that is absent returns a caller-chosen default instead of NULL.
+*/
+final class FakebookLongIntMap {
+    // [Constructor]
+    // EFFECTS:  creates an empty map sized to hold <expected> keys without growing
+    public FakebookLongIntMap(int expected) {
+        int capacity = 16;
+        while (capacity < 2L * expected) {
+            capacity *= 2;
+        }
+        keys = new long[capacity];
+        values = new int[capacity];
+    }
+    
+    // [Put Function]
+    // MODIFIES: this
+    // EFFECTS:  maps <key> to <value>, replacing any earlier value
+    public void put(long key, int value) {
+        if (key == 0L) {
+            containsZero = true;
+            zeroValue = value;
+            return;
+        }
+        if (2 * (size + 1) > keys.length) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        for (int slot = FakebookLongSet.hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == 0L) {
+                keys[slot] = key;
+                values[slot] = value;
+                size++;
+                return;
+            }
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+        }
+    }
+    
+    // [Get Function]
+    // EFFECTS:  returns the value mapped to <key>, or <missing> if there is none
+    public int get(long key, int missing) {
+        if (key == 0L) {
+            return containsZero ? zeroValue : missing;
+        }
+        int mask = keys.length - 1;
+        for (int slot = FakebookLongSet.hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == 0L) {
+                return missing;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+    
+    // [Size Function]
+    // EFFECTS:  returns the number of keys in the map
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+    
+    // [Grow Function]
+    // MODIFIES: <keys>, <values>
+    // EFFECTS:  doubles the table and re-inserts every entry
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[2 * oldKeys.length];
+        values = new int[2 * oldKeys.length];
+        int mask = keys.length - 1;
+        for (int idx = 0; idx < oldKeys.length; idx++) {
+            if (oldKeys[idx] != 0L) {
+                int slot = FakebookLongSet.hash(oldKeys[idx]) & mask;
+                while (keys[slot] != 0L) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[idx];
+                values[slot] = oldValues[idx];
+            }
+        }
+    }
+    
+    // Member Variables
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private boolean containsZero;
+    private int zeroValue;
+}
+
+/*
+    The FakebookCountIndex class counts occurrences of keys and keeps the keys ranked by
+    count, so that the most and least frequent keys are found without a scan while the
+    counts go both up and down. Keys with equal counts are ordered by <comparator>
+    (which may place a NULL key), and a key whose count falls to zero is dropped. An
+    update costs O(log n) for n distinct keys; reading the top <k> keys costs O(k log n).
+*/
+final class FakebookCountIndex<K> {
+    // [Constructor]
+    public FakebookCountIndex(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+    
+    // [Add Function]
+    // REQUIRES: the count of <key> stays at least 0
+    // MODIFIES: this
+    // EFFECTS:  adds <delta> to the count of <key> and returns the new count
+    public long add(K key, long delta) {
+        long before = count(key);
+        long after = before + delta;
+        if (after < 0) {
+            throw new IllegalStateException("count of " + key + " would fall to " + after);
+        }
+        if (before == after) {
+            return after;
+        }
+        if (before > 0) {
+            SortedSet<K> keys = byCount.get(before);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                byCount.remove(before);
+            }
+        }
+        if (after > 0) {
+            counts.put(key, after);
+            SortedSet<K> keys = byCount.get(after);
+            if (keys == null) {
+                keys = new TreeSet<K>(comparator);
+                byCount.put(after, keys);
+            }
+            keys.add(key);
+        }
+        else {
+            counts.remove(key);
+        }
+        return after;
+    }
+    
+    // [Count Function]
+    // EFFECTS:  returns the count of <key>, 0 if it was never counted
+    public long count(K key) {
+        Long count = counts.get(key);
+        return (count == null) ? 0L : count;
+    }
+    
+    // [Size Function]
+    // EFFECTS:  returns the number of keys with a positive count
+    public int size() {
+        return counts.size();
+    }
+    
+    // [Max Count Function]
+    // EFFECTS:  returns the highest count, or 0 if nothing is counted
+    public long maxCount() {
+        return byCount.isEmpty() ? 0L : byCount.lastKey();
+    }
+    
+    // [Min Count Function]
+    // EFFECTS:  returns the lowest positive count, or 0 if nothing is counted
+    public long minCount() {
+        return byCount.isEmpty() ? 0L : byCount.firstKey();
+    }
+    
+    // [With Count Function]
+    // EFFECTS:  returns a read-only view of the keys whose count is <count>, in
+    //   comparator order
+    public SortedSet<K> withCount(long count) {
+        SortedSet<K> keys = byCount.get(count);
+        return (keys == null) ? Collections.<K>emptySortedSet() : Collections.unmodifiableSortedSet(keys);
+    }
+    
+    // [Top Function]
+    // EFFECTS:  returns the (at most) <k> keys with the highest counts, highest first and
+    //   ties in comparator order
+    public List<K> top(int k) {
+        List<K> top = new ArrayList<K>(Math.max(0, Math.min(k, counts.size())));
+        for (SortedSet<K> keys : byCount.descendingMap().values()) {
+            for (K key : keys) {
+                if (top.size() >= k) {
+                    return top;
+                }
+                top.add(key);
+            }
+        }
+        return top;
+    }
+    
+    // Member Variables
+    private final Comparator<? super K> comparator;
+    private final Map<K, Long> counts = new HashMap<K, Long>();
+    private final TreeMap<Long, SortedSet<K>> byCount = new TreeMap<Long, SortedSet<K>>();
 }
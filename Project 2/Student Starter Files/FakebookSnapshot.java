@@ -0,0 +1,763 @@
+package project2;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    The FakebookSnapshot class is a read-only, memory-mapped copy of the eleven Fakebook
+    tables in a compact columnar binary file. export() writes the file from a database;
+    open() maps it back in without reading it, so that opening even a multi-gigabyte
+    snapshot takes milliseconds and the data is paged in from the file cache only as it
+    is touched.
+
+    Every column of every table is stored as its own section, with the rows of the table
+    in primary key order:
+
+        INT         4-byte ints (INTEGER, SMALLINT, TINYINT); NULL is Integer.MIN_VALUE
+        LONG        8-byte longs (BIGINT, and NUMBER/NUMERIC/DECIMAL without a positive
+                    scale); NULL is Long.MIN_VALUE
+        DOUBLE      8-byte doubles (other numbers); NULL is NaN
+        TIMESTAMP   8-byte milliseconds since the epoch (DATE, TIME, TIMESTAMP); NULL is
+                    Long.MIN_VALUE
+        STRING      4-byte codes into the string dictionary; NULL is -1
+
+    The dictionary holds every distinct string once, sorted, so that comparing two codes
+    compares the strings. Two more groups of sections index the rows of Users by
+    position (the user at row u is the u-th smallest User ID):
+
+        Friends#offsets, Friends#neighbors
+                    the friends of user u are the sorted rows neighbors[offsets[u]] ..
+                    neighbors[offsets[u + 1] - 1]
+        Tags#photoIds, Tags#photoOffsets, Tags#photoUsers, Tags#userOffsets, Tags#userPhotos
+                    the users tagged in the p-th photo (by photo ID) and the photos each
+                    user is tagged in, both sorted, counting only tags of existing users
+
+    Layout: a 32-byte header (magic, version, directory offset and length), the sections
+    (each 8-byte aligned, little-endian), then the directory of (name, kind, offset,
+    length) entries. Each section must be smaller than 2 GB, the limit of one mapping.
+
+    Usage: java project2.FakebookSnapshot <file>
+    exports the database chosen through the settings read by FakebookConnectionFactory.
+*/
+final class FakebookSnapshot implements AutoCloseable {
+    /*
+        The Column class reads one column of a table, or one int or long array, straight
+        from its mapped section.
+    */
+    static final class Column {
+        // [Constructor]
+        Column(int kind, ByteBuffer data) {
+            this.kind = kind;
+            if (kind == KindInt || kind == KindString) {
+                ints = data.asIntBuffer();
+                longs = null;
+                rows = ints.limit();
+            }
+            else {
+                ints = null;
+                longs = data.asLongBuffer();
+                rows = longs.limit();
+            }
+        }
+
+        // [Rows Function]
+        // EFFECTS:  returns the number of values in the column
+        int rows() {
+            return rows;
+        }
+
+        // [Get Function]
+        // REQUIRES: the column is not a STRING or DOUBLE column
+        // EFFECTS:  returns the value at <row>, or Null if it is NULL
+        long get(int row) {
+            if (ints != null) {
+                int value = ints.get(row);
+                return (value == Integer.MIN_VALUE) ? Null : value;
+            }
+            return longs.get(row);
+        }
+
+        // [Get Double Function]
+        // REQUIRES: the column is a DOUBLE column
+        // EFFECTS:  returns the value at <row>, or NaN if it is NULL
+        double getDouble(int row) {
+            return Double.longBitsToDouble(longs.get(row));
+        }
+
+        // [Code Function]
+        // REQUIRES: the column is a STRING column
+        // EFFECTS:  returns the dictionary code of the value at <row>, or -1 if it is NULL
+        int code(int row) {
+            return ints.get(row);
+        }
+
+        // [Lower Bound Function]
+        // REQUIRES: the column is sorted
+        // EFFECTS:  returns the first row whose value is at least <key>, or rows() if none is
+        int lowerBound(long key) {
+            int lo = 0;
+            int hi = rows;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (get(mid) < key) {
+                    lo = mid + 1;
+                }
+                else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // [Find Function]
+        // REQUIRES: the column is sorted
+        // EFFECTS:  returns the row holding <key>, or -1 if there is none
+        int find(long key) {
+            int row = lowerBound(key);
+            return (row < rows && get(row) == key) ? row : -1;
+        }
+
+        // Member Variables
+        final int kind;
+        private final IntBuffer ints;
+        private final LongBuffer longs;
+        private final int rows;
+    }
+
+    // [Main Function]
+    // Expected Command Line Arguments:
+    //  [0] file to write the snapshot to
+    public static void main(String[] args) {
+        try (Connection connection = FakebookConnectionFactory.fromSettings(null, null).open()) {
+            long beginTime = System.currentTimeMillis();
+            long bytes = export(connection, args[0]);
+            System.out.println(String.format("Wrote %d byte(s) to %s in %.3f s",
+                bytes, args[0], (System.currentTimeMillis() - beginTime) / 1000.0));
+        }
+        catch (SQLException e) {
+            e.printStackTrace();
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // [Export Function]
+    // MODIFIES: the file at <path>
+    // EFFECTS:  writes a snapshot of the Fakebook tables reachable through <connection> to
+    //   <path>, replacing it, and returns the size of the file in bytes
+    public static long export(Connection connection, String path) throws SQLException, IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.setLength(0L);
+            FileChannel channel = file.getChannel();
+            Output out = new Output(channel);
+            out.skip(HeaderBytes);
+
+            // Step 1
+            // ------------
+            // * Every column of every table, one streamed statement per column; strings
+            //   get provisional codes in the order they are first seen
+            Map<String, Integer> codes = new HashMap<String, Integer>();
+            List<String> strings = new ArrayList<String>();
+            List<Entry> stringSections = new ArrayList<Entry>();
+            for (int table = 0; table < TableNames.length; table++) {
+                String source = TableSources[table];
+                String order = " ORDER BY " + TableKeys[table];
+                List<String> columns = new ArrayList<String>();
+                List<Integer> kinds = new ArrayList<Integer>();
+                try (PreparedStatement stmt = connection.prepareStatement("SELECT * FROM " + source + " WHERE 1 = 0")) {
+                    ResultSetMetaData meta = stmt.executeQuery().getMetaData();
+                    for (int col = 1; col <= meta.getColumnCount(); col++) {
+                        columns.add(meta.getColumnName(col).toUpperCase());
+                        kinds.add(kindOf(meta.getColumnType(col), meta.getScale(col)));
+                    }
+                }
+                for (int col = 0; col < columns.size(); col++) {
+                    int kind = kinds.get(col);
+                    out.begin(TableNames[table] + "." + columns.get(col), kind);
+                    try (PreparedStatement stmt = connection.prepareStatement(
+                             "SELECT " + columns.get(col) + " FROM " + source + order,
+                             FakebookOracleConstants.ForwardOnly, FakebookOracleConstants.ReadOnly)) {
+                        stmt.setFetchSize(FakebookOracleConstants.FetchSize);
+                        ResultSet rst = stmt.executeQuery();
+                        while (rst.next()) {
+                            write(out, kind, rst, codes, strings);
+                        }
+                        rst.close();
+                    }
+                    Entry entry = out.end();
+                    if (kind == KindString) {
+                        stringSections.add(entry);
+                    }
+                }
+            }
+
+            // Step 2
+            // ------------
+            // * Sort the dictionary, write it, and rewrite every provisional code in place
+            Integer[] sorted = new Integer[strings.size()];
+            for (int idx = 0; idx < sorted.length; idx++) {
+                sorted[idx] = idx;
+            }
+            Arrays.sort(sorted, (a, b) -> strings.get(a).compareTo(strings.get(b)));
+            int[] remap = new int[sorted.length];
+            out.begin(DictionaryOffsets, KindLong);
+            long offset = 0L;
+            for (int idx = 0; idx < sorted.length; idx++) {
+                remap[sorted[idx]] = idx;
+                out.putLong(offset);
+                offset += strings.get(sorted[idx]).getBytes(StandardCharsets.UTF_8).length;
+            }
+            out.putLong(offset);
+            out.end();
+            out.begin(DictionaryBytes, KindRaw);
+            for (Integer idx : sorted) {
+                out.putBytes(strings.get(idx).getBytes(StandardCharsets.UTF_8));
+            }
+            out.end();
+            out.flush();
+            for (Entry entry : stringSections) {
+                IntBuffer section = map(channel, FileChannel.MapMode.READ_WRITE, entry).asIntBuffer();
+                for (int row = 0; row < section.limit(); row++) {
+                    int code = section.get(row);
+                    if (code >= 0) {
+                        section.put(row, remap[code]);
+                    }
+                }
+            }
+
+            // Step 3
+            // ------------
+            // * The friendship and tag adjacency over the rows of Users
+            Column users = new Column(out.find("Users.USER_ID").kind, map(channel, FileChannel.MapMode.READ_ONLY, out.find("Users.USER_ID")));
+            writeFriends(out, users, column(channel, out, "Friends.USER1_ID"), column(channel, out, "Friends.USER2_ID"));
+            writeTags(out, users, column(channel, out, "Tags.TAG_PHOTO_ID"), column(channel, out, "Tags.TAG_SUBJECT_ID"));
+
+            // Step 4
+            // ------------
+            // * The directory, then the header that points at it
+            long directoryOffset = out.position();
+            out.putInt(out.directory.size());
+            for (Entry entry : out.directory) {
+                byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+                out.putInt(name.length);
+                out.putBytes(name);
+                out.putInt(entry.kind);
+                out.putLong(entry.offset);
+                out.putLong(entry.length);
+            }
+            long directoryLength = out.position() - directoryOffset;
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HeaderBytes).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(Magic).putInt(Version).putInt(0).putLong(directoryOffset).putLong(directoryLength);
+            header.flip();
+            channel.write(header, 0L);
+            return channel.size();
+        }
+    }
+
+    // [Open Function]
+    // EFFECTS:  maps the snapshot at <path>; nothing but its header and directory is read
+    public static FakebookSnapshot open(String path) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(path, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, HeaderBytes).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong() != Magic || header.getInt() != Version) {
+                throw new IOException(path + " is not a Fakebook snapshot of version " + Version);
+            }
+            header.getInt();
+            long directoryOffset = header.getLong();
+            long directoryLength = header.getLong();
+
+            ByteBuffer directory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset, directoryLength).order(ByteOrder.LITTLE_ENDIAN);
+            Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+            int count = directory.getInt();
+            for (int idx = 0; idx < count; idx++) {
+                byte[] name = new byte[directory.getInt()];
+                directory.get(name);
+                Entry entry = new Entry(new String(name, StandardCharsets.UTF_8), directory.getInt(), directory.getLong(), directory.getLong());
+                entries.put(entry.name, entry);
+            }
+            return new FakebookSnapshot(file, entries);
+        }
+        catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    // [Constructor]
+    private FakebookSnapshot(RandomAccessFile file, Map<String, Entry> entries) throws IOException {
+        this.file = file;
+        this.entries = entries;
+        sections = new HashMap<String, ByteBuffer>();
+        for (Entry entry : entries.values()) {
+            sections.put(entry.name, map(file.getChannel(), FileChannel.MapMode.READ_ONLY, entry));
+        }
+        dictionaryOffsets = column(DictionaryOffsets);
+        dictionaryBytes = section(DictionaryBytes);
+    }
+
+    // [Column Function]
+    // EFFECTS:  returns column <column> of table <table> (e.g. "Users", "USER_ID")
+    public Column column(String table, String column) throws IOException {
+        return column(table + "." + column);
+    }
+
+    // [Column Function]
+    // EFFECTS:  returns the section called <name> as a column
+    public Column column(String name) throws IOException {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IOException("the snapshot has no section " + name);
+        }
+        return new Column(entry.kind, section(name));
+    }
+
+    // [Ints Function]
+    // EFFECTS:  returns the INT section called <name>, such as one of the adjacency arrays
+    public IntBuffer ints(String name) throws IOException {
+        return section(name).asIntBuffer();
+    }
+
+    // [String Function]
+    // EFFECTS:  returns the string with dictionary code <code>, or NULL if <code> is -1
+    public String string(int code) {
+        if (code < 0) {
+            return null;
+        }
+        int start = (int)dictionaryOffsets.get(code);
+        byte[] bytes = new byte[(int)dictionaryOffsets.get(code + 1) - start];
+        ByteBuffer view = dictionaryBytes.duplicate();        // positional reads stay per call
+        view.position(start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // [Dictionary Size Function]
+    // EFFECTS:  returns the number of distinct strings in the snapshot
+    public int dictionarySize() {
+        return dictionaryOffsets.rows() - 1;
+    }
+
+    @Override
+    // [Close Function]
+    // EFFECTS:  closes the file; sections already handed out stay readable until they are
+    //   garbage collected
+    public void close() throws IOException {
+        file.close();
+    }
+
+    // [Section Function]
+    // EFFECTS:  returns a little-endian view of the section called <name>
+    private ByteBuffer section(String name) throws IOException {
+        ByteBuffer section = sections.get(name);
+        if (section == null) {
+            throw new IOException("the snapshot has no section " + name);
+        }
+        return section.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // [Kind Function]
+    // EFFECTS:  returns the section kind that stores a column of JDBC type <type> with
+    //   <scale> decimal places
+    private static int kindOf(int type, int scale) {
+        switch (type) {
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return KindInt;
+            case Types.BIGINT:
+                return KindLong;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return (scale > 0) ? KindDouble : KindLong;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return KindDouble;
+            case Types.DATE:
+            case Types.TIME:
+            case Types.TIMESTAMP:
+                return KindTimestamp;
+            default:
+                return KindString;
+        }
+    }
+
+    // [Write Function]
+    // MODIFIES: <out>, <codes>, <strings>
+    // EFFECTS:  writes the first column of the current row of <rst> as a value of <kind>;
+    //   a string not seen before is added to <strings> with the next provisional code
+    private static void write(Output out, int kind, ResultSet rst, Map<String, Integer> codes, List<String> strings)
+        throws SQLException, IOException {
+        switch (kind) {
+            case KindInt: {
+                int value = rst.getInt(1);
+                out.putInt(rst.wasNull() ? Integer.MIN_VALUE : value);
+                break;
+            }
+            case KindLong: {
+                long value = rst.getLong(1);
+                out.putLong(rst.wasNull() ? Null : value);
+                break;
+            }
+            case KindDouble: {
+                double value = rst.getDouble(1);
+                out.putLong(Double.doubleToRawLongBits(rst.wasNull() ? Double.NaN : value));
+                break;
+            }
+            case KindTimestamp: {
+                Timestamp value = rst.getTimestamp(1);
+                out.putLong((value == null) ? Null : value.getTime());
+                break;
+            }
+            default: {
+                String value = rst.getString(1);
+                if (value == null) {
+                    out.putInt(-1);
+                    break;
+                }
+                Integer code = codes.get(value);
+                if (code == null) {
+                    code = strings.size();
+                    codes.put(value, code);
+                    strings.add(value);
+                }
+                out.putInt(code);
+                break;
+            }
+        }
+    }
+
+    // [Write Friends Function]
+    // MODIFIES: <out>
+    // EFFECTS:  writes the sorted, duplicate-free adjacency lists of the friendships
+    //   <user1>[i] -- <user2>[i] between rows of <users>; friendships with a missing user
+    //   and friendships of a user with themself are left out
+    private static void writeFriends(Output out, Column users, Column user1, Column user2) throws IOException {
+        int size = users.rows();
+        int[] from = new int[user1.rows()];
+        int[] to = new int[user1.rows()];
+        int edges = 0;
+        for (int row = 0; row < user1.rows(); row++) {
+            int a = users.find(user1.get(row));
+            int b = users.find(user2.get(row));
+            if (a >= 0 && b >= 0 && a != b) {
+                from[edges] = a;
+                to[edges] = b;
+                edges++;
+            }
+        }
+
+        int[] degree = new int[size + 1];
+        for (int e = 0; e < edges; e++) {
+            degree[from[e] + 1]++;
+            degree[to[e] + 1]++;
+        }
+        for (int u = 0; u < size; u++) {
+            degree[u + 1] += degree[u];
+        }
+        int[] fill = Arrays.copyOf(degree, size);
+        int[] all = new int[2 * edges];
+        for (int e = 0; e < edges; e++) {
+            all[fill[from[e]]++] = to[e];
+            all[fill[to[e]]++] = from[e];
+        }
+
+        int[] offsets = new int[size + 1];
+        int length = 0;
+        for (int u = 0; u < size; u++) {
+            Arrays.sort(all, degree[u], degree[u + 1]);
+            offsets[u] = length;
+            for (int e = degree[u]; e < degree[u + 1]; e++) {
+                if (e == degree[u] || all[e] != all[e - 1]) {
+                    all[length++] = all[e];
+                }
+            }
+        }
+        offsets[size] = length;
+        out.putInts(FriendOffsets, offsets, offsets.length);
+        out.putInts(FriendNeighbors, all, length);
+    }
+
+    // [Write Tags Function]
+    // MODIFIES: <out>
+    // EFFECTS:  writes the photo-to-users and user-to-photos lists of the tags
+    //   <photo>[i] -> <subject>[i], which are sorted by photo and then subject; tags of
+    //   users missing from <users> are left out
+    private static void writeTags(Output out, Column users, Column photo, Column subject) throws IOException {
+        int size = users.rows();
+        long[] photoIds = new long[photo.rows()];
+        int[] photoOffsets = new int[photo.rows() + 1];
+        int[] photoUsers = new int[photo.rows()];
+        int photos = 0;
+        int tags = 0;
+        for (int row = 0; row < photo.rows(); row++) {
+            int u = users.find(subject.get(row));
+            if (u < 0) {
+                continue;
+            }
+            if (photos == 0 || photoIds[photos - 1] != photo.get(row)) {
+                photoIds[photos] = photo.get(row);
+                photoOffsets[photos++] = tags;
+            }
+            else if (photoUsers[tags - 1] == u) {
+                continue;
+            }
+            photoUsers[tags++] = u;
+        }
+        photoOffsets[photos] = tags;
+
+        int[] userOffsets = new int[size + 1];
+        for (int e = 0; e < tags; e++) {
+            userOffsets[photoUsers[e] + 1]++;
+        }
+        for (int u = 0; u < size; u++) {
+            userOffsets[u + 1] += userOffsets[u];
+        }
+        int[] userPhotos = new int[tags];
+        int[] fill = Arrays.copyOf(userOffsets, size);
+        for (int p = 0; p < photos; p++) {                     // ascending p keeps each list sorted
+            for (int e = photoOffsets[p]; e < photoOffsets[p + 1]; e++) {
+                userPhotos[fill[photoUsers[e]]++] = p;
+            }
+        }
+
+        out.begin(TagPhotoIds, KindLong);
+        for (int p = 0; p < photos; p++) {
+            out.putLong(photoIds[p]);
+        }
+        out.end();
+        out.putInts(TagPhotoOffsets, photoOffsets, photos + 1);
+        out.putInts(TagPhotoUsers, photoUsers, tags);
+        out.putInts(TagUserOffsets, userOffsets, size + 1);
+        out.putInts(TagUserPhotos, userPhotos, tags);
+    }
+
+    // [Column Function]
+    // EFFECTS:  returns the section called <name>, already written through <out>, as a
+    //   column mapped from <channel>
+    private static Column column(FileChannel channel, Output out, String name) throws IOException {
+        Entry entry = out.find(name);
+        return new Column(entry.kind, map(channel, FileChannel.MapMode.READ_ONLY, entry));
+    }
+
+    // [Map Function]
+    // EFFECTS:  maps section <entry> of <channel> in <mode>, little-endian
+    private static MappedByteBuffer map(FileChannel channel, FileChannel.MapMode mode, Entry entry) throws IOException {
+        MappedByteBuffer section = channel.map(mode, entry.offset, entry.length);
+        section.order(ByteOrder.LITTLE_ENDIAN);
+        return section;
+    }
+
+    /*
+        The Entry class is one directory entry: where a section lies and what it holds.
+    */
+    private static final class Entry {
+        Entry(String name, int kind, long offset, long length) {
+            this.name = name;
+            this.kind = kind;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        final String name;
+        final int kind;
+        final long offset;
+        final long length;
+    }
+
+    /*
+        The Output class appends sections to the snapshot file through a buffer and keeps
+        their directory entries.
+    */
+    private static final class Output {
+        // [Constructor]
+        Output(FileChannel channel) {
+            this.channel = channel;
+            buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        // [Position Function]
+        // EFFECTS:  returns the file offset of the next byte written
+        long position() {
+            return flushed + buffer.position();
+        }
+
+        // [Skip Function]
+        // MODIFIES: this
+        // EFFECTS:  writes <bytes> zero bytes
+        void skip(int bytes) throws IOException {
+            for (int idx = 0; idx < bytes; idx++) {
+                room(1);
+                buffer.put((byte)0);
+            }
+        }
+
+        // [Begin Function]
+        // MODIFIES: this
+        // EFFECTS:  pads to an 8-byte boundary and starts section <name> of <kind>
+        void begin(String name, int kind) throws IOException {
+            skip((int)(-position() & 7));
+            sectionName = name;
+            sectionKind = kind;
+            sectionStart = position();
+        }
+
+        // [End Function]
+        // MODIFIES: this
+        // EFFECTS:  ends the current section and returns its directory entry
+        Entry end() throws IOException {
+            long length = position() - sectionStart;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("section " + sectionName + " is larger than 2 GB");
+            }
+            Entry entry = new Entry(sectionName, sectionKind, sectionStart, length);
+            directory.add(entry);
+            return entry;
+        }
+
+        // [Find Function]
+        // EFFECTS:  returns the entry of the section called <name>
+        Entry find(String name) throws IOException {
+            for (Entry entry : directory) {
+                if (entry.name.equals(name)) {
+                    return entry;
+                }
+            }
+            throw new IOException("no section " + name + " was exported");
+        }
+
+        void putInt(int value) throws IOException {
+            room(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            room(8);
+            buffer.putLong(value);
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            for (int start = 0; start < bytes.length; start += buffer.capacity()) {
+                int length = Math.min(buffer.capacity(), bytes.length - start);
+                room(length);
+                buffer.put(bytes, start, length);
+            }
+        }
+
+        // [Put Ints Function]
+        // MODIFIES: this
+        // EFFECTS:  writes the first <length> values of <values> as INT section <name>
+        void putInts(String name, int[] values, int length) throws IOException {
+            begin(name, KindInt);
+            for (int idx = 0; idx < length; idx++) {
+                putInt(values[idx]);
+            }
+            end();
+        }
+
+        // [Flush Function]
+        // MODIFIES: this
+        // EFFECTS:  writes the buffered bytes to the file
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                flushed += channel.write(buffer, flushed);
+            }
+            buffer.clear();
+        }
+
+        // [Room Function]
+        // EFFECTS:  flushes the buffer if fewer than <bytes> bytes are free
+        private void room(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        // Member Variables
+        final List<Entry> directory = new ArrayList<Entry>();
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long flushed;
+        private String sectionName;
+        private int sectionKind;
+        private long sectionStart;
+    }
+
+    // NULL value of the LONG and TIMESTAMP columns, as returned by Column.get
+    static final long Null = Long.MIN_VALUE;
+
+    // Section Kinds
+    static final int KindRaw = 0;
+    static final int KindInt = 1;
+    static final int KindLong = 2;
+    static final int KindDouble = 3;
+    static final int KindTimestamp = 4;
+    static final int KindString = 5;
+
+    // Derived Section Names
+    static final String FriendOffsets = "Friends#offsets";
+    static final String FriendNeighbors = "Friends#neighbors";
+    static final String TagPhotoIds = "Tags#photoIds";
+    static final String TagPhotoOffsets = "Tags#photoOffsets";
+    static final String TagPhotoUsers = "Tags#photoUsers";
+    static final String TagUserOffsets = "Tags#userOffsets";
+    static final String TagUserPhotos = "Tags#userPhotos";
+    private static final String DictionaryOffsets = "#dictionary.offsets";
+    private static final String DictionaryBytes = "#dictionary.bytes";
+
+    // Exported Tables: snapshot name, source table and primary key (the row order)
+    private static final String[] TableNames = {
+        "Users", "Cities", "Friends", "User_Current_City", "User_Hometown_City", "Programs",
+        "Education", "User_Events", "Albums", "Photos", "Tags"
+    };
+    private static final String[] TableSources = {
+        FakebookOracleConstants.UsersTable, FakebookOracleConstants.CitiesTable,
+        FakebookOracleConstants.FriendsTable, FakebookOracleConstants.CurrentCitiesTable,
+        FakebookOracleConstants.HometownCitiesTable, FakebookOracleConstants.ProgramsTable,
+        FakebookOracleConstants.EducationTable, FakebookOracleConstants.EventsTable,
+        FakebookOracleConstants.AlbumsTable, FakebookOracleConstants.PhotosTable,
+        FakebookOracleConstants.TagsTable
+    };
+    private static final String[] TableKeys = {
+        "USER_ID", "CITY_ID", "USER1_ID, USER2_ID", "USER_ID", "USER_ID", "PROGRAM_ID",
+        "USER_ID, PROGRAM_ID", "EVENT_ID", "ALBUM_ID", "PHOTO_ID", "TAG_PHOTO_ID, TAG_SUBJECT_ID"
+    };
+
+    // File Format
+    private static final long Magic = 0x3130504E53424B46L;      // "FKBSNP01" read little-endian
+    private static final int Version = 1;
+    private static final int HeaderBytes = 32;
+
+    // Member Variables
+    private final RandomAccessFile file;
+    private final Map<String, Entry> entries;
+    private final Map<String, ByteBuffer> sections;
+    private final Column dictionaryOffsets;
+    private final ByteBuffer dictionaryBytes;
+}
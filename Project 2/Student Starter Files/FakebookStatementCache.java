@@ -0,0 +1,280 @@
+package project2;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    The FakebookStatementCache class keeps the prepared statements issued over a single
+    JDBC connection so that each query is parsed once and then re-executed with new
+    bind values. Statements are keyed by query identity (e.g. "Query8") rather than by
+    SQL text, and are leased out while in use so that two threads sharing the same
+    connection never bind the same cursor at once. Statements are forward-only and
+    read-only, so the driver streams results <FetchSize> rows at a time instead of
+    caching them client-side. The cache also remembers which thread holds each lease,
+    so that another thread can cancel the statements a query is executing.
+
+    At most <StatementsPerQuery> statements are prepared for each key: once that many
+    are leased, a further lease of the key waits for one to be returned instead of
+    opening another cursor, so the cursors a connection holds are bounded by the number
+    of queries times <StatementsPerQuery> however many threads share it (Oracle fails
+    past its open_cursors limit with ORA-01000). A thread must therefore not hold more
+    than <StatementsPerQuery> leases of one key at once.
+*/
+final class FakebookStatementCache {
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection
+    public FakebookStatementCache(Connection connection) {
+        this(connection, FakebookOracleConstants.StatementsPerQuery);
+    }
+
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection and <perKey> is at least 1
+    public FakebookStatementCache(Connection connection, int perKey) {
+        if (perKey < 1) {
+            throw new IllegalArgumentException("statements per query must be at least 1: " + perKey);
+        }
+        this.connection = connection;
+        this.perKey = perKey;
+        idle = new HashMap<String, ArrayDeque<PreparedStatement>>();
+        prepared = new HashMap<String, Integer>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        leased = ConcurrentHashMap.newKeySet();
+    }
+
+    // [Lease Function]
+    // REQUIRES: every lease of <key> passes the same <sql>
+    // MODIFIES: <idle>, <prepared>, <hits>, <misses>
+    // EFFECTS:  returns a lease on an idle statement for <key>, preparing <sql> on the
+    //   connection if no such statement is available and fewer than <perKey> have been
+    //   prepared, and otherwise waiting for one to be returned; closing the lease
+    //   returns the statement to the cache. Throws an SQLException if the cache is
+    //   closed, or if the thread is interrupted while waiting.
+    public Lease lease(String key, String sql) throws SQLException {
+        PreparedStatement stmt = null;
+        synchronized (idle) {
+            while (true) {
+                if (closed) {
+                    throw new SQLException("statement cache is closed");
+                }
+                ArrayDeque<PreparedStatement> statements = idle.get(key);
+                stmt = (statements != null) ? statements.poll() : null;
+                int count = prepared.getOrDefault(key, 0);
+                if (stmt != null || count < perKey) {
+                    if (stmt == null) {
+                        prepared.put(key, count + 1);       // reserved while it is prepared
+                    }
+                    break;
+                }
+                try {
+                    idle.wait();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("interrupted while waiting for a statement of " + key, e);
+                }
+            }
+        }
+
+        if (stmt != null) {
+            hits.incrementAndGet();
+        }
+        else {
+            misses.incrementAndGet();
+            try {
+                stmt = connection.prepareStatement(sql, FakebookOracleConstants.ForwardOnly, FakebookOracleConstants.ReadOnly);
+                stmt.setFetchSize(FakebookOracleConstants.FetchSize);
+            }
+            catch (SQLException e) {
+                if (stmt != null) {
+                    stmt.close();
+                }
+                discard(key);
+                throw e;
+            }
+        }
+        Lease lease = new Lease(key, stmt);
+        leased.add(lease);
+        return lease;
+    }
+
+    // [Cancel Function]
+    // EFFECTS:  cancels, through Statement.cancel(), every statement currently leased by
+    //   <thread>, so that the query it is executing fails promptly with an SQLException;
+    //   returns the number of statements cancelled. A lease is cancelled under its own
+    //   lock and only while it is open, so a statement that has been returned to the
+    //   cache (and may already be leased by another thread) is never cancelled.
+    public int cancel(Thread thread) {
+        int cancelled = 0;
+        for (Lease lease : leased) {
+            if (lease.thread == thread && lease.cancel()) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    // [Hit Count Function]
+    // EFFECTS:  returns the number of leases served by an already-prepared statement
+    public long getHits() {
+        return hits.get();
+    }
+
+    // [Miss Count Function]
+    // EFFECTS:  returns the number of leases that had to prepare a new statement
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // [Close Function]
+    // MODIFIES: <idle>, <prepared>
+    // EFFECTS:  closes every statement prepared by this cache, the idle ones and those
+    //   still leased (which fails the queries executing them), and makes every later
+    //   or waiting lease fail; a leased statement returned afterwards is dropped
+    public void close() throws SQLException {
+        SQLException failure = null;
+        synchronized (idle) {
+            closed = true;
+            for (ArrayDeque<PreparedStatement> statements : idle.values()) {
+                for (PreparedStatement stmt : statements) {
+                    try {
+                        stmt.close();
+                    }
+                    catch (SQLException e) {
+                        failure = e;
+                    }
+                }
+            }
+            idle.clear();
+            prepared.clear();
+            idle.notifyAll();
+        }
+        for (Lease lease : leased) {
+            try {
+                lease.stmt.close();
+            }
+            catch (SQLException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // [Release Function]
+    // MODIFIES: <idle>
+    // EFFECTS:  makes <stmt> available to the next lease of <key>, or closes it if the
+    //   cache has been closed
+    private void release(String key, PreparedStatement stmt) throws SQLException {
+        synchronized (idle) {
+            if (closed) {
+                stmt.close();
+                return;
+            }
+        }
+        stmt.clearParameters();
+        synchronized (idle) {
+            if (closed) {
+                stmt.close();
+                return;
+            }
+            ArrayDeque<PreparedStatement> statements = idle.get(key);
+            if (statements == null) {
+                statements = new ArrayDeque<PreparedStatement>();
+                idle.put(key, statements);
+            }
+            statements.push(stmt);
+            idle.notifyAll();
+        }
+    }
+
+    // [Discard Function]
+    // MODIFIES: <prepared>
+    // EFFECTS:  records that a statement of <key> was closed rather than returned, so
+    //   that another may be prepared in its place
+    private void discard(String key) {
+        synchronized (idle) {
+            prepared.computeIfPresent(key, (k, count) -> (count > 1) ? count - 1 : null);
+            idle.notifyAll();
+        }
+    }
+
+    /*
+        The Lease class hands out one cached statement for the duration of a
+        try-with-resources block.
+    */
+    final class Lease implements AutoCloseable {
+        // [Constructor]
+        private Lease(String key, PreparedStatement stmt) {
+            this.key = key;
+            this.stmt = stmt;
+            thread = Thread.currentThread();
+        }
+
+        // [Statement Accessor]
+        // EFFECTS:  returns the leased statement
+        public PreparedStatement statement() {
+            return stmt;
+        }
+
+        @Override
+        // [Close Function]
+        // EFFECTS:  returns the leased statement to the cache; if the statement can no
+        //   longer be reset it is closed instead
+        public void close() throws SQLException {
+            synchronized (this) {
+                closed = true;
+            }
+            leased.remove(this);
+            try {
+                release(key, stmt);
+            }
+            catch (SQLException e) {
+                stmt.close();
+                discard(key);
+                throw e;
+            }
+        }
+
+        // [Cancel Function]
+        // EFFECTS:  cancels the statement and returns true if the lease is still open;
+        //   returns false, doing nothing, once it has been closed
+        private synchronized boolean cancel() {
+            if (closed) {
+                return false;
+            }
+            try {
+                stmt.cancel();
+                return true;
+            }
+            catch (SQLException e) {
+                System.err.println(e.getMessage());
+                return false;
+            }
+        }
+
+        // Member Variables
+        private final String key;
+        private final PreparedStatement stmt;
+        private final Thread thread;
+        private boolean closed;
+    }
+
+    // Member Variables
+    private final Connection connection;
+    private final int perKey;
+    private final Map<String, ArrayDeque<PreparedStatement>> idle;   // also the lock of <prepared> and <closed>
+    private final Map<String, Integer> prepared;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final Set<Lease> leased;
+    private boolean closed;
+}
@@ -0,0 +1,1007 @@
+package project2;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+    The GraphFakebookOracle class is derived from the FakebookOracle class and answers the
+    friendship queries (Query 6, Query 8 and Query 9) from an in-memory copy of the
+    friendship graph instead of self-joining the Friends table. The graph is loaded once,
+    on first use, into a compressed sparse row (CSR) structure: users are numbered
+    0 .. n-1 in ascending User ID order, and the friends of user i are the sorted entries
+    neighbors[offsets[i]] .. neighbors[offsets[i + 1] - 1]. All other queries are
+    delegated to a StudentFakebookOracle over the same connection, and every query
+    returns exactly what StudentFakebookOracle returns for the same data.
+
+    Query 5 (matchMaker) is answered from an inverted index of the Tags table, loaded on
+    first use: the users tagged in each photo and the photos each user is tagged in, both
+    as sorted int arrays in CSR form, plus a FakebookLongSet of the friendship pairs.
+    Co-tagged pairs are counted per user in a scratch array, so the self-join of Tags
+    (T^2 rows for a photo with T tags) is never materialized.
+
+    The copy is not refreshed automatically; call reload() after the Users, Friends,
+    User_Hometown_City or Tags tables change. Oracles over several connections to the
+    same database can share one copy (and one set of Query 6 workers) by creating all
+    but the first through the sharing constructor, so that it is loaded only once.
+
+    With a parallelism above 1 (setParallelism, or -Dfakebook.graph.parallelism=<n>),
+    Query 6 splits the users across a ForkJoinPool of that many workers. Each running
+    task counts into scratch arrays and a bounded top-<num> heap that no other task is
+    using at the time (about one set per worker, made for the call), and the heaps are
+    merged once every user has been counted. close() shuts the workers down.
+*/
+public final class GraphFakebookOracle extends FakebookOracle implements AutoCloseable {
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection
+    public GraphFakebookOracle(Connection connection) {
+        this(connection, Integer.getInteger("fakebook.graph.parallelism", 1));
+    }
+
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection and <parallelism> is at least 1
+    public GraphFakebookOracle(Connection connection, int parallelism) {
+        delegate = new StudentFakebookOracle(connection);
+        shared = new Shared();
+        setParallelism(parallelism);
+    }
+
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection to the database of <other>
+    // EFFECTS:  creates an oracle over <connection> that shares the in-memory graph, tag
+    //   index, parallelism and workers of <other>; reload(), setParallelism and close()
+    //   on either act on both
+    public GraphFakebookOracle(Connection connection, GraphFakebookOracle other) {
+        delegate = new StudentFakebookOracle(connection);
+        shared = other.shared;
+    }
+
+    // [Parallelism Mutator]
+    // REQUIRES: <parallelism> is at least 1
+    // MODIFIES: <shared>
+    // EFFECTS:  sets the number of workers used to count mutual friends in Query 6
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        synchronized (shared) {
+            if (shared.pool != null && shared.pool.getParallelism() != parallelism) {
+                shared.pool.shutdown();
+                shared.pool = null;
+            }
+            shared.parallelism = parallelism;
+        }
+    }
+
+    // [Parallelism Accessor]
+    // EFFECTS:  returns the number of workers used to count mutual friends in Query 6
+    public int getParallelism() {
+        synchronized (shared) {
+            return shared.parallelism;
+        }
+    }
+
+    @Override
+    // [Close Function]
+    // MODIFIES: <shared>
+    // EFFECTS:  shuts down the workers of Query 6; a later parallel Query 6 starts new ones
+    public void close() {
+        synchronized (shared) {
+            if (shared.pool != null) {
+                shared.pool.shutdown();
+                shared.pool = null;
+            }
+        }
+    }
+
+    @Override
+    // [Error Count Accessor]
+    // EFFECTS:  returns the number of errors reported by this oracle and its delegate
+    public long getErrors() {
+        return super.getErrors() + delegate.getErrors();
+    }
+
+    @Override
+    // [Statement Cache Accessor]
+    // EFFECTS:  returns the cache of prepared statements of the delegate oracle
+    public FakebookStatementCache getStatementCache() {
+        return delegate.getStatementCache();
+    }
+
+    // [Reload Function]
+    // MODIFIES: <shared>
+    // EFFECTS:  discards the in-memory graph and tag index so that the next query using
+    //   them reloads them
+    public void reload() {
+        synchronized (shared) {
+            shared.graph = null;
+            shared.tags = null;
+        }
+    }
+
+    @Override
+    public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
+        return delegate.findMonthOfBirthInfo();
+    }
+
+    @Override
+    public FirstNameInfo findNameInfo() throws SQLException {
+        return delegate.findNameInfo();
+    }
+
+    @Override
+    public FakebookUserList lonelyUsers() throws SQLException {
+        return delegate.lonelyUsers();
+    }
+
+    @Override
+    public FakebookUserList liveAwayFromHome() throws SQLException {
+        return delegate.liveAwayFromHome();
+    }
+
+    @Override
+    public void findMonthOfBirthInfo(BirthMonthSink sink) throws SQLException, IOException {
+        delegate.findMonthOfBirthInfo(sink);
+    }
+
+    @Override
+    public void lonelyUsers(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        delegate.lonelyUsers(sink);
+    }
+
+    @Override
+    public void liveAwayFromHome(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        delegate.liveAwayFromHome(sink);
+    }
+
+    @Override
+    public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
+        return delegate.findPhotosWithMostTags(num);
+    }
+
+    @Override
+    // Query 5
+    // -----------------------------------------------------------------------------------
+    // For every user a with a known gender and birth year, the photos a is tagged in are
+    // walked, and every user b > a tagged in one of them with the same gender is counted
+    // in a scratch array. Each counted b within <yearDiff> years that is not a friend
+    // competes for the top <num> places in a bounded heap. The shared photos of the
+    // winners are found by merging their sorted photo lists, and only those photos are
+    // read from the database.
+    public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
+        FakebookArrayList<MatchPair> results = new FakebookArrayList<MatchPair>("\n");
+        Graph g = graph();
+        Tags t = (g == null) ? null : tags(g);
+        if (t == null || num <= 0) {
+            return results;
+        }
+
+        PairHeap top = new PairHeap(num);
+        int[] counts = new int[g.size];
+        int[] touched = new int[g.size];
+        for (int a = 0; a < g.size; a++) {
+            int gender = g.genders[a];
+            if (gender == Unknown || g.years[a] == Unknown) {
+                continue;
+            }
+            int found = 0;
+            for (int e = t.userOffsets[a]; e < t.userOffsets[a + 1]; e++) {
+                int p = t.userPhotos[e];
+                for (int f = t.firstTaggedAbove(p, a); f < t.photoOffsets[p + 1]; f++) {
+                    int b = t.photoUsers[f];
+                    if (g.genders[b] == gender && counts[b]++ == 0) {
+                        touched[found++] = b;
+                    }
+                }
+            }
+            for (int idx = 0; idx < found; idx++) {
+                int b = touched[idx];
+                int count = counts[b];
+                counts[b] = 0;
+                if (g.years[b] != Unknown && Math.abs(g.years[a] - g.years[b]) <= yearDiff &&
+                    !t.friendPairs.contains(FakebookLongSet.pair(a, b))) {
+                    top.offer(count, a, b);
+                }
+            }
+        }
+
+        int[][] ranked = top.drain();
+        int[][] shared = new int[ranked.length][];
+        List<Long> photoIDs = new ArrayList<Long>();
+        for (int idx = 0; idx < ranked.length; idx++) {
+            shared[idx] = t.sharedPhotos(ranked[idx][1], ranked[idx][2]);
+            for (int p : shared[idx]) {
+                photoIDs.add(t.photoIds[p]);
+            }
+        }
+        Map<Long, PhotoInfo> photos = photos(photoIDs);
+        for (int idx = 0; idx < ranked.length; idx++) {
+            int a = ranked[idx][1];
+            int b = ranked[idx][2];
+            MatchPair pair = new MatchPair(g.user(a), g.years[a], g.user(b), g.years[b]);
+            for (int p : shared[idx]) {
+                PhotoInfo photo = photos.get(t.photoIds[p]);
+                pair.addSharedPhoto((photo != null) ? photo : new PhotoInfo(0L, 0L, null, null));
+            }
+            results.add(pair);
+        }
+        return results;
+    }
+
+    @Override
+    // Query 6
+    // -----------------------------------------------------------------------------------
+    // For every user a, the friends of a's friends with larger indices are counted in a
+    // scratch array; pairs that are not already friends compete for the top <num> places
+    // in a bounded heap. The common friends of the winners are found by merging their
+    // sorted adjacency lists.
+    public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
+        FakebookArrayList<UsersPair> results = new FakebookArrayList<UsersPair>("\n");
+        Graph g = graph();
+        if (g == null || num <= 0) {
+            return results;
+        }
+
+        PairHeap top;
+        ForkJoinPool workers = workers();
+        if (workers == null) {
+            Scratch scratch = new Scratch(g.size, num);
+            countPairs(g, 0, g.size, scratch);
+            top = scratch.top;
+        }
+        else {
+            Scratches scratches = new Scratches(g.size, num);
+            workers.invoke(new CountTask(g, 0, g.size, scratches));
+
+            top = new PairHeap(num);                         // merge the per-worker heaps
+            for (Scratch scratch : scratches.all) {
+                for (int[] pair : scratch.top.drain()) {
+                    top.offer(pair[0], pair[1], pair[2]);
+                }
+            }
+        }
+
+        for (int[] pair : top.drain()) {
+            UsersPair up = new UsersPair(g.user(pair[1]), g.user(pair[2]));
+            int e = g.offsets[pair[1]];
+            int f = g.offsets[pair[2]];
+            while (e < g.offsets[pair[1] + 1] && f < g.offsets[pair[2] + 1]) {
+                if (g.neighbors[e] < g.neighbors[f]) {
+                    e++;
+                }
+                else if (g.neighbors[e] > g.neighbors[f]) {
+                    f++;
+                }
+                else {
+                    up.addSharedFriend(g.user(g.neighbors[e]));
+                    e++;
+                    f++;
+                }
+            }
+            results.add(up);
+        }
+        return results;
+    }
+
+    // [Count Pairs Function]
+    // MODIFIES: <scratch>
+    // EFFECTS:  offers to <scratch>'s heap every non-friend pair (a, b) with <lo> <= a < <hi>
+    //   and a < b that has at least one common friend, with its number of common friends
+    private static void countPairs(Graph g, int lo, int hi, Scratch scratch) {
+        int[] counts = scratch.counts;
+        int[] touched = scratch.touched;
+        int[] friendOf = scratch.friendOf;                 // friendOf[b] == a + 1 iff a and b are friends
+        for (int a = lo; a < hi; a++) {
+            for (int e = g.offsets[a]; e < g.offsets[a + 1]; e++) {
+                friendOf[g.neighbors[e]] = a + 1;
+            }
+
+            int numTouched = 0;
+            for (int e = g.offsets[a]; e < g.offsets[a + 1]; e++) {
+                int mid = g.neighbors[e];
+                for (int f = g.firstAbove(mid, a); f < g.offsets[mid + 1]; f++) {
+                    int b = g.neighbors[f];
+                    if (counts[b]++ == 0) {
+                        touched[numTouched++] = b;
+                    }
+                }
+            }
+
+            for (int t = 0; t < numTouched; t++) {
+                int b = touched[t];
+                if (friendOf[b] != a + 1) {
+                    scratch.top.offer(counts[b], a, b);
+                }
+                counts[b] = 0;
+            }
+        }
+    }
+
+    // [Workers Function]
+    // MODIFIES: <shared>
+    // EFFECTS:  returns the pool that counts mutual friends, creating it if necessary, or
+    //   NULL if Query 6 runs on the calling thread alone
+    private ForkJoinPool workers() {
+        synchronized (shared) {
+            if (shared.parallelism <= 1) {
+                return null;
+            }
+            if (shared.pool == null) {
+                shared.pool = new ForkJoinPool(shared.parallelism);
+            }
+            return shared.pool;
+        }
+    }
+
+    @Override
+    public EventStateInfo findEventStates() throws SQLException {
+        return delegate.findEventStates();
+    }
+
+    @Override
+    // Query 8
+    // -----------------------------------------------------------------------------------
+    // Scans the adjacency list of <userID> for the earliest and latest full birth dates;
+    // ties go to the larger User ID, as in StudentFakebookOracle.
+    public AgeInfo findAgeInfo(long userID) throws SQLException {
+        Graph g = graph();
+        int u = (g == null) ? -1 : g.indexOf(userID);
+        int oldest = -1;
+        int youngest = -1;
+        if (u >= 0) {
+            for (int e = g.offsets[u]; e < g.offsets[u + 1]; e++) {
+                int f = g.neighbors[e];
+                if (g.birthDates[f] == Unknown) {
+                    continue;
+                }
+                // neighbors are in ascending ID order, so later friends win ties
+                if (oldest < 0 || g.birthDates[f] <= g.birthDates[oldest]) {
+                    oldest = f;
+                }
+                if (youngest < 0 || g.birthDates[f] >= g.birthDates[youngest]) {
+                    youngest = f;
+                }
+            }
+        }
+
+        if (oldest < 0) {
+            return new AgeInfo(new UserInfo(-1, "ERROR", "ERROR"), new UserInfo(-1, "ERROR", "ERROR"));
+        }
+        return new AgeInfo(g.user(oldest), g.user(youngest));
+    }
+
+    @Override
+    // Query 9
+    // -----------------------------------------------------------------------------------
+    // Walks every friendship (a, b) with a < b once, in ascending order, and keeps the
+    // pairs with the same last name and hometown born less than 10 years apart.
+    public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
+        FakebookArrayList<SiblingInfo> results = new FakebookArrayList<SiblingInfo>("\n");
+        Graph g = graph();
+        if (g == null) {
+            return results;
+        }
+
+        for (int a = 0; a < g.size; a++) {
+            if (g.years[a] == Unknown || g.hometowns[a] == Unknown) {
+                continue;
+            }
+            for (int e = g.firstAbove(a, a); e < g.offsets[a + 1]; e++) {
+                int b = g.neighbors[e];
+                if (g.years[b] != Unknown && g.hometowns[b] == g.hometowns[a] &&
+                    Math.abs(g.years[a] - g.years[b]) < 10 && g.lastNames[a].equals(g.lastNames[b])) {
+                    results.add(new SiblingInfo(g.user(a), g.user(b)));
+                }
+            }
+        }
+        return results;
+    }
+
+    // [Graph Function]
+    // MODIFIES: <shared>
+    // EFFECTS:  returns the in-memory graph, loading it first if necessary; returns NULL
+    //   (after printing the error) if it cannot be loaded
+    private Graph graph() {
+        synchronized (shared) {
+            if (shared.graph == null) {
+                try {
+                    shared.graph = load();
+                }
+                catch (SQLException e) {
+                    reportError(e);
+                }
+            }
+            return shared.graph;
+        }
+    }
+
+    // [Load Function]
+    // EFFECTS:  reads the users, their hometowns and their friendships into a new Graph
+    private Graph load() throws SQLException {
+        FakebookStatementCache statements = delegate.getStatementCache();
+        Graph g;
+
+        String users = "SELECT COUNT(*) OVER (), U.USER_ID, U.FIRST_NAME, U.LAST_NAME, " +
+                       "U.YEAR_OF_BIRTH, U.MONTH_OF_BIRTH, U.DAY_OF_BIRTH, H.HOMETOWN_CITY_ID, U.GENDER " +
+                       "FROM " + FakebookOracleConstants.UsersTable + " U " +
+                       "LEFT JOIN " + FakebookOracleConstants.HometownCitiesTable + " H " +
+                       "ON U.USER_ID = H.USER_ID " +
+                       "ORDER BY U.USER_ID ASC";
+        try (FakebookStatementCache.Lease lease = statements.lease("GraphUsers", users)) {
+            ResultSet rst = lease.statement().executeQuery();
+            Map<String, Integer> genders = new HashMap<String, Integer>();
+            int idx = 0;
+            g = null;
+            while (rst.next()) {
+                if (g == null) {
+                    g = new Graph(rst.getInt(1));
+                }
+                g.ids[idx] = rst.getLong(2);
+                g.firstNames[idx] = rst.getString(3);
+                g.lastNames[idx] = rst.getString(4);
+                g.years[idx] = getInt(rst, 5);
+                int month = getInt(rst, 6);
+                int day = getInt(rst, 7);
+                g.hometowns[idx] = getInt(rst, 8);
+                String gender = rst.getString(9);
+                if (gender != null) {
+                    Integer code = genders.get(gender);
+                    if (code == null) {
+                        code = genders.size();
+                        genders.put(gender, code);
+                    }
+                    g.genders[idx] = code;
+                }
+                if (g.years[idx] != Unknown && month != Unknown && day != Unknown) {
+                    g.birthDates[idx] = ((long)g.years[idx] * 13 + month) * 32 + day;
+                }
+                idx++;
+            }
+            rst.close();
+        }
+        if (g == null) {
+            g = new Graph(0);
+        }
+
+        String friends = "SELECT USER1_ID, USER2_ID FROM " + FakebookOracleConstants.FriendsTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("GraphFriends", friends)) {
+            ResultSet rst = lease.statement().executeQuery();
+            int[] from = new int[1024];
+            int[] to = new int[1024];
+            int edges = 0;
+            while (rst.next()) {
+                int a = g.indexOf(rst.getLong(1));
+                int b = g.indexOf(rst.getLong(2));
+                if (a < 0 || b < 0 || a == b) {
+                    continue;
+                }
+                if (edges == from.length) {
+                    from = Arrays.copyOf(from, 2 * edges);
+                    to = Arrays.copyOf(to, 2 * edges);
+                }
+                from[edges] = a;
+                to[edges] = b;
+                edges++;
+            }
+            rst.close();
+            g.setEdges(from, to, edges);
+        }
+        return g;
+    }
+
+    // [Tags Function]
+    // MODIFIES: <shared>
+    // EFFECTS:  returns the tag index over <g>, loading it first if necessary; returns
+    //   NULL (after printing the error) if it cannot be loaded
+    private Tags tags(Graph g) {
+        synchronized (shared) {
+            if (shared.tags == null || shared.tags.graph != g) {
+                try {
+                    shared.tags = loadTags(g);
+                }
+                catch (SQLException e) {
+                    reportError(e);
+                    shared.tags = null;
+                }
+            }
+            return shared.tags;
+        }
+    }
+
+    // [Load Tags Function]
+    // EFFECTS:  reads the Tags table into a new Tags index over the users of <g>; tags
+    //   of users that are not in <g> are dropped, as no pair with them can qualify
+    private Tags loadTags(Graph g) throws SQLException {
+        String tagged = "SELECT TAG_PHOTO_ID, TAG_SUBJECT_ID " +
+                        "FROM " + FakebookOracleConstants.TagsTable + " " +
+                        "ORDER BY TAG_PHOTO_ID ASC, TAG_SUBJECT_ID ASC";
+        long[] photoIds = new long[1024];
+        int[] photoOffsets = new int[1025];
+        int[] photoUsers = new int[1024];
+        int photos = 0;
+        int tags = 0;
+        try (FakebookStatementCache.Lease lease = delegate.getStatementCache().lease("GraphTags", tagged)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                long photoID = rst.getLong(1);
+                int u = g.indexOf(rst.getLong(2));
+                if (u < 0) {
+                    continue;
+                }
+                if (photos == 0 || photoIds[photos - 1] != photoID) {
+                    if (photos == photoIds.length) {
+                        photoIds = Arrays.copyOf(photoIds, 2 * photos);
+                        photoOffsets = Arrays.copyOf(photoOffsets, 2 * photos + 1);
+                    }
+                    photoIds[photos] = photoID;
+                    photoOffsets[photos++] = tags;
+                }
+                else if (photoUsers[tags - 1] == u) {
+                    continue;                               // the same user tagged twice
+                }
+                if (tags == photoUsers.length) {
+                    photoUsers = Arrays.copyOf(photoUsers, 2 * tags);
+                }
+                photoUsers[tags++] = u;
+            }
+            rst.close();
+        }
+        photoOffsets[photos] = tags;
+
+        FakebookLongSet friendPairs = new FakebookLongSet(g.neighbors.length / 2);
+        for (int a = 0; a < g.size; a++) {
+            for (int e = g.firstAbove(a, a); e < g.offsets[a + 1]; e++) {
+                friendPairs.add(FakebookLongSet.pair(a, g.neighbors[e]));
+            }
+        }
+        return new Tags(g, Arrays.copyOf(photoIds, photos), Arrays.copyOf(photoOffsets, photos + 1),
+            Arrays.copyOf(photoUsers, tags), friendPairs);
+    }
+
+    // [Photos Function]
+    // EFFECTS:  returns the photo and album information of the photos in <photoIDs>,
+    //   keyed by photo ID, reading <PhotoBatchSize> photos per statement; photos missing
+    //   from the Photos table are left out
+    private Map<Long, PhotoInfo> photos(List<Long> photoIDs) throws SQLException {
+        Map<Long, PhotoInfo> photos = new HashMap<Long, PhotoInfo>();
+        if (photoIDs.isEmpty()) {
+            return photos;
+        }
+
+        StringBuilder wanted = new StringBuilder();
+        for (int idx = 0; idx < PhotoBatchSize; idx++) {
+            wanted.append(idx == 0 ? "?" : ", ?");
+        }
+        String photo = "SELECT P.PHOTO_ID, P.PHOTO_LINK, P.ALBUM_ID, A.ALBUM_NAME " +
+                       "FROM " + FakebookOracleConstants.PhotosTable + " P " +
+                       "LEFT JOIN " + FakebookOracleConstants.AlbumsTable + " A ON P.ALBUM_ID = A.ALBUM_ID " +
+                       "WHERE P.PHOTO_ID IN (" + wanted + ")";
+        try (FakebookStatementCache.Lease lease = delegate.getStatementCache().lease("GraphPhotos", photo)) {
+            PreparedStatement stmt = lease.statement();
+            for (int start = 0; start < photoIDs.size(); start += PhotoBatchSize) {
+                for (int idx = 0; idx < PhotoBatchSize; idx++) {
+                    stmt.setLong(idx + 1, photoIDs.get(Math.min(start + idx, photoIDs.size() - 1)));
+                }
+                ResultSet rst = stmt.executeQuery();
+                while (rst.next()) {
+                    photos.put(rst.getLong(1), new PhotoInfo(rst.getLong(1), rst.getLong(3), rst.getString(2), rst.getString(4)));
+                }
+                rst.close();
+            }
+        }
+        return photos;
+    }
+
+    // [Get Integer Function]
+    // EFFECTS:  returns column <column> of the current row of <rst>, or Unknown if NULL
+    private static int getInt(ResultSet rst, int column) throws SQLException {
+        int value = rst.getInt(column);
+        return rst.wasNull() ? Unknown : value;
+    }
+
+    /*
+        The Graph class holds the users and friendships in primitive arrays, indexed by
+        the position of each user in ascending User ID order.
+    */
+    private static final class Graph {
+        // [Constructor]
+        Graph(int size) {
+            this.size = size;
+            ids = new long[size];
+            firstNames = new String[size];
+            lastNames = new String[size];
+            years = new int[size];
+            hometowns = new int[size];
+            genders = new int[size];
+            Arrays.fill(genders, Unknown);
+            birthDates = new long[size];
+            Arrays.fill(birthDates, Unknown);
+            offsets = new int[size + 1];
+            neighbors = new int[0];
+        }
+
+        // [Set Edges Function]
+        // MODIFIES: <offsets>, <neighbors>
+        // EFFECTS:  builds the sorted, duplicate-free adjacency lists of the undirected
+        //   friendships <from>[i] -- <to>[i] for i < <edges>
+        void setEdges(int[] from, int[] to, int edges) {
+            int[] degree = new int[size + 1];
+            for (int e = 0; e < edges; e++) {
+                degree[from[e] + 1]++;
+                degree[to[e] + 1]++;
+            }
+            for (int u = 0; u < size; u++) {
+                degree[u + 1] += degree[u];
+            }
+
+            int[] fill = Arrays.copyOf(degree, size);
+            int[] all = new int[2 * edges];
+            for (int e = 0; e < edges; e++) {
+                all[fill[from[e]]++] = to[e];
+                all[fill[to[e]]++] = from[e];
+            }
+
+            int length = 0;
+            for (int u = 0; u < size; u++) {
+                Arrays.sort(all, degree[u], degree[u + 1]);
+                offsets[u] = length;
+                for (int e = degree[u]; e < degree[u + 1]; e++) {
+                    if (e == degree[u] || all[e] != all[e - 1]) {
+                        all[length++] = all[e];
+                    }
+                }
+            }
+            offsets[size] = length;
+            neighbors = Arrays.copyOf(all, length);
+        }
+
+        // [Index Function]
+        // EFFECTS:  returns the index of the user with ID <id>, or -1 if there is none
+        int indexOf(long id) {
+            int idx = Arrays.binarySearch(ids, id);
+            return (idx >= 0) ? idx : -1;
+        }
+
+        // [First Above Function]
+        // EFFECTS:  returns the position of the first friend of <u> with an index greater
+        //   than <bound>
+        int firstAbove(int u, int bound) {
+            int idx = Arrays.binarySearch(neighbors, offsets[u], offsets[u + 1], bound + 1);
+            return (idx >= 0) ? idx : -idx - 1;
+        }
+
+        // [User Function]
+        // EFFECTS:  returns a new UserInfo for the user at index <u>
+        UserInfo user(int u) {
+            return new UserInfo(ids[u], firstNames[u], lastNames[u]);
+        }
+
+        // Member Variables
+        final int size;
+        final long[] ids;
+        final String[] firstNames;
+        final String[] lastNames;
+        final int[] years;
+        final int[] hometowns;
+        final int[] genders;
+        final long[] birthDates;
+        final int[] offsets;
+        int[] neighbors;
+    }
+
+    /*
+        The Scratch class holds one worker's counting arrays and its top-<num> heap.
+    */
+    private static final class Scratch {
+        // [Constructor]
+        Scratch(int size, int num) {
+            counts = new int[size];
+            touched = new int[size];
+            friendOf = new int[size];
+            top = new PairHeap(num);
+        }
+
+        // Member Variables
+        final int[] counts;
+        final int[] touched;
+        final int[] friendOf;
+        final PairHeap top;
+    }
+
+    /*
+        The Scratches class hands out the Scratch objects of one suggestFriends call. A
+        leaf takes an idle Scratch (or creates one), counts into it and hands it back,
+        so there are never more than the number of leaves running at once, i.e. about
+        the number of workers. Nothing is left behind in the workers once the call
+        returns: <all> is merged and then dropped with this object.
+    */
+    private static final class Scratches {
+        // [Constructor]
+        Scratches(int size, int num) {
+            this.size = size;
+            this.num = num;
+        }
+
+        // [Take Function]
+        // MODIFIES: <idle>, <all>
+        // EFFECTS:  returns a Scratch that no other leaf is using
+        Scratch take() {
+            Scratch scratch = idle.poll();
+            if (scratch == null) {
+                scratch = new Scratch(size, num);
+                all.add(scratch);
+            }
+            return scratch;
+        }
+
+        // [Give Back Function]
+        // MODIFIES: <idle>
+        // EFFECTS:  makes <scratch> available to the next leaf
+        void giveBack(Scratch scratch) {
+            idle.add(scratch);
+        }
+
+        // Member Variables
+        final Queue<Scratch> all = new ConcurrentLinkedQueue<Scratch>();
+        private final Queue<Scratch> idle = new ConcurrentLinkedQueue<Scratch>();
+        private final int size;
+        private final int num;
+    }
+
+    /*
+        The CountTask class counts the mutual friends of users <lo> .. <hi> - 1, splitting
+        the range in halves until it is small enough to count directly on one worker.
+        Small leaves let idle workers steal the ranges around high-degree users.
+    */
+    private static final class CountTask extends RecursiveAction {
+        // [Constructor]
+        CountTask(Graph g, int lo, int hi, Scratches scratches) {
+            this.g = g;
+            this.lo = lo;
+            this.hi = hi;
+            this.scratches = scratches;
+        }
+
+        @Override
+        // [Compute Function]
+        // MODIFIES: the Scratch objects of <scratches>
+        // EFFECTS:  counts the range into a Scratch of its own, or forks its two halves
+        protected void compute() {
+            if (hi - lo <= Grain) {
+                Scratch scratch = scratches.take();
+                try {
+                    countPairs(g, lo, hi, scratch);
+                }
+                finally {
+                    scratches.giveBack(scratch);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new CountTask(g, lo, mid, scratches), new CountTask(g, mid, hi, scratches));
+        }
+
+        // Member Variables
+        private static final long serialVersionUID = 1L;
+        private final Graph g;
+        private final int lo;
+        private final int hi;
+        private final Scratches scratches;
+    }
+
+    /*
+        The PairHeap class keeps the best <capacity> (count, user1, user2) triples offered
+        to it, where more common friends rank higher and ties go to the smaller user1 and
+        then the smaller user2. The worst kept triple sits at the root.
+    */
+    static final class PairHeap {
+        // [Constructor]
+        // REQUIRES: <capacity> is at least 1
+        PairHeap(int capacity) {
+            counts = new int[capacity];
+            firsts = new int[capacity];
+            seconds = new int[capacity];
+        }
+
+        // [Offer Function]
+        // MODIFIES: this
+        // EFFECTS:  keeps (<count>, <first>, <second>) if it ranks among the best offered
+        void offer(int count, int first, int second) {
+            if (size < counts.length) {
+                counts[size] = count;
+                firsts[size] = first;
+                seconds[size] = second;
+                siftUp(size++);
+            }
+            else if (worse(counts[0], firsts[0], seconds[0], count, first, second)) {
+                counts[0] = count;
+                firsts[0] = first;
+                seconds[0] = second;
+                siftDown(0);
+            }
+        }
+
+        // [Drain Function]
+        // MODIFIES: this
+        // EFFECTS:  empties the heap and returns its triples {count, first, second} from
+        //   best to worst
+        int[][] drain() {
+            int[][] ranked = new int[size][];
+            while (size > 0) {
+                ranked[size - 1] = new int[] {counts[0], firsts[0], seconds[0]};
+                size--;
+                swap(0, size);
+                siftDown(0);
+            }
+            return ranked;
+        }
+
+        // [Worse Function]
+        // EFFECTS:  returns true if triple 1 ranks below triple 2
+        static boolean worse(int count1, int first1, int second1, int count2, int first2, int second2) {
+            if (count1 != count2) {
+                return count1 < count2;
+            }
+            if (first1 != first2) {
+                return first1 > first2;
+            }
+            return second1 > second2;
+        }
+
+        private void siftUp(int idx) {
+            while (idx > 0) {
+                int parent = (idx - 1) / 2;
+                if (!worse(counts[idx], firsts[idx], seconds[idx], counts[parent], firsts[parent], seconds[parent])) {
+                    return;
+                }
+                swap(idx, parent);
+                idx = parent;
+            }
+        }
+
+        private void siftDown(int idx) {
+            while (true) {
+                int worst = idx;
+                for (int child = 2 * idx + 1; child <= 2 * idx + 2 && child < size; child++) {
+                    if (worse(counts[child], firsts[child], seconds[child], counts[worst], firsts[worst], seconds[worst])) {
+                        worst = child;
+                    }
+                }
+                if (worst == idx) {
+                    return;
+                }
+                swap(idx, worst);
+                idx = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int count = counts[i];
+            int first = firsts[i];
+            int second = seconds[i];
+            counts[i] = counts[j];
+            firsts[i] = firsts[j];
+            seconds[i] = seconds[j];
+            counts[j] = count;
+            firsts[j] = first;
+            seconds[j] = second;
+        }
+
+        // Member Variables
+        private final int[] counts;
+        private final int[] firsts;
+        private final int[] seconds;
+        private int size;
+    }
+
+    /*
+        The Tags class is the inverted index of the Tags table over the users of one
+        Graph: the users tagged in photo p are photoUsers[photoOffsets[p]] ..
+        photoUsers[photoOffsets[p + 1] - 1] and the photos user u is tagged in are
+        userPhotos[userOffsets[u]] .. userPhotos[userOffsets[u + 1] - 1], both sorted.
+        Photos are numbered in ascending photo ID order.
+    */
+    private static final class Tags {
+        // [Constructor]
+        // EFFECTS:  builds the user-to-photos lists by transposing the photo-to-users lists
+        Tags(Graph graph, long[] photoIds, int[] photoOffsets, int[] photoUsers, FakebookLongSet friendPairs) {
+            this.graph = graph;
+            this.photoIds = photoIds;
+            this.photoOffsets = photoOffsets;
+            this.photoUsers = photoUsers;
+            this.friendPairs = friendPairs;
+
+            userOffsets = new int[graph.size + 1];
+            for (int u : photoUsers) {
+                userOffsets[u + 1]++;
+            }
+            for (int u = 0; u < graph.size; u++) {
+                userOffsets[u + 1] += userOffsets[u];
+            }
+            userPhotos = new int[photoUsers.length];
+            int[] fill = Arrays.copyOf(userOffsets, graph.size);
+            for (int p = 0; p < photoIds.length; p++) {         // ascending p keeps each list sorted
+                for (int e = photoOffsets[p]; e < photoOffsets[p + 1]; e++) {
+                    userPhotos[fill[photoUsers[e]]++] = p;
+                }
+            }
+        }
+
+        // [First Tagged Above Function]
+        // EFFECTS:  returns the position of the first user tagged in photo <p> with an
+        //   index greater than <bound>
+        int firstTaggedAbove(int p, int bound) {
+            int idx = Arrays.binarySearch(photoUsers, photoOffsets[p], photoOffsets[p + 1], bound + 1);
+            return (idx >= 0) ? idx : -idx - 1;
+        }
+
+        // [Shared Photos Function]
+        // EFFECTS:  returns the photos in which both <a> and <b> are tagged, in ascending
+        //   photo ID order
+        int[] sharedPhotos(int a, int b) {
+            int[] shared = new int[Math.min(userOffsets[a + 1] - userOffsets[a], userOffsets[b + 1] - userOffsets[b])];
+            int count = 0;
+            int i = userOffsets[a];
+            int j = userOffsets[b];
+            while (i < userOffsets[a + 1] && j < userOffsets[b + 1]) {
+                if (userPhotos[i] < userPhotos[j]) {
+                    i++;
+                }
+                else if (userPhotos[i] > userPhotos[j]) {
+                    j++;
+                }
+                else {
+                    shared[count++] = userPhotos[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(shared, count);
+        }
+
+        // Member Variables
+        final Graph graph;
+        final long[] photoIds;
+        final int[] photoOffsets;
+        final int[] photoUsers;
+        final int[] userOffsets;
+        final int[] userPhotos;
+        final FakebookLongSet friendPairs;
+    }
+
+    /*
+        The Shared class holds what the oracles created through the sharing constructor
+        have in common, and is the lock that guards it.
+    */
+    private static final class Shared {
+        // Member Variables
+        Graph graph;
+        Tags tags;
+        int parallelism;
+        ForkJoinPool pool;
+    }
+
+    // Unknown (NULL) value of the integer columns
+    private static final int Unknown = Integer.MIN_VALUE;
+
+    // Users counted directly by one fork/join leaf
+    private static final int Grain = 64;
+
+    // Photos read by one statement of the Photos function
+    private static final int PhotoBatchSize = 20;
+
+    // Member Variables
+    private final StudentFakebookOracle delegate;
+    private final Shared shared;
+}
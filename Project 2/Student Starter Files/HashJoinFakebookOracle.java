@@ -0,0 +1,324 @@
+package project2;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    The HashJoinFakebookOracle class is derived from the FakebookOracle class and answers
+    Query 2 (lonelyUsers), Query 3 (liveAwayFromHome) and Query 9 (findPotentialSiblings)
+    with hash joins in Java, for batch exports over large datasets. Every table a query needs is read once,
+    in a single forward-only pass, into primitive hash maps keyed by User ID
+    (FakebookLongIntMap); the last table is then streamed as the probe side and each row
+    is answered by constant-time lookups, so no join is materialized. The JVM never
+    sorts; the probe-side scans of Users and Friends carry an ORDER BY so that the
+    output comes out in order, and that ordering is delegated to the database, which
+    can satisfy it by reading the primary-key index in order rather than sorting.
+
+        Query 2:  Friends sets one bit per user that appears in either column in a
+                  BitSet indexed by User ID (User IDs past the int range go to a
+                  FakebookLongSet instead); Users is then streamed in User ID order and
+                  the users whose bit is clear are emitted. This replaces the four
+                  scans and two sorts of the MINUS/INTERSECT query with one pass over
+                  each table and about (largest User ID)/8 bytes of memory.
+        Query 3:  User_Hometown_City builds a map from user to hometown; every row of
+                  User_Current_City probes it, and the users whose cities differ are
+                  kept in a FakebookLongSet; Users is then streamed in User ID order
+                  and the kept users are emitted.
+        Query 9:  User_Hometown_City builds a map from user to hometown, and Users (with
+                  a birth year) builds a map from user to a row of birth year, first
+                  name, last name and interned last name code; Friends is then
+                  streamed in (USER1_ID, USER2_ID) order and each pair is emitted if
+                  both users share a last name code and a hometown and their birth
+                  years are less than 10 apart.
+
+    Nothing is kept between calls, so results always reflect the current tables. All
+    other queries are delegated to a StudentFakebookOracle over the same connection, and
+    every query returns exactly what StudentFakebookOracle returns for the same data.
+*/
+public final class HashJoinFakebookOracle extends FakebookOracle {
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection
+    public HashJoinFakebookOracle(Connection connection) {
+        delegate = new StudentFakebookOracle(connection);
+    }
+
+    @Override
+    // [Error Count Accessor]
+    // EFFECTS:  returns the number of errors reported by this oracle and its delegate
+    public long getErrors() {
+        return super.getErrors() + delegate.getErrors();
+    }
+
+    @Override
+    // [Statement Cache Accessor]
+    // EFFECTS:  returns the cache of prepared statements of the delegate oracle
+    public FakebookStatementCache getStatementCache() {
+        return delegate.getStatementCache();
+    }
+
+    @Override
+    public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
+        return delegate.findMonthOfBirthInfo();
+    }
+
+    @Override
+    public FirstNameInfo findNameInfo() throws SQLException {
+        return delegate.findNameInfo();
+    }
+
+    @Override
+    // Query 2
+    // -----------------------------------------------------------------------------------
+    // Build: Friends, as a BitSet of befriended User IDs. Probe: Users in User ID order.
+    public FakebookUserList lonelyUsers() throws SQLException {
+        FakebookUserList results = new FakebookUserList(", ");
+        FakebookStatementCache statements = delegate.getStatementCache();
+        try {
+            BitSet befriended = new BitSet();
+            FakebookLongSet outside = new FakebookLongSet(0);
+            String friends = "SELECT USER1_ID, USER2_ID " +
+                             "FROM " + FakebookOracleConstants.FriendsTable;
+            try (FakebookStatementCache.Lease lease = statements.lease("HashJoinFriended", friends)) {
+                ResultSet rst = lease.statement().executeQuery();
+                while (rst.next()) {
+                    for (int col = 1; col <= 2; col++) {
+                        long userID = rst.getLong(col);
+                        if (userID >= 0L && userID <= Integer.MAX_VALUE) {
+                            befriended.set((int)userID);
+                        }
+                        else {
+                            outside.add(userID);
+                        }
+                    }
+                }
+                rst.close();
+            }
+
+            String users = "SELECT USER_ID, FIRST_NAME, LAST_NAME " +
+                           "FROM " + FakebookOracleConstants.UsersTable + " " +
+                           "ORDER BY USER_ID ASC";
+            try (FakebookStatementCache.Lease lease = statements.lease("HashJoinUsers", users)) {
+                ResultSet rst = lease.statement().executeQuery();
+                while (rst.next()) {
+                    long userID = rst.getLong(1);
+                    boolean friended = (userID >= 0L && userID <= Integer.MAX_VALUE) ?
+                        befriended.get((int)userID) : outside.contains(userID);
+                    if (!friended) {
+                        results.add(userID, rst.getString(2), rst.getString(3));
+                    }
+                }
+                rst.close();
+            }
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+
+        return results;
+    }
+
+    @Override
+    public void findMonthOfBirthInfo(BirthMonthSink sink) throws SQLException, IOException {
+        delegate.findMonthOfBirthInfo(sink);
+    }
+
+    @Override
+    // Query 3
+    // -----------------------------------------------------------------------------------
+    // Build: User_Hometown_City. Probe: User_Current_City, then Users in User ID order.
+    public FakebookUserList liveAwayFromHome() throws SQLException {
+        FakebookUserList results = new FakebookUserList(", ");
+        FakebookStatementCache statements = delegate.getStatementCache();
+        try {
+            FakebookLongIntMap hometowns = hometowns(statements);
+
+            FakebookLongSet away = new FakebookLongSet(hometowns.size());
+            String current = "SELECT USER_ID, CURRENT_CITY_ID " +
+                             "FROM " + FakebookOracleConstants.CurrentCitiesTable;
+            try (FakebookStatementCache.Lease lease = statements.lease("HashJoinCurrent", current)) {
+                ResultSet rst = lease.statement().executeQuery();
+                while (rst.next()) {
+                    long userID = rst.getLong(1);
+                    int hometown = hometowns.get(userID, Unknown);
+                    if (hometown != Unknown && hometown != rst.getInt(2)) {
+                        away.add(userID);
+                    }
+                }
+                rst.close();
+            }
+
+            String users = "SELECT USER_ID, FIRST_NAME, LAST_NAME " +
+                           "FROM " + FakebookOracleConstants.UsersTable + " " +
+                           "ORDER BY USER_ID ASC";
+            try (FakebookStatementCache.Lease lease = statements.lease("HashJoinUsers", users)) {
+                ResultSet rst = lease.statement().executeQuery();
+                while (rst.next()) {
+                    if (away.contains(rst.getLong(1))) {
+                        results.add(rst.getLong(1), rst.getString(2), rst.getString(3));
+                    }
+                }
+                rst.close();
+            }
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+
+        return results;
+    }
+
+    @Override
+    public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
+        return delegate.findPhotosWithMostTags(num);
+    }
+
+    @Override
+    public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
+        return delegate.matchMaker(num, yearDiff);
+    }
+
+    @Override
+    public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
+        return delegate.suggestFriends(num);
+    }
+
+    @Override
+    public EventStateInfo findEventStates() throws SQLException {
+        return delegate.findEventStates();
+    }
+
+    @Override
+    public AgeInfo findAgeInfo(long userID) throws SQLException {
+        return delegate.findAgeInfo(userID);
+    }
+
+    @Override
+    public Map<Long, AgeInfo> findAgeInfo(long[] userIDs) throws SQLException {
+        return delegate.findAgeInfo(userIDs);
+    }
+
+    @Override
+    // Query 9
+    // -----------------------------------------------------------------------------------
+    // Build: User_Hometown_City, then Users (with a birth year). Probe: Friends in
+    // (USER1_ID, USER2_ID) order.
+    public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
+        FakebookArrayList<SiblingInfo> results = new FakebookArrayList<SiblingInfo>("\n");
+        FakebookStatementCache statements = delegate.getStatementCache();
+        try {
+            FakebookLongIntMap hometowns = hometowns(statements);
+            People people = new People();
+            String users = "SELECT USER_ID, FIRST_NAME, LAST_NAME, YEAR_OF_BIRTH " +
+                           "FROM " + FakebookOracleConstants.UsersTable + " " +
+                           "WHERE YEAR_OF_BIRTH IS NOT NULL";
+            try (FakebookStatementCache.Lease lease = statements.lease("HashJoinBorn", users)) {
+                ResultSet rst = lease.statement().executeQuery();
+                while (rst.next()) {
+                    people.add(rst.getLong(1), rst.getString(2), rst.getString(3), rst.getInt(4));
+                }
+                rst.close();
+            }
+
+            String friends = "SELECT USER1_ID, USER2_ID " +
+                             "FROM " + FakebookOracleConstants.FriendsTable + " " +
+                             "ORDER BY USER1_ID ASC, USER2_ID ASC";
+            try (FakebookStatementCache.Lease lease = statements.lease("HashJoinFriends", friends)) {
+                ResultSet rst = lease.statement().executeQuery();
+                while (rst.next()) {
+                    int row1 = people.rows.get(rst.getLong(1), Unknown);
+                    int row2 = people.rows.get(rst.getLong(2), Unknown);
+                    if (row1 == Unknown || row2 == Unknown) {
+                        continue;
+                    }
+                    int hometown = hometowns.get(rst.getLong(1), Unknown);
+                    if (people.lastNameCodes[row1] != Unknown &&
+                        people.lastNameCodes[row1] == people.lastNameCodes[row2] &&
+                        hometown != Unknown && hometown == hometowns.get(rst.getLong(2), Unknown) &&
+                        Math.abs(people.years[row1] - people.years[row2]) < 10) {
+                        UserInfo u1 = new UserInfo(rst.getLong(1), people.firstNames[row1], people.lastNames[row1]);
+                        UserInfo u2 = new UserInfo(rst.getLong(2), people.firstNames[row2], people.lastNames[row2]);
+                        results.add(new SiblingInfo(u1, u2));
+                    }
+                }
+                rst.close();
+            }
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+
+        return results;
+    }
+
+    // [Hometowns Function]
+    // EFFECTS:  reads User_Hometown_City once and returns a map from every User ID in it
+    //   to the user's hometown
+    private static FakebookLongIntMap hometowns(FakebookStatementCache statements) throws SQLException {
+        FakebookLongIntMap hometowns = new FakebookLongIntMap(1024);
+        String hometown = "SELECT USER_ID, HOMETOWN_CITY_ID " +
+                          "FROM " + FakebookOracleConstants.HometownCitiesTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("HashJoinHometown", hometown)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                hometowns.put(rst.getLong(1), rst.getInt(2));
+            }
+            rst.close();
+        }
+        return hometowns;
+    }
+
+    /*
+        The People class is the build side of Query 9: one row per user with a birth
+        year, found through <rows> by User ID. Last names are interned to int codes so
+        that the probe compares ints; a NULL last name gets the code Unknown, which
+        never matches.
+    */
+    private static final class People {
+        // [Add Function]
+        // MODIFIES: this
+        // EFFECTS:  appends a row for user <userID>
+        void add(long userID, String firstName, String lastName, int year) {
+            if (size == years.length) {
+                int capacity = 2 * size;
+                firstNames = Arrays.copyOf(firstNames, capacity);
+                lastNames = Arrays.copyOf(lastNames, capacity);
+                lastNameCodes = Arrays.copyOf(lastNameCodes, capacity);
+                years = Arrays.copyOf(years, capacity);
+            }
+            firstNames[size] = firstName;
+            lastNames[size] = lastName;
+            lastNameCodes[size] = Unknown;
+            if (lastName != null) {
+                Integer code = codes.get(lastName);
+                if (code == null) {
+                    code = codes.size();
+                    codes.put(lastName, code);
+                }
+                lastNameCodes[size] = code;
+            }
+            years[size] = year;
+            rows.put(userID, size++);
+        }
+
+        // Member Variables
+        final FakebookLongIntMap rows = new FakebookLongIntMap(1024);
+        final Map<String, Integer> codes = new HashMap<String, Integer>();
+        String[] firstNames = new String[1024];
+        String[] lastNames = new String[1024];
+        int[] lastNameCodes = new int[1024];
+        int[] years = new int[1024];
+        int size;
+    }
+
+    // Missing value of the int maps and of the last name codes
+    private static final int Unknown = Integer.MIN_VALUE;
+
+    // Member Variables
+    private final StudentFakebookOracle delegate;
+}
@@ -0,0 +1,646 @@
+package project2;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/*
+    The IncrementalFakebookOracle class is derived from the FakebookOracle class and keeps
+    the answers to the aggregate queries up to date as the tables change, instead of
+    recomputing them on every call. On first use it reads Users, Friends, Tags, Cities
+    and User_Events once; from then on the caller reports every row inserted into or
+    deleted from Users, Friends, Tags and User_Events through the insert and delete
+    functions below, and each change adjusts a handful of counters:
+
+        Query 0:  users per birth month, in a FakebookCountIndex, and the users of each
+                  month by User ID
+        Query 1:  users per first name, in a FakebookCountIndex, and the distinct first
+                  names grouped by length
+        Query 2:  friendships per user, and the users with none by User ID
+        Query 4:  tags per photo, in a FakebookCountIndex, and the users tagged in each
+                  photo
+        Query 7:  events per state, in a FakebookEventStateIndex built over a copy of
+                  Cities taken at load time
+
+    The counts come straight from the indexes, so answering costs O(K) for K rows
+    returned, however large the tables are: Query 4 reads the photos and albums of its
+    <num> winners and nothing else from the database. All other queries are delegated
+    to a StudentFakebookOracle over the same connection, and every query returns
+    exactly what StudentFakebookOracle returns for the same data.
+
+    The changes reported must be those applied to the database, or the answers drift
+    from it. Inserting a user or event that is already present replaces it; deleting
+    one that is absent, or inserting a friendship or tag twice, changes nothing.
+    Cities is not followed; call reload() after it changes, or to resynchronize.
+
+    Changes are serialized by a lock on the counters, except that events go straight
+    to the FakebookEventStateIndex, which takes no lock, so that event ingest from many
+    threads neither waits on the other changes nor on each other. A change that races
+    with reload() is never lost: one made under the lock checks that the counters are
+    still current once it holds the lock, and an event checks after it is recorded,
+    and either is applied again to the reloaded counters if not (inserting and
+    deleting an event are idempotent, so applying one twice is harmless).
+*/
+public final class IncrementalFakebookOracle extends FakebookOracle {
+    // [Constructor]
+    // REQUIRES: <connection> is a valid JDBC connection
+    public IncrementalFakebookOracle(Connection connection) {
+        delegate = new StudentFakebookOracle(connection);
+    }
+
+    @Override
+    // [Error Count Accessor]
+    // EFFECTS:  returns the number of errors reported by this oracle and its delegate
+    public long getErrors() {
+        return super.getErrors() + delegate.getErrors();
+    }
+
+    @Override
+    // [Statement Cache Accessor]
+    // EFFECTS:  returns the cache of prepared statements of the delegate oracle
+    public FakebookStatementCache getStatementCache() {
+        return delegate.getStatementCache();
+    }
+
+    // [Reload Function]
+    // MODIFIES: <aggregates>
+    // EFFECTS:  discards the counters so that the next query or change reloads them;
+    //   waits for a change that holds the lock on the counters to finish first
+    public synchronized void reload() {
+        Aggregates a = aggregates;
+        if (a != null) {
+            synchronized (a) {
+                aggregates = null;
+            }
+        }
+    }
+
+    // [Insert User Function]
+    // MODIFIES: this
+    // EFFECTS:  records that user <userID> was inserted into Users (or replaced), with a
+    //   NULL <monthOfBirth> if the month is unknown
+    public void insertUser(long userID, String firstName, String lastName, Integer monthOfBirth) throws SQLException {
+        change(a -> {
+            a.deleteUser(userID);
+            a.insertUser(userID, firstName, lastName, monthOfBirth);
+        });
+    }
+
+    // [Delete User Function]
+    // MODIFIES: this
+    // EFFECTS:  records that user <userID> was deleted from Users
+    public void deleteUser(long userID) throws SQLException {
+        change(a -> a.deleteUser(userID));
+    }
+
+    // [Insert Friends Function]
+    // MODIFIES: this
+    // EFFECTS:  records that the row (<user1ID>, <user2ID>) was inserted into Friends
+    public void insertFriends(long user1ID, long user2ID) throws SQLException {
+        change(a -> a.insertFriends(user1ID, user2ID));
+    }
+
+    // [Delete Friends Function]
+    // MODIFIES: this
+    // EFFECTS:  records that the row (<user1ID>, <user2ID>) was deleted from Friends
+    public void deleteFriends(long user1ID, long user2ID) throws SQLException {
+        change(a -> a.deleteFriends(user1ID, user2ID));
+    }
+
+    // [Insert Tag Function]
+    // MODIFIES: this
+    // EFFECTS:  records that user <subjectID> was tagged in photo <photoID>
+    public void insertTag(long photoID, long subjectID) throws SQLException {
+        change(a -> a.insertTag(photoID, subjectID));
+    }
+
+    // [Delete Tag Function]
+    // MODIFIES: this
+    // EFFECTS:  records that the tag of user <subjectID> in photo <photoID> was deleted
+    public void deleteTag(long photoID, long subjectID) throws SQLException {
+        change(a -> a.deleteTag(photoID, subjectID));
+    }
+
+    // [Insert Event Function]
+    // MODIFIES: this
+    // EFFECTS:  records that event <eventID>, held in city <cityID>, was inserted into
+    //   User_Events (or replaced)
+    public void insertEvent(long eventID, long cityID) throws SQLException {
+        Aggregates a;
+        do {
+            a = aggregates();
+            a.events.insert(eventID, cityID);
+        } while (a != aggregates);
+    }
+
+    // [Delete Event Function]
+    // MODIFIES: this
+    // EFFECTS:  records that event <eventID> was deleted from User_Events
+    public void deleteEvent(long eventID) throws SQLException {
+        Aggregates a;
+        do {
+            a = aggregates();
+            a.events.delete(eventID);
+        } while (a != aggregates);
+    }
+
+    @Override
+    // Query 0
+    // -----------------------------------------------------------------------------------
+    // The most popular month is the smallest month with the highest count and the least
+    // popular the largest month with the lowest, as in StudentFakebookOracle.
+    public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
+        Aggregates a = loaded();
+        if (a == null) {
+            return delegate.findMonthOfBirthInfo();
+        }
+        synchronized (a) {
+            int mostMonth = 0;
+            int leastMonth = 0;
+            if (a.months.size() > 0) {
+                mostMonth = a.months.withCount(a.months.maxCount()).first();
+                leastMonth = a.months.withCount(a.months.minCount()).last();
+            }
+            BirthMonthInfo info = new BirthMonthInfo(a.usersWithMonth, mostMonth, leastMonth);
+            for (UserInfo user : a.usersOf(mostMonth)) {
+                info.addMostPopularBirthMonthUser(user);
+            }
+            for (UserInfo user : a.usersOf(leastMonth)) {
+                info.addLeastPopularBirthMonthUser(user);
+            }
+            return info;
+        }
+    }
+
+    @Override
+    // Query 1
+    // -----------------------------------------------------------------------------------
+    // The longest and shortest names are the first and last groups of names by length;
+    // the most common are the names with the highest count, a NULL name last.
+    public FirstNameInfo findNameInfo() throws SQLException {
+        Aggregates a = loaded();
+        if (a == null) {
+            return delegate.findNameInfo();
+        }
+        synchronized (a) {
+            FirstNameInfo info = new FirstNameInfo();
+            if (!a.namesByLength.isEmpty()) {
+                for (String name : a.namesByLength.lastEntry().getValue()) {
+                    info.addLongName(name);
+                }
+                for (String name : a.namesByLength.firstEntry().getValue()) {
+                    info.addShortName(name);
+                }
+            }
+            if (a.names.size() > 0) {
+                for (String name : a.names.withCount(a.names.maxCount())) {
+                    info.addCommonName(name);
+                }
+                info.setCommonNameCount(a.names.maxCount());
+            }
+            return info;
+        }
+    }
+
+    @Override
+    public FakebookUserList lonelyUsers() throws SQLException {
+        Aggregates a = loaded();
+        if (a == null) {
+            return delegate.lonelyUsers();
+        }
+        synchronized (a) {
+            FakebookUserList results = new FakebookUserList(", ");
+            for (UserInfo user : a.lonely.values()) {
+                results.add(user);
+            }
+            return results;
+        }
+    }
+
+    @Override
+    public FakebookUserList liveAwayFromHome() throws SQLException {
+        return delegate.liveAwayFromHome();
+    }
+
+    @Override
+    public void liveAwayFromHome(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        delegate.liveAwayFromHome(sink);
+    }
+
+    @Override
+    // Query 4
+    // -----------------------------------------------------------------------------------
+    // The winners and their tagged users come from the counters; only the photo and
+    // album of each winner are read from the database.
+    public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
+        Aggregates a = loaded();
+        if (a == null) {
+            return delegate.findPhotosWithMostTags(num);
+        }
+        FakebookArrayList<TaggedPhotoInfo> results = new FakebookArrayList<TaggedPhotoInfo>("\n");
+        if (num <= 0) {
+            return results;
+        }
+
+        List<Long> photoIDs;
+        Map<Long, List<UserInfo>> tagged = new HashMap<Long, List<UserInfo>>();
+        synchronized (a) {
+            photoIDs = a.photos.top(num);
+            for (Long photoID : photoIDs) {
+                List<UserInfo> users = new ArrayList<UserInfo>();
+                for (Long subjectID : a.tags.get(photoID)) {
+                    UserInfo user = a.users.get(subjectID);
+                    if (user != null) {                   // a tag whose user no longer exists lists nobody
+                        users.add(user);
+                    }
+                }
+                tagged.put(photoID, users);
+            }
+        }
+
+        try {
+            Map<Long, PhotoInfo> photos = photos(photoIDs);
+            for (Long photoID : photoIDs) {
+                PhotoInfo photo = photos.get(photoID);
+                TaggedPhotoInfo tp = new TaggedPhotoInfo((photo != null) ? photo : new PhotoInfo(photoID, 0L, null, null));
+                for (UserInfo user : tagged.get(photoID)) {
+                    tp.addTaggedUser(user);
+                }
+                results.add(tp);
+            }
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+        return results;
+    }
+
+    @Override
+    public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
+        return delegate.matchMaker(num, yearDiff);
+    }
+
+    @Override
+    public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
+        return delegate.suggestFriends(num);
+    }
+
+    @Override
+    // Query 7
+    // -----------------------------------------------------------------------------------
+    // The states with the highest event count, in name order with a NULL state last.
+    public EventStateInfo findEventStates() throws SQLException {
+        Aggregates a = loaded();
+        if (a == null) {
+            return delegate.findEventStates();
+        }
+        return a.events.mostEvents();
+    }
+
+    @Override
+    public AgeInfo findAgeInfo(long userID) throws SQLException {
+        return delegate.findAgeInfo(userID);
+    }
+
+    @Override
+    public Map<Long, AgeInfo> findAgeInfo(long[] userIDs) throws SQLException {
+        return delegate.findAgeInfo(userIDs);
+    }
+
+    @Override
+    public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
+        return delegate.findPotentialSiblings();
+    }
+
+    @Override
+    public void findPotentialSiblings(FakebookRowSink<SiblingInfo> sink) throws SQLException, IOException {
+        delegate.findPotentialSiblings(sink);
+    }
+
+    // [Aggregates Function]
+    // MODIFIES: <aggregates>
+    // EFFECTS:  returns the counters, loading them from the database first if necessary;
+    //   once they are loaded no lock is taken
+    private Aggregates aggregates() throws SQLException {
+        Aggregates a = aggregates;
+        return (a != null) ? a : loadAggregates();
+    }
+
+    // [Load Aggregates Function]
+    // MODIFIES: <aggregates>
+    // EFFECTS:  returns the counters, loading them unless another thread already has
+    private synchronized Aggregates loadAggregates() throws SQLException {
+        if (aggregates == null) {
+            aggregates = load();
+        }
+        return aggregates;
+    }
+
+    // [Change Function]
+    // MODIFIES: <aggregates>
+    // EFFECTS:  applies <change> to the counters under their lock; if reload() discarded
+    //   them before the lock was taken, applies it to the reloaded counters instead
+    private void change(Change change) throws SQLException {
+        while (true) {
+            Aggregates a = aggregates();
+            synchronized (a) {
+                if (a == aggregates) {
+                    change.apply(a);
+                    return;
+                }
+            }
+        }
+    }
+
+    // [Loaded Function]
+    // EFFECTS:  returns the counters, loading them first if necessary; returns NULL
+    //   (after printing the error) if they cannot be loaded, so that the query falls
+    //   back to the delegate
+    private Aggregates loaded() {
+        try {
+            return aggregates();
+        }
+        catch (SQLException e) {
+            reportError(e);
+            return null;
+        }
+    }
+
+    // [Load Function]
+    // EFFECTS:  reads the current tables into new counters, as if every row were inserted
+    private Aggregates load() throws SQLException {
+        FakebookStatementCache statements = delegate.getStatementCache();
+        Aggregates a = new Aggregates();
+
+        String users = "SELECT USER_ID, FIRST_NAME, LAST_NAME, MONTH_OF_BIRTH " +
+                       "FROM " + FakebookOracleConstants.UsersTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("IncrementalUsers", users)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                int month = rst.getInt(4);
+                Integer monthOfBirth = rst.wasNull() ? null : month;
+                a.insertUser(rst.getLong(1), rst.getString(2), rst.getString(3), monthOfBirth);
+            }
+            rst.close();
+        }
+
+        String friends = "SELECT USER1_ID, USER2_ID FROM " + FakebookOracleConstants.FriendsTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("IncrementalFriends", friends)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                a.insertFriends(rst.getLong(1), rst.getLong(2));
+            }
+            rst.close();
+        }
+
+        String tags = "SELECT TAG_PHOTO_ID, TAG_SUBJECT_ID FROM " + FakebookOracleConstants.TagsTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("IncrementalTags", tags)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                a.insertTag(rst.getLong(1), rst.getLong(2));
+            }
+            rst.close();
+        }
+
+        Map<Long, String> cityStates = new HashMap<Long, String>();
+        String cities = "SELECT CITY_ID, STATE_NAME FROM " + FakebookOracleConstants.CitiesTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("IncrementalCities", cities)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                cityStates.put(rst.getLong(1), rst.getString(2));
+            }
+            rst.close();
+        }
+        a.events = new FakebookEventStateIndex(cityStates);
+
+        String events = "SELECT EVENT_ID, EVENT_CITY_ID FROM " + FakebookOracleConstants.EventsTable;
+        try (FakebookStatementCache.Lease lease = statements.lease("IncrementalEvents", events)) {
+            ResultSet rst = lease.statement().executeQuery();
+            while (rst.next()) {
+                a.events.insert(rst.getLong(1), rst.getLong(2));
+            }
+            rst.close();
+        }
+        return a;
+    }
+
+    // [Photos Function]
+    // EFFECTS:  returns the photo and album information of the photos in <photoIDs>,
+    //   keyed by photo ID, reading <PhotoBatchSize> photos per statement; photos missing
+    //   from the Photos table are left out
+    private Map<Long, PhotoInfo> photos(List<Long> photoIDs) throws SQLException {
+        Map<Long, PhotoInfo> photos = new HashMap<Long, PhotoInfo>();
+        if (photoIDs.isEmpty()) {
+            return photos;
+        }
+
+        StringBuilder wanted = new StringBuilder();
+        for (int idx = 0; idx < PhotoBatchSize; idx++) {
+            wanted.append(idx == 0 ? "?" : ", ?");
+        }
+        String photo = "SELECT P.PHOTO_ID, P.PHOTO_LINK, P.ALBUM_ID, A.ALBUM_NAME " +
+                       "FROM " + FakebookOracleConstants.PhotosTable + " P " +
+                       "LEFT JOIN " + FakebookOracleConstants.AlbumsTable + " A ON P.ALBUM_ID = A.ALBUM_ID " +
+                       "WHERE P.PHOTO_ID IN (" + wanted + ")";
+        try (FakebookStatementCache.Lease lease = delegate.getStatementCache().lease("IncrementalPhotos", photo)) {
+            PreparedStatement stmt = lease.statement();
+            for (int start = 0; start < photoIDs.size(); start += PhotoBatchSize) {
+                for (int idx = 0; idx < PhotoBatchSize; idx++) {
+                    stmt.setLong(idx + 1, photoIDs.get(Math.min(start + idx, photoIDs.size() - 1)));
+                }
+                ResultSet rst = stmt.executeQuery();
+                while (rst.next()) {
+                    photos.put(rst.getLong(1), new PhotoInfo(rst.getLong(1), rst.getLong(3), rst.getString(2), rst.getString(4)));
+                }
+                rst.close();
+            }
+        }
+        return photos;
+    }
+
+    /*
+        The Aggregates class holds the counters and the rows they are kept from. It is
+        not thread-safe; the oracle locks it around every change and every answer, apart
+        from <events>, which is thread-safe on its own.
+    */
+    private static final class Aggregates {
+        // [Insert User Function]
+        // REQUIRES: user <userID> is not present
+        void insertUser(long userID, String firstName, String lastName, Integer month) {
+            UserInfo user = new UserInfo(userID, firstName, lastName);
+            users.put(userID, user);
+            if (month != null) {
+                userMonths.put(userID, month);
+                months.add(month, 1);
+                usersWithMonth++;
+                TreeMap<Long, UserInfo> born = monthUsers.get(month);
+                if (born == null) {
+                    born = new TreeMap<Long, UserInfo>();
+                    monthUsers.put(month, born);
+                }
+                born.put(userID, user);
+            }
+            if (names.add(firstName, 1) == 1 && firstName != null) {
+                TreeSet<String> sameLength = namesByLength.get(firstName.length());
+                if (sameLength == null) {
+                    sameLength = new TreeSet<String>();
+                    namesByLength.put(firstName.length(), sameLength);
+                }
+                sameLength.add(firstName);
+            }
+            if (degrees.get(userID, 0) == 0) {
+                lonely.put(userID, user);
+            }
+        }
+
+        // [Delete User Function]
+        void deleteUser(long userID) {
+            UserInfo user = users.remove(userID);
+            if (user == null) {
+                return;
+            }
+            Integer month = userMonths.remove(userID);
+            if (month != null) {
+                months.add(month, -1);
+                usersWithMonth--;
+                monthUsers.get(month).remove(userID);
+            }
+            String firstName = user.getFirstName();
+            if (names.add(firstName, -1) == 0 && firstName != null) {
+                TreeSet<String> sameLength = namesByLength.get(firstName.length());
+                sameLength.remove(firstName);
+                if (sameLength.isEmpty()) {
+                    namesByLength.remove(firstName.length());
+                }
+            }
+            lonely.remove(userID);
+        }
+
+        // [Insert Friends Function]
+        void insertFriends(long user1ID, long user2ID) {
+            if (friends.add(new Pair(user1ID, user2ID))) {
+                befriend(user1ID, 1);
+                if (user2ID != user1ID) {
+                    befriend(user2ID, 1);
+                }
+            }
+        }
+
+        // [Delete Friends Function]
+        void deleteFriends(long user1ID, long user2ID) {
+            if (friends.remove(new Pair(user1ID, user2ID))) {
+                befriend(user1ID, -1);
+                if (user2ID != user1ID) {
+                    befriend(user2ID, -1);
+                }
+            }
+        }
+
+        // [Befriend Function]
+        // EFFECTS:  adds <delta> to the number of Friends rows of <userID>, and moves the
+        //   user into or out of <lonely> when that number reaches or leaves zero
+        private void befriend(long userID, int delta) {
+            int degree = degrees.get(userID, 0) + delta;
+            degrees.put(userID, degree);
+            if (degree == 0 && users.containsKey(userID)) {
+                lonely.put(userID, users.get(userID));
+            }
+            else if (degree == 1 && delta > 0) {
+                lonely.remove(userID);
+            }
+        }
+
+        // [Insert Tag Function]
+        void insertTag(long photoID, long subjectID) {
+            TreeSet<Long> subjects = tags.get(photoID);
+            if (subjects == null) {
+                subjects = new TreeSet<Long>();
+                tags.put(photoID, subjects);
+            }
+            if (subjects.add(subjectID)) {
+                photos.add(photoID, 1);
+            }
+        }
+
+        // [Delete Tag Function]
+        void deleteTag(long photoID, long subjectID) {
+            TreeSet<Long> subjects = tags.get(photoID);
+            if (subjects != null && subjects.remove(subjectID)) {
+                photos.add(photoID, -1);
+                if (subjects.isEmpty()) {
+                    tags.remove(photoID);
+                }
+            }
+        }
+
+        // [Users Of Function]
+        // EFFECTS:  returns the users born in <month>, by User ID
+        Iterable<UserInfo> usersOf(int month) {
+            TreeMap<Long, UserInfo> born = monthUsers.get(month);
+            return (born == null) ? new TreeMap<Long, UserInfo>().values() : born.values();
+        }
+
+        // Member Variables
+        final Map<Long, UserInfo> users = new HashMap<Long, UserInfo>();
+        final Map<Long, Integer> userMonths = new HashMap<Long, Integer>();
+        final FakebookCountIndex<Integer> months = new FakebookCountIndex<Integer>(Comparator.<Integer>naturalOrder());
+        final Map<Integer, TreeMap<Long, UserInfo>> monthUsers = new HashMap<Integer, TreeMap<Long, UserInfo>>();
+        long usersWithMonth;
+        final FakebookCountIndex<String> names = new FakebookCountIndex<String>(Comparator.nullsLast(Comparator.<String>naturalOrder()));
+        final TreeMap<Integer, TreeSet<String>> namesByLength = new TreeMap<Integer, TreeSet<String>>();
+        final Set<Pair> friends = new HashSet<Pair>();
+        final FakebookLongIntMap degrees = new FakebookLongIntMap(1024);
+        final TreeMap<Long, UserInfo> lonely = new TreeMap<Long, UserInfo>();
+        final Map<Long, TreeSet<Long>> tags = new HashMap<Long, TreeSet<Long>>();
+        final FakebookCountIndex<Long> photos = new FakebookCountIndex<Long>(Comparator.<Long>naturalOrder());
+        FakebookEventStateIndex events;
+    }
+
+    /*
+        The Change interface is one change to the counters, made under their lock.
+    */
+    private interface Change {
+        void apply(Aggregates a);
+    }
+
+    /*
+        The Pair class is one row of Friends, as a hash key.
+    */
+    private static final class Pair {
+        Pair(long user1ID, long user2ID) {
+            this.user1ID = user1ID;
+            this.user2ID = user2ID;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Pair && ((Pair)other).user1ID == user1ID && ((Pair)other).user2ID == user2ID;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(31 * user1ID + user2ID);
+        }
+
+        final long user1ID;
+        final long user2ID;
+    }
+
+    // Photos read by one statement of the Photos function
+    private static final int PhotoBatchSize = 20;
+
+    // Member Variables
+    private final StudentFakebookOracle delegate;
+    private volatile Aggregates aggregates;
+}
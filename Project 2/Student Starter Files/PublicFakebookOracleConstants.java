@@ -9,8 +9,8 @@ import java.sql.ResultSet;
     can be accessed as FakebookConstants.<field>.
 */
 final class FakebookOracleConstants {
-    // Prefix Constant
-    private static final String prefix = "jiaqni.PUBLIC_";
+    // Prefix Constant (-Dfakebook.table.prefix=<prefix>, see FakebookConnectionFactory)
+    private static final String prefix = FakebookConnectionFactory.tablePrefix();
 
     // Table Names
     public static final String UsersTable = String.format("%s%s", prefix, "Users");
@@ -30,8 +30,16 @@ final class FakebookOracleConstants {
     
     // Result Set Constants Renamed
     public static final int AllScroll = ResultSet.TYPE_SCROLL_INSENSITIVE;
+    public static final int ForwardOnly = ResultSet.TYPE_FORWARD_ONLY;
     public static final int ReadOnly = ResultSet.CONCUR_READ_ONLY;
     
+    // Rows fetched per round trip by forward-only result sets (-Dfakebook.fetchSize=<rows>)
+    public static final int FetchSize = Integer.getInteger("fakebook.fetchSize", 500);
+    
+    // Statements prepared per query by one statement cache, i.e. open cursors per query
+    // and connection (-Dfakebook.statementsPerQuery=<n>)
+    public static final int StatementsPerQuery = Integer.getInteger("fakebook.statementsPerQuery", 4);
+    
     // [Constructor]
     // EFFECTS:  throws an AssertionError
     private FakebookOracleConstants() {
@@ -0,0 +1,663 @@
+package project2;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+    The SnapshotFakebookOracle class is derived from the FakebookOracle class and answers
+    all ten queries from a FakebookSnapshot instead of a database. Every column is read
+    in place from its memory-mapped section, so nothing is copied onto the heap: opening
+    the snapshot maps the file and returns, and each query touches only the pages of
+    the columns it scans.
+
+    Users are numbered 0 .. n-1 in ascending User ID order, as in the snapshot, and
+    every other table is found by binary search over its sorted primary key column or
+    through the precomputed friend and tag adjacency. The algorithms are those of
+    GraphFakebookOracle (Queries 5, 6, 8 and 9) and HashJoinFakebookOracle (Queries 2
+    and 3) run over the mapped arrays; Queries 0, 1, 4 and 7 count into arrays indexed
+    by month, dictionary code or photo. Every query returns exactly what
+    StudentFakebookOracle returns for the data the snapshot was exported from.
+
+    The snapshot is opened on first use; if it cannot be opened, the error is printed
+    and every query returns an empty result.
+*/
+public final class SnapshotFakebookOracle extends FakebookOracle {
+    // [Constructor]
+    // EFFECTS:  answers from the snapshot file at <path>, which is opened on first use
+    public SnapshotFakebookOracle(String path) {
+        this.path = path;
+    }
+
+    // [Constructor]
+    // REQUIRES: <snapshot> is open
+    public SnapshotFakebookOracle(FakebookSnapshot snapshot) throws IOException {
+        path = null;
+        tables = new Tables(snapshot);
+    }
+
+    @Override
+    // Query 0
+    // -----------------------------------------------------------------------------------
+    // Counts the users of every birth month in one pass over MONTH_OF_BIRTH, then lists
+    // the users of the most and least popular months in a second pass.
+    public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
+        Tables t = tables();
+        if (t == null) {
+            return new BirthMonthInfo(-1, -1, -1);
+        }
+
+        Map<Long, long[]> counts = new TreeMap<Long, long[]>();
+        for (int u = 0; u < t.size; u++) {
+            long month = t.months.get(u);
+            if (month != FakebookSnapshot.Null) {
+                long[] count = counts.get(month);
+                if (count == null) {
+                    count = new long[1];
+                    counts.put(month, count);
+                }
+                count[0]++;
+            }
+        }
+
+        long total = 0;
+        long mostMonth = 0;
+        long leastMonth = 0;
+        long most = -1;
+        long least = Long.MAX_VALUE;
+        for (Map.Entry<Long, long[]> entry : counts.entrySet()) {   // ascending months
+            long count = entry.getValue()[0];
+            total += count;
+            if (count > most) {                                       // ties: the smaller month
+                most = count;
+                mostMonth = entry.getKey();
+            }
+            if (count <= least) {                                     // ties: the larger month
+                least = count;
+                leastMonth = entry.getKey();
+            }
+        }
+
+        BirthMonthInfo info = new BirthMonthInfo(total, (int)mostMonth, (int)leastMonth);
+        for (int u = 0; u < t.size; u++) {
+            if (t.months.get(u) == mostMonth) {
+                info.addMostPopularBirthMonthUser(t.user(u));
+            }
+        }
+        for (int u = 0; u < t.size; u++) {
+            if (t.months.get(u) == leastMonth) {
+                info.addLeastPopularBirthMonthUser(t.user(u));
+            }
+        }
+        return info;
+    }
+
+    @Override
+    // Query 1
+    // -----------------------------------------------------------------------------------
+    // Counts the users of every first name by dictionary code; codes are in name order,
+    // so the names are added in the order StudentFakebookOracle adds them. A NULL first
+    // name has no length and sorts last.
+    public FirstNameInfo findNameInfo() throws SQLException {
+        FirstNameInfo info = new FirstNameInfo();
+        Tables t = tables();
+        if (t == null) {
+            return info;
+        }
+
+        int[] counts = new int[t.snapshot.dictionarySize() + 1];   // the last slot counts NULL
+        for (int u = 0; u < t.size; u++) {
+            int code = t.firstNames.code(u);
+            counts[(code < 0) ? counts.length - 1 : code]++;
+        }
+
+        int longest = -1;
+        int shortest = Integer.MAX_VALUE;
+        int mostCommon = 0;
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] == 0) {
+                continue;
+            }
+            mostCommon = Math.max(mostCommon, counts[code]);
+            if (code < counts.length - 1) {
+                int length = t.snapshot.string(code).length();
+                longest = Math.max(longest, length);
+                shortest = Math.min(shortest, length);
+            }
+        }
+
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] == 0) {
+                continue;
+            }
+            boolean known = code < counts.length - 1;
+            String firstName = known ? t.snapshot.string(code) : null;
+            if (known && firstName.length() == longest) {
+                info.addLongName(firstName);
+            }
+            if (known && firstName.length() == shortest) {
+                info.addShortName(firstName);
+            }
+            if (counts[code] == mostCommon) {
+                info.addCommonName(firstName);
+                info.setCommonNameCount(mostCommon);
+            }
+        }
+        return info;
+    }
+
+    @Override
+    // Query 2
+    // -----------------------------------------------------------------------------------
+    // Marks every user that appears in either column of Friends in a BitSet over the
+    // user numbers, then lists the unmarked users.
+    public FakebookUserList lonelyUsers() throws SQLException {
+        FakebookUserList results = new FakebookUserList(", ");
+        Tables t = tables();
+        if (t == null) {
+            return results;
+        }
+
+        BitSet befriended = new BitSet(t.size);
+        for (int row = 0; row < t.friends1.rows(); row++) {
+            int a = t.ids.find(t.friends1.get(row));
+            int b = t.ids.find(t.friends2.get(row));
+            if (a >= 0) {
+                befriended.set(a);
+            }
+            if (b >= 0) {
+                befriended.set(b);
+            }
+        }
+        for (int u = befriended.nextClearBit(0); u < t.size; u = befriended.nextClearBit(u + 1)) {
+            results.add(t.user(u));
+        }
+        return results;
+    }
+
+    @Override
+    // Query 3
+    // -----------------------------------------------------------------------------------
+    // Merges User_Current_City and User_Hometown_City, which are both sorted by User ID,
+    // and lists the existing users whose two cities differ.
+    public FakebookUserList liveAwayFromHome() throws SQLException {
+        FakebookUserList results = new FakebookUserList(", ");
+        Tables t = tables();
+        if (t == null) {
+            return results;
+        }
+
+        int c = 0;
+        int h = 0;
+        while (c < t.currentUsers.rows() && h < t.hometownUsers.rows()) {
+            long current = t.currentUsers.get(c);
+            long hometown = t.hometownUsers.get(h);
+            if (current < hometown) {
+                c++;
+            }
+            else if (current > hometown) {
+                h++;
+            }
+            else {
+                if (t.currentCities.get(c) != t.hometownCities.get(h)) {
+                    int u = t.ids.find(current);
+                    if (u >= 0) {
+                        results.add(t.user(u));
+                    }
+                }
+                c++;
+                h++;
+            }
+        }
+        return results;
+    }
+
+    @Override
+    // Query 4
+    // -----------------------------------------------------------------------------------
+    // Tags is sorted by photo, so the tag count of every photo is the length of its run;
+    // the runs are streamed through a FakebookTopHeap, and the tagged users of the
+    // winners are read from their runs.
+    public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
+        FakebookArrayList<TaggedPhotoInfo> results = new FakebookArrayList<TaggedPhotoInfo>("\n");
+        Tables t = tables();
+        if (t == null || num <= 0) {
+            return results;
+        }
+
+        FakebookTopHeap top = new FakebookTopHeap(num);
+        int rows = t.tagPhotos.rows();
+        for (int start = 0, end; start < rows; start = end) {
+            long photoID = t.tagPhotos.get(start);
+            for (end = start + 1; end < rows && t.tagPhotos.get(end) == photoID; end++) {
+            }
+            top.offer(end - start, photoID);
+        }
+
+        for (long photoID : top.drain()) {
+            int p = t.photoIds.find(photoID);
+            long albumID = (p >= 0) ? t.photoAlbums.get(p) : 0L;
+            int a = (p >= 0) ? t.albumIds.find(albumID) : -1;
+            TaggedPhotoInfo tp = new TaggedPhotoInfo(new PhotoInfo(photoID, albumID,
+                (p >= 0) ? t.snapshot.string(t.photoLinks.code(p)) : null,
+                (a >= 0) ? t.snapshot.string(t.albumNames.code(a)) : null));
+            for (int row = t.tagPhotos.lowerBound(photoID); row < rows && t.tagPhotos.get(row) == photoID; row++) {
+                int u = t.ids.find(t.tagSubjects.get(row));
+                if (u >= 0) {                                 // a tag whose user no longer exists lists nobody
+                    tp.addTaggedUser(t.user(u));
+                }
+            }
+            results.add(tp);
+        }
+        return results;
+    }
+
+    @Override
+    // Query 5
+    // -----------------------------------------------------------------------------------
+    // As in GraphFakebookOracle: for every user a with a known gender and birth year, the
+    // users b > a of the same gender tagged in a's photos are counted in a scratch array,
+    // and each b within <yearDiff> years that is not a friend competes for the top <num>
+    // places. The shared photos of the winners are found by merging their photo lists.
+    public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
+        FakebookArrayList<MatchPair> results = new FakebookArrayList<MatchPair>("\n");
+        Tables t = tables();
+        if (t == null || num <= 0) {
+            return results;
+        }
+
+        GraphFakebookOracle.PairHeap top = new GraphFakebookOracle.PairHeap(num);
+        int[] counts = new int[t.size];
+        int[] touched = new int[t.size];
+        for (int a = 0; a < t.size; a++) {
+            int gender = t.genders.code(a);
+            long year = t.years.get(a);
+            if (gender < 0 || year == FakebookSnapshot.Null) {
+                continue;
+            }
+            int found = 0;
+            for (int e = t.userOffsets.get(a); e < t.userOffsets.get(a + 1); e++) {
+                int p = t.userPhotos.get(e);
+                int end = t.photoOffsets.get(p + 1);
+                for (int f = firstAbove(t.photoUsers, t.photoOffsets.get(p), end, a); f < end; f++) {
+                    int b = t.photoUsers.get(f);
+                    if (t.genders.code(b) == gender && counts[b]++ == 0) {
+                        touched[found++] = b;
+                    }
+                }
+            }
+            for (int idx = 0; idx < found; idx++) {
+                int b = touched[idx];
+                int count = counts[b];
+                counts[b] = 0;
+                long other = t.years.get(b);
+                if (other != FakebookSnapshot.Null && Math.abs(year - other) <= yearDiff && !t.friends(a, b)) {
+                    top.offer(count, a, b);
+                }
+            }
+        }
+
+        for (int[] pair : top.drain()) {
+            int a = pair[1];
+            int b = pair[2];
+            MatchPair mp = new MatchPair(t.user(a), t.years.get(a), t.user(b), t.years.get(b));
+            int i = t.userOffsets.get(a);
+            int j = t.userOffsets.get(b);
+            while (i < t.userOffsets.get(a + 1) && j < t.userOffsets.get(b + 1)) {
+                int p = t.userPhotos.get(i);
+                int q = t.userPhotos.get(j);
+                if (p < q) {
+                    i++;
+                }
+                else if (p > q) {
+                    j++;
+                }
+                else {
+                    mp.addSharedPhoto(t.photo(t.tagPhotoIds.get(p)));
+                    i++;
+                    j++;
+                }
+            }
+            results.add(mp);
+        }
+        return results;
+    }
+
+    @Override
+    // Query 6
+    // -----------------------------------------------------------------------------------
+    // As in GraphFakebookOracle: for every user a, the friends of a's friends with larger
+    // numbers are counted in a scratch array, and the pairs that are not already friends
+    // compete for the top <num> places. The common friends of the winners are found by
+    // merging their adjacency lists.
+    public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
+        FakebookArrayList<UsersPair> results = new FakebookArrayList<UsersPair>("\n");
+        Tables t = tables();
+        if (t == null || num <= 0) {
+            return results;
+        }
+
+        GraphFakebookOracle.PairHeap top = new GraphFakebookOracle.PairHeap(num);
+        int[] counts = new int[t.size];
+        int[] touched = new int[t.size];
+        int[] friendOf = new int[t.size];                 // friendOf[b] == a + 1 iff a and b are friends
+        for (int a = 0; a < t.size; a++) {
+            int begin = t.offsets.get(a);
+            int end = t.offsets.get(a + 1);
+            for (int e = begin; e < end; e++) {
+                friendOf[t.neighbors.get(e)] = a + 1;
+            }
+
+            int numTouched = 0;
+            for (int e = begin; e < end; e++) {
+                int mid = t.neighbors.get(e);
+                int midEnd = t.offsets.get(mid + 1);
+                for (int f = firstAbove(t.neighbors, t.offsets.get(mid), midEnd, a); f < midEnd; f++) {
+                    int b = t.neighbors.get(f);
+                    if (counts[b]++ == 0) {
+                        touched[numTouched++] = b;
+                    }
+                }
+            }
+
+            for (int idx = 0; idx < numTouched; idx++) {
+                int b = touched[idx];
+                if (friendOf[b] != a + 1) {
+                    top.offer(counts[b], a, b);
+                }
+                counts[b] = 0;
+            }
+        }
+
+        for (int[] pair : top.drain()) {
+            int a = pair[1];
+            int b = pair[2];
+            UsersPair up = new UsersPair(t.user(a), t.user(b));
+            int e = t.offsets.get(a);
+            int f = t.offsets.get(b);
+            while (e < t.offsets.get(a + 1) && f < t.offsets.get(b + 1)) {
+                int x = t.neighbors.get(e);
+                int y = t.neighbors.get(f);
+                if (x < y) {
+                    e++;
+                }
+                else if (x > y) {
+                    f++;
+                }
+                else {
+                    up.addSharedFriend(t.user(x));
+                    e++;
+                    f++;
+                }
+            }
+            results.add(up);
+        }
+        return results;
+    }
+
+    @Override
+    // Query 7
+    // -----------------------------------------------------------------------------------
+    // Counts the events of every state by dictionary code, finding each event's city by
+    // binary search; an event whose city is missing counts toward the NULL state, which
+    // sorts last.
+    public EventStateInfo findEventStates() throws SQLException {
+        Tables t = tables();
+        if (t == null) {
+            return new EventStateInfo(-1);
+        }
+
+        int[] counts = new int[t.snapshot.dictionarySize() + 1];   // the last slot counts NULL
+        for (int row = 0; row < t.eventCities.rows(); row++) {
+            int c = t.cityIds.find(t.eventCities.get(row));
+            int code = (c >= 0) ? t.stateNames.code(c) : -1;
+            counts[(code < 0) ? counts.length - 1 : code]++;
+        }
+
+        int most = 0;
+        for (int count : counts) {
+            most = Math.max(most, count);
+        }
+        if (most == 0) {
+            return new EventStateInfo(0);
+        }
+        EventStateInfo info = new EventStateInfo(most);
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] == most) {
+                info.addState(t.snapshot.string((code < counts.length - 1) ? code : -1));
+            }
+        }
+        return info;
+    }
+
+    @Override
+    // Query 8
+    // -----------------------------------------------------------------------------------
+    // Scans the adjacency list of <userID> for the earliest and latest full birth dates;
+    // ties go to the larger User ID, as in StudentFakebookOracle.
+    public AgeInfo findAgeInfo(long userID) throws SQLException {
+        Tables t = tables();
+        int u = (t == null) ? -1 : t.ids.find(userID);
+        int oldest = -1;
+        int youngest = -1;
+        long oldestDate = 0L;
+        long youngestDate = 0L;
+        if (u >= 0) {
+            for (int e = t.offsets.get(u); e < t.offsets.get(u + 1); e++) {
+                int f = t.neighbors.get(e);
+                long date = t.birthDate(f);
+                if (date == FakebookSnapshot.Null) {
+                    continue;
+                }
+                // neighbors are in ascending ID order, so later friends win ties
+                if (oldest < 0 || date <= oldestDate) {
+                    oldest = f;
+                    oldestDate = date;
+                }
+                if (youngest < 0 || date >= youngestDate) {
+                    youngest = f;
+                    youngestDate = date;
+                }
+            }
+        }
+
+        if (oldest < 0) {
+            return new AgeInfo(new UserInfo(-1, "ERROR", "ERROR"), new UserInfo(-1, "ERROR", "ERROR"));
+        }
+        return new AgeInfo(t.user(oldest), t.user(youngest));
+    }
+
+    @Override
+    // Query 9
+    // -----------------------------------------------------------------------------------
+    // Walks Friends in (USER1_ID, USER2_ID) order and keeps the pairs with the same last
+    // name code and hometown born less than 10 years apart.
+    public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
+        FakebookArrayList<SiblingInfo> results = new FakebookArrayList<SiblingInfo>("\n");
+        Tables t = tables();
+        if (t == null) {
+            return results;
+        }
+
+        for (int row = 0; row < t.friends1.rows(); row++) {
+            int a = t.ids.find(t.friends1.get(row));
+            int b = t.ids.find(t.friends2.get(row));
+            if (a < 0 || b < 0 || t.lastNames.code(a) < 0 || t.lastNames.code(a) != t.lastNames.code(b)) {
+                continue;
+            }
+            long yearA = t.years.get(a);
+            long yearB = t.years.get(b);
+            if (yearA == FakebookSnapshot.Null || yearB == FakebookSnapshot.Null || Math.abs(yearA - yearB) >= 10) {
+                continue;
+            }
+            long hometown = t.hometown(t.ids.get(a));
+            if (hometown != FakebookSnapshot.Null && hometown == t.hometown(t.ids.get(b))) {
+                results.add(new SiblingInfo(t.user(a), t.user(b)));
+            }
+        }
+        return results;
+    }
+
+    // [Tables Function]
+    // MODIFIES: <tables>
+    // EFFECTS:  returns the columns of the snapshot, opening it first if necessary;
+    //   returns NULL (after printing the error) if it cannot be opened
+    private synchronized Tables tables() {
+        if (tables == null && path != null) {
+            try {
+                tables = new Tables(FakebookSnapshot.open(path));
+            }
+            catch (IOException e) {
+                reportError(e);
+            }
+        }
+        return tables;
+    }
+
+    // [First Above Function]
+    // EFFECTS:  returns the position of the first value greater than <bound> among the
+    //   sorted values <from> .. <to> - 1 of <values>, or <to> if there is none
+    private static int firstAbove(IntBuffer values, int from, int to, int bound) {
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (values.get(mid) <= bound) {
+                from = mid + 1;
+            }
+            else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    /*
+        The Tables class holds the mapped columns and adjacency arrays the queries read.
+        All reads are absolute, so one instance is shared by concurrent queries.
+    */
+    private static final class Tables {
+        // [Constructor]
+        Tables(FakebookSnapshot snapshot) throws IOException {
+            this.snapshot = snapshot;
+            ids = snapshot.column("Users", "USER_ID");
+            firstNames = snapshot.column("Users", "FIRST_NAME");
+            lastNames = snapshot.column("Users", "LAST_NAME");
+            years = snapshot.column("Users", "YEAR_OF_BIRTH");
+            months = snapshot.column("Users", "MONTH_OF_BIRTH");
+            days = snapshot.column("Users", "DAY_OF_BIRTH");
+            genders = snapshot.column("Users", "GENDER");
+            friends1 = snapshot.column("Friends", "USER1_ID");
+            friends2 = snapshot.column("Friends", "USER2_ID");
+            cityIds = snapshot.column("Cities", "CITY_ID");
+            stateNames = snapshot.column("Cities", "STATE_NAME");
+            currentUsers = snapshot.column("User_Current_City", "USER_ID");
+            currentCities = snapshot.column("User_Current_City", "CURRENT_CITY_ID");
+            hometownUsers = snapshot.column("User_Hometown_City", "USER_ID");
+            hometownCities = snapshot.column("User_Hometown_City", "HOMETOWN_CITY_ID");
+            eventCities = snapshot.column("User_Events", "EVENT_CITY_ID");
+            albumIds = snapshot.column("Albums", "ALBUM_ID");
+            albumNames = snapshot.column("Albums", "ALBUM_NAME");
+            photoIds = snapshot.column("Photos", "PHOTO_ID");
+            photoAlbums = snapshot.column("Photos", "ALBUM_ID");
+            photoLinks = snapshot.column("Photos", "PHOTO_LINK");
+            tagPhotos = snapshot.column("Tags", "TAG_PHOTO_ID");
+            tagSubjects = snapshot.column("Tags", "TAG_SUBJECT_ID");
+            offsets = snapshot.ints(FakebookSnapshot.FriendOffsets);
+            neighbors = snapshot.ints(FakebookSnapshot.FriendNeighbors);
+            tagPhotoIds = snapshot.column(FakebookSnapshot.TagPhotoIds);
+            photoOffsets = snapshot.ints(FakebookSnapshot.TagPhotoOffsets);
+            photoUsers = snapshot.ints(FakebookSnapshot.TagPhotoUsers);
+            userOffsets = snapshot.ints(FakebookSnapshot.TagUserOffsets);
+            userPhotos = snapshot.ints(FakebookSnapshot.TagUserPhotos);
+            size = ids.rows();
+        }
+
+        // [User Function]
+        // EFFECTS:  returns a new UserInfo for user <u>
+        UserInfo user(int u) {
+            return new UserInfo(ids.get(u), snapshot.string(firstNames.code(u)), snapshot.string(lastNames.code(u)));
+        }
+
+        // [Friends Function]
+        // EFFECTS:  returns true if users <a> and <b> are friends
+        boolean friends(int a, int b) {
+            int end = offsets.get(a + 1);
+            int e = firstAbove(neighbors, offsets.get(a), end, b - 1);
+            return e < end && neighbors.get(e) == b;
+        }
+
+        // [Birth Date Function]
+        // EFFECTS:  returns user <u>'s birth date as ((year * 13) + month) * 32 + day, or
+        //   Null if any part of it is unknown
+        long birthDate(int u) {
+            long year = years.get(u);
+            long month = months.get(u);
+            long day = days.get(u);
+            if (year == FakebookSnapshot.Null || month == FakebookSnapshot.Null || day == FakebookSnapshot.Null) {
+                return FakebookSnapshot.Null;
+            }
+            return (year * 13 + month) * 32 + day;
+        }
+
+        // [Hometown Function]
+        // EFFECTS:  returns the hometown of the user with ID <userID>, or Null if none is listed
+        long hometown(long userID) {
+            int row = hometownUsers.find(userID);
+            return (row >= 0) ? hometownCities.get(row) : FakebookSnapshot.Null;
+        }
+
+        // [Photo Function]
+        // EFFECTS:  returns the photo and album information of photo <photoID>, with the
+        //   album ID and name of the album found in Albums, as StudentFakebookOracle
+        //   reads them; a missing photo has a zero ID and no link
+        PhotoInfo photo(long photoID) {
+            int p = photoIds.find(photoID);
+            if (p < 0) {
+                return new PhotoInfo(0L, 0L, null, null);
+            }
+            int a = albumIds.find(photoAlbums.get(p));
+            return new PhotoInfo(photoID, (a >= 0) ? albumIds.get(a) : 0L,
+                snapshot.string(photoLinks.code(p)), (a >= 0) ? snapshot.string(albumNames.code(a)) : null);
+        }
+
+        // Member Variables
+        final FakebookSnapshot snapshot;
+        final int size;
+        final FakebookSnapshot.Column ids;
+        final FakebookSnapshot.Column firstNames;
+        final FakebookSnapshot.Column lastNames;
+        final FakebookSnapshot.Column years;
+        final FakebookSnapshot.Column months;
+        final FakebookSnapshot.Column days;
+        final FakebookSnapshot.Column genders;
+        final FakebookSnapshot.Column friends1;
+        final FakebookSnapshot.Column friends2;
+        final FakebookSnapshot.Column cityIds;
+        final FakebookSnapshot.Column stateNames;
+        final FakebookSnapshot.Column currentUsers;
+        final FakebookSnapshot.Column currentCities;
+        final FakebookSnapshot.Column hometownUsers;
+        final FakebookSnapshot.Column hometownCities;
+        final FakebookSnapshot.Column eventCities;
+        final FakebookSnapshot.Column albumIds;
+        final FakebookSnapshot.Column albumNames;
+        final FakebookSnapshot.Column photoIds;
+        final FakebookSnapshot.Column photoAlbums;
+        final FakebookSnapshot.Column photoLinks;
+        final FakebookSnapshot.Column tagPhotos;
+        final FakebookSnapshot.Column tagSubjects;
+        final FakebookSnapshot.Column tagPhotoIds;
+        final IntBuffer offsets;
+        final IntBuffer neighbors;
+        final IntBuffer photoOffsets;
+        final IntBuffer photoUsers;
+        final IntBuffer userOffsets;
+        final IntBuffer userPhotos;
+    }
+
+    // Member Variables
+    private final String path;
+    private Tables tables;
+}
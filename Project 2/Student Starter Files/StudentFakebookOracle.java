@@ -1,9 +1,13 @@
 package project2;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /*
     The StudentFakebookOracle class is derived from the FakebookOracle class and implements
@@ -15,6 +19,15 @@ public final class StudentFakebookOracle extends FakebookOracle {
     // REQUIRES: <connection> is a valid JDBC connection
     public StudentFakebookOracle(Connection connection) {
         oracle = connection;
+        statements = new FakebookStatementCache(connection);
+    }
+    
+    @Override
+    // [Statement Cache Accessor]
+    // EFFECTS:  returns the cache of prepared statements issued over this instance's
+    //   connection, whose hit and miss counters show how often a query was re-parsed
+    public FakebookStatementCache getStatementCache() {
+        return statements;
     }
     
     @Override
@@ -32,29 +45,37 @@ public final class StudentFakebookOracle extends FakebookOracle {
     // mechanisms for opening up a statement, executing a query, walking through results, extracting
     // data, and more things that you will need to do for the remaining nine queries
     public BirthMonthInfo findMonthOfBirthInfo() throws SQLException {
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String monthQuery =
+            "SELECT COUNT(*) AS Birthed, Month_of_Birth " +             // select birth months and number of uses with that birth month
+            "FROM " + UsersTable + " " +                                // from all users
+            "WHERE Month_of_Birth IS NOT NULL " +                       // for which a birth month is available
+            "GROUP BY Month_of_Birth " +                                // group into buckets by birth month
+            "ORDER BY Birthed DESC, Month_of_Birth ASC";                // sort by users born in that month, descending; break ties by birth month
+        String userQuery =
+            "SELECT User_ID, First_Name, Last_Name " +                  // select ID, first name, and last name
+            "FROM " + UsersTable + " " +                                // from all users
+            "WHERE Month_of_Birth = ? " +                               // born in the bound birth month
+            "ORDER BY User_ID";                                         // sort smaller IDs first
+        
+        try (FakebookStatementCache.Lease months = statements.lease("Query0Months", monthQuery);
+             FakebookStatementCache.Lease users = statements.lease("Query0Users", userQuery)) {
             // Step 1
             // ------------
             // * Find the total number of users with birth month info
             // * Find the month in which the most users were born
             // * Find the month in which the fewest (but at least 1) users were born
-            ResultSet rst = stmt.executeQuery(
-                "SELECT COUNT(*) AS Birthed, Month_of_Birth " +         // select birth months and number of uses with that birth month
-                "FROM " + UsersTable + " " +                            // from all users
-                "WHERE Month_of_Birth IS NOT NULL " +                   // for which a birth month is available
-                "GROUP BY Month_of_Birth " +                            // group into buckets by birth month
-                "ORDER BY Birthed DESC, Month_of_Birth ASC");           // sort by users born in that month, descending; break ties by birth month
+            ResultSet rst = months.statement().executeQuery();
             
             int mostMonth = 0;
             int leastMonth = 0;
             int total = 0;
+            boolean first = true;
             while (rst.next()) {                       // step through result rows/records one by one
-                if (rst.isFirst()) {                   // if first record
+                if (first) {                           // if first record
                     mostMonth = rst.getInt(2);         //   it is the month with the most
+                    first = false;
                 }
-                if (rst.isLast()) {                    // if last record
-                    leastMonth = rst.getInt(2);        //   it is the month with the least
-                }
+                leastMonth = rst.getInt(2);            // the last record read is the month with the least
                 total += rst.getInt(1);                // get the first field's value as an integer
             }
             BirthMonthInfo info = new BirthMonthInfo(total, mostMonth, leastMonth);
@@ -62,40 +83,36 @@ public final class StudentFakebookOracle extends FakebookOracle {
             // Step 2
             // ------------
             // * Get the names of users born in the most popular birth month
-            rst = stmt.executeQuery(
-                "SELECT User_ID, First_Name, Last_Name " +                // select ID, first name, and last name
-                "FROM " + UsersTable + " " +                              // from all users
-                "WHERE Month_of_Birth = " + mostMonth + " " +             // born in the most popular birth month
-                "ORDER BY User_ID");                                      // sort smaller IDs first
+            rst.close();
+            PreparedStatement stmt = users.statement();
+            stmt.setInt(1, mostMonth);                                    // bind the most popular birth month
+            rst = stmt.executeQuery();
                 
             while (rst.next()) {
-                info.addMostPopularBirthMonthUser(new UserInfo(rst.getLong(1), rst.getString(2), rst.getString(3)));
+                info.addMostPopularBirthMonthUser(rst.getLong(1), rst.getString(2), rst.getString(3));
             }
 
             // Step 3
             // ------------
             // * Get the names of users born in the least popular birth month
-            rst = stmt.executeQuery(
-                "SELECT User_ID, First_Name, Last_Name " +                // select ID, first name, and last name
-                "FROM " + UsersTable + " " +                              // from all users
-                "WHERE Month_of_Birth = " + leastMonth + " " +            // born in the least popular birth month
-                "ORDER BY User_ID");                                      // sort smaller IDs first
+            rst.close();
+            stmt.setInt(1, leastMonth);                                   // re-bind the same cursor to the least popular month
+            rst = stmt.executeQuery();
                 
             while (rst.next()) {
-                info.addLeastPopularBirthMonthUser(new UserInfo(rst.getLong(1), rst.getString(2), rst.getString(3)));
+                info.addLeastPopularBirthMonthUser(rst.getLong(1), rst.getString(2), rst.getString(3));
             }
 
             // Step 4
             // ------------
             // * Close resources being used
-            rst.close();
-            stmt.close();                            // if you close the statement first, the result set gets closed automatically
+            rst.close();                             // closing the leases returns both statements to the cache
 
             return info;
 
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
             return new BirthMonthInfo(-1, -1, -1);
         }
     }
@@ -107,8 +124,22 @@ public final class StudentFakebookOracle extends FakebookOracle {
     //        (B) The first name(s) with the fewest letters
     //        (C) The first name held by the most users
     //        (D) The number of users whose first name is that identified in (C)
+    //
+    // Users is grouped by first name once; MAX/MIN ... OVER () then compare every name's
+    // length and count with the extremes within the same statement.
     public FirstNameInfo findNameInfo() throws SQLException {
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String names = "SELECT First_Name, Name_Length, Name_Count, Longest, Shortest, Most_Common " +
+                       "FROM (SELECT First_Name, Name_Length, Name_Count, " +
+                       "MAX(Name_Length) OVER () AS Longest, " +
+                       "MIN(Name_Length) OVER () AS Shortest, " +
+                       "MAX(Name_Count) OVER () AS Most_Common " +
+                       "FROM (SELECT First_Name, LENGTH(First_Name) AS Name_Length, COUNT(User_ID) AS Name_Count " +
+                       "FROM " + UsersTable + " " +
+                       "GROUP BY First_Name) N) R " +
+                       "WHERE Name_Length = Longest OR Name_Length = Shortest OR Name_Count = Most_Common " +
+                       "ORDER BY First_Name ASC";
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query1", names)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -126,47 +157,29 @@ public final class StudentFakebookOracle extends FakebookOracle {
 
             FirstNameInfo info = new FirstNameInfo();
 
-            String maxQuery = "SELECT DISTINCT First_Name " +
-                              "FROM " + UsersTable + " " +
-                              "WHERE LENGTH(First_Name) = (SELECT MAX(LENGTH(U1.First_Name)) " +
-                              "FROM " + UsersTable + " U1) " +
-                              "ORDER BY First_Name ASC";
-            ResultSet max = stmt.executeQuery(maxQuery);
-            while (max.next()) {
-                info.addLongName(max.getString(1));
-            }
-            max.close();
-
-            String minQuery = "SELECT DISTINCT First_Name " +
-                              "FROM " + UsersTable + " " +
-                              "WHERE LENGTH(First_Name) = (SELECT MIN(LENGTH(U1.First_Name)) " +
-                              "FROM " + UsersTable + " U1) " +
-                              "ORDER BY First_Name ASC";
-            ResultSet min = stmt.executeQuery(minQuery);
-            while (min.next()) {
-                info.addShortName(min.getString(1));
-            }
-            min.close();
-
-            String commonQuery = "SELECT First_Name, COUNT(User_ID) " +
-                                 "FROM " + UsersTable + " " +
-                                 "GROUP BY First_Name " +
-                                 "HAVING COUNT(User_ID) = (SELECT MAX(COUNT(U1.User_ID)) " +
-                                 "FROM " + UsersTable + " U1 " +
-                                 "GROUP BY U1.First_Name) " +
-                                 "ORDER BY First_Name ASC";
-            ResultSet common = stmt.executeQuery(commonQuery);
-            while (common.next()) {
-                info.addCommonName(common.getString(1));
-                info.setCommonNameCount(common.getLong(2));
+            ResultSet name = lease.statement().executeQuery();
+            while (name.next()) {                      // one pass: each name is routed to every list it belongs to
+                String firstName = name.getString(1);
+                long length = name.getLong(2);
+                boolean known = !name.wasNull();       // a NULL first name has no length
+                long count = name.getLong(3);
+                if (known && length == name.getLong(4)) {
+                    info.addLongName(firstName);
+                }
+                if (known && length == name.getLong(5)) {
+                    info.addShortName(firstName);
+                }
+                if (count == name.getLong(6)) {
+                    info.addCommonName(firstName);
+                    info.setCommonNameCount(count);
+                }
             }
-            common.close();
+            name.close();
 
-            stmt.close();
             return info;                // placeholder for compilation
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
             return new FirstNameInfo();
         }
     }
@@ -178,10 +191,12 @@ public final class StudentFakebookOracle extends FakebookOracle {
     //
     // Be careful! Remember that if two users are friends, the Friends table only contains
     // the one entry (U1, U2) where U1 < U2.
-    public FakebookArrayList<UserInfo> lonelyUsers() throws SQLException {
-        FakebookArrayList<UserInfo> results = new FakebookArrayList<UserInfo>(", ");
+    public FakebookUserList lonelyUsers() throws SQLException {
+        FakebookUserList results = new FakebookUserList(", ");
+        
+        String lonely = lonelyQuery(false);
         
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        try (FakebookStatementCache.Lease lease = statements.lease("Query2", lonely)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -191,40 +206,17 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(u2);
             */
 
-            String lonely =  "CREATE VIEW Lonely AS " +
-                             "(SELECT U1.USER_ID " +
-                             "FROM " + UsersTable + " U1 " +
-                             "MINUS " + 
-                             "SELECT F1.USER1_ID " +
-                             "FROM " + FriendsTable + " F1) " +
-                             "INTERSECT " +
-                             "(SELECT U2.USER_ID " +
-                             "FROM " + UsersTable + " U2 " +
-                             "MINUS " +
-                             "SELECT F2.USER2_ID " +
-                             "FROM " + FriendsTable + " F2)";
-            stmt.executeQuery(lonely);
-
-            String lonelyID = "SELECT U.User_ID, U.First_Name, U.Last_Name " +
-                              "FROM " + UsersTable + " U, Lonely L " +
-                              "WHERE U.USER_ID = L.USER_ID " +
-                              "ORDER BY U.USER_ID ASC";
-            ResultSet id = stmt.executeQuery(lonelyID);
+            PreparedStatement stmt = lease.statement();
+            ResultSet id = stmt.executeQuery();
             while (id.next()) {
-                UserInfo u = new UserInfo(id.getLong(1), id.getString(2), id.getString(3));
-                results.add(u);
+                results.add(id.getLong(1), id.getString(2), id.getString(3));
             }
 
-
-            String dropLonely = "DROP VIEW Lonely";
-            stmt.executeQuery(dropLonely);
-
             id.close();
-            stmt.close();
 
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
         }
         
         return results;
@@ -235,10 +227,12 @@ public final class StudentFakebookOracle extends FakebookOracle {
     // -----------------------------------------------------------------------------------
     // GOALS: (A) Find the IDs, first names, and last names of users who no longer live
     //            in their hometown (i.e. their current city and their hometown are different)
-    public FakebookArrayList<UserInfo> liveAwayFromHome() throws SQLException {
-        FakebookArrayList<UserInfo> results = new FakebookArrayList<UserInfo>(", ");
+    public FakebookUserList liveAwayFromHome() throws SQLException {
+        FakebookUserList results = new FakebookUserList(", ");
         
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String liveAway = liveAwayQuery(false);
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query3", liveAway)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -247,27 +241,18 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(u1);
                 results.add(u2);
             */
-            String liveAway = "SELECT U.USER_ID, U.FIRST_NAME, U.LAST_NAME " +
-                              "FROM " + UsersTable + " U " +
-                              "WHERE U.USER_ID IN " +
-                              "(SELECT UC.USER_ID " +
-                              "FROM " + CurrentCitiesTable + " UC " +
-                              "JOIN " + HometownCitiesTable + " UH " +
-                              "ON UC.USER_ID = UH.USER_ID " +
-                              "WHERE UC.CURRENT_CITY_ID <> UH.HOMETOWN_CITY_ID) " +
-                              "ORDER BY U.USER_ID ASC";
-            ResultSet la = stmt.executeQuery(liveAway);
+
+            PreparedStatement stmt = lease.statement();
+            ResultSet la = stmt.executeQuery();
             while (la.next()) {
-                UserInfo u = new UserInfo(la.getLong(1), la.getString(2), la.getString(3));
-                results.add(u);
+                results.add(la.getLong(1), la.getString(2), la.getString(3));
             }
 
             la.close();
-            stmt.close();
 
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
         }
         
         return results;
@@ -282,8 +267,27 @@ public final class StudentFakebookOracle extends FakebookOracle {
     //            of the users therein tagged
     public FakebookArrayList<TaggedPhotoInfo> findPhotosWithMostTags(int num) throws SQLException {
         FakebookArrayList<TaggedPhotoInfo> results = new FakebookArrayList<TaggedPhotoInfo>("\n");
+        if (num <= 0) {
+            return results;
+        }
+        
+        String counts = "SELECT TAG_PHOTO_ID, COUNT(TAG_SUBJECT_ID) " +
+                        "FROM " + TagsTable + " " +
+                        "GROUP BY TAG_PHOTO_ID";
+        StringBuilder winners = new StringBuilder();
+        for (int idx = 0; idx < PhotoBatchSize; idx++) {
+            winners.append(idx == 0 ? "?" : ", ?");
+        }
+        String tagged = "SELECT T.TAG_PHOTO_ID, P.PHOTO_LINK, P.ALBUM_ID, A.ALBUM_NAME, U.USER_ID, U.FIRST_NAME, U.LAST_NAME " +
+                        "FROM " + TagsTable + " T " +
+                        "LEFT JOIN " + PhotosTable + " P ON T.TAG_PHOTO_ID = P.PHOTO_ID " +
+                        "LEFT JOIN " + AlbumsTable + " A ON P.ALBUM_ID = A.ALBUM_ID " +
+                        "LEFT JOIN " + UsersTable + " U ON T.TAG_SUBJECT_ID = U.USER_ID " +
+                        "WHERE T.TAG_PHOTO_ID IN (" + winners + ") " +
+                        "ORDER BY T.TAG_PHOTO_ID ASC, U.USER_ID ASC";
         
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        try (FakebookStatementCache.Lease countLease = statements.lease("Query4Counts", counts);
+             FakebookStatementCache.Lease taggedLease = statements.lease("Query4Tagged", tagged)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -298,48 +302,56 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(tp);
             */
 
-            String topTag = "CREATE VIEW Top_Tagged AS " +
-                            "SELECT TAG_PHOTO_ID, CT " +
-                            "FROM (SELECT TAG_PHOTO_ID, COUNT(TAG_SUBJECT_ID) AS CT " +
-                            "FROM " + TagsTable +
-                            " GROUP BY TAG_PHOTO_ID " +
-                            "ORDER BY COUNT(TAG_SUBJECT_ID) DESC, TAG_PHOTO_ID ASC) " +
-                            "WHERE ROWNUM <= " + num;
-            stmt.executeQuery(topTag);
-
-
-            String photo = "SELECT TT.TAG_PHOTO_ID, P.PHOTO_LINK, P.ALBUM_ID, A.ALBUM_NAME, U.USER_ID, U.FIRST_NAME, U.LAST_NAME, TT.CT " +
-                           "FROM Top_Tagged TT " +
-                           "LEFT JOIN " + TagsTable + " T ON T.TAG_PHOTO_ID = TT.TAG_PHOTO_ID " +
-                           "LEFT JOIN " + UsersTable + " U ON T.TAG_SUBJECT_ID = U.USER_ID " +
-                           "LEFT JOIN " + PhotosTable + " P ON T.TAG_PHOTO_ID = P.PHOTO_ID " +
-                           "LEFT JOIN " + AlbumsTable + " A ON P.ALBUM_ID = A.ALBUM_ID " +
-                           "ORDER BY TT.CT DESC, T.TAG_PHOTO_ID ASC, U.USER_ID ASC";
-            ResultSet ph = stmt.executeQuery(photo);
-
-
-            while (ph.next()) {
-                PhotoInfo p = new PhotoInfo(ph.getLong(1), ph.getLong(3), ph.getString(2), ph.getString(4));
-                TaggedPhotoInfo tp = new TaggedPhotoInfo(p);
-                UserInfo u = new UserInfo(ph.getLong(5), ph.getString(6), ph.getString(7));
-                tp.addTaggedUser(u);
-
-                for (int i = 0; i < ph.getInt(8) - 1; i ++) {
-                    ph.next();
-                    UserInfo u1 = new UserInfo(ph.getLong(5), ph.getString(6), ph.getString(7));
-                    tp.addTaggedUser(u1);
+            // Step 1
+            // ------------
+            // * Stream the tag count of every photo through a heap that keeps the best <num>
+            //   (most tags, then smallest photo ID); nothing is sorted
+            FakebookTopHeap top = new FakebookTopHeap(num);
+            ResultSet ct = countLease.statement().executeQuery();
+            while (ct.next()) {
+                top.offer(ct.getLong(2), ct.getLong(1));
+            }
+            ct.close();
+            long[] photoIDs = top.drain();
+            
+            // Step 2
+            // ------------
+            // * Fetch the photo, album and tagged users of the winners only, <PhotoBatchSize>
+            //   photos per statement (a short batch repeats its last ID), and group the rows
+            //   by photo ID
+            Map<Long, TaggedPhotoInfo> photos = new HashMap<Long, TaggedPhotoInfo>();
+            PreparedStatement stmt = taggedLease.statement();
+            for (int start = 0; start < photoIDs.length; start += PhotoBatchSize) {
+                for (int idx = 0; idx < PhotoBatchSize; idx++) {
+                    stmt.setLong(idx + 1, photoIDs[Math.min(start + idx, photoIDs.length - 1)]);
                 }
-                results.add(tp);
+                ResultSet ph = stmt.executeQuery();
+                while (ph.next()) {
+                    long photoID = ph.getLong(1);
+                    TaggedPhotoInfo tp = photos.get(photoID);
+                    if (tp == null) {
+                        tp = new TaggedPhotoInfo(new PhotoInfo(photoID, ph.getLong(3), ph.getString(2), ph.getString(4)));
+                        photos.put(photoID, tp);
+                    }
+                    long userID = ph.getLong(5);
+                    if (!ph.wasNull()) {                  // a tag whose user no longer exists lists nobody
+                        tp.addTaggedUser(new UserInfo(userID, ph.getString(6), ph.getString(7)));
+                    }
+                }
+                ph.close();
             }
             
-            String drop_topTag = "DROP VIEW Top_Tagged";
-            stmt.executeQuery(drop_topTag);
-
-            ph.close();
-            stmt.close();
+            // Step 3
+            // ------------
+            // * Return the winners in heap order; a winner whose tags were all deleted
+            //   since Step 1 has no rows, and is returned without photo details or users
+            for (long photoID : photoIDs) {
+                TaggedPhotoInfo tp = photos.get(photoID);
+                results.add((tp != null) ? tp : new TaggedPhotoInfo(new PhotoInfo(photoID, 0L, null, null)));
+            }
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
         }
         
         return results;
@@ -360,7 +372,34 @@ public final class StudentFakebookOracle extends FakebookOracle {
     public FakebookArrayList<MatchPair> matchMaker(int num, int yearDiff) throws SQLException {
         FakebookArrayList<MatchPair> results = new FakebookArrayList<MatchPair>("\n");
         
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String outdata = "WITH TAG_ID AS (" +
+                         "SELECT T1.TAG_SUBJECT_ID AS user_1, T2.TAG_SUBJECT_ID AS user_2, T1.TAG_PHOTO_ID " +
+                         "FROM " + TagsTable + " T1, " + TagsTable + " T2 " +
+                         "WHERE T1.TAG_PHOTO_ID = T2.TAG_PHOTO_ID AND T1.TAG_SUBJECT_ID < T2.TAG_SUBJECT_ID), " +
+                         "POT_FRI AS (" +
+                         "SELECT * " +
+                         "FROM " +
+                         "(SELECT U1.USER_ID AS user_1, U2.User_ID AS user_2, COUNT(*) AS CT " +
+                         "FROM " + UsersTable + " U1, " + UsersTable + " U2, TAG_ID T " +
+                         "WHERE U1.GENDER IS NOT NULL AND U2.GENDER IS NOT NULL AND U1.YEAR_OF_BIRTH IS NOT NULL AND U2.YEAR_OF_BIRTH IS NOT NULL AND " +
+                         "U1.GENDER = U2.GENDER AND ABS(U1.YEAR_OF_BIRTH - U2.YEAR_OF_BIRTH) <= ? AND " +
+                         "T.user_1 = U1.USER_ID AND T.user_2 = U2.USER_ID AND " +
+                         "NOT EXISTS (SELECT * " +
+                         "FROM " + FriendsTable + " F " +
+                         "WHERE U1.USER_ID = F.USER1_ID AND U2.USER_ID = F.USER2_ID) " +
+                         "GROUP BY U1.USER_ID, U2.USER_ID " +
+                         "ORDER BY COUNT(*) DESC, U1.USER_ID ASC, U2.USER_ID ASC) " +
+                         "WHERE ROWNUM <= ?) " +
+                         "SELECT PF.user_1, U1.FIRST_NAME, U1.LAST_NAME, U1.YEAR_OF_BIRTH, PF.user_2, U2.FIRST_NAME, U2.LAST_NAME, U2.YEAR_OF_BIRTH, P.PHOTO_ID, P.PHOTO_LINK, A.ALBUM_ID, A.ALBUM_NAME, PF.CT " +
+                         "FROM POT_FRI PF " +
+                         "LEFT JOIN TAG_ID T ON PF.user_1 = T.user_1 AND PF.user_2 = T.user_2 " +
+                         "LEFT JOIN " + UsersTable + " U1 on PF.user_1 = U1.USER_ID " +
+                         "LEFT JOIN " + UsersTable + " U2 on PF.user_2 = U2.USER_ID " +
+                         "LEFT JOIN " + PhotosTable + " P ON P.PHOTO_ID = T.TAG_PHOTO_ID " +
+                         "LEFT JOIN " + AlbumsTable + " A ON P.ALBUM_ID = A.ALBUM_ID " +
+                         "ORDER BY PF.CT DESC, PF.user_1 ASC, PF.user_2 ASC, P.PHOTO_ID ASC";
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query5", outdata)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -372,38 +411,10 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(mp);
             */
 
-
-            String tagid = "CREATE VIEW TAG_ID AS " +
-                           "SELECT T1.TAG_SUBJECT_ID AS user_1, T2.TAG_SUBJECT_ID AS user_2, T1.TAG_PHOTO_ID " +
-                           "FROM " + TagsTable + " T1, " + TagsTable + " T2 " +
-                           "WHERE T1.TAG_PHOTO_ID = T2.TAG_PHOTO_ID AND T1.TAG_SUBJECT_ID < T2.TAG_SUBJECT_ID";
-            stmt.executeQuery(tagid);
-
-            String potenfri = "CREATE VIEW POT_FRI AS " +
-                              "SELECT * " +
-                              "FROM " +
-                              "(SELECT U1.USER_ID AS user_1, U2.User_ID AS user_2, COUNT(*) AS CT " +
-                              "FROM " + UsersTable + " U1, " + UsersTable + " U2, TAG_ID T " +
-                              "WHERE U1.GENDER IS NOT NULL AND U2.GENDER IS NOT NULL AND U1.YEAR_OF_BIRTH IS NOT NULL AND U2.YEAR_OF_BIRTH IS NOT NULL AND " +
-                              "U1.GENDER = U2.GENDER AND ABS(U1.YEAR_OF_BIRTH - U2.YEAR_OF_BIRTH) <= " + yearDiff + " AND " +
-                              "T.user_1 = U1.USER_ID AND T.user_2 = U2.USER_ID AND " +
-                              "NOT EXISTS (SELECT * " +
-                              "FROM " + FriendsTable + " F " +
-                              "WHERE U1.USER_ID = F.USER1_ID AND U2.USER_ID = F.USER2_ID) " +
-                              "GROUP BY U1.USER_ID, U2.USER_ID " +
-                              "ORDER BY COUNT(*) DESC, U1.USER_ID ASC, U2.USER_ID ASC) " +
-                              "WHERE ROWNUM <= " + num;
-            stmt.executeQuery(potenfri);
-
-            String outdata = "SELECT PF.user_1, U1.FIRST_NAME, U1.LAST_NAME, U1.YEAR_OF_BIRTH, PF.user_2, U2.FIRST_NAME, U2.LAST_NAME, U2.YEAR_OF_BIRTH, P.PHOTO_ID, P.PHOTO_LINK, A.ALBUM_ID, A.ALBUM_NAME, PF.CT " +
-                             "FROM POT_FRI PF " +
-                             "LEFT JOIN TAG_ID T ON PF.user_1 = T.user_1 AND PF.user_2 = T.user_2 " +
-                             "LEFT JOIN " + UsersTable + " U1 on PF.user_1 = U1.USER_ID " +
-                             "LEFT JOIN " + UsersTable + " U2 on PF.user_2 = U2.USER_ID " +
-                             "LEFT JOIN " + PhotosTable + " P ON P.PHOTO_ID = T.TAG_PHOTO_ID " +
-                             "LEFT JOIN " + AlbumsTable + " A ON P.ALBUM_ID = A.ALBUM_ID " +
-                             "ORDER BY PF.CT DESC, PF.user_1 ASC, PF.user_2 ASC, P.PHOTO_ID ASC";
-            ResultSet data = stmt.executeQuery(outdata);
+            PreparedStatement stmt = lease.statement();
+            stmt.setInt(1, yearDiff);
+            stmt.setInt(2, num);
+            ResultSet data = stmt.executeQuery();
 
             while (data.next()) {
                 UserInfo u1 = new UserInfo(data.getLong(1), data.getString(2), data.getString(3));
@@ -420,18 +431,11 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(mp);
             }
 
-
-            String drop_1 = "DROP VIEW TAG_ID";
-            String drop_2 = "DROP VIEW POT_FRI";
-            stmt.executeQuery(drop_1);
-            stmt.executeQuery(drop_2);
-
             data.close();
-            stmt.close();
 
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
         }
         
         return results;
@@ -448,7 +452,35 @@ public final class StudentFakebookOracle extends FakebookOracle {
     public FakebookArrayList<UsersPair> suggestFriends(int num) throws SQLException {
         FakebookArrayList<UsersPair> results = new FakebookArrayList<UsersPair>("\n");
         
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String info = "WITH FR_ALL AS (" +
+                      "SELECT USER1_ID, USER2_ID " +
+                      "FROM " + FriendsTable + " F " +
+                      "UNION " +
+                      "SELECT USER2_ID AS USER1_ID, USER1_ID AS USER2_ID " +
+                      "FROM " + FriendsTable + " F), " +
+                      "MU_ALL AS (" +
+                      "SELECT F1.USER1_ID AS ID1, F2.USER2_ID AS ID2, F1.USER2_ID AS MID " +
+                      "FROM FR_ALL F1, FR_ALL F2 " +
+                      "WHERE F1.USER2_ID = F2.USER1_ID AND F1.USER1_ID < F2.USER2_ID), " +
+                      "SELECTION AS (" +
+                      "SELECT * " +
+                      "FROM " +
+                      "(SELECT M.ID1, M.ID2, COUNT(*) AS CT " +
+                      "FROM MU_ALL M " +
+                      "WHERE NOT EXISTS (SELECT * FROM " +
+                       FriendsTable + " F " +
+                      "WHERE M.ID1 = F.USER1_ID AND M.ID2 = F.USER2_ID) " +
+                      "GROUP BY M.ID1, M.ID2 " +
+                      "ORDER BY COUNT(*) DESC, M.ID1 ASC, M.ID2 ASC) " +
+                      "WHERE ROWNUM <= ?) " +
+                      "SELECT S.ID1, U1.FIRST_NAME, U1.LAST_NAME, S.ID2, U2.FIRST_NAME, U2.LAST_NAME, " +
+                      "M.MID, U3.FIRST_NAME, U3.LAST_NAME, S.CT " +
+                      "FROM SELECTION S, MU_ALL M, " + UsersTable + " U1, " + UsersTable + " U2, " + UsersTable + " U3 " +
+                      "WHERE S.ID1 = M.ID1 AND S.ID2 = M.ID2 AND " +
+                      "U1.USER_ID = S.ID1 AND U2.USER_ID = S.ID2 AND U3.USER_ID = M.MID " +
+                      "ORDER BY S.CT DESC, S.ID1 ASC, S.ID2 ASC, M.MID ASC";
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query6", info)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -459,40 +491,10 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 up.addSharedFriend(u3);
                 results.add(up);
             */
-            String fr_all = "CREATE VIEW FR_ALL AS " +
-                            "SELECT USER1_ID, USER2_ID " +
-                            "FROM " + FriendsTable + " F " +
-                            "UNION " +
-                            "SELECT USER2_ID AS USER1_ID, USER1_ID AS USER2_ID " +
-                            "FROM " + FriendsTable + " F";
-            stmt.executeQuery(fr_all);
-
-            String mu_all = "CREATE VIEW MU_ALL AS " +
-                            "SELECT F1.USER1_ID AS ID1, F2.USER2_ID AS ID2, F1.USER2_ID AS MID " +
-                            "FROM FR_ALL F1, FR_ALL F2 " +
-                            "WHERE F1.USER2_ID = F2.USER1_ID AND F1.USER1_ID < F2.USER2_ID";
-            stmt.executeQuery(mu_all);
-
-            String selection = "CREATE VIEW SELECTION AS " +
-                               "SELECT * " +
-                               "FROM " +
-                               "(SELECT M.ID1, M.ID2, COUNT(*) AS CT " +
-                               "FROM MU_ALL M " +
-                               "WHERE NOT EXISTS (SELECT * FROM " +
-                                FriendsTable + " F " +
-                               "WHERE M.ID1 = F.USER1_ID AND M.ID2 = F.USER2_ID) " +
-                               "GROUP BY M.ID1, M.ID2 " +
-                               "ORDER BY COUNT(*) DESC, M.ID1 ASC, M.ID2 ASC) " +
-                               "WHERE ROWNUM <= " + num;
-            stmt.executeQuery(selection);
-
-            String info = "SELECT S.ID1, U1.FIRST_NAME, U1.LAST_NAME, S.ID2, U2.FIRST_NAME, U2.LAST_NAME, " +
-                          "M.MID, U3.FIRST_NAME, U3.LAST_NAME, S.CT " +
-                          "FROM SELECTION S, MU_ALL M, " + UsersTable + " U1, " + UsersTable + " U2, " + UsersTable + " U3 " +
-                          "WHERE S.ID1 = M.ID1 AND S.ID2 = M.ID2 AND " +
-                          "U1.USER_ID = S.ID1 AND U2.USER_ID = S.ID2 AND U3.USER_ID = M.MID " +
-                          "ORDER BY S.CT DESC, S.ID1 ASC, S.ID2 ASC, M.MID ASC";
-            ResultSet inf = stmt.executeQuery(info);
+
+            PreparedStatement stmt = lease.statement();
+            stmt.setInt(1, num);
+            ResultSet inf = stmt.executeQuery();
 
             while (inf.next()) {
                 UserInfo u1 = new UserInfo(inf.getLong(1), inf.getString(2), inf.getString(3));
@@ -509,20 +511,10 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(up);
             }
 
-            String drop_1 = "DROP VIEW FR_ALL";
-            String drop_2 = "DROP VIEW MU_ALL";
-            String drop_3 = "DROP VIEW SELECTION";
-            stmt.executeQuery(drop_1);
-            stmt.executeQuery(drop_2);
-            stmt.executeQuery(drop_3);
-
             inf.close();
-            stmt.close();
-
-
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
         }
         
         return results;
@@ -534,7 +526,17 @@ public final class StudentFakebookOracle extends FakebookOracle {
     // GOALS: (A) Find the name of the state or states in which the most events are held
     //        (B) Find the number of events held in the states identified in (A)
     public EventStateInfo findEventStates() throws SQLException {
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String state = "SELECT State_Name, Num_Events " +
+                       "FROM (SELECT C.STATE_NAME AS State_Name, COUNT(E.EVENT_ID) AS Num_Events, " +
+                       "MAX(COUNT(E.EVENT_ID)) OVER () AS Most_Events " +
+                       "FROM " + EventsTable + " E " +
+                       "LEFT JOIN " + CitiesTable + " C " +
+                       "ON E.EVENT_CITY_ID = C.CITY_ID " +
+                       "GROUP BY C.STATE_NAME) S " +
+                       "WHERE Num_Events = Most_Events " +
+                       "ORDER BY State_Name ASC";
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query7", state)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -545,18 +547,12 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 return info;
             */
 
-            String state = "SELECT C.STATE_NAME, COUNT(E.EVENT_ID) " +
-                           "FROM " + EventsTable + " E " +
-                           "LEFT JOIN " + CitiesTable + " C " +
-                           "ON E.EVENT_CITY_ID = C.CITY_ID " +
-                           "GROUP BY C.STATE_NAME " +
-                           "HAVING COUNT(E.EVENT_ID) = (SELECT MAX(COUNT(E1.EVENT_ID)) FROM " + EventsTable + " E1 " +
-                           "LEFT JOIN " + CitiesTable + " C1 " +
-                           "ON E1.EVENT_CITY_ID = C1.CITY_ID " +
-                           "GROUP BY C1.STATE_NAME) " +
-                           "ORDER BY C.STATE_NAME ASC";
-            ResultSet st = stmt.executeQuery(state);
-            st.next();
+            PreparedStatement stmt = lease.statement();
+            ResultSet st = stmt.executeQuery();
+            if (!st.next()) {
+                st.close();
+                return new EventStateInfo(0);       // no events, so no states
+            }
             EventStateInfo info = new EventStateInfo(st.getLong(2));
             info.addState(st.getString(1));
             while (st.next()) {
@@ -564,12 +560,11 @@ public final class StudentFakebookOracle extends FakebookOracle {
             }
 
             st.close();
-            stmt.close();
 
             return info;                // placeholder for compilation
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
             return new EventStateInfo(-1);
         }
     }
@@ -582,7 +577,28 @@ public final class StudentFakebookOracle extends FakebookOracle {
     //        (B) Find the ID, first name, and last name of the youngest friend of the user
     //            with User ID <userID>
     public AgeInfo findAgeInfo(long userID) throws SQLException {
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String friends = "SELECT F.USER2_ID AS Friend_ID " +
+                         "FROM " + FriendsTable + " F " +
+                         "WHERE F.USER1_ID = ? " +
+                         "UNION ALL " +
+                         "SELECT F.USER1_ID " +
+                         "FROM " + FriendsTable + " F " +
+                         "WHERE F.USER2_ID = ?";
+        String youngest = "OVER (ORDER BY U.YEAR_OF_BIRTH DESC, U.MONTH_OF_BIRTH DESC, U.DAY_OF_BIRTH DESC, U.USER_ID DESC)";
+        String ages = "SELECT USER_ID, FIRST_NAME, LAST_NAME, Youngest_ID, Youngest_First, Youngest_Last " +
+                      "FROM (SELECT U.USER_ID, U.FIRST_NAME, U.LAST_NAME, " +
+                      "ROW_NUMBER() OVER (ORDER BY U.YEAR_OF_BIRTH ASC, U.MONTH_OF_BIRTH ASC, U.DAY_OF_BIRTH ASC, U.USER_ID DESC) AS Oldest_Rank, " +
+                      "FIRST_VALUE(U.USER_ID) " + youngest + " AS Youngest_ID, " +
+                      "FIRST_VALUE(U.FIRST_NAME) " + youngest + " AS Youngest_First, " +
+                      "FIRST_VALUE(U.LAST_NAME) " + youngest + " AS Youngest_Last " +
+                      "FROM (" + friends + ") P, " + UsersTable + " U " +
+                      "WHERE U.USER_ID = P.Friend_ID " +
+                      "AND U.YEAR_OF_BIRTH IS NOT NULL " +
+                      "AND U.MONTH_OF_BIRTH IS NOT NULL " +
+                      "AND U.DAY_OF_BIRTH IS NOT NULL) R " +
+                      "WHERE Oldest_Rank = 1";
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query8", ages)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -591,61 +607,115 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 return new AgeInfo(old, young);
             */
 
-            String list = "CREATE VIEW Friend_List AS " +
-                         "SELECT F.USER2_ID AS USER_ID " +
-                         "FROM " + FriendsTable + " F " +
-                         "WHERE F.USER1_ID = " + userID +
-                         " UNION " +
-                         "SELECT F.USER1_ID AS USER_ID " +
-                         "FROM "+ FriendsTable + " F " +
-                         "WHERE F.USER2_ID = " + userID +
-                         " MINUS " +
-                         "SELECT U.USER_ID " +
-                         "FROM " + UsersTable + " U " +
-                         "WHERE U.YEAR_OF_BIRTH IS NULL " +
-                         "OR U.MONTH_OF_BIRTH IS NULL " +
-                         "OR U.DAY_OF_BIRTH IS NULL";
-            stmt.executeQuery(list);
-
-            String young = "SELECT USER_ID, FIRST_NAME, LAST_NAME " +
-                           "FROM " + UsersTable +
-                           " WHERE USER_ID = " +
-                           "(SELECT * FROM (SELECT FL.USER_ID " +
-                           "FROM Friend_List FL, " + UsersTable + " U " +
-                           "WHERE FL.USER_ID = U.USER_ID " +
-                           "ORDER BY U.YEAR_OF_BIRTH DESC, U.MONTH_OF_BIRTH DESC, U.DAY_OF_BIRTH DESC, FL.USER_ID DESC) " +
-                           "WHERE ROWNUM = 1)";
-            ResultSet young_user = stmt.executeQuery(young);
-            young_user.next();
-            UserInfo youngsb = new UserInfo(young_user.getLong(1), young_user.getString(2), young_user.getString(3));
-            young_user.close();
-
-            String old = "SELECT USER_ID, FIRST_NAME, LAST_NAME " +
-                         "FROM " + UsersTable +
-                         " WHERE USER_ID = " +
-                         "(SELECT * FROM (SELECT FL.USER_ID " +
-                         "FROM Friend_List FL, " + UsersTable + " U " +
-                         "WHERE FL.USER_ID = U.USER_ID " +
-                         "ORDER BY U.YEAR_OF_BIRTH ASC, U.MONTH_OF_BIRTH ASC, U.DAY_OF_BIRTH ASC, FL.USER_ID DESC) " +
-                         "WHERE ROWNUM = 1)";
-            ResultSet old_user = stmt.executeQuery(old);
-            old_user.next();
-            UserInfo oldsb = new UserInfo(old_user.getLong(1), old_user.getString(2), old_user.getString(3));
-
-            String dropview = "DROP VIEW Friend_List";
-            stmt.executeQuery(dropview);
-
-            old_user.close();
-            stmt.close();
+            PreparedStatement stmt = lease.statement();
+            stmt.setLong(1, userID);                           // both halves of the friend list
+            stmt.setLong(2, userID);
+            ResultSet age = stmt.executeQuery();
+            if (!age.next()) {                                 // no friends with a full birth date
+                age.close();
+                return new AgeInfo(new UserInfo(-1, "ERROR", "ERROR"), new UserInfo(-1, "ERROR", "ERROR"));
+            }
+            UserInfo oldsb = new UserInfo(age.getLong(1), age.getString(2), age.getString(3));
+            UserInfo youngsb = new UserInfo(age.getLong(4), age.getString(5), age.getString(6));
+
+            age.close();
 
             return new AgeInfo(oldsb, youngsb);                // placeholder for compilation
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
             return new AgeInfo(new UserInfo(-1, "ERROR", "ERROR"), new UserInfo(-1, "ERROR", "ERROR"));
         }
     }
     
+    @Override
+    // Query 8 (batch)
+    // -----------------------------------------------------------------------------------
+    // Answers Query 8 for up to <AgeBatchSize> users per statement. Every friendship is
+    // turned into (subject, friend) rows for the bound subjects, and two ROW_NUMBER()
+    // windows partitioned by subject rank each subject's friends from oldest and from
+    // youngest with the same tie-breaks as findAgeInfo(long). Only the rows ranked first
+    // either way come back. A batch that is not full repeats its last ID, so one
+    // prepared statement serves every batch. The pairs are an inline view rather than a
+    // WITH clause because H2 loses the bound IDs of a WITH clause under a window function.
+    public Map<Long, AgeInfo> findAgeInfo(long[] userIDs) throws SQLException {
+        StringBuilder subjects = new StringBuilder();
+        for (int idx = 0; idx < AgeBatchSize; idx++) {
+            subjects.append(idx == 0 ? "?" : ", ?");
+        }
+        String pairs = "SELECT F.USER1_ID AS Subject_ID, F.USER2_ID AS Friend_ID " +
+                       "FROM " + FriendsTable + " F " +
+                       "WHERE F.USER1_ID IN (" + subjects + ") " +
+                       "UNION ALL " +
+                       "SELECT F.USER2_ID, F.USER1_ID " +
+                       "FROM " + FriendsTable + " F " +
+                       "WHERE F.USER2_ID IN (" + subjects + ")";
+        String ages = "SELECT Subject_ID, USER_ID, FIRST_NAME, LAST_NAME, Oldest_Rank, Youngest_Rank " +
+                      "FROM (SELECT P.Subject_ID, U.USER_ID, U.FIRST_NAME, U.LAST_NAME, " +
+                      "ROW_NUMBER() OVER (PARTITION BY P.Subject_ID " +
+                      "ORDER BY U.YEAR_OF_BIRTH ASC, U.MONTH_OF_BIRTH ASC, U.DAY_OF_BIRTH ASC, U.USER_ID DESC) AS Oldest_Rank, " +
+                      "ROW_NUMBER() OVER (PARTITION BY P.Subject_ID " +
+                      "ORDER BY U.YEAR_OF_BIRTH DESC, U.MONTH_OF_BIRTH DESC, U.DAY_OF_BIRTH DESC, U.USER_ID DESC) AS Youngest_Rank " +
+                      "FROM (" + pairs + ") P, " + UsersTable + " U " +
+                      "WHERE U.USER_ID = P.Friend_ID " +
+                      "AND U.YEAR_OF_BIRTH IS NOT NULL " +
+                      "AND U.MONTH_OF_BIRTH IS NOT NULL " +
+                      "AND U.DAY_OF_BIRTH IS NOT NULL) R " +
+                      "WHERE Oldest_Rank = 1 OR Youngest_Rank = 1";
+        
+        Map<Long, UserInfo[]> found = new LinkedHashMap<Long, UserInfo[]>();
+        for (long userID : userIDs) {
+            found.put(userID, new UserInfo[2]);                 // [oldest, youngest]
+        }
+        long[] distinct = new long[found.size()];
+        int count = 0;
+        for (long userID : found.keySet()) {
+            distinct[count++] = userID;
+        }
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query8Batch", ages)) {
+            PreparedStatement stmt = lease.statement();
+            for (int start = 0; start < count; start += AgeBatchSize) {
+                for (int idx = 0; idx < AgeBatchSize; idx++) {
+                    long userID = distinct[Math.min(start + idx, count - 1)];
+                    stmt.setLong(idx + 1, userID);
+                    stmt.setLong(AgeBatchSize + idx + 1, userID);
+                }
+                ResultSet age = stmt.executeQuery();
+                while (age.next()) {
+                    UserInfo[] pair = found.get(age.getLong(1));
+                    UserInfo friend = new UserInfo(age.getLong(2), age.getString(3), age.getString(4));
+                    if (age.getLong(5) == 1) {
+                        pair[0] = friend;
+                    }
+                    if (age.getLong(6) == 1) {
+                        pair[1] = friend;
+                    }
+                }
+                age.close();
+            }
+        }
+        catch (SQLException e) {
+            reportError(e);
+            found.clear();                                      // every user reports the error below
+            for (long userID : userIDs) {
+                found.put(userID, new UserInfo[2]);
+            }
+        }
+        
+        Map<Long, AgeInfo> results = new LinkedHashMap<Long, AgeInfo>();
+        for (Map.Entry<Long, UserInfo[]> entry : found.entrySet()) {
+            UserInfo[] pair = entry.getValue();
+            if (pair[0] == null) {
+                results.put(entry.getKey(), new AgeInfo(new UserInfo(-1, "ERROR", "ERROR"), new UserInfo(-1, "ERROR", "ERROR")));
+            }
+            else {
+                results.put(entry.getKey(), new AgeInfo(pair[0], pair[1]));
+            }
+        }
+        return results;
+    }
+    
     @Override
     // Query 9
     // -----------------------------------------------------------------------------------
@@ -657,7 +727,9 @@ public final class StudentFakebookOracle extends FakebookOracle {
     public FakebookArrayList<SiblingInfo> findPotentialSiblings() throws SQLException {
         FakebookArrayList<SiblingInfo> results = new FakebookArrayList<SiblingInfo>("\n");
         
-        try (Statement stmt = oracle.createStatement(FakebookOracleConstants.AllScroll, FakebookOracleConstants.ReadOnly)) {
+        String sibling = siblingQuery(false);
+        
+        try (FakebookStatementCache.Lease lease = statements.lease("Query9", sibling)) {
             /*
                 EXAMPLE DATA STRUCTURE USAGE
                 ============================================
@@ -667,17 +739,8 @@ public final class StudentFakebookOracle extends FakebookOracle {
                 results.add(si);
             */
 
-            String sibling = "SELECT F.USER1_ID, F.USER2_ID, U1.First_Name, U1.Last_Name, U2.First_Name, U2.Last_Name " +
-                             "FROM " + UsersTable + " U1, " + UsersTable + " U2, " + FriendsTable  + " F, " + 
-                             HometownCitiesTable + " H1, " + HometownCitiesTable + " H2 " +
-                             "WHERE U1.YEAR_OF_BIRTH IS NOT NULL AND U2.YEAR_OF_BIRTH IS NOT NULL AND " +
-                             "U1.USER_ID = H1.USER_ID AND U2.USER_ID = H2.USER_ID " +
-                             "AND H1.HOMETOWN_CITY_ID = H2.HOMETOWN_CITY_ID " +
-                             "AND U1.USER_ID = F.USER1_ID AND U2.USER_ID = F.USER2_ID " +
-                             "AND U1.LAST_NAME = U2.LAST_NAME " +
-                             "AND ABS(U1.YEAR_OF_BIRTH - U2.YEAR_OF_BIRTH) < 10 " +
-                             "ORDER BY F.USER1_ID ASC, F.USER2_ID ASC";
-            ResultSet sib = stmt.executeQuery(sibling);
+            PreparedStatement stmt = lease.statement();
+            ResultSet sib = stmt.executeQuery();
             while (sib.next()) {
                 UserInfo u1 = new UserInfo(sib.getLong(1), sib.getString(3), sib.getString(4));
                 UserInfo u2 = new UserInfo(sib.getLong(2), sib.getString(5), sib.getString(6));
@@ -686,17 +749,215 @@ public final class StudentFakebookOracle extends FakebookOracle {
             }
 
             sib.close();
-            stmt.close();
         }
         catch (SQLException e) {
-            System.err.println(e.getMessage());
+            reportError(e);
         }
         
         return results;
     }
     
+    @Override
+    // Query 0 (streaming)
+    // -----------------------------------------------------------------------------------
+    // Same statements as findMonthOfBirthInfo(), but each user is handed to <sink> as it is
+    // read. The number of users born in each month is already known from the first
+    // statement, so nothing has to be buffered.
+    public void findMonthOfBirthInfo(BirthMonthSink sink) throws SQLException, IOException {
+        String monthQuery =
+            "SELECT COUNT(*) AS Birthed, Month_of_Birth " +
+            "FROM " + UsersTable + " " +
+            "WHERE Month_of_Birth IS NOT NULL " +
+            "GROUP BY Month_of_Birth " +
+            "ORDER BY Birthed DESC, Month_of_Birth ASC";
+        String userQuery =
+            "SELECT User_ID, First_Name, Last_Name " +
+            "FROM " + UsersTable + " " +
+            "WHERE Month_of_Birth = ? " +
+            "ORDER BY User_ID";
+        
+        try (FakebookStatementCache.Lease months = statements.lease("Query0Months", monthQuery);
+             FakebookStatementCache.Lease users = statements.lease("Query0Users", userQuery)) {
+            ResultSet rst = months.statement().executeQuery();
+            
+            int mostMonth = 0;
+            int leastMonth = 0;
+            long mostUsers = 0;
+            long leastUsers = 0;
+            long total = 0;
+            boolean first = true;
+            while (rst.next()) {
+                if (first) {
+                    mostMonth = rst.getInt(2);
+                    mostUsers = rst.getLong(1);
+                    first = false;
+                }
+                leastMonth = rst.getInt(2);
+                leastUsers = rst.getLong(1);
+                total += rst.getLong(1);
+            }
+            rst.close();
+            sink.months(total, mostMonth, leastMonth);
+            
+            PreparedStatement stmt = users.statement();
+            stmt.setInt(1, mostMonth);
+            sink.begin(mostUsers);
+            rst = stmt.executeQuery();
+            while (rst.next()) {
+                sink.row(new UserInfo(rst.getLong(1), rst.getString(2), rst.getString(3)));
+            }
+            rst.close();
+            
+            stmt.setInt(1, leastMonth);
+            sink.begin(leastUsers);
+            rst = stmt.executeQuery();
+            while (rst.next()) {
+                sink.row(new UserInfo(rst.getLong(1), rst.getString(2), rst.getString(3)));
+            }
+            rst.close();
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+    }
+    
+    @Override
+    // Query 2 (streaming)
+    // -----------------------------------------------------------------------------------
+    // The count comes from its own SELECT COUNT(*) over the same joins, so that <sink>
+    // learns it before the first user; the users then come from the query of
+    // lonelyUsers() as the database returns them. The two statements read the tables
+    // separately, so a change committed between them can make the count differ from
+    // the users that follow.
+    public void lonelyUsers(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        try (FakebookStatementCache.Lease count = statements.lease("Query2Count", lonelyQuery(true));
+             FakebookStatementCache.Lease users = statements.lease("Query2", lonelyQuery(false))) {
+            sink.begin(count(count.statement()));
+            streamUsers(users.statement().executeQuery(), sink);
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+    }
+    
+    @Override
+    // Query 3 (streaming)
+    // -----------------------------------------------------------------------------------
+    // As Query 2: the count from its own SELECT COUNT(*), then the users of
+    // liveAwayFromHome() as they are returned
+    public void liveAwayFromHome(FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        try (FakebookStatementCache.Lease count = statements.lease("Query3Count", liveAwayQuery(true));
+             FakebookStatementCache.Lease users = statements.lease("Query3", liveAwayQuery(false))) {
+            sink.begin(count(count.statement()));
+            streamUsers(users.statement().executeQuery(), sink);
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+    }
+    
+    @Override
+    // Query 9 (streaming)
+    // -----------------------------------------------------------------------------------
+    // As Query 2: the count from its own SELECT COUNT(*), then the pairs of
+    // findPotentialSiblings() as they are returned
+    public void findPotentialSiblings(FakebookRowSink<SiblingInfo> sink) throws SQLException, IOException {
+        try (FakebookStatementCache.Lease count = statements.lease("Query9Count", siblingQuery(true));
+             FakebookStatementCache.Lease pairs = statements.lease("Query9", siblingQuery(false))) {
+            sink.begin(count(count.statement()));
+            ResultSet sib = pairs.statement().executeQuery();
+            while (sib.next()) {
+                UserInfo u1 = new UserInfo(sib.getLong(1), sib.getString(3), sib.getString(4));
+                UserInfo u2 = new UserInfo(sib.getLong(2), sib.getString(5), sib.getString(6));
+                sink.row(new SiblingInfo(u1, u2));
+            }
+            sib.close();
+        }
+        catch (SQLException e) {
+            reportError(e);
+        }
+    }
+    
+    // [Count Function]
+    // REQUIRES: <stmt> selects a single row with a single number
+    // EFFECTS:  executes <stmt> and returns the number
+    private static long count(PreparedStatement stmt) throws SQLException {
+        ResultSet rst = stmt.executeQuery();
+        rst.next();
+        long count = rst.getLong(1);
+        rst.close();
+        return count;
+    }
+    
+    // [Stream Users Function]
+    // REQUIRES: the rows of <rst> are (User_ID, First_Name, Last_Name)
+    // EFFECTS:  hands every user in <rst> to <sink>, then closes <rst>
+    private static void streamUsers(ResultSet rst, FakebookRowSink<UserInfo> sink) throws SQLException, IOException {
+        while (rst.next()) {
+            sink.row(new UserInfo(rst.getLong(1), rst.getString(2), rst.getString(3)));
+        }
+        rst.close();
+    }
+    
+    // [Query 2 SQL Function]
+    // EFFECTS:  returns the SQL of Query 2, or, if <count>, of the number of its rows
+    private String lonelyQuery(boolean count) {
+        return "WITH Lonely AS (" +
+               "(SELECT U1.USER_ID " +
+               "FROM " + UsersTable + " U1 " +
+               "MINUS " +
+               "SELECT F1.USER1_ID " +
+               "FROM " + FriendsTable + " F1) " +
+               "INTERSECT " +
+               "(SELECT U2.USER_ID " +
+               "FROM " + UsersTable + " U2 " +
+               "MINUS " +
+               "SELECT F2.USER2_ID " +
+               "FROM " + FriendsTable + " F2)) " +
+               "SELECT " + (count ? "COUNT(*) " : "U.User_ID, U.First_Name, U.Last_Name ") +
+               "FROM " + UsersTable + " U, Lonely L " +
+               "WHERE U.USER_ID = L.USER_ID" +
+               (count ? "" : " ORDER BY U.USER_ID ASC");
+    }
+    
+    // [Query 3 SQL Function]
+    // EFFECTS:  returns the SQL of Query 3, or, if <count>, of the number of its rows
+    private String liveAwayQuery(boolean count) {
+        return "SELECT " + (count ? "COUNT(*) " : "U.USER_ID, U.FIRST_NAME, U.LAST_NAME ") +
+               "FROM " + UsersTable + " U " +
+               "WHERE U.USER_ID IN " +
+               "(SELECT UC.USER_ID " +
+               "FROM " + CurrentCitiesTable + " UC " +
+               "JOIN " + HometownCitiesTable + " UH " +
+               "ON UC.USER_ID = UH.USER_ID " +
+               "WHERE UC.CURRENT_CITY_ID <> UH.HOMETOWN_CITY_ID)" +
+               (count ? "" : " ORDER BY U.USER_ID ASC");
+    }
+    
+    // [Query 9 SQL Function]
+    // EFFECTS:  returns the SQL of Query 9, or, if <count>, of the number of its rows
+    private String siblingQuery(boolean count) {
+        return "SELECT " + (count ? "COUNT(*) " : "F.USER1_ID, F.USER2_ID, U1.First_Name, U1.Last_Name, U2.First_Name, U2.Last_Name ") +
+               "FROM " + UsersTable + " U1, " + UsersTable + " U2, " + FriendsTable  + " F, " + 
+               HometownCitiesTable + " H1, " + HometownCitiesTable + " H2 " +
+               "WHERE U1.YEAR_OF_BIRTH IS NOT NULL AND U2.YEAR_OF_BIRTH IS NOT NULL AND " +
+               "U1.USER_ID = H1.USER_ID AND U2.USER_ID = H2.USER_ID " +
+               "AND H1.HOMETOWN_CITY_ID = H2.HOMETOWN_CITY_ID " +
+               "AND U1.USER_ID = F.USER1_ID AND U2.USER_ID = F.USER2_ID " +
+               "AND U1.LAST_NAME = U2.LAST_NAME " +
+               "AND ABS(U1.YEAR_OF_BIRTH - U2.YEAR_OF_BIRTH) < 10" +
+               (count ? "" : " ORDER BY F.USER1_ID ASC, F.USER2_ID ASC");
+    }
+    
+    // Users answered by one statement of findAgeInfo(long[])
+    private static final int AgeBatchSize = 100;
+    
+    // Photos whose tagged users are fetched by one statement of findPhotosWithMostTags
+    private static final int PhotoBatchSize = 20;
+    
     // Member Variables
     private Connection oracle;
+    private FakebookStatementCache statements;
     private final String UsersTable = FakebookOracleConstants.UsersTable;
     private final String CitiesTable = FakebookOracleConstants.CitiesTable;
     private final String FriendsTable = FakebookOracleConstants.FriendsTable;